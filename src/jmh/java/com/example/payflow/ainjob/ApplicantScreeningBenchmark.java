@@ -0,0 +1,163 @@
+package com.example.payflow.ainjob;
+
+import com.example.payflow.ainjob.application.ApplicantScreeningSnapshot;
+import com.example.payflow.ainjob.application.QualificationScreeningPlan;
+import com.example.payflow.ainjob.application.dto.QualifiedApplicantResponse;
+import com.example.payflow.ainjob.domain.*;
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * 공고 지원자 일괄 심사 벤치마크 (1 op = 지원자 전체 심사)
+ * - legacy: 기존 방식 - 지원자 엔티티마다 허용 전공 JSON 파싱, 스킬 Set 생성 후 평가
+ * - compiled: 심사 계획 한 번 생성 + 컬럼 행으로 스냅샷 생성 + 병렬 평가
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class ApplicantScreeningBenchmark {
+
+    private static final String[] SKILLS = {"Java", "Spring", "JPA", "Kotlin", "React", "AWS", "Docker", "SQL",
+            "Python", "Kafka", "Redis", "Go"};
+    private static final String[] MAJORS = {"컴퓨터공학", "전자공학", "경영학", "수학", "통계학"};
+
+    @Param({"100000"})
+    private int applicantCount;
+
+    private final Gson gson = new Gson();
+    private final LocalDate today = LocalDate.now();
+    private AinjobJobPosting jobPosting;
+    private List<Applicant> applicants;
+    private List<Object[]> applicantRows;
+    private List<Object[]> educationRows;
+    private List<Object[]> careerRows;
+    private List<Object[]> careerSkillRows;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(42);
+        List<AinjobSkill> skills = Arrays.stream(SKILLS)
+                .map(name -> AinjobSkill.create(name, "개발", null))
+                .collect(Collectors.toList());
+        List<Major> majors = Arrays.stream(MAJORS)
+                .map(name -> Major.create(name, "공학"))
+                .collect(Collectors.toList());
+
+        jobPosting = AinjobJobPosting.create(1L, "백엔드 개발자", null, "개발",
+                new Qualification(EducationLevel.values()[EducationLevel.values().length / 2],
+                        "[\"컴퓨터공학\",\"전자공학\"]", 3), null, null);
+        jobPosting.addRequiredSkill(JobPostingSkill.create(skills.get(0), true, null));
+        jobPosting.addRequiredSkill(JobPostingSkill.create(skills.get(1), true, null));
+        jobPosting.addRequiredSkill(JobPostingSkill.create(skills.get(7), false, null));
+
+        applicants = new ArrayList<>(applicantCount);
+        applicantRows = new ArrayList<>(applicantCount);
+        educationRows = new ArrayList<>();
+        careerRows = new ArrayList<>();
+        careerSkillRows = new ArrayList<>();
+        for (long id = 1; id <= applicantCount; id++) {
+            Applicant applicant = Applicant.create("지원자" + id, "a" + id + "@test.com", null, null, null);
+            applicantRows.add(new Object[]{id, applicant.getName(), applicant.getEmail()});
+            for (int k = random.nextInt(3); k > 0; k--) {
+                EducationLevel level = EducationLevel.values()[random.nextInt(EducationLevel.values().length)];
+                Major major = majors.get(random.nextInt(majors.size()));
+                applicant.addEducation(Education.create(level, major, "학교", null, null, "GRADUATED"));
+                educationRows.add(new Object[]{id, level, major.getName()});
+            }
+            for (int k = 1 + random.nextInt(3); k > 0; k--) {
+                LocalDate start = today.minusDays(100 + random.nextInt(3000));
+                LocalDate end = random.nextBoolean() ? null : start.plusDays(random.nextInt(1000));
+                Career career = Career.create("회사", "개발", null, start, end);
+                careerRows.add(new Object[]{id, start, end});
+                for (int s = 1 + random.nextInt(4); s > 0; s--) {
+                    AinjobSkill skill = skills.get(random.nextInt(skills.size()));
+                    career.addSkill(CareerSkill.create(skill, 3));
+                    careerSkillRows.add(new Object[]{id, skill.getName()});
+                }
+                applicant.addCareer(career);
+            }
+            applicants.add(applicant);
+        }
+    }
+
+    @Benchmark
+    public List<QualifiedApplicantResponse> compiled() {
+        QualificationScreeningPlan plan = QualificationScreeningPlan.compile(jobPosting, gson);
+        ApplicantScreeningSnapshot snapshot = ApplicantScreeningSnapshot.of(plan, applicantRows,
+                educationRows, careerRows, careerSkillRows, today);
+        return IntStream.range(0, snapshot.size())
+                .parallel()
+                .mapToObj(index -> plan.evaluate(snapshot, index))
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public List<QualifiedApplicantResponse> legacy() {
+        return applicants.stream()
+                .map(this::legacyEvaluate)
+                .collect(Collectors.toList());
+    }
+
+    private QualifiedApplicantResponse legacyEvaluate(Applicant applicant) {
+        Qualification qualification = jobPosting.getQualification();
+
+        EducationLevel highest = applicant.getEducations().stream()
+                .map(Education::getLevel)
+                .max(Comparator.comparing(EducationLevel::ordinal))
+                .orElse(null);
+        boolean educationMatched = highest != null
+                && highest.ordinal() >= qualification.getMinEducationLevel().ordinal();
+
+        String majorName = highest == null ? null : applicant.getEducations().stream()
+                .filter(e -> e.getLevel() == highest)
+                .findFirst()
+                .map(e -> e.getMajor() != null ? e.getMajor().getName() : null)
+                .orElse(null);
+        List<String> acceptedMajors = gson.fromJson(qualification.getAcceptedMajors(),
+                new TypeToken<List<String>>(){}.getType());
+        boolean majorMatched = majorName != null && acceptedMajors.contains(majorName);
+
+        Set<String> applicantSkills = applicant.getCareers().stream()
+                .flatMap(career -> career.getSkills().stream())
+                .map(cs -> cs.getSkill().getName().toLowerCase().trim())
+                .collect(Collectors.toSet());
+        Set<String> requiredSkills = jobPosting.getRequiredSkills().stream()
+                .filter(JobPostingSkill::getIsRequired)
+                .map(jps -> jps.getSkill().getName().toLowerCase().trim())
+                .collect(Collectors.toSet());
+        boolean skillsMatched = applicantSkills.containsAll(requiredSkills);
+        List<String> skillNames = applicant.getCareers().stream()
+                .flatMap(career -> career.getSkills().stream())
+                .map(cs -> cs.getSkill().getName())
+                .distinct()
+                .collect(Collectors.toList());
+
+        double totalExperience = applicant.getCareers().stream()
+                .mapToDouble(career -> ChronoUnit.DAYS.between(career.getStartDate(),
+                        career.getEndDate() != null ? career.getEndDate() : today) / 365.25)
+                .sum();
+        boolean experienceMatched = totalExperience >= qualification.getMinYearsOfExperience();
+
+        List<String> passed = new ArrayList<>();
+        List<String> failed = new ArrayList<>();
+        (educationMatched ? passed : failed).add("학력");
+        (majorMatched ? passed : failed).add("전공");
+        (skillsMatched ? passed : failed).add("스킬");
+        (experienceMatched ? passed : failed).add("경력");
+        String reason = failed.isEmpty() ? "모든 자격 요건 충족"
+                : "충족: " + String.join(", ", passed) + " / 미충족: " + String.join(", ", failed);
+
+        return new QualifiedApplicantResponse(applicant.getId(), applicant.getName(), applicant.getEmail(),
+                highest != null ? highest.name() : "없음", majorName, skillNames, totalExperience,
+                passed.size() * 25, reason, failed.isEmpty(),
+                educationMatched, majorMatched, skillsMatched, experienceMatched);
+    }
+}
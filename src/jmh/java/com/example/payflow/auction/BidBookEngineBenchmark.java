@@ -0,0 +1,147 @@
+package com.example.payflow.auction;
+
+import com.example.payflow.auction.application.BidBatchWriter;
+import com.example.payflow.auction.application.BidBookEngine;
+import com.example.payflow.auction.domain.*;
+import com.example.payflow.auction.domain.events.BidPlaced;
+import com.example.payflow.auction.infrastructure.AuctionEventPublisher;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 입찰 장부 엔진 처리량 벤치마크 (클라이언트 스레드 16개, 1 op = placeBid 1건, 저장소는 메모리 스텁)
+ * - auctions=1: 인기 경매 하나에 입찰이 몰리는 경우 - 한 샤드가 모든 입찰을 순서대로 처리
+ * - auctions=64: 입찰이 여러 경매로 흩어져 샤드 4개가 나눠 처리
+ * - 동시 입찰끼리 최소 금액 경쟁에서 밀린 입찰은 거절되며, 거절 건수를 종료 시 출력
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Threads(16)
+public class BidBookEngineBenchmark {
+
+    private static final int BIDDERS = 16;
+
+    @Param({"1", "64"})
+    private int auctions;
+
+    private final Map<Long, Auction> persisted = new ConcurrentHashMap<>();
+    private final Map<Long, AtomicLong> nextAmounts = new ConcurrentHashMap<>();
+    private final AtomicLong rejected = new AtomicLong();
+
+    private BidBatchWriter batchWriter;
+    private BidBookEngine engine;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        for (long id = 1; id <= auctions; id++) {
+            persisted.put(id, activeAuction(id));
+            nextAmounts.put(id, new AtomicLong(10_000));
+        }
+
+        batchWriter = new BidBatchWriter(stub(BidRepository.class), stub(BidHistoryRepository.class),
+                stub(AuctionRepository.class), stub(AutoBidRepository.class), new NoopEventPublisher(),
+                new NoopTransactionManager());
+        ReflectionTestUtils.setField(batchWriter, "batchSize", 500);
+        ReflectionTestUtils.setField(batchWriter, "queueCapacity", 100_000);
+        ReflectionTestUtils.setField(batchWriter, "flushTimeoutMillis", 5_000L);
+        ReflectionTestUtils.setField(batchWriter, "shutdownTimeoutMillis", 30_000L);
+        ReflectionTestUtils.setField(batchWriter, "retryBackoffMillis", 10L);
+        ReflectionTestUtils.setField(batchWriter, "retryBackoffMaxMillis", 100L);
+        batchWriter.start();
+
+        engine = new BidBookEngine(stub(AuctionRepository.class), stub(AutoBidRepository.class), batchWriter);
+        ReflectionTestUtils.setField(engine, "shardCount", 4);
+        engine.init();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        batchWriter.flush();
+        engine.shutdown();
+        batchWriter.shutdown();
+        System.out.printf("%n[bid-book] auctions=%d rejected=%d%n", auctions, rejected.get());
+    }
+
+    @Benchmark
+    public Object placeBid() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long auctionId = 1 + random.nextInt(auctions);
+        long amount = nextAmounts.get(auctionId).addAndGet(100);
+        try {
+            return engine.placeBid(auctionId, "bidder-" + random.nextInt(BIDDERS), BigDecimal.valueOf(amount));
+        } catch (IllegalArgumentException e) {
+            rejected.incrementAndGet();
+            return e;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T stub(Class<T> repositoryType) {
+        return (T) Proxy.newProxyInstance(repositoryType.getClassLoader(), new Class<?>[]{repositoryType},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "findById" -> Optional.ofNullable(persisted.get((Long) args[0]));
+                    case "findByAuctionIdAndIsActiveTrue", "findAllById" -> List.of();
+                    case "findWinningBid" -> Optional.empty();
+                    case "saveAll" -> args[0];
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private static Auction activeAuction(Long id) {
+        return Auction.builder()
+                .id(id)
+                .productId(id)
+                .sellerId("seller")
+                .startPrice(new BigDecimal("10000"))
+                .currentPrice(new BigDecimal("10000"))
+                .minBidIncrement(new BigDecimal("100"))
+                .startTime(LocalDateTime.now().minusMinutes(10))
+                .endTime(LocalDateTime.now().plusDays(1))
+                .status(AuctionStatus.ACTIVE)
+                .bidCount(0)
+                .build();
+    }
+
+    private static class NoopEventPublisher extends AuctionEventPublisher {
+
+        NoopEventPublisher() {
+            super(null, null);
+        }
+
+        @Override
+        public void publishBidPlaced(BidPlaced event) {
+        }
+    }
+
+    private static class NoopTransactionManager implements PlatformTransactionManager {
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+        }
+    }
+}
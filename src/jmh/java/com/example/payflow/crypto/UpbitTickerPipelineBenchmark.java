@@ -0,0 +1,145 @@
+package com.example.payflow.crypto;
+
+import com.example.payflow.crypto.domain.CoinTicker;
+import com.example.payflow.crypto.domain.TickerRecord;
+import com.example.payflow.crypto.infrastructure.TickerFrameEncoder;
+import com.example.payflow.crypto.infrastructure.UpbitTickerDecoder;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonSerializer;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 업비트 ticker 처리 경로 벤치마크 (틱 1건 = 디코딩 + 클라이언트 프레임 직렬화)
+ * - legacyPath: byte[] 복사 -> String -> JsonObject -> CoinTicker(BigDecimal) -> gson.toJson
+ * - streamingPath: ByteBuffer 직접 디코딩 -> 재사용 TickerRecord -> 프레임 인코딩
+ * ops/s 가 초당 처리 틱 수, gc.alloc.rate.norm 이 틱당 할당 바이트
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+public class UpbitTickerPipelineBenchmark {
+
+    private static final String[] MARKETS = {"KRW-BTC", "KRW-ETH", "KRW-XRP", "KRW-SOL", "KRW-SHIB"};
+
+    private static final Map<String, String> KOREAN_NAMES = Map.of(
+        "KRW-BTC", "비트코인",
+        "KRW-ETH", "이더리움",
+        "KRW-XRP", "리플",
+        "KRW-SOL", "솔라나",
+        "KRW-SHIB", "시바이누"
+    );
+
+    private final Gson gson = new GsonBuilder()
+            .registerTypeAdapter(LocalDateTime.class, (JsonSerializer<LocalDateTime>) (src, typeOfSrc, context) ->
+                context.serialize(src.toString()))
+            .create();
+
+    private ByteBuffer[] frames;
+    private int index;
+
+    private UpbitTickerDecoder decoder;
+    private TickerFrameEncoder encoder;
+    private TickerRecord record;
+
+    @Setup
+    public void setup() {
+        frames = new ByteBuffer[MARKETS.length];
+        for (int i = 0; i < MARKETS.length; i++) {
+            frames[i] = ByteBuffer.wrap(sampleFrame(MARKETS[i], i).getBytes(StandardCharsets.UTF_8));
+        }
+        decoder = new UpbitTickerDecoder(KOREAN_NAMES);
+        encoder = new TickerFrameEncoder();
+        record = new TickerRecord();
+    }
+
+    private ByteBuffer nextFrame() {
+        ByteBuffer frame = frames[index];
+        index = (index + 1) % frames.length;
+        return frame;
+    }
+
+    @Benchmark
+    public String legacyPath() {
+        ByteBuffer buffer = nextFrame().duplicate();
+        byte[] payload = new byte[buffer.remaining()];
+        buffer.get(payload);
+        JsonObject json = gson.fromJson(new String(payload, StandardCharsets.UTF_8), JsonObject.class);
+        String market = json.get("code").getAsString();
+        CoinTicker ticker = CoinTicker.builder()
+            .market(market)
+            .koreanName(KOREAN_NAMES.getOrDefault(market, market))
+            .tradePrice(json.get("trade_price").getAsBigDecimal())
+            .changePrice(json.get("signed_change_price").getAsBigDecimal())
+            .changeRate(json.get("change_rate").getAsBigDecimal().multiply(BigDecimal.valueOf(100)))
+            .signedChangeRate(json.get("signed_change_rate").getAsBigDecimal().multiply(BigDecimal.valueOf(100)))
+            .highPrice(json.get("high_price").getAsBigDecimal())
+            .lowPrice(json.get("low_price").getAsBigDecimal())
+            .openingPrice(json.get("opening_price").getAsBigDecimal())
+            .prevClosingPrice(json.get("prev_closing_price").getAsBigDecimal())
+            .accTradePrice24h(json.get("acc_trade_price_24h").getAsBigDecimal())
+            .accTradeVolume24h(json.get("acc_trade_volume_24h").getAsBigDecimal())
+            .change(json.get("change").getAsString())
+            .timestamp(LocalDateTime.ofInstant(
+                Instant.ofEpochMilli(json.get("timestamp").getAsLong()),
+                ZoneId.systemDefault()
+            ))
+            .build();
+        return gson.toJson(ticker);
+    }
+
+    @Benchmark
+    public String streamingPath() {
+        decoder.decode(nextFrame(), record);
+        return encoder.encode(record);
+    }
+
+    /**
+     * 업비트 ticker 응답 형식 샘플 (DEFAULT 포맷)
+     */
+    static String sampleFrame(String market, int seed) {
+        long price = 95_000_000L / (seed + 1);
+        return "{\"type\":\"ticker\",\"code\":\"" + market + "\","
+            + "\"opening_price\":" + (price - 120_000) + ".0,"
+            + "\"high_price\":" + (price + 350_000) + ".0,"
+            + "\"low_price\":" + (price - 410_000) + ".0,"
+            + "\"trade_price\":" + price + ".0,"
+            + "\"prev_closing_price\":" + (price - 120_000) + ".00000000,"
+            + "\"acc_trade_price\":152301845623.62714,"
+            + "\"change\":\"RISE\","
+            + "\"change_price\":120000.00000000,"
+            + "\"signed_change_price\":120000.00000000,"
+            + "\"change_rate\":0.0012647,"
+            + "\"signed_change_rate\":0.0012647,"
+            + "\"ask_bid\":\"BID\","
+            + "\"trade_volume\":0.00105263,"
+            + "\"acc_trade_volume\":1603.90328514,"
+            + "\"trade_date\":\"20241018\","
+            + "\"trade_time\":\"051227\","
+            + "\"trade_timestamp\":1729228347417,"
+            + "\"acc_ask_volume\":812.3140551,"
+            + "\"acc_bid_volume\":791.58923004,"
+            + "\"highest_52_week_price\":105000000.00000000,"
+            + "\"highest_52_week_date\":\"2024-03-14\","
+            + "\"lowest_52_week_price\":37000000.00000000,"
+            + "\"lowest_52_week_date\":\"2023-10-19\","
+            + "\"market_state\":\"ACTIVE\","
+            + "\"is_trading_suspended\":false,"
+            + "\"delisting_date\":null,"
+            + "\"market_warning\":\"NONE\","
+            + "\"timestamp\":1729228347448,"
+            + "\"acc_trade_price_24h\":298301845623.62714,"
+            + "\"acc_trade_volume_24h\":3140.21834921,"
+            + "\"stream_type\":\"REALTIME\"}";
+    }
+}
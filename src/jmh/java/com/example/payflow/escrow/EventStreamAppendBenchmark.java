@@ -0,0 +1,112 @@
+package com.example.payflow.escrow;
+
+import com.example.payflow.common.eventstore.EventStreamAppender;
+import com.example.payflow.common.eventstore.EventStreamTable;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 이벤트 스트림 append 벤치마크 (H2 메모리 DB + Hikari 풀, writer 8개가 aggregates 개 거래에 나눠 추가, 1 op = 이벤트 1건)
+ * - legacy: 기존 방식 - 트랜잭션마다 MAX(sequence) + 1 조회 후 insert (유니크 제약 없음, 중복 sequence 건수를 종료 시 출력)
+ * - appender: EventStreamAppender - 캐시된 sequence 로 바로 insert, 유니크 충돌 시 재조회 후 재시도
+ * - appenderBatch: 같은 거래의 이벤트 10건을 JDBC batch 한 번으로 추가
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Threads(8)
+public class EventStreamAppendBenchmark {
+
+    private static final int BATCH_SIZE = 10;
+    private static final List<String> COLUMNS = List.of("event_type", "new_status", "triggered_by", "occurred_at");
+
+    @Param({"1", "64"})
+    private int aggregates;
+
+    private HikariDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private EventStreamAppender appender;
+    private EventStreamTable<String> eventStream;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:h2:mem:event-stream" + aggregates + ";DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000");
+        config.setMaximumPoolSize(10);
+        config.setPoolName("event-stream-bench");
+        dataSource = new HikariDataSource(config);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        for (String table : List.of("legacy_event_store", "escrow_event_store")) {
+            jdbcTemplate.execute("CREATE TABLE " + table + " (id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                    + "transaction_id VARCHAR(64) NOT NULL, sequence INT NOT NULL, event_type VARCHAR(50), "
+                    + "new_status VARCHAR(30), triggered_by VARCHAR(100), occurred_at TIMESTAMP)");
+        }
+        jdbcTemplate.execute("ALTER TABLE escrow_event_store ADD CONSTRAINT uk_escrow_event_sequence "
+                + "UNIQUE (transaction_id, sequence)");
+        jdbcTemplate.execute("CREATE INDEX idx_legacy_event_sequence ON legacy_event_store (transaction_id, sequence)");
+
+        eventStream = EventStreamTable.of("escrow_event_store", "transaction_id", "sequence", COLUMNS,
+                eventType -> new Object[]{eventType, "DEPOSITED", "bench", Timestamp.valueOf(LocalDateTime.now())});
+        appender = new EventStreamAppender(jdbcTemplate);
+        ReflectionTestUtils.setField(appender, "maxAttempts", 100);
+        ReflectionTestUtils.setField(appender, "sequenceCacheSize", 100_000L);
+        appender.init();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        Integer duplicates = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM (SELECT transaction_id, sequence "
+                + "FROM legacy_event_store GROUP BY transaction_id, sequence HAVING COUNT(*) > 1)", Integer.class);
+        System.out.printf("%n[event-stream] aggregates=%d legacyDuplicateSequences=%d appender=%s%n",
+                aggregates, duplicates, appender.getStats());
+        dataSource.close();
+    }
+
+    @Benchmark
+    public Integer legacy() {
+        String transactionId = nextTransactionId();
+        return transactionTemplate.execute(status -> {
+            Integer next = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(sequence), 0) + 1 FROM legacy_event_store "
+                    + "WHERE transaction_id = ?", Integer.class, transactionId);
+            jdbcTemplate.update("INSERT INTO legacy_event_store (transaction_id, sequence, event_type, new_status, "
+                    + "triggered_by, occurred_at) VALUES (?, ?, ?, ?, ?, ?)", transactionId, next, "DEPOSIT_CONFIRMED",
+                    "DEPOSITED", "bench", Timestamp.valueOf(LocalDateTime.now()));
+            return next;
+        });
+    }
+
+    @Benchmark
+    public Integer appender() {
+        String transactionId = nextTransactionId();
+        return transactionTemplate.execute(status -> appender.append(eventStream, transactionId, "DEPOSIT_CONFIRMED"));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public Integer appenderBatch() {
+        String transactionId = nextTransactionId();
+        List<String> batch = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            batch.add("DEPOSIT_CONFIRMED");
+        }
+        return transactionTemplate.execute(status -> appender.appendAll(eventStream, transactionId, batch));
+    }
+
+    private String nextTransactionId() {
+        return "ESC-" + ThreadLocalRandom.current().nextInt(aggregates);
+    }
+}
@@ -0,0 +1,215 @@
+package com.example.payflow.logging;
+
+import com.example.payflow.logging.domain.EventLog;
+import com.example.payflow.logging.domain.EventStatus;
+import com.example.payflow.logging.infrastructure.EventKeyScanner;
+import com.example.payflow.logging.infrastructure.EventLogTopics;
+import com.example.payflow.logging.infrastructure.JdbcEventLogBatchInserter;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.KafkaProducer;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.listener.BatchMessageListener;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.KafkaMessageListenerContainer;
+import org.springframework.kafka.listener.MessageListener;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+import org.springframework.kafka.test.utils.ContainerTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.regex.Pattern;
+
+/**
+ * 이벤트 로그 수집기 벤치마크 (임베디드 Kafka 브로커 + H2 메모리 DB, 1 op = 18개 토픽에 고르게 발행한 2,000건 수집 완료)
+ * - perTopic: 기존 방식 - 토픽마다 리스너 컨테이너, 레코드마다 JsonNode 트리 파싱 후 단건 insert/커밋
+ * - batch: 패턴 구독 컨테이너 하나, 스트리밍 키 스캔 후 poll 분량을 JDBC batch insert 한 번으로
+ * 발행 비용은 두 경로가 같으므로 차이는 수집 쪽 비용이다. ops/s x 2,000 이 초당 수집 건수
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 2)
+@Measurement(iterations = 5)
+public class EventLogCollectorBenchmark {
+
+    private static final int RECORDS_PER_OP = 2_000;
+    private static final long WAIT_TIMEOUT_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+    @Param({"perTopic", "batch"})
+    private String mode;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicLong collected = new AtomicLong();
+
+    private EmbeddedKafkaKraftBroker broker;
+    private KafkaProducer<String, String> producer;
+    private List<KafkaMessageListenerContainer<String, String>> containers;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private JdbcEventLogBatchInserter batchInserter;
+    private EventKeyScanner keyScanner;
+
+    private List<String> topics;
+    private List<String> messages;
+    private long expected;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        topics = new ArrayList<>();
+        EventLogTopics.topics().forEach(topics::add);
+        broker = new EmbeddedKafkaKraftBroker(1, 1, topics.toArray(new String[0]));
+        broker.afterPropertiesSet();
+
+        DriverManagerDataSource dataSource =
+            new DriverManagerDataSource("jdbc:h2:mem:collector;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        batchInserter = new JdbcEventLogBatchInserter(jdbcTemplate);
+        keyScanner = new EventKeyScanner(objectMapper);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS event_logs (id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+            + "correlation_id VARCHAR(255) NOT NULL, event_type VARCHAR(255) NOT NULL, "
+            + "service_name VARCHAR(255) NOT NULL, payload CLOB, timestamp TIMESTAMP NOT NULL, user_id VARCHAR(255), "
+            + "status VARCHAR(32), error_message VARCHAR(1000), processing_time_ms BIGINT)");
+
+        messages = new ArrayList<>(RECORDS_PER_OP);
+        for (int i = 0; i < RECORDS_PER_OP; i++) {
+            messages.add(objectMapper.writeValueAsString(Map.of(
+                "orderId", "ORD-" + i,
+                "userId", "user-" + (i % 100),
+                "amount", 10_000 + i,
+                "items", List.of(Map.of("sku", "SKU-" + (i % 50), "quantity", 1 + i % 3)),
+                "timestamp", System.currentTimeMillis())));
+        }
+
+        Map<String, Object> producerConfig = new HashMap<>();
+        producerConfig.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, broker.getBrokersAsString());
+        producerConfig.put(ProducerConfig.LINGER_MS_CONFIG, 5);
+        producer = new KafkaProducer<>(producerConfig, new StringSerializer(), new StringSerializer());
+
+        Map<String, Object> consumerConfig = new HashMap<>();
+        consumerConfig.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, broker.getBrokersAsString());
+        consumerConfig.put(ConsumerConfig.GROUP_ID_CONFIG, "collector-bench-" + mode);
+        consumerConfig.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        consumerConfig.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        consumerConfig.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, 1000);
+        DefaultKafkaConsumerFactory<String, String> consumerFactory =
+            new DefaultKafkaConsumerFactory<>(consumerConfig, new StringDeserializer(), new StringDeserializer());
+
+        containers = new ArrayList<>();
+        if ("perTopic".equals(mode)) {
+            for (String topic : topics) {
+                ContainerProperties properties = new ContainerProperties(topic);
+                properties.setMessageListener((MessageListener<String, String>) this::collectPerRecord);
+                containers.add(new KafkaMessageListenerContainer<>(consumerFactory, properties));
+            }
+        } else {
+            ContainerProperties properties = new ContainerProperties(Pattern.compile(EventLogTopics.TOPIC_PATTERN));
+            properties.setMessageListener((BatchMessageListener<String, String>) this::collectBatch);
+            containers.add(new KafkaMessageListenerContainer<>(consumerFactory, properties));
+        }
+        for (KafkaMessageListenerContainer<String, String> container : containers) {
+            container.start();
+        }
+        for (KafkaMessageListenerContainer<String, String> container : containers) {
+            ContainerTestUtils.waitForAssignment(container, "perTopic".equals(mode) ? 1 : topics.size());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        containers.forEach(KafkaMessageListenerContainer::stop);
+        producer.close();
+        broker.destroy();
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+    }
+
+    @Benchmark
+    public long collect() {
+        for (int i = 0; i < RECORDS_PER_OP; i++) {
+            producer.send(new ProducerRecord<>(topics.get(i % topics.size()), messages.get(i)));
+        }
+        producer.flush();
+        expected += RECORDS_PER_OP;
+
+        long deadline = System.nanoTime() + WAIT_TIMEOUT_NANOS;
+        while (collected.get() < expected) {
+            if (System.nanoTime() > deadline) {
+                throw new IllegalStateException("수집 대기 시간 초과: " + collected.get() + "/" + expected);
+            }
+            LockSupport.parkNanos(100_000);
+        }
+        return collected.get();
+    }
+
+    /**
+     * 기존 토픽별 리스너 경로 (JsonNode 트리 + 단건 저장)
+     */
+    private void collectPerRecord(ConsumerRecord<String, String> record) {
+        try {
+            JsonNode node = objectMapper.readTree(record.value());
+            String correlationId = firstText(node, "correlationId", "orderId", "paymentId", "transactionId");
+            String userId = firstText(node, "userId", "username", "buyerId", "sellerId");
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(
+                "INSERT INTO event_logs (correlation_id, event_type, service_name, payload, timestamp, user_id, status) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?)",
+                correlationId != null ? correlationId : UUID.randomUUID().toString(), record.topic(),
+                EventLogTopics.serviceOf(record.topic()), record.value(), Timestamp.valueOf(LocalDateTime.now()),
+                userId, EventStatus.SUCCESS.name()));
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+        collected.incrementAndGet();
+    }
+
+    /**
+     * 배치 수집 경로 (스트리밍 키 스캔 + JDBC batch insert)
+     */
+    private void collectBatch(List<ConsumerRecord<String, String>> records) {
+        List<EventLog> eventLogs = new ArrayList<>(records.size());
+        LocalDateTime now = LocalDateTime.now();
+        for (ConsumerRecord<String, String> record : records) {
+            try {
+                EventKeyScanner.EventKeys keys = keyScanner.scan(record.value());
+                eventLogs.add(EventLog.builder()
+                    .correlationId(keys.getCorrelationId() != null
+                        ? keys.getCorrelationId() : UUID.randomUUID().toString())
+                    .eventType(record.topic())
+                    .serviceName(EventLogTopics.serviceOf(record.topic()))
+                    .payload(record.value())
+                    .timestamp(now)
+                    .userId(keys.getUserId())
+                    .status(EventStatus.SUCCESS)
+                    .build());
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        transactionTemplate.executeWithoutResult(status -> batchInserter.insertAll(eventLogs));
+        collected.addAndGet(records.size());
+    }
+
+    private static String firstText(JsonNode node, String... fields) {
+        for (String field : fields) {
+            if (node.has(field)) {
+                return node.get(field).asText();
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,127 @@
+package com.example.payflow.matching;
+
+import com.example.payflow.distributor.domain.Distributor;
+import com.example.payflow.distributor.domain.DistributorRepository;
+import com.example.payflow.matching.application.DistributorMatchingIndex;
+import com.example.payflow.matching.domain.MatchingScore;
+import com.example.payflow.store.domain.Store;
+import org.openjdk.jmh.annotations.*;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 유통업체 추천 벤치마크 (1 op = 매장 하나에 대한 상위 10개 추천)
+ * - fullScan: 기존 방식 - 전체 유통업체마다 콤마 문자열 분해, BigDecimal 점수 계산 후 전체 정렬
+ * - index: 토큰 비트셋 색인 + 정수 점수 + 크기 K 힙
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class DistributorMatchingBenchmark {
+
+    private static final String[] CITIES = {"서울", "경기", "인천", "부산", "대구", "광주", "대전", "울산", "세종",
+            "강원", "충북", "충남", "전북", "전남", "경북", "경남", "제주"};
+    private static final int PRODUCT_KINDS = 200;
+
+    @Param({"10000", "50000"})
+    private int distributorCount;
+
+    private List<Distributor> distributors;
+    private DistributorMatchingIndex index;
+    private Store store;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(42);
+        distributors = new ArrayList<>(distributorCount);
+        for (int i = 0; i < distributorCount; i++) {
+            List<String> regions = new ArrayList<>();
+            List<String> products = new ArrayList<>();
+            for (int k = 0; k < 3; k++) {
+                String city = CITIES[random.nextInt(CITIES.length)];
+                regions.add(random.nextBoolean() ? city : city + " " + random.nextInt(20) + "구");
+                products.add("품목" + random.nextInt(PRODUCT_KINDS));
+            }
+            Distributor distributor = new Distributor("D" + i, "유통" + i, null, "010-0000-0000", null);
+            distributor.updateDistributorInfo(String.join(",", products), String.join(",", regions),
+                    random.nextInt(5) > 0, random.nextBoolean() ? "익일 배송" : null, null,
+                    random.nextBoolean() ? "HACCP,ISO" : null, 50_000, null, null);
+            distributors.add(distributor);
+        }
+
+        DistributorRepository repository = (DistributorRepository) Proxy.newProxyInstance(
+                DistributorRepository.class.getClassLoader(), new Class<?>[]{DistributorRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findAll") && (args == null || args.length == 0)) {
+                        return distributors;
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        index = new DistributorMatchingIndex(repository);
+        index.size();
+
+        store = new Store("S1", "매장", "owner", "010-1111-1111", "주소");
+        store.updateStoreInfo("한식", "서울 3구", "품목1,품목2,품목3,품목4,품목5", null, 5, null);
+    }
+
+    @Benchmark
+    public List<MatchingScore> index() {
+        return index.recommend(store, 10);
+    }
+
+    @Benchmark
+    public List<MatchingScore> fullScan() {
+        return distributors.stream()
+                .filter(d -> d.getIsActive() != null && d.getIsActive())
+                .map(this::legacyScore)
+                .sorted((a, b) -> b.getTotalScore().compareTo(a.getTotalScore()))
+                .limit(10)
+                .collect(Collectors.toList());
+    }
+
+    private MatchingScore legacyScore(Distributor distributor) {
+        BigDecimal regionScore = BigDecimal.ZERO;
+        List<String> serviceRegions = Arrays.asList(distributor.getServiceRegions().split(","));
+        String storeCity = store.getRegion().split(" ")[0];
+        if (serviceRegions.stream().anyMatch(r -> store.getRegion().contains(r.trim()) || r.trim().contains(store.getRegion()))) {
+            regionScore = BigDecimal.valueOf(100);
+        } else if (serviceRegions.stream().anyMatch(r -> r.trim().startsWith(storeCity))) {
+            regionScore = BigDecimal.valueOf(70);
+        }
+
+        List<String> storeProducts = Arrays.asList(store.getMainProducts().split(","));
+        List<String> supplyProducts = Arrays.asList(distributor.getSupplyProducts().split(","));
+        long matchCount = storeProducts.stream().map(String::trim)
+                .filter(p -> supplyProducts.stream().anyMatch(s -> s.trim().equals(p)))
+                .count();
+        BigDecimal productScore = BigDecimal.valueOf((double) matchCount / storeProducts.size() * 100)
+                .setScale(2, RoundingMode.HALF_UP);
+
+        BigDecimal deliveryScore = BigDecimal.ZERO;
+        if (distributor.getDeliveryAvailable()) {
+            deliveryScore = BigDecimal.valueOf(distributor.getDeliveryInfo() != null ? 100 : 70);
+        }
+        BigDecimal certificationScore = BigDecimal.valueOf(distributor.getCertifications() != null ? 85 : 50);
+
+        BigDecimal totalScore = regionScore.multiply(BigDecimal.valueOf(0.4))
+                .add(productScore.multiply(BigDecimal.valueOf(0.35)))
+                .add(deliveryScore.multiply(BigDecimal.valueOf(0.15)))
+                .add(certificationScore.multiply(BigDecimal.valueOf(0.10)))
+                .setScale(2, RoundingMode.HALF_UP);
+
+        return MatchingScore.builder()
+                .distributorId(distributor.getDistributorId())
+                .distributorName(distributor.getDistributorName())
+                .totalScore(totalScore)
+                .regionScore(regionScore)
+                .productScore(productScore)
+                .deliveryScore(deliveryScore)
+                .certificationScore(certificationScore)
+                .build();
+    }
+}
@@ -0,0 +1,252 @@
+package com.example.payflow.payment;
+
+import com.example.payflow.common.config.WebClientConfig;
+import com.example.payflow.common.metrics.LatencyHistogram;
+import com.example.payflow.payment.infrastructure.TossPaymentGateway;
+import com.example.payflow.payment.infrastructure.TossPaymentsClient;
+import com.example.payflow.payment.infrastructure.dto.TossPaymentConfirmRequest;
+import com.example.payflow.payment.infrastructure.dto.TossPaymentResponse;
+import com.sun.net.httpserver.HttpServer;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 결제 승인 부하 테스트 (로컬 스텁 PG + 지연 주입, Hikari 풀 10개)
+ * - legacy: 트랜잭션(커넥션)을 잡은 채 PG 응답을 기다린 뒤 커밋 - 기존 @Transactional confirmPayment 와 같은 경계
+ * - twoPhase: 승인 의도 저장 트랜잭션 → 트랜잭션 밖 PG 호출 (TossPaymentGateway) → 전용 풀에서 결과 저장 트랜잭션
+ * - 그룹마다 승인 스레드 32개와 함께 관계없는 API 를 흉내 낸 probe 스레드(SELECT 1)를 돌려 p99 비교 (SampleTime)
+ * - 풀 점유(활성/대기 커넥션)는 1ms 마다 샘플링해 trial 종료 시 출력
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class PaymentConfirmLoadBenchmark {
+
+    private static final int POOL_SIZE = 10;
+    private static final Pattern PAYMENT_KEY = Pattern.compile("\"paymentKey\"\\s*:\\s*\"([^\"]+)\"");
+
+    @Param({"50", "200"})
+    private int gatewayLatencyMs;
+
+    private HttpServer stubGateway;
+    private ScheduledExecutorService stubResponder;
+    private HikariDataSource dataSource;
+    private HikariPoolMXBean pool;
+    private TossPaymentGateway paymentGateway;
+    private ExecutorService commitExecutor;
+    private ScheduledExecutorService poolSampler;
+
+    private final AtomicLong sequence = new AtomicLong();
+    private final LatencyHistogram connectionHold = new LatencyHistogram();
+    private final AtomicInteger maxActive = new AtomicInteger();
+    private final AtomicInteger maxPending = new AtomicInteger();
+    private final AtomicLong activeSum = new AtomicLong();
+    private final AtomicLong samples = new AtomicLong();
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        // 스텁 PG: 요청을 받은 뒤 gatewayLatencyMs 후에 승인 응답 (응답 스레드를 재우지 않고 예약 전송)
+        stubResponder = Executors.newScheduledThreadPool(4);
+        stubGateway = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 1024);
+        stubGateway.setExecutor(Executors.newCachedThreadPool());
+        stubGateway.createContext("/v1/payments/confirm", exchange -> {
+            String body;
+            try (InputStream in = exchange.getRequestBody()) {
+                body = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+            }
+            Matcher matcher = PAYMENT_KEY.matcher(body);
+            String paymentKey = matcher.find() ? matcher.group(1) : "unknown";
+            byte[] response = ("{\"paymentKey\":\"" + paymentKey + "\",\"method\":\"카드\",\"status\":\"DONE\","
+                    + "\"approvedAt\":\"2024-01-01T00:00:00+09:00\"}").getBytes(StandardCharsets.UTF_8);
+            stubResponder.schedule(() -> {
+                try (OutputStream out = exchange.getResponseBody()) {
+                    exchange.getResponseHeaders().add("Content-Type", "application/json");
+                    exchange.sendResponseHeaders(200, response.length);
+                    out.write(response);
+                } catch (Exception e) {
+                    exchange.close();
+                }
+            }, gatewayLatencyMs, TimeUnit.MILLISECONDS);
+        });
+        stubGateway.start();
+
+        TossPaymentsClient client = new TossPaymentsClient(new WebClientConfig().webClient());
+        ReflectionTestUtils.setField(client, "secretKey", "test_sk");
+        ReflectionTestUtils.setField(client, "apiUrl", "http://127.0.0.1:" + stubGateway.getAddress().getPort() + "/v1");
+        paymentGateway = new TossPaymentGateway(client);
+        ReflectionTestUtils.setField(paymentGateway, "timeoutMillis", 3_000L);
+        ReflectionTestUtils.setField(paymentGateway, "windowSize", 20);
+        ReflectionTestUtils.setField(paymentGateway, "minimumCalls", 10);
+        ReflectionTestUtils.setField(paymentGateway, "failureRateThreshold", 50);
+        ReflectionTestUtils.setField(paymentGateway, "openMillis", 5_000L);
+        ReflectionTestUtils.setField(paymentGateway, "halfOpenCalls", 3);
+        paymentGateway.init();
+
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:h2:mem:confirm" + gatewayLatencyMs + ";DB_CLOSE_DELAY=-1");
+        config.setMaximumPoolSize(POOL_SIZE);
+        config.setMinimumIdle(POOL_SIZE);
+        config.setConnectionTimeout(30_000);
+        config.setPoolName("confirm-bench");
+        dataSource = new HikariDataSource(config);
+        pool = dataSource.getHikariPoolMXBean();
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE IF NOT EXISTS payments (order_id VARCHAR(64) PRIMARY KEY, "
+                    + "status VARCHAR(20), payment_key VARCHAR(64))");
+            statement.execute("CREATE TABLE IF NOT EXISTS payment_events (id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                    + "order_id VARCHAR(64), event_type VARCHAR(40))");
+        }
+
+        AtomicInteger threads = new AtomicInteger();
+        commitExecutor = Executors.newFixedThreadPool(8, r -> {
+            Thread thread = new Thread(r, "payment-confirm-" + threads.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        poolSampler = Executors.newSingleThreadScheduledExecutor();
+        poolSampler.scheduleAtFixedRate(() -> {
+            int active = pool.getActiveConnections();
+            maxActive.accumulateAndGet(active, Math::max);
+            maxPending.accumulateAndGet(pool.getThreadsAwaitingConnection(), Math::max);
+            activeSum.addAndGet(active);
+            samples.incrementAndGet();
+        }, 1, 1, TimeUnit.MILLISECONDS);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        poolSampler.shutdownNow();
+        Map<String, Object> hold = connectionHold.snapshot();
+        System.out.printf("%n[pool] gatewayLatency=%dms size=%d meanActive=%.2f maxActive=%d maxWaiting=%d "
+                        + "hold(mean=%.2fms p99=%.2fms) gateway=%s%n",
+                gatewayLatencyMs, POOL_SIZE, samples.get() == 0 ? 0.0 : activeSum.get() / (double) samples.get(),
+                maxActive.get(), maxPending.get(), hold.get("meanMs"), hold.get("p99Ms"), paymentGateway.getStats());
+        commitExecutor.shutdownNow();
+        dataSource.close();
+        stubGateway.stop(0);
+        stubResponder.shutdownNow();
+    }
+
+    @Benchmark
+    @Group("legacy")
+    @GroupThreads(32)
+    public TossPaymentResponse legacyConfirm() throws Exception {
+        String orderId = "ORDER_" + sequence.incrementAndGet();
+        long start = System.nanoTime();
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            insertIntent(connection, orderId);
+            // 커넥션을 잡은 채 PG 응답 대기
+            TossPaymentResponse response = paymentGateway.confirm(request(orderId)).join();
+            approve(connection, orderId, response.getPaymentKey());
+            connection.commit();
+            return response;
+        } finally {
+            connectionHold.recordNanos(System.nanoTime() - start);
+        }
+    }
+
+    @Benchmark
+    @Group("legacy")
+    @GroupThreads(4)
+    public int legacyProbe() throws SQLException {
+        return probe();
+    }
+
+    @Benchmark
+    @Group("twoPhase")
+    @GroupThreads(32)
+    public TossPaymentResponse twoPhaseConfirm() throws Exception {
+        String orderId = "ORDER_" + sequence.incrementAndGet();
+        inTransaction(connection -> insertIntent(connection, orderId));
+        return paymentGateway.confirm(request(orderId))
+                .thenApplyAsync(response -> {
+                    inTransaction(connection -> approve(connection, orderId, response.getPaymentKey()));
+                    return response;
+                }, commitExecutor)
+                .join();
+    }
+
+    @Benchmark
+    @Group("twoPhase")
+    @GroupThreads(4)
+    public int twoPhaseProbe() throws SQLException {
+        return probe();
+    }
+
+    private int probe() throws SQLException {
+        try (Connection connection = dataSource.getConnection(); Statement statement = connection.createStatement()) {
+            statement.execute("SELECT 1");
+            return 1;
+        }
+    }
+
+    private void inTransaction(SqlWork work) {
+        long start = System.nanoTime();
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            work.run(connection);
+            connection.commit();
+        } catch (SQLException e) {
+            throw new CompletionException(e);
+        } finally {
+            connectionHold.recordNanos(System.nanoTime() - start);
+        }
+    }
+
+    private static void insertIntent(Connection connection, String orderId) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO payments (order_id, status) VALUES (?, 'APPROVING')")) {
+            statement.setString(1, orderId);
+            statement.executeUpdate();
+        }
+        insertEvent(connection, orderId, "PaymentApprovalRequested");
+    }
+
+    private static void approve(Connection connection, String orderId, String paymentKey) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "UPDATE payments SET status = 'DONE', payment_key = ? WHERE order_id = ?")) {
+            statement.setString(1, paymentKey);
+            statement.setString(2, orderId);
+            statement.executeUpdate();
+        }
+        insertEvent(connection, orderId, "PaymentApproved");
+    }
+
+    private static void insertEvent(Connection connection, String orderId, String eventType) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "INSERT INTO payment_events (order_id, event_type) VALUES (?, ?)")) {
+            statement.setString(1, orderId);
+            statement.setString(2, eventType);
+            statement.executeUpdate();
+        }
+    }
+
+    private static TossPaymentConfirmRequest request(String orderId) {
+        return new TossPaymentConfirmRequest("pk_" + orderId, orderId, 10_000L);
+    }
+
+    @FunctionalInterface
+    private interface SqlWork {
+        void run(Connection connection) throws SQLException;
+    }
+}
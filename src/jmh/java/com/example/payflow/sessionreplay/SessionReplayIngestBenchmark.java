@@ -0,0 +1,169 @@
+package com.example.payflow.sessionreplay;
+
+import com.example.payflow.sessionreplay.application.SessionChunkCodec;
+import com.example.payflow.sessionreplay.domain.EventType;
+import com.example.payflow.sessionreplay.domain.Session;
+import com.example.payflow.sessionreplay.domain.SessionEventChunk;
+import com.example.payflow.sessionreplay.infrastructure.JdbcInteractionEventBatchRepository;
+import com.example.payflow.sessionreplay.infrastructure.PayloadEncryptor;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * 세션 재생 이벤트 적재 벤치마크 (H2 메모리 DB, 1 op = Kafka poll 1회 분량 500건)
+ * - perRecord: 건별 리스너 경로 - 이벤트마다 세션 조회, 암호화, insert, 세션 update, event_logs insert 후 커밋
+ * - batched: 배치 리스너 경로 - 세션 일괄 조회/생성, 세션별 청크 병렬 압축/암호화, JDBC batch insert,
+ *   세션별 update 1회, event_logs 1건을 한 트랜잭션으로
+ * ops/s x 500 이 초당 적재 이벤트 수
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class SessionReplayIngestBenchmark {
+
+    private static final int POLL_SIZE = 500;
+    private static final int SESSIONS = 50;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private DriverManagerDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private JdbcInteractionEventBatchRepository batchRepository;
+    private PayloadEncryptor encryptor;
+    private SessionChunkCodec chunkCodec;
+
+    private List<String> sessionIds;
+    private List<Map<String, Object>> payloads;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        dataSource = new DriverManagerDataSource("jdbc:h2:mem:replay;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        batchRepository = new JdbcInteractionEventBatchRepository(jdbcTemplate, POLL_SIZE);
+        encryptor = new PayloadEncryptor("");
+        chunkCodec = new SessionChunkCodec(encryptor);
+
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS sessions (session_id VARCHAR(64) PRIMARY KEY, "
+            + "user_id VARCHAR(64) NOT NULL, start_time TIMESTAMP NOT NULL, end_time TIMESTAMP, "
+            + "total_events INT NOT NULL, device_info CLOB, created_at TIMESTAMP NOT NULL, updated_at TIMESTAMP)");
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS interaction_events (id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+            + "session_id VARCHAR(64) NOT NULL, event_type VARCHAR(32) NOT NULL, timestamp BIGINT NOT NULL, "
+            + "payload CLOB NOT NULL, created_at TIMESTAMP NOT NULL)");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_ie_session_id ON interaction_events (session_id)");
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS session_event_chunks (id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+            + "session_id VARCHAR(64) NOT NULL, first_timestamp BIGINT NOT NULL, last_timestamp BIGINT NOT NULL, "
+            + "event_count INT NOT NULL, data VARBINARY(4194304) NOT NULL, created_at TIMESTAMP NOT NULL)");
+        jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_sec_session_id ON session_event_chunks (session_id)");
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS event_logs (id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+            + "correlation_id VARCHAR(64) NOT NULL, event_type VARCHAR(64) NOT NULL, service_name VARCHAR(64) NOT NULL, "
+            + "payload CLOB, timestamp TIMESTAMP NOT NULL)");
+
+        sessionIds = new ArrayList<>(SESSIONS);
+        for (int i = 0; i < SESSIONS; i++) {
+            sessionIds.add(UUID.randomUUID().toString());
+        }
+        payloads = new ArrayList<>(POLL_SIZE);
+        for (int i = 0; i < POLL_SIZE; i++) {
+            payloads.add(Map.of("x", i * 3, "y", i * 7, "target", "button#checkout-" + (i % 10),
+                "viewport", Map.of("width", 1440, "height", 900)));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+    }
+
+    @Benchmark
+    public int perRecord() {
+        for (int i = 0; i < POLL_SIZE; i++) {
+            String sessionId = sessionIds.get(i % SESSIONS);
+            String payload = serialize(payloads.get(i));
+            long timestamp = System.currentTimeMillis();
+            transactionTemplate.executeWithoutResult(status -> {
+                LocalDateTime now = LocalDateTime.now();
+                Integer found = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM sessions WHERE session_id = ?", Integer.class, sessionId);
+                if (found == 0) {
+                    jdbcTemplate.update("INSERT INTO sessions (session_id, user_id, start_time, total_events, created_at) "
+                        + "VALUES (?, 'anonymous', ?, 0, ?)", sessionId, now, now);
+                }
+                jdbcTemplate.update("INSERT INTO interaction_events (session_id, event_type, timestamp, payload, created_at) "
+                    + "VALUES (?, ?, ?, ?, ?)", sessionId, EventType.CLICK.name(), timestamp, encryptor.encrypt(payload), now);
+                jdbcTemplate.update("UPDATE sessions SET total_events = total_events + 1, updated_at = ? WHERE session_id = ?",
+                    now, sessionId);
+            });
+            transactionTemplate.executeWithoutResult(status -> insertEventLog("SessionEventProcessed"));
+        }
+        return POLL_SIZE;
+    }
+
+    @Benchmark
+    public int batched() {
+        transactionTemplate.executeWithoutResult(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            long timestamp = System.currentTimeMillis();
+
+            Map<String, Integer> eventCounts = new LinkedHashMap<>();
+            for (int i = 0; i < POLL_SIZE; i++) {
+                eventCounts.merge(sessionIds.get(i % SESSIONS), 1, Integer::sum);
+            }
+            Set<String> existing = batchRepository.findExistingSessionIds(eventCounts.keySet());
+            List<Session> newSessions = eventCounts.keySet().stream()
+                .filter(id -> !existing.contains(id))
+                .map(id -> Session.builder().sessionId(id).userId("anonymous")
+                    .startTime(now).totalEvents(0).createdAt(now).build())
+                .collect(Collectors.toList());
+            batchRepository.insertSessions(newSessions);
+
+            List<SessionEventChunk> chunks = IntStream.range(0, SESSIONS).parallel()
+                .mapToObj(session -> {
+                    List<SessionChunkCodec.ChunkEvent> events = new ArrayList<>();
+                    for (int i = session; i < POLL_SIZE; i += SESSIONS) {
+                        events.add(new SessionChunkCodec.ChunkEvent(
+                            EventType.CLICK, timestamp + i, serialize(payloads.get(i))));
+                    }
+                    return SessionEventChunk.builder()
+                        .sessionId(sessionIds.get(session))
+                        .firstTimestamp(timestamp)
+                        .lastTimestamp(timestamp + POLL_SIZE)
+                        .eventCount(events.size())
+                        .data(chunkCodec.encode(events))
+                        .createdAt(now)
+                        .build();
+                })
+                .collect(Collectors.toList());
+            batchRepository.insertChunks(chunks);
+            batchRepository.incrementTotalEvents(eventCounts, now);
+            insertEventLog("SessionEventBatchProcessed");
+        });
+        return POLL_SIZE;
+    }
+
+    private void insertEventLog(String eventType) {
+        jdbcTemplate.update("INSERT INTO event_logs (correlation_id, event_type, service_name, payload, timestamp) "
+            + "VALUES (?, ?, 'session-replay', '{}', ?)", UUID.randomUUID().toString(), eventType,
+            Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    private String serialize(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (Exception e) {
+            return "{}";
+        }
+    }
+}
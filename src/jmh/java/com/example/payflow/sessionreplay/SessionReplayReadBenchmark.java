@@ -0,0 +1,143 @@
+package com.example.payflow.sessionreplay;
+
+import com.example.payflow.sessionreplay.application.SessionChunkCodec;
+import com.example.payflow.sessionreplay.domain.EventType;
+import com.example.payflow.sessionreplay.infrastructure.PayloadEncryptor;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 긴 세션(마우스 이동 위주 20,000건) 재생 벤치마크 (DB 제외, 저장 형식 디코딩 + JSON 응답 작성)
+ * - perRowPayload: 행마다 Base64 디코딩 + AES-GCM 복호화 + Map 파싱 후 응답 직렬화
+ * - chunked: 청크(200건)마다 복호화 + inflate 후 payload 를 raw JSON 으로 바로 기록
+ * setup 에서 두 형식의 세션당 저장 바이트를 출력한다
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class SessionReplayReadBenchmark {
+
+    private static final int EVENTS = 20_000;
+    private static final int CHUNK_SIZE = 200;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private PayloadEncryptor encryptor;
+    private SessionChunkCodec chunkCodec;
+
+    private List<String> rowPayloads;
+    private long[] rowTimestamps;
+    private List<byte[]> chunks;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        encryptor = new PayloadEncryptor("");
+        chunkCodec = new SessionChunkCodec(encryptor);
+
+        long start = 1_729_228_347_000L;
+        rowPayloads = new ArrayList<>(EVENTS);
+        rowTimestamps = new long[EVENTS];
+        chunks = new ArrayList<>();
+        List<SessionChunkCodec.ChunkEvent> pending = new ArrayList<>(CHUNK_SIZE);
+        long rowBytes = 0;
+        long chunkBytes = 0;
+
+        for (int i = 0; i < EVENTS; i++) {
+            long timestamp = start + i * 16L;
+            Map<String, Object> payload = new HashMap<>();
+            payload.put("x", 400 + (i * 7) % 600);
+            payload.put("y", 200 + (i * 3) % 500);
+            payload.put("target", "div.product-card:nth-child(" + (i % 12) + ")");
+            String json = objectMapper.writeValueAsString(payload);
+
+            String encrypted = encryptor.encrypt(json);
+            rowPayloads.add(encrypted);
+            rowTimestamps[i] = timestamp;
+            rowBytes += encrypted.getBytes(StandardCharsets.US_ASCII).length + 8 + 16; // timestamp, eventType
+
+            pending.add(new SessionChunkCodec.ChunkEvent(EventType.MOUSE_MOVE, timestamp, json));
+            if (pending.size() == CHUNK_SIZE) {
+                byte[] chunk = chunkCodec.encode(pending);
+                chunks.add(chunk);
+                chunkBytes += chunk.length + 8 + 8 + 4; // first/last timestamp, eventCount
+                pending.clear();
+            }
+        }
+        System.out.printf("%n[session storage] per-row: %,d bytes, chunked: %,d bytes (%.1fx)%n",
+            rowBytes, chunkBytes, (double) rowBytes / chunkBytes);
+    }
+
+    @Benchmark
+    public void perRowPayload(Blackhole blackhole) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(new BlackholeOutputStream(blackhole))) {
+            generator.writeStartArray();
+            for (int i = 0; i < EVENTS; i++) {
+                Map<String, Object> payload = objectMapper.readValue(
+                    encryptor.decrypt(rowPayloads.get(i)), new TypeReference<Map<String, Object>>() {});
+                generator.writeStartObject();
+                generator.writeStringField("eventType", EventType.MOUSE_MOVE.name());
+                generator.writeNumberField("timestamp", rowTimestamps[i]);
+                generator.writeObjectField("payload", payload);
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+        }
+    }
+
+    @Benchmark
+    public void chunked(Blackhole blackhole) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(new BlackholeOutputStream(blackhole))) {
+            generator.writeStartArray();
+            for (byte[] chunk : chunks) {
+                chunkCodec.decode(chunk, event -> {
+                    try {
+                        generator.writeStartObject();
+                        generator.writeStringField("eventType", event.getEventType().name());
+                        generator.writeNumberField("timestamp", event.getTimestamp());
+                        generator.writeFieldName("payload");
+                        generator.writeRawValue(event.getPayloadJson());
+                        generator.writeEndObject();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+            generator.writeEndArray();
+        }
+    }
+
+    /**
+     * 응답 바이트를 버리되 JIT 가 제거하지 못하게 Blackhole 로 소비
+     */
+    private static final class BlackholeOutputStream extends OutputStream {
+
+        private final Blackhole blackhole;
+
+        private BlackholeOutputStream(Blackhole blackhole) {
+            this.blackhole = blackhole;
+        }
+
+        @Override
+        public void write(int b) {
+            blackhole.consume(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            blackhole.consume(b);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.payflow.settlement;
+
+import com.example.payflow.settlement.domain.SettlementRollup;
+import com.example.payflow.settlement.infrastructure.JdbcSettlementRollupRepository;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 한 달치 일일 정산 재집계 벤치마크 (H2 메모리 DB, 가게 200곳 x 유통업자 20곳, 1 op = 한 달 재집계)
+ * - legacy: 기존 방식 - 날짜마다 정산 조회, 행 단위 find 후 삭제, 정산마다 find-or-create + update
+ * - grouped: 그룹 스캔 한 번 + 일괄 upsert (JdbcSettlementRollupRepository)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class DailySettlementRecomputeBenchmark {
+
+    private static final LocalDate MONTH_START = LocalDate.of(2024, 3, 1);
+    private static final LocalDate MONTH_END = LocalDate.of(2024, 3, 31);
+
+    @Param({"100000"})
+    private int settlements;
+
+    private HikariDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private JdbcSettlementRollupRepository repository;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:h2:mem:settlement-recompute;DB_CLOSE_DELAY=-1");
+        config.setMaximumPoolSize(2);
+        dataSource = new HikariDataSource(config);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        repository = new JdbcSettlementRollupRepository(jdbcTemplate, 1_000);
+
+        jdbcTemplate.execute("CREATE TABLE ingredient_settlements (id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                + "store_id VARCHAR(64), distributor_id VARCHAR(64), order_type VARCHAR(20), settlement_amount BIGINT, "
+                + "paid_amount BIGINT, outstanding_amount BIGINT, settlement_date TIMESTAMP)");
+        jdbcTemplate.execute("CREATE INDEX idx_settlement_date ON ingredient_settlements (settlement_date)");
+        jdbcTemplate.execute("CREATE TABLE daily_settlements (id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                + "settlement_date DATE NOT NULL, store_id VARCHAR(64) NOT NULL, distributor_id VARCHAR(64) NOT NULL, "
+                + "order_count INT NOT NULL, total_sales_amount BIGINT NOT NULL, total_settlement_amount BIGINT NOT NULL, "
+                + "total_paid_amount BIGINT NOT NULL, total_outstanding_amount BIGINT NOT NULL, "
+                + "catalog_order_count INT NOT NULL, catalog_sales_amount BIGINT NOT NULL, "
+                + "ingredient_order_count INT NOT NULL, ingredient_sales_amount BIGINT NOT NULL, "
+                + "created_at TIMESTAMP NOT NULL, updated_at TIMESTAMP NOT NULL, "
+                + "CONSTRAINT uk_daily_settlement UNIQUE (settlement_date, store_id, distributor_id))");
+
+        Random random = new Random(42);
+        List<Object[]> rows = new ArrayList<>(settlements);
+        for (int i = 0; i < settlements; i++) {
+            long amount = 1_000L * (1 + random.nextInt(100));
+            long paid = random.nextBoolean() ? amount : 0L;
+            rows.add(new Object[]{"S" + random.nextInt(200), "D" + random.nextInt(20),
+                    random.nextBoolean() ? "CATALOG" : "INGREDIENT", amount, paid, amount - paid,
+                    Timestamp.valueOf(MONTH_START.plusDays(random.nextInt(31)).atTime(random.nextInt(24), 0))});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO ingredient_settlements (store_id, distributor_id, order_type, "
+                + "settlement_amount, paid_amount, outstanding_amount, settlement_date) VALUES (?, ?, ?, ?, ?, ?, ?)", rows);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        dataSource.close();
+    }
+
+    @Benchmark
+    public Integer legacy() {
+        return transactionTemplate.execute(status -> {
+            int rows = 0;
+            for (LocalDate date = MONTH_START; !date.isAfter(MONTH_END); date = date.plusDays(1)) {
+                List<Map<String, Object>> daily = jdbcTemplate.queryForList("SELECT store_id, distributor_id, order_type, "
+                        + "settlement_amount, paid_amount, outstanding_amount FROM ingredient_settlements "
+                        + "WHERE settlement_date >= ? AND settlement_date < ?",
+                        Timestamp.valueOf(date.atStartOfDay()), Timestamp.valueOf(date.plusDays(1).atStartOfDay()));
+                Date day = Date.valueOf(date);
+                // String[] 쌍은 distinct 되지 않으므로 정산마다 조회 후 삭제
+                for (Map<String, Object> settlement : daily) {
+                    jdbcTemplate.update("DELETE FROM daily_settlements WHERE settlement_date = ? AND store_id = ? "
+                            + "AND distributor_id = ?", day, settlement.get("STORE_ID"), settlement.get("DISTRIBUTOR_ID"));
+                }
+                for (Map<String, Object> settlement : daily) {
+                    rows += legacyAggregate(day, settlement);
+                }
+            }
+            return rows;
+        });
+    }
+
+    @Benchmark
+    public Integer grouped() {
+        return transactionTemplate.execute(status -> {
+            List<SettlementRollup> rollups = repository.aggregateSettlements(MONTH_START, MONTH_END);
+            repository.replaceRange(MONTH_START, MONTH_END, rollups, LocalDateTime.now());
+            return rollups.size();
+        });
+    }
+
+    private int legacyAggregate(Date day, Map<String, Object> settlement) {
+        Object storeId = settlement.get("STORE_ID");
+        Object distributorId = settlement.get("DISTRIBUTOR_ID");
+        List<Long> ids = jdbcTemplate.queryForList("SELECT id FROM daily_settlements WHERE settlement_date = ? "
+                + "AND store_id = ? AND distributor_id = ?", Long.class, day, storeId, distributorId);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        if (ids.isEmpty()) {
+            jdbcTemplate.update("INSERT INTO daily_settlements (settlement_date, store_id, distributor_id, order_count, "
+                    + "total_sales_amount, total_settlement_amount, total_paid_amount, total_outstanding_amount, "
+                    + "catalog_order_count, catalog_sales_amount, ingredient_order_count, ingredient_sales_amount, "
+                    + "created_at, updated_at) VALUES (?, ?, ?, 0, 0, 0, 0, 0, 0, 0, 0, 0, ?, ?)",
+                    day, storeId, distributorId, now, now);
+            ids = jdbcTemplate.queryForList("SELECT id FROM daily_settlements WHERE settlement_date = ? "
+                    + "AND store_id = ? AND distributor_id = ?", Long.class, day, storeId, distributorId);
+        }
+        boolean catalog = "CATALOG".equals(settlement.get("ORDER_TYPE"));
+        long amount = (Long) settlement.get("SETTLEMENT_AMOUNT");
+        return jdbcTemplate.update("UPDATE daily_settlements SET order_count = order_count + 1, "
+                + "total_sales_amount = total_sales_amount + ?, total_settlement_amount = total_settlement_amount + ?, "
+                + "total_paid_amount = total_paid_amount + ?, total_outstanding_amount = total_outstanding_amount + ?, "
+                + "catalog_order_count = catalog_order_count + ?, catalog_sales_amount = catalog_sales_amount + ?, "
+                + "ingredient_order_count = ingredient_order_count + ?, ingredient_sales_amount = ingredient_sales_amount + ?, "
+                + "updated_at = ? WHERE id = ?", amount, amount, settlement.get("PAID_AMOUNT"),
+                settlement.get("OUTSTANDING_AMOUNT"), catalog ? 1 : 0, catalog ? amount : 0L, catalog ? 0 : 1,
+                catalog ? 0L : amount, now, ids.get(0));
+    }
+}
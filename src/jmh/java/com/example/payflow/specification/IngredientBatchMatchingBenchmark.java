@@ -0,0 +1,105 @@
+package com.example.payflow.specification;
+
+import com.example.payflow.specification.application.*;
+import com.example.payflow.specification.domain.IngredientSynonym;
+import com.example.payflow.specification.domain.IngredientSynonymRepository;
+import com.example.payflow.specification.infrastructure.IngredientSynonymInitializer;
+import com.example.payflow.specification.infrastructure.JaroWinklerMatcher;
+import com.example.payflow.specification.presentation.dto.IngredientBatchMatchResult;
+import com.example.payflow.specification.presentation.dto.IngredientMatchResult;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.Proxy;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 명세서 재료 매칭 벤치마크 (1 op = 문서 하나의 전체 줄 매칭)
+ * - 5줄: sample-invoice.csv 품목, 200/10,000줄: 행번호/단위/괄호/오타가 섞인 OCR 형태 합성 줄 (같은 품목 반복 포함)
+ * - lineByLine: 기존 방식 - 줄마다 matchIngredient (줄마다 INFO 로그)
+ * - batch: 원본/정규화 중복 제거 + 전용 풀 병렬 정규화/매칭 + 입력 순서 조립
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class IngredientBatchMatchingBenchmark {
+
+    private static final List<String> SAMPLE_INVOICE_ITEMS = List.of("양파", "감자", "당근", "대파", "마늘");
+    private static final String[] PREFIXES = {"", "D01", ")02", "$", "8", "001 "};
+    private static final String[] SUFFIXES = {"", " 3kg", " 500g", "(국산)", " 10개", " 묶음(20)", " 2,480", " 특상"};
+    private static final String[] UNKNOWN = {"배송비", "포장재", "아이스팩", "합계", "부가세", "할인"};
+
+    @Param({"5", "200", "10000"})
+    private int lineCount;
+
+    private RuleBasedMatchingService matchingService;
+    private IngredientBatchMatchingService batchMatchingService;
+    private List<String> lines;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        List<IngredientSynonym> synonyms = new ArrayList<>();
+        IngredientSynonymRepository repository = (IngredientSynonymRepository) Proxy.newProxyInstance(
+                IngredientSynonymRepository.class.getClassLoader(), new Class<?>[]{IngredientSynonymRepository.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "count" -> (long) synonyms.size();
+                    case "saveAll" -> {
+                        ((Iterable<?>) args[0]).forEach(s -> synonyms.add((IngredientSynonym) s));
+                        yield args[0];
+                    }
+                    case "findAll" -> synonyms;
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+        ApplicationEventPublisher eventPublisher = event -> { };
+        new IngredientSynonymInitializer(repository, eventPublisher).run();
+
+        JaroWinklerMatcher jaroWinklerMatcher = new JaroWinklerMatcher();
+        IngredientNormalizer normalizer = new IngredientNormalizer();
+        IngredientSynonymIndex synonymIndex = new IngredientSynonymIndex(repository, jaroWinklerMatcher);
+        synonymIndex.rebuild();
+        matchingService = new RuleBasedMatchingService(normalizer, repository, synonymIndex, eventPublisher);
+        batchMatchingService = new IngredientBatchMatchingService(normalizer, matchingService, synonymIndex, null, null);
+        ReflectionTestUtils.setField(batchMatchingService, "parallelism", 4);
+        ReflectionTestUtils.setField(batchMatchingService, "parallelThreshold", 256);
+        batchMatchingService.init();
+
+        if (lineCount <= SAMPLE_INVOICE_ITEMS.size()) {
+            lines = SAMPLE_INVOICE_ITEMS.subList(0, lineCount);
+            return;
+        }
+        Random random = new Random(42);
+        List<String> names = synonyms.stream().map(IngredientSynonym::getSynonym).collect(Collectors.toList());
+        lines = new ArrayList<>(lineCount);
+        for (int i = 0; i < lineCount; i++) {
+            String name = random.nextInt(10) == 0
+                    ? UNKNOWN[random.nextInt(UNKNOWN.length)]
+                    : names.get(random.nextInt(names.size()));
+            if (random.nextInt(8) == 0 && name.length() > 2) {
+                // OCR 오타: 글자 하나 누락
+                int drop = random.nextInt(name.length());
+                name = name.substring(0, drop) + name.substring(drop + 1);
+            }
+            lines.add(PREFIXES[random.nextInt(PREFIXES.length)] + name + SUFFIXES[random.nextInt(SUFFIXES.length)]);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        batchMatchingService.shutdown();
+    }
+
+    @Benchmark
+    public List<IngredientMatchResult> lineByLine() {
+        return lines.stream()
+                .map(matchingService::matchIngredient)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    public IngredientBatchMatchResult batch() {
+        return batchMatchingService.matchLines(lines);
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.payflow.specification;
+
+import com.example.payflow.specification.application.IngredientNormalizer;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OCR 품목명 정규화 벤치마크 (1 op = OCR 줄 20개 정규화)
+ * - patterns: 기존 방식 - 정규식/replaceAll 10여 단계, 단계마다 새 문자열
+ * - fastPath: 한 번의 문자 순회 + 스레드별 버퍼 + 헤더/불용어 trie
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class IngredientNormalizerBenchmark {
+
+    private static final List<String> LINES = List.of(
+            "D01지리산샘물 500mL.묶음(20)", ")02처음처럼(병)360m|", "$3참이슬 후레쉬 360ml", "001 양파 3kg",
+            "황양파(국산) 10kg", "감자 20,000", "당근 15 4,000", "깐마늘 1kg [냉장]", "닭가슴살 냉동 2kg",
+            "chicken breast 2kg", "돼지고기 앞다리살 (국내산)", "삼겹살 특상 1kg", "청양고추 500g", "방울토마토 1kg 팩",
+            "맥주 500ml*24캔", "소주 360mlx20병", "상품명", "합계금액", "8801234567890", "고춧가루 1kg (중국산)");
+
+    private IngredientNormalizer normalizer;
+    private MethodHandle normalizeWithPatterns;
+
+    @Setup(Level.Trial)
+    public void setup() throws Exception {
+        normalizer = new IngredientNormalizer();
+        // 기준 경로는 패키지 전용 메서드라 리플렉션으로 연다
+        normalizeWithPatterns = MethodHandles.privateLookupIn(IngredientNormalizer.class, MethodHandles.lookup())
+                .findVirtual(IngredientNormalizer.class, "normalizeWithPatterns",
+                        MethodType.methodType(String.class, String.class));
+    }
+
+    @Benchmark
+    public void fastPath(Blackhole blackhole) {
+        for (String line : LINES) {
+            blackhole.consume(normalizer.normalize(line));
+        }
+    }
+
+    @Benchmark
+    public void patterns(Blackhole blackhole) throws Throwable {
+        for (String line : LINES) {
+            blackhole.consume((String) normalizeWithPatterns.invokeExact(normalizer, line));
+        }
+    }
+}
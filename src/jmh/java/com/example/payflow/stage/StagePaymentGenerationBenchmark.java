@@ -0,0 +1,125 @@
+package com.example.payflow.stage;
+
+import com.example.payflow.stage.application.StagePaymentService;
+import com.example.payflow.stage.domain.Stage;
+import com.example.payflow.stage.domain.StageStatus;
+import com.example.payflow.stage.infrastructure.JdbcStageBatchRepository;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 결제일 월별 결제 생성 벤치마크 (H2 메모리 DB, 스테이지 1,000개 x 참여자 10명, 1 op = 결제일 하루치 생성)
+ * - legacy: 기존 방식 - 스테이지마다 트랜잭션, 참여자마다 존재 조회 후 insert
+ * - chunked: 200개 청크마다 집합 조회 + batch insert (StagePaymentService.generatePaymentsForStages)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class StagePaymentGenerationBenchmark {
+
+    private static final LocalDate RUN_DATE = LocalDate.of(2024, 3, 15);
+    private static final int PARTICIPANTS = 10;
+    private static final int CHUNK_SIZE = 200;
+
+    @Param({"1000"})
+    private int stageCount;
+
+    private HikariDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private StagePaymentService paymentService;
+    private final List<Stage> stages = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void setup() {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl("jdbc:h2:mem:stage-payments;DB_CLOSE_DELAY=-1");
+        config.setMaximumPoolSize(2);
+        dataSource = new HikariDataSource(config);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        // 청크 생성은 batchRepository 만 사용
+        paymentService = new StagePaymentService(null, null, null, null, new JdbcStageBatchRepository(jdbcTemplate, 1_000));
+
+        jdbcTemplate.execute("CREATE TABLE stage_participants (id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                + "stage_id BIGINT NOT NULL, username VARCHAR(64) NOT NULL, turn_number INT NOT NULL, "
+                + "CONSTRAINT uk_stage_turn UNIQUE (stage_id, turn_number))");
+        jdbcTemplate.execute("CREATE TABLE stage_payments (id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                + "stage_id BIGINT NOT NULL, username VARCHAR(64) NOT NULL, month_number INT NOT NULL, "
+                + "amount DECIMAL(19, 2) NOT NULL, is_paid BOOLEAN NOT NULL, due_date TIMESTAMP NOT NULL, "
+                + "CONSTRAINT uk_stage_payment UNIQUE (stage_id, username, month_number))");
+
+        List<Object[]> participants = new ArrayList<>();
+        for (long id = 1; id <= stageCount; id++) {
+            Stage stage = new Stage("stage-" + id, PARTICIPANTS, new BigDecimal("100000"), new BigDecimal("0.05"), 15);
+            ReflectionTestUtils.setField(stage, "id", id);
+            ReflectionTestUtils.setField(stage, "status", StageStatus.ACTIVE);
+            ReflectionTestUtils.setField(stage, "startDate", LocalDate.of(2024, 1, 15));
+            stages.add(stage);
+            for (int turn = 1; turn <= PARTICIPANTS; turn++) {
+                participants.add(new Object[]{id, "s" + id + "-user" + turn, turn});
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO stage_participants (stage_id, username, turn_number) VALUES (?, ?, ?)",
+                participants);
+    }
+
+    @Setup(Level.Invocation)
+    public void clearPayments() {
+        jdbcTemplate.execute("TRUNCATE TABLE stage_payments");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        dataSource.close();
+    }
+
+    @Benchmark
+    public int legacy() {
+        int created = 0;
+        for (Stage stage : stages) {
+            created += transactionTemplate.execute(status -> {
+                int monthNumber = stage.getMonthNumberOn(RUN_DATE);
+                Timestamp dueDate = Timestamp.valueOf(stage.getStartDate().plusMonths(monthNumber - 1)
+                        .withDayOfMonth(stage.getPaymentDay()).atTime(23, 59, 59));
+                List<String> usernames = jdbcTemplate.queryForList(
+                        "SELECT username FROM stage_participants WHERE stage_id = ?", String.class, stage.getId());
+                int inserted = 0;
+                for (String username : usernames) {
+                    List<Long> existing = jdbcTemplate.queryForList("SELECT id FROM stage_payments WHERE stage_id = ? "
+                            + "AND username = ? AND month_number = ?", Long.class, stage.getId(), username, monthNumber);
+                    if (existing.isEmpty()) {
+                        inserted += jdbcTemplate.update("INSERT INTO stage_payments (stage_id, username, month_number, "
+                                + "amount, is_paid, due_date) VALUES (?, ?, ?, ?, FALSE, ?)",
+                                stage.getId(), username, monthNumber, stage.getMonthlyPayment(), dueDate);
+                    }
+                }
+                return inserted;
+            });
+        }
+        return created;
+    }
+
+    @Benchmark
+    public int chunked() {
+        int created = 0;
+        for (int from = 0; from < stages.size(); from += CHUNK_SIZE) {
+            List<Stage> chunk = stages.subList(from, Math.min(from + CHUNK_SIZE, stages.size()));
+            created += transactionTemplate.execute(status ->
+                    paymentService.generatePaymentsForStages(chunk, RUN_DATE).size());
+        }
+        return created;
+    }
+}
@@ -23,34 +23,26 @@ public class ApplicantMatchingService {
     private final ApplicantRepository applicantRepository;
     private final AinjobJobPostingRepository jobPostingRepository;
     private final ApplicationTrackingRepository applicationTrackingRepository;
+    private final ApplicantScreeningEngine screeningEngine;
     private final Gson gson = new Gson();
     
     /**
      * 특정 채용 공고에 지원한 지원자 중 자격 요건을 충족하는 지원자 목록 조회
+     * (공고 자격 요건을 심사 계획으로 한 번 풀고, 지원자는 컬럼형 스냅샷 배치로 평가)
      */
     public List<QualifiedApplicantResponse> getQualifiedApplicants(Long jobPostingId) {
         // 채용 공고 조회
         AinjobJobPosting jobPosting = jobPostingRepository.findByIdWithSkills(jobPostingId)
             .orElseThrow(() -> new IllegalArgumentException("채용 공고를 찾을 수 없습니다: " + jobPostingId));
         
-        // 해당 공고에 지원한 지원자 ID 목록
-        List<Long> applicantIds = applicationTrackingRepository.findByJobPostingId(jobPostingId)
-            .stream()
-            .map(ApplicationTracking::getApplicantId)
-            .collect(Collectors.toList());
-        
-        if (applicantIds.isEmpty()) {
-            return Collections.emptyList();
-        }
+        QualificationScreeningPlan plan = screeningEngine.compile(jobPosting);
         
-        // 지원자 상세 정보 조회
-        List<Applicant> applicants = applicantRepository.findByIdInWithDetails(applicantIds);
+        // 해당 공고 지원자 일괄 심사 (지원자 id 순)
+        List<QualifiedApplicantResponse> results = new ArrayList<>();
+        screeningEngine.screen(plan, true, results::addAll);
         
-        // 각 지원자의 자격 요건 매칭 평가
-        return applicants.stream()
-            .map(applicant -> evaluateApplicant(applicant, jobPosting))
-            .sorted(Comparator.comparing(QualifiedApplicantResponse::getMatchingScore).reversed())
-            .collect(Collectors.toList());
+        results.sort(Comparator.comparing(QualifiedApplicantResponse::getMatchingScore).reversed());
+        return results;
     }
     
     /**
@@ -69,68 +61,6 @@ public class ApplicantMatchingService {
         return calculateDetailedScore(applicant, jobPosting);
     }
     
-    /**
-     * 지원자 평가
-     */
-    private QualifiedApplicantResponse evaluateApplicant(Applicant applicant, AinjobJobPosting jobPosting) {
-        Qualification qualification = jobPosting.getQualification();
-        
-        // 1. 학력 체크
-        EducationLevel highestEducation = getHighestEducation(applicant);
-        boolean educationMatched = checkEducation(highestEducation, qualification.getMinEducationLevel());
-        
-        // 2. 전공 체크
-        String majorName = getHighestEducationMajor(applicant);
-        List<String> acceptedMajors = parseAcceptedMajors(qualification.getAcceptedMajors());
-        boolean majorMatched = checkMajor(majorName, acceptedMajors);
-        
-        // 3. 스킬 체크 (대소문자 무시, 원본 이름 유지)
-        Set<String> applicantSkillsLower = getApplicantSkills(applicant);
-        Set<String> requiredSkillsLower = getRequiredSkills(jobPosting);
-        boolean skillsMatched = checkSkills(applicantSkillsLower, requiredSkillsLower);
-        
-        // 원본 스킬명 가져오기
-        List<String> applicantSkillsOriginal = applicant.getCareers().stream()
-            .flatMap(career -> career.getSkills().stream())
-            .map(cs -> cs.getSkill().getName())
-            .distinct()
-            .collect(Collectors.toList());
-        
-        // 4. 경력 체크
-        double totalExperience = calculateTotalExperience(applicant);
-        boolean experienceMatched = totalExperience >= qualification.getMinYearsOfExperience();
-        
-        // 매칭 점수 계산 (각 항목 25점)
-        int matchingScore = 0;
-        if (educationMatched) matchingScore += 25;
-        if (majorMatched) matchingScore += 25;
-        if (skillsMatched) matchingScore += 25;
-        if (experienceMatched) matchingScore += 25;
-        
-        // 자격 충족 여부
-        boolean isQualified = educationMatched && majorMatched && skillsMatched && experienceMatched;
-        
-        // 매칭 사유
-        String matchingReason = buildMatchingReason(educationMatched, majorMatched, skillsMatched, experienceMatched);
-        
-        return new QualifiedApplicantResponse(
-            applicant.getId(),
-            applicant.getName(),
-            applicant.getEmail(),
-            highestEducation != null ? highestEducation.name() : "없음",
-            majorName,
-            applicantSkillsOriginal,
-            totalExperience,
-            matchingScore,
-            matchingReason,
-            isQualified,
-            educationMatched,
-            majorMatched,
-            skillsMatched,
-            experienceMatched
-        );
-    }
-    
     /**
      * 상세 점수 계산
      */
@@ -258,24 +188,6 @@ public class ApplicantMatchingService {
         return acceptedMajors.contains(applicantMajor);
     }
     
-    private Set<String> getApplicantSkills(Applicant applicant) {
-        return applicant.getCareers().stream()
-            .flatMap(career -> career.getSkills().stream())
-            .map(cs -> cs.getSkill().getName().toLowerCase().trim())
-            .collect(Collectors.toSet());
-    }
-    
-    private Set<String> getRequiredSkills(AinjobJobPosting jobPosting) {
-        return jobPosting.getRequiredSkills().stream()
-            .filter(JobPostingSkill::getIsRequired)
-            .map(jps -> jps.getSkill().getName().toLowerCase().trim())
-            .collect(Collectors.toSet());
-    }
-    
-    private boolean checkSkills(Set<String> applicantSkills, Set<String> requiredSkills) {
-        return applicantSkills.containsAll(requiredSkills);
-    }
-    
     private double calculateTotalExperience(Applicant applicant) {
         return applicant.getCareers().stream()
             .mapToDouble(career -> {
@@ -286,20 +198,4 @@ public class ApplicantMatchingService {
             })
             .sum();
     }
-    
-    private String buildMatchingReason(boolean education, boolean major, boolean skills, boolean experience) {
-        List<String> passed = new ArrayList<>();
-        List<String> failed = new ArrayList<>();
-        
-        if (education) passed.add("학력"); else failed.add("학력");
-        if (major) passed.add("전공"); else failed.add("전공");
-        if (skills) passed.add("스킬"); else failed.add("스킬");
-        if (experience) passed.add("경력"); else failed.add("경력");
-        
-        if (failed.isEmpty()) {
-            return "모든 자격 요건 충족";
-        } else {
-            return "충족: " + String.join(", ", passed) + " / 미충족: " + String.join(", ", failed);
-        }
-    }
 }
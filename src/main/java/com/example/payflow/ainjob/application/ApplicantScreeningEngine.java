@@ -0,0 +1,108 @@
+package com.example.payflow.ainjob.application;
+
+import com.example.payflow.ainjob.application.dto.QualifiedApplicantResponse;
+import com.example.payflow.ainjob.domain.AinjobJobPosting;
+import com.example.payflow.ainjob.domain.AinjobJobPostingRepository;
+import com.example.payflow.ainjob.domain.ApplicantRepository;
+import com.google.gson.Gson;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * 공고 자격 요건 일괄 심사 엔진
+ * - 공고마다 QualificationScreeningPlan 을 한 번 만들고
+ * - 지원자를 id 순 keyset 페이지로 batch-size 명씩 컬럼 조회해 스냅샷을 만든 뒤
+ * - 스냅샷이 parallel-threshold 명 이상이면 병렬로 평가해 배치 단위로 넘긴다 (배치 안 순서는 지원자 id 순)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ApplicantScreeningEngine {
+
+    private final AinjobJobPostingRepository jobPostingRepository;
+    private final ApplicantRepository applicantRepository;
+    private final Gson gson = new Gson();
+
+    @Value("${ainjob.screening.batch-size:2000}")
+    private int batchSize;
+
+    @Value("${ainjob.screening.parallel-threshold:1024}")
+    private int parallelThreshold;
+
+    @Transactional(readOnly = true)
+    public QualificationScreeningPlan compile(Long jobPostingId) {
+        AinjobJobPosting jobPosting = jobPostingRepository.findByIdWithSkills(jobPostingId)
+            .orElseThrow(() -> new IllegalArgumentException("채용 공고를 찾을 수 없습니다: " + jobPostingId));
+        return compile(jobPosting);
+    }
+
+    public QualificationScreeningPlan compile(AinjobJobPosting jobPosting) {
+        return QualificationScreeningPlan.compile(jobPosting, gson);
+    }
+
+    /**
+     * 지원자 배치를 차례로 심사해 batchConsumer 로 넘긴다
+     *
+     * @param appliedOnly true 면 해당 공고 지원자만, false 면 전체 지원자 풀
+     * @return 심사한 지원자 수
+     */
+    public long screen(QualificationScreeningPlan plan, boolean appliedOnly,
+                       Consumer<List<QualifiedApplicantResponse>> batchConsumer) {
+        Long scope = appliedOnly ? plan.getJobPostingId() : null;
+        long startTime = System.currentTimeMillis();
+        long afterId = 0L;
+        long screened = 0;
+
+        while (true) {
+            List<Object[]> applicantRows =
+                applicantRepository.findScreeningRows(scope, afterId, PageRequest.of(0, batchSize));
+            if (applicantRows.isEmpty()) {
+                break;
+            }
+            List<Long> ids = applicantRows.stream()
+                .map(row -> (Long) row[0])
+                .collect(Collectors.toList());
+
+            ApplicantScreeningSnapshot snapshot = ApplicantScreeningSnapshot.of(plan, applicantRows,
+                applicantRepository.findEducationRows(ids),
+                applicantRepository.findCareerRows(ids),
+                applicantRepository.findCareerSkillRows(ids),
+                LocalDate.now());
+            batchConsumer.accept(evaluate(plan, snapshot));
+
+            screened += snapshot.size();
+            afterId = ids.get(ids.size() - 1);
+            if (applicantRows.size() < batchSize) {
+                break;
+            }
+        }
+
+        log.debug("🔎 지원자 일괄 심사 완료: 공고 {}, {}명, {}ms",
+            plan.getJobPostingId(), screened, System.currentTimeMillis() - startTime);
+        return screened;
+    }
+
+    /**
+     * 스냅샷 전체 평가 (지원자 순서 유지)
+     */
+    public List<QualifiedApplicantResponse> evaluate(QualificationScreeningPlan plan,
+                                                     ApplicantScreeningSnapshot snapshot) {
+        IntStream indexes = IntStream.range(0, snapshot.size());
+        if (snapshot.size() >= parallelThreshold) {
+            indexes = indexes.parallel();
+        }
+        return indexes
+            .mapToObj(index -> plan.evaluate(snapshot, index))
+            .collect(Collectors.toList());
+    }
+}
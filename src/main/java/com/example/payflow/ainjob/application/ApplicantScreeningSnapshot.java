@@ -0,0 +1,141 @@
+package com.example.payflow.ainjob.application;
+
+import com.example.payflow.ainjob.domain.EducationLevel;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+
+/**
+ * 지원자 한 배치의 컬럼형 스냅샷 (심사 계획 기준으로 인코딩)
+ * - 최고 학력 ordinal / 최고 학력 첫 전공 / 필수 스킬 비트 마스크 / 총 경력 연수를 지원자 순서대로 배열에 담는다
+ * - 입력은 엔티티가 아니라 ApplicantRepository 의 컬럼 조회 결과 (Object[] 행)
+ *   지원자: (id, 이름, 이메일), 학력: (지원자 id, 학력, 전공명), 경력: (지원자 id, 시작일, 종료일), 경력 스킬: (지원자 id, 스킬명)
+ * - 학력/경력/스킬 행은 기존 엔티티 컬렉션 순서와 같도록 id 순으로 받는다
+ */
+public final class ApplicantScreeningSnapshot {
+
+    private static final int NO_EDUCATION = -1;
+    private static final EducationLevel[] EDUCATION_LEVELS = EducationLevel.values();
+
+    private final long[] applicantIds;
+    private final String[] names;
+    private final String[] emails;
+    private final int[] educationOrdinals;
+    private final String[] majorNames;
+    private final long[] skillMasks;
+    private final double[] experienceYears;
+    private final List<List<String>> skillNames;
+
+    private ApplicantScreeningSnapshot(int size, int skillWords) {
+        applicantIds = new long[size];
+        names = new String[size];
+        emails = new String[size];
+        educationOrdinals = new int[size];
+        Arrays.fill(educationOrdinals, NO_EDUCATION);
+        majorNames = new String[size];
+        skillMasks = new long[size * skillWords];
+        experienceYears = new double[size];
+        skillNames = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            skillNames.add(new ArrayList<>());
+        }
+    }
+
+    public static ApplicantScreeningSnapshot of(QualificationScreeningPlan plan, List<Object[]> applicantRows,
+                                                List<Object[]> educationRows, List<Object[]> careerRows,
+                                                List<Object[]> careerSkillRows, LocalDate today) {
+        int skillWords = plan.skillWords();
+        ApplicantScreeningSnapshot snapshot = new ApplicantScreeningSnapshot(applicantRows.size(), skillWords);
+        Map<Long, Integer> indexById = new HashMap<>(applicantRows.size() * 2);
+        for (int i = 0; i < applicantRows.size(); i++) {
+            Object[] row = applicantRows.get(i);
+            snapshot.applicantIds[i] = (Long) row[0];
+            snapshot.names[i] = (String) row[1];
+            snapshot.emails[i] = (String) row[2];
+            indexById.put((Long) row[0], i);
+        }
+
+        // 최고 학력 (같은 학력이 여럿이면 먼저 나온 학력의 전공)
+        for (Object[] row : educationRows) {
+            Integer index = indexById.get((Long) row[0]);
+            if (index == null) {
+                continue;
+            }
+            int ordinal = ((EducationLevel) row[1]).ordinal();
+            if (ordinal > snapshot.educationOrdinals[index]) {
+                snapshot.educationOrdinals[index] = ordinal;
+                snapshot.majorNames[index] = (String) row[2];
+            }
+        }
+
+        // 총 경력 (경력마다 일수 / 365.25, 종료일이 없으면 오늘까지)
+        for (Object[] row : careerRows) {
+            Integer index = indexById.get((Long) row[0]);
+            if (index == null) {
+                continue;
+            }
+            LocalDate end = row[2] != null ? (LocalDate) row[2] : today;
+            snapshot.experienceYears[index] += ChronoUnit.DAYS.between((LocalDate) row[1], end) / 365.25;
+        }
+
+        // 스킬: 필수 스킬 비트 마스크 + 응답용 원본 이름 (중복 제거, 처음 나온 순서)
+        for (Object[] row : careerSkillRows) {
+            Integer index = indexById.get((Long) row[0]);
+            if (index == null) {
+                continue;
+            }
+            String skillName = (String) row[1];
+            int bit = plan.skillBit(skillName);
+            if (bit >= 0) {
+                snapshot.skillMasks[index * skillWords + (bit >>> 6)] |= 1L << bit;
+            }
+            List<String> names = snapshot.skillNames.get(index);
+            if (!names.contains(skillName)) {
+                names.add(skillName);
+            }
+        }
+        return snapshot;
+    }
+
+    public int size() {
+        return applicantIds.length;
+    }
+
+    Long applicantId(int index) {
+        return applicantIds[index];
+    }
+
+    String name(int index) {
+        return names[index];
+    }
+
+    String email(int index) {
+        return emails[index];
+    }
+
+    int educationOrdinal(int index) {
+        return educationOrdinals[index];
+    }
+
+    String educationName(int index) {
+        int ordinal = educationOrdinals[index];
+        return ordinal == NO_EDUCATION ? "없음" : EDUCATION_LEVELS[ordinal].name();
+    }
+
+    String majorName(int index) {
+        return majorNames[index];
+    }
+
+    long skillMaskWord(int position) {
+        return skillMasks[position];
+    }
+
+    double experienceYears(int index) {
+        return experienceYears[index];
+    }
+
+    List<String> skillNames(int index) {
+        return skillNames.get(index);
+    }
+}
@@ -0,0 +1,167 @@
+package com.example.payflow.ainjob.application;
+
+import com.example.payflow.ainjob.application.dto.QualifiedApplicantResponse;
+import com.example.payflow.ainjob.domain.AinjobJobPosting;
+import com.example.payflow.ainjob.domain.JobPostingSkill;
+import com.example.payflow.ainjob.domain.Qualification;
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
+import lombok.Getter;
+
+import java.lang.reflect.Type;
+import java.util.*;
+
+/**
+ * 공고 자격 요건을 한 번만 풀어 둔 심사 계획 (지원자마다 JSON 파싱/Set 생성을 반복하지 않음)
+ * - 학력: 최소 학력 ordinal, 전공: 허용 전공 HashSet, 경력: 최소 연수
+ * - 필수 스킬: 소문자/trim 이름마다 비트 번호를 매겨 지원자 스킬 마스크로 포함 여부를 본다
+ * - 판정 규칙은 기존 ApplicantMatchingService 평가와 같다 (최소 학력이 없으면 학력 미충족, 허용 전공이 없으면 전공 미충족)
+ * - 최소 경력이 비어 있으면 0년으로 본다
+ */
+public final class QualificationScreeningPlan {
+
+    private static final int NO_EDUCATION = -1;
+    private static final int SCORE_PER_ITEM = 25;
+    private static final String[] REASONS = buildReasons();
+
+    @Getter
+    private final Long jobPostingId;
+    private final int minEducationOrdinal;
+    private final Set<String> acceptedMajors;
+    private final Map<String, Integer> requiredSkillBits;
+    private final long[] requiredSkillMask;
+    private final double minYearsOfExperience;
+
+    private QualificationScreeningPlan(Long jobPostingId, int minEducationOrdinal, Set<String> acceptedMajors,
+                                       Map<String, Integer> requiredSkillBits, double minYearsOfExperience) {
+        this.jobPostingId = jobPostingId;
+        this.minEducationOrdinal = minEducationOrdinal;
+        this.acceptedMajors = acceptedMajors;
+        this.requiredSkillBits = requiredSkillBits;
+        this.requiredSkillMask = new long[skillWords(requiredSkillBits.size())];
+        for (int bit : requiredSkillBits.values()) {
+            requiredSkillMask[bit >>> 6] |= 1L << bit;
+        }
+        this.minYearsOfExperience = minYearsOfExperience;
+    }
+
+    /**
+     * 공고의 자격 요건/필수 스킬로 계획 생성 (requiredSkills 의 skill 이름을 읽으므로 트랜잭션 안에서 호출)
+     */
+    public static QualificationScreeningPlan compile(AinjobJobPosting jobPosting, Gson gson) {
+        Qualification qualification = jobPosting.getQualification();
+
+        int minEducation = qualification != null && qualification.getMinEducationLevel() != null
+            ? qualification.getMinEducationLevel().ordinal() : Integer.MAX_VALUE;
+        Set<String> majors = qualification != null
+            ? parseAcceptedMajors(qualification.getAcceptedMajors(), gson) : Collections.emptySet();
+        double minYears = qualification != null && qualification.getMinYearsOfExperience() != null
+            ? qualification.getMinYearsOfExperience() : 0.0;
+
+        Map<String, Integer> skillBits = new HashMap<>();
+        for (JobPostingSkill jobPostingSkill : jobPosting.getRequiredSkills()) {
+            if (jobPostingSkill.getIsRequired()) {
+                skillBits.putIfAbsent(normalizeSkill(jobPostingSkill.getSkill().getName()), skillBits.size());
+            }
+        }
+        return new QualificationScreeningPlan(jobPosting.getId(), minEducation, majors, skillBits, minYears);
+    }
+
+    /**
+     * 지원자 스킬 이름의 비트 번호 (필수 스킬이 아니면 -1)
+     */
+    int skillBit(String skillName) {
+        return requiredSkillBits.getOrDefault(normalizeSkill(skillName), -1);
+    }
+
+    int skillWords() {
+        return requiredSkillMask.length;
+    }
+
+    /**
+     * 스냅샷 i 번째 지원자 평가 (스냅샷은 읽기 전용이라 여러 스레드에서 동시에 호출해도 된다)
+     */
+    public QualifiedApplicantResponse evaluate(ApplicantScreeningSnapshot snapshot, int index) {
+        int education = snapshot.educationOrdinal(index);
+        boolean educationMatched = education != NO_EDUCATION && education >= minEducationOrdinal;
+
+        String majorName = snapshot.majorName(index);
+        boolean majorMatched = majorName != null && acceptedMajors.contains(majorName);
+
+        boolean skillsMatched = true;
+        int offset = index * requiredSkillMask.length;
+        for (int word = 0; word < requiredSkillMask.length; word++) {
+            if ((snapshot.skillMaskWord(offset + word) & requiredSkillMask[word]) != requiredSkillMask[word]) {
+                skillsMatched = false;
+                break;
+            }
+        }
+
+        double totalExperience = snapshot.experienceYears(index);
+        boolean experienceMatched = totalExperience >= minYearsOfExperience;
+
+        int matchedFlags = (educationMatched ? 8 : 0) | (majorMatched ? 4 : 0)
+            | (skillsMatched ? 2 : 0) | (experienceMatched ? 1 : 0);
+
+        return new QualifiedApplicantResponse(
+            snapshot.applicantId(index),
+            snapshot.name(index),
+            snapshot.email(index),
+            snapshot.educationName(index),
+            majorName,
+            snapshot.skillNames(index),
+            totalExperience,
+            Integer.bitCount(matchedFlags) * SCORE_PER_ITEM,
+            REASONS[matchedFlags],
+            matchedFlags == 15,
+            educationMatched,
+            majorMatched,
+            skillsMatched,
+            experienceMatched
+        );
+    }
+
+    static String normalizeSkill(String skillName) {
+        return skillName.toLowerCase().trim();
+    }
+
+    static int skillWords(int skillCount) {
+        return (skillCount + 63) >>> 6;
+    }
+
+    private static Set<String> parseAcceptedMajors(String acceptedMajorsJson, Gson gson) {
+        if (acceptedMajorsJson == null || acceptedMajorsJson.isEmpty()) {
+            return Collections.emptySet();
+        }
+        try {
+            Type listType = new TypeToken<List<String>>(){}.getType();
+            List<String> majors = gson.fromJson(acceptedMajorsJson, listType);
+            return majors != null ? new HashSet<>(majors) : Collections.emptySet();
+        } catch (Exception e) {
+            return Collections.emptySet();
+        }
+    }
+
+    /**
+     * 충족 여부 4비트(학력/전공/스킬/경력) 조합별 매칭 사유 문구
+     */
+    private static String[] buildReasons() {
+        String[] labels = {"학력", "전공", "스킬", "경력"};
+        String[] reasons = new String[16];
+        for (int flags = 0; flags < 16; flags++) {
+            List<String> passed = new ArrayList<>();
+            List<String> failed = new ArrayList<>();
+            for (int item = 0; item < 4; item++) {
+                if ((flags & (8 >>> item)) != 0) {
+                    passed.add(labels[item]);
+                } else {
+                    failed.add(labels[item]);
+                }
+            }
+            reasons[flags] = failed.isEmpty()
+                ? "모든 자격 요건 충족"
+                : "충족: " + String.join(", ", passed) + " / 미충족: " + String.join(", ", failed);
+        }
+        return reasons;
+    }
+}
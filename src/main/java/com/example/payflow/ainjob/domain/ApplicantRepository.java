@@ -1,5 +1,6 @@
 package com.example.payflow.ainjob.domain;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -47,4 +48,27 @@ public interface ApplicantRepository extends JpaRepository<Applicant, Long> {
         }
         return applicants;
     }
+    
+    // 자격 심사 스냅샷 적재용 (엔티티 그래프 없이 필요한 컬럼만, 지원자 id 순 keyset 페이지)
+    // jobPostingId 가 null 이면 전체 지원자, 아니면 해당 공고 지원자만
+    @Query("SELECT a.id, a.name, a.email FROM Applicant a " +
+           "WHERE a.id > :afterId " +
+           "AND (:jobPostingId IS NULL OR a.id IN " +
+           "(SELECT t.applicantId FROM ApplicationTracking t WHERE t.jobPostingId = :jobPostingId)) " +
+           "ORDER BY a.id")
+    java.util.List<Object[]> findScreeningRows(@Param("jobPostingId") Long jobPostingId,
+                                                @Param("afterId") Long afterId,
+                                                Pageable pageable);
+    
+    @Query("SELECT e.applicant.id, e.level, m.name FROM Education e LEFT JOIN e.major m " +
+           "WHERE e.applicant.id IN :ids ORDER BY e.id")
+    java.util.List<Object[]> findEducationRows(@Param("ids") java.util.List<Long> ids);
+    
+    @Query("SELECT c.applicant.id, c.startDate, c.endDate FROM Career c " +
+           "WHERE c.applicant.id IN :ids ORDER BY c.id")
+    java.util.List<Object[]> findCareerRows(@Param("ids") java.util.List<Long> ids);
+    
+    @Query("SELECT c.applicant.id, s.name FROM CareerSkill cs JOIN cs.career c JOIN cs.skill s " +
+           "WHERE c.applicant.id IN :ids ORDER BY c.id, cs.id")
+    java.util.List<Object[]> findCareerSkillRows(@Param("ids") java.util.List<Long> ids);
 }
@@ -1,13 +1,22 @@
 package com.example.payflow.ainjob.presentation;
 
+import com.example.payflow.ainjob.application.ApplicantScreeningEngine;
 import com.example.payflow.ainjob.application.JobPostingService;
+import com.example.payflow.ainjob.application.QualificationScreeningPlan;
 import com.example.payflow.ainjob.application.dto.JobPostingCreateRequest;
 import com.example.payflow.ainjob.application.dto.JobPostingResponse;
+import com.example.payflow.ainjob.application.dto.QualifiedApplicantResponse;
 import com.example.payflow.ainjob.domain.JobPostingStatus;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 
 @RestController
@@ -17,6 +26,8 @@ public class AinjobJobPostingController {
     
     private final JobPostingService jobPostingService;
     private final com.example.payflow.ainjob.application.ApplicantMatchingService applicantMatchingService;
+    private final ApplicantScreeningEngine screeningEngine;
+    private final ObjectMapper objectMapper;
     
     @PostMapping
     public ResponseEntity<JobPostingResponse> createJobPosting(@RequestBody JobPostingCreateRequest request) {
@@ -67,4 +78,43 @@ public class AinjobJobPostingController {
             applicantMatchingService.getQualifiedApplicants(id);
         return ResponseEntity.ok(responses);
     }
+    
+    /**
+     * 공고 자격 요건으로 지원자 일괄 재심사
+     * 배치마다 심사 결과를 JSON 배열에 바로 써 내려간다 (지원자 id 순, 점수 정렬 없음)
+     * - allApplicants=false: 해당 공고 지원자, true: 전체 지원자 풀
+     * - qualifiedOnly=true: 모든 자격 요건을 충족한 지원자만
+     */
+    @GetMapping("/{id}/screening")
+    public ResponseEntity<StreamingResponseBody> screenApplicants(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "false") boolean allApplicants,
+            @RequestParam(defaultValue = "false") boolean qualifiedOnly) {
+        QualificationScreeningPlan plan = screeningEngine.compile(id);
+        
+        StreamingResponseBody body = out -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                generator.writeStartArray();
+                screeningEngine.screen(plan, !allApplicants, batch -> writeBatch(generator, batch, qualifiedOnly));
+                generator.writeEndArray();
+            }
+        };
+        
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(body);
+    }
+    
+    private void writeBatch(JsonGenerator generator, List<QualifiedApplicantResponse> batch, boolean qualifiedOnly) {
+        try {
+            for (QualifiedApplicantResponse response : batch) {
+                if (!qualifiedOnly || response.getIsQualified()) {
+                    generator.writeObject(response);
+                }
+            }
+            generator.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
@@ -0,0 +1,16 @@
+package com.example.payflow.auction.application;
+
+import java.time.LocalDateTime;
+
+/**
+ * 경매 시작/종료 타이머 만료 시 호출되는 처리기
+ */
+public interface AuctionLifecycleHandler {
+
+    void onStart(Long auctionId);
+
+    /**
+     * @return 종료했으면 null, 스나이핑 방지로 마감이 연장됐으면 새 마감 시각
+     */
+    LocalDateTime onClose(Long auctionId);
+}
@@ -0,0 +1,190 @@
+package com.example.payflow.auction.application;
+
+import com.example.payflow.auction.application.dto.AuctionTimerStats;
+import com.example.payflow.auction.infrastructure.HierarchicalTimingWheel;
+import com.example.payflow.common.metrics.LatencyHistogram;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 경매 시작/종료 타이머 (분 단위 폴링 대체)
+ * - 경매별 시작/종료 시각을 계층형 타이밍 휠에 등록해 해당 tick 에 바로 처리
+ * - 트랜잭션 안에서 등록하면 커밋 후에 휠에 올린다 (커밋 전 만료로 경매를 못 찾는 일이 없도록)
+ * - 예정 시각 대비 발화/완료 지연을 히스토그램으로 기록
+ * - 종료 처리가 실패하면(입찰 저장 미완료 등) close-retry-ms 뒤 종료 타이머를 다시 건다
+ */
+@Service
+@Slf4j
+public class AuctionLifecycleScheduler {
+
+    @Value("${auction.timer.tick-ms:10}")
+    private long tickMillis;
+
+    @Value("${auction.timer.worker-threads:2}")
+    private int workerThreads;
+
+    @Value("${auction.timer.close-retry-ms:1000}")
+    private long closeRetryMillis;
+
+    private HierarchicalTimingWheel wheel;
+    private ExecutorService workers;
+    private volatile AuctionLifecycleHandler handler;
+
+    private final Map<Long, HierarchicalTimingWheel.Timeout> startTimers = new ConcurrentHashMap<>();
+    private final Map<Long, HierarchicalTimingWheel.Timeout> closeTimers = new ConcurrentHashMap<>();
+
+    private final LatencyHistogram startLag = new LatencyHistogram();
+    private final LatencyHistogram closeFireLag = new LatencyHistogram();
+    private final LatencyHistogram closeCompleteLag = new LatencyHistogram();
+    private final AtomicLong extendedCount = new AtomicLong();
+    private final AtomicLong closeRetryCount = new AtomicLong();
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger sequence = new AtomicInteger();
+        workers = Executors.newFixedThreadPool(workerThreads, r -> {
+            Thread thread = new Thread(r, "auction-lifecycle-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        wheel = new HierarchicalTimingWheel(tickMillis, workers, "auction-timer-wheel");
+        wheel.start();
+        log.info("🚀 경매 타이머 시작 - tick {}ms", tickMillis);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        wheel.stop();
+        workers.shutdownNow();
+    }
+
+    public void setHandler(AuctionLifecycleHandler handler) {
+        this.handler = handler;
+    }
+
+    public void scheduleStart(Long auctionId, LocalDateTime startTime) {
+        afterCommit(() -> register(startTimers, auctionId, startTime, this::fireStart));
+    }
+
+    public void scheduleClose(Long auctionId, LocalDateTime endTime) {
+        afterCommit(() -> register(closeTimers, auctionId, endTime, this::fireClose));
+    }
+
+    public void cancel(Long auctionId) {
+        afterCommit(() -> {
+            cancelTimer(startTimers.remove(auctionId));
+            cancelTimer(closeTimers.remove(auctionId));
+        });
+    }
+
+    public AuctionTimerStats getStats() {
+        return AuctionTimerStats.builder()
+                .tickMillis(tickMillis)
+                .pendingTimers(wheel.size())
+                .extendedCount(extendedCount.get())
+                .closeRetryCount(closeRetryCount.get())
+                .startLag(startLag.snapshot())
+                .closeFireLag(closeFireLag.snapshot())
+                .closeCompleteLag(closeCompleteLag.snapshot())
+                .build();
+    }
+
+    private void register(Map<Long, HierarchicalTimingWheel.Timeout> timers, Long auctionId,
+                          LocalDateTime time, TimerAction action) {
+        long deadline = toEpochMillis(time);
+        // 같은 경매의 이전 타이머는 교체 (재적재/마감 연장 시 중복 실행 방지)
+        timers.compute(auctionId, (id, previous) -> {
+            cancelTimer(previous);
+            return wheel.schedule(deadline, () -> {
+                timers.computeIfPresent(id, (key, timeout) -> timeout.getDeadlineMillis() == deadline ? null : timeout);
+                action.fire(id, deadline);
+            });
+        });
+    }
+
+    private void fireStart(Long auctionId, long deadline) {
+        startLag.recordMicros((System.currentTimeMillis() - deadline) * 1_000);
+        AuctionLifecycleHandler current = handler;
+        if (current == null) {
+            log.warn("경매 타이머 처리기 미등록 - 시작 건너뜀: auctionId={}", auctionId);
+            return;
+        }
+        try {
+            current.onStart(auctionId);
+        } catch (Exception e) {
+            log.error("경매 시작 처리 실패: auctionId={}", auctionId, e);
+        }
+    }
+
+    private void fireClose(Long auctionId, long deadline) {
+        closeFireLag.recordMicros((System.currentTimeMillis() - deadline) * 1_000);
+        AuctionLifecycleHandler current = handler;
+        if (current == null) {
+            log.warn("경매 타이머 처리기 미등록 - 종료 건너뜀: auctionId={}", auctionId);
+            return;
+        }
+        try {
+            LocalDateTime extendedEnd = current.onClose(auctionId);
+            if (extendedEnd != null) {
+                extendedCount.incrementAndGet();
+                register(closeTimers, auctionId, extendedEnd, this::fireClose);
+                log.info("⏱️ 경매 마감 연장으로 종료 타이머 재등록: auctionId={}, endTime={}", auctionId, extendedEnd);
+                return;
+            }
+            closeCompleteLag.recordMicros((System.currentTimeMillis() - deadline) * 1_000);
+        } catch (Exception e) {
+            closeRetryCount.incrementAndGet();
+            LocalDateTime retryAt = LocalDateTime.now().plusNanos(closeRetryMillis * 1_000_000);
+            register(closeTimers, auctionId, retryAt, this::fireClose);
+            log.error("경매 종료 처리 실패, {}ms 후 재시도: auctionId={}", closeRetryMillis, auctionId, e);
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static void cancelTimer(HierarchicalTimingWheel.Timeout timeout) {
+        if (timeout != null) {
+            timeout.cancel();
+        }
+    }
+
+    /**
+     * ms 미만은 올림 (예정 시각보다 먼저 발화하지 않도록)
+     */
+    private static long toEpochMillis(LocalDateTime time) {
+        Instant instant = time.atZone(ZoneId.systemDefault()).toInstant();
+        long millis = instant.toEpochMilli();
+        return instant.getNano() % 1_000_000 == 0 ? millis : millis + 1;
+    }
+
+    @FunctionalInterface
+    private interface TimerAction {
+        void fire(Long auctionId, long deadline);
+    }
+}
@@ -31,6 +31,8 @@ public class AuctionService {
     private final BidRepository bidRepository;
     private final BidHistoryRepository bidHistoryRepository;
     private final AuctionEventPublisher eventPublisher;
+    private final BidBookEngine bidBookEngine;
+    private final AuctionLifecycleScheduler lifecycleScheduler;
     
     @Transactional
     public AuctionResponse createAuction(AuctionCreateRequest request, String username) {
@@ -106,6 +108,13 @@ public class AuctionService {
         // 상품 상태 변경
         product.updateStatus(ProductStatus.AUCTION_ACTIVE);
         
+        // 시작/종료 타이머 등록 (커밋 후)
+        if (initialStatus == AuctionStatus.SCHEDULED) {
+            lifecycleScheduler.scheduleStart(auction.getId(), auction.getStartTime());
+        } else {
+            lifecycleScheduler.scheduleClose(auction.getId(), auction.getEndTime());
+        }
+        
         log.info("경매 생성: auctionId={}, productId={}, sellerId={}", 
                 auction.getId(), product.getId(), auction.getSellerId());
         
@@ -182,7 +191,10 @@ public class AuctionService {
             throw new IllegalArgumentException("본인의 경매만 취소할 수 있습니다.");
         }
         
+        // 메모리 장부에 수락된 입찰까지 확인한 뒤 장부를 닫는다
+        bidBookEngine.sealForCancel(auctionId);
         auction.cancel();
+        lifecycleScheduler.cancel(auctionId);
         
         // 상품 상태 복원
         Product product = productRepository.findById(auction.getProductId())
@@ -194,10 +206,14 @@ public class AuctionService {
     
     @Transactional
     public void endAuction(Long auctionId) {
+        // 장부를 닫고 대기 중인 입찰이 저장된 뒤에 경매를 읽는다
+        bidBookEngine.seal(auctionId);
+        
         Auction auction = auctionRepository.findById(auctionId)
                 .orElseThrow(() -> new IllegalArgumentException("경매를 찾을 수 없습니다."));
         
         auction.end();
+        lifecycleScheduler.cancel(auctionId);
         
         // 낙찰자가 있으면 상품 상태 변경
         if (auction.hasWinner()) {
@@ -235,6 +251,52 @@ public class AuctionService {
         }
     }
     
+    /**
+     * 시작 타이머 만료 시 호출
+     */
+    @Transactional
+    public void startAuction(Long auctionId) {
+        Auction auction = auctionRepository.findById(auctionId).orElse(null);
+        if (auction == null || auction.getStatus() != AuctionStatus.SCHEDULED) {
+            return;
+        }
+        
+        auction.start();
+        lifecycleScheduler.scheduleClose(auctionId, auction.getEndTime());
+        log.info("예정된 경매 시작: auctionId={}", auctionId);
+    }
+    
+    /**
+     * 종료 타이머 만료 시 호출 (즉시 구매/취소로 이미 끝난 경매는 건너뜀)
+     */
+    @Transactional
+    public void closeAuction(Long auctionId) {
+        bidBookEngine.seal(auctionId);
+        
+        Auction auction = auctionRepository.findById(auctionId).orElse(null);
+        if (auction == null || auction.getStatus() != AuctionStatus.ACTIVE) {
+            return;
+        }
+        endAuction(auctionId);
+    }
+    
+    /**
+     * 기동 시 예정/진행 중 경매의 시작·종료 타이머 재적재
+     * @return 등록한 타이머 수
+     */
+    public int scheduleLifecycleTimers() {
+        List<Auction> scheduled = auctionRepository.findByStatus(AuctionStatus.SCHEDULED);
+        for (Auction auction : scheduled) {
+            lifecycleScheduler.scheduleStart(auction.getId(), auction.getStartTime());
+        }
+        
+        List<Auction> active = auctionRepository.findByStatus(AuctionStatus.ACTIVE);
+        for (Auction auction : active) {
+            lifecycleScheduler.scheduleClose(auction.getId(), auction.getEndTime());
+        }
+        return scheduled.size() + active.size();
+    }
+    
     @Transactional
     public void startScheduledAuctions() {
         List<Auction> scheduledAuctions = auctionRepository.findByStatus(AuctionStatus.SCHEDULED);
@@ -243,6 +305,7 @@ public class AuctionService {
         for (Auction auction : scheduledAuctions) {
             if (!auction.getStartTime().isAfter(now)) {
                 auction.start();
+                lifecycleScheduler.scheduleClose(auction.getId(), auction.getEndTime());
                 log.info("예정된 경매 시작: auctionId={}", auction.getId());
             }
         }
@@ -250,6 +313,8 @@ public class AuctionService {
     
     @Transactional
     public void closeExpiredAuctions() {
+        bidBookEngine.sealExpired(LocalDateTime.now());
+        
         List<Auction> expiredAuctions = auctionRepository
                 .findByStatusAndEndTimeBefore(AuctionStatus.ACTIVE, LocalDateTime.now());
         
@@ -3,16 +3,14 @@ package com.example.payflow.auction.application;
 import com.example.payflow.auction.application.dto.AutoBidRequest;
 import com.example.payflow.auction.application.dto.AutoBidResponse;
 import com.example.payflow.auction.domain.*;
-import com.example.payflow.security.domain.User;
-import com.example.payflow.security.domain.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.math.BigDecimal;
-import java.time.LocalDateTime;
-import java.util.List;
 import java.util.Optional;
 
 @Service
@@ -23,9 +21,7 @@ public class AutoBidService {
     
     private final AutoBidRepository autoBidRepository;
     private final AuctionRepository auctionRepository;
-    private final BidRepository bidRepository;
-    private final BidHistoryRepository bidHistoryRepository;
-    private final UserRepository userRepository;
+    private final BidBookEngine bidBookEngine;
     
     @Transactional
     public AutoBidResponse createAutoBid(Long auctionId, AutoBidRequest request, String bidderId) {
@@ -55,6 +51,11 @@ public class AutoBidService {
         
         autoBid = autoBidRepository.save(autoBid);
         
+        // 자동 입찰 실행은 메모리 입찰 장부가 담당 (커밋 후 등록 - 롤백되면 장부에 유령 입찰자가 남지 않도록)
+        Long autoBidId = autoBid.getId();
+        BigDecimal maxAmount = autoBid.getMaxAmount();
+        afterCommit(() -> bidBookEngine.registerAutoBid(auctionId, bidderId, autoBidId, maxAmount));
+        
         log.info("자동 입찰 설정: auctionId={}, bidderId={}, maxAmount={}", 
                 auctionId, bidderId, request.getMaxAmount());
         
@@ -68,69 +69,27 @@ public class AutoBidService {
                 .orElseThrow(() -> new IllegalArgumentException("활성화된 자동 입찰을 찾을 수 없습니다."));
         
         autoBid.deactivate();
+        afterCommit(() -> bidBookEngine.cancelAutoBid(auctionId, bidderId));
         
         log.info("자동 입찰 취소: auctionId={}, bidderId={}", auctionId, bidderId);
     }
     
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+    
     public Optional<AutoBidResponse> getAutoBid(Long auctionId, String bidderId) {
         return autoBidRepository
                 .findByAuctionIdAndBidderIdAndIsActiveTrue(auctionId, bidderId)
                 .map(AutoBidResponse::from);
     }
-    
-    @Transactional
-    public void triggerAutoBid(Long auctionId, String outbidBidderId) {
-        // 밀린 입찰자의 자동 입찰 설정 확인
-        Optional<AutoBid> autoBidOpt = autoBidRepository
-                .findByAuctionIdAndBidderIdAndIsActiveTrue(auctionId, outbidBidderId);
-        
-        if (autoBidOpt.isEmpty()) {
-            return;
-        }
-        
-        AutoBid autoBid = autoBidOpt.get();
-        Auction auction = auctionRepository.findById(auctionId)
-                .orElseThrow(() -> new IllegalArgumentException("경매를 찾을 수 없습니다."));
-        
-        // 다음 입찰 금액 계산
-        BigDecimal nextBidAmount = auction.getCurrentPrice().add(auction.getMinBidIncrement());
-        
-        // 최대 금액 확인
-        if (!autoBid.canBid(nextBidAmount)) {
-            log.info("자동 입찰 최대 금액 도달: auctionId={}, bidderId={}, maxAmount={}", 
-                    auctionId, outbidBidderId, autoBid.getMaxAmount());
-            autoBid.deactivate();
-            return;
-        }
-        
-        // 자동 입찰 실행
-        User bidder = userRepository.findByUsername(outbidBidderId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-        
-        Bid bid = Bid.builder()
-                .auctionId(auctionId)
-                .bidderId(outbidBidderId)
-                .bidderName(bidder.getUsername())
-                .amount(nextBidAmount)
-                .bidTime(LocalDateTime.now())
-                .isWinning(true)
-                .isAutoBid(true)
-                .build();
-        
-        bid = bidRepository.save(bid);
-        
-        // 이전 최고 입찰 상태 변경
-        Optional<Bid> previousWinningBid = bidRepository.findWinningBid(auctionId);
-        previousWinningBid.ifPresent(Bid::markAsOutbid);
-        
-        // 경매 업데이트
-        auction.placeBid(nextBidAmount, outbidBidderId, bid.getId());
-        
-        // 입찰 이벤트 기록
-        BidHistory bidHistory = BidHistory.bidPlaced(auctionId, outbidBidderId, nextBidAmount);
-        bidHistoryRepository.save(bidHistory);
-        
-        log.info("자동 입찰 실행: auctionId={}, bidderId={}, amount={}", 
-                auctionId, outbidBidderId, nextBidAmount);
-    }
 }
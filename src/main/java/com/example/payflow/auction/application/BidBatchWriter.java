@@ -0,0 +1,310 @@
+package com.example.payflow.auction.application;
+
+import com.example.payflow.auction.domain.*;
+import com.example.payflow.auction.domain.events.BidPlaced;
+import com.example.payflow.auction.infrastructure.AuctionEventPublisher;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 메모리 입찰 장부가 수락한 엔트리를 모아 DB 에 반영하는 write-behind 작성기
+ * - 전용 스레드 하나가 대기열을 비우며, 쌓인 만큼(최대 batch-size) 한 트랜잭션으로 저장한다
+ * - 경매별로 Bid / BidHistory 는 saveAll, Auction 은 배치의 최종 상태만 한 번 갱신
+ * - 대기열이 가득 차면 샤드 스레드가 대기하므로 입찰 수락 속도가 저장 속도를 넘지 않는다
+ * - 수락된 입찰은 버리지 않는다: 저장이 실패하면 성공할 때까지 백오프하며 같은 배치를 재시도하고,
+ *   그동안 flush() 는 예외로 끝나 경매 종료가 진행되지 않는다
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BidBatchWriter {
+
+    private static final int WARN_ATTEMPTS = 3;
+
+    private final BidRepository bidRepository;
+    private final BidHistoryRepository bidHistoryRepository;
+    private final AuctionRepository auctionRepository;
+    private final AutoBidRepository autoBidRepository;
+    private final AuctionEventPublisher eventPublisher;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${auction.bidbook.batch-size:500}")
+    private int batchSize;
+
+    @Value("${auction.bidbook.queue-capacity:100000}")
+    private int queueCapacity;
+
+    @Value("${auction.bidbook.flush-timeout-ms:5000}")
+    private long flushTimeoutMillis;
+
+    @Value("${auction.bidbook.shutdown-timeout-ms:30000}")
+    private long shutdownTimeoutMillis;
+
+    @Value("${auction.bidbook.retry-backoff-ms:100}")
+    private long retryBackoffMillis;
+
+    @Value("${auction.bidbook.retry-backoff-max-ms:5000}")
+    private long retryBackoffMaxMillis;
+
+    private BlockingQueue<BidBookEntry> queue;
+    private TransactionTemplate transactionTemplate;
+    private Thread writerThread;
+    private volatile boolean running;
+
+    private final AtomicLong enqueued = new AtomicLong();
+    private final AtomicLong retries = new AtomicLong();
+    private volatile int retryingBatchSize; // 저장 재시도 중인 배치 크기 (0 이면 정상)
+    private final Object progress = new Object();
+    private long written; // progress 로 보호
+
+    @PostConstruct
+    public void start() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        running = true;
+        writerThread = new Thread(this::drainLoop, "bid-batch-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+        log.info("🚀 입찰 write-behind 작성기 시작 - batchSize={}, queueCapacity={}", batchSize, queueCapacity);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        try {
+            writerThread.join(shutdownTimeoutMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (writerThread.isAlive() || !queue.isEmpty()) {
+            log.error("❌ 종료 대기 시간 초과 - 미저장 입찰: 대기열 {}건, 재시도 중 배치 {}건",
+                    queue.size(), retryingBatchSize);
+        }
+    }
+
+    /**
+     * 샤드 스레드에서 호출. 대기열이 가득 차면 자리가 날 때까지 대기
+     */
+    public void enqueue(BidBookEntry entry) {
+        try {
+            queue.put(entry);
+            enqueued.incrementAndGet();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("입찰 저장 대기열 적재가 중단되었습니다.", e);
+        }
+    }
+
+    /**
+     * 호출 시점까지 적재된 엔트리가 모두 DB 에 반영될 때까지 대기 (경매 종료/취소 전 사용)
+     * 시간 안에 반영되지 않으면 IllegalStateException - 호출자는 DB 의 최고 입찰을 믿고 진행하면 안 된다
+     */
+    public void flush() {
+        long target = enqueued.get();
+        long deadline = System.currentTimeMillis() + flushTimeoutMillis;
+        synchronized (progress) {
+            while (written < target) {
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0) {
+                    throw new IllegalStateException("입찰 저장이 완료되지 않았습니다: written=" + written
+                            + ", target=" + target + ", retryingBatch=" + retryingBatchSize);
+                }
+                try {
+                    progress.wait(remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("입찰 저장 대기가 중단되었습니다.", e);
+                }
+            }
+        }
+    }
+
+    public int getPendingCount() {
+        return queue.size();
+    }
+
+    public long getRetryCount() {
+        return retries.get();
+    }
+
+    public int getRetryingBatchSize() {
+        return retryingBatchSize;
+    }
+
+    private void drainLoop() {
+        List<BidBookEntry> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                BidBookEntry first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                // 저장하지 못한 배치는 written 에 넣지 않는다 (flush 대기자가 반영된 것으로 착각하지 않도록)
+                Thread.currentThread().interrupt();
+                log.error("❌ 입찰 작성기 중단 - 미저장 입찰: 배치 {}건, 대기열 {}건", batch.size(), queue.size());
+                return;
+            }
+            synchronized (progress) {
+                written += batch.size();
+                progress.notifyAll();
+            }
+            batch.clear();
+        }
+    }
+
+    /**
+     * 성공할 때까지 같은 배치를 재시도 (retry-backoff-ms 부터 두 배씩, retry-backoff-max-ms 까지)
+     * 재시도 중에는 뒤 배치도 밀리므로 대기열이 차면 샤드 스레드가 입찰 수락을 멈춘다
+     */
+    private void write(List<BidBookEntry> batch) throws InterruptedException {
+        long backoff = retryBackoffMillis;
+        for (int attempt = 1; ; attempt++) {
+            List<BidPlaced> events;
+            try {
+                events = transactionTemplate.execute(status -> persist(batch));
+            } catch (Exception e) {
+                retryingBatchSize = batch.size();
+                retries.incrementAndGet();
+                if (attempt < WARN_ATTEMPTS) {
+                    log.warn("⚠️ 입찰 배치 저장 실패, {}ms 후 재시도 ({}회): size={}", backoff, attempt, batch.size(), e);
+                } else {
+                    log.error("❌ 입찰 배치 저장 계속 실패, {}ms 후 재시도 ({}회): size={}, firstAuctionId={}",
+                            backoff, attempt, batch.size(), batch.get(0).getAuctionId(), e);
+                }
+                Thread.sleep(backoff);
+                backoff = Math.min(backoff * 2, retryBackoffMaxMillis);
+                continue;
+            }
+            retryingBatchSize = 0;
+            // 커밋된 뒤의 이벤트 발행 실패로 배치를 다시 저장하지 않는다
+            try {
+                events.forEach(eventPublisher::publishBidPlaced);
+            } catch (Exception e) {
+                log.error("입찰 이벤트 발행 실패: size={}", events.size(), e);
+            }
+            return;
+        }
+    }
+
+    private List<BidPlaced> persist(List<BidBookEntry> batch) {
+        Map<Long, List<BidBookEntry>> byAuction = new LinkedHashMap<>();
+        for (BidBookEntry entry : batch) {
+            byAuction.computeIfAbsent(entry.getAuctionId(), id -> new ArrayList<>()).add(entry);
+        }
+
+        List<BidHistory> histories = new ArrayList<>(batch.size() * 2);
+        List<Long> exhaustedAutoBidIds = new ArrayList<>();
+        List<BidPlaced> events = new ArrayList<>();
+
+        for (Map.Entry<Long, List<BidBookEntry>> group : byAuction.entrySet()) {
+            persistAuction(group.getKey(), group.getValue(), histories, exhaustedAutoBidIds, events);
+        }
+
+        bidHistoryRepository.saveAll(histories);
+        if (!exhaustedAutoBidIds.isEmpty()) {
+            autoBidRepository.findAllById(exhaustedAutoBidIds).forEach(AutoBid::deactivate);
+        }
+        return events;
+    }
+
+    private void persistAuction(Long auctionId, List<BidBookEntry> entries, List<BidHistory> histories,
+                                List<Long> exhaustedAutoBidIds, List<BidPlaced> events) {
+        List<BidBookEntry> placed = new ArrayList<>(entries.size());
+        List<Bid> bids = new ArrayList<>(entries.size());
+        BidBookEntry buyNow = null;
+        LocalDateTime extendedEnd = null;
+
+        for (BidBookEntry entry : entries) {
+            if (entry.getType() == BidBookEntry.Type.AUTO_BID_EXHAUSTED) {
+                exhaustedAutoBidIds.add(entry.getAutoBidId());
+                continue;
+            }
+            if (entry.getType() == BidBookEntry.Type.END_EXTENDED) {
+                extendedEnd = entry.getTime();
+                continue;
+            }
+
+            placed.add(entry);
+            bids.add(Bid.builder()
+                    .auctionId(auctionId)
+                    .bidderId(entry.getBidderId())
+                    .bidderName(entry.getBidderId())
+                    .amount(entry.getAmount())
+                    .bidTime(entry.getTime())
+                    .isWinning(false)
+                    .isAutoBid(entry.getType() == BidBookEntry.Type.AUTO_BID)
+                    .build());
+
+            if (entry.getPreviousBidderId() != null) {
+                histories.add(BidHistory.bidOutbid(
+                        auctionId, entry.getPreviousBidderId(), entry.getPreviousAmount(), entry.getTime()));
+            }
+            histories.add(BidHistory.bidPlaced(auctionId, entry.getBidderId(), entry.getAmount(), entry.getTime()));
+
+            if (entry.getType() == BidBookEntry.Type.BUY_NOW) {
+                histories.add(BidHistory.auctionWon(auctionId, entry.getBidderId(), entry.getAmount(), entry.getTime()));
+                buyNow = entry;
+            }
+        }
+
+        if (bids.isEmpty() && extendedEnd == null) {
+            return;
+        }
+
+        Auction auction = auctionRepository.findById(auctionId)
+                .orElseThrow(() -> new IllegalStateException("경매를 찾을 수 없습니다: " + auctionId));
+        if (extendedEnd != null) {
+            auction.extendEndTime(extendedEnd);
+        }
+        if (bids.isEmpty()) {
+            return;
+        }
+
+        // 이전 배치의 최고 입찰은 한 번만 밀어내고, 이번 배치의 마지막 입찰만 최고 입찰로 남긴다
+        bidRepository.findWinningBid(auctionId).ifPresent(Bid::markAsOutbid);
+        bids.get(bids.size() - 1).markAsWinning();
+        List<Bid> saved = bidRepository.saveAll(bids);
+
+        BidBookEntry last = placed.get(placed.size() - 1);
+        Bid winning = saved.get(saved.size() - 1);
+        int acceptedBids = buyNow != null ? placed.size() - 1 : placed.size();
+        auction.applyAcceptedBids(last.getAmount(), last.getBidderId(), winning.getId(), acceptedBids);
+        if (buyNow != null) {
+            auction.buyNow(buyNow.getBidderId(), winning.getId());
+        }
+
+        for (int i = 0; i < placed.size(); i++) {
+            BidBookEntry entry = placed.get(i);
+            if (entry.getType() == BidBookEntry.Type.BID) {
+                events.add(BidPlaced.builder()
+                        .auctionId(auctionId)
+                        .bidId(saved.get(i).getId())
+                        .bidderId(entry.getBidderId())
+                        .amount(entry.getAmount())
+                        .isAutoBid(false)
+                        .timestamp(entry.getTime())
+                        .build());
+            }
+        }
+    }
+}
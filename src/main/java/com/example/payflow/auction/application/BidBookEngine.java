@@ -0,0 +1,271 @@
+package com.example.payflow.auction.application;
+
+import com.example.payflow.auction.domain.*;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * 경매별 메모리 입찰 장부를 샤드 단위 단일 스레드로 운영하는 엔진
+ * - auctionId 로 샤드를 고르고, 같은 경매의 입찰은 항상 같은 스레드에서 순서대로 검증/수락된다
+ * - 장부는 첫 입찰 때 DB 에서 한 번 적재하고(진행 중인 경매만 보관), 이후에는 DB 를 읽지 않는다
+ * - 수락된 입찰은 BidBatchWriter 로 넘겨 배치 저장
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BidBookEngine {
+
+    // 종료된 장부를 남겨 두는 시간 (종료 트랜잭션 커밋 전 재적재로 입찰이 다시 열리지 않도록)
+    private static final long CLOSED_BOOK_RETENTION_SECONDS = 60;
+
+    private final AuctionRepository auctionRepository;
+    private final AutoBidRepository autoBidRepository;
+    private final BidBatchWriter batchWriter;
+
+    @Value("${auction.bidbook.shards:0}")
+    private int shardCount;
+
+    // 스나이핑 방지: 마감 window 이내 입찰 시 마감을 입찰 시각 + extension 으로 연장 (0 이면 비활성)
+    @Value("${auction.anti-sniping.window-seconds:0}")
+    private long antiSnipingWindowSeconds;
+
+    @Value("${auction.anti-sniping.extension-seconds:0}")
+    private long antiSnipingExtensionSeconds;
+
+    private Shard[] shards;
+
+    @PostConstruct
+    public void init() {
+        int count = shardCount > 0 ? shardCount : Runtime.getRuntime().availableProcessors();
+        shards = new Shard[count];
+        for (int i = 0; i < count; i++) {
+            shards[i] = new Shard(i);
+        }
+        log.info("🚀 입찰 장부 엔진 시작 - shards={}", count);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        for (Shard shard : shards) {
+            shard.executor.shutdown();
+        }
+    }
+
+    /**
+     * @return 수락된 입찰, 이어서 자동 입찰 정산 결과 엔트리 순서의 목록
+     */
+    public List<BidBookEntry> placeBid(Long auctionId, String bidderId, BigDecimal amount) {
+        return call(auctionId, shard -> {
+            AuctionBidBook book = shard.load(auctionId);
+            LocalDateTime now = LocalDateTime.now();
+
+            List<BidBookEntry> entries = new ArrayList<>(3);
+            entries.add(book.placeBid(bidderId, amount, now));
+
+            // 자동 입찰 전쟁은 장부에서 한 번에 정산 (DB 재조회 없음)
+            entries.addAll(book.resolveProxyBids(now));
+
+            BidBookEntry extension = book.extendForSniping(now,
+                    Duration.ofSeconds(antiSnipingWindowSeconds), Duration.ofSeconds(antiSnipingExtensionSeconds));
+            if (extension != null) {
+                entries.add(extension);
+            }
+            enqueue(auctionId, entries);
+            return entries;
+        });
+    }
+
+    public BidBookEntry buyNow(Long auctionId, String buyerId) {
+        return call(auctionId, shard -> {
+            AuctionBidBook book = shard.load(auctionId);
+            BidBookEntry accepted = book.buyNow(buyerId, LocalDateTime.now());
+            batchWriter.enqueue(accepted);
+            shard.retire(auctionId);
+            return accepted;
+        });
+    }
+
+    public void registerAutoBid(Long auctionId, String bidderId, Long autoBidId, BigDecimal maxAmount) {
+        call(auctionId, shard -> {
+            AuctionBidBook book = shard.loadIfOpen(auctionId);
+            if (book != null) {
+                book.registerAutoBid(bidderId, autoBidId, maxAmount);
+                enqueue(auctionId, book.resolveProxyBids(LocalDateTime.now()));
+            }
+            return null;
+        });
+    }
+
+    public void cancelAutoBid(Long auctionId, String bidderId) {
+        call(auctionId, shard -> {
+            AuctionBidBook book = shard.books.get(auctionId);
+            if (book != null) {
+                book.cancelAutoBid(bidderId);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * 경매 종료 전 호출: 장부를 닫고 수락된 입찰이 모두 저장될 때까지 대기
+     */
+    public void seal(Long auctionId) {
+        call(auctionId, shard -> {
+            AuctionBidBook book = shard.books.get(auctionId);
+            if (book != null && book.isOpen()) {
+                book.close(AuctionStatus.ENDED);
+                shard.retire(auctionId);
+            }
+            return null;
+        });
+        batchWriter.flush();
+    }
+
+    /**
+     * 종료 타이머 만료 시 호출: 장부의 마감(연장 반영)이 지났으면 닫고 저장 완료까지 대기
+     * @return 닫았거나 장부가 없으면 null, 마감이 연장돼 아직 진행 중이면 새 마감 시각
+     */
+    public LocalDateTime closeIfDue(Long auctionId, LocalDateTime now) {
+        LocalDateTime extendedEnd = call(auctionId, shard -> {
+            AuctionBidBook book = shard.books.get(auctionId);
+            if (book == null || !book.isOpen()) {
+                return null;
+            }
+            if (now.isBefore(book.getEndTime())) {
+                return book.getEndTime();
+            }
+            book.close(AuctionStatus.ENDED);
+            shard.retire(auctionId);
+            return null;
+        });
+        if (extendedEnd == null) {
+            batchWriter.flush();
+        }
+        return extendedEnd;
+    }
+
+    /**
+     * 마감 시간이 지난 장부를 모두 닫고 저장 완료까지 대기 (만료 경매 일괄 종료 전 사용)
+     */
+    public void sealExpired(LocalDateTime now) {
+        List<CompletableFuture<Void>> futures = new ArrayList<>(shards.length);
+        for (Shard shard : shards) {
+            futures.add(CompletableFuture.runAsync(() -> shard.sealExpired(now), shard.executor));
+        }
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        batchWriter.flush();
+    }
+
+    /**
+     * 경매 취소 전 호출: 메모리에 수락된 입찰까지 포함해 입찰이 없을 때만 장부를 닫는다
+     */
+    public void sealForCancel(Long auctionId) {
+        call(auctionId, shard -> {
+            AuctionBidBook book = shard.loadIfOpen(auctionId);
+            if (book == null) {
+                return null;
+            }
+            if (book.getBidCount() > 0) {
+                throw new IllegalStateException("입찰이 있는 경매는 취소할 수 없습니다.");
+            }
+            book.close(AuctionStatus.CANCELLED);
+            shard.retire(auctionId);
+            return null;
+        });
+    }
+
+    private void enqueue(Long auctionId, List<BidBookEntry> entries) {
+        for (BidBookEntry entry : entries) {
+            batchWriter.enqueue(entry);
+            if (entry.getType() == BidBookEntry.Type.END_EXTENDED) {
+                log.info("⏱️ 스나이핑 방지 마감 연장: auctionId={}, endTime={}", auctionId, entry.getTime());
+            } else if (entry.getType() != BidBookEntry.Type.BID) {
+                log.info("자동 입찰 {}: auctionId={}, bidderId={}, amount={}",
+                        entry.isBid() ? "실행" : "최대 금액 도달",
+                        auctionId, entry.getBidderId(), entry.getAmount());
+            }
+        }
+    }
+
+    private <T> T call(Long auctionId, Function<Shard, T> task) {
+        Shard shard = shards[(int) Math.floorMod(auctionId, (long) shards.length)];
+        try {
+            return CompletableFuture.supplyAsync(() -> task.apply(shard), shard.executor).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 샤드: 단일 스레드 실행기와 그 스레드만 접근하는 장부 맵
+     */
+    private final class Shard {
+
+        private final ScheduledExecutorService executor;
+        private final Map<Long, AuctionBidBook> books = new HashMap<>();
+
+        private Shard(int index) {
+            this.executor = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread thread = new Thread(r, "bid-book-" + index);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+
+        private AuctionBidBook load(Long auctionId) {
+            AuctionBidBook book = books.get(auctionId);
+            if (book != null) {
+                return book;
+            }
+
+            Auction auction = auctionRepository.findById(auctionId)
+                    .orElseThrow(() -> new IllegalArgumentException("경매를 찾을 수 없습니다."));
+            book = AuctionBidBook.of(auction, autoBidRepository.findByAuctionIdAndIsActiveTrue(auctionId));
+
+            // 진행 중인 경매만 보관 (예정/종료 경매는 매번 DB 상태로 검증)
+            if (book.isOpen()) {
+                books.put(auctionId, book);
+            }
+            return book;
+        }
+
+        private AuctionBidBook loadIfOpen(Long auctionId) {
+            AuctionBidBook book = load(auctionId);
+            return book.isOpen() ? book : null;
+        }
+
+        private void retire(Long auctionId) {
+            executor.schedule(() -> books.remove(auctionId), CLOSED_BOOK_RETENTION_SECONDS, TimeUnit.SECONDS);
+        }
+
+        private void sealExpired(LocalDateTime now) {
+            for (AuctionBidBook book : books.values()) {
+                if (book.isOpen() && now.isAfter(book.getEndTime())) {
+                    book.close(AuctionStatus.ENDED);
+                    retire(book.getAuctionId());
+                }
+            }
+        }
+    }
+}
@@ -1,21 +1,23 @@
 package com.example.payflow.auction.application;
 
+import com.example.payflow.auction.application.dto.BidPlacementResponse;
 import com.example.payflow.auction.application.dto.BidRequest;
 import com.example.payflow.auction.application.dto.BidResponse;
 import com.example.payflow.auction.domain.*;
-import com.example.payflow.auction.domain.events.BidPlaced;
-import com.example.payflow.auction.infrastructure.AuctionEventPublisher;
-import com.example.payflow.security.domain.User;
 import com.example.payflow.security.domain.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
-import java.time.LocalDateTime;
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -27,120 +29,71 @@ import java.util.stream.Collectors;
 public class BidService {
     
     private final BidRepository bidRepository;
-    private final AuctionRepository auctionRepository;
-    private final BidHistoryRepository bidHistoryRepository;
     private final UserRepository userRepository;
-    private final AutoBidService autoBidService;
-    private final AuctionEventPublisher eventPublisher;
+    private final BidBookEngine bidBookEngine;
     
-    @Transactional
-    public BidResponse placeBid(Long auctionId, BidRequest request, String bidderId) {
-        Auction auction = auctionRepository.findById(auctionId)
-                .orElseThrow(() -> new IllegalArgumentException("경매를 찾을 수 없습니다."));
-        
-        User bidder = userRepository.findByUsername(bidderId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-        
-        // 이전 최고 입찰자 저장
-        Optional<Bid> previousWinningBid = bidRepository.findWinningBid(auctionId);
-        
-        // 입찰 생성
-        Bid bid = Bid.builder()
-                .auctionId(auctionId)
-                .bidderId(bidderId)
-                .bidderName(bidder.getUsername())
-                .amount(request.getAmount())
-                .bidTime(LocalDateTime.now())
-                .isWinning(true)
-                .isAutoBid(false)
+    @Value("${auction.known-bidders.max-size:100000}")
+    private long knownBiddersMaxSize;
+    
+    @Value("${auction.known-bidders.expire-minutes:10}")
+    private long knownBiddersExpireMinutes;
+    
+    // 존재 확인된 입찰자 (입찰마다 사용자 조회를 반복하지 않도록, 탈퇴 사용자는 만료 후 다시 조회)
+    private Cache<String, Boolean> knownBidders;
+    
+    @PostConstruct
+    public void init() {
+        knownBidders = Caffeine.newBuilder()
+                .maximumSize(knownBiddersMaxSize)
+                .expireAfterWrite(Duration.ofMinutes(knownBiddersExpireMinutes))
                 .build();
-        
-        bid = bidRepository.save(bid);
-        
-        // 경매 업데이트
-        auction.placeBid(request.getAmount(), bidderId, bid.getId());
-        
-        // 이전 최고 입찰 상태 변경
-        if (previousWinningBid.isPresent()) {
-            Bid previousBid = previousWinningBid.get();
-            previousBid.markAsOutbid();
-            
-            // 밀린 입찰 이벤트 기록
-            BidHistory outbidHistory = BidHistory.bidOutbid(
-                    auctionId, 
-                    previousBid.getBidderId(), 
-                    previousBid.getAmount()
-            );
-            bidHistoryRepository.save(outbidHistory);
+    }
+    
+    /**
+     * 입찰은 경매 샤드의 메모리 장부에서 검증·수락되고, DB 반영은 BidBatchWriter 가 배치로 처리한다
+     * - 응답 시점에는 입찰 id 가 없으므로 장부 수락 순번을 돌려준다 (저장된 id 는 BidPlaced 이벤트에 포함)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BidPlacementResponse placeBid(Long auctionId, BidRequest request, String bidderId) {
+        verifyBidder(bidderId);
+        
+        List<BidBookEntry> entries = bidBookEngine.placeBid(auctionId, bidderId, request.getAmount());
+        BidBookEntry accepted = entries.get(0);
+        
+        // 자동 입찰 정산 결과 다른 입찰자가 최고가가 됐다면 이 입찰은 곧바로 밀려난 상태
+        boolean winning = true;
+        for (BidBookEntry entry : entries) {
+            if (entry.isBid()) {
+                winning = entry.getBidderId().equals(bidderId);
+            }
         }
         
-        // 입찰 이벤트 기록
-        BidHistory bidHistory = BidHistory.bidPlaced(auctionId, bidderId, request.getAmount());
-        bidHistoryRepository.save(bidHistory);
-        
-        // 입찰 이벤트 발행
-        BidPlaced event = BidPlaced.builder()
-                .auctionId(auctionId)
-                .bidId(bid.getId())
-                .bidderId(bidderId)
-                .amount(request.getAmount())
-                .isAutoBid(false)
-                .timestamp(LocalDateTime.now())
-                .build();
-        eventPublisher.publishBidPlaced(event);
-        
         log.info("입찰 성공: auctionId={}, bidderId={}, amount={}", 
                 auctionId, bidderId, request.getAmount());
         
-        // 자동 입찰 트리거
-        if (previousWinningBid.isPresent()) {
-            Bid prevBid = previousWinningBid.get();
-            autoBidService.triggerAutoBid(auctionId, prevBid.getBidderId());
-        }
-        
-        return BidResponse.from(bid);
+        return BidPlacementResponse.of(accepted, winning);
     }
     
-    @Transactional
-    public BidResponse buyNow(Long auctionId, String buyerId) {
-        Auction auction = auctionRepository.findById(auctionId)
-                .orElseThrow(() -> new IllegalArgumentException("경매를 찾을 수 없습니다."));
-        
-        User buyer = userRepository.findByUsername(buyerId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
-        
-        if (auction.getBuyNowPrice() == null) {
-            throw new IllegalStateException("즉시 구매가가 설정되지 않았습니다.");
-        }
-        
-        // 즉시 구매 입찰 생성
-        Bid bid = Bid.builder()
-                .auctionId(auctionId)
-                .bidderId(buyerId)
-                .bidderName(buyer.getUsername())
-                .amount(auction.getBuyNowPrice())
-                .bidTime(LocalDateTime.now())
-                .isWinning(true)
-                .isAutoBid(false)
-                .build();
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public BidPlacementResponse buyNow(Long auctionId, String buyerId) {
+        verifyBidder(buyerId);
         
-        bid = bidRepository.save(bid);
-        
-        // 경매 즉시 종료
-        auction.buyNow(buyerId, bid.getId());
-        
-        // 입찰 이벤트 기록
-        BidHistory bidHistory = BidHistory.bidPlaced(auctionId, buyerId, auction.getBuyNowPrice());
-        bidHistoryRepository.save(bidHistory);
-        
-        // 낙찰 이벤트 기록
-        BidHistory wonHistory = BidHistory.auctionWon(auctionId, buyerId, auction.getBuyNowPrice());
-        bidHistoryRepository.save(wonHistory);
+        BidBookEntry accepted = bidBookEngine.buyNow(auctionId, buyerId);
         
         log.info("즉시 구매: auctionId={}, buyerId={}, price={}", 
-                auctionId, buyerId, auction.getBuyNowPrice());
+                auctionId, buyerId, accepted.getAmount());
         
-        return BidResponse.from(bid);
+        return BidPlacementResponse.of(accepted, true);
+    }
+    
+    private void verifyBidder(String bidderId) {
+        if (knownBidders.getIfPresent(bidderId) != null) {
+            return;
+        }
+        if (!userRepository.existsByUsername(bidderId)) {
+            throw new IllegalArgumentException("사용자를 찾을 수 없습니다.");
+        }
+        knownBidders.put(bidderId, Boolean.TRUE);
     }
     
     public List<BidResponse> getBidsByAuction(Long auctionId) {
@@ -0,0 +1,26 @@
+package com.example.payflow.auction.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * 경매 시작/종료 타이머 지연 통계
+ * - 지연 = 실제 처리 시각 - 예정 시각 (startTime / endTime)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuctionTimerStats {
+    private long tickMillis;                       // 타이밍 휠 tick
+    private int pendingTimers;                     // 대기 중인 타이머 수
+    private long extendedCount;                    // 스나이핑 방지로 마감이 연장된 횟수
+    private long closeRetryCount;                  // 종료 처리 실패로 종료 타이머를 다시 건 횟수
+    private Map<String, Object> startLag;          // 시작 타이머 발화 지연
+    private Map<String, Object> closeFireLag;      // 종료 타이머 발화 지연
+    private Map<String, Object> closeCompleteLag;  // 종료 트랜잭션 완료까지 지연
+}
@@ -0,0 +1,44 @@
+package com.example.payflow.auction.application.dto;
+
+import com.example.payflow.auction.domain.BidBookEntry;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 입찰/즉시 구매 수락 응답
+ * - 입찰은 메모리 장부에서 수락된 뒤 배치로 저장되므로 응답 시점에는 입찰 id 가 없다
+ * - 대신 경매 장부의 수락 순번(sequence)을 돌려주고, 저장된 id 는 BidPlaced 이벤트와 입찰 내역 조회로 확인한다
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BidPlacementResponse {
+
+    private Long auctionId;
+    private Long sequence;
+    private String bidderId;
+    private String bidderName;
+    private BigDecimal amount;
+    private LocalDateTime bidTime;
+    private Boolean isWinning;
+    private Boolean isAutoBid;
+
+    public static BidPlacementResponse of(BidBookEntry accepted, boolean winning) {
+        return BidPlacementResponse.builder()
+                .auctionId(accepted.getAuctionId())
+                .sequence(accepted.getSequence())
+                .bidderId(accepted.getBidderId())
+                .bidderName(accepted.getBidderId())
+                .amount(accepted.getAmount())
+                .bidTime(accepted.getTime())
+                .isWinning(winning)
+                .isAutoBid(false)
+                .build();
+    }
+}
@@ -107,6 +107,25 @@ public class Auction {
         this.winningBidId = bidId;
     }
     
+    /**
+     * 메모리 입찰 장부에서 이미 검증·수락된 입찰 묶음의 최종 상태를 반영 (write-behind 전용)
+     */
+    public void applyAcceptedBids(BigDecimal finalPrice, String finalWinnerId, Long finalBidId, int acceptedBids) {
+        this.currentPrice = finalPrice;
+        this.bidCount += acceptedBids;
+        this.winnerId = finalWinnerId;
+        this.winningBidId = finalBidId;
+    }
+    
+    /**
+     * 스나이핑 방지로 연장된 마감 시각 반영 (앞당기지는 않음)
+     */
+    public void extendEndTime(LocalDateTime extendedEndTime) {
+        if (extendedEndTime.isAfter(endTime)) {
+            this.endTime = extendedEndTime;
+        }
+    }
+    
     public void buyNow(String buyerId, Long bidId) {
         if (buyNowPrice == null) {
             throw new IllegalStateException("즉시 구매가가 설정되지 않았습니다.");
@@ -0,0 +1,264 @@
+package com.example.payflow.auction.domain;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * 진행 중인 경매 하나의 메모리 입찰 장부
+ * - 검증 규칙은 Auction.placeBid / buyNow 와 같고, 수락 결과를 BidBookEntry 로 돌려준다
+ * - 자동 입찰은 최대 금액 내림차순 트리로 보관하고, 입찰 전쟁을 한 번에 정산한다 (resolveProxyBids)
+ * - 락이 없으므로 경매 샤드 스레드 하나에서만 변경해야 한다 (BidBookEngine 참고)
+ */
+@Getter
+public class AuctionBidBook {
+
+    private final Long auctionId;
+    private final String sellerId;
+    private final BigDecimal minBidIncrement;
+    private final BigDecimal buyNowPrice;
+    private LocalDateTime endTime;
+
+    private AuctionStatus status;
+    private BigDecimal currentPrice;
+    private String winnerId;
+    private int bidCount;
+    private long sequence;
+
+    // 활성 자동 입찰: 최대 금액 내림차순, 같은 금액이면 먼저 등록된 순
+    @Getter(AccessLevel.NONE)
+    private final TreeSet<ProxyBid> proxies = new TreeSet<>(ProxyBid.ORDER);
+
+    @Getter(AccessLevel.NONE)
+    private final Map<String, ProxyBid> proxiesByBidder = new HashMap<>();
+
+    private AuctionBidBook(Auction auction) {
+        this.auctionId = auction.getId();
+        this.sellerId = auction.getSellerId();
+        this.minBidIncrement = auction.getMinBidIncrement();
+        this.buyNowPrice = auction.getBuyNowPrice();
+        this.endTime = auction.getEndTime();
+        this.status = auction.getStatus();
+        this.currentPrice = auction.getCurrentPrice();
+        this.winnerId = auction.getWinnerId();
+        this.bidCount = auction.getBidCount() != null ? auction.getBidCount() : 0;
+    }
+
+    public static AuctionBidBook of(Auction auction, List<AutoBid> activeAutoBids) {
+        AuctionBidBook book = new AuctionBidBook(auction);
+        for (AutoBid autoBid : activeAutoBids) {
+            book.registerAutoBid(autoBid.getBidderId(), autoBid.getId(), autoBid.getMaxAmount());
+        }
+        return book;
+    }
+
+    public BidBookEntry placeBid(String bidderId, BigDecimal amount, LocalDateTime now) {
+        return accept(BidBookEntry.Type.BID, bidderId, amount, now);
+    }
+
+    public BidBookEntry buyNow(String buyerId, LocalDateTime now) {
+        if (buyNowPrice == null) {
+            throw new IllegalStateException("즉시 구매가가 설정되지 않았습니다.");
+        }
+
+        if (status != AuctionStatus.ACTIVE) {
+            throw new IllegalStateException("경매가 진행 중이 아닙니다.");
+        }
+
+        if (buyerId.equals(sellerId)) {
+            throw new IllegalArgumentException("본인의 경매는 즉시 구매할 수 없습니다.");
+        }
+
+        BidBookEntry entry = entry(BidBookEntry.Type.BUY_NOW, buyerId, buyNowPrice, now).build();
+        this.currentPrice = buyNowPrice;
+        this.winnerId = buyerId;
+        this.status = AuctionStatus.ENDED;
+        return entry;
+    }
+
+    /**
+     * 자동 입찰 전쟁을 한 번에 정산 (eBay 방식 대리 입찰)
+     * - 현재 최고 입찰자의 유효 최대 금액과 나머지 자동 입찰 중 최댓값을 비교해 최종 낙찰자/가격만 계산
+     * - 최종 가격 = min(승자 최대 금액, 2위 최대 금액 + 최소 증가액), 최대 금액이 같으면 먼저 등록한 쪽이 승리
+     * - 증가액마다 입찰을 반복하지 않고 결과 입찰 한 건과 소진된 자동 입찰만 엔트리로 남긴다
+     * @return 결과 자동 입찰(있다면) 다음 소진 엔트리 순서의 목록
+     */
+    public List<BidBookEntry> resolveProxyBids(LocalDateTime now) {
+        List<BidBookEntry> entries = new ArrayList<>(2);
+        if (status != AuctionStatus.ACTIVE || proxies.isEmpty() || now.isAfter(endTime)) {
+            return entries;
+        }
+
+        ProxyBid leaderProxy = winnerId != null ? proxiesByBidder.get(winnerId) : null;
+        BigDecimal leaderMax = leaderProxy != null ? leaderProxy.maxAmount.max(currentPrice) : currentPrice;
+        BigDecimal required = currentPrice.add(minBidIncrement);
+
+        // 현재 최고 입찰자를 제외한 최상위 자동 입찰 두 개 (트리 앞쪽 최대 3개만 확인)
+        ProxyBid challenger = null;
+        ProxyBid runnerUp = null;
+        for (ProxyBid proxy : proxies) {
+            if (proxy == leaderProxy) {
+                continue;
+            }
+            if (challenger == null) {
+                challenger = proxy;
+            } else {
+                runnerUp = proxy;
+                break;
+            }
+        }
+
+        if (challenger != null && challenger.maxAmount.compareTo(required) >= 0) {
+            boolean leaderHolds = leaderProxy != null && ProxyBid.ORDER.compare(leaderProxy, challenger) < 0;
+            if (leaderHolds) {
+                // 도전자는 최대 금액까지 밀리고, 현재 최고 입찰자의 자동 입찰이 그 위로 한 번 응찰
+                BigDecimal price = leaderProxy.maxAmount.min(challenger.maxAmount.add(minBidIncrement));
+                entries.add(accept(BidBookEntry.Type.AUTO_BID, winnerId, price.max(required), now));
+            } else {
+                BigDecimal second = runnerUp != null ? leaderMax.max(runnerUp.maxAmount) : leaderMax;
+                BigDecimal price = challenger.maxAmount.min(second.add(minBidIncrement));
+                entries.add(accept(BidBookEntry.Type.AUTO_BID, challenger.bidderId, price.max(required), now));
+            }
+        }
+
+        // 다음 최소 입찰가에 못 미치는 자동 입찰은 최저가부터 소진 처리
+        BigDecimal threshold = currentPrice.add(minBidIncrement);
+        while (!proxies.isEmpty() && proxies.last().maxAmount.compareTo(threshold) < 0) {
+            ProxyBid exhausted = proxies.pollLast();
+            proxiesByBidder.remove(exhausted.bidderId);
+            entries.add(BidBookEntry.builder()
+                    .type(BidBookEntry.Type.AUTO_BID_EXHAUSTED)
+                    .auctionId(auctionId)
+                    .sequence(sequence)
+                    .bidderId(exhausted.bidderId)
+                    .amount(exhausted.maxAmount)
+                    .time(now)
+                    .autoBidId(exhausted.autoBidId)
+                    .build());
+        }
+        return entries;
+    }
+
+    /**
+     * 스나이핑 방지: 마감 window 이내의 입찰이면 마감을 (입찰 시각 + extension) 까지 연장
+     * @return 연장했으면 END_EXTENDED 엔트리, 아니면 null
+     */
+    public BidBookEntry extendForSniping(LocalDateTime now, Duration window, Duration extension) {
+        if (window.isZero() || status != AuctionStatus.ACTIVE || now.plus(window).isBefore(endTime)) {
+            return null;
+        }
+
+        LocalDateTime extendedEnd = now.plus(extension);
+        if (!extendedEnd.isAfter(endTime)) {
+            return null;
+        }
+        this.endTime = extendedEnd;
+        return BidBookEntry.builder()
+                .type(BidBookEntry.Type.END_EXTENDED)
+                .auctionId(auctionId)
+                .sequence(sequence)
+                .bidderId(winnerId)
+                .amount(currentPrice)
+                .time(extendedEnd)
+                .build();
+    }
+
+    public void registerAutoBid(String bidderId, Long autoBidId, BigDecimal maxAmount) {
+        cancelAutoBid(bidderId);
+        ProxyBid proxy = new ProxyBid(bidderId, autoBidId, maxAmount);
+        proxies.add(proxy);
+        proxiesByBidder.put(bidderId, proxy);
+    }
+
+    public void cancelAutoBid(String bidderId) {
+        ProxyBid removed = proxiesByBidder.remove(bidderId);
+        if (removed != null) {
+            proxies.remove(removed);
+        }
+    }
+
+    public int getActiveAutoBidCount() {
+        return proxies.size();
+    }
+
+    /**
+     * 종료/취소 처리 중인 경매의 장부를 닫아 이후 입찰을 거절
+     */
+    public void close(AuctionStatus closedStatus) {
+        this.status = closedStatus;
+    }
+
+    public boolean isOpen() {
+        return status == AuctionStatus.ACTIVE;
+    }
+
+    private BidBookEntry accept(BidBookEntry.Type type, String bidderId, BigDecimal amount, LocalDateTime now) {
+        if (status != AuctionStatus.ACTIVE) {
+            throw new IllegalStateException("경매가 진행 중이 아닙니다.");
+        }
+
+        if (now.isAfter(endTime)) {
+            throw new IllegalStateException("경매가 종료되었습니다.");
+        }
+
+        if (bidderId.equals(sellerId)) {
+            throw new IllegalArgumentException("본인의 경매에는 입찰할 수 없습니다.");
+        }
+
+        BigDecimal minBidAmount = currentPrice.add(minBidIncrement);
+        if (amount.compareTo(minBidAmount) < 0) {
+            throw new IllegalArgumentException(
+                String.format("입찰 금액은 최소 %s원 이상이어야 합니다.", minBidAmount)
+            );
+        }
+
+        // 본인 최고 입찰을 스스로 올리는 경우는 밀려난 입찰이 없다
+        boolean outbids = winnerId != null && !winnerId.equals(bidderId);
+        BidBookEntry entry = entry(type, bidderId, amount, now)
+                .previousBidderId(outbids ? winnerId : null)
+                .previousAmount(outbids ? currentPrice : null)
+                .build();
+        this.currentPrice = amount;
+        this.winnerId = bidderId;
+        this.bidCount++;
+        return entry;
+    }
+
+    private BidBookEntry.BidBookEntryBuilder entry(BidBookEntry.Type type, String bidderId,
+                                                  BigDecimal amount, LocalDateTime now) {
+        return BidBookEntry.builder()
+                .type(type)
+                .auctionId(auctionId)
+                .sequence(++sequence)
+                .bidderId(bidderId)
+                .amount(amount)
+                .time(now);
+    }
+
+    private static final class ProxyBid {
+
+        // 최대 금액 내림차순, 같으면 자동 입찰 ID(등록 순) 오름차순
+        private static final Comparator<ProxyBid> ORDER = Comparator
+                .comparing((ProxyBid p) -> p.maxAmount, Comparator.reverseOrder())
+                .thenComparing(p -> p.autoBidId);
+
+        private final String bidderId;
+        private final Long autoBidId;
+        private final BigDecimal maxAmount;
+
+        private ProxyBid(String bidderId, Long autoBidId, BigDecimal maxAmount) {
+            this.bidderId = bidderId;
+            this.autoBidId = autoBidId;
+            this.maxAmount = maxAmount;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.payflow.auction.domain;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 메모리 입찰 장부가 수락한 변경 한 건 (DB 반영 전 상태)
+ * - sequence 는 경매별 수락 순서로, 같은 순서로 재생하면 같은 낙찰 상태가 된다
+ * - write-behind 배치가 이 엔트리를 Bid / BidHistory / Auction 변경으로 옮긴다
+ */
+@Getter
+@Builder
+public class BidBookEntry {
+
+    public enum Type {
+        BID,
+        AUTO_BID,
+        BUY_NOW,
+        AUTO_BID_EXHAUSTED,
+        END_EXTENDED
+    }
+
+    private final Type type;
+    private final Long auctionId;
+    private final long sequence;
+    private final String bidderId;
+    private final BigDecimal amount;
+    // END_EXTENDED 는 연장된 마감 시각, 그 외는 수락 시각
+    private final LocalDateTime time;
+
+    // 이 입찰로 밀려난 이전 최고 입찰 (없으면 null)
+    private final String previousBidderId;
+    private final BigDecimal previousAmount;
+
+    // AUTO_BID_EXHAUSTED 일 때 비활성화할 자동 입찰 ID
+    private final Long autoBidId;
+
+    public boolean isBid() {
+        return type == Type.BID || type == Type.AUTO_BID || type == Type.BUY_NOW;
+    }
+}
@@ -44,32 +44,44 @@ public class BidHistory {
     }
     
     public static BidHistory bidPlaced(Long auctionId, String bidderId, BigDecimal amount) {
+        return bidPlaced(auctionId, bidderId, amount, LocalDateTime.now());
+    }
+    
+    public static BidHistory bidPlaced(Long auctionId, String bidderId, BigDecimal amount, LocalDateTime timestamp) {
         return BidHistory.builder()
                 .auctionId(auctionId)
                 .bidderId(bidderId)
                 .amount(amount)
                 .eventType("BID_PLACED")
-                .timestamp(LocalDateTime.now())
+                .timestamp(timestamp)
                 .build();
     }
     
     public static BidHistory bidOutbid(Long auctionId, String bidderId, BigDecimal amount) {
+        return bidOutbid(auctionId, bidderId, amount, LocalDateTime.now());
+    }
+    
+    public static BidHistory bidOutbid(Long auctionId, String bidderId, BigDecimal amount, LocalDateTime timestamp) {
         return BidHistory.builder()
                 .auctionId(auctionId)
                 .bidderId(bidderId)
                 .amount(amount)
                 .eventType("BID_OUTBID")
-                .timestamp(LocalDateTime.now())
+                .timestamp(timestamp)
                 .build();
     }
     
     public static BidHistory auctionWon(Long auctionId, String bidderId, BigDecimal amount) {
+        return auctionWon(auctionId, bidderId, amount, LocalDateTime.now());
+    }
+    
+    public static BidHistory auctionWon(Long auctionId, String bidderId, BigDecimal amount, LocalDateTime timestamp) {
         return BidHistory.builder()
                 .auctionId(auctionId)
                 .bidderId(bidderId)
                 .amount(amount)
                 .eventType("AUCTION_WON")
-                .timestamp(LocalDateTime.now())
+                .timestamp(timestamp)
                 .build();
     }
 }
@@ -1,39 +1,72 @@
 package com.example.payflow.auction.infrastructure;
 
+import com.example.payflow.auction.application.AuctionLifecycleHandler;
+import com.example.payflow.auction.application.AuctionLifecycleScheduler;
 import com.example.payflow.auction.application.AuctionService;
+import com.example.payflow.auction.application.BidBookEngine;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Component;
 
+import java.time.LocalDateTime;
+
+/**
+ * 경매 시작/종료 처리기
+ * - 분 단위 폴링 대신 AuctionLifecycleScheduler 의 타이밍 휠이 예정 시각에 호출
+ * - 기동 시 놓친 시작/종료를 먼저 처리한 뒤 남은 경매의 타이머를 재적재
+ */
 @Component
 @RequiredArgsConstructor
 @Slf4j
-public class AuctionScheduler {
+public class AuctionScheduler implements AuctionLifecycleHandler {
     
     private final AuctionService auctionService;
+    private final AuctionLifecycleScheduler lifecycleScheduler;
+    private final BidBookEngine bidBookEngine;
+    
+    @PostConstruct
+    public void register() {
+        lifecycleScheduler.setHandler(this);
+    }
     
     /**
-     * 1분마다 예정된 경매 시작
+     * 재시작 시 타이머 재적재
      */
-    @Scheduled(fixedRate = 60000)
-    public void startScheduledAuctions() {
+    @EventListener(ApplicationReadyEvent.class)
+    public void rehydrate() {
         try {
             auctionService.startScheduledAuctions();
+            auctionService.closeExpiredAuctions();
+        } catch (Exception e) {
+            // 종료하지 못한 만료 경매는 아래에서 재적재한 종료 타이머가 바로 발화해 재시도
+            log.error("놓친 경매 시작/종료 처리 중 오류 발생", e);
+        }
+        try {
+            int count = auctionService.scheduleLifecycleTimers();
+            log.info("⏱️ 경매 타이머 재적재: {}건", count);
         } catch (Exception e) {
-            log.error("예정된 경매 시작 중 오류 발생", e);
+            log.error("경매 타이머 재적재 중 오류 발생", e);
         }
     }
     
+    @Override
+    public void onStart(Long auctionId) {
+        auctionService.startAuction(auctionId);
+    }
+    
     /**
-     * 1분마다 만료된 경매 종료
+     * 장부의 마감이 연장됐으면 새 마감 시각을 돌려주어 타이머를 다시 건다
      */
-    @Scheduled(fixedRate = 60000)
-    public void closeExpiredAuctions() {
-        try {
-            auctionService.closeExpiredAuctions();
-        } catch (Exception e) {
-            log.error("만료된 경매 종료 중 오류 발생", e);
+    @Override
+    public LocalDateTime onClose(Long auctionId) {
+        LocalDateTime extendedEnd = bidBookEngine.closeIfDue(auctionId, LocalDateTime.now());
+        if (extendedEnd != null) {
+            return extendedEnd;
         }
+        auctionService.closeAuction(auctionId);
+        return null;
     }
 }
@@ -0,0 +1,253 @@
+package com.example.payflow.auction.infrastructure;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+
+/**
+ * 계층형 타이밍 휠 (64 슬롯 x 5 단계, tick 10ms 기준 약 124일 범위)
+ * - 등록/취소 O(1), tick 마다 해당 슬롯만 처리하므로 대기 타이머 수와 무관하게 일정한 비용
+ * - 상위 단계 슬롯은 하위 단계가 한 바퀴 돌 때 내려오며(cascade) 정확한 tick 에 재배치된다
+ * - 만료 작업은 전달받은 executor 에서 실행 (휠 구동 스레드를 막지 않도록)
+ * - 시각은 epoch millis 기준이며, 마감 시각보다 먼저 실행되지 않는다
+ */
+@Slf4j
+public class HierarchicalTimingWheel {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int MASK = SLOTS - 1;
+    private static final int LEVELS = 5;
+    private static final long MAX_SPAN_TICKS = 1L << (SLOT_BITS * LEVELS);
+
+    private final long tickMillis;
+    private final Executor executor;
+    private final LongSupplier clock;
+    private final Thread driver;
+
+    // 단계별 슬롯의 이중 연결 리스트 head (lock 으로 보호)
+    private final Timeout[][] heads = new Timeout[LEVELS][SLOTS];
+    private final Object lock = new Object();
+    private long currentTick;
+    private int size;
+
+    // 구동 스레드 전용 만료 목록 (tick 마다 재사용)
+    private final List<Timeout> expired = new ArrayList<>();
+
+    private volatile boolean running;
+
+    public HierarchicalTimingWheel(long tickMillis, Executor executor, String threadName) {
+        this(tickMillis, executor, threadName, System::currentTimeMillis);
+    }
+
+    /**
+     * @param clock 현재 시각 (epoch millis) - 테스트에서 시간을 직접 움직일 때 사용
+     */
+    HierarchicalTimingWheel(long tickMillis, Executor executor, String threadName, LongSupplier clock) {
+        this.tickMillis = tickMillis;
+        this.executor = executor;
+        this.clock = clock;
+        this.currentTick = clock.getAsLong() / tickMillis;
+        this.driver = new Thread(this::drive, threadName);
+        this.driver.setDaemon(true);
+    }
+
+    public void start() {
+        running = true;
+        driver.start();
+    }
+
+    public void stop() {
+        running = false;
+        LockSupport.unpark(driver);
+    }
+
+    public long getTickMillis() {
+        return tickMillis;
+    }
+
+    public int size() {
+        synchronized (lock) {
+            return size;
+        }
+    }
+
+    /**
+     * deadlineMillis 이후 첫 tick 에 task 실행. 이미 지난 시각이면 즉시 실행
+     */
+    public Timeout schedule(long deadlineMillis, Runnable task) {
+        Timeout timeout = new Timeout(deadlineMillis, task);
+        boolean due;
+        synchronized (lock) {
+            due = !place(timeout);
+        }
+        if (due) {
+            executor.execute(task);
+        }
+        return timeout;
+    }
+
+    private void drive() {
+        while (running) {
+            expireDueTimers();
+
+            long sleepMillis = (currentTick + 1) * tickMillis - clock.getAsLong();
+            if (sleepMillis > 0) {
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(sleepMillis));
+            }
+        }
+    }
+
+    /**
+     * 현재 시각까지 밀린 tick 을 순서대로 처리하고 만료된 작업을 executor 에 넘긴다
+     * 구동 스레드에서만 호출 (테스트는 start 없이 직접 호출)
+     */
+    void expireDueTimers() {
+        long nowTick = clock.getAsLong() / tickMillis;
+        synchronized (lock) {
+            // 밀린 tick 은 순서대로 따라잡는다
+            while (currentTick < nowTick) {
+                advance(expired);
+            }
+        }
+
+        for (Timeout timeout : expired) {
+            try {
+                executor.execute(timeout.task);
+            } catch (RuntimeException e) {
+                log.error("타이머 작업 실행 실패: deadline={}", timeout.deadlineMillis, e);
+            }
+        }
+        expired.clear();
+    }
+
+    /**
+     * 한 tick 전진: 하위 단계가 한 바퀴를 돌면 상위 슬롯을 내려보낸 뒤 0 단계 슬롯을 만료
+     */
+    private void advance(List<Timeout> expired) {
+        currentTick++;
+
+        for (int level = 1; level < LEVELS; level++) {
+            long lowerBits = currentTick & ((1L << (SLOT_BITS * level)) - 1);
+            if (lowerBits != 0) {
+                break;
+            }
+            int slot = (int) ((currentTick >> (SLOT_BITS * level)) & MASK);
+            Timeout timeout = detach(level, slot);
+            while (timeout != null) {
+                Timeout next = timeout.next;
+                timeout.prev = null;
+                timeout.next = null;
+                size--;
+                if (!place(timeout)) {
+                    expired.add(timeout);
+                }
+                timeout = next;
+            }
+        }
+
+        Timeout timeout = detach(0, (int) (currentTick & MASK));
+        while (timeout != null) {
+            Timeout next = timeout.next;
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.level = -1;
+            size--;
+            expired.add(timeout);
+            timeout = next;
+        }
+    }
+
+    /**
+     * @return 휠에 배치됐으면 true, 이미 만료 tick 이 지났으면 false
+     */
+    private boolean place(Timeout timeout) {
+        long delta = timeout.expiryTick - currentTick;
+        if (delta <= 0) {
+            timeout.level = -1;
+            return false;
+        }
+
+        // 범위를 넘는 타이머는 최상위 단계 끝에 두었다가 cascade 때 다시 배치
+        long placementTick = delta < MAX_SPAN_TICKS ? timeout.expiryTick : currentTick + MAX_SPAN_TICKS - 1;
+        long span = Math.min(delta, MAX_SPAN_TICKS - 1);
+
+        int level = 0;
+        while (level < LEVELS - 1 && span >= (1L << (SLOT_BITS * (level + 1)))) {
+            level++;
+        }
+        int slot = (int) ((placementTick >> (SLOT_BITS * level)) & MASK);
+
+        Timeout head = heads[level][slot];
+        timeout.next = head;
+        if (head != null) {
+            head.prev = timeout;
+        }
+        heads[level][slot] = timeout;
+        timeout.level = level;
+        timeout.slot = slot;
+        size++;
+        return true;
+    }
+
+    private Timeout detach(int level, int slot) {
+        Timeout head = heads[level][slot];
+        heads[level][slot] = null;
+        return head;
+    }
+
+    /**
+     * 등록된 타이머 핸들
+     */
+    public final class Timeout {
+
+        private final long deadlineMillis;
+        private final long expiryTick;
+        private final Runnable task;
+        private Timeout prev;
+        private Timeout next;
+        private int level = -1;
+        private int slot;
+        private boolean cancelled;
+
+        private Timeout(long deadlineMillis, Runnable task) {
+            this.deadlineMillis = deadlineMillis;
+            this.expiryTick = (deadlineMillis + tickMillis - 1) / tickMillis;
+            this.task = task;
+        }
+
+        public long getDeadlineMillis() {
+            return deadlineMillis;
+        }
+
+        /**
+         * @return 아직 실행 전이라 취소됐으면 true
+         */
+        public boolean cancel() {
+            synchronized (lock) {
+                if (cancelled || level < 0) {
+                    return false;
+                }
+                if (prev != null) {
+                    prev.next = next;
+                } else {
+                    heads[level][slot] = next;
+                }
+                if (next != null) {
+                    next.prev = prev;
+                }
+                prev = null;
+                next = null;
+                level = -1;
+                cancelled = true;
+                size--;
+                return true;
+            }
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.payflow.auction.presentation;
 
+import com.example.payflow.auction.application.AuctionLifecycleScheduler;
 import com.example.payflow.auction.application.AuctionService;
 import com.example.payflow.auction.application.AutoBidService;
 import com.example.payflow.auction.application.BidService;
@@ -23,6 +24,7 @@ public class AuctionController {
     private final AuctionService auctionService;
     private final BidService bidService;
     private final AutoBidService autoBidService;
+    private final AuctionLifecycleScheduler lifecycleScheduler;
     
     @PostMapping
     public ResponseEntity<AuctionResponse> createAuction(
@@ -33,6 +35,14 @@ public class AuctionController {
         return ResponseEntity.ok(response);
     }
     
+    /**
+     * 시작/종료 타이머 지연 통계 (endTime 대비 종료 완료 지연 포함)
+     */
+    @GetMapping("/scheduler/metrics")
+    public ResponseEntity<AuctionTimerStats> getSchedulerMetrics() {
+        return ResponseEntity.ok(lifecycleScheduler.getStats());
+    }
+    
     @GetMapping
     public ResponseEntity<Page<AuctionResponse>> getAuctions(
             @RequestParam(defaultValue = "0") int page,
@@ -109,21 +119,21 @@ public class AuctionController {
     }
     
     @PostMapping("/{id}/bids")
-    public ResponseEntity<BidResponse> placeBid(
+    public ResponseEntity<BidPlacementResponse> placeBid(
             @PathVariable Long id,
             @Valid @RequestBody BidRequest request,
             Authentication authentication) {
         String bidderId = authentication.getName();
-        BidResponse response = bidService.placeBid(id, request, bidderId);
+        BidPlacementResponse response = bidService.placeBid(id, request, bidderId);
         return ResponseEntity.ok(response);
     }
     
     @PostMapping("/{id}/buy-now")
-    public ResponseEntity<BidResponse> buyNow(
+    public ResponseEntity<BidPlacementResponse> buyNow(
             @PathVariable Long id,
             Authentication authentication) {
         String buyerId = authentication.getName();
-        BidResponse response = bidService.buyNow(id, buyerId);
+        BidPlacementResponse response = bidService.buyNow(id, buyerId);
         return ResponseEntity.ok(response);
     }
     
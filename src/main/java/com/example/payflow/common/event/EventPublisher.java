@@ -1,5 +1,14 @@
 package com.example.payflow.common.event;
 
+import java.util.List;
+
 public interface EventPublisher {
     void publish(DomainEvent event);
+
+    /**
+     * 여러 이벤트 일괄 발행 (구현체가 건별 로그/flush 를 묶을 수 있다)
+     */
+    default void publishAll(List<? extends DomainEvent> events) {
+        events.forEach(this::publish);
+    }
 }
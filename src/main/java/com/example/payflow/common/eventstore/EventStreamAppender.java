@@ -0,0 +1,213 @@
+package com.example.payflow.common.eventstore;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.SqlTypeValue;
+import org.springframework.jdbc.core.StatementCreatorUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * append-only 이벤트 스트림 저장 (에스크로/결제 이벤트 소싱 공용)
+ * - 매번 MAX(sequence) 를 읽지 않고 aggregate 별 마지막 sequence 를 메모리에 캐시해 바로 insert
+ * - (aggregate, sequence) 유니크 제약 충돌/락 타임아웃이면 savepoint 로 되돌리고 DB 값을 다시 읽어 재시도 (낙관적 append)
+ * - 캐시는 커밋된 sequence 만 반영하고, 트랜잭션 안에서 할당한 값은 커밋 후에만 캐시로 옮겨 롤백돼도 빈 번호가 생기지 않는다
+ * - 재조회가 다른 트랜잭션의 커밋을 볼 수 있어야 하므로 READ COMMITTED 격리 수준 기준
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EventStreamAppender {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${eventstore.append.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${eventstore.sequence-cache.max-size:100000}")
+    private long sequenceCacheSize;
+
+    private Cache<String, Integer> committedSequences;
+
+    private final AtomicLong appends = new AtomicLong();
+    private final AtomicLong events = new AtomicLong();
+    private final AtomicLong conflicts = new AtomicLong();
+    private final AtomicLong cacheMisses = new AtomicLong();
+
+    @PostConstruct
+    public void init() {
+        committedSequences = Caffeine.newBuilder()
+                .maximumSize(sequenceCacheSize)
+                .build();
+    }
+
+    /**
+     * 이벤트 1건 추가 후 할당된 sequence 반환
+     */
+    public <E> int append(EventStreamTable<E> table, String aggregateId, E event) {
+        return appendAll(table, aggregateId, List.of(event));
+    }
+
+    /**
+     * 같은 aggregate 의 이벤트 여러 건을 연속 sequence 로 한 번에 추가 (JDBC batch, 전부 성공하거나 전부 실패)
+     *
+     * @return 첫 이벤트의 sequence
+     */
+    public <E> int appendAll(EventStreamTable<E> table, String aggregateId, List<E> batch) {
+        if (batch.isEmpty()) {
+            throw new IllegalArgumentException("추가할 이벤트가 없습니다.");
+        }
+        List<Object[]> rows = batch.stream().map(table::bind).toList();
+        String key = table.getName() + ":" + aggregateId;
+        PendingSequences pending = pendingSequences();
+
+        int last = lastKnownSequence(table, aggregateId, key, pending);
+        for (int attempt = 1; ; attempt++) {
+            try {
+                insert(table, aggregateId, last + 1, rows);
+                break;
+            } catch (DuplicateKeyException | ConcurrencyFailureException e) {
+                conflicts.incrementAndGet();
+                if (attempt >= maxAttempts) {
+                    throw new IllegalStateException(table.getName() + " 이벤트 sequence 할당 실패: aggregateId="
+                            + aggregateId + ", attempts=" + attempt, e);
+                }
+                last = loadLastSequence(table, aggregateId);
+                log.debug("🔁 이벤트 sequence 충돌 - 재시도: table={}, aggregateId={}, next={}, attempt={}",
+                        table.getName(), aggregateId, last + 1, attempt);
+            }
+        }
+
+        int newLast = last + rows.size();
+        if (pending != null) {
+            pending.sequences.put(key, newLast);
+        } else {
+            committedSequences.asMap().merge(key, newLast, Math::max);
+        }
+        appends.incrementAndGet();
+        events.addAndGet(rows.size());
+        return last + 1;
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("appends", appends.get());
+        stats.put("events", events.get());
+        stats.put("conflicts", conflicts.get());
+        stats.put("cacheMisses", cacheMisses.get());
+        stats.put("cachedAggregates", committedSequences.estimatedSize());
+        return stats;
+    }
+
+    private int lastKnownSequence(EventStreamTable<?> table, String aggregateId, String key, PendingSequences pending) {
+        Integer last = pending != null ? pending.sequences.get(key) : null;
+        if (last == null) {
+            last = committedSequences.getIfPresent(key);
+        }
+        if (last == null) {
+            cacheMisses.incrementAndGet();
+            last = loadLastSequence(table, aggregateId);
+        }
+        return last;
+    }
+
+    private int loadLastSequence(EventStreamTable<?> table, String aggregateId) {
+        Integer last = jdbcTemplate.queryForObject(table.getLastSequenceSql(), Integer.class, aggregateId);
+        return last != null ? last : 0;
+    }
+
+    /**
+     * 트랜잭션 안이면 savepoint, 아니면 임시 트랜잭션으로 묶어 충돌 시 이 insert 만 되돌린다
+     */
+    private void insert(EventStreamTable<?> table, String aggregateId, int firstSequence, List<Object[]> rows) {
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            boolean autoCommit = connection.getAutoCommit();
+            Savepoint savepoint = null;
+            if (autoCommit) {
+                connection.setAutoCommit(false);
+            } else {
+                savepoint = connection.setSavepoint();
+            }
+            try (PreparedStatement ps = connection.prepareStatement(table.getInsertSql())) {
+                for (int i = 0; i < rows.size(); i++) {
+                    ps.setString(1, aggregateId);
+                    ps.setInt(2, firstSequence + i);
+                    Object[] values = rows.get(i);
+                    for (int column = 0; column < values.length; column++) {
+                        StatementCreatorUtils.setParameterValue(ps, column + 3, SqlTypeValue.TYPE_UNKNOWN, values[column]);
+                    }
+                    ps.addBatch();
+                }
+                ps.executeBatch();
+                if (autoCommit) {
+                    connection.commit();
+                } else {
+                    connection.releaseSavepoint(savepoint);
+                }
+                return null;
+            } catch (SQLException e) {
+                if (autoCommit) {
+                    connection.rollback();
+                } else {
+                    connection.rollback(savepoint);
+                }
+                throw e;
+            } finally {
+                if (autoCommit) {
+                    connection.setAutoCommit(true);
+                }
+            }
+        });
+    }
+
+    /**
+     * 현재 트랜잭션에서 할당한 sequence (트랜잭션마다 하나, REQUIRES_NEW 로 중단된 바깥 트랜잭션과 섞이지 않는다)
+     */
+    private PendingSequences pendingSequences() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return null;
+        }
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof PendingSequences pending && pending.owner() == this) {
+                return pending;
+            }
+        }
+        PendingSequences pending = new PendingSequences();
+        TransactionSynchronizationManager.registerSynchronization(pending);
+        return pending;
+    }
+
+    private class PendingSequences implements TransactionSynchronization {
+
+        private final Map<String, Integer> sequences = new HashMap<>();
+
+        private EventStreamAppender owner() {
+            return EventStreamAppender.this;
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            if (status == STATUS_COMMITTED) {
+                sequences.forEach((key, last) -> committedSequences.asMap().merge(key, last, Math::max));
+            }
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.payflow.common.eventstore;
+
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 이벤트 스트림 테이블 정의 (aggregate 별 sequence 가 1부터 빈틈없이 증가하는 append-only 테이블)
+ * - (aggregateColumn, sequenceColumn) 에 유니크 제약이 있어야 한다
+ * - binder 는 columns 순서대로 이벤트의 나머지 컬럼 값을 반환
+ */
+@Getter
+public final class EventStreamTable<E> {
+
+    private final String name;
+    private final String aggregateColumn;
+    private final String sequenceColumn;
+    private final List<String> columns;
+    private final Function<E, Object[]> binder;
+    private final String insertSql;
+    private final String lastSequenceSql;
+
+    private EventStreamTable(String name, String aggregateColumn, String sequenceColumn,
+                             List<String> columns, Function<E, Object[]> binder) {
+        this.name = name;
+        this.aggregateColumn = aggregateColumn;
+        this.sequenceColumn = sequenceColumn;
+        this.columns = List.copyOf(columns);
+        this.binder = binder;
+        this.insertSql = "INSERT INTO " + name + " (" + aggregateColumn + ", " + sequenceColumn + ", "
+                + String.join(", ", columns) + ") VALUES (?, ?" + ", ?".repeat(columns.size()) + ")";
+        this.lastSequenceSql = "SELECT COALESCE(MAX(" + sequenceColumn + "), 0) FROM " + name
+                + " WHERE " + aggregateColumn + " = ?";
+    }
+
+    public static <E> EventStreamTable<E> of(String name, String aggregateColumn, String sequenceColumn,
+                                             List<String> columns, Function<E, Object[]> binder) {
+        return new EventStreamTable<>(name, aggregateColumn, sequenceColumn, columns, binder);
+    }
+
+    Object[] bind(E event) {
+        Object[] values = binder.apply(event);
+        if (values.length != columns.size()) {
+            throw new IllegalArgumentException(name + " 컬럼 수 불일치: expected=" + columns.size()
+                    + ", actual=" + values.length);
+        }
+        return values;
+    }
+}
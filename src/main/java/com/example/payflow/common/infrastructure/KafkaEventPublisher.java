@@ -9,6 +9,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 @Component
 @RequiredArgsConstructor
 @Slf4j
@@ -30,4 +32,20 @@ public class KafkaEventPublisher implements EventPublisher {
             throw new RuntimeException("이벤트 발행 실패", e);
         }
     }
+    
+    @Override
+    public void publishAll(List<? extends DomainEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        try {
+            for (DomainEvent event : events) {
+                kafkaTemplate.send(event.getEventType(), event.getEventId(), objectMapper.writeValueAsString(event));
+            }
+            log.info("📨 이벤트 일괄 발행: topic={}, count={}", events.get(0).getEventType(), events.size());
+        } catch (JsonProcessingException e) {
+            log.error("이벤트 직렬화 실패", e);
+            throw new RuntimeException("이벤트 발행 실패", e);
+        }
+    }
 }
@@ -0,0 +1,136 @@
+package com.example.payflow.common.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 고정 버킷 지연 시간 히스토그램 (lock-free, 기록 시 할당 없음)
+ * - 버킷 상한은 마이크로초 단위, 마지막 버킷은 상한 없음
+ * - 백분위수는 해당 버킷의 상한값으로 근사
+ */
+public class LatencyHistogram {
+
+    private static final long[] BOUNDS_MICROS = {
+        50, 100, 250, 500,
+        1_000, 2_500, 5_000, 10_000, 25_000, 50_000,
+        100_000, 250_000, 500_000, 1_000_000, 5_000_000
+    };
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BOUNDS_MICROS.length + 1);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong totalMicros = new AtomicLong();
+    private final AtomicLong maxMicros = new AtomicLong();
+
+    public void recordNanos(long nanos) {
+        recordMicros(nanos / 1_000);
+    }
+
+    public void recordMicros(long micros) {
+        if (micros < 0) {
+            micros = 0;
+        }
+        buckets.incrementAndGet(bucketIndex(micros));
+        count.incrementAndGet();
+        totalMicros.addAndGet(micros);
+        maxMicros.accumulateAndGet(micros, Math::max);
+    }
+
+    public long getCount() {
+        return count.get();
+    }
+
+    public double getMeanMillis() {
+        long n = count.get();
+        return n == 0 ? 0 : totalMicros.get() / (double) n / 1_000;
+    }
+
+    public double getMaxMillis() {
+        return maxMicros.get() / 1_000.0;
+    }
+
+    /**
+     * 백분위수 근사값 (ms)
+     * @param percentile 0 ~ 100
+     */
+    public double getPercentileMillis(double percentile) {
+        long[] counts = new long[buckets.length()];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = buckets.get(i);
+        }
+        return percentileMillis(counts, percentile, getMaxMillis());
+    }
+
+    /**
+     * 버킷 수 (같은 경계로 건수를 따로 모아 저장/병합할 때 사용)
+     */
+    public static int bucketCount() {
+        return BOUNDS_MICROS.length + 1;
+    }
+
+    public static int bucketIndex(long micros) {
+        int bucket = 0;
+        while (bucket < BOUNDS_MICROS.length && micros > BOUNDS_MICROS[bucket]) {
+            bucket++;
+        }
+        return bucket;
+    }
+
+    /**
+     * 버킷별 건수로 백분위수 근사값 (ms). 마지막 버킷은 maxMillis 로 본다
+     */
+    public static double percentileMillis(long[] counts, double percentile, double maxMillis) {
+        long n = 0;
+        for (long c : counts) {
+            n += c;
+        }
+        if (n == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(n * percentile / 100.0);
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return i < BOUNDS_MICROS.length ? Math.min(BOUNDS_MICROS[i] / 1_000.0, maxMillis) : maxMillis;
+            }
+        }
+        return maxMillis;
+    }
+
+    /**
+     * 버킷별 누적 건수 (키: "<=1ms" 형태)
+     */
+    public Map<String, Long> getBuckets() {
+        Map<String, Long> result = new LinkedHashMap<>();
+        for (int i = 0; i < buckets.length(); i++) {
+            String label = i < BOUNDS_MICROS.length
+                ? "<=" + formatMicros(BOUNDS_MICROS[i])
+                : ">" + formatMicros(BOUNDS_MICROS[BOUNDS_MICROS.length - 1]);
+            result.put(label, buckets.get(i));
+        }
+        return result;
+    }
+
+    public Map<String, Object> snapshot() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("count", getCount());
+        result.put("meanMs", getMeanMillis());
+        result.put("p50Ms", getPercentileMillis(50));
+        result.put("p99Ms", getPercentileMillis(99));
+        result.put("maxMs", getMaxMillis());
+        result.put("buckets", getBuckets());
+        return result;
+    }
+
+    private static String formatMicros(long micros) {
+        if (micros < 1_000) {
+            return micros + "us";
+        }
+        if (micros < 1_000_000) {
+            return (micros % 1_000 == 0 ? String.valueOf(micros / 1_000) : String.valueOf(micros / 1_000.0)) + "ms";
+        }
+        return (micros / 1_000_000) + "s";
+    }
+}
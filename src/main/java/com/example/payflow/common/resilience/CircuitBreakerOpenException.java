@@ -0,0 +1,11 @@
+package com.example.payflow.common.resilience;
+
+/**
+ * 서킷이 열려 있어 외부 호출을 시도하지 않고 거절함
+ */
+public class CircuitBreakerOpenException extends RuntimeException {
+
+    public CircuitBreakerOpenException(String name) {
+        super("서킷 브레이커 OPEN - 호출 차단: " + name);
+    }
+}
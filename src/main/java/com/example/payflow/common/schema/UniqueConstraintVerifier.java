@@ -0,0 +1,122 @@
+package com.example.payflow.common.schema;
+
+import com.example.payflow.escrow.domain.EscrowEventStore;
+import com.example.payflow.logging.domain.PaymentEventStore;
+import com.example.payflow.stage.domain.StagePayment;
+import com.example.payflow.stage.domain.StagePayout;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.util.*;
+
+/**
+ * 동시성 보장을 유니크 제약에 맡기는 테이블의 제약이 실제 DB 에 있는지 기동 시 확인
+ * - ddl-auto=update 는 기존 테이블에 유니크 제약을 추가하지 않으므로, 제약 도입 전부터 있던 DB 는 제약 없이 동작하게 된다
+ * - 모든 싱글톤(EntityManagerFactory 의 스키마 갱신 포함) 생성 직후, 웹 서버·Kafka 리스너가 뜨기 전에 검사하고
+ *   누락이 있으면 중복 건수와 추가할 DDL 을 담아 기동을 중단한다 (중복 행을 정리한 뒤 DDL 을 실행하고 재기동)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UniqueConstraintVerifier implements SmartInitializingSingleton {
+
+    private static final List<Class<?>> ENTITIES = List.of(
+            // 유니크 제약 충돌로 sequence 경쟁을 감지하는 append-only 이벤트 스트림
+            EscrowEventStore.class,
+            PaymentEventStore.class,
+            // 재시작한 일괄 생성 배치의 중복 insert 를 제약이 막는다 (JdbcStageBatchRepository)
+            StagePayment.class,
+            StagePayout.class
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${schema.unique-check.enabled:true}")
+    private boolean enabled;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!enabled) {
+            log.warn("⚠️ 유니크 제약 확인 비활성화 - 제약이 없으면 동시 요청에서 중복 행이 생길 수 있습니다");
+            return;
+        }
+        List<String> missing = verify(ENTITIES);
+        if (!missing.isEmpty()) {
+            throw new IllegalStateException("유니크 제약이 없는 테이블이 있어 기동을 중단합니다. "
+                    + "중복 행을 정리하고 아래 DDL 을 실행한 뒤 다시 시작하세요.\n" + String.join("\n", missing));
+        }
+        log.info("✅ 유니크 제약 확인 완료: {}", ENTITIES.stream().map(UniqueConstraintVerifier::tableName).toList());
+    }
+
+    /**
+     * 엔티티 @Table 에 선언한 유니크 제약 중 DB 에 없는 것마다 안내 문구 (중복 건수 + 추가 DDL) 반환
+     */
+    List<String> verify(List<Class<?>> entities) {
+        List<String> missing = new ArrayList<>();
+        for (Class<?> entity : entities) {
+            String table = tableName(entity);
+            Collection<Set<String>> uniqueKeys = uniqueKeys(table);
+            for (UniqueConstraint constraint : entity.getAnnotation(Table.class).uniqueConstraints()) {
+                List<String> columns = Arrays.stream(constraint.columnNames())
+                        .map(UniqueConstraintVerifier::columnName)
+                        .toList();
+                if (!uniqueKeys.contains(new HashSet<>(columns))) {
+                    missing.add(describe(table, constraint.name(), columns));
+                }
+            }
+        }
+        return missing;
+    }
+
+    private Collection<Set<String>> uniqueKeys(String table) {
+        return jdbcTemplate.execute((ConnectionCallback<Collection<Set<String>>>) connection -> {
+            DatabaseMetaData metaData = connection.getMetaData();
+            String name = metaData.storesUpperCaseIdentifiers() ? table.toUpperCase(Locale.ROOT) : table;
+            Map<String, Set<String>> indexes = new HashMap<>();
+            try (ResultSet rs = metaData.getIndexInfo(connection.getCatalog(), null, name, true, false)) {
+                while (rs.next()) {
+                    String column = rs.getString("COLUMN_NAME");
+                    if (column != null) {
+                        indexes.computeIfAbsent(rs.getString("INDEX_NAME"), k -> new HashSet<>())
+                                .add(column.toLowerCase(Locale.ROOT));
+                    }
+                }
+            }
+            return indexes.values();
+        });
+    }
+
+    private String describe(String table, String constraintName, List<String> columns) {
+        String columnList = String.join(", ", columns);
+        String duplicates;
+        try {
+            Integer count = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM (SELECT " + columnList + " FROM " + table
+                    + " GROUP BY " + columnList + " HAVING COUNT(*) > 1) d", Integer.class);
+            duplicates = String.valueOf(count);
+        } catch (DataAccessException e) {
+            duplicates = "확인 불가 (" + e.getMostSpecificCause().getMessage() + ")";
+        }
+        String name = constraintName.isEmpty() ? "uk_" + table + "_" + String.join("_", columns) : constraintName;
+        return "- " + table + " (" + columnList + "): 중복 키 " + duplicates + "건 → ALTER TABLE " + table
+                + " ADD CONSTRAINT " + name + " UNIQUE (" + columnList + ");";
+    }
+
+    private static String tableName(Class<?> entity) {
+        return entity.getAnnotation(Table.class).name();
+    }
+
+    // Spring Boot 물리 이름 규칙과 같게 camelCase 를 snake_case 로
+    private static String columnName(String name) {
+        return name.replaceAll("([a-z0-9])([A-Z])", "$1_$2").toLowerCase(Locale.ROOT);
+    }
+}
@@ -1,11 +1,16 @@
 package com.example.payflow.crypto.application;
 
 import com.example.payflow.crypto.domain.CoinTicker;
+import com.example.payflow.crypto.domain.OrderbookUpdate;
+import com.example.payflow.crypto.domain.StreamFanoutStats;
+import com.example.payflow.crypto.domain.TickerRecord;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonSerializer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.socket.BinaryMessage;
 import org.springframework.web.socket.TextMessage;
@@ -39,8 +44,24 @@ public class BithumbWebSocketService extends TextWebSocketHandler {
     // 최신 시세 데이터 캐시 (KRW-BTC 형식으로 저장)
     private final Map<String, CoinTicker> tickerCache = new ConcurrentHashMap<>();
     
-    // 연결된 클라이언트 세션들
-    private final Set<WebSocketSession> clientSessions = new CopyOnWriteArraySet<>();
+    // 클라이언트 전송 큐 설정
+    @Value("${crypto.ws.client-queue-capacity:1024}")
+    private int clientQueueCapacity;
+    
+    @Value("${crypto.ws.max-client-lag-ms:5000}")
+    private long maxClientLagMs;
+    
+    @Value("${crypto.ws.send-time-limit-ms:2000}")
+    private long sendTimeLimitMs;
+    
+    // 연결된 클라이언트 전송 큐
+    private TickerFanout fanout;
+    
+    // 실시간 틱 리스너 (지표/프리미엄 엔진 등, copy-on-write 배열)
+    private volatile TickListener[] tickListeners = new TickListener[0];
+    
+    // 호가 리스너 (로컬 호가창, copy-on-write 배열)
+    private volatile OrderbookListener[] orderbookListeners = new OrderbookListener[0];
     
     // 빗썸 웹소켓 세션
     private WebSocketSession bithumbSession;
@@ -51,9 +72,16 @@ public class BithumbWebSocketService extends TextWebSocketHandler {
     // 빗썸 -> 업비트 심볼 매핑
     private final Map<String, String> symbolMapping = new HashMap<>();
     
+    // 틱 리스너 전달용 재사용 레코드 (소켓 리더 스레드 전용)
+    private final TickerRecord scratch = new TickerRecord();
+    
+    // 호가 리스너 전달용 재사용 갱신 (소켓 리더 스레드 전용)
+    private final OrderbookUpdate orderbookScratch = new OrderbookUpdate();
+    
     @PostConstruct
     public void init() {
         initMappings();
+        fanout = new TickerFanout("BITHUMB", clientQueueCapacity, maxClientLagMs, sendTimeLimitMs);
         connectToBithumb();
     }
     
@@ -124,6 +152,13 @@ public class BithumbWebSocketService extends TextWebSocketHandler {
             
             bithumbSession.sendMessage(new TextMessage(message));
             
+            // 호가 변경분 구독 (로컬 호가창용)
+            // {"type":"orderbookdepth","symbols":["BTC_KRW","ETH_KRW"]}
+            Map<String, Object> orderbookRequest = new HashMap<>();
+            orderbookRequest.put("type", "orderbookdepth");
+            orderbookRequest.put("symbols", symbols);
+            bithumbSession.sendMessage(new TextMessage(gson.toJson(orderbookRequest)));
+            
             log.info("✅ 빗썸 구독 완료: {}", subscribedMarkets);
         } catch (Exception e) {
             log.error("❌ 빗썸 구독 메시지 전송 실패", e);
@@ -174,7 +209,14 @@ public class BithumbWebSocketService extends TextWebSocketHandler {
                     
                     // 모든 클라이언트에게 브로드캐스트
                     broadcastToClients(ticker);
+                    
+                    if (tickListeners.length > 0) {
+                        scratch.copyFrom(ticker, System.currentTimeMillis());
+                        notifyTickListeners(scratch);
+                    }
                 }
+            } else if (json.has("type") && "orderbookdepth".equals(json.get("type").getAsString())) {
+                handleOrderbookDepth(json.getAsJsonObject("content"));
             }
             
         } catch (Exception e) {
@@ -182,6 +224,39 @@ public class BithumbWebSocketService extends TextWebSocketHandler {
         }
     }
     
+    /**
+     * 호가 변경분 처리 - 심볼별로 묶어 리스너에 전달 (잔량은 해당 가격의 현재 잔량, 0 이면 삭제)
+     */
+    private void handleOrderbookDepth(JsonObject content) {
+        if (orderbookListeners.length == 0 || content == null || !content.has("list")) {
+            return;
+        }
+        JsonArray list = content.getAsJsonArray("list");
+        long timestamp = System.currentTimeMillis();
+        
+        orderbookScratch.reset();
+        String currentSymbol = null;
+        for (int i = 0; i < list.size(); i++) {
+            JsonObject level = list.get(i).getAsJsonObject();
+            String symbol = level.get("symbol").getAsString();
+            if (!symbol.equals(currentSymbol)) {
+                if (currentSymbol != null) {
+                    notifyOrderbookListeners(orderbookScratch);
+                    orderbookScratch.reset();
+                }
+                currentSymbol = symbol;
+                String coin = symbol.replace("_KRW", "");
+                orderbookScratch.setMarket(symbolMapping.getOrDefault(coin, "KRW-" + coin));
+                orderbookScratch.setTimestamp(timestamp);
+            }
+            orderbookScratch.add("bid".equals(level.get("orderType").getAsString()),
+                level.get("price").getAsDouble(), level.get("quantity").getAsDouble());
+        }
+        if (currentSymbol != null) {
+            notifyOrderbookListeners(orderbookScratch);
+        }
+    }
+    
     private CoinTicker parseBithumbTicker(JsonObject content) {
         try {
             // 필수 필드 확인
@@ -248,43 +323,80 @@ public class BithumbWebSocketService extends TextWebSocketHandler {
         return BigDecimal.ZERO;
     }
     
+    /**
+     * 소켓 리더 스레드에서 호출 - 한 번 직렬화한 프레임을 클라이언트 전송 큐에 넣고 즉시 반환
+     */
     private void broadcastToClients(CoinTicker ticker) {
-        String message = gson.toJson(ticker);
-        
-        clientSessions.forEach(session -> {
-            try {
-                if (session.isOpen()) {
-                    session.sendMessage(new TextMessage(message));
-                }
-            } catch (Exception e) {
-                log.error("❌ 클라이언트 메시지 전송 실패", e);
-            }
-        });
+        fanout.publish(ticker.getMarket(), new TextMessage(gson.toJson(ticker)));
     }
     
     public void addClientSession(WebSocketSession session) {
-        clientSessions.add(session);
-        log.info("✅ 빗썸 클라이언트 연결: {} (총 {}명)", session.getId(), clientSessions.size());
+        ClientSendQueue queue = fanout.addClient(session);
+        log.info("✅ 빗썸 클라이언트 연결: {} (총 {}명)", session.getId(), fanout.getClientCount());
         
         // 연결 시 캐시된 데이터 전송
-        sendCachedData(session);
+        sendCachedData(queue);
     }
     
     public void removeClientSession(WebSocketSession session) {
-        clientSessions.remove(session);
-        log.info("❌ 빗썸 클라이언트 연결 해제: {} (총 {}명)", session.getId(), clientSessions.size());
+        fanout.removeClient(session);
+        log.info("❌ 빗썸 클라이언트 연결 해제: {} (총 {}명)", session.getId(), fanout.getClientCount());
+    }
+    
+    private void sendCachedData(ClientSendQueue queue) {
+        tickerCache.forEach((market, ticker) ->
+            fanout.send(queue, market, new TextMessage(gson.toJson(ticker))));
+    }
+    
+    public StreamFanoutStats getStreamStats() {
+        return fanout.stats();
     }
     
-    private void sendCachedData(WebSocketSession session) {
-        tickerCache.values().forEach(ticker -> {
+    /**
+     * 틱 리스너 등록 - 소켓 리더 스레드에서 동기 호출됨
+     */
+    public synchronized void addTickListener(TickListener listener) {
+        TickListener[] next = Arrays.copyOf(tickListeners, tickListeners.length + 1);
+        next[next.length - 1] = listener;
+        tickListeners = next;
+    }
+    
+    private void notifyTickListeners(TickerRecord tick) {
+        TickListener[] listeners = tickListeners;
+        for (int i = 0; i < listeners.length; i++) {
             try {
-                if (session.isOpen()) {
-                    session.sendMessage(new TextMessage(gson.toJson(ticker)));
-                }
+                listeners[i].onTick("BITHUMB", tick);
+            } catch (Exception e) {
+                log.error("❌ 빗썸 틱 리스너 처리 실패: {}", tick.getMarket(), e);
+            }
+        }
+    }
+    
+    /**
+     * 호가 리스너 등록 - 소켓 리더 스레드에서 동기 호출됨
+     */
+    public synchronized void addOrderbookListener(OrderbookListener listener) {
+        OrderbookListener[] next = Arrays.copyOf(orderbookListeners, orderbookListeners.length + 1);
+        next[next.length - 1] = listener;
+        orderbookListeners = next;
+    }
+    
+    private void notifyOrderbookListeners(OrderbookUpdate update) {
+        OrderbookListener[] listeners = orderbookListeners;
+        for (int i = 0; i < listeners.length; i++) {
+            try {
+                listeners[i].onOrderbook("BITHUMB", update);
             } catch (Exception e) {
-                log.error("❌ 캐시 데이터 전송 실패", e);
+                log.error("❌ 빗썸 호가 리스너 처리 실패: {}", update.getMarket(), e);
             }
-        });
+        }
+    }
+    
+    /**
+     * 웹소켓으로 구독 중인 마켓인지 (업비트 형식, 예: KRW-BTC)
+     */
+    public boolean isSubscribed(String market) {
+        return market.startsWith("KRW-") && subscribedMarkets.contains(market.substring("KRW-".length()));
     }
     
     public List<CoinTicker> getAllTickers() {
@@ -301,13 +413,14 @@ public class BithumbWebSocketService extends TextWebSocketHandler {
             if (bithumbSession != null && bithumbSession.isOpen()) {
                 bithumbSession.close();
             }
-            clientSessions.forEach(session -> {
+            for (ClientSendQueue client : fanout.getClients()) {
                 try {
-                    session.close();
+                    client.getSession().close();
                 } catch (Exception e) {
                     log.error("클라이언트 세션 종료 실패", e);
                 }
-            });
+            }
+            fanout.shutdown();
             log.info("✅ 빗썸 웹소켓 서비스 종료");
         } catch (Exception e) {
             log.error("❌ 서비스 종료 실패", e);
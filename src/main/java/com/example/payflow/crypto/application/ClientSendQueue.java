@@ -0,0 +1,200 @@
+package com.example.payflow.crypto.application;
+
+import com.example.payflow.common.metrics.LatencyHistogram;
+import com.example.payflow.crypto.domain.StreamClientStats;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.adapter.NativeWebSocketSession;
+
+import java.util.Arrays;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 클라이언트별 비동기 전송 큐 (마켓별 최신값 conflation)
+ * - 아직 전송되지 않은 마켓에 새 틱이 오면 대기 중인 프레임을 교체하므로 느린 클라이언트는 마켓별 최신 틱만 받는다
+ * - offer 는 블로킹하지 않으며, 대기 마켓 수가 용량을 넘으면 새 프레임을 버린다
+ * - 가장 오래된 미전송 틱이 maxLag 을 넘거나 한 번의 전송이 sendTimeLimit 을 넘으면 연결을 끊는다
+ * - 세션당 drain 작업은 한 번에 하나만 실행되어 세션 단일 송신자 규칙을 지킨다
+ */
+@Slf4j
+public class ClientSendQueue implements Runnable {
+
+    // Tomcat 블로킹 전송 타임아웃 (송신 스레드가 느린 소켓에 묶이는 시간 제한)
+    private static final String TOMCAT_BLOCKING_SEND_TIMEOUT = "org.apache.tomcat.websocket.BLOCKING_SEND_TIMEOUT";
+
+    private final WebSocketSession session;
+    private final TickerFanout owner;
+    private final Executor executor;
+    private final long maxLagNanos;
+    private final long sendTimeLimitNanos;
+
+    // 마켓 키 인덱스별 대기 중인 최신 프레임과 최초 대기 시각
+    private TextMessage[] pending = new TextMessage[16];
+    private long[] pendingSince = new long[16];
+
+    // 대기 중인 마켓 키 FIFO (ring buffer)
+    private final int[] order;
+    private int head;
+    private int size;
+
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean closing = new AtomicBoolean();
+    private final AtomicLong sent = new AtomicLong();
+    private final AtomicLong conflated = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final LatencyHistogram sendLatency = new LatencyHistogram();
+
+    public ClientSendQueue(WebSocketSession session, TickerFanout owner, Executor executor,
+                           int capacity, long maxLagMs, long sendTimeLimitMs) {
+        this.session = session;
+        this.owner = owner;
+        this.executor = executor;
+        this.order = new int[capacity];
+        this.maxLagNanos = maxLagMs * 1_000_000L;
+        this.sendTimeLimitNanos = sendTimeLimitMs * 1_000_000L;
+        applySendTimeout(session, sendTimeLimitMs);
+    }
+
+    private static void applySendTimeout(WebSocketSession session, long sendTimeLimitMs) {
+        if (session instanceof NativeWebSocketSession nativeSession) {
+            jakarta.websocket.Session standard = nativeSession.getNativeSession(jakarta.websocket.Session.class);
+            if (standard != null) {
+                standard.getUserProperties().put(TOMCAT_BLOCKING_SEND_TIMEOUT, sendTimeLimitMs);
+            }
+        }
+    }
+
+    /**
+     * 소켓 리더 스레드에서 호출 - 할당/블로킹 없음
+     */
+    public void offer(int key, TextMessage frame, long nowNanos) {
+        boolean tooSlow;
+        synchronized (this) {
+            if (closing.get()) {
+                return;
+            }
+            if (key >= pending.length) {
+                int length = Math.max(key + 1, pending.length * 2);
+                pending = Arrays.copyOf(pending, length);
+                pendingSince = Arrays.copyOf(pendingSince, length);
+            }
+
+            if (pending[key] != null) {
+                pending[key] = frame;
+                conflated.incrementAndGet();
+            } else if (size == order.length) {
+                dropped.incrementAndGet();
+            } else {
+                pending[key] = frame;
+                pendingSince[key] = nowNanos;
+                order[(head + size) % order.length] = key;
+                size++;
+            }
+
+            tooSlow = size > 0 && nowNanos - pendingSince[order[head]] > maxLagNanos;
+        }
+
+        if (tooSlow) {
+            disconnect("전송 지연 " + (maxLagNanos / 1_000_000) + "ms 초과");
+        } else if (draining.compareAndSet(false, true)) {
+            executor.execute(this);
+        }
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (true) {
+                TextMessage frame;
+                synchronized (this) {
+                    if (size == 0) {
+                        break;
+                    }
+                    int key = order[head];
+                    head = (head + 1) % order.length;
+                    size--;
+                    frame = pending[key];
+                    pending[key] = null;
+                }
+
+                if (!session.isOpen()) {
+                    clear();
+                    return;
+                }
+
+                long start = System.nanoTime();
+                session.sendMessage(frame);
+                long elapsed = System.nanoTime() - start;
+
+                sent.incrementAndGet();
+                sendLatency.recordNanos(elapsed);
+                owner.recordSendLatency(elapsed);
+
+                if (elapsed > sendTimeLimitNanos) {
+                    disconnect("전송 시간 " + (elapsed / 1_000_000) + "ms 초과");
+                    return;
+                }
+            }
+        } catch (Exception e) {
+            log.error("❌ 클라이언트 메시지 전송 실패: {}", session.getId(), e);
+            disconnect("전송 실패");
+        } finally {
+            draining.set(false);
+            if (hasPending() && !closing.get() && draining.compareAndSet(false, true)) {
+                executor.execute(this);
+            }
+        }
+    }
+
+    private synchronized boolean hasPending() {
+        return size > 0;
+    }
+
+    private synchronized void clear() {
+        Arrays.fill(pending, null);
+        head = 0;
+        size = 0;
+    }
+
+    /**
+     * 느린 클라이언트 연결 해제 (소켓 리더 스레드를 막지 않도록 송신 풀에서 close)
+     */
+    private void disconnect(String reason) {
+        if (!closing.compareAndSet(false, true)) {
+            return;
+        }
+        clear();
+        owner.onSlowClient(this);
+        log.warn("⚠️ 느린 클라이언트 연결 해제: {} ({})", session.getId(), reason);
+        executor.execute(() -> {
+            try {
+                session.close(CloseStatus.SESSION_NOT_RELIABLE);
+            } catch (Exception e) {
+                log.debug("느린 클라이언트 세션 종료 실패: {}", session.getId(), e);
+            }
+        });
+    }
+
+    public WebSocketSession getSession() {
+        return session;
+    }
+
+    public synchronized int getQueueDepth() {
+        return size;
+    }
+
+    public StreamClientStats stats() {
+        return StreamClientStats.builder()
+            .sessionId(session.getId())
+            .queueDepth(getQueueDepth())
+            .sentCount(sent.get())
+            .conflatedCount(conflated.get())
+            .droppedCount(dropped.get())
+            .sendLatency(sendLatency.snapshot())
+            .build();
+    }
+}
@@ -1,8 +1,11 @@
 package com.example.payflow.crypto.application;
 
 import com.example.payflow.crypto.domain.*;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
@@ -10,225 +13,280 @@ import java.math.RoundingMode;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 거래소 비교 서비스 V2
  * - 프리미엄 계산
  * - VWAP 계산
  * - 체결강도 분석
+ *
+ * 업비트/빗썸 틱이 들어올 때마다 마켓별 상태만 O(1) 로 갱신하고,
+ * 변경된 마켓은 발행 스레드가 모아서 정렬된 불변 스냅샷으로 교체한다.
+ * 조회(대시보드 폴링, SSE)는 volatile 스냅샷 참조 한 번으로 끝난다.
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
-public class ExchangeComparisonServiceV2 {
-    
+public class ExchangeComparisonServiceV2 implements TickListener {
+
+    private static final String UPBIT = "UPBIT";
+    private static final String BITHUMB = "BITHUMB";
+
+    // 체결강도용 거래량 히스토리 (초 단위 샘플 10분)
+    private static final int VOLUME_HISTORY_SECONDS = 600;
+
     private final UpbitWebSocketService upbitService;
     private final BithumbWebSocketService bithumbService;
-    
-    // 체결강도 계산을 위한 거래량 히스토리 (거래소별, 마켓별)
-    private final Map<String, List<VolumeSnapshot>> volumeHistory = new ConcurrentHashMap<>();
-    
+
+    @Value("${crypto.premium.publish-interval-ms:100}")
+    private long publishIntervalMs;
+
+    // 마켓별 틱 상태 (market -> state)
+    private final Map<String, MarketState> markets = new ConcurrentHashMap<>();
+
+    // 발행된 스냅샷 (기준 거래소별)
+    private volatile PremiumSnapshot upbitReference = PremiumSnapshot.EMPTY;
+    private volatile PremiumSnapshot bithumbReference = PremiumSnapshot.EMPTY;
+    private volatile Map<String, TradeStrength> upbitStrengths = Collections.emptyMap();
+    private volatile Map<String, TradeStrength> bithumbStrengths = Collections.emptyMap();
+
+    // 발행 스레드 전용 scratch
+    private final TickerRecord upbitScratch = new TickerRecord();
+    private final TickerRecord bithumbScratch = new TickerRecord();
+
+    private final ScheduledExecutorService publisher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "premium-publisher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @PostConstruct
+    public void init() {
+        log.info("🚀 거래소 프리미엄 엔진 시작 - 발행 주기 {}ms", publishIntervalMs);
+        upbitService.addTickListener(this);
+        bithumbService.addTickListener(this);
+        publisher.scheduleWithFixedDelay(this::publish, publishIntervalMs, publishIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        publisher.shutdownNow();
+    }
+
     /**
-     * 모든 코인의 거래소 간 프리미엄 비교
+     * 소켓 리더 스레드에서 호출 - O(1), 할당 없음 (마켓 최초 등장 시 제외)
+     * 거래소별 필드는 해당 거래소 리더 스레드 하나만 쓴다
      */
-    public List<ExchangePremium> getAllPremiums(String referenceExchange) {
-        List<ExchangePremium> premiums = new ArrayList<>();
-        
-        List<CoinTicker> upbitTickers = upbitService.getAllTickers();
-        
-        for (CoinTicker upbitTicker : upbitTickers) {
-            ExchangePremium premium = calculatePremium(upbitTicker.getMarket(), referenceExchange);
-            if (premium != null) {
-                premiums.add(premium);
-            }
+    @Override
+    public void onTick(String exchange, TickerRecord tick) {
+        MarketState state = markets.get(tick.getMarket());
+        if (state == null) {
+            state = markets.computeIfAbsent(tick.getMarket(), MarketState::new);
+        }
+
+        if (UPBIT.equals(exchange)) {
+            state.upbit.write(tick, null);
+            state.upbitVolumes.add(tick.getTimestamp(), tick.doubleValue(TickerRecord.ACC_TRADE_VOLUME_24H));
+            state.hasUpbit = true;
+        } else {
+            state.bithumb.write(tick, null);
+            state.bithumbVolumes.add(tick.getTimestamp(), tick.doubleValue(TickerRecord.ACC_TRADE_VOLUME_24H));
+            state.hasBithumb = true;
         }
-        
-        // 프리미엄 절대값 기준 정렬
-        premiums.sort((a, b) -> b.getMaxPremium().abs().compareTo(a.getMaxPremium().abs()));
-        
-        return premiums;
+        state.dirty = true;
     }
-    
+
+    /**
+     * 모든 코인의 거래소 간 프리미엄 비교 (프리미엄 절대값 내림차순)
+     */
+    public List<ExchangePremium> getAllPremiums(String referenceExchange) {
+        return snapshotOf(referenceExchange).ranked;
+    }
+
     /**
      * 특정 코인의 거래소 간 프리미엄 계산
      */
     public ExchangePremium calculatePremium(String market, String referenceExchange) {
-        CoinTicker upbitTicker = upbitService.getTicker(market);
-        CoinTicker bithumbTicker = bithumbService.getTicker(market);
-        
-        if (upbitTicker == null || bithumbTicker == null) {
-            return null;
+        return snapshotOf(referenceExchange).byMarket.get(market);
+    }
+
+    private PremiumSnapshot snapshotOf(String referenceExchange) {
+        return UPBIT.equals(referenceExchange) ? upbitReference : bithumbReference;
+    }
+
+    /**
+     * 변경된 마켓만 다시 계산하여 스냅샷 교체 (발행 스레드)
+     */
+    private void publish() {
+        try {
+            boolean changed = false;
+            for (MarketState state : markets.values()) {
+                if (!state.dirty || !state.hasUpbit || !state.hasBithumb) {
+                    continue;
+                }
+                state.dirty = false;
+                state.upbit.read(upbitScratch);
+                state.bithumb.read(bithumbScratch);
+                state.upbitReference = buildPremium(state, upbitScratch, bithumbScratch, UPBIT);
+                state.bithumbReference = buildPremium(state, upbitScratch, bithumbScratch, BITHUMB);
+                changed = true;
+            }
+
+            if (changed) {
+                upbitReference = rank(UPBIT);
+                bithumbReference = rank(BITHUMB);
+            }
+
+            // 체결강도는 시간 경과만으로도 달라지므로 매 주기 갱신
+            long now = System.currentTimeMillis();
+            upbitStrengths = buildStrengths(UPBIT, now);
+            bithumbStrengths = buildStrengths(BITHUMB, now);
+        } catch (Exception e) {
+            log.error("❌ 프리미엄 스냅샷 발행 실패", e);
         }
-        
-        // 기준 가격 설정
-        BigDecimal referencePrice = "UPBIT".equals(referenceExchange) 
-            ? upbitTicker.getTradePrice() 
-            : bithumbTicker.getTradePrice();
-        
-        // 거래소별 가격 및 프리미엄 계산
+    }
+
+    private PremiumSnapshot rank(String referenceExchange) {
+        boolean upbitReferenced = UPBIT.equals(referenceExchange);
+        List<MarketState> ready = new ArrayList<>(markets.size());
+        for (MarketState state : markets.values()) {
+            if ((upbitReferenced ? state.upbitReference : state.bithumbReference) != null) {
+                ready.add(state);
+            }
+        }
+        ready.sort(Comparator.comparingDouble(state -> upbitReferenced ? -state.upbitRankKey : -state.bithumbRankKey));
+
+        List<ExchangePremium> ranked = new ArrayList<>(ready.size());
+        Map<String, ExchangePremium> byMarket = new HashMap<>(ready.size() * 2);
+        for (MarketState state : ready) {
+            ExchangePremium premium = upbitReferenced ? state.upbitReference : state.bithumbReference;
+            ranked.add(premium);
+            byMarket.put(state.market, premium);
+        }
+        return new PremiumSnapshot(Collections.unmodifiableList(ranked), byMarket);
+    }
+
+    private ExchangePremium buildPremium(MarketState state, TickerRecord upbit, TickerRecord bithumb,
+                                         String referenceExchange) {
+        double upbitPrice = upbit.doubleValue(TickerRecord.TRADE_PRICE);
+        double bithumbPrice = bithumb.doubleValue(TickerRecord.TRADE_PRICE);
+        TickerRecord reference = UPBIT.equals(referenceExchange) ? upbit : bithumb;
+        double referencePrice = reference.doubleValue(TickerRecord.TRADE_PRICE);
+        BigDecimal referenceDecimal = reference.decimal(TickerRecord.TRADE_PRICE);
+
+        double upbitPremium = premiumPercent(upbitPrice, referencePrice);
+        double bithumbPremium = premiumPercent(bithumbPrice, referencePrice);
+
         Map<String, ExchangePremium.ExchangePrice> exchangePrices = new HashMap<>();
-        
-        // 업비트
-        BigDecimal upbitPremium = calculatePremiumPercent(upbitTicker.getTradePrice(), referencePrice);
-        BigDecimal upbitSpread = upbitTicker.getTradePrice().subtract(referencePrice);
-        exchangePrices.put("UPBIT", ExchangePremium.ExchangePrice.builder()
-            .exchange("UPBIT")
-            .price(upbitTicker.getTradePrice())
-            .premium(upbitPremium)
-            .spread(upbitSpread)
-            .volume24h(upbitTicker.getAccTradePrice24h())
-            .changeDirection(upbitTicker.getChange())
-            .changeRate(upbitTicker.getSignedChangeRate())
-            .build());
-        
-        // 빗썸
-        BigDecimal bithumbPremium = calculatePremiumPercent(bithumbTicker.getTradePrice(), referencePrice);
-        BigDecimal bithumbSpread = bithumbTicker.getTradePrice().subtract(referencePrice);
-        exchangePrices.put("BITHUMB", ExchangePremium.ExchangePrice.builder()
-            .exchange("BITHUMB")
-            .price(bithumbTicker.getTradePrice())
-            .premium(bithumbPremium)
-            .spread(bithumbSpread)
-            .volume24h(bithumbTicker.getAccTradePrice24h())
-            .changeDirection(bithumbTicker.getChange())
-            .changeRate(bithumbTicker.getSignedChangeRate())
-            .build());
-        
-        // VWAP 계산 (거래량 가중 평균 가격)
-        BigDecimal vwap = calculateVWAP(
-            upbitTicker.getTradePrice(), upbitTicker.getAccTradePrice24h(),
-            bithumbTicker.getTradePrice(), bithumbTicker.getAccTradePrice24h()
-        );
-        BigDecimal vwapPremium = calculatePremiumPercent(vwap, referencePrice);
-        
-        // 최대/최소 프리미엄 찾기
-        BigDecimal maxPremium = upbitPremium.compareTo(bithumbPremium) > 0 ? upbitPremium : bithumbPremium;
-        BigDecimal minPremium = upbitPremium.compareTo(bithumbPremium) < 0 ? upbitPremium : bithumbPremium;
-        String maxPremiumExchange = upbitPremium.compareTo(bithumbPremium) > 0 ? "UPBIT" : "BITHUMB";
-        String minPremiumExchange = upbitPremium.compareTo(bithumbPremium) < 0 ? "UPBIT" : "BITHUMB";
-        
+        exchangePrices.put(UPBIT, exchangePrice(UPBIT, upbit, upbitPremium, referenceDecimal));
+        exchangePrices.put(BITHUMB, exchangePrice(BITHUMB, bithumb, bithumbPremium, referenceDecimal));
+
+        // VWAP (24시간 거래대금 가중)
+        double upbitVolume = upbit.doubleValue(TickerRecord.ACC_TRADE_PRICE_24H);
+        double bithumbVolume = bithumb.doubleValue(TickerRecord.ACC_TRADE_PRICE_24H);
+        double totalVolume = upbitVolume + bithumbVolume;
+        double vwap = totalVolume == 0
+            ? (upbitPrice + bithumbPrice) / 2
+            : (upbitPrice * upbitVolume + bithumbPrice * bithumbVolume) / totalVolume;
+
+        boolean upbitHigher = upbitPremium > bithumbPremium;
+        boolean upbitLower = upbitPremium < bithumbPremium;
+        double maxPremium = upbitHigher ? upbitPremium : bithumbPremium;
+        if (reference == upbit) {
+            state.upbitRankKey = Math.abs(maxPremium);
+        } else {
+            state.bithumbRankKey = Math.abs(maxPremium);
+        }
+
         return ExchangePremium.builder()
-            .market(market)
-            .koreanName(upbitTicker.getKoreanName())
+            .market(state.market)
+            .koreanName(upbit.getKoreanName())
             .referenceExchange(referenceExchange)
-            .referencePrice(referencePrice)
+            .referencePrice(referenceDecimal)
             .exchangePrices(exchangePrices)
-            .vwap(vwap)
-            .vwapPremium(vwapPremium)
-            .maxPremium(maxPremium)
-            .minPremium(minPremium)
-            .maxPremiumExchange(maxPremiumExchange)
-            .minPremiumExchange(minPremiumExchange)
+            .vwap(decimal(vwap, 2))
+            .vwapPremium(decimal(premiumPercent(vwap, referencePrice), 4))
+            .maxPremium(decimal(maxPremium, 4))
+            .minPremium(decimal(upbitLower ? upbitPremium : bithumbPremium, 4))
+            .maxPremiumExchange(upbitHigher ? UPBIT : BITHUMB)
+            .minPremiumExchange(upbitLower ? UPBIT : BITHUMB)
             .timestamp(LocalDateTime.now())
             .build();
     }
-    
+
+    private ExchangePremium.ExchangePrice exchangePrice(String exchange, TickerRecord ticker, double premium,
+                                                        BigDecimal referencePrice) {
+        BigDecimal price = ticker.decimal(TickerRecord.TRADE_PRICE);
+        return ExchangePremium.ExchangePrice.builder()
+            .exchange(exchange)
+            .price(price)
+            .premium(decimal(premium, 4))
+            .spread(price.subtract(referencePrice))
+            .volume24h(ticker.decimal(TickerRecord.ACC_TRADE_PRICE_24H))
+            .changeDirection(TickerRecord.changeName(ticker.getChange()))
+            .changeRate(ticker.decimal(TickerRecord.SIGNED_CHANGE_RATE))
+            .build();
+    }
+
     /**
      * 프리미엄 % 계산
      */
-    private BigDecimal calculatePremiumPercent(BigDecimal targetPrice, BigDecimal referencePrice) {
-        if (referencePrice.compareTo(BigDecimal.ZERO) == 0) {
-            return BigDecimal.ZERO;
+    private static double premiumPercent(double targetPrice, double referencePrice) {
+        if (referencePrice == 0) {
+            return 0;
         }
-        return targetPrice.subtract(referencePrice)
-            .divide(referencePrice, 6, RoundingMode.HALF_UP)
-            .multiply(BigDecimal.valueOf(100));
+        return (targetPrice - referencePrice) / referencePrice * 100;
     }
-    
-    /**
-     * VWAP (Volume Weighted Average Price) 계산
-     */
-    private BigDecimal calculateVWAP(BigDecimal price1, BigDecimal volume1, 
-                                      BigDecimal price2, BigDecimal volume2) {
-        BigDecimal totalVolume = volume1.add(volume2);
-        if (totalVolume.compareTo(BigDecimal.ZERO) == 0) {
-            return price1.add(price2).divide(BigDecimal.valueOf(2), 2, RoundingMode.HALF_UP);
-        }
-        
-        BigDecimal weightedSum = price1.multiply(volume1).add(price2.multiply(volume2));
-        return weightedSum.divide(totalVolume, 2, RoundingMode.HALF_UP);
+
+    private static BigDecimal decimal(double value, int scale) {
+        return BigDecimal.valueOf(value).setScale(scale, RoundingMode.HALF_UP);
     }
-    
+
     /**
-     * 체결강도 계산 (매수/매도 비율)
+     * 체결강도 조회 (매수/매도 비율)
      * 실제로는 체결 데이터가 필요하지만, 여기서는 거래량 변화로 추정
      */
     public TradeStrength calculateTradeStrength(String exchange, String market) {
-        String key = exchange + ":" + market;
-        
-        // 현재 거래량 스냅샷 저장
-        CoinTicker ticker = "UPBIT".equals(exchange) 
-            ? upbitService.getTicker(market) 
-            : bithumbService.getTicker(market);
-        
-        if (ticker == null) {
-            return null;
-        }
-        
-        VolumeSnapshot currentSnapshot = VolumeSnapshot.builder()
-            .timestamp(LocalDateTime.now())
-            .volume(ticker.getAccTradeVolume24h())
-            .build();
-        
-        // 히스토리에 추가
-        volumeHistory.computeIfAbsent(key, k -> new ArrayList<>()).add(currentSnapshot);
-        
-        // 오래된 데이터 제거 (10분 이상)
-        List<VolumeSnapshot> history = volumeHistory.get(key);
-        history.removeIf(s -> s.getTimestamp().isBefore(LocalDateTime.now().minusMinutes(10)));
-        
-        // 1분, 5분 거래량 변화율 계산
-        BigDecimal volumeChange1m = calculateVolumeChange(history, 1);
-        BigDecimal volumeChange5m = calculateVolumeChange(history, 5);
-        
-        // 체결강도 추정 (거래량 증가 = 매수 우위로 가정)
-        BigDecimal strength1m = BigDecimal.valueOf(100).add(volumeChange1m);
-        BigDecimal strength5m = BigDecimal.valueOf(100).add(volumeChange5m);
-        
-        String direction1m = getDirection(strength1m);
-        String direction5m = getDirection(strength5m);
-        
-        return TradeStrength.builder()
-            .exchange(exchange)
-            .market(market)
-            .strength1m(strength1m)
-            .direction1m(direction1m)
-            .strength5m(strength5m)
-            .direction5m(direction5m)
-            .volumeChangeRate1m(volumeChange1m)
-            .volumeChangeRate5m(volumeChange5m)
-            .timestamp(LocalDateTime.now())
-            .build();
+        return (UPBIT.equals(exchange) ? upbitStrengths : bithumbStrengths).get(market);
     }
-    
-    private BigDecimal calculateVolumeChange(List<VolumeSnapshot> history, int minutes) {
-        if (history.size() < 2) {
-            return BigDecimal.ZERO;
-        }
-        
-        LocalDateTime cutoff = LocalDateTime.now().minusMinutes(minutes);
-        VolumeSnapshot recent = history.get(history.size() - 1);
-        
-        Optional<VolumeSnapshot> oldSnapshot = history.stream()
-            .filter(s -> s.getTimestamp().isBefore(cutoff))
-            .reduce((first, second) -> second); // 가장 최근 것
-        
-        if (oldSnapshot.isEmpty()) {
-            return BigDecimal.ZERO;
-        }
-        
-        BigDecimal oldVolume = oldSnapshot.get().getVolume();
-        BigDecimal newVolume = recent.getVolume();
-        
-        if (oldVolume.compareTo(BigDecimal.ZERO) == 0) {
-            return BigDecimal.ZERO;
+
+    private Map<String, TradeStrength> buildStrengths(String exchange, long now) {
+        boolean upbit = UPBIT.equals(exchange);
+        Map<String, TradeStrength> strengths = new HashMap<>(markets.size() * 2);
+        LocalDateTime timestamp = LocalDateTime.now();
+
+        for (MarketState state : markets.values()) {
+            if (!(upbit ? state.hasUpbit : state.hasBithumb)) {
+                continue;
+            }
+            VolumeRing volumes = upbit ? state.upbitVolumes : state.bithumbVolumes;
+
+            // 1분, 5분 거래량 변화율
+            BigDecimal volumeChange1m = decimal(volumes.changeRateSince(now - 60_000L), 4);
+            BigDecimal volumeChange5m = decimal(volumes.changeRateSince(now - 300_000L), 4);
+
+            // 체결강도 추정 (거래량 증가 = 매수 우위로 가정)
+            BigDecimal strength1m = BigDecimal.valueOf(100).add(volumeChange1m);
+            BigDecimal strength5m = BigDecimal.valueOf(100).add(volumeChange5m);
+
+            strengths.put(state.market, TradeStrength.builder()
+                .exchange(exchange)
+                .market(state.market)
+                .strength1m(strength1m)
+                .direction1m(getDirection(strength1m))
+                .strength5m(strength5m)
+                .direction5m(getDirection(strength5m))
+                .volumeChangeRate1m(volumeChange1m)
+                .volumeChangeRate5m(volumeChange5m)
+                .timestamp(timestamp)
+                .build());
         }
-        
-        return newVolume.subtract(oldVolume)
-            .divide(oldVolume, 4, RoundingMode.HALF_UP)
-            .multiply(BigDecimal.valueOf(100));
+        return strengths;
     }
-    
+
     private String getDirection(BigDecimal strength) {
         if (strength.compareTo(BigDecimal.valueOf(120)) > 0) {
             return "BUY_DOMINANT";
@@ -238,28 +296,60 @@ public class ExchangeComparisonServiceV2 {
             return "NEUTRAL";
         }
     }
-    
+
     /**
      * 차익거래 기회 찾기
      */
     public List<ExchangePremium> findArbitrageOpportunities(String referenceExchange, BigDecimal minPremium) {
         List<ExchangePremium> opportunities = new ArrayList<>();
-        List<ExchangePremium> allPremiums = getAllPremiums(referenceExchange);
-        
-        for (ExchangePremium premium : allPremiums) {
-            if (premium.getMaxPremium().abs().compareTo(minPremium) >= 0) {
-                opportunities.add(premium);
+
+        // 프리미엄 절대값 내림차순이므로 기준 미달이 나오면 중단
+        for (ExchangePremium premium : getAllPremiums(referenceExchange)) {
+            if (premium.getMaxPremium().abs().compareTo(minPremium) < 0) {
+                break;
             }
+            opportunities.add(premium);
         }
-        
+
         return opportunities;
     }
-    
-    // 거래량 스냅샷 내부 클래스
-    @lombok.Data
-    @lombok.Builder
-    private static class VolumeSnapshot {
-        private LocalDateTime timestamp;
-        private BigDecimal volume;
+
+    /**
+     * 마켓별 틱 상태
+     */
+    private static final class MarketState {
+        private final String market;
+        private final TickerSlot upbit = new TickerSlot();
+        private final TickerSlot bithumb = new TickerSlot();
+        private final VolumeRing upbitVolumes = new VolumeRing(VOLUME_HISTORY_SECONDS);
+        private final VolumeRing bithumbVolumes = new VolumeRing(VOLUME_HISTORY_SECONDS);
+        private volatile boolean hasUpbit;
+        private volatile boolean hasBithumb;
+        private volatile boolean dirty;
+
+        // 발행 스레드 전용
+        private ExchangePremium upbitReference;
+        private ExchangePremium bithumbReference;
+        private double upbitRankKey;
+        private double bithumbRankKey;
+
+        private MarketState(String market) {
+            this.market = market;
+        }
+    }
+
+    /**
+     * 정렬된 불변 프리미엄 스냅샷
+     */
+    private static final class PremiumSnapshot {
+        private static final PremiumSnapshot EMPTY = new PremiumSnapshot(Collections.emptyList(), Collections.emptyMap());
+
+        private final List<ExchangePremium> ranked;
+        private final Map<String, ExchangePremium> byMarket;
+
+        private PremiumSnapshot(List<ExchangePremium> ranked, Map<String, ExchangePremium> byMarket) {
+            this.ranked = ranked;
+            this.byMarket = byMarket;
+        }
     }
 }
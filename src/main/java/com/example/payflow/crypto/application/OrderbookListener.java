@@ -0,0 +1,13 @@
+package com.example.payflow.crypto.application;
+
+import com.example.payflow.crypto.domain.OrderbookUpdate;
+
+/**
+ * 거래소 웹소켓 호가 갱신 리스너
+ * - 소켓 리더 스레드에서 동기 호출되므로 블로킹/무거운 작업 금지
+ * - update 는 재사용 객체이므로 호출이 끝난 뒤 참조를 보관하지 말 것
+ */
+public interface OrderbookListener {
+
+    void onOrderbook(String exchange, OrderbookUpdate update);
+}
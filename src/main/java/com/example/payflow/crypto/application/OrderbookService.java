@@ -1,193 +1,358 @@
 package com.example.payflow.crypto.application;
 
+import com.example.payflow.crypto.domain.L2OrderBook;
 import com.example.payflow.crypto.domain.OrderbookData;
+import com.example.payflow.crypto.domain.OrderbookMetrics;
+import com.example.payflow.crypto.domain.OrderbookUpdate;
+import com.example.payflow.crypto.domain.StreamFanoutStats;
+import com.example.payflow.crypto.infrastructure.OrderbookFrameEncoder;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
 import reactor.core.publisher.Mono;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
- * 호가 데이터 수집 서비스
+ * 로컬 L2 호가창 서비스
+ * - 업비트 orderbook / 빗썸 orderbookdepth 웹소켓 채널로 거래소/마켓별 호가창을 직접 유지 (요청당 REST 호출 없음)
+ * - 빗썸은 변경분만 오므로 마켓 최초 등장 시 REST 스냅샷으로 한 번 채우고, 그동안 받은 변경분을 다시 적용
+ * - 구독 클라이언트에게는 연결 시 스냅샷, 이후 바뀐 레벨(delta)만 전송
+ * - 로컬 호가창이 아직 없는 마켓(첫 프레임 전, 미구독 마켓)은 REST 조회로 응답
  */
 @Slf4j
 @Service
-public class OrderbookService {
-    
-    private final WebClient webClient;
+@RequiredArgsConstructor
+public class OrderbookService implements OrderbookListener {
+
+    private static final String UPBIT = "UPBIT";
+    private static final String BITHUMB = "BITHUMB";
+    private static final int DEFAULT_LEVELS = 10;
+
+    private final UpbitWebSocketService upbitWebSocketService;
+    private final BithumbWebSocketService bithumbWebSocketService;
+
+    private final WebClient webClient = WebClient.builder().build();
     private final Gson gson = new Gson();
-    
-    // 호가 데이터 캐시
-    private final ConcurrentHashMap<String, OrderbookData> orderbookCache = new ConcurrentHashMap<>();
-    
-    public OrderbookService() {
-        this.webClient = WebClient.builder().build();
-    }
-    
+
+    // 거래소별 호가창 (market -> book)
+    private final Map<String, BookState> upbitBooks = new ConcurrentHashMap<>();
+    private final Map<String, BookState> bithumbBooks = new ConcurrentHashMap<>();
+
+    // 거래소 소켓 리더 스레드별 delta 인코더
+    private final OrderbookFrameEncoder upbitEncoder = new OrderbookFrameEncoder();
+    private final OrderbookFrameEncoder bithumbEncoder = new OrderbookFrameEncoder();
+
+    // 클라이언트 전송 큐 설정
+    @Value("${crypto.ws.client-queue-capacity:1024}")
+    private int clientQueueCapacity;
+
+    @Value("${crypto.ws.max-client-lag-ms:5000}")
+    private long maxClientLagMs;
+
+    @Value("${crypto.ws.send-time-limit-ms:2000}")
+    private long sendTimeLimitMs;
+
+    // 구독 클라이언트 전송 큐 (sessionId -> queue)
+    private TickerFanout fanout;
+    private final Map<String, ClientSendQueue> clients = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        fanout = new TickerFanout("ORDERBOOK", clientQueueCapacity, maxClientLagMs, sendTimeLimitMs);
+        upbitWebSocketService.addOrderbookListener(this);
+        bithumbWebSocketService.addOrderbookListener(this);
+        log.info("🚀 로컬 호가창 서비스 시작 - 업비트/빗썸 호가 채널 구독");
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        fanout.shutdown();
+    }
+
+    /**
+     * 소켓 리더 스레드에서 호출 - 호가창 갱신 후 구독자가 있을 때만 delta 인코딩
+     */
+    @Override
+    public void onOrderbook(String exchange, OrderbookUpdate update) {
+        boolean upbit = UPBIT.equals(exchange);
+        BookState state = bookState(upbit ? UPBIT : BITHUMB, update.getMarket());
+
+        if (!upbit && !state.seeded) {
+            OrderbookUpdate seed = state.pendingSeed;
+            if (seed != null) {
+                state.pendingSeed = null;
+                applySeed(state, seed);
+                if (state.recording) {
+                    state.record(update);
+                }
+            } else {
+                if (!state.recording) {
+                    state.startRecording();
+                }
+                state.record(update);
+                if (!state.seedRequested) {
+                    requestBithumbSeed(state);
+                }
+            }
+        }
+
+        if (state.book.apply(update)) {
+            publishDelta(state, upbit ? upbitEncoder : bithumbEncoder);
+        }
+    }
+
+    private BookState bookState(String exchange, String market) {
+        Map<String, BookState> books = UPBIT.equals(exchange) ? upbitBooks : bithumbBooks;
+        BookState state = books.get(market);
+        if (state == null) {
+            state = books.computeIfAbsent(market, m -> new BookState(new L2OrderBook(exchange, m),
+                fanout.keyOf(exchange + ":" + m), fanout.keyOf(exchange + ":" + m + ":snapshot")));
+        }
+        return state;
+    }
+
+    private void publishDelta(BookState state, OrderbookFrameEncoder encoder) {
+        ClientSendQueue[] subscribers = state.subscribers;
+        if (subscribers.length == 0) {
+            return;
+        }
+        if (state.book.isDeltaOverflow()) {
+            // 변경 레벨이 너무 많으면 전체 스냅샷으로 대체
+            TextMessage frame = new TextMessage(encoder.encodeSnapshot(state.book.snapshot()));
+            fanout.publish(state.snapshotKey, frame, subscribers);
+            return;
+        }
+        fanout.publish(state.deltaKey, new TextMessage(encoder.encodeDelta(state.book)), subscribers);
+    }
+
+    // ===== 빗썸 초기 스냅샷 =====
+
+    /**
+     * 빗썸 REST 호가 스냅샷 요청 (마켓당 한 번, 실패 시 다음 변경분에서 재시도)
+     */
+    private void requestBithumbSeed(BookState state) {
+        state.seedRequested = true;
+        String market = state.book.getMarket();
+        // KRW-BTC -> BTC_KRW
+        String symbol = market.replace("KRW-", "") + "_KRW";
+        String url = "https://api.bithumb.com/public/orderbook/" + symbol;
+
+        webClient.get()
+            .uri(url)
+            .retrieve()
+            .bodyToMono(String.class)
+            .subscribe(response -> {
+                OrderbookUpdate seed = parseBithumbSnapshot(response, market);
+                if (seed == null) {
+                    state.seedRequested = false;
+                    return;
+                }
+                state.pendingSeed = seed;
+                log.debug("📚 빗썸 호가 스냅샷 수신: {} ({}개 레벨)", market, seed.size());
+            }, error -> {
+                log.error("❌ 빗썸 호가 스냅샷 조회 실패: {} - {}", market, error.getMessage());
+                state.seedRequested = false;
+            });
+    }
+
+    private OrderbookUpdate parseBithumbSnapshot(String response, String market) {
+        try {
+            JsonObject json = gson.fromJson(response, JsonObject.class);
+            if (!"0000".equals(json.get("status").getAsString())) {
+                return null;
+            }
+            JsonObject data = json.getAsJsonObject("data");
+
+            OrderbookUpdate seed = new OrderbookUpdate();
+            seed.setMarket(market);
+            seed.setSnapshot(true);
+            seed.setTimestamp(data.has("timestamp") ? data.get("timestamp").getAsLong() : System.currentTimeMillis());
+            addLevels(seed, data.getAsJsonArray("bids"), true);
+            addLevels(seed, data.getAsJsonArray("asks"), false);
+            return seed;
+        } catch (Exception e) {
+            log.error("빗썸 호가 파싱 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void addLevels(OrderbookUpdate seed, JsonArray levels, boolean bid) {
+        for (int i = 0; i < Math.min(L2OrderBook.MAX_LEVELS, levels.size()); i++) {
+            JsonObject unit = levels.get(i).getAsJsonObject();
+            seed.add(bid, unit.get("price").getAsDouble(), unit.get("quantity").getAsDouble());
+        }
+    }
+
+    /**
+     * 스냅샷으로 교체한 뒤 요청 이후 받은 변경분을 다시 적용 (잔량 절대값이므로 중복 적용해도 안전)
+     */
+    private void applySeed(BookState state, OrderbookUpdate seed) {
+        if (state.recordOverflow) {
+            // 스냅샷을 기다리는 동안 변경분이 버퍼를 넘으면 다시 요청
+            state.startRecording();
+            requestBithumbSeed(state);
+            return;
+        }
+        state.book.apply(seed);
+        state.book.apply(state.recorded);
+        state.recording = false;
+        state.seeded = true;
+
+        ClientSendQueue[] subscribers = state.subscribers;
+        if (subscribers.length > 0) {
+            TextMessage frame = new TextMessage(bithumbEncoder.encodeSnapshot(state.book.snapshot()));
+            fanout.publish(state.snapshotKey, frame, subscribers);
+        }
+    }
+
+    // ===== 조회 =====
+
+    /**
+     * 로컬 호가창 조회 (상위 10개 레벨, 기존 REST 응답 형식)
+     */
+    public OrderbookData getOrderbook(String exchange, String market) {
+        L2OrderBook.View view = view(exchange, market);
+        return view == null ? null : view.toOrderbookData(DEFAULT_LEVELS);
+    }
+
+    /**
+     * 깊이 / 스프레드 / 슬리피지 / 불균형 지표
+     * @param orderSize 슬리피지 계산용 주문 수량 (코인 개수)
+     * @param depthPercent 중간가 대비 깊이 계산 범위 (%)
+     */
+    public OrderbookMetrics getMetrics(String exchange, String market, double orderSize, double depthPercent) {
+        L2OrderBook.View view = view(exchange, market);
+        return view == null ? null : view.metrics(orderSize, depthPercent);
+    }
+
     /**
-     * 업비트 호가 조회
+     * 로컬 호가창이 있으면 바로, 없으면 거래소 REST 호가로 응답 (기존 API 동작 유지)
      */
-    public Mono<OrderbookData> getUpbitOrderbook(String market) {
+    public Mono<OrderbookData> getOrderbookOrFetch(String exchange, String market) {
+        OrderbookData local = getOrderbook(exchange, market);
+        if (local != null) {
+            return Mono.just(local);
+        }
+        return UPBIT.equalsIgnoreCase(exchange) ? fetchUpbitOrderbook(market) : fetchBithumbOrderbook(market);
+    }
+
+    private L2OrderBook.View view(String exchange, String market) {
+        BookState state = (UPBIT.equalsIgnoreCase(exchange) ? upbitBooks : bithumbBooks).get(market);
+        if (state == null) {
+            return null;
+        }
+        L2OrderBook.View view = state.book.snapshot();
+        return view.getBidCount() == 0 && view.getAskCount() == 0 ? null : view;
+    }
+
+    // ===== REST 폴백 =====
+
+    private Mono<OrderbookData> fetchUpbitOrderbook(String market) {
         String url = "https://api.upbit.com/v1/orderbook?markets=" + market;
-        
+
         return webClient.get()
             .uri(url)
             .retrieve()
             .bodyToMono(String.class)
-            .map(response -> {
+            .mapNotNull(response -> {
                 try {
                     JsonArray jsonArray = gson.fromJson(response, JsonArray.class);
                     if (jsonArray.size() > 0) {
-                        JsonObject data = jsonArray.get(0).getAsJsonObject();
-                        return parseUpbitOrderbook(data, market);
+                        return parseUpbitOrderbook(jsonArray.get(0).getAsJsonObject(), market);
                     }
                 } catch (Exception e) {
                     log.error("업비트 호가 파싱 실패: {}", e.getMessage());
                 }
                 return null;
-            })
-            .doOnNext(orderbook -> {
-                if (orderbook != null) {
-                    orderbookCache.put("UPBIT:" + market, orderbook);
-                }
             });
     }
-    
-    /**
-     * 빗썸 호가 조회
-     */
-    public Mono<OrderbookData> getBithumbOrderbook(String market) {
+
+    private Mono<OrderbookData> fetchBithumbOrderbook(String market) {
         // KRW-BTC -> BTC_KRW
         String symbol = market.replace("KRW-", "") + "_KRW";
         String url = "https://api.bithumb.com/public/orderbook/" + symbol;
-        
+
         return webClient.get()
             .uri(url)
             .retrieve()
             .bodyToMono(String.class)
-            .map(response -> {
+            .mapNotNull(response -> {
                 try {
                     JsonObject json = gson.fromJson(response, JsonObject.class);
                     if ("0000".equals(json.get("status").getAsString())) {
-                        JsonObject data = json.getAsJsonObject("data");
-                        return parseBithumbOrderbook(data, market);
+                        return parseBithumbOrderbook(json.getAsJsonObject("data"), market);
                     }
                 } catch (Exception e) {
                     log.error("빗썸 호가 파싱 실패: {}", e.getMessage());
                 }
                 return null;
-            })
-            .doOnNext(orderbook -> {
-                if (orderbook != null) {
-                    orderbookCache.put("BITHUMB:" + market, orderbook);
-                }
             });
     }
-    
-    /**
-     * 캐시된 호가 데이터 조회
-     */
-    public OrderbookData getCachedOrderbook(String exchange, String market) {
-        return orderbookCache.get(exchange + ":" + market);
-    }
-    
+
     private OrderbookData parseUpbitOrderbook(JsonObject data, String market) {
         JsonArray orderbookUnits = data.getAsJsonArray("orderbook_units");
-        
+
         List<OrderbookData.OrderbookUnit> bids = new ArrayList<>();
         List<OrderbookData.OrderbookUnit> asks = new ArrayList<>();
-        
-        for (int i = 0; i < Math.min(10, orderbookUnits.size()); i++) {
+        for (int i = 0; i < Math.min(DEFAULT_LEVELS, orderbookUnits.size()); i++) {
             JsonObject unit = orderbookUnits.get(i).getAsJsonObject();
-            
-            // 매수 호가
-            BigDecimal bidPrice = unit.get("bid_price").getAsBigDecimal();
-            BigDecimal bidSize = unit.get("bid_size").getAsBigDecimal();
-            bids.add(OrderbookData.OrderbookUnit.builder()
-                .price(bidPrice)
-                .quantity(bidSize)
-                .total(bidPrice.multiply(bidSize))
-                .build());
-            
-            // 매도 호가
-            BigDecimal askPrice = unit.get("ask_price").getAsBigDecimal();
-            BigDecimal askSize = unit.get("ask_size").getAsBigDecimal();
-            asks.add(OrderbookData.OrderbookUnit.builder()
-                .price(askPrice)
-                .quantity(askSize)
-                .total(askPrice.multiply(askSize))
-                .build());
-        }
-        
-        BigDecimal bestBid = bids.isEmpty() ? BigDecimal.ZERO : bids.get(0).getPrice();
-        BigDecimal bestAsk = asks.isEmpty() ? BigDecimal.ZERO : asks.get(0).getPrice();
-        BigDecimal spread = bestAsk.subtract(bestBid);
-        BigDecimal spreadPercent = bestBid.compareTo(BigDecimal.ZERO) > 0
-            ? spread.divide(bestBid, 4, RoundingMode.HALF_UP).multiply(BigDecimal.valueOf(100))
-            : BigDecimal.ZERO;
-        
-        return OrderbookData.builder()
-            .exchange("UPBIT")
-            .market(market)
-            .bestBidPrice(bestBid)
-            .bestAskPrice(bestAsk)
-            .spread(spread)
-            .spreadPercent(spreadPercent)
-            .bids(bids)
-            .asks(asks)
-            .timestamp(LocalDateTime.now())
-            .build();
+            bids.add(unit(unit.get("bid_price").getAsBigDecimal(), unit.get("bid_size").getAsBigDecimal()));
+            asks.add(unit(unit.get("ask_price").getAsBigDecimal(), unit.get("ask_size").getAsBigDecimal()));
+        }
+        return orderbookData("UPBIT", market, bids, asks);
     }
-    
+
     private OrderbookData parseBithumbOrderbook(JsonObject data, String market) {
-        JsonArray bidsArray = data.getAsJsonArray("bids");
-        JsonArray asksArray = data.getAsJsonArray("asks");
-        
-        List<OrderbookData.OrderbookUnit> bids = new ArrayList<>();
-        List<OrderbookData.OrderbookUnit> asks = new ArrayList<>();
-        
-        // 매수 호가
-        for (int i = 0; i < Math.min(10, bidsArray.size()); i++) {
-            JsonObject unit = bidsArray.get(i).getAsJsonObject();
-            BigDecimal price = new BigDecimal(unit.get("price").getAsString());
-            BigDecimal quantity = new BigDecimal(unit.get("quantity").getAsString());
-            bids.add(OrderbookData.OrderbookUnit.builder()
-                .price(price)
-                .quantity(quantity)
-                .total(price.multiply(quantity))
-                .build());
-        }
-        
-        // 매도 호가
-        for (int i = 0; i < Math.min(10, asksArray.size()); i++) {
-            JsonObject unit = asksArray.get(i).getAsJsonObject();
-            BigDecimal price = new BigDecimal(unit.get("price").getAsString());
-            BigDecimal quantity = new BigDecimal(unit.get("quantity").getAsString());
-            asks.add(OrderbookData.OrderbookUnit.builder()
-                .price(price)
-                .quantity(quantity)
-                .total(price.multiply(quantity))
-                .build());
-        }
-        
+        return orderbookData("BITHUMB", market, units(data.getAsJsonArray("bids")), units(data.getAsJsonArray("asks")));
+    }
+
+    private List<OrderbookData.OrderbookUnit> units(JsonArray levels) {
+        List<OrderbookData.OrderbookUnit> units = new ArrayList<>();
+        for (int i = 0; i < Math.min(DEFAULT_LEVELS, levels.size()); i++) {
+            JsonObject unit = levels.get(i).getAsJsonObject();
+            units.add(unit(new BigDecimal(unit.get("price").getAsString()),
+                new BigDecimal(unit.get("quantity").getAsString())));
+        }
+        return units;
+    }
+
+    private static OrderbookData.OrderbookUnit unit(BigDecimal price, BigDecimal quantity) {
+        return OrderbookData.OrderbookUnit.builder()
+            .price(price)
+            .quantity(quantity)
+            .total(price.multiply(quantity))
+            .build();
+    }
+
+    private static OrderbookData orderbookData(String exchange, String market,
+                                               List<OrderbookData.OrderbookUnit> bids,
+                                               List<OrderbookData.OrderbookUnit> asks) {
         BigDecimal bestBid = bids.isEmpty() ? BigDecimal.ZERO : bids.get(0).getPrice();
         BigDecimal bestAsk = asks.isEmpty() ? BigDecimal.ZERO : asks.get(0).getPrice();
         BigDecimal spread = bestAsk.subtract(bestBid);
         BigDecimal spreadPercent = bestBid.compareTo(BigDecimal.ZERO) > 0
             ? spread.divide(bestBid, 4, RoundingMode.HALF_UP).multiply(BigDecimal.valueOf(100))
             : BigDecimal.ZERO;
-        
+
         return OrderbookData.builder()
-            .exchange("BITHUMB")
+            .exchange(exchange)
             .market(market)
             .bestBidPrice(bestBid)
             .bestAskPrice(bestAsk)
@@ -198,4 +363,145 @@ public class OrderbookService {
             .timestamp(LocalDateTime.now())
             .build();
     }
+
+    // ===== 클라이언트 구독 =====
+
+    public void addClientSession(WebSocketSession session) {
+        clients.put(session.getId(), fanout.addClient(session));
+        log.info("✅ 호가 클라이언트 연결: {} (총 {}명)", session.getId(), fanout.getClientCount());
+    }
+
+    public void removeClientSession(WebSocketSession session) {
+        ClientSendQueue queue = clients.remove(session.getId());
+        fanout.removeClient(session);
+        if (queue != null) {
+            upbitBooks.values().forEach(state -> state.unsubscribe(queue));
+            bithumbBooks.values().forEach(state -> state.unsubscribe(queue));
+        }
+        log.info("❌ 호가 클라이언트 연결 해제: {} (총 {}명)", session.getId(), fanout.getClientCount());
+    }
+
+    /**
+     * 클라이언트 메시지 처리
+     * {"type":"subscribe|unsubscribe|snapshot","exchange":"UPBIT","market":"KRW-BTC"}
+     */
+    public void handleClientMessage(WebSocketSession session, String payload) {
+        ClientSendQueue queue = clients.get(session.getId());
+        if (queue == null) {
+            return;
+        }
+        try {
+            JsonObject request = gson.fromJson(payload, JsonObject.class);
+            String type = request.get("type").getAsString();
+            String exchange = UPBIT.equalsIgnoreCase(request.get("exchange").getAsString()) ? UPBIT : BITHUMB;
+            String market = request.get("market").getAsString();
+            if (!isSubscribed(exchange, market)) {
+                // 임의 마켓 문자열로 호가창/팬아웃 키가 무한히 생기지 않도록 거래소에 구독한 마켓만 허용
+                log.debug("구독하지 않는 마켓 요청 무시: {} {}:{}", session.getId(), exchange, market);
+                return;
+            }
+            BookState state = bookState(exchange, market);
+
+            switch (type) {
+                case "subscribe" -> {
+                    state.subscribe(queue);
+                    sendSnapshot(queue, state);
+                }
+                case "unsubscribe" -> state.unsubscribe(queue);
+                case "snapshot" -> sendSnapshot(queue, state);
+                default -> log.debug("알 수 없는 호가 클라이언트 메시지: {}", payload);
+            }
+        } catch (Exception e) {
+            log.warn("⚠️ 호가 클라이언트 메시지 처리 실패: {} - {}", session.getId(), e.getMessage());
+        }
+    }
+
+    private boolean isSubscribed(String exchange, String market) {
+        return UPBIT.equals(exchange)
+            ? upbitWebSocketService.isSubscribed(market)
+            : bithumbWebSocketService.isSubscribed(market);
+    }
+
+    /**
+     * 구독 등록 후 스냅샷을 읽으므로 그 사이 delta 는 스냅샷 seq 이하가 되어 클라이언트가 버린다
+     */
+    private void sendSnapshot(ClientSendQueue queue, BookState state) {
+        String frame = new OrderbookFrameEncoder().encodeSnapshot(state.book.snapshot());
+        fanout.send(queue, state.snapshotKey, new TextMessage(frame));
+    }
+
+    public StreamFanoutStats getStreamStats() {
+        return fanout.stats();
+    }
+
+    /**
+     * 거래소/마켓별 호가창 상태
+     */
+    private static final class BookState {
+        private static final ClientSendQueue[] NO_SUBSCRIBERS = new ClientSendQueue[0];
+        private static final int RECORD_CAPACITY = 4096;
+
+        private final L2OrderBook book;
+        private final int deltaKey;
+        private final int snapshotKey;
+        private volatile ClientSendQueue[] subscribers = NO_SUBSCRIBERS;
+
+        // 빗썸 초기 스냅샷 (REST 스레드에서 전달, 소켓 리더 스레드에서 적용)
+        private volatile OrderbookUpdate pendingSeed;
+        private volatile boolean seedRequested;
+
+        // 스냅샷 대기 중 받은 변경분 (소켓 리더 스레드 전용)
+        private final OrderbookUpdate recorded = new OrderbookUpdate(RECORD_CAPACITY);
+        private boolean seeded;
+        private boolean recording;
+        private boolean recordOverflow;
+
+        private BookState(L2OrderBook book, int deltaKey, int snapshotKey) {
+            this.book = book;
+            this.deltaKey = deltaKey;
+            this.snapshotKey = snapshotKey;
+        }
+
+        private void startRecording() {
+            recorded.reset();
+            recorded.setMarket(book.getMarket());
+            recording = true;
+            recordOverflow = false;
+        }
+
+        private void record(OrderbookUpdate update) {
+            if (recorded.size() + update.size() > recorded.capacity()) {
+                recordOverflow = true;
+                return;
+            }
+            for (int i = 0; i < update.size(); i++) {
+                recorded.add(update.isBid(i), update.price(i), update.quantity(i));
+            }
+            recorded.setTimestamp(update.getTimestamp());
+        }
+
+        private synchronized void subscribe(ClientSendQueue queue) {
+            for (ClientSendQueue subscriber : subscribers) {
+                if (subscriber == queue) {
+                    return;
+                }
+            }
+            ClientSendQueue[] next = Arrays.copyOf(subscribers, subscribers.length + 1);
+            next[next.length - 1] = queue;
+            subscribers = next;
+        }
+
+        private synchronized void unsubscribe(ClientSendQueue queue) {
+            ClientSendQueue[] current = subscribers;
+            for (int i = 0; i < current.length; i++) {
+                if (current[i] == queue) {
+                    ClientSendQueue[] next = new ClientSendQueue[current.length - 1];
+                    System.arraycopy(current, 0, next, 0, i);
+                    System.arraycopy(current, i + 1, next, i, current.length - i - 1);
+                    subscribers = next;
+                    return;
+                }
+            }
+        }
+    }
 }
@@ -2,237 +2,238 @@ package com.example.payflow.crypto.application;
 
 import com.example.payflow.crypto.domain.CandleData;
 import com.example.payflow.crypto.domain.RSICalculator;
+import com.example.payflow.crypto.domain.StreamingIndicator;
+import com.example.payflow.crypto.domain.TickerRecord;
 import com.example.payflow.crypto.domain.VolumeSurgeCalculator;
 import com.example.payflow.crypto.infrastructure.BithumbCandleClient;
 import com.example.payflow.crypto.infrastructure.UpbitCandleClient;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.ZoneId;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
- * RSI 계산 및 캐싱 서비스
+ * RSI / 거래량 급증률 / VWAP 실시간 지표 서비스
+ * - 업비트/빗썸 웹소켓 틱으로 1분봉을 직접 만들고 지표를 틱마다 증분 갱신 (폴링 없음)
+ * - REST 캔들 API 는 재시작 직후 마켓별로 한 번만 호출하여 과거 이력을 채운다
  */
 @Slf4j
 //@Service  // 🔒 코인 비교 기능 비활성화 - 나중에 다시 활성화하려면 주석 해제
 @RequiredArgsConstructor
-public class RSIService {
-    
+public class RSIService implements TickListener {
+
+    private static final int BACKFILL_CANDLES = 30;
+    private static final ZoneId KST = ZoneId.of("Asia/Seoul");
+
+    private final UpbitWebSocketService upbitWebSocketService;
+    private final BithumbWebSocketService bithumbWebSocketService;
     private final UpbitCandleClient upbitCandleClient;
     private final BithumbCandleClient bithumbCandleClient;
-    
-    // RSI 캐시 (market -> RSI)
-    private final Map<String, BigDecimal> upbitRSICache = new ConcurrentHashMap<>();
-    private final Map<String, BigDecimal> bithumbRSICache = new ConcurrentHashMap<>();
-    
-    // 거래량 급증률 캐시 (market -> surge %)
-    private final Map<String, BigDecimal> upbitVolumeSurgeCache = new ConcurrentHashMap<>();
-    private final Map<String, BigDecimal> bithumbVolumeSurgeCache = new ConcurrentHashMap<>();
-    
+
+    // 마켓별 증분 지표 (market -> indicator)
+    private final Map<String, StreamingIndicator> upbitIndicators = new ConcurrentHashMap<>();
+    private final Map<String, StreamingIndicator> bithumbIndicators = new ConcurrentHashMap<>();
+
+    // 백필 전용 스레드 (소켓 리더 스레드에서 REST 호출 금지)
+    private final ExecutorService backfillExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "rsi-backfill");
+        thread.setDaemon(true);
+        return thread;
+    });
+
     // 지원하는 마켓 목록
     private static final List<String> MARKETS = List.of(
         "KRW-BTC", "KRW-ETH", "KRW-XRP", "KRW-ADA", "KRW-SOL",
         "KRW-DOGE", "KRW-AVAX", "KRW-MATIC", "KRW-DOT", "KRW-SHIB"
     );
-    
-    // 빗썸 심볼 매핑
-    private static final Map<String, String> BITHUMB_SYMBOLS = Map.of(
-        "KRW-BTC", "BTC",
-        "KRW-ETH", "ETH",
-        "KRW-XRP", "XRP",
-        "KRW-ADA", "ADA",
-        "KRW-SOL", "SOL",
-        "KRW-DOGE", "DOGE",
-        "KRW-AVAX", "AVAX",
-        "KRW-MATIC", "MATIC",
-        "KRW-DOT", "DOT",
-        "KRW-SHIB", "SHIB"
-    );
-    
+
     @PostConstruct
     public void init() {
-        log.info("🚀 RSI 서비스 초기화 시작");
-        updateAllRSI();
+        log.info("🚀 RSI 서비스 초기화 - 실시간 틱 구독");
+        upbitWebSocketService.addTickListener(this);
+        bithumbWebSocketService.addTickListener(this);
     }
-    
+
+    @PreDestroy
+    public void shutdown() {
+        backfillExecutor.shutdownNow();
+    }
+
     /**
-     * 1분마다 RSI 업데이트
+     * 소켓 리더 스레드에서 호출 - O(1), 할당 없음 (마켓 최초 등장 시 제외)
      */
-    @Scheduled(fixedRate = 60000) // 60초
-    public void updateAllRSI() {
-        log.info("📊 RSI 업데이트 시작");
-        
-        MARKETS.forEach(market -> {
+    @Override
+    public void onTick(String exchange, TickerRecord tick) {
+        boolean upbit = "UPBIT".equals(exchange);
+        Map<String, StreamingIndicator> indicators = upbit ? upbitIndicators : bithumbIndicators;
+
+        StreamingIndicator indicator = indicators.get(tick.getMarket());
+        if (indicator == null) {
+            indicator = new StreamingIndicator();
+            indicators.put(tick.getMarket(), indicator);
+            scheduleBackfill(upbit, tick.getMarket(), indicator);
+        }
+
+        double price = tick.doubleValue(TickerRecord.TRADE_PRICE);
+        if (upbit) {
+            // 업비트 ticker 는 체결마다 전송되므로 체결량을 그대로 사용
+            indicator.onTrade(tick.getTimestamp(), price, tick.doubleValue(TickerRecord.TRADE_VOLUME));
+        } else {
+            // 빗썸은 24시간 누적 거래량 차이로 체결량 추정
+            indicator.onTicker(tick.getTimestamp(), price, tick.doubleValue(TickerRecord.ACC_TRADE_VOLUME_24H));
+        }
+    }
+
+    /**
+     * 재시작 후 처음 보는 마켓만 REST 캔들로 과거 이력을 채운다
+     */
+    private void scheduleBackfill(boolean upbit, String market, StreamingIndicator indicator) {
+        backfillExecutor.execute(() -> {
             try {
-                // 업비트 RSI 계산
-                updateUpbitRSI(market);
-                
-                // 빗썸 RSI 계산
-                String bithumbSymbol = BITHUMB_SYMBOLS.get(market);
-                if (bithumbSymbol != null) {
-                    updateBithumbRSI(market, bithumbSymbol);
+                List<CandleData> candles = upbit
+                    ? upbitCandleClient.getMinuteCandles(market, BACKFILL_CANDLES)
+                    : bithumbCandleClient.getMinuteCandles(market.replace("KRW-", ""), BACKFILL_CANDLES);
+
+                if (candles.isEmpty()) {
+                    return;
+                }
+
+                long[] minutes = new long[candles.size()];
+                double[] closes = new double[candles.size()];
+                double[] volumes = new double[candles.size()];
+                for (int i = 0; i < candles.size(); i++) {
+                    CandleData candle = candles.get(i);
+                    // 업비트는 KST, 빗썸은 시스템 시간대 기준 LocalDateTime
+                    ZoneId zone = upbit ? KST : ZoneId.systemDefault();
+                    minutes[i] = candle.getTimestamp().atZone(zone).toEpochSecond() / 60;
+                    closes[i] = candle.getClosePrice().doubleValue();
+                    volumes[i] = candle.getVolume().doubleValue();
                 }
-                
+                indicator.requestBackfill(minutes, closes, volumes);
+
+                log.debug("📈 {} 캔들 백필 완료: {} ({}개)", upbit ? "업비트" : "빗썸", market, candles.size());
+
                 Thread.sleep(100); // API 호출 간격
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
             } catch (Exception e) {
-                log.error("❌ RSI 업데이트 실패: {}", market, e);
+                log.error("❌ 캔들 백필 실패: {}", market, e);
             }
         });
-        
-        log.info("✅ RSI 업데이트 완료 - 업비트: {}, 빗썸: {}", 
-                upbitRSICache.size(), bithumbRSICache.size());
-    }
-    
-    private void updateUpbitRSI(String market) {
-        try {
-            List<CandleData> candles = upbitCandleClient.getMinuteCandles(market, 30);
-            
-            if (candles.size() >= 15) {
-                // RSI 계산
-                List<BigDecimal> closePrices = candles.stream()
-                        .map(CandleData::getClosePrice)
-                        .collect(Collectors.toList());
-                
-                BigDecimal rsi = RSICalculator.calculate(closePrices);
-                upbitRSICache.put(market, rsi);
-                
-                // 거래량 급증률 계산 (최근 10개 캔들 기준)
-                if (candles.size() >= 11) {
-                    List<BigDecimal> volumes = candles.subList(candles.size() - 11, candles.size() - 1)
-                            .stream()
-                            .map(CandleData::getVolume)
-                            .collect(Collectors.toList());
-                    
-                    BigDecimal currentVolume = candles.get(candles.size() - 1).getVolume();
-                    BigDecimal volumeSurge = VolumeSurgeCalculator.calculate(volumes, currentVolume);
-                    upbitVolumeSurgeCache.put(market, volumeSurge);
-                    
-                    log.debug("📈 업비트 RSI: {} = {}, 거래량: {}%", market, rsi, volumeSurge);
-                }
-            }
-        } catch (Exception e) {
-            log.error("❌ 업비트 RSI 계산 실패: {}", market, e);
-        }
     }
-    
-    private void updateBithumbRSI(String market, String symbol) {
-        try {
-            List<CandleData> candles = bithumbCandleClient.getMinuteCandles(symbol, 30);
-            
-            if (candles.size() >= 15) {
-                // RSI 계산
-                List<BigDecimal> closePrices = candles.stream()
-                        .map(CandleData::getClosePrice)
-                        .collect(Collectors.toList());
-                
-                BigDecimal rsi = RSICalculator.calculate(closePrices);
-                bithumbRSICache.put(market, rsi);
-                
-                // 거래량 급증률 계산 (최근 10개 캔들 기준)
-                if (candles.size() >= 11) {
-                    List<BigDecimal> volumes = candles.subList(candles.size() - 11, candles.size() - 1)
-                            .stream()
-                            .map(CandleData::getVolume)
-                            .collect(Collectors.toList());
-                    
-                    BigDecimal currentVolume = candles.get(candles.size() - 1).getVolume();
-                    BigDecimal volumeSurge = VolumeSurgeCalculator.calculate(volumes, currentVolume);
-                    bithumbVolumeSurgeCache.put(market, volumeSurge);
-                    
-                    log.debug("📈 빗썸 RSI: {} = {}, 거래량: {}%", market, rsi, volumeSurge);
-                }
-            }
-        } catch (Exception e) {
-            log.error("❌ 빗썸 RSI 계산 실패: {}", market, e);
-        }
+
+    private static BigDecimal rsiOf(StreamingIndicator indicator) {
+        return indicator == null ? BigDecimal.ZERO
+            : BigDecimal.valueOf(indicator.getRsi()).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    private static BigDecimal volumeSurgeOf(StreamingIndicator indicator) {
+        return indicator == null ? BigDecimal.valueOf(100)
+            : BigDecimal.valueOf(indicator.getVolumeSurge()).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    private static BigDecimal vwapOf(StreamingIndicator indicator) {
+        return indicator == null ? BigDecimal.ZERO
+            : BigDecimal.valueOf(indicator.getVwap()).setScale(2, RoundingMode.HALF_UP);
     }
-    
+
     /**
      * 업비트 RSI 조회
      */
     public BigDecimal getUpbitRSI(String market) {
-        return upbitRSICache.getOrDefault(market, BigDecimal.ZERO);
+        return rsiOf(upbitIndicators.get(market));
     }
-    
+
     /**
      * 빗썸 RSI 조회
      */
     public BigDecimal getBithumbRSI(String market) {
-        return bithumbRSICache.getOrDefault(market, BigDecimal.ZERO);
+        return rsiOf(bithumbIndicators.get(market));
     }
-    
+
     /**
      * 업비트 거래량 급증률 조회
      */
     public BigDecimal getUpbitVolumeSurge(String market) {
-        return upbitVolumeSurgeCache.getOrDefault(market, BigDecimal.valueOf(100));
+        return volumeSurgeOf(upbitIndicators.get(market));
     }
-    
+
     /**
      * 빗썸 거래량 급증률 조회
      */
     public BigDecimal getBithumbVolumeSurge(String market) {
-        return bithumbVolumeSurgeCache.getOrDefault(market, BigDecimal.valueOf(100));
+        return volumeSurgeOf(bithumbIndicators.get(market));
+    }
+
+    /**
+     * 업비트 VWAP 조회 (최근 30분)
+     */
+    public BigDecimal getUpbitVWAP(String market) {
+        return vwapOf(upbitIndicators.get(market));
     }
-    
+
+    /**
+     * 빗썸 VWAP 조회 (최근 30분)
+     */
+    public BigDecimal getBithumbVWAP(String market) {
+        return vwapOf(bithumbIndicators.get(market));
+    }
+
     /**
      * 모든 RSI 데이터 조회
      */
     public Map<String, Map<String, BigDecimal>> getAllRSI() {
         Map<String, Map<String, BigDecimal>> result = new HashMap<>();
-        
+
         MARKETS.forEach(market -> {
             Map<String, BigDecimal> rsiData = new HashMap<>();
             rsiData.put("upbit", getUpbitRSI(market));
             rsiData.put("bithumb", getBithumbRSI(market));
             result.put(market, rsiData);
         });
-        
+
         return result;
     }
-    
+
     /**
-     * 모든 지표 데이터 조회 (RSI + 거래량 급증률)
+     * 모든 지표 데이터 조회 (RSI + 거래량 급증률 + VWAP)
      */
     public Map<String, Map<String, Object>> getAllIndicators() {
         Map<String, Map<String, Object>> result = new HashMap<>();
-        
+
         MARKETS.forEach(market -> {
             Map<String, Object> indicators = new HashMap<>();
-            
-            // 업비트 데이터
-            Map<String, Object> upbitData = new HashMap<>();
-            BigDecimal upbitRSI = getUpbitRSI(market);
-            BigDecimal upbitVolume = getUpbitVolumeSurge(market);
-            upbitData.put("rsi", upbitRSI);
-            upbitData.put("volumeSurge", upbitVolume);
-            upbitData.put("rsiStatus", RSICalculator.getRSIStatus(upbitRSI));
-            upbitData.put("volumeStatus", VolumeSurgeCalculator.getVolumeStatus(upbitVolume));
-            upbitData.put("signalStrength", VolumeSurgeCalculator.getSignalStrength(upbitRSI, upbitVolume));
-            
-            // 빗썸 데이터
-            Map<String, Object> bithumbData = new HashMap<>();
-            BigDecimal bithumbRSI = getBithumbRSI(market);
-            BigDecimal bithumbVolume = getBithumbVolumeSurge(market);
-            bithumbData.put("rsi", bithumbRSI);
-            bithumbData.put("volumeSurge", bithumbVolume);
-            bithumbData.put("rsiStatus", RSICalculator.getRSIStatus(bithumbRSI));
-            bithumbData.put("volumeStatus", VolumeSurgeCalculator.getVolumeStatus(bithumbVolume));
-            bithumbData.put("signalStrength", VolumeSurgeCalculator.getSignalStrength(bithumbRSI, bithumbVolume));
-            
-            indicators.put("upbit", upbitData);
-            indicators.put("bithumb", bithumbData);
+            indicators.put("upbit", indicatorData(upbitIndicators.get(market)));
+            indicators.put("bithumb", indicatorData(bithumbIndicators.get(market)));
             result.put(market, indicators);
         });
-        
+
         return result;
     }
+
+    private Map<String, Object> indicatorData(StreamingIndicator indicator) {
+        BigDecimal rsi = rsiOf(indicator);
+        BigDecimal volumeSurge = volumeSurgeOf(indicator);
+
+        Map<String, Object> data = new HashMap<>();
+        data.put("rsi", rsi);
+        data.put("volumeSurge", volumeSurge);
+        data.put("vwap", vwapOf(indicator));
+        data.put("rsiStatus", RSICalculator.getRSIStatus(rsi));
+        data.put("volumeStatus", VolumeSurgeCalculator.getVolumeStatus(volumeSurge));
+        data.put("signalStrength", VolumeSurgeCalculator.getSignalStrength(rsi, volumeSurge));
+        data.put("updatedAt", indicator == null ? 0L : indicator.getUpdatedAt());
+        return data;
+    }
 }
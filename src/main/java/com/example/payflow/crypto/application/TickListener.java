@@ -0,0 +1,13 @@
+package com.example.payflow.crypto.application;
+
+import com.example.payflow.crypto.domain.TickerRecord;
+
+/**
+ * 거래소 실시간 틱 수신 리스너
+ * - 거래소 소켓 리더 스레드에서 동기 호출되므로 블로킹 작업 금지
+ * - tick 은 재사용 객체이므로 호출이 끝난 뒤 참조를 보관하지 말 것
+ */
+public interface TickListener {
+
+    void onTick(String exchange, TickerRecord tick);
+}
@@ -0,0 +1,171 @@
+package com.example.payflow.crypto.application;
+
+import com.example.payflow.common.metrics.LatencyHistogram;
+import com.example.payflow.crypto.domain.StreamClientStats;
+import com.example.payflow.crypto.domain.StreamFanoutStats;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 시세 프레임 팬아웃
+ * - 한 번 인코딩된 프레임을 모든 클라이언트 전송 큐에 넣기만 하고 즉시 반환
+ * - 실제 전송은 전용 송신 스레드 풀에서 수행되어 거래소 소켓 리더 스레드를 막지 않는다
+ * - 마켓 코드는 정수 키로 바꿔 클라이언트 큐의 conflation 슬롯 인덱스로 사용
+ */
+@Slf4j
+public class TickerFanout {
+
+    private static final ClientSendQueue[] EMPTY = new ClientSendQueue[0];
+
+    private final String name;
+    private final int queueCapacity;
+    private final long maxLagMs;
+    private final long sendTimeLimitMs;
+    private final ExecutorService sender;
+
+    // 마켓 코드 -> conflation 키
+    private final Map<String, Integer> keys = new ConcurrentHashMap<>();
+    private final AtomicInteger nextKey = new AtomicInteger();
+
+    // copy-on-write 배열 (publish 시 이터레이터 할당 없음)
+    private volatile ClientSendQueue[] clients = EMPTY;
+
+    private final AtomicLong published = new AtomicLong();
+    private final AtomicLong slowDisconnects = new AtomicLong();
+    private final LatencyHistogram sendLatency = new LatencyHistogram();
+
+    public TickerFanout(String name, int queueCapacity, long maxLagMs, long sendTimeLimitMs) {
+        this.name = name;
+        this.queueCapacity = queueCapacity;
+        this.maxLagMs = maxLagMs;
+        this.sendTimeLimitMs = sendTimeLimitMs;
+        AtomicInteger threadCount = new AtomicInteger();
+        int threads = Math.max(2, Runtime.getRuntime().availableProcessors() / 2);
+        this.sender = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, name + "-ws-sender-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public synchronized ClientSendQueue addClient(WebSocketSession session) {
+        ClientSendQueue queue = new ClientSendQueue(session, this, sender, queueCapacity, maxLagMs, sendTimeLimitMs);
+        ClientSendQueue[] next = Arrays.copyOf(clients, clients.length + 1);
+        next[next.length - 1] = queue;
+        clients = next;
+        return queue;
+    }
+
+    public synchronized void removeClient(WebSocketSession session) {
+        ClientSendQueue[] current = clients;
+        for (int i = 0; i < current.length; i++) {
+            if (current[i].getSession() == session) {
+                ClientSendQueue[] next = new ClientSendQueue[current.length - 1];
+                System.arraycopy(current, 0, next, 0, i);
+                System.arraycopy(current, i + 1, next, i, current.length - i - 1);
+                clients = next;
+                return;
+            }
+        }
+    }
+
+    public void publish(String market, TextMessage frame) {
+        int key = keyOf(market);
+        long now = System.nanoTime();
+        published.incrementAndGet();
+        ClientSendQueue[] current = clients;
+        for (int i = 0; i < current.length; i++) {
+            current[i].offer(key, frame, now);
+        }
+    }
+
+    /**
+     * 특정 클라이언트에게만 전송 (연결 직후 캐시 데이터 등)
+     */
+    public void send(ClientSendQueue client, String market, TextMessage frame) {
+        client.offer(keyOf(market), frame, System.nanoTime());
+    }
+
+    /**
+     * 지정한 클라이언트들에게만 전송 (구독 기반 스트림)
+     */
+    public void publish(int key, TextMessage frame, ClientSendQueue[] targets) {
+        long now = System.nanoTime();
+        published.incrementAndGet();
+        for (int i = 0; i < targets.length; i++) {
+            targets[i].offer(key, frame, now);
+        }
+    }
+
+    public void send(ClientSendQueue client, int key, TextMessage frame) {
+        client.offer(key, frame, System.nanoTime());
+    }
+
+    /**
+     * 문자열 키 (마켓 코드 등) -> 클라이언트 큐 conflation 키
+     */
+    public int keyOf(String market) {
+        Integer key = keys.get(market);
+        if (key == null) {
+            key = keys.computeIfAbsent(market, m -> nextKey.getAndIncrement());
+        }
+        return key;
+    }
+
+    void onSlowClient(ClientSendQueue client) {
+        slowDisconnects.incrementAndGet();
+        removeClient(client.getSession());
+    }
+
+    void recordSendLatency(long nanos) {
+        sendLatency.recordNanos(nanos);
+    }
+
+    public int getClientCount() {
+        return clients.length;
+    }
+
+    public ClientSendQueue[] getClients() {
+        return clients;
+    }
+
+    public StreamFanoutStats stats() {
+        ClientSendQueue[] current = clients;
+        List<StreamClientStats> clientStats = new ArrayList<>(current.length);
+        for (ClientSendQueue client : current) {
+            clientStats.add(client.stats());
+        }
+        return StreamFanoutStats.builder()
+            .exchange(name)
+            .clientCount(current.length)
+            .publishedCount(published.get())
+            .slowDisconnectCount(slowDisconnects.get())
+            .sendLatency(sendLatency.snapshot())
+            .clients(clientStats)
+            .build();
+    }
+
+    public void shutdown() {
+        sender.shutdown();
+        try {
+            if (!sender.awaitTermination(3, TimeUnit.SECONDS)) {
+                sender.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            sender.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
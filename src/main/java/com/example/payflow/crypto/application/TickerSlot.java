@@ -0,0 +1,51 @@
+package com.example.payflow.crypto.application;
+
+import com.example.payflow.crypto.domain.TickerRecord;
+import org.springframework.web.socket.TextMessage;
+
+import java.lang.invoke.VarHandle;
+
+/**
+ * 마켓별 최신 시세 슬롯 (seqlock)
+ * - 소켓 리더 스레드 하나만 write 하고, REST 조회 등 여러 스레드가 할당 없이 read 한다
+ * - 마지막으로 인코딩된 프레임을 함께 보관하여 신규 클라이언트 초기 전송에 재사용
+ */
+public class TickerSlot {
+
+    private final TickerRecord data = new TickerRecord();
+    private volatile long version;
+    private volatile TextMessage frame;
+
+    /**
+     * 단일 writer 전용
+     */
+    public void write(TickerRecord source, TextMessage encodedFrame) {
+        long v = version;
+        version = v + 1;
+        VarHandle.storeStoreFence();
+        data.copyFrom(source);
+        version = v + 2;
+        frame = encodedFrame;
+    }
+
+    /**
+     * 일관된 스냅샷을 target 에 복사
+     */
+    public void read(TickerRecord target) {
+        while (true) {
+            long before = version;
+            if ((before & 1) == 0) {
+                target.copyFrom(data);
+                VarHandle.loadLoadFence();
+                if (version == before) {
+                    return;
+                }
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    public TextMessage getFrame() {
+        return frame;
+    }
+}
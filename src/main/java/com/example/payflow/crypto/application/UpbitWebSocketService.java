@@ -1,14 +1,19 @@
 package com.example.payflow.crypto.application;
 
 import com.example.payflow.crypto.domain.CoinTicker;
+import com.example.payflow.crypto.domain.OrderbookUpdate;
+import com.example.payflow.crypto.domain.StreamFanoutStats;
+import com.example.payflow.crypto.domain.TickerRecord;
+import com.example.payflow.crypto.infrastructure.TickerFrameEncoder;
+import com.example.payflow.crypto.infrastructure.UpbitOrderbookDecoder;
+import com.example.payflow.crypto.infrastructure.UpbitTickerDecoder;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
-import com.google.gson.JsonObject;
 import com.google.gson.JsonSerializer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.socket.BinaryMessage;
-import org.springframework.web.socket.CloseStatus;
 import org.springframework.web.socket.TextMessage;
 import org.springframework.web.socket.WebSocketSession;
 import org.springframework.web.socket.client.standard.StandardWebSocketClient;
@@ -16,13 +21,9 @@ import org.springframework.web.socket.handler.TextWebSocketHandler;
 
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
-import java.math.BigDecimal;
 import java.net.URI;
 import java.nio.ByteBuffer;
-import java.nio.charset.StandardCharsets;
-import java.time.Instant;
 import java.time.LocalDateTime;
-import java.time.ZoneId;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArraySet;
@@ -40,11 +41,34 @@ public class UpbitWebSocketService extends TextWebSocketHandler {
     // 구독 중인 마켓 코드
     private final Set<String> subscribedMarkets = new CopyOnWriteArraySet<>();
     
-    // 최신 시세 데이터 캐시
-    private final Map<String, CoinTicker> tickerCache = new ConcurrentHashMap<>();
+    // 최신 시세 데이터 캐시 (마켓별 seqlock 슬롯)
+    private final Map<String, TickerSlot> tickerCache = new ConcurrentHashMap<>();
     
-    // 연결된 클라이언트 세션들
-    private final Set<WebSocketSession> clientSessions = new CopyOnWriteArraySet<>();
+    // 클라이언트 전송 큐 설정
+    @Value("${crypto.ws.client-queue-capacity:1024}")
+    private int clientQueueCapacity;
+    
+    @Value("${crypto.ws.max-client-lag-ms:5000}")
+    private long maxClientLagMs;
+    
+    @Value("${crypto.ws.send-time-limit-ms:2000}")
+    private long sendTimeLimitMs;
+    
+    // 연결된 클라이언트 전송 큐
+    private TickerFanout fanout;
+    
+    // 소켓 리더 스레드 전용 디코더/인코더/재사용 레코드
+    private UpbitTickerDecoder decoder;
+    private final TickerFrameEncoder encoder = new TickerFrameEncoder();
+    private final TickerRecord scratch = new TickerRecord();
+    private final UpbitOrderbookDecoder orderbookDecoder = new UpbitOrderbookDecoder();
+    private final OrderbookUpdate orderbookScratch = new OrderbookUpdate();
+    
+    // 실시간 틱 리스너 (지표/프리미엄 엔진 등, copy-on-write 배열)
+    private volatile TickListener[] tickListeners = new TickListener[0];
+    
+    // 호가 리스너 (로컬 호가창, copy-on-write 배열)
+    private volatile OrderbookListener[] orderbookListeners = new OrderbookListener[0];
     
     // 업비트 웹소켓 세션
     private WebSocketSession upbitSession;
@@ -55,6 +79,8 @@ public class UpbitWebSocketService extends TextWebSocketHandler {
     @PostConstruct
     public void init() {
         initKoreanNames();
+        decoder = new UpbitTickerDecoder(koreanNames);
+        fanout = new TickerFanout("UPBIT", clientQueueCapacity, maxClientLagMs, sendTimeLimitMs);
         connectToUpbit();
     }
     
@@ -109,6 +135,12 @@ public class UpbitWebSocketService extends TextWebSocketHandler {
             type.put("codes", new ArrayList<>(subscribedMarkets));
             subscribeRequest.add(type);
             
+            // 3. 호가 (로컬 호가창용)
+            Map<String, Object> orderbook = new HashMap<>();
+            orderbook.put("type", "orderbook");
+            orderbook.put("codes", new ArrayList<>(subscribedMarkets));
+            subscribeRequest.add(orderbook);
+            
             String message = gson.toJson(subscribeRequest);
             
             log.info("📡 업비트 구독 메시지 전송: {}", message);
@@ -125,110 +157,143 @@ public class UpbitWebSocketService extends TextWebSocketHandler {
     protected void handleTextMessage(WebSocketSession session, TextMessage message) throws Exception {
         // 업비트로부터 받은 텍스트 메시지 처리
         if (session == upbitSession) {
-            handleUpbitMessage(message.asBytes());
+            handleUpbitMessage(ByteBuffer.wrap(message.asBytes()));
         }
     }
     
     @Override
     protected void handleBinaryMessage(WebSocketSession session, BinaryMessage message) {
-        // 업비트는 바이너리 메시지로 데이터를 전송
+        // 업비트는 바이너리 메시지로 데이터를 전송 (복사 없이 버퍼를 직접 디코딩)
         if (session == upbitSession) {
-            byte[] payload = new byte[message.getPayload().remaining()];
-            message.getPayload().get(payload);
-            handleUpbitMessage(payload);
+            handleUpbitMessage(message.getPayload());
         }
     }
     
-    private void handleUpbitMessage(byte[] payload) {
+    /**
+     * 소켓 리더 스레드에서 호출 - 디코딩/인코딩 1회 후 전송 큐에 넣고 즉시 반환
+     */
+    private void handleUpbitMessage(ByteBuffer payload) {
         try {
-            String jsonString = new String(payload, StandardCharsets.UTF_8);
-            
-            log.debug("📨 업비트 메시지 수신: {}", jsonString);
+            // 호가 프레임은 type 만 보고 바로 걸러지므로 먼저 확인
+            if (orderbookDecoder.decode(payload, orderbookScratch)) {
+                notifyOrderbookListeners(orderbookScratch);
+                return;
+            }
             
-            JsonObject json = gson.fromJson(jsonString, JsonObject.class);
+            if (!decoder.decode(payload, scratch)) {
+                return;
+            }
             
-            CoinTicker ticker = parseTicker(json);
-            tickerCache.put(ticker.getMarket(), ticker);
+            // 틱당 한 번만 직렬화하여 모든 클라이언트가 같은 프레임을 공유
+            TextMessage frame = new TextMessage(encoder.encode(scratch));
             
-            //log.info("💰 시세 업데이트: {} - {}원", ticker.getKoreanName(), ticker.getTradePrice());
+            TickerSlot slot = tickerCache.get(scratch.getMarket());
+            if (slot == null) {
+                slot = tickerCache.computeIfAbsent(scratch.getMarket(), market -> new TickerSlot());
+            }
+            slot.write(scratch, frame);
             
             // 모든 클라이언트에게 브로드캐스트
-            broadcastToClients(ticker);
+            fanout.publish(scratch.getMarket(), frame);
+            
+            notifyTickListeners(scratch);
             
         } catch (Exception e) {
             log.error("❌ 업비트 메시지 처리 실패", e);
         }
     }
     
-    private CoinTicker parseTicker(JsonObject json) {
-        String market = json.get("code").getAsString();
-        
-        return CoinTicker.builder()
-            .market(market)
-            .koreanName(koreanNames.getOrDefault(market, market))
-            .tradePrice(json.get("trade_price").getAsBigDecimal())
-            .changePrice(json.get("signed_change_price").getAsBigDecimal())
-            .changeRate(json.get("change_rate").getAsBigDecimal().multiply(BigDecimal.valueOf(100)))
-            .signedChangeRate(json.get("signed_change_rate").getAsBigDecimal().multiply(BigDecimal.valueOf(100)))
-            .highPrice(json.get("high_price").getAsBigDecimal())
-            .lowPrice(json.get("low_price").getAsBigDecimal())
-            .openingPrice(json.get("opening_price").getAsBigDecimal())
-            .prevClosingPrice(json.get("prev_closing_price").getAsBigDecimal())
-            .accTradePrice24h(json.get("acc_trade_price_24h").getAsBigDecimal())
-            .accTradeVolume24h(json.get("acc_trade_volume_24h").getAsBigDecimal())
-            .change(json.get("change").getAsString())
-            .timestamp(LocalDateTime.ofInstant(
-                Instant.ofEpochMilli(json.get("timestamp").getAsLong()),
-                ZoneId.systemDefault()
-            ))
-            .build();
-    }
-    
-    private void broadcastToClients(CoinTicker ticker) {
-        String message = gson.toJson(ticker);
+    public void addClientSession(WebSocketSession session) {
+        ClientSendQueue queue = fanout.addClient(session);
+        log.info("✅ 클라이언트 연결: {} (총 {}명)", session.getId(), fanout.getClientCount());
         
-        clientSessions.forEach(session -> {
-            try {
-                if (session.isOpen()) {
-                    session.sendMessage(new TextMessage(message));
-                }
-            } catch (Exception e) {
-                log.error("❌ 클라이언트 메시지 전송 실패", e);
+        // 연결 시 캐시된 데이터 전송
+        sendCachedData(queue);
+    }
+    
+    public void removeClientSession(WebSocketSession session) {
+        fanout.removeClient(session);
+        log.info("❌ 클라이언트 연결 해제: {} (총 {}명)", session.getId(), fanout.getClientCount());
+    }
+    
+    private void sendCachedData(ClientSendQueue queue) {
+        tickerCache.forEach((market, slot) -> {
+            TextMessage frame = slot.getFrame();
+            if (frame != null) {
+                fanout.send(queue, market, frame);
             }
         });
     }
     
-    public void addClientSession(WebSocketSession session) {
-        clientSessions.add(session);
-        log.info("✅ 클라이언트 연결: {} (총 {}명)", session.getId(), clientSessions.size());
-        
-        // 연결 시 캐시된 데이터 전송
-        sendCachedData(session);
+    public StreamFanoutStats getStreamStats() {
+        return fanout.stats();
     }
     
-    public void removeClientSession(WebSocketSession session) {
-        clientSessions.remove(session);
-        log.info("❌ 클라이언트 연결 해제: {} (총 {}명)", session.getId(), clientSessions.size());
+    /**
+     * 틱 리스너 등록 - 소켓 리더 스레드에서 동기 호출됨
+     */
+    public synchronized void addTickListener(TickListener listener) {
+        TickListener[] next = Arrays.copyOf(tickListeners, tickListeners.length + 1);
+        next[next.length - 1] = listener;
+        tickListeners = next;
     }
     
-    private void sendCachedData(WebSocketSession session) {
-        tickerCache.values().forEach(ticker -> {
+    private void notifyTickListeners(TickerRecord tick) {
+        TickListener[] listeners = tickListeners;
+        for (int i = 0; i < listeners.length; i++) {
             try {
-                if (session.isOpen()) {
-                    session.sendMessage(new TextMessage(gson.toJson(ticker)));
-                }
+                listeners[i].onTick("UPBIT", tick);
             } catch (Exception e) {
-                log.error("❌ 캐시 데이터 전송 실패", e);
+                log.error("❌ 업비트 틱 리스너 처리 실패: {}", tick.getMarket(), e);
             }
-        });
+        }
+    }
+    
+    /**
+     * 호가 리스너 등록 - 소켓 리더 스레드에서 동기 호출됨
+     */
+    public synchronized void addOrderbookListener(OrderbookListener listener) {
+        OrderbookListener[] next = Arrays.copyOf(orderbookListeners, orderbookListeners.length + 1);
+        next[next.length - 1] = listener;
+        orderbookListeners = next;
+    }
+    
+    private void notifyOrderbookListeners(OrderbookUpdate update) {
+        OrderbookListener[] listeners = orderbookListeners;
+        for (int i = 0; i < listeners.length; i++) {
+            try {
+                listeners[i].onOrderbook("UPBIT", update);
+            } catch (Exception e) {
+                log.error("❌ 업비트 호가 리스너 처리 실패: {}", update.getMarket(), e);
+            }
+        }
+    }
+    
+    /**
+     * 웹소켓으로 구독 중인 마켓인지 (예: KRW-BTC)
+     */
+    public boolean isSubscribed(String market) {
+        return subscribedMarkets.contains(market);
     }
     
     public List<CoinTicker> getAllTickers() {
-        return new ArrayList<>(tickerCache.values());
+        List<CoinTicker> tickers = new ArrayList<>(tickerCache.size());
+        TickerRecord snapshot = new TickerRecord();
+        tickerCache.values().forEach(slot -> {
+            slot.read(snapshot);
+            tickers.add(snapshot.toCoinTicker());
+        });
+        return tickers;
     }
     
     public CoinTicker getTicker(String market) {
-        return tickerCache.get(market);
+        TickerSlot slot = tickerCache.get(market);
+        if (slot == null) {
+            return null;
+        }
+        TickerRecord snapshot = new TickerRecord();
+        slot.read(snapshot);
+        return snapshot.toCoinTicker();
     }
     
     @PreDestroy
@@ -237,13 +302,14 @@ public class UpbitWebSocketService extends TextWebSocketHandler {
             if (upbitSession != null && upbitSession.isOpen()) {
                 upbitSession.close();
             }
-            clientSessions.forEach(session -> {
+            for (ClientSendQueue client : fanout.getClients()) {
                 try {
-                    session.close();
+                    client.getSession().close();
                 } catch (Exception e) {
                     log.error("클라이언트 세션 종료 실패", e);
                 }
-            });
+            }
+            fanout.shutdown();
             log.info("✅ 업비트 웹소켓 서비스 종료");
         } catch (Exception e) {
             log.error("❌ 서비스 종료 실패", e);
@@ -0,0 +1,453 @@
+package com.example.payflow.crypto.domain;
+
+import java.lang.invoke.VarHandle;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 로컬 L2 호가창 (거래소/마켓 하나 단위)
+ * - 가격 레벨을 정렬된 원시 타입 배열로 보관 (매수 내림차순, 매도 오름차순)
+ * - 갱신은 소켓 리더 스레드 하나에서만, 조회는 seqlock 으로 View 에 복사해서 사용
+ * - 갱신마다 바뀐 레벨을 delta 버퍼에 남겨 클라이언트에 차분만 전송할 수 있게 한다
+ */
+public class L2OrderBook {
+
+    public static final int MAX_LEVELS = 64;
+    private static final int MAX_DELTAS = MAX_LEVELS * 4;
+
+    private final String exchange;
+    private final String market;
+
+    private final double[] bidPrices = new double[MAX_LEVELS];
+    private final double[] bidSizes = new double[MAX_LEVELS];
+    private final double[] askPrices = new double[MAX_LEVELS];
+    private final double[] askSizes = new double[MAX_LEVELS];
+    private int bidCount;
+    private int askCount;
+    private long timestamp;
+    private long sequence;
+
+    private volatile long version;
+
+    // 직전 갱신에서 바뀐 레벨 (writer 전용, 잔량 0 은 삭제)
+    private final boolean[] deltaBid = new boolean[MAX_DELTAS];
+    private final double[] deltaPrices = new double[MAX_DELTAS];
+    private final double[] deltaSizes = new double[MAX_DELTAS];
+    private int deltaCount;
+    private boolean deltaOverflow;
+
+    public L2OrderBook(String exchange, String market) {
+        this.exchange = exchange;
+        this.market = market;
+    }
+
+    /**
+     * 갱신 반영 (단일 writer 전용)
+     * @return 호가창이 바뀌었으면 true (sequence 증가, delta 버퍼에 변경 레벨 기록)
+     */
+    public boolean apply(OrderbookUpdate update) {
+        deltaCount = 0;
+        deltaOverflow = false;
+
+        long v = version;
+        version = v + 1;
+        VarHandle.storeStoreFence();
+
+        if (update.isSnapshot()) {
+            removeMissing(true, update);
+            removeMissing(false, update);
+        }
+        for (int i = 0; i < update.size(); i++) {
+            setLevel(update.isBid(i), update.price(i), update.quantity(i));
+        }
+        timestamp = update.getTimestamp();
+        if (deltaCount > 0 || deltaOverflow) {
+            sequence++;
+        }
+
+        version = v + 2;
+        return deltaCount > 0 || deltaOverflow;
+    }
+
+    /**
+     * 스냅샷에 없는 기존 레벨 삭제 (레벨 수가 작아 단순 비교)
+     */
+    private void removeMissing(boolean bid, OrderbookUpdate update) {
+        double[] prices = bid ? bidPrices : askPrices;
+        int i = 0;
+        while (i < (bid ? bidCount : askCount)) {
+            double price = prices[i];
+            boolean found = false;
+            for (int j = 0; j < update.size(); j++) {
+                if (update.isBid(j) == bid && update.price(j) == price) {
+                    found = true;
+                    break;
+                }
+            }
+            if (found) {
+                i++;
+            } else {
+                removeAt(bid, i);
+                recordDelta(bid, price, 0);
+            }
+        }
+    }
+
+    private void setLevel(boolean bid, double price, double size) {
+        double[] prices = bid ? bidPrices : askPrices;
+        double[] sizes = bid ? bidSizes : askSizes;
+        int count = bid ? bidCount : askCount;
+        int index = search(prices, count, price, bid);
+
+        if (index >= 0) {
+            if (size <= 0) {
+                removeAt(bid, index);
+                recordDelta(bid, price, 0);
+            } else if (sizes[index] != size) {
+                sizes[index] = size;
+                recordDelta(bid, price, size);
+            }
+            return;
+        }
+        if (size <= 0) {
+            return;
+        }
+
+        int insert = -index - 1;
+        if (insert >= MAX_LEVELS) {
+            // 보관 범위 밖의 먼 호가는 무시
+            return;
+        }
+        if (count == MAX_LEVELS) {
+            // 가장 먼 레벨 탈락
+            recordDelta(bid, prices[MAX_LEVELS - 1], 0);
+            count--;
+        }
+        System.arraycopy(prices, insert, prices, insert + 1, count - insert);
+        System.arraycopy(sizes, insert, sizes, insert + 1, count - insert);
+        prices[insert] = price;
+        sizes[insert] = size;
+        if (bid) {
+            bidCount = count + 1;
+        } else {
+            askCount = count + 1;
+        }
+        recordDelta(bid, price, size);
+    }
+
+    private void removeAt(boolean bid, int index) {
+        double[] prices = bid ? bidPrices : askPrices;
+        double[] sizes = bid ? bidSizes : askSizes;
+        int count = bid ? bidCount : askCount;
+        System.arraycopy(prices, index + 1, prices, index, count - index - 1);
+        System.arraycopy(sizes, index + 1, sizes, index, count - index - 1);
+        if (bid) {
+            bidCount = count - 1;
+        } else {
+            askCount = count - 1;
+        }
+    }
+
+    /**
+     * 이진 탐색 (매수는 내림차순, 매도는 오름차순)
+     * @return 찾으면 인덱스, 없으면 -(삽입 위치) - 1
+     */
+    private static int search(double[] prices, int count, double price, boolean descending) {
+        int low = 0;
+        int high = count - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            double value = prices[mid];
+            if (value == price) {
+                return mid;
+            }
+            boolean before = descending ? value > price : value < price;
+            if (before) {
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private void recordDelta(boolean bid, double price, double size) {
+        if (deltaCount == MAX_DELTAS) {
+            deltaOverflow = true;
+            return;
+        }
+        deltaBid[deltaCount] = bid;
+        deltaPrices[deltaCount] = price;
+        deltaSizes[deltaCount] = size;
+        deltaCount++;
+    }
+
+    /**
+     * 일관된 스냅샷을 view 에 복사 (임의 스레드)
+     */
+    public void read(View view) {
+        while (true) {
+            long before = version;
+            if ((before & 1) == 0) {
+                view.copyFrom(this);
+                VarHandle.loadLoadFence();
+                if (version == before) {
+                    return;
+                }
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    public View snapshot() {
+        View view = new View();
+        read(view);
+        return view;
+    }
+
+    public String getExchange() {
+        return exchange;
+    }
+
+    public String getMarket() {
+        return market;
+    }
+
+    /**
+     * 마지막 갱신 순번 (writer 스레드에서 delta 인코딩 시 사용)
+     */
+    public long getSequence() {
+        return sequence;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public int getDeltaCount() {
+        return deltaCount;
+    }
+
+    /**
+     * delta 버퍼가 넘쳐 차분으로 표현할 수 없으면 true (전체 스냅샷 전송 필요)
+     */
+    public boolean isDeltaOverflow() {
+        return deltaOverflow;
+    }
+
+    public boolean isDeltaBid(int index) {
+        return deltaBid[index];
+    }
+
+    public double deltaPrice(int index) {
+        return deltaPrices[index];
+    }
+
+    public double deltaSize(int index) {
+        return deltaSizes[index];
+    }
+
+    /**
+     * 조회용 호가창 복사본 (재사용 가능)
+     */
+    public static final class View {
+        private String exchange;
+        private String market;
+        private final double[] bidPrices = new double[MAX_LEVELS];
+        private final double[] bidSizes = new double[MAX_LEVELS];
+        private final double[] askPrices = new double[MAX_LEVELS];
+        private final double[] askSizes = new double[MAX_LEVELS];
+        private int bidCount;
+        private int askCount;
+        private long timestamp;
+        private long sequence;
+
+        private void copyFrom(L2OrderBook book) {
+            exchange = book.exchange;
+            market = book.market;
+            bidCount = Math.min(book.bidCount, MAX_LEVELS);
+            askCount = Math.min(book.askCount, MAX_LEVELS);
+            System.arraycopy(book.bidPrices, 0, bidPrices, 0, bidCount);
+            System.arraycopy(book.bidSizes, 0, bidSizes, 0, bidCount);
+            System.arraycopy(book.askPrices, 0, askPrices, 0, askCount);
+            System.arraycopy(book.askSizes, 0, askSizes, 0, askCount);
+            timestamp = book.timestamp;
+            sequence = book.sequence;
+        }
+
+        public String getExchange() {
+            return exchange;
+        }
+
+        public String getMarket() {
+            return market;
+        }
+
+        public int getBidCount() {
+            return bidCount;
+        }
+
+        public int getAskCount() {
+            return askCount;
+        }
+
+        public double bidPrice(int level) {
+            return bidPrices[level];
+        }
+
+        public double bidSize(int level) {
+            return bidSizes[level];
+        }
+
+        public double askPrice(int level) {
+            return askPrices[level];
+        }
+
+        public double askSize(int level) {
+            return askSizes[level];
+        }
+
+        public long getTimestamp() {
+            return timestamp;
+        }
+
+        public long getSequence() {
+            return sequence;
+        }
+
+        public double bestBid() {
+            return bidCount > 0 ? bidPrices[0] : 0;
+        }
+
+        public double bestAsk() {
+            return askCount > 0 ? askPrices[0] : 0;
+        }
+
+        /**
+         * 깊이 / 스프레드 / 슬리피지 / 불균형 계산
+         * @param orderSize 슬리피지 계산용 주문 수량
+         * @param depthPercent 중간가 대비 깊이 계산 범위 (%)
+         */
+        public OrderbookMetrics metrics(double orderSize, double depthPercent) {
+            double bestBid = bestBid();
+            double bestAsk = bestAsk();
+            double mid = bidCount > 0 && askCount > 0 ? (bestBid + bestAsk) / 2 : Math.max(bestBid, bestAsk);
+            double spread = bidCount > 0 && askCount > 0 ? bestAsk - bestBid : 0;
+
+            double bidFloor = mid * (1 - depthPercent / 100);
+            double askCeiling = mid * (1 + depthPercent / 100);
+            double bidDepth = 0;
+            for (int i = 0; i < bidCount && bidPrices[i] >= bidFloor; i++) {
+                bidDepth += bidPrices[i] * bidSizes[i];
+            }
+            double askDepth = 0;
+            for (int i = 0; i < askCount && askPrices[i] <= askCeiling; i++) {
+                askDepth += askPrices[i] * askSizes[i];
+            }
+            double totalDepth = bidDepth + askDepth;
+
+            // 시장가 매수는 매도 호가를, 시장가 매도는 매수 호가를 소진
+            double[] buy = walk(askPrices, askSizes, askCount, orderSize);
+            double[] sell = walk(bidPrices, bidSizes, bidCount, orderSize);
+
+            return OrderbookMetrics.builder()
+                .exchange(exchange)
+                .market(market)
+                .sequence(sequence)
+                .bestBidPrice(decimal(bestBid))
+                .bestAskPrice(decimal(bestAsk))
+                .midPrice(decimal(mid))
+                .spread(decimal(spread))
+                .spreadPercent(percent(bestBid > 0 ? spread / bestBid * 100 : 0))
+                .depthPercent(decimal(depthPercent))
+                .bidDepth(decimal(bidDepth).setScale(0, RoundingMode.HALF_UP))
+                .askDepth(decimal(askDepth).setScale(0, RoundingMode.HALF_UP))
+                .imbalance(percent(totalDepth > 0 ? (bidDepth - askDepth) / totalDepth : 0))
+                .orderSize(decimal(orderSize))
+                .buyAveragePrice(decimal(buy[0]))
+                .buySlippagePercent(percent(bestAsk > 0 && buy[0] > 0 ? (buy[0] - bestAsk) / bestAsk * 100 : 0))
+                .buyFilledSize(decimal(buy[1]))
+                .sellAveragePrice(decimal(sell[0]))
+                .sellSlippagePercent(percent(bestBid > 0 && sell[0] > 0 ? (bestBid - sell[0]) / bestBid * 100 : 0))
+                .sellFilledSize(decimal(sell[1]))
+                .bidLevels(bidCount)
+                .askLevels(askCount)
+                .timestamp(toLocalDateTime(timestamp))
+                .build();
+        }
+
+        /**
+         * 호가를 순서대로 소진했을 때 [평균 체결가, 체결 수량]
+         */
+        private static double[] walk(double[] prices, double[] sizes, int count, double orderSize) {
+            double remaining = orderSize;
+            double cost = 0;
+            for (int i = 0; i < count && remaining > 0; i++) {
+                double fill = Math.min(remaining, sizes[i]);
+                cost += fill * prices[i];
+                remaining -= fill;
+            }
+            double filled = orderSize - remaining;
+            return new double[] {filled > 0 ? cost / filled : 0, filled};
+        }
+
+        /**
+         * 기존 REST 응답 형식으로 변환 (상위 levels 개)
+         */
+        public OrderbookData toOrderbookData(int levels) {
+            List<OrderbookData.OrderbookUnit> bids = units(bidPrices, bidSizes, Math.min(levels, bidCount));
+            List<OrderbookData.OrderbookUnit> asks = units(askPrices, askSizes, Math.min(levels, askCount));
+
+            BigDecimal bestBid = bids.isEmpty() ? BigDecimal.ZERO : bids.get(0).getPrice();
+            BigDecimal bestAsk = asks.isEmpty() ? BigDecimal.ZERO : asks.get(0).getPrice();
+            BigDecimal spread = bestAsk.subtract(bestBid);
+            BigDecimal spreadPercent = bestBid.compareTo(BigDecimal.ZERO) > 0
+                ? spread.divide(bestBid, 4, RoundingMode.HALF_UP).multiply(BigDecimal.valueOf(100))
+                : BigDecimal.ZERO;
+
+            return OrderbookData.builder()
+                .exchange(exchange)
+                .market(market)
+                .bestBidPrice(bestBid)
+                .bestAskPrice(bestAsk)
+                .spread(spread)
+                .spreadPercent(spreadPercent)
+                .bids(bids)
+                .asks(asks)
+                .timestamp(toLocalDateTime(timestamp))
+                .build();
+        }
+
+        private static List<OrderbookData.OrderbookUnit> units(double[] prices, double[] sizes, int count) {
+            List<OrderbookData.OrderbookUnit> units = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                BigDecimal price = decimal(prices[i]);
+                BigDecimal quantity = decimal(sizes[i]);
+                units.add(OrderbookData.OrderbookUnit.builder()
+                    .price(price)
+                    .quantity(quantity)
+                    .total(price.multiply(quantity))
+                    .build());
+            }
+            return units;
+        }
+
+        private static BigDecimal decimal(double value) {
+            BigDecimal decimal = BigDecimal.valueOf(value);
+            return decimal.scale() < 0 ? decimal.setScale(0) : decimal;
+        }
+
+        private static BigDecimal percent(double value) {
+            return BigDecimal.valueOf(value).setScale(4, RoundingMode.HALF_UP);
+        }
+
+        private static LocalDateTime toLocalDateTime(long epochMillis) {
+            return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.payflow.crypto.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 로컬 호가창 지표 (깊이 / 스프레드 / 슬리피지 / 불균형)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderbookMetrics {
+    private String exchange;            // 거래소명
+    private String market;              // 마켓 코드
+    private long sequence;              // 호가창 변경 순번
+
+    // 최우선 호가
+    private BigDecimal bestBidPrice;    // 최우선 매수호가
+    private BigDecimal bestAskPrice;    // 최우선 매도호가
+    private BigDecimal midPrice;        // 중간가
+    private BigDecimal spread;          // 스프레드 (매도-매수)
+    private BigDecimal spreadPercent;   // 스프레드 비율 (%)
+
+    // 깊이 (중간가 ±depthPercent 이내 호가 총액)
+    private BigDecimal depthPercent;    // 깊이 계산 범위 (%)
+    private BigDecimal bidDepth;        // 매수 깊이 (원)
+    private BigDecimal askDepth;        // 매도 깊이 (원)
+    private BigDecimal imbalance;       // 불균형 (-1 매도 우위 ~ 1 매수 우위)
+
+    // 주문 수량별 슬리피지
+    private BigDecimal orderSize;           // 주문 수량
+    private BigDecimal buyAveragePrice;     // 시장가 매수 평균 체결가
+    private BigDecimal buySlippagePercent;  // 매수 슬리피지 (%)
+    private BigDecimal buyFilledSize;       // 호가창으로 체결 가능한 매수 수량
+    private BigDecimal sellAveragePrice;    // 시장가 매도 평균 체결가
+    private BigDecimal sellSlippagePercent; // 매도 슬리피지 (%)
+    private BigDecimal sellFilledSize;      // 호가창으로 체결 가능한 매도 수량
+
+    private int bidLevels;              // 매수 호가 레벨 수
+    private int askLevels;              // 매도 호가 레벨 수
+
+    private LocalDateTime timestamp;
+}
@@ -0,0 +1,94 @@
+package com.example.payflow.crypto.domain;
+
+/**
+ * 호가 갱신 메시지 (재사용 가능)
+ * - snapshot 이면 양쪽 호가 전체 교체 (업비트), 아니면 레벨별 잔량 변경 (빗썸, 잔량 0 은 삭제)
+ * - 디코더가 한 인스턴스를 계속 덮어쓰므로 참조를 보관하지 말 것
+ */
+public final class OrderbookUpdate {
+
+    public static final int DEFAULT_CAPACITY = 256;
+
+    private String market;
+    private long timestamp;         // epoch millis
+    private boolean snapshot;
+
+    private final boolean[] bid;
+    private final double[] prices;
+    private final double[] sizes;
+    private int count;
+
+    public OrderbookUpdate() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public OrderbookUpdate(int capacity) {
+        this.bid = new boolean[capacity];
+        this.prices = new double[capacity];
+        this.sizes = new double[capacity];
+    }
+
+    public void reset() {
+        market = null;
+        timestamp = 0;
+        snapshot = false;
+        count = 0;
+    }
+
+    /**
+     * 레벨 추가 (용량 초과분은 무시)
+     */
+    public void add(boolean bidSide, double price, double size) {
+        if (count == prices.length) {
+            return;
+        }
+        bid[count] = bidSide;
+        prices[count] = price;
+        sizes[count] = size;
+        count++;
+    }
+
+    public int capacity() {
+        return prices.length;
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public boolean isBid(int index) {
+        return bid[index];
+    }
+
+    public double price(int index) {
+        return prices[index];
+    }
+
+    public double quantity(int index) {
+        return sizes[index];
+    }
+
+    public String getMarket() {
+        return market;
+    }
+
+    public void setMarket(String market) {
+        this.market = market;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public void setTimestamp(long timestamp) {
+        this.timestamp = timestamp;
+    }
+
+    public boolean isSnapshot() {
+        return snapshot;
+    }
+
+    public void setSnapshot(boolean snapshot) {
+        this.snapshot = snapshot;
+    }
+}
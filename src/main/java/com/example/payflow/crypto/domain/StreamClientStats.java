@@ -0,0 +1,24 @@
+package com.example.payflow.crypto.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * 웹소켓 클라이언트별 전송 큐 통계
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StreamClientStats {
+    private String sessionId;               // 세션 ID
+    private int queueDepth;                 // 전송 대기 중인 마켓 수
+    private long sentCount;                 // 전송 완료 프레임 수
+    private long conflatedCount;            // 최신값으로 교체된 프레임 수
+    private long droppedCount;              // 큐 초과로 버려진 프레임 수
+    private Map<String, Object> sendLatency; // 전송 지연 히스토그램
+}
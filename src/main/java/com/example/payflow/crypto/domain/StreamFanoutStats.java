@@ -0,0 +1,25 @@
+package com.example.payflow.crypto.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 거래소별 시세 브로드캐스트 통계
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StreamFanoutStats {
+    private String exchange;                // 거래소명
+    private int clientCount;                // 연결된 클라이언트 수
+    private long publishedCount;            // 브로드캐스트한 틱 수
+    private long slowDisconnectCount;       // 느려서 끊은 클라이언트 수
+    private Map<String, Object> sendLatency; // 전체 전송 지연 히스토그램
+    private List<StreamClientStats> clients; // 클라이언트별 통계
+}
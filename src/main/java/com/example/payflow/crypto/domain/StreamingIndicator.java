@@ -0,0 +1,262 @@
+package com.example.payflow.crypto.domain;
+
+import java.util.Arrays;
+
+/**
+ * 실시간 틱 기반 증분 지표 (마켓 하나 단위)
+ * - 틱으로 1분봉을 직접 만들고, 분이 바뀔 때 확정 캔들을 원시 타입 ring buffer 에 넣는다
+ * - Wilder RSI, VWAP 을 틱당 O(1) 로 갱신
+ * - 거래량 급증률은 진행 중인 분의 부분 거래량 대신 마지막 확정 캔들을 그 이전 확정 캔들 SURGE_WINDOW 개 평균과 비교
+ *   (분이 바뀔 때만 갱신되며, 분 초반에 급증률이 낮게 보이는 왜곡이 없다)
+ * - 갱신은 소켓 리더 스레드 하나에서만, 조회는 volatile 필드로 어느 스레드에서나 가능
+ */
+public class StreamingIndicator {
+
+    private static final long MINUTE_MILLIS = 60_000L;
+    private static final int CAPACITY = 64;          // 확정 캔들 보관 개수 (2의 거듭제곱)
+    private static final int MASK = CAPACITY - 1;
+
+    public static final int RSI_PERIOD = 14;
+    public static final int SURGE_WINDOW = 10;       // 거래량 급증률 기준 캔들 수
+    public static final int VWAP_WINDOW = 30;        // VWAP 기준 캔들 수
+
+    // 진행 중인 1분봉
+    private long currentMinute = -1;
+    private double close;
+    private double volume;
+    private double priceVolume;
+
+    // 확정 캔들 ring buffer
+    private final long[] minutes = new long[CAPACITY];
+    private final double[] closes = new double[CAPACITY];
+    private final double[] volumes = new double[CAPACITY];
+    private final double[] priceVolumes = new double[CAPACITY];
+    private long closedCount;
+
+    // Wilder RSI 상태
+    private int seedCount;
+    private double seedGain;
+    private double seedLoss;
+    private double avgGain;
+    private double avgLoss;
+    private double lastClosedClose;
+
+    // 확정 캔들 기준 값 (캔들 확정 시에만 갱신)
+    private double closedVolumeSurge = 100;
+    private double vwapPriceVolume;
+    private double vwapVolume;
+
+    // 누적 거래량 차분용 (체결량이 없는 거래소)
+    private double lastAccVolume = -1;
+
+    // 재시작 직후 REST 캔들 백필 (다른 스레드에서 전달, 다음 틱에 적용)
+    private volatile Backfill pendingBackfill;
+
+    // 조회용 결과
+    private volatile double rsi;
+    private volatile double volumeSurge = 100;
+    private volatile double vwap;
+    private volatile long updatedAt;
+
+    /**
+     * 체결 1건 반영
+     * @param timestamp 체결 시각 (epoch millis)
+     * @param price 체결가
+     * @param tradeVolume 체결량
+     */
+    public void onTrade(long timestamp, double price, double tradeVolume) {
+        long minute = Math.floorDiv(timestamp, MINUTE_MILLIS);
+
+        Backfill backfill = pendingBackfill;
+        if (backfill != null) {
+            pendingBackfill = null;
+            applyBackfill(backfill, currentMinute >= 0 ? currentMinute : minute);
+        }
+
+        if (currentMinute < 0) {
+            startMinute(minute);
+        } else if (minute > currentMinute) {
+            closeCandle(currentMinute, close, volume, priceVolume);
+            // 체결이 없던 분은 직전 종가, 거래량 0 으로 채운다
+            long gap = Math.min(minute - currentMinute - 1, CAPACITY);
+            for (long i = 1; i <= gap; i++) {
+                closeCandle(minute - gap - 1 + i, close, 0, 0);
+            }
+            startMinute(minute);
+        }
+
+        close = price;
+        if (tradeVolume > 0) {
+            volume += tradeVolume;
+            priceVolume += price * tradeVolume;
+        }
+
+        publish(timestamp);
+    }
+
+    /**
+     * 누적 거래량(24h 등)만 제공되는 경우 - 직전 값과의 차이를 체결량으로 사용
+     */
+    public void onTicker(long timestamp, double price, double accVolume) {
+        double delta = lastAccVolume < 0 ? 0 : Math.max(0, accVolume - lastAccVolume);
+        lastAccVolume = accVolume;
+        onTrade(timestamp, price, delta);
+    }
+
+    private void startMinute(long minute) {
+        currentMinute = minute;
+        volume = 0;
+        priceVolume = 0;
+    }
+
+    private void closeCandle(long minute, double candleClose, double candleVolume, double candlePriceVolume) {
+        int slot = (int) (closedCount & MASK);
+        minutes[slot] = minute;
+        closes[slot] = candleClose;
+        volumes[slot] = candleVolume;
+        priceVolumes[slot] = candlePriceVolume;
+
+        if (closedCount > 0) {
+            double change = candleClose - lastClosedClose;
+            double gain = change > 0 ? change : 0;
+            double loss = change < 0 ? -change : 0;
+            if (seedCount < RSI_PERIOD) {
+                // 첫 기간은 단순 평균
+                seedGain += gain;
+                seedLoss += loss;
+                if (++seedCount == RSI_PERIOD) {
+                    avgGain = seedGain / RSI_PERIOD;
+                    avgLoss = seedLoss / RSI_PERIOD;
+                }
+            } else {
+                avgGain = (avgGain * (RSI_PERIOD - 1) + gain) / RSI_PERIOD;
+                avgLoss = (avgLoss * (RSI_PERIOD - 1) + loss) / RSI_PERIOD;
+            }
+        }
+        lastClosedClose = candleClose;
+        closedCount++;
+
+        // 윈도우 합계 재계산 (분당 1회, 윈도우 크기 상수)
+        int surgeCount = (int) Math.min(closedCount - 1, SURGE_WINDOW);
+        double surgeVolumeSum = 0;
+        for (int i = 2; i <= surgeCount + 1; i++) {
+            surgeVolumeSum += volumes[(int) ((closedCount - i) & MASK)];
+        }
+        closedVolumeSurge = surgeCount > 0 && surgeVolumeSum > 0
+            ? candleVolume / (surgeVolumeSum / surgeCount) * 100
+            : 100;
+        int vwapCount = (int) Math.min(closedCount, VWAP_WINDOW);
+        vwapPriceVolume = 0;
+        vwapVolume = 0;
+        for (int i = 1; i <= vwapCount; i++) {
+            int index = (int) ((closedCount - i) & MASK);
+            vwapPriceVolume += priceVolumes[index];
+            vwapVolume += volumes[index];
+        }
+    }
+
+    private void publish(long timestamp) {
+        // 진행 중인 캔들 종가를 반영한 잠정 RSI (상태는 변경하지 않음)
+        if (seedCount >= RSI_PERIOD) {
+            double change = close - lastClosedClose;
+            double gain = change > 0 ? change : 0;
+            double loss = change < 0 ? -change : 0;
+            double gainNow = (avgGain * (RSI_PERIOD - 1) + gain) / RSI_PERIOD;
+            double lossNow = (avgLoss * (RSI_PERIOD - 1) + loss) / RSI_PERIOD;
+            rsi = lossNow == 0 ? 100 : 100 - 100 / (1 + gainNow / lossNow);
+        }
+
+        volumeSurge = closedVolumeSurge;
+
+        double totalVolume = vwapVolume + volume;
+        vwap = totalVolume > 0 ? (vwapPriceVolume + priceVolume) / totalVolume : close;
+        updatedAt = timestamp;
+    }
+
+    /**
+     * REST 캔들로 과거 이력 채우기 요청 (임의 스레드에서 호출 가능)
+     * 실제 반영은 다음 틱에서 갱신 스레드가 수행
+     * @param candleMinutes 캔들 시작 분 (epoch minute, 과거 -> 현재 순)
+     */
+    public void requestBackfill(long[] candleMinutes, double[] candleCloses, double[] candleVolumes) {
+        pendingBackfill = new Backfill(candleMinutes, candleCloses, candleVolumes);
+    }
+
+    public boolean hasHistory() {
+        return closedCount > 0 || pendingBackfill != null;
+    }
+
+    private void applyBackfill(Backfill backfill, long liveMinute) {
+        // 실시간으로 만든 캔들보다 이전 분만 사용 (REST 의 진행 중인 분 제외)
+        long firstLiveMinute = closedCount > 0
+            ? minutes[(int) ((closedCount - Math.min(closedCount, CAPACITY)) & MASK)]
+            : liveMinute;
+
+        int liveCount = (int) Math.min(closedCount, CAPACITY);
+        long[] liveMinutes = new long[liveCount];
+        double[] liveCloses = new double[liveCount];
+        double[] liveVolumes = new double[liveCount];
+        double[] livePriceVolumes = new double[liveCount];
+        for (int i = 0; i < liveCount; i++) {
+            int index = (int) ((closedCount - liveCount + i) & MASK);
+            liveMinutes[i] = minutes[index];
+            liveCloses[i] = closes[index];
+            liveVolumes[i] = volumes[index];
+            livePriceVolumes[i] = priceVolumes[index];
+        }
+
+        resetHistory();
+        for (int i = 0; i < backfill.minutes.length; i++) {
+            if (backfill.minutes[i] < firstLiveMinute) {
+                closeCandle(backfill.minutes[i], backfill.closes[i], backfill.volumes[i],
+                    backfill.closes[i] * backfill.volumes[i]);
+            }
+        }
+        for (int i = 0; i < liveCount; i++) {
+            closeCandle(liveMinutes[i], liveCloses[i], liveVolumes[i], livePriceVolumes[i]);
+        }
+    }
+
+    private void resetHistory() {
+        Arrays.fill(minutes, 0);
+        Arrays.fill(closes, 0);
+        Arrays.fill(volumes, 0);
+        Arrays.fill(priceVolumes, 0);
+        closedCount = 0;
+        seedCount = 0;
+        seedGain = 0;
+        seedLoss = 0;
+        avgGain = 0;
+        avgLoss = 0;
+        lastClosedClose = 0;
+        closedVolumeSurge = 100;
+    }
+
+    public double getRsi() {
+        return rsi;
+    }
+
+    public double getVolumeSurge() {
+        return volumeSurge;
+    }
+
+    public double getVwap() {
+        return vwap;
+    }
+
+    public long getUpdatedAt() {
+        return updatedAt;
+    }
+
+    private static final class Backfill {
+        private final long[] minutes;
+        private final double[] closes;
+        private final double[] volumes;
+
+        private Backfill(long[] minutes, double[] closes, double[] volumes) {
+            this.minutes = minutes;
+            this.closes = closes;
+            this.volumes = volumes;
+        }
+    }
+}
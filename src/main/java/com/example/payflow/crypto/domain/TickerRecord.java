@@ -0,0 +1,189 @@
+package com.example.payflow.crypto.domain;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 원시 타입 기반 시세 레코드 (재사용 가능)
+ * - 소수 값은 (unscaled long, scale) 쌍의 고정소수점으로 보관하여 BigDecimal 할당을 피한다
+ * - 디코더가 한 인스턴스를 계속 덮어쓰므로 참조를 보관하지 말고 copyFrom 으로 복사해서 사용
+ */
+public final class TickerRecord {
+
+    // 필드 인덱스 (CoinTicker JSON 필드 순서와 동일)
+    public static final int TRADE_PRICE = 0;
+    public static final int CHANGE_PRICE = 1;
+    public static final int CHANGE_RATE = 2;
+    public static final int SIGNED_CHANGE_RATE = 3;
+    public static final int HIGH_PRICE = 4;
+    public static final int LOW_PRICE = 5;
+    public static final int OPENING_PRICE = 6;
+    public static final int PREV_CLOSING_PRICE = 7;
+    public static final int ACC_TRADE_PRICE_24H = 8;
+    public static final int ACC_TRADE_VOLUME_24H = 9;
+    public static final int TRADE_VOLUME = 10;         // 직전 체결량 (클라이언트 프레임에는 미포함)
+    public static final int FIELD_COUNT = 11;
+
+    // 클라이언트 프레임으로 직렬화하는 필드 수 (TRADE_PRICE ~ ACC_TRADE_VOLUME_24H)
+    public static final int CLIENT_FIELD_COUNT = 10;
+
+    // 변동 방향
+    public static final byte CHANGE_EVEN = 0;
+    public static final byte CHANGE_RISE = 1;
+    public static final byte CHANGE_FALL = 2;
+
+    private String market;
+    private String koreanName;
+    private final long[] unscaled = new long[FIELD_COUNT];
+    private final int[] scale = new int[FIELD_COUNT];
+    private byte change;
+    private long timestamp;     // epoch millis
+
+    public void reset() {
+        market = null;
+        koreanName = null;
+        for (int i = 0; i < FIELD_COUNT; i++) {
+            unscaled[i] = 0;
+            scale[i] = 0;
+        }
+        change = CHANGE_EVEN;
+        timestamp = 0;
+    }
+
+    public void copyFrom(TickerRecord other) {
+        market = other.market;
+        koreanName = other.koreanName;
+        System.arraycopy(other.unscaled, 0, unscaled, 0, FIELD_COUNT);
+        System.arraycopy(other.scale, 0, scale, 0, FIELD_COUNT);
+        change = other.change;
+        timestamp = other.timestamp;
+    }
+
+    public void set(int field, long unscaledValue, int valueScale) {
+        unscaled[field] = unscaledValue;
+        scale[field] = valueScale;
+    }
+
+    /**
+     * BigDecimal 값 설정 (18자리를 넘는 유효숫자는 반올림)
+     */
+    public void set(int field, BigDecimal value) {
+        if (value == null) {
+            set(field, 0, 0);
+            return;
+        }
+        if (value.precision() > 18) {
+            value = value.round(new MathContext(18));
+        }
+        set(field, value.unscaledValue().longValue(), value.scale());
+    }
+
+    public long unscaled(int field) {
+        return unscaled[field];
+    }
+
+    public int scale(int field) {
+        return scale[field];
+    }
+
+    /**
+     * 근사 double 값 (지표 계산용)
+     */
+    public double doubleValue(int field) {
+        double value = unscaled[field];
+        int s = scale[field];
+        return s > 0 ? value / Math.pow(10, s) : value * Math.pow(10, -s);
+    }
+
+    public BigDecimal decimal(int field) {
+        return BigDecimal.valueOf(unscaled[field], scale[field]);
+    }
+
+    public String getMarket() {
+        return market;
+    }
+
+    public void setMarket(String market) {
+        this.market = market;
+    }
+
+    public String getKoreanName() {
+        return koreanName;
+    }
+
+    public void setKoreanName(String koreanName) {
+        this.koreanName = koreanName;
+    }
+
+    public byte getChange() {
+        return change;
+    }
+
+    public void setChange(byte change) {
+        this.change = change;
+    }
+
+    public long getTimestamp() {
+        return timestamp;
+    }
+
+    public void setTimestamp(long timestamp) {
+        this.timestamp = timestamp;
+    }
+
+    public static String changeName(byte change) {
+        switch (change) {
+            case CHANGE_RISE: return "RISE";
+            case CHANGE_FALL: return "FALL";
+            default: return "EVEN";
+        }
+    }
+
+    /**
+     * BigDecimal 기반 CoinTicker 내용을 복사 (타임스탬프는 epoch millis 로 별도 지정)
+     */
+    public void copyFrom(CoinTicker ticker, long timestampMillis) {
+        reset();
+        market = ticker.getMarket();
+        koreanName = ticker.getKoreanName();
+        set(TRADE_PRICE, ticker.getTradePrice());
+        set(CHANGE_PRICE, ticker.getChangePrice());
+        set(CHANGE_RATE, ticker.getChangeRate());
+        set(SIGNED_CHANGE_RATE, ticker.getSignedChangeRate());
+        set(HIGH_PRICE, ticker.getHighPrice());
+        set(LOW_PRICE, ticker.getLowPrice());
+        set(OPENING_PRICE, ticker.getOpeningPrice());
+        set(PREV_CLOSING_PRICE, ticker.getPrevClosingPrice());
+        set(ACC_TRADE_PRICE_24H, ticker.getAccTradePrice24h());
+        set(ACC_TRADE_VOLUME_24H, ticker.getAccTradeVolume24h());
+        change = "RISE".equals(ticker.getChange()) ? CHANGE_RISE
+            : "FALL".equals(ticker.getChange()) ? CHANGE_FALL
+            : CHANGE_EVEN;
+        timestamp = timestampMillis;
+    }
+
+    /**
+     * 조회용 CoinTicker 로 변환 (읽기 경로에서만 할당 발생)
+     */
+    public CoinTicker toCoinTicker() {
+        return CoinTicker.builder()
+            .market(market)
+            .koreanName(koreanName)
+            .tradePrice(decimal(TRADE_PRICE))
+            .changePrice(decimal(CHANGE_PRICE))
+            .changeRate(decimal(CHANGE_RATE))
+            .signedChangeRate(decimal(SIGNED_CHANGE_RATE))
+            .highPrice(decimal(HIGH_PRICE))
+            .lowPrice(decimal(LOW_PRICE))
+            .openingPrice(decimal(OPENING_PRICE))
+            .prevClosingPrice(decimal(PREV_CLOSING_PRICE))
+            .accTradePrice24h(decimal(ACC_TRADE_PRICE_24H))
+            .accTradeVolume24h(decimal(ACC_TRADE_VOLUME_24H))
+            .change(changeName(change))
+            .timestamp(LocalDateTime.ofInstant(Instant.ofEpochMilli(timestamp), ZoneId.systemDefault()))
+            .build();
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.payflow.crypto.domain;
+
+/**
+ * 누적 거래량 샘플 ring buffer (초 단위, 고정 크기)
+ * - 같은 초의 샘플은 마지막 값으로 덮어쓴다
+ * - 단일 writer, 조회 스레드는 count 이후 발행된 샘플만 읽는다
+ */
+public class VolumeRing {
+
+    private final long[] timestamps;
+    private final double[] volumes;
+    private final int capacity;
+    private volatile long count;
+
+    public VolumeRing(int capacity) {
+        this.capacity = capacity;
+        this.timestamps = new long[capacity];
+        this.volumes = new double[capacity];
+    }
+
+    /**
+     * 단일 writer 전용
+     */
+    public void add(long timestampMillis, double volume) {
+        long n = count;
+        if (n > 0) {
+            int last = (int) ((n - 1) % capacity);
+            if (timestamps[last] / 1000 == timestampMillis / 1000) {
+                volumes[last] = volume;
+                return;
+            }
+        }
+        int slot = (int) (n % capacity);
+        timestamps[slot] = timestampMillis;
+        volumes[slot] = volume;
+        count = n + 1;
+    }
+
+    /**
+     * 최근 값 대비 cutoff 이전 마지막 샘플의 변화율 (%)
+     * @return 비교할 과거 샘플이 없으면 0
+     */
+    public double changeRateSince(long cutoffMillis) {
+        long n = count;
+        if (n < 2) {
+            return 0;
+        }
+        long first = Math.max(0, n - capacity);
+
+        // cutoff 이전 마지막 샘플 (이진 탐색, 타임스탬프는 단조 증가)
+        long low = first;
+        long high = n - 1;
+        long found = -1;
+        while (low <= high) {
+            long mid = (low + high) >>> 1;
+            if (timestamps[(int) (mid % capacity)] < cutoffMillis) {
+                found = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+        if (found < 0) {
+            return 0;
+        }
+
+        double oldVolume = volumes[(int) (found % capacity)];
+        double newVolume = volumes[(int) ((n - 1) % capacity)];
+        if (oldVolume == 0) {
+            return 0;
+        }
+        return (newVolume - oldVolume) / oldVolume * 100;
+    }
+}
@@ -13,6 +13,7 @@ public class CryptoWebSocketConfig implements WebSocketConfigurer {
     
     private final CryptoWebSocketHandler cryptoWebSocketHandler;
     private final BithumbWebSocketHandler bithumbWebSocketHandler;
+    private final OrderbookStreamHandler orderbookStreamHandler;
     
     @Override
     public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
@@ -22,6 +23,9 @@ public class CryptoWebSocketConfig implements WebSocketConfigurer {
         registry.addHandler(bithumbWebSocketHandler, "/ws/crypto/bithumb")
                 .setAllowedOrigins("*");
         
+        registry.addHandler(orderbookStreamHandler, "/ws/crypto/orderbook")
+                .setAllowedOrigins("*");
+        
         // 레거시 호환
         registry.addHandler(cryptoWebSocketHandler, "/ws/crypto")
                 .setAllowedOrigins("*");
@@ -0,0 +1,274 @@
+package com.example.payflow.crypto.infrastructure;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 거래소 프레임 디코더 공통 JSON 바이트 스캐너
+ * - ByteBuffer 를 절대 위치로 읽으므로 버퍼의 position 을 바꾸지 않는다
+ * - 숫자는 (mantissa, scale) 고정소수점으로 읽어 BigDecimal/String 할당을 피한다
+ * - 상태를 가지므로 소켓 리더 스레드 하나에서만 사용
+ */
+abstract class JsonByteScanner {
+
+    // 최대 유효 자릿수 (long 범위 내)
+    private static final int MAX_DIGITS = 18;
+
+    private static final double[] POW10 = new double[19];
+
+    static {
+        POW10[0] = 1;
+        for (int i = 1; i < POW10.length; i++) {
+            POW10[i] = POW10[i - 1] * 10;
+        }
+    }
+
+    private final String frameName;
+
+    protected ByteBuffer buf;
+    protected int pos;
+    protected int limit;
+
+    // 마지막으로 읽은 숫자 (readDecimal)
+    protected long mantissa;
+    protected int decimalScale;
+
+    protected JsonByteScanner(String frameName) {
+        this.frameName = frameName;
+    }
+
+    protected void begin(ByteBuffer buffer) {
+        this.buf = buffer;
+        this.pos = buffer.position();
+        this.limit = buffer.limit();
+    }
+
+    /**
+     * 키가 주어진 ASCII 바이트와 같은지 비교
+     */
+    protected boolean keyEquals(int start, int length, byte[] key) {
+        if (key.length != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (buf.get(start + i) != key[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 숫자를 (mantissa, decimalScale) 고정소수점으로 읽는다 (부호 포함)
+     */
+    protected void readDecimal() {
+        boolean negative = false;
+        byte b = peek();
+        if (b == '-') {
+            negative = true;
+            pos++;
+        } else if (b == '+') {
+            pos++;
+        }
+
+        long value = 0;
+        int scale = 0;
+        int digits = 0;
+        boolean fraction = false;
+
+        while (pos < limit) {
+            b = buf.get(pos);
+            if (b >= '0' && b <= '9') {
+                if (digits < MAX_DIGITS) {
+                    value = value * 10 + (b - '0');
+                    if (value != 0) {
+                        digits++;
+                    }
+                    if (fraction) {
+                        scale++;
+                    }
+                } else if (!fraction) {
+                    // 정수부 자릿수 초과분은 지수로 흡수 (소수부 초과분은 절사)
+                    scale--;
+                }
+                pos++;
+            } else if (b == '.') {
+                fraction = true;
+                pos++;
+            } else if (b == 'e' || b == 'E') {
+                pos++;
+                scale -= readExponent();
+                break;
+            } else {
+                break;
+            }
+        }
+
+        mantissa = negative ? -value : value;
+        decimalScale = scale;
+    }
+
+    /**
+     * 숫자(또는 숫자 문자열)를 double 로 읽는다
+     */
+    protected double readDouble() {
+        boolean quoted = peek() == '"';
+        if (quoted) {
+            pos++;
+        }
+        readDecimal();
+        if (quoted) {
+            expect('"');
+        }
+        return toDouble(mantissa, decimalScale);
+    }
+
+    protected static double toDouble(long unscaled, int scale) {
+        if (scale >= 0 && scale < POW10.length) {
+            return unscaled / POW10[scale];
+        }
+        return unscaled * Math.pow(10, -scale);
+    }
+
+    private int readExponent() {
+        boolean negative = false;
+        byte b = peek();
+        if (b == '-') {
+            negative = true;
+            pos++;
+        } else if (b == '+') {
+            pos++;
+        }
+        int exponent = 0;
+        while (pos < limit) {
+            b = buf.get(pos);
+            if (b < '0' || b > '9') {
+                break;
+            }
+            exponent = exponent * 10 + (b - '0');
+            pos++;
+        }
+        return negative ? -exponent : exponent;
+    }
+
+    protected long readLong() {
+        long value = 0;
+        while (pos < limit) {
+            byte b = buf.get(pos);
+            if (b < '0' || b > '9') {
+                break;
+            }
+            value = value * 10 + (b - '0');
+            pos++;
+        }
+        return value;
+    }
+
+    /**
+     * 문자열 본문을 건너뛴다 (여는 따옴표 다음 위치에서 호출)
+     * @return 본문 길이 (이스케이프 포함 원본 바이트 기준)
+     */
+    protected int skipStringBody() {
+        int start = pos;
+        while (pos < limit) {
+            byte b = buf.get(pos);
+            if (b == '\\') {
+                pos += 2;
+                continue;
+            }
+            if (b == '"') {
+                int length = pos - start;
+                pos++;
+                return length;
+            }
+            pos++;
+        }
+        throw malformed("문자열이 닫히지 않음");
+    }
+
+    protected void skipValue() {
+        byte b = peek();
+        if (b == '"') {
+            pos++;
+            skipStringBody();
+            return;
+        }
+        if (b == '{' || b == '[') {
+            int depth = 0;
+            while (pos < limit) {
+                b = buf.get(pos++);
+                if (b == '"') {
+                    skipStringBody();
+                } else if (b == '{' || b == '[') {
+                    depth++;
+                } else if (b == '}' || b == ']') {
+                    if (--depth == 0) {
+                        return;
+                    }
+                }
+            }
+            throw malformed("객체/배열이 닫히지 않음");
+        }
+        // 숫자, true, false, null
+        while (pos < limit) {
+            b = buf.get(pos);
+            if (b == ',' || b == '}' || b == ']' || isWhitespace(b)) {
+                return;
+            }
+            pos++;
+        }
+    }
+
+    protected void skipWhitespace() {
+        while (pos < limit && isWhitespace(buf.get(pos))) {
+            pos++;
+        }
+    }
+
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\n' || b == '\r' || b == '\t';
+    }
+
+    protected byte peek() {
+        if (pos >= limit) {
+            throw malformed("예상치 못한 프레임 끝");
+        }
+        return buf.get(pos);
+    }
+
+    protected byte next() {
+        byte b = peek();
+        pos++;
+        return b;
+    }
+
+    protected void expect(char c) {
+        if (next() != c) {
+            throw malformed("'" + c + "' 필요");
+        }
+    }
+
+    /**
+     * 객체 멤버 구분자를 읽는다
+     * @return 다음 멤버가 있으면 true, 객체가 끝나면 false
+     */
+    protected boolean nextMember() {
+        skipWhitespace();
+        byte b = next();
+        if (b == ',') {
+            return true;
+        }
+        if (b == '}') {
+            return false;
+        }
+        throw malformed("',' 또는 '}' 필요");
+    }
+
+    protected IllegalArgumentException malformed(String reason) {
+        return new IllegalArgumentException(frameName + " 프레임 형식 오류 (" + reason + ", offset=" + pos + ")");
+    }
+
+    protected static byte[] ascii(String s) {
+        return s.getBytes(StandardCharsets.US_ASCII);
+    }
+}
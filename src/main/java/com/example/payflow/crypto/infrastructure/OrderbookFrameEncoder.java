@@ -0,0 +1,86 @@
+package com.example.payflow.crypto.infrastructure;
+
+import com.example.payflow.crypto.domain.L2OrderBook;
+
+/**
+ * 호가창 클라이언트 프레임 인코더
+ * - snapshot: {"type":"snapshot","exchange":..,"market":..,"seq":..,"timestamp":..,"bids":[[가격,잔량],..],"asks":[..]}
+ * - delta: 같은 형식으로 바뀐 레벨만 포함 (잔량 0 은 삭제)
+ * - 클라이언트는 snapshot 의 seq 이하 delta 를 버리고, seq 가 1 이상 건너뛰면 snapshot 을 다시 요청한다
+ * - 재사용 StringBuilder 를 쓰므로 인스턴스를 스레드 간 공유하지 말 것
+ */
+public class OrderbookFrameEncoder {
+
+    private final StringBuilder sb = new StringBuilder(2048);
+
+    /**
+     * 직전 갱신의 변경 레벨만 인코딩 (호가창 writer 스레드 전용)
+     */
+    public String encodeDelta(L2OrderBook book) {
+        header("delta", book.getExchange(), book.getMarket(), book.getSequence(), book.getTimestamp());
+
+        sb.append(",\"bids\":[");
+        appendDeltas(book, true);
+        sb.append("],\"asks\":[");
+        appendDeltas(book, false);
+        sb.append("]}");
+        return sb.toString();
+    }
+
+    public String encodeSnapshot(L2OrderBook.View view) {
+        header("snapshot", view.getExchange(), view.getMarket(), view.getSequence(), view.getTimestamp());
+
+        sb.append(",\"bids\":[");
+        for (int i = 0; i < view.getBidCount(); i++) {
+            appendLevel(i > 0, view.bidPrice(i), view.bidSize(i));
+        }
+        sb.append("],\"asks\":[");
+        for (int i = 0; i < view.getAskCount(); i++) {
+            appendLevel(i > 0, view.askPrice(i), view.askSize(i));
+        }
+        sb.append("]}");
+        return sb.toString();
+    }
+
+    private void header(String type, String exchange, String market, long sequence, long timestamp) {
+        sb.setLength(0);
+        sb.append("{\"type\":\"").append(type)
+            .append("\",\"exchange\":\"").append(exchange)
+            .append("\",\"market\":\"").append(market)
+            .append("\",\"seq\":").append(sequence)
+            .append(",\"timestamp\":").append(timestamp);
+    }
+
+    private void appendDeltas(L2OrderBook book, boolean bid) {
+        boolean first = true;
+        for (int i = 0; i < book.getDeltaCount(); i++) {
+            if (book.isDeltaBid(i) == bid) {
+                appendLevel(!first, book.deltaPrice(i), book.deltaSize(i));
+                first = false;
+            }
+        }
+    }
+
+    private void appendLevel(boolean comma, double price, double size) {
+        if (comma) {
+            sb.append(',');
+        }
+        sb.append('[');
+        appendNumber(price);
+        sb.append(',');
+        appendNumber(size);
+        sb.append(']');
+    }
+
+    /**
+     * 정수 값은 지수 표기 없이 기록 (원화 호가가 1e7 이상이어도 9.5E7 형태가 되지 않게)
+     */
+    private void appendNumber(double value) {
+        long integral = (long) value;
+        if (integral == value && Math.abs(integral) < 1_000_000_000_000_000L) {
+            sb.append(integral);
+        } else {
+            sb.append(value);
+        }
+    }
+}
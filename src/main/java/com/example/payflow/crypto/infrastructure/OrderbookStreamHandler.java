@@ -0,0 +1,43 @@
+package com.example.payflow.crypto.infrastructure;
+
+import com.example.payflow.crypto.application.OrderbookService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+
+/**
+ * 로컬 호가창 구독 웹소켓 핸들러
+ * 클라이언트 메시지: {"type":"subscribe|unsubscribe|snapshot","exchange":"UPBIT","market":"KRW-BTC"}
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrderbookStreamHandler extends TextWebSocketHandler {
+    
+    private final OrderbookService orderbookService;
+    
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+        orderbookService.addClientSession(session);
+    }
+    
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage message) throws Exception {
+        orderbookService.handleClientMessage(session, message.getPayload());
+    }
+    
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) throws Exception {
+        orderbookService.removeClientSession(session);
+    }
+    
+    @Override
+    public void handleTransportError(WebSocketSession session, Throwable exception) throws Exception {
+        log.error("호가 웹소켓 전송 에러", exception);
+        orderbookService.removeClientSession(session);
+    }
+}
@@ -0,0 +1,211 @@
+package com.example.payflow.crypto.infrastructure;
+
+import com.example.payflow.crypto.domain.TickerRecord;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * TickerRecord -> 클라이언트 전송용 JSON 프레임 인코더
+ * - 기존 gson.toJson(CoinTicker) 와 같은 필드/순서로 직렬화
+ * - 재사용 StringBuilder 에 직접 기록하므로 틱당 최종 String 하나만 할당
+ * - 상태를 가지므로 소켓 리더 스레드 하나에서만 사용
+ */
+public class TickerFrameEncoder {
+
+    private static final String[] FIELD_NAMES = {
+        "\"tradePrice\":",
+        ",\"changePrice\":",
+        ",\"changeRate\":",
+        ",\"signedChangeRate\":",
+        ",\"highPrice\":",
+        ",\"lowPrice\":",
+        ",\"openingPrice\":",
+        ",\"prevClosingPrice\":",
+        ",\"accTradePrice24h\":",
+        ",\"accTradeVolume24h\":"
+    };
+
+    private static final long[] POW10 = new long[19];
+
+    static {
+        POW10[0] = 1;
+        for (int i = 1; i < POW10.length; i++) {
+            POW10[i] = POW10[i - 1] * 10;
+        }
+    }
+
+    private static final long MILLIS_PER_HOUR = 3_600_000L;
+    private static final long MILLIS_PER_DAY = 86_400_000L;
+
+    private final StringBuilder sb = new StringBuilder(512);
+    private final ZoneId zone;
+
+    // 마켓별 고정 접두부 ({"market":"KRW-BTC","koreanName":"비트코인",)
+    private final Map<String, String> prefixes = new HashMap<>();
+
+    // 시간대 오프셋 캐시 (시간 단위로 갱신)
+    private long cachedHour = Long.MIN_VALUE;
+    private long cachedOffsetMillis;
+
+    public TickerFrameEncoder() {
+        this(ZoneId.systemDefault());
+    }
+
+    public TickerFrameEncoder(ZoneId zone) {
+        this.zone = zone;
+    }
+
+    public String encode(TickerRecord record) {
+        sb.setLength(0);
+        sb.append(prefix(record));
+
+        for (int field = 0; field < TickerRecord.CLIENT_FIELD_COUNT; field++) {
+            sb.append(FIELD_NAMES[field]);
+            appendDecimal(sb, record.unscaled(field), record.scale(field));
+        }
+
+        sb.append(",\"change\":\"").append(TickerRecord.changeName(record.getChange())).append('"');
+        sb.append(",\"timestamp\":\"");
+        appendLocalDateTime(record.getTimestamp());
+        sb.append("\"}");
+
+        return sb.toString();
+    }
+
+    private String prefix(TickerRecord record) {
+        String prefix = prefixes.get(record.getMarket());
+        if (prefix == null) {
+            StringBuilder p = new StringBuilder("{\"market\":");
+            appendQuoted(p, record.getMarket());
+            p.append(",\"koreanName\":");
+            appendQuoted(p, record.getKoreanName());
+            p.append(',');
+            prefix = p.toString();
+            prefixes.put(record.getMarket(), prefix);
+        }
+        return prefix;
+    }
+
+    private static void appendQuoted(StringBuilder out, String value) {
+        out.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                out.append('\\');
+            }
+            out.append(c);
+        }
+        out.append('"');
+    }
+
+    /**
+     * (unscaled, scale) 고정소수점을 BigDecimal.toString 과 같은 형태로 기록 (Gson 의 BigDecimal 직렬화와 동일)
+     * - 지수 표기가 되는 경우(scale < 0, 또는 조정 지수 < -6 인 아주 작은 값)만 BigDecimal 로 위임
+     */
+    static void appendDecimal(StringBuilder out, long unscaled, int scale) {
+        if (scale == 0) {
+            out.append(unscaled);
+            return;
+        }
+
+        long abs = unscaled < 0 ? -unscaled : unscaled;
+        int digits = digitCount(abs);
+        if (scale < 0 || scale - digits > 5) {
+            out.append(BigDecimal.valueOf(unscaled, scale));
+            return;
+        }
+
+        if (unscaled < 0) {
+            out.append('-');
+        }
+        if (digits <= scale) {
+            out.append("0.");
+            for (int i = digits; i < scale; i++) {
+                out.append('0');
+            }
+            out.append(abs);
+            return;
+        }
+
+        long pow = POW10[scale];
+        long fraction = abs % pow;
+        out.append(abs / pow).append('.');
+        for (int i = digitCount(fraction); i < scale; i++) {
+            out.append('0');
+        }
+        out.append(fraction);
+    }
+
+    private static int digitCount(long value) {
+        int digits = 1;
+        while (digits < POW10.length && value >= POW10[digits]) {
+            digits++;
+        }
+        return digits;
+    }
+
+    /**
+     * LocalDateTime.toString() 과 동일한 형식 (yyyy-MM-ddTHH:mm[:ss[.SSS]])
+     */
+    private void appendLocalDateTime(long epochMillis) {
+        long hour = Math.floorDiv(epochMillis, MILLIS_PER_HOUR);
+        if (hour != cachedHour) {
+            cachedHour = hour;
+            cachedOffsetMillis = zone.getRules().getOffset(Instant.ofEpochMilli(epochMillis)).getTotalSeconds() * 1000L;
+        }
+
+        long local = epochMillis + cachedOffsetMillis;
+        long epochDay = Math.floorDiv(local, MILLIS_PER_DAY);
+        int millisOfDay = (int) Math.floorMod(local, MILLIS_PER_DAY);
+
+        // civil-from-days
+        long z = epochDay + 719468;
+        long era = Math.floorDiv(z, 146097);
+        long doe = z - era * 146097;
+        long yoe = (doe - doe / 1460 + doe / 36524 - doe / 146096) / 365;
+        long doy = doe - (365 * yoe + yoe / 4 - yoe / 100);
+        long mp = (5 * doy + 2) / 153;
+        int day = (int) (doy - (153 * mp + 2) / 5 + 1);
+        int month = (int) (mp < 10 ? mp + 3 : mp - 9);
+        long year = yoe + era * 400 + (month <= 2 ? 1 : 0);
+
+        int hourOfDay = millisOfDay / 3_600_000;
+        int minute = millisOfDay / 60_000 % 60;
+        int second = millisOfDay / 1000 % 60;
+        int millis = millisOfDay % 1000;
+
+        sb.append(year).append('-');
+        appendTwoDigits(month);
+        sb.append('-');
+        appendTwoDigits(day);
+        sb.append('T');
+        appendTwoDigits(hourOfDay);
+        sb.append(':');
+        appendTwoDigits(minute);
+        if (second > 0 || millis > 0) {
+            sb.append(':');
+            appendTwoDigits(second);
+            if (millis > 0) {
+                sb.append('.');
+                if (millis < 100) {
+                    sb.append('0');
+                }
+                if (millis < 10) {
+                    sb.append('0');
+                }
+                sb.append(millis);
+            }
+        }
+    }
+
+    private void appendTwoDigits(int value) {
+        if (value < 10) {
+            sb.append('0');
+        }
+        sb.append(value);
+    }
+}
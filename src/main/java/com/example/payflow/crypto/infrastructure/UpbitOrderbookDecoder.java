@@ -0,0 +1,187 @@
+package com.example.payflow.crypto.infrastructure;
+
+import com.example.payflow.crypto.domain.OrderbookUpdate;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 업비트 orderbook 프레임 스트리밍 디코더
+ * - orderbook_units 를 재사용 OrderbookUpdate 에 전체 스냅샷으로 채운다
+ * - type 이 orderbook 이 아니면 바로 false 를 반환하므로 ticker 프레임 판별 비용이 작다
+ * - 상태를 가지므로 소켓 리더 스레드 하나에서만 사용
+ */
+public class UpbitOrderbookDecoder extends JsonByteScanner {
+
+    private static final byte[] TYPE = ascii("type");
+    private static final byte[] ORDERBOOK = ascii("orderbook");
+    private static final byte[] CODE = ascii("code");
+    private static final byte[] TIMESTAMP = ascii("timestamp");
+    private static final byte[] UNITS = ascii("orderbook_units");
+    private static final byte[] ASK_PRICE = ascii("ask_price");
+    private static final byte[] BID_PRICE = ascii("bid_price");
+    private static final byte[] ASK_SIZE = ascii("ask_size");
+    private static final byte[] BID_SIZE = ascii("bid_size");
+
+    // 마켓 코드 바이트 -> String 캐시 (마켓 수가 적어 선형 탐색)
+    private byte[][] marketBytes = new byte[16][];
+    private String[] marketNames = new String[16];
+    private int marketCount;
+
+    public UpbitOrderbookDecoder() {
+        super("업비트 orderbook");
+    }
+
+    /**
+     * 프레임을 디코딩하여 out 에 채운다
+     * @return orderbook 프레임이면 true, 그 외 메시지는 false
+     * @throws IllegalArgumentException JSON 형식이 잘못된 경우
+     */
+    public boolean decode(ByteBuffer buffer, OrderbookUpdate out) {
+        begin(buffer);
+        out.reset();
+        out.setSnapshot(true);
+
+        boolean orderbook = false;
+        boolean hasCode = false;
+
+        skipWhitespace();
+        expect('{');
+        skipWhitespace();
+        if (peek() == '}') {
+            return false;
+        }
+
+        while (true) {
+            skipWhitespace();
+            expect('"');
+            int keyStart = pos;
+            int keyLength = skipStringBody();
+
+            skipWhitespace();
+            expect(':');
+            skipWhitespace();
+
+            if (peek() == 'n') {
+                skipValue();
+            } else if (keyEquals(keyStart, keyLength, TYPE)) {
+                expect('"');
+                int start = pos;
+                int length = skipStringBody();
+                if (!keyEquals(start, length, ORDERBOOK)) {
+                    return false;
+                }
+                orderbook = true;
+            } else if (keyEquals(keyStart, keyLength, CODE)) {
+                expect('"');
+                int start = pos;
+                int length = skipStringBody();
+                out.setMarket(resolveMarket(start, length));
+                hasCode = true;
+            } else if (keyEquals(keyStart, keyLength, TIMESTAMP)) {
+                out.setTimestamp(readLong());
+            } else if (keyEquals(keyStart, keyLength, UNITS)) {
+                readUnits(out);
+            } else {
+                skipValue();
+            }
+
+            if (!nextMember()) {
+                break;
+            }
+        }
+
+        return orderbook && hasCode;
+    }
+
+    private void readUnits(OrderbookUpdate out) {
+        expect('[');
+        skipWhitespace();
+        if (peek() == ']') {
+            pos++;
+            return;
+        }
+
+        while (true) {
+            skipWhitespace();
+            expect('{');
+            double askPrice = 0;
+            double bidPrice = 0;
+            double askSize = 0;
+            double bidSize = 0;
+
+            skipWhitespace();
+            if (peek() != '}') {
+                while (true) {
+                    skipWhitespace();
+                    expect('"');
+                    int keyStart = pos;
+                    int keyLength = skipStringBody();
+                    skipWhitespace();
+                    expect(':');
+                    skipWhitespace();
+
+                    if (peek() == 'n') {
+                        skipValue();
+                    } else if (keyEquals(keyStart, keyLength, ASK_PRICE)) {
+                        askPrice = readDouble();
+                    } else if (keyEquals(keyStart, keyLength, BID_PRICE)) {
+                        bidPrice = readDouble();
+                    } else if (keyEquals(keyStart, keyLength, ASK_SIZE)) {
+                        askSize = readDouble();
+                    } else if (keyEquals(keyStart, keyLength, BID_SIZE)) {
+                        bidSize = readDouble();
+                    } else {
+                        skipValue();
+                    }
+
+                    if (!nextMember()) {
+                        break;
+                    }
+                }
+            } else {
+                pos++;
+            }
+
+            if (askPrice > 0) {
+                out.add(false, askPrice, askSize);
+            }
+            if (bidPrice > 0) {
+                out.add(true, bidPrice, bidSize);
+            }
+
+            skipWhitespace();
+            byte b = next();
+            if (b == ']') {
+                return;
+            }
+            if (b != ',') {
+                throw malformed("',' 또는 ']' 필요");
+            }
+        }
+    }
+
+    private String resolveMarket(int start, int length) {
+        for (int i = 0; i < marketCount; i++) {
+            if (keyEquals(start, length, marketBytes[i])) {
+                return marketNames[i];
+            }
+        }
+
+        // 처음 보는 마켓만 할당
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = buf.get(start + i);
+        }
+        if (marketCount == marketBytes.length) {
+            marketBytes = Arrays.copyOf(marketBytes, marketCount * 2);
+            marketNames = Arrays.copyOf(marketNames, marketCount * 2);
+        }
+        String market = new String(bytes, StandardCharsets.UTF_8);
+        marketBytes[marketCount] = bytes;
+        marketNames[marketCount] = market;
+        marketCount++;
+        return market;
+    }
+}
@@ -0,0 +1,225 @@
+package com.example.payflow.crypto.infrastructure;
+
+import com.example.payflow.crypto.domain.TickerRecord;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * 업비트 ticker 프레임 스트리밍 디코더
+ * - ByteBuffer 를 직접 스캔하여 재사용 TickerRecord 에 채운다 (String/JsonObject/BigDecimal 할당 없음)
+ * - 마켓 코드는 최초 1회만 String 으로 만들어 캐시
+ * - 상태를 가지므로 소켓 리더 스레드 하나에서만 사용
+ */
+public class UpbitTickerDecoder extends JsonByteScanner {
+
+    private static final int F_UNKNOWN = -1;
+    private static final int F_CODE = 100;
+    private static final int F_CHANGE = 101;
+    private static final int F_TIMESTAMP = 102;
+
+    private static final byte[][] KEYS = {
+        ascii("code"),
+        ascii("change"),
+        ascii("timestamp"),
+        ascii("trade_price"),
+        ascii("signed_change_price"),
+        ascii("change_rate"),
+        ascii("signed_change_rate"),
+        ascii("high_price"),
+        ascii("low_price"),
+        ascii("opening_price"),
+        ascii("prev_closing_price"),
+        ascii("acc_trade_price_24h"),
+        ascii("acc_trade_volume_24h"),
+        ascii("trade_volume")
+    };
+
+    private static final int[] KEY_FIELDS = {
+        F_CODE,
+        F_CHANGE,
+        F_TIMESTAMP,
+        TickerRecord.TRADE_PRICE,
+        TickerRecord.CHANGE_PRICE,
+        TickerRecord.CHANGE_RATE,
+        TickerRecord.SIGNED_CHANGE_RATE,
+        TickerRecord.HIGH_PRICE,
+        TickerRecord.LOW_PRICE,
+        TickerRecord.OPENING_PRICE,
+        TickerRecord.PREV_CLOSING_PRICE,
+        TickerRecord.ACC_TRADE_PRICE_24H,
+        TickerRecord.ACC_TRADE_VOLUME_24H,
+        TickerRecord.TRADE_VOLUME
+    };
+
+    private final Map<String, String> koreanNames;
+
+    // 마켓 코드 바이트 -> String 캐시 (open addressing)
+    private MarketEntry[] markets = new MarketEntry[256];
+    private int marketCount;
+
+    public UpbitTickerDecoder(Map<String, String> koreanNames) {
+        super("업비트 ticker");
+        this.koreanNames = koreanNames;
+    }
+
+    /**
+     * 프레임을 디코딩하여 out 에 채운다
+     * @return ticker 프레임이면 true (code, trade_price 포함), 그 외 메시지는 false
+     * @throws IllegalArgumentException JSON 형식이 잘못된 경우
+     */
+    public boolean decode(ByteBuffer buffer, TickerRecord out) {
+        begin(buffer);
+        out.reset();
+
+        boolean hasCode = false;
+        boolean hasPrice = false;
+
+        skipWhitespace();
+        expect('{');
+        skipWhitespace();
+        if (peek() == '}') {
+            return false;
+        }
+
+        while (true) {
+            skipWhitespace();
+            expect('"');
+            int keyStart = pos;
+            int keyLength = skipStringBody();
+            int field = fieldOf(keyStart, keyLength);
+
+            skipWhitespace();
+            expect(':');
+            skipWhitespace();
+
+            if (peek() == 'n') {
+                // null 값은 기본값 유지
+                skipValue();
+            } else if (field == F_CODE) {
+                expect('"');
+                int start = pos;
+                int length = skipStringBody();
+                resolveMarket(start, length, out);
+                hasCode = true;
+            } else if (field == F_CHANGE) {
+                expect('"');
+                byte first = peek();
+                skipStringBody();
+                out.setChange(first == 'R' ? TickerRecord.CHANGE_RISE
+                        : first == 'F' ? TickerRecord.CHANGE_FALL
+                        : TickerRecord.CHANGE_EVEN);
+            } else if (field == F_TIMESTAMP) {
+                out.setTimestamp(readLong());
+            } else if (field >= 0) {
+                boolean percent = field == TickerRecord.CHANGE_RATE || field == TickerRecord.SIGNED_CHANGE_RATE;
+                readDecimal(out, field, percent);
+                if (field == TickerRecord.TRADE_PRICE) {
+                    hasPrice = true;
+                }
+            } else {
+                skipValue();
+            }
+
+            if (!nextMember()) {
+                break;
+            }
+        }
+
+        return hasCode && hasPrice;
+    }
+
+    private int fieldOf(int start, int length) {
+        for (int k = 0; k < KEYS.length; k++) {
+            if (keyEquals(start, length, KEYS[k])) {
+                return KEY_FIELDS[k];
+            }
+        }
+        return F_UNKNOWN;
+    }
+
+    /**
+     * 숫자를 (unscaled, scale) 고정소수점으로 읽는다
+     * percent 이면 BigDecimal.multiply(100) 과 동일하게 unscaled 에 100 을 곱한다
+     */
+    private void readDecimal(TickerRecord out, int field, boolean percent) {
+        readDecimal();
+        out.set(field, percent ? mantissa * 100 : mantissa, decimalScale);
+    }
+
+    private void resolveMarket(int start, int length, TickerRecord out) {
+        int hash = 0;
+        for (int i = 0; i < length; i++) {
+            hash = 31 * hash + buf.get(start + i);
+        }
+
+        int mask = markets.length - 1;
+        int index = hash & mask;
+        MarketEntry entry;
+        while ((entry = markets[index]) != null) {
+            if (entry.hash == hash && entry.matches(buf, start, length)) {
+                out.setMarket(entry.market);
+                out.setKoreanName(entry.koreanName);
+                return;
+            }
+            index = (index + 1) & mask;
+        }
+
+        // 처음 보는 마켓만 할당
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = buf.get(start + i);
+        }
+        String market = new String(bytes, StandardCharsets.UTF_8);
+        entry = new MarketEntry(hash, bytes, market, koreanNames.getOrDefault(market, market));
+        markets[index] = entry;
+        if (++marketCount * 2 > markets.length) {
+            rehash();
+        }
+        out.setMarket(entry.market);
+        out.setKoreanName(entry.koreanName);
+    }
+
+    private void rehash() {
+        MarketEntry[] old = markets;
+        markets = new MarketEntry[old.length * 2];
+        int mask = markets.length - 1;
+        for (MarketEntry entry : old) {
+            if (entry == null) {
+                continue;
+            }
+            int index = entry.hash & mask;
+            while (markets[index] != null) {
+                index = (index + 1) & mask;
+            }
+            markets[index] = entry;
+        }
+    }
+
+    private static final class MarketEntry {
+        private final int hash;
+        private final byte[] bytes;
+        private final String market;
+        private final String koreanName;
+
+        private MarketEntry(int hash, byte[] bytes, String market, String koreanName) {
+            this.hash = hash;
+            this.bytes = bytes;
+            this.market = market;
+            this.koreanName = koreanName;
+        }
+
+        private boolean matches(ByteBuffer buf, int start, int length) {
+            if (bytes.length != length) {
+                return false;
+            }
+            for (int i = 0; i < length; i++) {
+                if (bytes[i] != buf.get(start + i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.payflow.crypto.presentation;
+
+import com.example.payflow.crypto.application.BithumbWebSocketService;
+import com.example.payflow.crypto.application.OrderbookService;
+import com.example.payflow.crypto.application.UpbitWebSocketService;
+import com.example.payflow.crypto.domain.StreamFanoutStats;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 실시간 시세 브로드캐스트 메트릭 API
+ * 클라이언트별 큐 깊이, conflation/drop 건수, 전송 지연 히스토그램
+ */
+@RestController
+@RequestMapping("/api/crypto/stream")
+@RequiredArgsConstructor
+public class CryptoStreamMetricsController {
+    
+    private final UpbitWebSocketService upbitWebSocketService;
+    private final BithumbWebSocketService bithumbWebSocketService;
+    private final OrderbookService orderbookService;
+    
+    @GetMapping("/metrics")
+    public Map<String, StreamFanoutStats> getStreamMetrics() {
+        Map<String, StreamFanoutStats> result = new LinkedHashMap<>();
+        result.put("UPBIT", upbitWebSocketService.getStreamStats());
+        result.put("BITHUMB", bithumbWebSocketService.getStreamStats());
+        result.put("ORDERBOOK", orderbookService.getStreamStats());
+        return result;
+    }
+}
@@ -4,6 +4,7 @@ import com.example.payflow.crypto.application.ExchangeComparisonServiceV2;
 import com.example.payflow.crypto.application.OrderbookService;
 import com.example.payflow.crypto.domain.ExchangePremium;
 import com.example.payflow.crypto.domain.OrderbookData;
+import com.example.payflow.crypto.domain.OrderbookMetrics;
 import com.example.payflow.crypto.domain.TradeStrength;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -109,16 +110,14 @@ public class ExchangeComparisonController {
     }
     
     /**
-     * 호가 데이터 조회
+     * 호가 데이터 조회 (웹소켓으로 유지되는 로컬 호가창, 아직 없으면 거래소 REST 조회)
      */
     @GetMapping("/orderbook/{exchange}/{market}")
     public Mono<OrderbookData> getOrderbook(
             @PathVariable String exchange,
             @PathVariable String market) {
-        if ("UPBIT".equalsIgnoreCase(exchange)) {
-            return orderbookService.getUpbitOrderbook(market);
-        } else if ("BITHUMB".equalsIgnoreCase(exchange)) {
-            return orderbookService.getBithumbOrderbook(market);
+        if ("UPBIT".equalsIgnoreCase(exchange) || "BITHUMB".equalsIgnoreCase(exchange)) {
+            return orderbookService.getOrderbookOrFetch(exchange, market);
         }
         return Mono.empty();
     }
@@ -129,8 +128,8 @@ public class ExchangeComparisonController {
     @GetMapping("/orderbook/spread/{market}")
     public Mono<Map<String, OrderbookData>> getOrderbookSpread(@PathVariable String market) {
         return Mono.zip(
-            orderbookService.getUpbitOrderbook(market),
-            orderbookService.getBithumbOrderbook(market)
+            orderbookService.getOrderbookOrFetch("UPBIT", market),
+            orderbookService.getOrderbookOrFetch("BITHUMB", market)
         ).map(tuple -> {
             Map<String, OrderbookData> result = new HashMap<>();
             result.put("UPBIT", tuple.getT1());
@@ -138,4 +137,16 @@ public class ExchangeComparisonController {
             return result;
         });
     }
+    
+    /**
+     * 호가창 지표 (깊이, 스프레드, 주문 수량별 슬리피지, 불균형)
+     */
+    @GetMapping("/orderbook/metrics/{exchange}/{market}")
+    public Mono<OrderbookMetrics> getOrderbookMetrics(
+            @PathVariable String exchange,
+            @PathVariable String market,
+            @RequestParam(defaultValue = "1.0") double size,
+            @RequestParam(defaultValue = "1.0") double depthPercent) {
+        return Mono.justOrEmpty(orderbookService.getMetrics(exchange, market, size, depthPercent));
+    }
 }
@@ -2,8 +2,10 @@ package com.example.payflow.distributor.application;
 
 import com.example.payflow.distributor.domain.Distributor;
 import com.example.payflow.distributor.domain.DistributorRepository;
+import com.example.payflow.distributor.domain.events.DistributorChanged;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -13,6 +15,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class DistributorService {
     
     private final DistributorRepository distributorRepository;
+    private final ApplicationEventPublisher eventPublisher;
     
     @Transactional
     public Distributor createDistributor(String distributorId, String distributorName, 
@@ -20,6 +23,7 @@ public class DistributorService {
         Distributor distributor = new Distributor(distributorId, distributorName, 
             businessNumber, phoneNumber, managerName);
         distributorRepository.save(distributor);
+        eventPublisher.publishEvent(new DistributorChanged(distributor));
         log.info("🚚 유통사 생성: distributorId={}, distributorName={}", distributorId, distributorName);
         return distributor;
     }
@@ -57,6 +61,7 @@ public class DistributorService {
                 deliveryInfo, description, certifications, minOrderAmount, operatingHours, address);
         
         distributorRepository.save(distributor);
+        eventPublisher.publishEvent(new DistributorChanged(distributor));
         log.info("✅ 유통업체 정보 업데이트: distributorId={}, supplyProducts={}, serviceRegions={}", 
                 distributorId, supplyProducts, serviceRegions);
         
@@ -77,5 +82,6 @@ public class DistributorService {
             log.info("⛔ 유통업체 비활성화: distributorId={}", distributorId);
         }
         distributorRepository.save(distributor);
+        eventPublisher.publishEvent(new DistributorChanged(distributor));
     }
 }
@@ -0,0 +1,14 @@
+package com.example.payflow.distributor.domain.events;
+
+import com.example.payflow.distributor.domain.Distributor;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 유통업체 생성/정보 수정/활성 상태 변경 (커밋 후 매칭 색인 갱신용)
+ */
+@Getter
+@AllArgsConstructor
+public class DistributorChanged {
+    private final Distributor distributor;
+}
@@ -1,7 +1,10 @@
 package com.example.payflow.escrow.application;
 
+import com.example.payflow.common.eventstore.EventStreamAppender;
+import com.example.payflow.common.eventstore.EventStreamTable;
 import com.example.payflow.escrow.domain.EscrowEventStore;
 import com.example.payflow.escrow.domain.EscrowEventStoreRepository;
+import com.example.payflow.escrow.domain.EscrowProjection;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
@@ -9,7 +12,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.HashMap;
+import java.sql.Timestamp;
 import java.util.List;
 import java.util.Map;
 
@@ -18,7 +21,17 @@ import java.util.Map;
 @Slf4j
 public class EscrowEventSourcingService {
     
+    private static final EventStreamTable<EscrowEventStore> ESCROW_EVENT_STREAM = EventStreamTable.of(
+        "escrow_event_store", "transaction_id", "sequence",
+        List.of("event_type", "previous_status", "new_status", "event_data", "triggered_by", "occurred_at"),
+        event -> new Object[]{
+            event.getEventType(), event.getPreviousStatus(), event.getNewStatus(), event.getEventData(),
+            event.getTriggeredBy(), Timestamp.valueOf(event.getOccurredAt())
+        });
+    
     private final EscrowEventStoreRepository eventStoreRepository;
+    private final EventStreamAppender eventStreamAppender;
+    private final EscrowStateProjector stateProjector;
     private final ObjectMapper objectMapper;
     
     @Transactional
@@ -26,11 +39,6 @@ public class EscrowEventSourcingService {
                                 String previousStatus, String newStatus,
                                 Map<String, Object> eventData, String triggeredBy) {
         
-        // 다음 시퀀스 번호 계산
-        Integer nextSequence = eventStoreRepository.findMaxSequenceByTransactionId(transactionId)
-            .map(max -> max + 1)
-            .orElse(1);
-        
         // 이벤트 데이터를 JSON으로 변환
         String eventDataJson = null;
         if (eventData != null && !eventData.isEmpty()) {
@@ -42,10 +50,10 @@ public class EscrowEventSourcingService {
             }
         }
         
-        // 이벤트 저장
+        // 이벤트 저장 (sequence 는 EventStreamAppender 가 할당)
         EscrowEventStore event = new EscrowEventStore(
             transactionId,
-            nextSequence,
+            null,
             eventType,
             previousStatus,
             newStatus,
@@ -53,10 +61,11 @@ public class EscrowEventSourcingService {
             triggeredBy
         );
         
-        eventStoreRepository.save(event);
+        int sequence = eventStreamAppender.append(ESCROW_EVENT_STREAM, transactionId, event);
+        stateProjector.onAppended(transactionId, sequence);
         
         log.info("에스크로 이벤트 저장: transactionId={}, eventType={}, sequence={}", 
-            transactionId, eventType, nextSequence);
+            transactionId, eventType, sequence);
     }
     
     @Transactional(readOnly = true)
@@ -64,36 +73,20 @@ public class EscrowEventSourcingService {
         return eventStoreRepository.findByTransactionIdOrderBySequenceAsc(transactionId);
     }
     
+    /**
+     * 거래 상태 재구성 (upToSequence 가 없으면 최신 상태)
+     * 가장 가까운 스냅샷 이후 이벤트만 재생하며, 이벤트 목록은 /events 로 따로 조회
+     */
     @Transactional(readOnly = true)
     public Map<String, Object> reconstructState(String transactionId, Integer upToSequence) {
-        List<EscrowEventStore> events;
-        
-        if (upToSequence != null) {
-            events = eventStoreRepository.findByTransactionIdAndSequenceLessThanEqualOrderBySequenceAsc(
-                transactionId, upToSequence);
-        } else {
-            events = eventStoreRepository.findByTransactionIdOrderBySequenceAsc(transactionId);
-        }
-        
-        Map<String, Object> state = new HashMap<>();
-        state.put("transactionId", transactionId);
-        state.put("eventCount", events.size());
-        
-        if (!events.isEmpty()) {
-            EscrowEventStore lastEvent = events.get(events.size() - 1);
-            state.put("currentStatus", lastEvent.getNewStatus());
-            state.put("lastEventType", lastEvent.getEventType());
-            state.put("lastEventSequence", lastEvent.getSequence());
-            state.put("lastEventTime", lastEvent.getOccurredAt());
-        }
-        
-        // 이벤트 히스토리 추가
-        state.put("events", events);
+        EscrowProjection projection = upToSequence != null
+            ? stateProjector.at(transactionId, upToSequence)
+            : stateProjector.latest(transactionId);
         
         log.info("상태 재구성 완료: transactionId={}, upToSequence={}, eventCount={}", 
-            transactionId, upToSequence, events.size());
+            transactionId, upToSequence, projection.getLastSequence());
         
-        return state;
+        return projection.toStateMap();
     }
     
     @Transactional(readOnly = true)
@@ -0,0 +1,135 @@
+package com.example.payflow.escrow.application;
+
+import com.example.payflow.escrow.domain.EscrowEventStore;
+import com.example.payflow.escrow.domain.EscrowEventStoreRepository;
+import com.example.payflow.escrow.domain.EscrowProjection;
+import com.example.payflow.escrow.domain.EscrowSnapshot;
+import com.example.payflow.escrow.domain.EscrowSnapshotRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 에스크로 거래 상태 재구성 (스냅샷 + 이후 이벤트 재생)
+ * - snapshot-interval 번째 이벤트마다 스냅샷을 저장하므로 어느 시점이든 재생하는 이벤트는 interval 개 미만
+ * - 최근 조회한 거래의 최신 상태는 projection-cache 에 두고 캐시 이후 이벤트만 반영 (캐시된 인스턴스는 변경하지 않는다)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EscrowStateProjector {
+
+    private static final TypeReference<Map<String, Integer>> EVENT_TYPE_COUNTS = new TypeReference<>() {};
+
+    private final EscrowEventStoreRepository eventStoreRepository;
+    private final EscrowSnapshotRepository snapshotRepository;
+    private final ObjectMapper objectMapper;
+
+    @Value("${escrow.snapshot.interval:50}")
+    private int snapshotInterval;
+
+    @Value("${escrow.projection-cache.max-size:10000}")
+    private long cacheMaxSize;
+
+    @Value("${escrow.projection-cache.expire-minutes:30}")
+    private long cacheExpireMinutes;
+
+    private Cache<String, EscrowProjection> latestProjections;
+
+    @PostConstruct
+    public void init() {
+        latestProjections = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfterAccess(Duration.ofMinutes(cacheExpireMinutes))
+                .build();
+    }
+
+    /**
+     * 최신 상태 (읽기 전용 트랜잭션에서 호출 - 커밋된 이벤트만 캐시에 반영)
+     */
+    public EscrowProjection latest(String transactionId) {
+        EscrowProjection cached = latestProjections.getIfPresent(transactionId);
+        EscrowProjection projection = cached != null
+                ? replay(cached.copy(), Integer.MAX_VALUE)
+                : project(transactionId, Integer.MAX_VALUE);
+        if (cached == null || projection.getLastSequence() > cached.getLastSequence()) {
+            latestProjections.asMap().merge(transactionId, projection,
+                    (previous, current) -> current.getLastSequence() >= previous.getLastSequence() ? current : previous);
+        }
+        return projection;
+    }
+
+    /**
+     * upToSequence 시점의 상태 (캐시가 그 시점 직전 interval 안이면 캐시에서, 아니면 가장 가까운 스냅샷에서 재생)
+     */
+    public EscrowProjection at(String transactionId, int upToSequence) {
+        EscrowProjection cached = latestProjections.getIfPresent(transactionId);
+        if (cached != null && cached.getLastSequence() <= upToSequence
+                && upToSequence - cached.getLastSequence() < snapshotInterval) {
+            return replay(cached.copy(), upToSequence);
+        }
+        return project(transactionId, upToSequence);
+    }
+
+    /**
+     * 이벤트 저장 직후 호출 - sequence 가 snapshot-interval 의 배수면 같은 트랜잭션에서 스냅샷 저장
+     */
+    public void onAppended(String transactionId, int sequence) {
+        if (sequence % snapshotInterval != 0) {
+            return;
+        }
+        EscrowProjection projection = project(transactionId, sequence);
+        snapshotRepository.save(new EscrowSnapshot(projection, writeCounts(projection)));
+        log.info("📸 에스크로 스냅샷 저장: transactionId={}, sequence={}", transactionId, projection.getLastSequence());
+    }
+
+    private EscrowProjection project(String transactionId, int upToSequence) {
+        EscrowProjection base = snapshotRepository
+                .findFirstByTransactionIdAndSequenceLessThanEqualOrderBySequenceDesc(transactionId, upToSequence)
+                .map(snapshot -> EscrowProjection.fromSnapshot(snapshot, readCounts(snapshot)))
+                .orElseGet(() -> EscrowProjection.empty(transactionId));
+        return replay(base, upToSequence);
+    }
+
+    private EscrowProjection replay(EscrowProjection base, int upToSequence) {
+        if (base.getLastSequence() >= upToSequence) {
+            return base;
+        }
+        List<EscrowEventStore> events = eventStoreRepository
+                .findByTransactionIdAndSequenceGreaterThanAndSequenceLessThanEqualOrderBySequenceAsc(
+                        base.getTransactionId(), base.getLastSequence(), upToSequence);
+        events.forEach(base::apply);
+        return base;
+    }
+
+    private Map<String, Integer> readCounts(EscrowSnapshot snapshot) {
+        if (snapshot.getEventTypeCounts() == null) {
+            return Map.of();
+        }
+        try {
+            return objectMapper.readValue(snapshot.getEventTypeCounts(), EVENT_TYPE_COUNTS);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("에스크로 스냅샷 역직렬화 실패: transactionId=" + snapshot.getTransactionId()
+                    + ", sequence=" + snapshot.getSequence(), e);
+        }
+    }
+
+    private String writeCounts(EscrowProjection projection) {
+        try {
+            return objectMapper.writeValueAsString(projection.getEventTypeCounts());
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("에스크로 스냅샷 직렬화 실패: transactionId=" + projection.getTransactionId(), e);
+        }
+    }
+}
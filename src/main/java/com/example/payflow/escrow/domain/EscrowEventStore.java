@@ -8,7 +8,9 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "escrow_event_store")
+@Table(name = "escrow_event_store", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_escrow_event_sequence", columnNames = {"transactionId", "sequence"})
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class EscrowEventStore {
@@ -0,0 +1,92 @@
+package com.example.payflow.escrow.domain;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 에스크로 이벤트를 순서대로 접어 만든 거래 상태 (스냅샷 또는 빈 상태에서 시작해 이후 이벤트만 반영)
+ */
+@Getter
+public class EscrowProjection {
+
+    private final String transactionId;
+    private int lastSequence;
+    private String currentStatus;
+    private String lastEventType;
+    private LocalDateTime lastEventTime;
+    private LocalDateTime firstEventTime;
+    private LocalDateTime statusSince;
+    private final Map<String, Integer> eventTypeCounts;
+
+    private EscrowProjection(String transactionId, int lastSequence, String currentStatus, String lastEventType,
+                             LocalDateTime lastEventTime, LocalDateTime firstEventTime, LocalDateTime statusSince,
+                             Map<String, Integer> eventTypeCounts) {
+        this.transactionId = transactionId;
+        this.lastSequence = lastSequence;
+        this.currentStatus = currentStatus;
+        this.lastEventType = lastEventType;
+        this.lastEventTime = lastEventTime;
+        this.firstEventTime = firstEventTime;
+        this.statusSince = statusSince;
+        this.eventTypeCounts = new HashMap<>(eventTypeCounts);
+    }
+
+    public static EscrowProjection empty(String transactionId) {
+        return new EscrowProjection(transactionId, 0, null, null, null, null, null, Map.of());
+    }
+
+    public static EscrowProjection fromSnapshot(EscrowSnapshot snapshot, Map<String, Integer> eventTypeCounts) {
+        return new EscrowProjection(snapshot.getTransactionId(), snapshot.getSequence(), snapshot.getCurrentStatus(),
+            snapshot.getLastEventType(), snapshot.getLastEventTime(), snapshot.getFirstEventTime(),
+            snapshot.getStatusSince(), eventTypeCounts);
+    }
+
+    public EscrowProjection copy() {
+        return new EscrowProjection(transactionId, lastSequence, currentStatus, lastEventType, lastEventTime,
+            firstEventTime, statusSince, eventTypeCounts);
+    }
+
+    /**
+     * 다음 이벤트 반영 (이미 반영한 sequence 는 무시)
+     */
+    public void apply(EscrowEventStore event) {
+        if (event.getSequence() <= lastSequence) {
+            return;
+        }
+        if (firstEventTime == null) {
+            firstEventTime = event.getOccurredAt();
+        }
+        if (event.getNewStatus() != null && !event.getNewStatus().equals(currentStatus)) {
+            currentStatus = event.getNewStatus();
+            statusSince = event.getOccurredAt();
+        }
+        lastSequence = event.getSequence();
+        lastEventType = event.getEventType();
+        lastEventTime = event.getOccurredAt();
+        eventTypeCounts.merge(event.getEventType(), 1, Integer::sum);
+    }
+
+    public Map<String, Integer> getEventTypeCounts() {
+        return Map.copyOf(eventTypeCounts);
+    }
+
+    public Map<String, Object> toStateMap() {
+        Map<String, Object> state = new LinkedHashMap<>();
+        state.put("transactionId", transactionId);
+        state.put("eventCount", lastSequence);
+        if (lastSequence > 0) {
+            state.put("currentStatus", currentStatus);
+            state.put("lastEventType", lastEventType);
+            state.put("lastEventSequence", lastSequence);
+            state.put("lastEventTime", lastEventTime);
+            state.put("firstEventTime", firstEventTime);
+            state.put("statusSince", statusSince);
+            state.put("eventTypeCounts", getEventTypeCounts());
+        }
+        return state;
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.payflow.escrow.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 에스크로 거래 상태 스냅샷 (snapshot-interval 번째 이벤트마다 저장, 상태 재구성 시 이후 이벤트만 재생)
+ */
+@Entity
+@Table(name = "escrow_snapshot", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_escrow_snapshot_sequence", columnNames = {"transactionId", "sequence"})
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class EscrowSnapshot {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(nullable = false)
+    private String transactionId;
+    
+    @Column(nullable = false)
+    private Integer sequence;  // 스냅샷에 반영된 마지막 이벤트 sequence
+    
+    @Column(length = 30)
+    private String currentStatus;
+    
+    @Column(length = 50)
+    private String lastEventType;
+    
+    private LocalDateTime lastEventTime;
+    
+    private LocalDateTime firstEventTime;
+    
+    private LocalDateTime statusSince;
+    
+    @Column(columnDefinition = "TEXT")
+    private String eventTypeCounts;  // JSON 형식
+    
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+    
+    public EscrowSnapshot(EscrowProjection projection, String eventTypeCounts) {
+        this.transactionId = projection.getTransactionId();
+        this.sequence = projection.getLastSequence();
+        this.currentStatus = projection.getCurrentStatus();
+        this.lastEventType = projection.getLastEventType();
+        this.lastEventTime = projection.getLastEventTime();
+        this.firstEventTime = projection.getFirstEventTime();
+        this.statusSince = projection.getStatusSince();
+        this.eventTypeCounts = eventTypeCounts;
+        this.createdAt = LocalDateTime.now();
+    }
+}
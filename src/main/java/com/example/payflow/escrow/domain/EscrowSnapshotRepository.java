@@ -0,0 +1,13 @@
+package com.example.payflow.escrow.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface EscrowSnapshotRepository extends JpaRepository<EscrowSnapshot, Long> {
+    
+    Optional<EscrowSnapshot> findFirstByTransactionIdAndSequenceLessThanEqualOrderBySequenceDesc(
+        String transactionId, Integer sequence);
+}
@@ -0,0 +1,271 @@
+package com.example.payflow.logging.application;
+
+import com.example.payflow.common.metrics.LatencyHistogram;
+import com.example.payflow.logging.application.dto.EventLogWriterStats;
+import com.example.payflow.logging.domain.EventLog;
+import com.example.payflow.logging.domain.EventLogRepository;
+import com.example.payflow.logging.infrastructure.JdbcEventLogBatchInserter;
+import com.example.payflow.logging.infrastructure.MpscRingBuffer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * EventLog 비동기 일괄 작성기
+ * - 호출 스레드는 lock-free 링 버퍼에 넣기만 하고, 전용 스레드가 최대 batch-size 건씩 JDBC batch insert
+ * - 버퍼가 가득 차면 overflow-policy 에 따라 폐기(DROP)하거나 자리가 날 때까지 대기(BLOCK, block-timeout-ms 까지)
+ * - 종료 시 남은 로그를 모두 기록한 뒤 멈춘다
+ * - 저장 완료를 확인해야 하는 호출자(Kafka 수집)는 writeSync 로 버퍼를 거치지 않고 바로 저장
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AsyncEventLogWriter {
+    
+    public enum OverflowPolicy {
+        DROP,
+        BLOCK
+    }
+    
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(2);
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(100);
+    private static final long SHUTDOWN_TIMEOUT_MS = 10_000;
+    
+    private final JdbcEventLogBatchInserter batchInserter;
+    private final EventLogRepository eventLogRepository;
+    private final EventLogRollupAggregator rollupAggregator;
+    private final PlatformTransactionManager transactionManager;
+    
+    @Value("${logging.async.enabled:true}")
+    private boolean enabled;
+    
+    @Value("${logging.async.capacity:65536}")
+    private int capacity;
+    
+    @Value("${logging.async.batch-size:500}")
+    private int batchSize;
+    
+    @Value("${logging.async.overflow-policy:DROP}")
+    private OverflowPolicy overflowPolicy;
+    
+    @Value("${logging.async.block-timeout-ms:50}")
+    private long blockTimeoutMs;
+    
+    private MpscRingBuffer<EventLog> buffer;
+    private TransactionTemplate transactionTemplate;
+    private Thread writerThread;
+    private volatile boolean running;
+    
+    private final AtomicLong enqueued = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+    private final LatencyHistogram batchWriteLatency = new LatencyHistogram();
+    private final Object progress = new Object();
+    private long written; // progress 로 보호
+    
+    @PostConstruct
+    public void start() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        if (!enabled) {
+            return;
+        }
+        buffer = new MpscRingBuffer<>(capacity);
+        running = true;
+        writerThread = new Thread(this::drainLoop, "event-log-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+        log.info("🚀 EventLog 비동기 작성기 시작 - capacity={}, batchSize={}, overflow={}",
+            buffer.capacity(), batchSize, overflowPolicy);
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        if (writerThread == null) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(writerThread);
+        try {
+            writerThread.join(SHUTDOWN_TIMEOUT_MS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // 작성 스레드가 멈춘 뒤 늦게 들어온 로그까지 마저 기록
+        List<EventLog> rest = new ArrayList<>();
+        buffer.drainTo(rest, Integer.MAX_VALUE);
+        if (!rest.isEmpty()) {
+            write(rest);
+            log.info("종료 시점 잔여 EventLog {}건 기록", rest.size());
+        }
+    }
+    
+    public boolean isAsync() {
+        return running;
+    }
+    
+    /**
+     * 호출자 트랜잭션이 있으면 커밋 후에 적재 (롤백된 작업의 로그가 남지 않도록, 기존 동기 저장과 같은 의미)
+     */
+    public void submit(EventLog eventLog) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(eventLog);
+                }
+            });
+        } else {
+            enqueue(eventLog);
+        }
+    }
+    
+    /**
+     * 작성기가 멈춘 뒤에는 호출 스레드에서 바로 저장
+     */
+    public void enqueue(EventLog eventLog) {
+        if (!running) {
+            writeNow(eventLog);
+            return;
+        }
+        if (buffer.offer(eventLog) || overflowPolicy == OverflowPolicy.BLOCK && offerBlocking(eventLog)) {
+            enqueued.incrementAndGet();
+            return;
+        }
+        long total = dropped.incrementAndGet();
+        if (total == 1 || total % 10_000 == 0) {
+            log.warn("⚠️ EventLog 버퍼 가득 참 - 폐기 누적 {}건 (eventType={})", total, eventLog.getEventType());
+        }
+    }
+    
+    /**
+     * 호출 시점까지 적재된 로그가 모두 기록될 때까지 대기
+     */
+    public void flush() {
+        if (!running) {
+            return;
+        }
+        long target = enqueued.get();
+        long deadline = System.currentTimeMillis() + SHUTDOWN_TIMEOUT_MS;
+        LockSupport.unpark(writerThread);
+        synchronized (progress) {
+            while (written < target) {
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0) {
+                    log.warn("⚠️ EventLog 기록 대기 시간 초과: written={}, target={}", written, target);
+                    return;
+                }
+                try {
+                    progress.wait(remaining);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+    
+    /**
+     * 호출 스레드에서 한 트랜잭션으로 바로 일괄 저장 (버퍼/폐기 없음). 실패하면 예외를 그대로 던진다
+     */
+    public void writeSync(List<EventLog> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        long startNanos = System.nanoTime();
+        transactionTemplate.executeWithoutResult(status -> batchInserter.insertAll(batch));
+        batchWriteLatency.recordNanos(System.nanoTime() - startNanos);
+        batches.incrementAndGet();
+        batch.forEach(rollupAggregator::record);
+    }
+    
+    public EventLogWriterStats getStats() {
+        long writtenCount;
+        synchronized (progress) {
+            writtenCount = written;
+        }
+        return EventLogWriterStats.builder()
+            .async(running)
+            .overflowPolicy(overflowPolicy.name())
+            .capacity(buffer != null ? buffer.capacity() : 0)
+            .queueDepth(buffer != null ? buffer.size() : 0)
+            .enqueued(enqueued.get())
+            .written(writtenCount)
+            .dropped(dropped.get())
+            .failed(failed.get())
+            .batches(batches.get())
+            .batchWriteLatency(batchWriteLatency.snapshot())
+            .build();
+    }
+    
+    private boolean offerBlocking(EventLog eventLog) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(blockTimeoutMs);
+        while (running && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(BLOCK_PARK_NANOS);
+            if (buffer.offer(eventLog)) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    private void drainLoop() {
+        List<EventLog> batch = new ArrayList<>(batchSize);
+        while (running || !buffer.isEmpty()) {
+            if (buffer.drainTo(batch, batchSize) == 0) {
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+                continue;
+            }
+            try {
+                write(batch);
+            } finally {
+                synchronized (progress) {
+                    written += batch.size();
+                    progress.notifyAll();
+                }
+                batch.clear();
+            }
+        }
+    }
+    
+    private void write(List<EventLog> batch) {
+        for (int attempt = 1; attempt <= MAX_ATTEMPTS; attempt++) {
+            long startNanos = System.nanoTime();
+            try {
+                transactionTemplate.executeWithoutResult(status -> batchInserter.insertAll(batch));
+                batchWriteLatency.recordNanos(System.nanoTime() - startNanos);
+                batches.incrementAndGet();
+                batch.forEach(rollupAggregator::record);
+                return;
+            } catch (Exception e) {
+                log.warn("⚠️ EventLog 배치 저장 실패 ({}/{}): size={}", attempt, MAX_ATTEMPTS, batch.size(), e);
+            }
+        }
+        failed.addAndGet(batch.size());
+        log.error("❌ EventLog 배치 저장 포기: size={}", batch.size());
+    }
+    
+    private void writeNow(EventLog eventLog) {
+        try {
+            eventLogRepository.save(eventLog);
+            rollupAggregator.recordAfterCommit(eventLog);
+        } catch (Exception e) {
+            failed.incrementAndGet();
+            log.error("Failed to save event log: {}", eventLog.getEventType(), e);
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.payflow.logging.application;
+
+import com.example.payflow.common.metrics.LatencyHistogram;
+import com.example.payflow.logging.application.dto.EventLogCollectorStats;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Kafka 이벤트 로그 수집기 메트릭
+ * - 처리 건수/실패 건수, 배치 처리 시간, 최근 1분 평균 초당 처리 건수
+ * - 파티션별 consumer lag (poll 마다 consumer 가 가진 값으로 갱신)
+ */
+@Component
+public class EventLogCollectorMetrics {
+
+    private static final int WINDOW_SECONDS = 60;
+
+    private final AtomicLong recordsConsumed = new AtomicLong();
+    private final AtomicLong failedRecords = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+    private final LatencyHistogram batchLatency = new LatencyHistogram();
+    private volatile Map<String, Long> lagByPartition = Map.of();
+    private volatile int lastBatchSize;
+
+    // 초 단위 처리 건수 (window 로 보호)
+    private final long[] windowCounts = new long[WINDOW_SECONDS];
+    private final long[] windowSeconds = new long[WINDOW_SECONDS];
+    private final Object window = new Object();
+
+    public void recordBatch(int size, int failed, long elapsedNanos) {
+        recordsConsumed.addAndGet(size);
+        failedRecords.addAndGet(failed);
+        batches.incrementAndGet();
+        batchLatency.recordNanos(elapsedNanos);
+        lastBatchSize = size;
+
+        long second = System.currentTimeMillis() / 1000;
+        int slot = (int) (second % WINDOW_SECONDS);
+        synchronized (window) {
+            if (windowSeconds[slot] != second) {
+                windowSeconds[slot] = second;
+                windowCounts[slot] = 0;
+            }
+            windowCounts[slot] += size;
+        }
+    }
+
+    /**
+     * 현재 할당된 파티션 기준으로 교체 (리밸런스로 빠진 파티션은 제외)
+     */
+    public void updateLag(Map<String, Long> lag) {
+        lagByPartition = Map.copyOf(lag);
+    }
+
+    public EventLogCollectorStats getStats() {
+        Map<String, Long> lag = new TreeMap<>(lagByPartition);
+        return EventLogCollectorStats.builder()
+            .recordsConsumed(recordsConsumed.get())
+            .failedRecords(failedRecords.get())
+            .batches(batches.get())
+            .lastBatchSize(lastBatchSize)
+            .recordsPerSecond(recordsPerSecond())
+            .totalLag(lag.values().stream().mapToLong(Long::longValue).sum())
+            .lagByPartition(lag)
+            .batchLatency(batchLatency.snapshot())
+            .build();
+    }
+
+    /**
+     * 진행 중인 현재 초는 빼고 직전 60초 평균
+     */
+    private double recordsPerSecond() {
+        long now = System.currentTimeMillis() / 1000;
+        long total = 0;
+        synchronized (window) {
+            for (int i = 0; i < WINDOW_SECONDS; i++) {
+                long age = now - windowSeconds[i];
+                if (age >= 1 && age <= WINDOW_SECONDS) {
+                    total += windowCounts[i];
+                }
+            }
+        }
+        return (double) total / WINDOW_SECONDS;
+    }
+}
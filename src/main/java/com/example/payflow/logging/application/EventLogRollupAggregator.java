@@ -0,0 +1,136 @@
+package com.example.payflow.logging.application;
+
+import com.example.payflow.logging.domain.EventLog;
+import com.example.payflow.logging.domain.EventLogRollup;
+import com.example.payflow.logging.domain.RollupGranularity;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 이벤트 로그 분 단위 메모리 누적기
+ * - logEvent 커밋 시점에 (분, 서비스, 이벤트 타입) 버킷에 더하고, 주기적으로 drain 해 DB 에 병합
+ * - 키 단위 compute/remove 로 누적과 drain 이 서로 유실 없이 교차한다
+ */
+@Component
+public class EventLogRollupAggregator {
+    
+    private final Map<RollupKey, EventLogRollup> pending = new ConcurrentHashMap<>();
+    
+    /**
+     * 트랜잭션 안이면 커밋 후에 반영 (롤백된 로그가 집계에 남지 않도록)
+     */
+    public void recordAfterCommit(EventLog eventLog) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    record(eventLog);
+                }
+            });
+        } else {
+            record(eventLog);
+        }
+    }
+    
+    public void record(EventLog eventLog) {
+        LocalDateTime bucketStart = RollupGranularity.MINUTE.bucketStart(eventLog.getTimestamp());
+        RollupKey key = new RollupKey(bucketStart, eventLog.getServiceName(), eventLog.getEventType());
+        pending.compute(key, (k, rollup) -> {
+            EventLogRollup target = rollup != null
+                ? rollup
+                : EventLogRollup.open(RollupGranularity.MINUTE, k.bucketStart, k.serviceName, k.eventType);
+            target.record(eventLog.getStatus(), eventLog.getProcessingTimeMs());
+            return target;
+        });
+    }
+    
+    /**
+     * 누적분을 꺼내고 비움 (flush 용)
+     */
+    public List<EventLogRollup> drain() {
+        List<EventLogRollup> drained = new ArrayList<>(pending.size());
+        for (RollupKey key : pending.keySet()) {
+            EventLogRollup rollup = pending.remove(key);
+            if (rollup != null) {
+                drained.add(rollup);
+            }
+        }
+        return drained;
+    }
+    
+    /**
+     * flush 실패 시 꺼냈던 누적분을 되돌림
+     */
+    public void restore(List<EventLogRollup> rollups) {
+        for (EventLogRollup rollup : rollups) {
+            RollupKey key = new RollupKey(rollup.getBucketStart(), rollup.getServiceName(), rollup.getEventType());
+            pending.merge(key, rollup, (current, restored) -> {
+                current.merge(restored);
+                return current;
+            });
+        }
+    }
+    
+    /**
+     * 아직 저장되지 않은 누적분 사본 (대시보드가 최신 1 flush 주기까지 포함해 보도록)
+     */
+    public List<EventLogRollup> snapshot(LocalDateTime from) {
+        List<EventLogRollup> copies = new ArrayList<>();
+        for (Map.Entry<RollupKey, EventLogRollup> entry : pending.entrySet()) {
+            RollupKey key = entry.getKey();
+            if (key.bucketStart.isBefore(from)) {
+                continue;
+            }
+            EventLogRollup copy = EventLogRollup.open(RollupGranularity.MINUTE, key.bucketStart, key.serviceName, key.eventType);
+            pending.computeIfPresent(key, (k, rollup) -> {
+                copy.merge(rollup);
+                return rollup;
+            });
+            copies.add(copy);
+        }
+        return copies;
+    }
+    
+    public int getPendingBucketCount() {
+        return pending.size();
+    }
+    
+    private static final class RollupKey {
+        private final LocalDateTime bucketStart;
+        private final String serviceName;
+        private final String eventType;
+        
+        private RollupKey(LocalDateTime bucketStart, String serviceName, String eventType) {
+            this.bucketStart = bucketStart;
+            this.serviceName = serviceName;
+            this.eventType = eventType;
+        }
+        
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof RollupKey)) {
+                return false;
+            }
+            RollupKey other = (RollupKey) o;
+            return bucketStart.equals(other.bucketStart)
+                && serviceName.equals(other.serviceName)
+                && eventType.equals(other.eventType);
+        }
+        
+        @Override
+        public int hashCode() {
+            return Objects.hash(bucketStart, serviceName, eventType);
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.example.payflow.logging.application;
+
+import com.example.payflow.logging.domain.EventLogRepository;
+import com.example.payflow.logging.domain.EventLogRollup;
+import com.example.payflow.logging.domain.EventLogRollupRepository;
+import com.example.payflow.logging.domain.RollupGranularity;
+import com.example.payflow.logging.infrastructure.JdbcEventLogRollupRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+
+/**
+ * 이벤트 로그 사전 집계 저장소
+ * - 메모리 누적분을 주기적으로 분/시간 버킷 행에 병합 (이벤트마다 UPDATE 하지 않음)
+ * - 병합은 "컬럼 = 컬럼 + ?" 증감 upsert 라 여러 인스턴스가 같은 버킷을 동시에 flush 해도 유실되지 않는다
+ * - 조회 구간은 시작 시각이 걸친 첫 시간만 분 버킷, 나머지는 시간 버킷으로 읽어 행 수가 구간 길이에만 비례
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EventLogRollupService {
+    
+    private static final DateTimeFormatter HOUR_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:00:00");
+    
+    private final EventLogRollupRepository rollupRepository;
+    private final JdbcEventLogRollupRepository rollupWriter;
+    private final EventLogRepository eventLogRepository;
+    private final EventLogRollupAggregator aggregator;
+    private final PlatformTransactionManager transactionManager;
+    
+    @Value("${logging.rollup.minute-retention-hours:48}")
+    private int minuteRetentionHours;
+    
+    @Value("${logging.rollup.hour-retention-days:90}")
+    private int hourRetentionDays;
+    
+    @Value("${logging.rollup.backfill-hours:24}")
+    private int backfillHours;
+    
+    private TransactionTemplate transactionTemplate;
+    
+    @PostConstruct
+    public void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+    
+    /**
+     * 메모리 누적분을 분/시간 버킷에 병합. 실패하면 누적분을 되돌려 다음 주기에 재시도
+     */
+    @Scheduled(fixedDelayString = "${logging.rollup.flush-interval-ms:5000}")
+    public void flush() {
+        List<EventLogRollup> deltas = aggregator.drain();
+        if (deltas.isEmpty()) {
+            return;
+        }
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            transactionTemplate.executeWithoutResult(status -> {
+                mergeInto(RollupGranularity.MINUTE, deltas, now);
+                mergeInto(RollupGranularity.HOUR, deltas, now);
+            });
+            log.debug("Event log rollup flushed: {} minute buckets", deltas.size());
+        } catch (Exception e) {
+            aggregator.restore(deltas);
+            log.error("Failed to flush event log rollups: {} buckets", deltas.size(), e);
+        }
+    }
+    
+    /**
+     * 구간 [from, to) 의 버킷 (미저장 누적분 포함)
+     */
+    @Transactional(readOnly = true)
+    public List<EventLogRollup> loadWindow(LocalDateTime from, LocalDateTime to) {
+        LocalDateTime minuteFrom = RollupGranularity.MINUTE.bucketStart(from);
+        LocalDateTime hourFrom = RollupGranularity.HOUR.bucketStart(from);
+        if (hourFrom.isBefore(from)) {
+            hourFrom = hourFrom.plusHours(1);
+        }
+        
+        List<EventLogRollup> rollups = new ArrayList<>();
+        if (minuteFrom.isBefore(hourFrom)) {
+            rollups.addAll(rollupRepository.findByGranularityAndBucketStartGreaterThanEqualAndBucketStartLessThan(
+                RollupGranularity.MINUTE, minuteFrom, hourFrom));
+        }
+        rollups.addAll(rollupRepository.findByGranularityAndBucketStartGreaterThanEqualAndBucketStartLessThan(
+            RollupGranularity.HOUR, hourFrom, to));
+        rollups.addAll(aggregator.snapshot(minuteFrom));
+        return rollups;
+    }
+    
+    /**
+     * 보관 기간이 지난 버킷 정리 (매시 10분)
+     */
+    @Scheduled(cron = "0 10 * * * *")
+    @Transactional
+    public void cleanupExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        int minutes = rollupRepository.deleteExpired(RollupGranularity.MINUTE, now.minusHours(minuteRetentionHours));
+        int hours = rollupRepository.deleteExpired(RollupGranularity.HOUR, now.minusDays(hourRetentionDays));
+        log.info("Expired event log rollups deleted: minute={}, hour={}", minutes, hours);
+    }
+    
+    /**
+     * 집계 테이블이 비어 있으면 최근 구간을 원본 로그에서 시간 버킷으로 한 번 채움
+     * (버킷 분포는 복원할 수 없어 백필 구간의 백분위수는 제외)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        try {
+            if (backfillHours <= 0 || rollupRepository.count() > 0) {
+                return;
+            }
+            LocalDateTime from = RollupGranularity.HOUR.bucketStart(LocalDateTime.now().minusHours(backfillHours));
+            List<Object[]> rows = eventLogRepository.aggregateByHourServiceAndType(from);
+            List<EventLogRollup> rollups = new ArrayList<>(rows.size());
+            for (Object[] row : rows) {
+                EventLogRollup rollup = EventLogRollup.open(RollupGranularity.HOUR,
+                    LocalDateTime.parse((String) row[0], HOUR_FORMAT), (String) row[1], (String) row[2]);
+                rollup.mergeTotals(toLong(row[3]), toLong(row[4]), toLong(row[5]),
+                    toLong(row[6]), toLong(row[7]), toLong(row[8]));
+                rollups.add(rollup);
+            }
+            transactionTemplate.executeWithoutResult(status -> rollupRepository.saveAll(rollups));
+            log.info("Event log rollups backfilled: {} hour buckets since {}", rollups.size(), from);
+        } catch (Exception e) {
+            log.error("Failed to backfill event log rollups", e);
+        }
+    }
+    
+    private void mergeInto(RollupGranularity granularity, List<EventLogRollup> deltas, LocalDateTime now) {
+        // 같은 버킷으로 모이는 분 단위 누적분을 먼저 합친다
+        Map<String, EventLogRollup> merged = new LinkedHashMap<>();
+        for (EventLogRollup delta : deltas) {
+            LocalDateTime bucketStart = granularity.bucketStart(delta.getBucketStart());
+            merged.computeIfAbsent(key(bucketStart, delta.getServiceName(), delta.getEventType()),
+                k -> EventLogRollup.open(granularity, bucketStart, delta.getServiceName(), delta.getEventType()))
+                .merge(delta);
+        }
+        rollupWriter.upsertIncrements(granularity, merged.values(), now);
+    }
+    
+    private static String key(LocalDateTime bucketStart, String serviceName, String eventType) {
+        return bucketStart + "|" + serviceName + "|" + eventType;
+    }
+    
+    private static long toLong(Object value) {
+        return value == null ? 0 : ((Number) value).longValue();
+    }
+}
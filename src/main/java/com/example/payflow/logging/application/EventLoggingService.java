@@ -5,14 +5,16 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 
 /**
  * 이벤트 로깅 서비스
  * 모든 비즈니스 이벤트를 중앙 집중식으로 수집하고 저장
+ * 기본은 AsyncEventLogWriter 로 넘겨 비동기 일괄 저장 (logging.async.enabled=false 면 호출 트랜잭션 안에서 저장)
  */
 @Service
 @RequiredArgsConstructor
@@ -21,36 +23,50 @@ public class EventLoggingService {
     
     private final EventLogRepository eventLogRepository;
     private final ObjectMapper objectMapper;
+    private final EventLogRollupAggregator rollupAggregator;
+    private final AsyncEventLogWriter asyncWriter;
     
     /**
      * 이벤트 로그 생성
+     * 비동기 모드에서는 저장 전 엔티티를 반환한다 (id 없음)
      */
-    @Transactional
     public EventLog logEvent(EventLogRequest request) {
-        EventLog eventLog = EventLog.builder()
-            .correlationId(request.getCorrelationId() != null ? 
-                request.getCorrelationId() : UUID.randomUUID().toString())
-            .eventType(request.getEventType())
-            .serviceName(request.getServiceName())
-            .payload(serializePayload(request.getPayload()))
-            .timestamp(LocalDateTime.now())
-            .userId(request.getUserId())
-            .status(request.getStatus() != null ? request.getStatus() : EventStatus.SUCCESS)
-            .errorMessage(request.getErrorMessage())
-            .processingTimeMs(request.getProcessingTimeMs())
-            .build();
+        EventLog eventLog = toEventLog(request);
+        
+        if (asyncWriter.isAsync()) {
+            asyncWriter.submit(eventLog);
+            log.debug("Event queued: {} - {} [{}]", 
+                eventLog.getEventType(), eventLog.getCorrelationId(), eventLog.getStatus());
+            return eventLog;
+        }
         
         EventLog saved = eventLogRepository.save(eventLog);
+        rollupAggregator.recordAfterCommit(saved);
         log.info("Event logged: {} - {} [{}]", 
             saved.getEventType(), saved.getCorrelationId(), saved.getStatus());
         
         return saved;
     }
     
+    /**
+     * 이벤트 로그 일괄 생성 (Kafka 배치 수집용)
+     * 호출자가 반환 후 오프셋을 커밋하므로 비동기 모드여도 버퍼에 넣지 않고 JDBC batch 로 바로 저장
+     * 저장에 실패하면 예외를 던져 오프셋이 커밋되지 않게 한다
+     */
+    public int logEvents(List<EventLogRequest> requests) {
+        List<EventLog> eventLogs = new ArrayList<>(requests.size());
+        for (EventLogRequest request : requests) {
+            eventLogs.add(toEventLog(request));
+        }
+        
+        asyncWriter.writeSync(eventLogs);
+        log.debug("Event batch logged: {} events", eventLogs.size());
+        return eventLogs.size();
+    }
+    
     /**
      * 이벤트 로그 생성 (간편 버전)
      */
-    @Transactional
     public EventLog logEvent(String correlationId, String eventType, 
                             String serviceName, Object payload) {
         return logEvent(EventLogRequest.builder()
@@ -65,7 +81,6 @@ public class EventLoggingService {
     /**
      * 실패 이벤트 로그
      */
-    @Transactional
     public EventLog logFailedEvent(String correlationId, String eventType, 
                                    String serviceName, String errorMessage) {
         return logEvent(EventLogRequest.builder()
@@ -77,6 +92,21 @@ public class EventLoggingService {
             .build());
     }
     
+    private EventLog toEventLog(EventLogRequest request) {
+        return EventLog.builder()
+            .correlationId(request.getCorrelationId() != null ? 
+                request.getCorrelationId() : UUID.randomUUID().toString())
+            .eventType(request.getEventType())
+            .serviceName(request.getServiceName())
+            .payload(serializePayload(request.getPayload()))
+            .timestamp(LocalDateTime.now())
+            .userId(request.getUserId())
+            .status(request.getStatus() != null ? request.getStatus() : EventStatus.SUCCESS)
+            .errorMessage(request.getErrorMessage())
+            .processingTimeMs(request.getProcessingTimeMs())
+            .build();
+    }
+    
     private String serializePayload(Object payload) {
         if (payload == null) {
             return null;
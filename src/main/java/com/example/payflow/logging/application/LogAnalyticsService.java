@@ -2,14 +2,17 @@ package com.example.payflow.logging.application;
 
 import com.example.payflow.logging.application.dto.*;
 import com.example.payflow.logging.domain.EventLogRepository;
-import com.example.payflow.logging.domain.EventStatus;
+import com.example.payflow.logging.domain.EventLogRollup;
+import com.example.payflow.logging.domain.RollupGranularity;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.List;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
 import java.util.stream.Collectors;
 
 /**
@@ -21,54 +24,70 @@ import java.util.stream.Collectors;
 @Slf4j
 public class LogAnalyticsService {
     
+    private static final DateTimeFormatter HOUR_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:00:00");
+    
     private final EventLogRepository eventLogRepository;
+    private final EventLogRollupService rollupService;
     
     /**
      * 대시보드 메트릭 조회
+     * 사전 집계 버킷만 읽으므로 event_logs 크기와 무관하게 구간 길이에 비례하는 비용
      */
     @Transactional(readOnly = true)
     public DashboardMetrics getDashboardMetrics(int hours) {
-        LocalDateTime startTime = LocalDateTime.now().minusHours(hours);
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime startTime = now.minusHours(hours);
+        List<EventLogRollup> rollups = rollupService.loadWindow(startTime, now);
+        
+        Map<LocalDateTime, Long> hourly = new TreeMap<>(Comparator.reverseOrder());
+        Map<String, Long> byType = new HashMap<>();
+        Map<String, EventLogRollup> byService = new TreeMap<>();
+        long totalEvents = 0;
+        long failedEvents = 0;
+        for (EventLogRollup rollup : rollups) {
+            hourly.merge(RollupGranularity.HOUR.bucketStart(rollup.getBucketStart()), rollup.getEventCount(), Long::sum);
+            byType.merge(rollup.getEventType(), rollup.getEventCount(), Long::sum);
+            byService.computeIfAbsent(rollup.getServiceName(),
+                service -> EventLogRollup.open(RollupGranularity.HOUR, startTime, service, "*"))
+                .merge(rollup);
+            totalEvents += rollup.getEventCount();
+            failedEvents += rollup.getFailureCount();
+        }
         
         // 시간대별 이벤트 건수
-        List<Object[]> hourlyData = eventLogRepository.countEventsByHour(startTime);
-        List<TimeSeriesData> hourlyCounts = hourlyData.stream()
-            .map(row -> new TimeSeriesData((String) row[0], ((Number) row[1]).longValue()))
+        List<TimeSeriesData> hourlyCounts = hourly.entrySet().stream()
+            .map(entry -> new TimeSeriesData(entry.getKey().format(HOUR_FORMAT), entry.getValue()))
             .collect(Collectors.toList());
         
         // 이벤트 타입별 건수
-        List<Object[]> typeData = eventLogRepository.countEventsByType(startTime);
-        List<EventTypeCount> typeCounts = typeData.stream()
-            .map(row -> new EventTypeCount((String) row[0], ((Number) row[1]).longValue()))
+        List<EventTypeCount> typeCounts = byType.entrySet().stream()
+            .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+            .map(entry -> new EventTypeCount(entry.getKey(), entry.getValue()))
             .collect(Collectors.toList());
         
         // 서비스별 성공률
-        List<Object[]> successRateData = eventLogRepository.calculateSuccessRateByService(startTime);
-        List<ServiceSuccessRate> successRates = successRateData.stream()
-            .map(row -> new ServiceSuccessRate((String) row[0], ((Number) row[1]).doubleValue()))
+        List<ServiceSuccessRate> successRates = byService.values().stream()
+            .filter(rollup -> rollup.getEventCount() > 0)
+            .map(rollup -> new ServiceSuccessRate(rollup.getServiceName(),
+                rollup.getSuccessCount() * 100.0 / rollup.getEventCount()))
             .collect(Collectors.toList());
         
         // 평균 처리 시간
-        List<Object[]> processingTimeData = eventLogRepository.calculateAvgProcessingTime(startTime);
-        List<ServiceProcessingTime> processingTimes = processingTimeData.stream()
-            .map(row -> new ServiceProcessingTime((String) row[0], ((Number) row[1]).doubleValue()))
+        List<ServiceProcessingTime> processingTimes = byService.values().stream()
+            .filter(rollup -> rollup.getLatencyCount() > 0)
+            .map(rollup -> new ServiceProcessingTime(rollup.getServiceName(),
+                rollup.getAvgLatencyMs(), rollup.getLatencyPercentileMs(99)))
             .collect(Collectors.toList());
         
-        // 실패 이벤트 건수
-        long failedCount = eventLogRepository.findByStatusOrderByTimestampDesc(EventStatus.FAILED)
-            .stream()
-            .filter(e -> e.getTimestamp().isAfter(startTime))
-            .count();
-        
         return DashboardMetrics.builder()
             .timeRange(hours + " hours")
-            .totalEvents(hourlyCounts.stream().mapToLong(TimeSeriesData::getCount).sum())
-            .failedEvents(failedCount)
+            .totalEvents(totalEvents)
+            .failedEvents(failedEvents)
             .hourlyEventCounts(hourlyCounts)
             .eventTypeCounts(typeCounts)
             .serviceSuccessRates(successRates)
             .serviceProcessingTimes(processingTimes)
-            .generatedAt(LocalDateTime.now())
+            .generatedAt(now)
             .build();
     }
     
@@ -79,10 +98,9 @@ public class LogAnalyticsService {
     public List<RecentEventDto> getRecentEvents(int limit) {
         LocalDateTime startTime = LocalDateTime.now().minusHours(1);
         
-        return eventLogRepository.findByTimestampBetweenOrderByTimestampDesc(
-            startTime, LocalDateTime.now()
+        return eventLogRepository.findByTimestampAfterOrderByTimestampDesc(
+            startTime, PageRequest.of(0, limit)
         ).stream()
-            .limit(limit)
             .map(event -> RecentEventDto.builder()
                 .eventType(event.getEventType())
                 .serviceName(event.getServiceName())
@@ -1,5 +1,7 @@
 package com.example.payflow.logging.application;
 
+import com.example.payflow.common.eventstore.EventStreamAppender;
+import com.example.payflow.common.eventstore.EventStreamTable;
 import com.example.payflow.logging.domain.PaymentEventStore;
 import com.example.payflow.logging.domain.PaymentEventStoreRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -8,6 +10,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -20,14 +23,25 @@ import java.util.List;
 @Slf4j
 public class PaymentEventSourcingService {
     
+    private static final EventStreamTable<PaymentEventStore> PAYMENT_EVENT_STREAM = EventStreamTable.of(
+        "payment_event_store", "payment_id", "sequence",
+        List.of("event_type", "previous_state", "new_state", "event_data", "occurred_at", "actor", "metadata"),
+        event -> new Object[]{
+            event.getEventType(), event.getPreviousState(), event.getNewState(), event.getEventData(),
+            Timestamp.valueOf(event.getOccurredAt()), event.getActor(), event.getMetadata()
+        });
+    
     private final PaymentEventStoreRepository eventStoreRepository;
+    private final EventStreamAppender eventStreamAppender;
     private final ObjectMapper objectMapper;
     
     /**
      * 결제 상태 변경 이벤트 저장
+     *
+     * @return 할당된 sequence
      */
     @Transactional
-    public PaymentEventStore storePaymentEvent(
+    public int storePaymentEvent(
         String paymentId,
         String eventType,
         String previousState,
@@ -35,11 +49,7 @@ public class PaymentEventSourcingService {
         Object eventData,
         String actor
     ) {
-        Integer nextSequence = eventStoreRepository.getNextSequence(paymentId);
-        
         PaymentEventStore event = PaymentEventStore.builder()
-            .paymentId(paymentId)
-            .sequence(nextSequence)
             .eventType(eventType)
             .previousState(previousState)
             .newState(newState)
@@ -48,11 +58,11 @@ public class PaymentEventSourcingService {
             .actor(actor)
             .build();
         
-        PaymentEventStore saved = eventStoreRepository.save(event);
+        int sequence = eventStreamAppender.append(PAYMENT_EVENT_STREAM, paymentId, event);
         log.info("Payment event stored: {} - {} -> {} (seq: {})", 
-            paymentId, previousState, newState, nextSequence);
+            paymentId, previousState, newState, sequence);
         
-        return saved;
+        return sequence;
     }
     
     /**
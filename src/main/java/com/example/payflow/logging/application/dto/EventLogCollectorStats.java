@@ -0,0 +1,23 @@
+package com.example.payflow.logging.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EventLogCollectorStats {
+    private long recordsConsumed;
+    private long failedRecords;
+    private long batches;
+    private int lastBatchSize;
+    private double recordsPerSecond;
+    private long totalLag;
+    private Map<String, Long> lagByPartition;
+    private Map<String, Object> batchLatency;
+}
@@ -0,0 +1,25 @@
+package com.example.payflow.logging.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EventLogWriterStats {
+    private boolean async;
+    private String overflowPolicy;
+    private int capacity;
+    private int queueDepth;
+    private long enqueued;
+    private long written;
+    private long dropped;
+    private long failed;
+    private long batches;
+    private Map<String, Object> batchWriteLatency;
+}
@@ -10,4 +10,5 @@ import lombok.NoArgsConstructor;
 public class ServiceProcessingTime {
     private String serviceName;
     private Double avgProcessingTimeMs;
+    private Double p99ProcessingTimeMs;
 }
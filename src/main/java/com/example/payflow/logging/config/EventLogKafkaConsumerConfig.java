@@ -0,0 +1,80 @@
+package com.example.payflow.logging.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.ExponentialBackOffWithMaxRetries;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 이벤트 로그 수집기 Kafka Consumer 설정
+ */
+@Configuration
+@Slf4j
+public class EventLogKafkaConsumerConfig {
+    
+    private static final String DEAD_LETTER_SUFFIX = ".DLT";
+    
+    @Value("${spring.kafka.bootstrap-servers:localhost:9092}")
+    private String bootstrapServers;
+    
+    @Value("${logging.collector.max-poll-records:1000}")
+    private int maxPollRecords;
+    
+    @Value("${logging.collector.retry-backoff-ms:1000}")
+    private long retryBackoffMillis;
+    
+    @Value("${logging.collector.retry-backoff-max-ms:30000}")
+    private long retryBackoffMaxMillis;
+    
+    @Value("${logging.collector.retry-max-attempts:10}")
+    private int retryMaxAttempts;
+    
+    /**
+     * 배치 리스너용 (패턴 구독한 전체 토픽의 poll 결과를 List 로 한 번에 전달, 오프셋은 배치당 1회 커밋)
+     * 저장에 실패한 배치는 지수 백오프로 retry-max-attempts 회까지 재시도 (그동안 오프셋 커밋 없음)
+     * 그래도 실패하면 배치의 레코드를 <토픽>.DLT 로 보내고 다음 배치로 넘어간다 (DLT 전송까지 실패하면 다시 재시도)
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, String> eventLogBatchKafkaListenerContainerFactory(
+            KafkaTemplate<String, String> kafkaTemplate) {
+        Map<String, Object> config = new HashMap<>();
+        config.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        config.put(ConsumerConfig.GROUP_ID_CONFIG, "event-log-collector");
+        config.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        config.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        config.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        config.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        config.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxPollRecords);
+        
+        ConcurrentKafkaListenerContainerFactory<String, String> factory = 
+            new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(new DefaultKafkaConsumerFactory<>(config));
+        factory.setBatchListener(true);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.BATCH);
+        ExponentialBackOffWithMaxRetries backOff = new ExponentialBackOffWithMaxRetries(retryMaxAttempts);
+        backOff.setInitialInterval(retryBackoffMillis);
+        backOff.setMultiplier(2.0);
+        backOff.setMaxInterval(retryBackoffMaxMillis);
+        // DLT 파티션 수가 원본과 달라도 되도록 파티션은 지정하지 않는다 (DLT 는 수집 토픽 패턴에 걸리지 않는다)
+        DeadLetterPublishingRecoverer recoverer = new DeadLetterPublishingRecoverer(kafkaTemplate, (record, e) -> {
+            log.error("❌ 이벤트 로그 저장 재시도 소진, DLT 로 전송: topic={}, offset={}, error={}",
+                record.topic(), record.offset(), e.getMessage());
+            return new TopicPartition(record.topic() + DEAD_LETTER_SUFFIX, -1);
+        });
+        factory.setCommonErrorHandler(new DefaultErrorHandler(recoverer, backOff));
+        return factory;
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.payflow.logging.domain;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -33,47 +34,27 @@ public interface EventLogRepository extends JpaRepository<EventLog, Long> {
     );
     
     /**
-     * 실패한 이벤트 조회
-     */
-    List<EventLog> findByStatusOrderByTimestampDesc(EventStatus status);
-    
-    /**
-     * 시간대별 이벤트 건수 집계
+     * 최근 이벤트 N건 조회
      */
-    @Query("SELECT FORMATDATETIME(e.timestamp, 'yyyy-MM-dd HH:00:00') as hour, " +
-           "COUNT(e) as count " +
-           "FROM EventLog e " +
-           "WHERE e.timestamp >= :startTime " +
-           "GROUP BY FORMATDATETIME(e.timestamp, 'yyyy-MM-dd HH:00:00') " +
-           "ORDER BY hour DESC")
-    List<Object[]> countEventsByHour(@Param("startTime") LocalDateTime startTime);
+    List<EventLog> findByTimestampAfterOrderByTimestampDesc(LocalDateTime start, Pageable pageable);
     
     /**
-     * 이벤트 타입별 건수 집계
+     * 실패한 이벤트 조회
      */
-    @Query("SELECT e.eventType, COUNT(e) " +
-           "FROM EventLog e " +
-           "WHERE e.timestamp >= :startTime " +
-           "GROUP BY e.eventType " +
-           "ORDER BY COUNT(e) DESC")
-    List<Object[]> countEventsByType(@Param("startTime") LocalDateTime startTime);
+    List<EventLog> findByStatusOrderByTimestampDesc(EventStatus status);
     
     /**
-     * 서비스별 성공률 계산
+     * 시간 x 서비스 x 이벤트 타입별 집계 (사전 집계 테이블 백필용)
+     * 결과: hour, serviceName, eventType, count, successCount, failureCount,
+     *       latencyCount, latencySumMs, latencyMaxMs
      */
-    @Query("SELECT e.serviceName, " +
-           "SUM(CASE WHEN e.status = 'SUCCESS' THEN 1 ELSE 0 END) * 100.0 / COUNT(e) as successRate " +
+    @Query("SELECT FORMATDATETIME(e.timestamp, 'yyyy-MM-dd HH:00:00'), e.serviceName, e.eventType, " +
+           "COUNT(e), " +
+           "SUM(CASE WHEN e.status = 'SUCCESS' THEN 1 ELSE 0 END), " +
+           "SUM(CASE WHEN e.status = 'FAILED' THEN 1 ELSE 0 END), " +
+           "COUNT(e.processingTimeMs), COALESCE(SUM(e.processingTimeMs), 0), COALESCE(MAX(e.processingTimeMs), 0) " +
            "FROM EventLog e " +
            "WHERE e.timestamp >= :startTime " +
-           "GROUP BY e.serviceName")
-    List<Object[]> calculateSuccessRateByService(@Param("startTime") LocalDateTime startTime);
-    
-    /**
-     * 평균 처리 시간 계산
-     */
-    @Query("SELECT e.serviceName, AVG(e.processingTimeMs) " +
-           "FROM EventLog e " +
-           "WHERE e.timestamp >= :startTime AND e.processingTimeMs IS NOT NULL " +
-           "GROUP BY e.serviceName")
-    List<Object[]> calculateAvgProcessingTime(@Param("startTime") LocalDateTime startTime);
+           "GROUP BY FORMATDATETIME(e.timestamp, 'yyyy-MM-dd HH:00:00'), e.serviceName, e.eventType")
+    List<Object[]> aggregateByHourServiceAndType(@Param("startTime") LocalDateTime startTime);
 }
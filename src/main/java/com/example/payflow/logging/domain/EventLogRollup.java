@@ -0,0 +1,179 @@
+package com.example.payflow.logging.domain;
+
+import com.example.payflow.common.metrics.LatencyHistogram;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+/**
+ * 이벤트 로그 사전 집계 (분/시간 버킷 x 서비스 x 이벤트 타입)
+ * - 대시보드는 event_logs 대신 이 테이블을 읽으므로 조회 비용이 원본 로그 건수와 무관하다
+ * - 처리 시간은 LatencyHistogram 과 같은 경계의 버킷 건수로 보관해 병합 후에도 백분위수 근사가 가능
+ */
+@Entity
+@Table(name = "event_log_rollups",
+    uniqueConstraints = @UniqueConstraint(name = "uk_rollup_bucket",
+        columnNames = {"granularity", "bucketStart", "serviceName", "eventType"}),
+    indexes = @Index(name = "idx_rollup_granularity_bucket", columnList = "granularity, bucketStart"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class EventLogRollup {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private RollupGranularity granularity;
+    
+    @Column(nullable = false)
+    private LocalDateTime bucketStart;
+    
+    @Column(nullable = false)
+    private String serviceName;
+    
+    @Column(nullable = false)
+    private String eventType;
+    
+    private long eventCount;
+    
+    private long successCount;
+    
+    private long failureCount;
+    
+    /**
+     * 처리 시간이 기록된 이벤트 수 / 합계 / 최대 (밀리초)
+     */
+    private long latencyCount;
+    
+    private long latencySumMs;
+    
+    private long latencyMaxMs;
+    
+    /**
+     * 처리 시간 버킷별 건수 (쉼표 구분)
+     */
+    @Column(nullable = false, length = 512)
+    private String latencyBuckets;
+    
+    private LocalDateTime updatedAt;
+    
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private long[] latencyBucketCounts;
+    
+    public static EventLogRollup open(RollupGranularity granularity, LocalDateTime time,
+                                      String serviceName, String eventType) {
+        EventLogRollup rollup = new EventLogRollup();
+        rollup.granularity = granularity;
+        rollup.bucketStart = granularity.bucketStart(time);
+        rollup.serviceName = serviceName;
+        rollup.eventType = eventType;
+        rollup.latencyBucketCounts = new long[LatencyHistogram.bucketCount()];
+        rollup.latencyBuckets = format(rollup.latencyBucketCounts);
+        return rollup;
+    }
+    
+    /**
+     * 이벤트 한 건 반영 (메모리 누적용, 저장 전에는 merge 로 옮긴다)
+     */
+    public void record(EventStatus status, Long processingTimeMs) {
+        eventCount++;
+        if (status == null || status == EventStatus.SUCCESS) {
+            successCount++;
+        } else if (status == EventStatus.FAILED) {
+            failureCount++;
+        }
+        if (processingTimeMs != null) {
+            long millis = Math.max(0, processingTimeMs);
+            latencyCount++;
+            latencySumMs += millis;
+            latencyMaxMs = Math.max(latencyMaxMs, millis);
+            bucketCounts()[LatencyHistogram.bucketIndex(millis * 1_000)]++;
+        }
+    }
+    
+    /**
+     * 다른 집계(같은 버킷 또는 하위 단위 버킷)를 합산
+     */
+    public void merge(EventLogRollup other) {
+        eventCount += other.eventCount;
+        successCount += other.successCount;
+        failureCount += other.failureCount;
+        latencyCount += other.latencyCount;
+        latencySumMs += other.latencySumMs;
+        latencyMaxMs = Math.max(latencyMaxMs, other.latencyMaxMs);
+        long[] counts = bucketCounts();
+        long[] otherCounts = other.bucketCounts();
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += otherCounts[i];
+        }
+        latencyBuckets = format(counts);
+        updatedAt = LocalDateTime.now();
+    }
+    
+    /**
+     * 원본 로그를 GROUP BY 로 모은 값으로 채움 (백필용, 버킷 분포 없음)
+     */
+    public void mergeTotals(long events, long successes, long failures,
+                            long latencyEvents, long latencySum, long latencyMax) {
+        eventCount += events;
+        successCount += successes;
+        failureCount += failures;
+        latencyCount += latencyEvents;
+        latencySumMs += latencySum;
+        latencyMaxMs = Math.max(latencyMaxMs, latencyMax);
+        updatedAt = LocalDateTime.now();
+    }
+    
+    public double getAvgLatencyMs() {
+        return latencyCount == 0 ? 0 : latencySumMs / (double) latencyCount;
+    }
+    
+    /**
+     * 처리 시간 백분위수 근사값 (ms)
+     */
+    public double getLatencyPercentileMs(double percentile) {
+        return LatencyHistogram.percentileMillis(bucketCounts(), percentile, latencyMaxMs);
+    }
+    
+    public long[] bucketCounts() {
+        if (latencyBucketCounts == null) {
+            latencyBucketCounts = parse(latencyBuckets);
+        }
+        return latencyBucketCounts;
+    }
+    
+    /**
+     * 저장된 처리 시간 분포에 건수를 더한 값 (DB 행에 누적분을 반영할 때)
+     */
+    public static String addLatencyBuckets(String latencyBuckets, long[] counts) {
+        long[] merged = parse(latencyBuckets);
+        for (int i = 0; i < merged.length && i < counts.length; i++) {
+            merged[i] += counts[i];
+        }
+        return format(merged);
+    }
+    
+    private static long[] parse(String value) {
+        long[] counts = new long[LatencyHistogram.bucketCount()];
+        if (value == null || value.isEmpty()) {
+            return counts;
+        }
+        String[] parts = value.split(",");
+        for (int i = 0; i < parts.length && i < counts.length; i++) {
+            counts[i] = Long.parseLong(parts[i]);
+        }
+        return counts;
+    }
+    
+    private static String format(long[] counts) {
+        return Arrays.stream(counts).mapToObj(String::valueOf).collect(Collectors.joining(","));
+    }
+}
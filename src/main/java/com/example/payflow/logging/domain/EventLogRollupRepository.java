@@ -0,0 +1,28 @@
+package com.example.payflow.logging.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface EventLogRollupRepository extends JpaRepository<EventLogRollup, Long> {
+    
+    /**
+     * 구간 내 버킷 조회 (from 이상, to 미만)
+     */
+    List<EventLogRollup> findByGranularityAndBucketStartGreaterThanEqualAndBucketStartLessThan(
+        RollupGranularity granularity,
+        LocalDateTime from,
+        LocalDateTime to
+    );
+    
+    /**
+     * 보관 기간이 지난 버킷 삭제
+     */
+    @Modifying
+    @Query("DELETE FROM EventLogRollup r WHERE r.granularity = :granularity AND r.bucketStart < :cutoff")
+    int deleteExpired(@Param("granularity") RollupGranularity granularity, @Param("cutoff") LocalDateTime cutoff);
+}
@@ -14,8 +14,9 @@ import java.time.LocalDateTime;
  */
 @Entity
 @Table(name = "payment_event_store", indexes = {
-    @Index(name = "idx_payment_id", columnList = "paymentId"),
-    @Index(name = "idx_sequence", columnList = "paymentId, sequence")
+    @Index(name = "idx_payment_id", columnList = "paymentId")
+}, uniqueConstraints = {
+    @UniqueConstraint(name = "uk_payment_event_sequence", columnNames = {"paymentId", "sequence"})
 })
 @Getter
 @NoArgsConstructor
@@ -1,7 +1,6 @@
 package com.example.payflow.logging.domain;
 
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Query;
 
 import java.util.List;
 
@@ -17,12 +16,6 @@ public interface PaymentEventStoreRepository extends JpaRepository<PaymentEventS
      */
     PaymentEventStore findFirstByPaymentIdOrderBySequenceDesc(String paymentId);
     
-    /**
-     * 결제 ID의 다음 시퀀스 번호 조회
-     */
-    @Query("SELECT COALESCE(MAX(p.sequence), 0) + 1 FROM PaymentEventStore p WHERE p.paymentId = :paymentId")
-    Integer getNextSequence(String paymentId);
-    
     /**
      * 특정 상태로 전이된 결제 목록
      */
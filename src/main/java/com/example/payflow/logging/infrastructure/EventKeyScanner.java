@@ -0,0 +1,108 @@
+package com.example.payflow.logging.infrastructure;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * 이벤트 JSON 에서 correlationId / userId 만 뽑는 스트리밍 스캐너 (JsonNode 트리를 만들지 않음)
+ * - 최상위 필드만 보고, 중첩 객체/배열은 건너뛴다
+ * - 후보 키 우선순위는 기존 트리 방식과 같다
+ *   correlationId > orderId > paymentId > transactionId, userId > username > buyerId > sellerId
+ * - 두 값 모두 1순위 키를 찾으면 나머지는 읽지 않는다
+ */
+@Component
+public class EventKeyScanner {
+
+    private static final int NOT_FOUND = Integer.MAX_VALUE;
+
+    private final JsonFactory jsonFactory;
+
+    public EventKeyScanner(ObjectMapper objectMapper) {
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    /**
+     * @throws IOException JSON 형식이 아닐 때
+     */
+    public EventKeys scan(String json) throws IOException {
+        try (JsonParser parser = jsonFactory.createParser(json)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return new EventKeys(null, null);
+            }
+
+            String correlationId = null;
+            String userId = null;
+            int correlationRank = NOT_FOUND;
+            int userRank = NOT_FOUND;
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                JsonToken value = parser.nextToken();
+                int candidateCorrelationRank = correlationRank(name);
+                int candidateUserRank = userRank(name);
+
+                if (candidateCorrelationRank < correlationRank || candidateUserRank < userRank) {
+                    String text = textOf(parser, value);
+                    if (candidateCorrelationRank < correlationRank) {
+                        correlationId = text;
+                        correlationRank = candidateCorrelationRank;
+                    } else {
+                        userId = text;
+                        userRank = candidateUserRank;
+                    }
+                    if (correlationRank == 0 && userRank == 0) {
+                        break;
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            return new EventKeys(correlationId, userId);
+        }
+    }
+
+    /**
+     * JsonNode.asText 와 같은 값 (null 은 "null", 객체/배열은 빈 문자열)
+     */
+    private static String textOf(JsonParser parser, JsonToken value) throws IOException {
+        if (value.isStructStart()) {
+            parser.skipChildren();
+            return "";
+        }
+        return value == JsonToken.VALUE_NULL ? "null" : parser.getText();
+    }
+
+    private static int correlationRank(String name) {
+        return switch (name) {
+            case "correlationId" -> 0;
+            case "orderId" -> 1;
+            case "paymentId" -> 2;
+            case "transactionId" -> 3;
+            default -> NOT_FOUND;
+        };
+    }
+
+    private static int userRank(String name) {
+        return switch (name) {
+            case "userId" -> 0;
+            case "username" -> 1;
+            case "buyerId" -> 2;
+            case "sellerId" -> 3;
+            default -> NOT_FOUND;
+        };
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class EventKeys {
+        private final String correlationId;
+        private final String userId;
+    }
+}
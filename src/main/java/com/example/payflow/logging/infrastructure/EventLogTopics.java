@@ -0,0 +1,52 @@
+package com.example.payflow.logging.infrastructure;
+
+import java.util.Map;
+
+/**
+ * 이벤트 로그 수집 대상 토픽 목록 (토픽 = 이벤트 타입)
+ * - 배치 수집기는 TOPIC_PATTERN 하나로 전체를 구독하고, 서비스명은 토픽으로 찾는다
+ */
+public final class EventLogTopics {
+
+    public static final String TOPIC_PATTERN = "OrderCreated"
+        + "|Payment(Approved|Failed|Due)|StageStarted|Settlement(Completed|Failed)|PayoutReady"
+        + "|Escrow(Created|Completed|Cancelled)|DepositConfirmed|Vehicle(Delivered|Verified)|VerificationFailed"
+        + "|OwnershipTransferred|Dispute(Raised|Resolved)";
+
+    private static final String UNKNOWN_SERVICE = "unknown";
+
+    private static final Map<String, String> SERVICE_BY_TOPIC = Map.ofEntries(
+        Map.entry("OrderCreated", "order"),
+        Map.entry("PaymentApproved", "payment"),
+        Map.entry("PaymentFailed", "payment"),
+        Map.entry("StageStarted", "stage"),
+        Map.entry("SettlementCompleted", "stage"),
+        Map.entry("PaymentDue", "stage"),
+        Map.entry("PayoutReady", "stage"),
+        Map.entry("EscrowCreated", "escrow"),
+        Map.entry("DepositConfirmed", "escrow"),
+        Map.entry("VehicleDelivered", "escrow"),
+        Map.entry("VehicleVerified", "escrow"),
+        Map.entry("VerificationFailed", "escrow"),
+        Map.entry("OwnershipTransferred", "escrow"),
+        Map.entry("EscrowCompleted", "escrow"),
+        Map.entry("EscrowCancelled", "escrow"),
+        Map.entry("SettlementFailed", "escrow"),
+        Map.entry("DisputeRaised", "escrow"),
+        Map.entry("DisputeResolved", "escrow")
+    );
+
+    private EventLogTopics() {
+    }
+
+    /**
+     * 목록에 없는 토픽(패턴을 넓힌 경우)은 unknown
+     */
+    public static String serviceOf(String topic) {
+        return SERVICE_BY_TOPIC.getOrDefault(topic, UNKNOWN_SERVICE);
+    }
+
+    public static Iterable<String> topics() {
+        return SERVICE_BY_TOPIC.keySet();
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.payflow.logging.infrastructure;
+
+import com.example.payflow.logging.domain.EventLog;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.List;
+
+/**
+ * event_logs 일괄 insert (IDENTITY 키라 JPA saveAll 은 건별 insert 가 되므로 JDBC batch 사용)
+ */
+@Repository
+@RequiredArgsConstructor
+public class JdbcEventLogBatchInserter {
+    
+    private static final String INSERT_EVENT_LOG =
+        "INSERT INTO event_logs (correlation_id, event_type, service_name, payload, timestamp, "
+            + "user_id, status, error_message, processing_time_ms) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    
+    private final JdbcTemplate jdbcTemplate;
+    
+    public void insertAll(List<EventLog> eventLogs) {
+        if (eventLogs.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_EVENT_LOG, eventLogs, eventLogs.size(), (ps, eventLog) -> {
+            ps.setString(1, eventLog.getCorrelationId());
+            ps.setString(2, eventLog.getEventType());
+            ps.setString(3, eventLog.getServiceName());
+            ps.setString(4, eventLog.getPayload());
+            ps.setTimestamp(5, Timestamp.valueOf(eventLog.getTimestamp()));
+            ps.setString(6, eventLog.getUserId());
+            ps.setString(7, eventLog.getStatus() != null ? eventLog.getStatus().name() : null);
+            ps.setString(8, eventLog.getErrorMessage());
+            if (eventLog.getProcessingTimeMs() != null) {
+                ps.setLong(9, eventLog.getProcessingTimeMs());
+            } else {
+                ps.setNull(9, Types.BIGINT);
+            }
+        });
+    }
+}
@@ -0,0 +1,170 @@
+package com.example.payflow.logging.infrastructure;
+
+import com.example.payflow.logging.domain.EventLogRollup;
+import com.example.payflow.logging.domain.RollupGranularity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * event_log_rollups 증감 반영 JDBC 구현
+ * - 건수/합계는 "컬럼 = 컬럼 + ?" update 라 여러 인스턴스가 같은 버킷을 동시에 flush 해도 유실되지 않는다
+ * - 처리 시간 버킷 분포(문자열)는 위 update 로 잡은 행 잠금 안에서 읽어 더한 뒤 다시 쓴다
+ * - 행이 없으면 insert, 다른 트랜잭션이 먼저 만들었으면(유니크 충돌) 그 행에 다시 증감 반영
+ * - 같은 트랜잭션 안에서 호출해야 행 잠금이 분포 갱신까지 유지된다
+ */
+@Repository
+@RequiredArgsConstructor
+public class JdbcEventLogRollupRepository {
+
+    private static final String INCREMENT =
+        "UPDATE event_log_rollups SET event_count = event_count + ?, success_count = success_count + ?, "
+            + "failure_count = failure_count + ?, latency_count = latency_count + ?, "
+            + "latency_sum_ms = latency_sum_ms + ?, latency_max_ms = GREATEST(latency_max_ms, ?), updated_at = ? "
+            + "WHERE granularity = ? AND bucket_start = ? AND service_name = ? AND event_type = ?";
+    private static final String INSERT =
+        "INSERT INTO event_log_rollups (event_count, success_count, failure_count, latency_count, latency_sum_ms, "
+            + "latency_max_ms, updated_at, granularity, bucket_start, service_name, event_type, latency_buckets) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String SELECT_BUCKETS =
+        "SELECT id, bucket_start, service_name, event_type, latency_buckets FROM event_log_rollups "
+            + "WHERE granularity = ? AND bucket_start IN (";
+    private static final String UPDATE_BUCKETS = "UPDATE event_log_rollups SET latency_buckets = ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 같은 단위(granularity)의 버킷별 누적분을 행에 더함 (키가 겹치지 않게 미리 합쳐 전달)
+     */
+    public void upsertIncrements(RollupGranularity granularity, Collection<EventLogRollup> deltas,
+                                 LocalDateTime updatedAt) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        List<EventLogRollup> rows = new ArrayList<>(deltas);
+        int[][] counts = jdbcTemplate.batchUpdate(INCREMENT, rows, rows.size(), (ps, delta) -> {
+            bindMeasures(ps, delta, updatedAt);
+            bindKey(ps, 8, delta);
+        });
+
+        List<EventLogRollup> incremented = new ArrayList<>(rows.size());
+        int index = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                EventLogRollup delta = rows.get(index++);
+                if (count != 0 || !insertOrIncrement(delta, updatedAt)) {
+                    incremented.add(delta);
+                }
+            }
+        }
+        mergeLatencyBuckets(granularity, incremented);
+    }
+
+    /**
+     * @return 새 행을 만들었으면 true, 다른 트랜잭션이 만든 행에 증감 반영했으면 false
+     */
+    private boolean insertOrIncrement(EventLogRollup delta, LocalDateTime updatedAt) {
+        try {
+            insertWithSavepoint(delta, updatedAt);
+            return true;
+        } catch (DuplicateKeyException e) {
+            // 다른 트랜잭션이 같은 버킷 행을 먼저 만들었다 - 그 행에 증감 반영
+        }
+        int updated = jdbcTemplate.update(INCREMENT, ps -> {
+            bindMeasures(ps, delta, updatedAt);
+            bindKey(ps, 8, delta);
+        });
+        if (updated == 0) {
+            throw new IllegalStateException("이벤트 로그 집계 행 생성 충돌 후 반영 실패: " + key(delta.getBucketStart(),
+                delta.getServiceName(), delta.getEventType()));
+        }
+        return false;
+    }
+
+    /**
+     * 증감 반영한(잠금을 잡은) 기존 행의 처리 시간 분포에 누적분을 더함
+     */
+    private void mergeLatencyBuckets(RollupGranularity granularity, List<EventLogRollup> incremented) {
+        Map<String, EventLogRollup> withLatency = new HashMap<>();
+        Set<Timestamp> bucketStarts = new HashSet<>();
+        for (EventLogRollup delta : incremented) {
+            if (delta.getLatencyCount() > 0) {
+                withLatency.put(key(delta.getBucketStart(), delta.getServiceName(), delta.getEventType()), delta);
+                bucketStarts.add(Timestamp.valueOf(delta.getBucketStart()));
+            }
+        }
+        if (withLatency.isEmpty()) {
+            return;
+        }
+
+        List<Object> args = new ArrayList<>(bucketStarts.size() + 1);
+        args.add(granularity.name());
+        args.addAll(bucketStarts);
+        List<Object[]> updates = new ArrayList<>(withLatency.size());
+        jdbcTemplate.query(SELECT_BUCKETS + String.join(", ", Collections.nCopies(bucketStarts.size(), "?")) + ")",
+            rs -> {
+                EventLogRollup delta = withLatency.get(key(rs.getTimestamp(2).toLocalDateTime(), rs.getString(3),
+                    rs.getString(4)));
+                if (delta != null) {
+                    updates.add(new Object[]{EventLogRollup.addLatencyBuckets(rs.getString(5), delta.bucketCounts()),
+                        rs.getLong(1)});
+                }
+            }, args.toArray());
+        jdbcTemplate.batchUpdate(UPDATE_BUCKETS, updates);
+    }
+
+    /**
+     * 트랜잭션 안이면 savepoint 로 insert 만 되돌려 바깥 트랜잭션을 계속 쓸 수 있게 한다
+     */
+    private void insertWithSavepoint(EventLogRollup delta, LocalDateTime updatedAt) {
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            Savepoint savepoint = connection.getAutoCommit() ? null : connection.setSavepoint();
+            try (PreparedStatement ps = connection.prepareStatement(INSERT)) {
+                bindMeasures(ps, delta, updatedAt);
+                bindKey(ps, 8, delta);
+                ps.setString(12, EventLogRollup.addLatencyBuckets(null, delta.bucketCounts()));
+                ps.executeUpdate();
+            } catch (SQLException e) {
+                if (savepoint != null) {
+                    connection.rollback(savepoint);
+                }
+                throw e;
+            }
+            if (savepoint != null) {
+                connection.releaseSavepoint(savepoint);
+            }
+            return null;
+        });
+    }
+
+    private static String key(LocalDateTime bucketStart, String serviceName, String eventType) {
+        return bucketStart + "|" + serviceName + "|" + eventType;
+    }
+
+    private static void bindMeasures(PreparedStatement ps, EventLogRollup delta, LocalDateTime updatedAt)
+            throws SQLException {
+        ps.setLong(1, delta.getEventCount());
+        ps.setLong(2, delta.getSuccessCount());
+        ps.setLong(3, delta.getFailureCount());
+        ps.setLong(4, delta.getLatencyCount());
+        ps.setLong(5, delta.getLatencySumMs());
+        ps.setLong(6, delta.getLatencyMaxMs());
+        ps.setTimestamp(7, Timestamp.valueOf(updatedAt));
+    }
+
+    private static void bindKey(PreparedStatement ps, int index, EventLogRollup delta) throws SQLException {
+        ps.setString(index, delta.getGranularity().name());
+        ps.setTimestamp(index + 1, Timestamp.valueOf(delta.getBucketStart()));
+        ps.setString(index + 2, delta.getServiceName());
+        ps.setString(index + 3, delta.getEventType());
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.payflow.logging.infrastructure;
 
+import com.example.payflow.logging.application.EventLogCollectorMetrics;
 import com.example.payflow.logging.application.EventLogRequest;
 import com.example.payflow.logging.application.EventLoggingService;
 import com.example.payflow.logging.domain.EventStatus;
@@ -7,136 +8,218 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+
 /**
  * Kafka 이벤트 로그 수집기
  * 모든 비즈니스 이벤트를 Kafka에서 수신하여 중앙 로그 저장소에 저장
+ * - 기본은 배치 모드: 토픽 패턴 하나로 전체를 구독하고 poll 분량을 한 번에 저장
+ * - 배치 저장이 끝난 뒤에 반환하므로 오프셋은 DB 에 기록된 이벤트까지만 커밋된다 (실패 시 같은 배치를 재시도, 재시도 소진 시 DLT)
+ * - logging.collector.batch-enabled=false 면 토픽별 건별 리스너로 동작
  */
 @Component
 @RequiredArgsConstructor
 @Slf4j
 public class KafkaEventLogConsumer {
     
+    private static final String LEGACY_AUTO_STARTUP = "#{!${logging.collector.batch-enabled:true}}";
+    
     private final EventLoggingService eventLoggingService;
     private final ObjectMapper objectMapper;
+    private final EventKeyScanner eventKeyScanner;
+    private final EventLogCollectorMetrics collectorMetrics;
+    
+    /**
+     * 수집 대상 전체 토픽 구독 (배치 모드, 토픽 = 이벤트 타입)
+     */
+    @KafkaListener(
+        id = "eventLogBatchCollector",
+        topicPattern = "${logging.collector.topic-pattern:" + EventLogTopics.TOPIC_PATTERN + "}",
+        groupId = "event-log-collector",
+        containerFactory = "eventLogBatchKafkaListenerContainerFactory",
+        autoStartup = "${logging.collector.batch-enabled:true}"
+    )
+    public void consumeBatch(List<ConsumerRecord<String, String>> records, Consumer<?, ?> consumer) {
+        long startNanos = System.nanoTime();
+        List<EventLogRequest> requests = new ArrayList<>(records.size());
+        int failed = 0;
+        
+        for (ConsumerRecord<String, String> record : records) {
+            String eventType = record.topic();
+            String serviceName = EventLogTopics.serviceOf(eventType);
+            try {
+                EventKeyScanner.EventKeys keys = eventKeyScanner.scan(record.value());
+                requests.add(EventLogRequest.builder()
+                    .correlationId(keys.getCorrelationId())
+                    .eventType(eventType)
+                    .serviceName(serviceName)
+                    .payload(record.value())
+                    .userId(keys.getUserId())
+                    .status(EventStatus.SUCCESS)
+                    .build());
+            } catch (Exception e) {
+                failed++;
+                log.error("Failed to collect event: {} - {}", eventType, e.getMessage());
+                requests.add(EventLogRequest.builder()
+                    .eventType(eventType)
+                    .serviceName(serviceName)
+                    .status(EventStatus.FAILED)
+                    .errorMessage(e.getMessage())
+                    .build());
+            }
+        }
+        
+        // 저장 실패 시 예외로 빠져나가 오프셋을 커밋하지 않는다 (컨테이너 에러 핸들러가 같은 배치 재시도 후 DLT 전송)
+        eventLoggingService.logEvents(requests);
+        collectorMetrics.recordBatch(records.size(), failed, System.nanoTime() - startNanos);
+        updateLag(consumer);
+        log.debug("Event batch collected: {} records ({} failed)", records.size(), failed);
+    }
     
-    @KafkaListener(topics = "OrderCreated", groupId = "event-log-collector")
+    @KafkaListener(topics = "OrderCreated", groupId = "event-log-collector", autoStartup = LEGACY_AUTO_STARTUP)
     public void consumeOrderCreated(String message) {
         collectEvent("OrderCreated", "order", message);
     }
     
-    @KafkaListener(topics = "PaymentApproved", groupId = "event-log-collector")
+    @KafkaListener(topics = "PaymentApproved", groupId = "event-log-collector", autoStartup = LEGACY_AUTO_STARTUP)
     public void consumePaymentApproved(String message) {
         collectEvent("PaymentApproved", "payment", message);
     }
     
-    @KafkaListener(topics = "PaymentFailed", groupId = "event-log-collector")
+    @KafkaListener(topics = "PaymentFailed", groupId = "event-log-collector", autoStartup = LEGACY_AUTO_STARTUP)
     public void consumePaymentFailed(String message) {
         collectEvent("PaymentFailed", "payment", message);
     }
     
-    @KafkaListener(topics = "StageStarted", groupId = "event-log-collector")
+    @KafkaListener(topics = "StageStarted", groupId = "event-log-collector", autoStartup = LEGACY_AUTO_STARTUP)
     public void consumeStageStarted(String message) {
         collectEvent("StageStarted", "stage", message);
     }
     
-    @KafkaListener(topics = "SettlementCompleted", groupId = "event-log-collector")
+    @KafkaListener(topics = "SettlementCompleted", groupId = "event-log-collector", autoStartup = LEGACY_AUTO_STARTUP)
     public void consumeSettlementCompleted(String message) {
         collectEvent("SettlementCompleted", "stage", message);
     }
     
-    @KafkaListener(topics = "PaymentDue", groupId = "event-log-collector")
+    @KafkaListener(topics = "PaymentDue", groupId = "event-log-collector", autoStartup = LEGACY_AUTO_STARTUP)
     public void consumePaymentDue(String message) {
         collectEvent("PaymentDue", "stage", message);
     }
     
-    @KafkaListener(topics = "PayoutReady", groupId = "event-log-collector")
+    @KafkaListener(topics = "PayoutReady", groupId = "event-log-collector", autoStartup = LEGACY_AUTO_STARTUP)
     public void consumePayoutReady(String message) {
         collectEvent("PayoutReady", "stage", message);
     }
     
     // 에스크로 이벤트
-    @KafkaListener(topics = "EscrowCreated", groupId = "event-log-collector")
+    @KafkaListener(topics = "EscrowCreated", groupId = "event-log-collector", autoStartup = LEGACY_AUTO_STARTUP)
     public void consumeEscrowCreated(String message) {
         collectEvent("EscrowCreated", "escrow", message);
     }
     
-    @KafkaListener(topics = "DepositConfirmed", groupId = "event-log-collector")
+    @KafkaListener(topics = "DepositConfirmed", groupId = "event-log-collector", autoStartup = LEGACY_AUTO_STARTUP)
     public void consumeDepositConfirmed(String message) {
         collectEvent("DepositConfirmed", "escrow", message);
     }
     
-    @KafkaListener(topics = "VehicleDelivered", groupId = "event-log-collector")
+    @KafkaListener(topics = "VehicleDelivered", groupId = "event-log-collector", autoStartup = LEGACY_AUTO_STARTUP)
     public void consumeVehicleDelivered(String message) {
         collectEvent("VehicleDelivered", "escrow", message);
     }
     
-    @KafkaListener(topics = "VehicleVerified", groupId = "event-log-collector")
+    @KafkaListener(topics = "VehicleVerified", groupId = "event-log-collector", autoStartup = LEGACY_AUTO_STARTUP)
     public void consumeVehicleVerified(String message) {
         collectEvent("VehicleVerified", "escrow", message);
     }
     
-    @KafkaListener(topics = "VerificationFailed", groupId = "event-log-collector")
+    @KafkaListener(topics = "VerificationFailed", groupId = "event-log-collector", autoStartup = LEGACY_AUTO_STARTUP)
     public void consumeVerificationFailed(String message) {
         collectEvent("VerificationFailed", "escrow", message);
     }
     
-    @KafkaListener(topics = "OwnershipTransferred", groupId = "event-log-collector")
+    @KafkaListener(topics = "OwnershipTransferred", groupId = "event-log-collector", autoStartup = LEGACY_AUTO_STARTUP)
     public void consumeOwnershipTransferred(String message) {
         collectEvent("OwnershipTransferred", "escrow", message);
     }
     
-    @KafkaListener(topics = "EscrowCompleted", groupId = "event-log-collector")
+    @KafkaListener(topics = "EscrowCompleted", groupId = "event-log-collector", autoStartup = LEGACY_AUTO_STARTUP)
     public void consumeEscrowCompleted(String message) {
         collectEvent("EscrowCompleted", "escrow", message);
     }
     
-    @KafkaListener(topics = "EscrowCancelled", groupId = "event-log-collector")
+    @KafkaListener(topics = "EscrowCancelled", groupId = "event-log-collector", autoStartup = LEGACY_AUTO_STARTUP)
     public void consumeEscrowCancelled(String message) {
         collectEvent("EscrowCancelled", "escrow", message);
     }
     
-    @KafkaListener(topics = "SettlementFailed", groupId = "event-log-collector")
+    @KafkaListener(topics = "SettlementFailed", groupId = "event-log-collector", autoStartup = LEGACY_AUTO_STARTUP)
     public void consumeSettlementFailed(String message) {
         collectEvent("SettlementFailed", "escrow", message);
     }
     
-    @KafkaListener(topics = "DisputeRaised", groupId = "event-log-collector")
+    @KafkaListener(topics = "DisputeRaised", groupId = "event-log-collector", autoStartup = LEGACY_AUTO_STARTUP)
     public void consumeDisputeRaised(String message) {
         collectEvent("DisputeRaised", "escrow", message);
     }
     
-    @KafkaListener(topics = "DisputeResolved", groupId = "event-log-collector")
+    @KafkaListener(topics = "DisputeResolved", groupId = "event-log-collector", autoStartup = LEGACY_AUTO_STARTUP)
     public void consumeDisputeResolved(String message) {
         collectEvent("DisputeResolved", "escrow", message);
     }
     
     private void collectEvent(String eventType, String serviceName, String message) {
+        EventLogRequest request;
         try {
             JsonNode jsonNode = objectMapper.readTree(message);
             
             String correlationId = extractCorrelationId(jsonNode);
             String userId = extractUserId(jsonNode);
             
-            eventLoggingService.logEvent(EventLogRequest.builder()
+            request = EventLogRequest.builder()
                 .correlationId(correlationId)
                 .eventType(eventType)
                 .serviceName(serviceName)
                 .payload(message)
                 .userId(userId)
                 .status(EventStatus.SUCCESS)
-                .build());
-            
-            log.debug("Event collected: {} from {}", eventType, serviceName);
-            
+                .build();
         } catch (Exception e) {
             log.error("Failed to collect event: {} - {}", eventType, e.getMessage());
-            eventLoggingService.logFailedEvent(
-                null, eventType, serviceName, e.getMessage()
-            );
+            request = EventLogRequest.builder()
+                .eventType(eventType)
+                .serviceName(serviceName)
+                .status(EventStatus.FAILED)
+                .errorMessage(e.getMessage())
+                .build();
+        }
+        
+        // 배치 모드와 같이 저장이 끝난 뒤 반환 (실패하면 예외로 재전달)
+        eventLoggingService.logEvents(List.of(request));
+        log.debug("Event collected: {} from {}", eventType, serviceName);
+    }
+    
+    /**
+     * consumer 가 마지막 fetch 로 알고 있는 lag 만 사용 (브로커 요청 없음)
+     */
+    private void updateLag(Consumer<?, ?> consumer) {
+        Map<String, Long> lagByPartition = new HashMap<>();
+        for (TopicPartition partition : consumer.assignment()) {
+            OptionalLong lag = consumer.currentLag(partition);
+            if (lag.isPresent()) {
+                lagByPartition.put(partition.toString(), lag.getAsLong());
+            }
         }
+        collectorMetrics.updateLag(lagByPartition);
     }
     
     private String extractCorrelationId(JsonNode jsonNode) {
@@ -1,8 +1,12 @@
 package com.example.payflow.logging.presentation;
 
+import com.example.payflow.logging.application.AsyncEventLogWriter;
+import com.example.payflow.logging.application.EventLogCollectorMetrics;
 import com.example.payflow.logging.application.LogAnalyticsService;
 import com.example.payflow.logging.application.PaymentEventSourcingService;
 import com.example.payflow.logging.application.dto.DashboardMetrics;
+import com.example.payflow.logging.application.dto.EventLogCollectorStats;
+import com.example.payflow.logging.application.dto.EventLogWriterStats;
 import com.example.payflow.logging.application.dto.RecentEventDto;
 import com.example.payflow.logging.domain.EventLog;
 import com.example.payflow.logging.domain.EventLogRepository;
@@ -24,6 +28,8 @@ public class LogAnalyticsController {
     private final LogAnalyticsService analyticsService;
     private final EventLogRepository eventLogRepository;
     private final PaymentEventSourcingService eventSourcingService;
+    private final AsyncEventLogWriter asyncEventLogWriter;
+    private final EventLogCollectorMetrics collectorMetrics;
     
     /**
      * 대시보드 메트릭 조회
@@ -36,6 +42,22 @@ public class LogAnalyticsController {
         return ResponseEntity.ok(metrics);
     }
     
+    /**
+     * 비동기 로그 작성기 상태 (버퍼 적재량, 폐기/실패 건수, 배치 저장 지연)
+     */
+    @GetMapping("/writer/metrics")
+    public ResponseEntity<EventLogWriterStats> getWriterMetrics() {
+        return ResponseEntity.ok(asyncEventLogWriter.getStats());
+    }
+    
+    /**
+     * Kafka 수집기 상태 (초당 처리 건수, 파티션별 consumer lag, 배치 처리 시간)
+     */
+    @GetMapping("/collector/metrics")
+    public ResponseEntity<EventLogCollectorStats> getCollectorMetrics() {
+        return ResponseEntity.ok(collectorMetrics.getStats());
+    }
+    
     /**
      * 실시간 이벤트 스트림
      */
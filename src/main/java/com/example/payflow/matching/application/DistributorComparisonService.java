@@ -24,6 +24,7 @@ public class DistributorComparisonService {
     private final DistributorRepository distributorRepository;
     private final StoreRepository storeRepository;
     private final MatchingService matchingService;
+    private final DistributorMatchingIndex matchingIndex;
     
     /**
      * 여러 유통업체 비교
@@ -175,14 +176,10 @@ public class DistributorComparisonService {
     }
     
     /**
-     * 매칭 점수 계산 (MatchingService 재사용)
+     * 매칭 점수 계산 (매칭 색인에서 해당 유통업체만 계산, 비활성이면 0점)
      */
     private MatchingScore calculateMatchingScore(Store store, Distributor distributor) {
-        // MatchingService의 로직을 재사용하기 위해 임시로 추천 조회
-        List<MatchingScore> scores = matchingService.recommendDistributors(store.getStoreId(), 100);
-        return scores.stream()
-                .filter(s -> s.getDistributorId().equals(distributor.getDistributorId()))
-                .findFirst()
+        return matchingIndex.score(store, distributor.getDistributorId())
                 .orElse(MatchingScore.builder()
                         .distributorId(distributor.getDistributorId())
                         .distributorName(distributor.getDistributorName())
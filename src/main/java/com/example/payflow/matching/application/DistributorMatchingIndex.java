@@ -0,0 +1,531 @@
+package com.example.payflow.matching.application;
+
+import com.example.payflow.distributor.domain.Distributor;
+import com.example.payflow.distributor.domain.DistributorRepository;
+import com.example.payflow.distributor.domain.events.DistributorChanged;
+import com.example.payflow.matching.domain.MatchingScore;
+import com.example.payflow.store.domain.Store;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+/**
+ * 매장-유통업체 매칭 색인 (활성 유통업체만 메모리에 보관)
+ * - 서비스 지역/공급 품목 토큰마다 유통업체 slot 비트셋을 두어 요청마다 콤마 문자열을 다시 나누지 않는다
+ * - 배송/인증 점수는 slot 별 정수 배열로 미리 계산, 총점은 0.01 단위 정수로 계산해 기존 BigDecimal 결과와 같다
+ * - 상위 K 개는 전체 정렬 대신 크기 K 의 힙으로 고른다 (동점이면 먼저 등록된 유통업체 우선)
+ * - 유통업체가 바뀌면 커밋 후 해당 slot 만 다시 색인
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DistributorMatchingIndex {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    // 가중치 (0.0001 단위): 지역 40%, 품목 35%, 배송 15%, 인증 10%
+    private static final int REGION_WEIGHT = 4000;
+    private static final int PRODUCT_WEIGHT = 35; // 품목 점수는 0.01 단위
+    private static final int DELIVERY_WEIGHT = 1500;
+    private static final int CERTIFICATION_WEIGHT = 1000;
+
+    private final DistributorRepository distributorRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Integer> slotByDistributorId = new HashMap<>();
+    private final Map<String, BitSet> regionSlots = new HashMap<>();
+    private final Map<String, BitSet> productSlots = new HashMap<>();
+    private final BitSet occupied = new BitSet();
+    private final BitSet hasProducts = new BitSet();
+    private final Deque<Integer> freeSlots = new ArrayDeque<>();
+
+    private Entry[] entries = new Entry[INITIAL_CAPACITY];
+    private int[] deliveryScores = new int[INITIAL_CAPACITY];
+    private int[] certificationScores = new int[INITIAL_CAPACITY];
+    private int[] basePoints = new int[INITIAL_CAPACITY]; // 배송 + 인증 가중 점수 (0.0001 단위)
+    private long[] sequences = new long[INITIAL_CAPACITY];
+    private int slotLimit;
+    private long nextSequence;
+    private volatile boolean loaded;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        ensureLoaded();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDistributorChanged(DistributorChanged event) {
+        ensureLoaded();
+        lock.writeLock().lock();
+        try {
+            upsert(event.getDistributor());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 활성 유통업체 중 총점 상위 limit 개
+     */
+    public List<MatchingScore> recommend(Store store, int limit) {
+        ensureLoaded();
+        if (limit <= 0) {
+            return Collections.emptyList();
+        }
+        lock.readLock().lock();
+        try {
+            Query query = new Query(store);
+            int[] heapSlots = new int[Math.min(limit, slotByDistributorId.size())];
+            int[] heapTotals = new int[heapSlots.length];
+            int size = 0;
+
+            for (int slot = occupied.nextSetBit(0); slot >= 0; slot = occupied.nextSetBit(slot + 1)) {
+                int total = query.totalHundredths(slot);
+                if (size < heapSlots.length) {
+                    heapSlots[size] = slot;
+                    heapTotals[size] = total;
+                    siftUp(heapSlots, heapTotals, size++);
+                } else if (size > 0 && better(total, slot, heapTotals[0], heapSlots[0])) {
+                    heapSlots[0] = slot;
+                    heapTotals[0] = total;
+                    siftDown(heapSlots, heapTotals, size);
+                }
+            }
+
+            List<MatchingScore> scores = new ArrayList<>(size);
+            while (size > 0) {
+                scores.add(query.toScore(heapSlots[0]));
+                heapSlots[0] = heapSlots[--size];
+                heapTotals[0] = heapTotals[size];
+                siftDown(heapSlots, heapTotals, size);
+            }
+            Collections.reverse(scores);
+            return scores;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 활성 유통업체 한 곳의 점수 (비활성/미등록이면 empty)
+     */
+    public Optional<MatchingScore> score(Store store, String distributorId) {
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            Integer slot = slotByDistributorId.get(distributorId);
+            return slot == null ? Optional.empty() : Optional.of(new Query(store).toScore(slot));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 공급 품목 문자열에 keyword 가 포함된 활성 유통업체 (총점 순)
+     */
+    public List<MatchingScore> searchByProduct(Store store, String keyword) {
+        return search(store, entry -> entry.supplyProducts != null && entry.supplyProducts.contains(keyword));
+    }
+
+    /**
+     * 서비스 지역 문자열에 keyword 가 포함된 활성 유통업체 (총점 순)
+     */
+    public List<MatchingScore> searchByRegion(Store store, String keyword) {
+        return search(store, entry -> entry.serviceRegions != null && entry.serviceRegions.contains(keyword));
+    }
+
+    public int size() {
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            return slotByDistributorId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<MatchingScore> search(Store store, Predicate<Entry> filter) {
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            Query query = new Query(store);
+            List<int[]> matched = new ArrayList<>();
+            for (int slot = occupied.nextSetBit(0); slot >= 0; slot = occupied.nextSetBit(slot + 1)) {
+                if (filter.test(entries[slot])) {
+                    matched.add(new int[]{slot, query.totalHundredths(slot)});
+                }
+            }
+            matched.sort((a, b) -> a[0] == b[0] ? 0 : better(a[1], a[0], b[1], b[0]) ? -1 : 1);
+
+            List<MatchingScore> scores = new ArrayList<>(matched.size());
+            for (int[] match : matched) {
+                scores.add(query.toScore(match[0]));
+            }
+            return scores;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (loaded) {
+                return;
+            }
+            List<Distributor> distributors = new ArrayList<>(distributorRepository.findAll());
+            distributors.sort(Comparator.comparing(Distributor::getId, Comparator.nullsLast(Comparator.naturalOrder())));
+            distributors.forEach(this::upsert);
+            loaded = true;
+            log.info("✅ 유통업체 매칭 색인 적재 완료: 활성 {}개 / 전체 {}개", slotByDistributorId.size(), distributors.size());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 쓰기 락 안에서 호출
+     */
+    void upsert(Distributor distributor) {
+        Integer existing = slotByDistributorId.get(distributor.getDistributorId());
+        boolean active = distributor.getIsActive() != null && distributor.getIsActive();
+
+        if (existing != null) {
+            unindex(existing);
+            if (!active) {
+                slotByDistributorId.remove(distributor.getDistributorId());
+                entries[existing] = null;
+                occupied.clear(existing);
+                freeSlots.push(existing);
+                return;
+            }
+        } else if (!active) {
+            return;
+        }
+
+        int slot;
+        if (existing != null) {
+            slot = existing;
+        } else {
+            slot = freeSlots.isEmpty() ? slotLimit++ : freeSlots.pop();
+            ensureCapacity(slot + 1);
+            sequences[slot] = nextSequence++;
+            slotByDistributorId.put(distributor.getDistributorId(), slot);
+            occupied.set(slot);
+        }
+
+        Entry entry = new Entry(distributor);
+        entries[slot] = entry;
+        deliveryScores[slot] = deliveryScore(distributor);
+        certificationScores[slot] = certificationScore(distributor);
+        basePoints[slot] = deliveryScores[slot] * DELIVERY_WEIGHT + certificationScores[slot] * CERTIFICATION_WEIGHT;
+        index(slot, entry.serviceRegions, regionSlots, null);
+        index(slot, entry.supplyProducts, productSlots, hasProducts);
+    }
+
+    private void index(int slot, String commaSeparated, Map<String, BitSet> tokenSlots, BitSet present) {
+        if (commaSeparated == null) {
+            return;
+        }
+        if (present != null) {
+            present.set(slot);
+        }
+        for (String token : commaSeparated.split(",")) {
+            tokenSlots.computeIfAbsent(token.trim(), key -> new BitSet()).set(slot);
+        }
+    }
+
+    private void unindex(int slot) {
+        Entry entry = entries[slot];
+        unindex(slot, entry.serviceRegions, regionSlots, null);
+        unindex(slot, entry.supplyProducts, productSlots, hasProducts);
+    }
+
+    private void unindex(int slot, String commaSeparated, Map<String, BitSet> tokenSlots, BitSet present) {
+        if (commaSeparated == null) {
+            return;
+        }
+        if (present != null) {
+            present.clear(slot);
+        }
+        for (String token : commaSeparated.split(",")) {
+            String key = token.trim();
+            BitSet slots = tokenSlots.get(key);
+            if (slots != null) {
+                slots.clear(slot);
+                if (slots.isEmpty()) {
+                    tokenSlots.remove(key);
+                }
+            }
+        }
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= entries.length) {
+            return;
+        }
+        int capacity = Math.max(required, entries.length * 2);
+        entries = Arrays.copyOf(entries, capacity);
+        deliveryScores = Arrays.copyOf(deliveryScores, capacity);
+        certificationScores = Arrays.copyOf(certificationScores, capacity);
+        basePoints = Arrays.copyOf(basePoints, capacity);
+        sequences = Arrays.copyOf(sequences, capacity);
+    }
+
+    /**
+     * 총점이 높을수록, 같으면 먼저 등록된 유통업체일수록 앞
+     */
+    private boolean better(int total, int slot, int otherTotal, int otherSlot) {
+        if (total != otherTotal) {
+            return total > otherTotal;
+        }
+        return sequences[slot] < sequences[otherSlot];
+    }
+
+    // 루트가 가장 나쁜 후보인 힙
+    private void siftUp(int[] slots, int[] totals, int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (!better(totals[parent], slots[parent], totals[index], slots[index])) {
+                return;
+            }
+            swap(slots, totals, parent, index);
+            index = parent;
+        }
+    }
+
+    private void siftDown(int[] slots, int[] totals, int size) {
+        int index = 0;
+        while (true) {
+            int worst = index;
+            int left = 2 * index + 1;
+            int right = left + 1;
+            if (left < size && better(totals[worst], slots[worst], totals[left], slots[left])) {
+                worst = left;
+            }
+            if (right < size && better(totals[worst], slots[worst], totals[right], slots[right])) {
+                worst = right;
+            }
+            if (worst == index) {
+                return;
+            }
+            swap(slots, totals, index, worst);
+            index = worst;
+        }
+    }
+
+    private static void swap(int[] slots, int[] totals, int i, int j) {
+        int slot = slots[i];
+        slots[i] = slots[j];
+        slots[j] = slot;
+        int total = totals[i];
+        totals[i] = totals[j];
+        totals[j] = total;
+    }
+
+    private static int deliveryScore(Distributor distributor) {
+        if (distributor.getDeliveryAvailable() == null || !distributor.getDeliveryAvailable()) {
+            return 0;
+        }
+        // 배송 가능 70점, 배송 정보가 있으면 +30
+        return distributor.getDeliveryInfo() != null && !distributor.getDeliveryInfo().isEmpty() ? 100 : 70;
+    }
+
+    private static int certificationScore(Distributor distributor) {
+        if (distributor.getCertifications() == null || distributor.getCertifications().isEmpty()) {
+            return 50; // 인증 없어도 기본 50점
+        }
+        int certCount = distributor.getCertifications().split(",").length;
+        if (certCount >= 3) {
+            return 100;
+        } else if (certCount == 2) {
+            return 85;
+        } else if (certCount == 1) {
+            return 70;
+        }
+        return 50;
+    }
+
+    /**
+     * 매장 하나에 대한 요청 단위 계산 (읽기 락 안에서 사용)
+     * - 지역: 토큰 목록을 한 번 훑어 완전 일치(100) / 시·도 일치(70) 비트셋을 만든다
+     * - 품목: 매장 품목마다 해당 토큰 비트셋을 따라 slot 별 일치 개수를 센다
+     */
+    private final class Query {
+
+        private final long[] regionFull;
+        private final long[] regionCity;
+
+        private final boolean productApplicable;
+        private final int[] matchCounts;
+        private final int[] productHundredthsByCount;
+
+        private Query(Store store) {
+            BitSet full = new BitSet();
+            BitSet city = new BitSet();
+            String storeRegion = store.getRegion();
+            if (storeRegion != null) {
+                String[] regionParts = storeRegion.split(" ");
+                String storeCity = regionParts.length > 0 ? regionParts[0] : null; // "서울 강남구" -> "서울"
+                for (Map.Entry<String, BitSet> token : regionSlots.entrySet()) {
+                    String region = token.getKey();
+                    if (storeRegion.contains(region) || region.contains(storeRegion)) {
+                        full.or(token.getValue());
+                    } else if (storeCity != null && region.startsWith(storeCity)) {
+                        city.or(token.getValue());
+                    }
+                }
+            }
+            regionFull = full.toLongArray();
+            regionCity = city.toLongArray();
+
+            String[] storeProducts = store.getMainProducts() != null ? store.getMainProducts().split(",") : new String[0];
+            productApplicable = storeProducts.length > 0;
+            matchCounts = productApplicable ? new int[slotLimit] : null;
+            productHundredthsByCount = new int[storeProducts.length + 1];
+            for (String storeProduct : storeProducts) {
+                BitSet slots = productSlots.get(storeProduct.trim());
+                if (slots != null) {
+                    for (int slot = slots.nextSetBit(0); slot >= 0; slot = slots.nextSetBit(slot + 1)) {
+                        matchCounts[slot]++;
+                    }
+                }
+            }
+            // 기존 계산식 그대로 (매칭 비율 x 100, 소수 둘째 자리 반올림) - 가능한 일치 개수별로 한 번씩만
+            for (int count = 0; productApplicable && count <= storeProducts.length; count++) {
+                double matchRatio = (double) count / storeProducts.length;
+                productHundredthsByCount[count] = BigDecimal.valueOf(matchRatio * 100)
+                        .setScale(2, RoundingMode.HALF_UP).unscaledValue().intValue();
+            }
+        }
+
+        /**
+         * 지역 토큰 비트셋에서 온 값이라 서비스 지역이 없거나 매장 지역이 없으면 자연히 0
+         */
+        private int regionScore(int slot) {
+            return isSet(regionFull, slot) ? 100 : isSet(regionCity, slot) ? 70 : 0;
+        }
+
+        /**
+         * @return 0.01 단위, 품목 점수를 매길 수 없으면 -1
+         */
+        private int productHundredths(int slot) {
+            if (!productApplicable || !hasProducts.get(slot)) {
+                return -1;
+            }
+            return productHundredthsByCount[matchCounts[slot]];
+        }
+
+        private int totalHundredths(int slot) {
+            int total = basePoints[slot] + regionScore(slot) * REGION_WEIGHT;
+            if (productApplicable) {
+                total += productHundredthsByCount[matchCounts[slot]] * PRODUCT_WEIGHT;
+            }
+            return (total + 50) / 100; // 소수 둘째 자리 반올림 (HALF_UP)
+        }
+
+        private MatchingScore toScore(int slot) {
+            Entry entry = entries[slot];
+            int region = regionScore(slot);
+            int product = productHundredths(slot);
+            return MatchingScore.builder()
+                    .distributorId(entry.distributorId)
+                    .distributorName(entry.distributorName)
+                    .totalScore(BigDecimal.valueOf(totalHundredths(slot), 2))
+                    .regionScore(BigDecimal.valueOf(region))
+                    .productScore(product < 0 ? BigDecimal.ZERO : BigDecimal.valueOf(product, 2))
+                    .deliveryScore(BigDecimal.valueOf(deliveryScores[slot]))
+                    .certificationScore(BigDecimal.valueOf(certificationScores[slot]))
+                    .matchReason(matchReason(region, Math.max(product, 0), deliveryScores[slot], certificationScores[slot]))
+                    .supplyProducts(entry.supplyProducts)
+                    .serviceRegions(entry.serviceRegions)
+                    .deliveryAvailable(entry.deliveryAvailable)
+                    .deliveryInfo(entry.deliveryInfo)
+                    .certifications(entry.certifications)
+                    .minOrderAmount(entry.minOrderAmount)
+                    .phoneNumber(entry.phoneNumber)
+                    .email(entry.email)
+                    .build();
+        }
+    }
+
+    private static boolean isSet(long[] words, int bit) {
+        int word = bit >>> 6;
+        return word < words.length && (words[word] & (1L << bit)) != 0;
+    }
+
+    /**
+     * 추천 이유 생성 (품목 점수는 0.01 단위)
+     */
+    private static String matchReason(int regionScore, int productHundredths, int deliveryScore, int certificationScore) {
+        List<String> reasons = new ArrayList<>();
+
+        if (regionScore >= 90) {
+            reasons.add("서비스 지역 완벽 일치");
+        } else if (regionScore >= 60) {
+            reasons.add("서비스 지역 근접");
+        }
+
+        if (productHundredths >= 8000) {
+            reasons.add("필요 품목 대부분 공급 가능");
+        } else if (productHundredths >= 5000) {
+            reasons.add("주요 품목 공급 가능");
+        }
+
+        if (deliveryScore >= 90) {
+            reasons.add("배송 서비스 우수");
+        } else if (deliveryScore >= 60) {
+            reasons.add("배송 가능");
+        }
+
+        if (certificationScore >= 90) {
+            reasons.add("다수 인증 보유");
+        } else if (certificationScore >= 70) {
+            reasons.add("인증 보유");
+        }
+
+        return reasons.isEmpty() ? "기본 매칭" : String.join(", ", reasons);
+    }
+
+    /**
+     * 응답에 그대로 싣는 유통업체 필드 (엔티티 참조를 들고 있지 않도록 복사)
+     */
+    private static final class Entry {
+
+        private final String distributorId;
+        private final String distributorName;
+        private final String supplyProducts;
+        private final String serviceRegions;
+        private final Boolean deliveryAvailable;
+        private final String deliveryInfo;
+        private final String certifications;
+        private final Integer minOrderAmount;
+        private final String phoneNumber;
+        private final String email;
+
+        private Entry(Distributor distributor) {
+            this.distributorId = distributor.getDistributorId();
+            this.distributorName = distributor.getDistributorName();
+            this.supplyProducts = distributor.getSupplyProducts();
+            this.serviceRegions = distributor.getServiceRegions();
+            this.deliveryAvailable = distributor.getDeliveryAvailable();
+            this.deliveryInfo = distributor.getDeliveryInfo();
+            this.certifications = distributor.getCertifications();
+            this.minOrderAmount = distributor.getMinOrderAmount();
+            this.phoneNumber = distributor.getPhoneNumber();
+            this.email = distributor.getEmail();
+        }
+    }
+}
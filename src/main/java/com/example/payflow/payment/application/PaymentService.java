@@ -1,33 +1,90 @@
 package com.example.payflow.payment.application;
 
+import com.example.payflow.common.metrics.LatencyHistogram;
+import com.example.payflow.common.resilience.CircuitBreakerOpenException;
 import com.example.payflow.logging.application.EventLoggingService;
 import com.example.payflow.logging.application.PaymentEventSourcingService;
 import com.example.payflow.order.application.OrderService;
+import com.example.payflow.payment.application.dto.PaymentConfirmStats;
 import com.example.payflow.payment.domain.Payment;
 import com.example.payflow.payment.domain.PaymentRepository;
-import com.example.payflow.payment.infrastructure.TossPaymentsClient;
+import com.example.payflow.payment.domain.PaymentStatus;
+import com.example.payflow.payment.infrastructure.TossPaymentGateway;
+import com.example.payflow.payment.infrastructure.TossPaymentsException;
 import com.example.payflow.payment.infrastructure.dto.TossPaymentConfirmRequest;
 import com.example.payflow.payment.infrastructure.dto.TossPaymentResponse;
 import com.example.payflow.payment.presentation.dto.PaymentConfirmRequest;
 import com.example.payflow.payment.presentation.dto.PaymentResponse;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class PaymentService {
     
+    // PG 에서 승인이 끝난 결제 상태 (가상계좌는 입금 대기)
+    private static final Set<String> PG_CONFIRMED_STATUSES = Set.of("DONE", "WAITING_FOR_DEPOSIT");
+    
     private final PaymentRepository paymentRepository;
-    private final TossPaymentsClient tossPaymentsClient;
     private final OrderService orderService;
     private final EventLoggingService eventLoggingService;
     private final PaymentEventSourcingService eventSourcingService;
+    private final TossPaymentGateway paymentGateway;
+    private final PlatformTransactionManager transactionManager;
+    
+    @Value("${payment.confirm.commit-threads:8}")
+    private int commitThreads;
+    
+    private TransactionTemplate transactionTemplate;
+    private ExecutorService confirmExecutor;
+    
+    private final LatencyHistogram intentLatency = new LatencyHistogram();
+    private final LatencyHistogram commitLatency = new LatencyHistogram();
+    private final LatencyHistogram totalLatency = new LatencyHistogram();
+    private final AtomicLong approved = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong unknown = new AtomicLong();
+    private final AtomicLong duplicates = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong recovered = new AtomicLong();
+    private final AtomicInteger pendingCommits = new AtomicInteger();
+    
+    @PostConstruct
+    public void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        AtomicInteger sequence = new AtomicInteger();
+        confirmExecutor = Executors.newFixedThreadPool(commitThreads, r -> {
+            Thread thread = new Thread(r, "payment-confirm-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+    
+    @PreDestroy
+    public void shutdown() {
+        confirmExecutor.shutdown();
+    }
     
     @Transactional
     public void createPayment(String orderId, String orderName, Long amount, String customerEmail) {
@@ -59,12 +116,107 @@ public class PaymentService {
         log.info("결제 생성: orderId={}, processingTime={}ms", orderId, processingTime);
     }
     
-    @Transactional
-    public PaymentResponse confirmPayment(PaymentConfirmRequest request) {
-        long startTime = System.currentTimeMillis();
+    /**
+     * 결제 승인 (2단계)
+     * 1. 짧은 트랜잭션으로 승인 의도(APPROVING) + PaymentApprovalRequested 이벤트 저장
+     * 2. 트랜잭션 밖에서 PG 승인 호출 (DB 커넥션을 잡지 않음, 타임아웃/서킷 브레이커 적용)
+     * 3. 전용 풀에서 짧은 트랜잭션으로 승인/실패 결과 + 이벤트 저장
+     * PG 응답 시간 초과 시 결과를 알 수 없으므로 APPROVING 으로 두고, 같은 paymentKey 로 다시 요청하면
+     * PG 결제 조회로 이미 승인됐는지 먼저 확인한 뒤 재승인 (ALREADY_PROCESSED_PAYMENT 응답도 조회로 확인)
+     * 서킷 차단으로 PG 를 호출하지 못하면 실패로 기록하지 않고 승인 전 상태로 되돌린다
+     */
+    public CompletableFuture<PaymentResponse> confirmPayment(PaymentConfirmRequest request) {
+        long startNanos = System.nanoTime();
+        
+        ConfirmIntent intent;
+        long intentStart = System.nanoTime();
+        try {
+            intent = transactionTemplate.execute(status -> registerIntent(request));
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        } finally {
+            intentLatency.recordNanos(System.nanoTime() - intentStart);
+        }
+        if (intent.getApprovedPayment() != null) {
+            duplicates.incrementAndGet();
+            log.info("이미 승인된 결제 재요청: orderId={}, paymentKey={}", request.getOrderId(), request.getPaymentKey());
+            return CompletableFuture.completedFuture(intent.getApprovedPayment());
+        }
         
-        // 결제 정보 조회 (없으면 자동 생성)
-        Payment payment = paymentRepository.findByOrderId(request.getOrderId())
+        // 토스페이먼츠 API 호출
+        TossPaymentConfirmRequest confirmRequest = new TossPaymentConfirmRequest(
+            request.getPaymentKey(),
+            request.getOrderId(),
+            request.getAmount()
+        );
+        CompletableFuture<TossPaymentResponse> pgCall = intent.isRecovering()
+            ? paymentGateway.lookup(request.getPaymentKey())
+                .thenCompose(existing -> isConfirmedFor(existing, request)
+                    ? recovered(request, existing)
+                    : paymentGateway.confirm(confirmRequest))
+            : paymentGateway.confirm(confirmRequest);
+        pendingCommits.incrementAndGet();
+        return pgCall
+            .exceptionallyCompose(error -> recoverAlreadyProcessed(request, error))
+            .handleAsync((tossResponse, error) -> {
+                try {
+                    return completeConfirmation(request, intent.getPreviousStatus(), tossResponse, error, startNanos);
+                } finally {
+                    pendingCommits.decrementAndGet();
+                    totalLatency.recordNanos(System.nanoTime() - startNanos);
+                }
+            }, confirmExecutor);
+    }
+    
+    public PaymentConfirmStats getConfirmStats() {
+        return PaymentConfirmStats.builder()
+            .approved(approved.get())
+            .failed(failed.get())
+            .unknown(unknown.get())
+            .duplicates(duplicates.get())
+            .rejected(rejected.get())
+            .recovered(recovered.get())
+            .pendingCommits(pendingCommits.get())
+            .intentLatency(intentLatency.snapshot())
+            .commitLatency(commitLatency.snapshot())
+            .totalLatency(totalLatency.snapshot())
+            .gateway(paymentGateway.getStats())
+            .build();
+    }
+    
+    /**
+     * ALREADY_PROCESSED_PAYMENT 면 PG 결제 조회로 실제 승인 여부 확인 (이전 요청이 시간 초과 후 승인된 경우)
+     */
+    private CompletableFuture<TossPaymentResponse> recoverAlreadyProcessed(PaymentConfirmRequest request, Throwable error) {
+        Throwable cause = TossPaymentGateway.unwrap(error);
+        if (!(cause instanceof TossPaymentsException tossError) || !tossError.isAlreadyProcessed()) {
+            return CompletableFuture.failedFuture(cause);
+        }
+        log.info("이미 처리된 결제 - PG 결제 조회로 확인: orderId={}, paymentKey={}",
+            request.getOrderId(), request.getPaymentKey());
+        return paymentGateway.lookup(request.getPaymentKey())
+            .thenCompose(existing -> isConfirmedFor(existing, request)
+                ? recovered(request, existing)
+                : CompletableFuture.failedFuture(cause));
+    }
+    
+    private CompletableFuture<TossPaymentResponse> recovered(PaymentConfirmRequest request, TossPaymentResponse existing) {
+        recovered.incrementAndGet();
+        log.info("PG 에서 이미 승인된 결제 확인: orderId={}, paymentKey={}, status={}",
+            request.getOrderId(), request.getPaymentKey(), existing.getStatus());
+        return CompletableFuture.completedFuture(existing);
+    }
+    
+    private static boolean isConfirmedFor(TossPaymentResponse response, PaymentConfirmRequest request) {
+        return response != null
+            && PG_CONFIRMED_STATUSES.contains(response.getStatus())
+            && request.getOrderId().equals(response.getOrderId())
+            && request.getPaymentKey().equals(response.getPaymentKey());
+    }
+    
+    private ConfirmIntent registerIntent(PaymentConfirmRequest request) {
+        // 결제 정보 조회 (행 잠금, 없으면 자동 생성)
+        Payment payment = paymentRepository.findByOrderIdForUpdate(request.getOrderId())
             .orElseGet(() -> {
                 log.warn("결제 정보가 없어 자동 생성합니다: orderId={}", request.getOrderId());
                 Payment newPayment = new Payment(
@@ -76,93 +228,191 @@ public class PaymentService {
                 return paymentRepository.save(newPayment);
             });
         
-        String previousState = payment.getStatus().name();
+        if (payment.getStatus() == PaymentStatus.DONE && request.getPaymentKey().equals(payment.getPaymentKey())) {
+            return new ConfirmIntent(null, false, PaymentResponse.from(payment));
+        }
+        if (payment.getStatus() == PaymentStatus.DONE) {
+            throw new IllegalStateException("이미 다른 결제로 승인된 주문입니다: " + request.getOrderId());
+        }
+        LocalDateTime staleBefore = LocalDateTime.now().minusNanos(paymentGateway.getTimeoutMillis() * 1_000_000);
+        if (payment.isApprovalInProgress(staleBefore)) {
+            throw new IllegalStateException("이미 승인 진행 중인 결제입니다: " + request.getOrderId());
+        }
         
-        // 토스페이먼츠 API 호출
-        TossPaymentConfirmRequest confirmRequest = new TossPaymentConfirmRequest(
-            request.getPaymentKey(),
-            request.getOrderId(),
-            request.getAmount()
+        PaymentStatus previousStatus = payment.getStatus();
+        String previousState = previousStatus.name();
+        // 결과를 모르는 이전 승인(시간 초과)과 같은 결제면 PG 에서 이미 승인됐을 수 있다
+        boolean recovering = previousStatus == PaymentStatus.APPROVING
+            && request.getPaymentKey().equals(payment.getPaymentKey());
+        payment.startApproval(request.getPaymentKey());
+        
+        // 이벤트 소싱: 승인 대기 상태
+        eventSourcingService.storePaymentEvent(
+            payment.getOrderId(),
+            "PaymentApprovalRequested",
+            previousState,
+            "APPROVING",
+            Map.of("paymentKey", request.getPaymentKey(), "amount", request.getAmount()),
+            "USER"
         );
+        return new ConfirmIntent(previousStatus, recovering, null);
+    }
+    
+    private PaymentResponse completeConfirmation(PaymentConfirmRequest request, PaymentStatus previousStatus,
+                                                 TossPaymentResponse tossResponse, Throwable error, long startNanos) {
+        Throwable cause = TossPaymentGateway.unwrap(error);
+        if (cause == null && tossResponse == null) {
+            cause = new IllegalStateException("PG 응답이 비어 있습니다");
+        }
         
-        try {
-            // 이벤트 소싱: 승인 대기 상태
-            eventSourcingService.storePaymentEvent(
-                payment.getOrderId(),
-                "PaymentApprovalRequested",
-                previousState,
-                "APPROVING",
-                Map.of("paymentKey", request.getPaymentKey(), "amount", request.getAmount()),
-                "USER"
-            );
-            
-            TossPaymentResponse tossResponse = tossPaymentsClient.confirmPayment(confirmRequest);
-            
-            // 결제 승인 처리
-            payment.approve(tossResponse.getPaymentKey(), tossResponse.getMethod());
-            
-            // 이벤트 소싱: 승인 완료 상태
-            eventSourcingService.storePaymentEvent(
-                payment.getOrderId(),
-                "PaymentApproved",
-                "APPROVING",
-                "APPROVED",
-                Map.of(
-                    "paymentKey", tossResponse.getPaymentKey(),
-                    "method", tossResponse.getMethod(),
-                    "approvedAt", tossResponse.getApprovedAt()
-                ),
-                "TOSS_PAYMENTS"
-            );
-            
-            // 주문 확정 처리는 별도로 수행 (카탈로그 주문은 CatalogOrderService에서 처리)
-            // orderService.confirmOrder(payment.getOrderId());
-            
-            long processingTime = System.currentTimeMillis() - startTime;
-            
-            // 이벤트 로그 저장
-            eventLoggingService.logEvent(
-                payment.getOrderId(),
-                "PaymentApproved",
+        if (cause instanceof TimeoutException) {
+            unknown.incrementAndGet();
+            eventLoggingService.logFailedEvent(
+                request.getOrderId(),
+                "PaymentApprovalTimedOut",
                 "payment",
-                Map.of(
-                    "orderId", payment.getOrderId(),
-                    "paymentKey", payment.getPaymentKey(),
-                    "amount", payment.getAmount(),
-                    "processingTimeMs", processingTime
-                )
+                "PG 응답 시간 초과 (" + paymentGateway.getTimeoutMillis() + "ms)"
             );
-            
-            log.info("결제 승인 완료: orderId={}, paymentKey={}, processingTime={}ms", 
-                payment.getOrderId(), payment.getPaymentKey(), processingTime);
-            
+            log.warn("⏱️ 결제 승인 결과 미확정 (PG 응답 시간 초과): orderId={}", request.getOrderId());
+            throw new RuntimeException("결제 승인 결과 확인 지연 - 같은 결제 정보로 다시 요청해 주세요: " + request.getOrderId());
+        }
+        
+        if (cause instanceof CircuitBreakerOpenException) {
+            // PG 를 호출하지 않았으므로 실패가 아니다 - 승인 전 상태로 되돌려 바로 다시 요청할 수 있게
+            rejected.incrementAndGet();
+            transactionTemplate.executeWithoutResult(status -> releaseApproval(request, previousStatus));
+            log.warn("⛔ PG 서킷 차단으로 결제 승인 보류: orderId={}", request.getOrderId());
+            throw new RuntimeException("결제 시스템이 일시적으로 불안정합니다 - 잠시 후 다시 요청해 주세요: " + request.getOrderId());
+        }
+        
+        Throwable failure = cause;
+        long commitStart = System.nanoTime();
+        Payment payment = transactionTemplate.execute(status -> failure == null
+            ? commitApproval(request.getOrderId(), tossResponse)
+            : commitFailure(request, failure));
+        commitLatency.recordNanos(System.nanoTime() - commitStart);
+        long processingTime = (System.nanoTime() - startNanos) / 1_000_000;
+        
+        if (failure != null && payment.getStatus() == PaymentStatus.DONE
+                && request.getPaymentKey().equals(payment.getPaymentKey())) {
+            // 같은 결제의 다른 요청이 먼저 승인을 저장했다 - 이 요청의 실패로 덮어쓰지 않는다
+            duplicates.incrementAndGet();
+            log.info("다른 요청이 이미 승인한 결제: orderId={}, paymentKey={}", payment.getOrderId(), payment.getPaymentKey());
             return PaymentResponse.from(payment);
-        } catch (Exception e) {
-            payment.fail();
-            
-            // 이벤트 소싱: 실패 상태
-            eventSourcingService.storePaymentEvent(
-                payment.getOrderId(),
-                "PaymentFailed",
-                previousState,
-                "FAILED",
-                Map.of("errorMessage", e.getMessage()),
-                "SYSTEM"
-            );
+        }
+        
+        if (failure != null) {
+            failed.incrementAndGet();
             
             // 실패 이벤트 로그
             eventLoggingService.logFailedEvent(
                 payment.getOrderId(),
                 "PaymentFailed",
                 "payment",
-                e.getMessage()
+                failure.getMessage()
             );
             
             // 주문 실패 처리는 별도로 수행 (카탈로그 주문은 CatalogOrderService에서 처리)
             // orderService.failOrder(payment.getOrderId());
-            log.error("결제 승인 실패: orderId={}", payment.getOrderId(), e);
-            throw new RuntimeException("결제 승인 실패: " + e.getMessage());
+            log.error("결제 승인 실패: orderId={}", payment.getOrderId(), failure);
+            throw new RuntimeException("결제 승인 실패: " + failure.getMessage());
         }
+        
+        approved.incrementAndGet();
+        
+        // 주문 확정 처리는 별도로 수행 (카탈로그 주문은 CatalogOrderService에서 처리)
+        // orderService.confirmOrder(payment.getOrderId());
+        
+        // 이벤트 로그 저장
+        eventLoggingService.logEvent(
+            payment.getOrderId(),
+            "PaymentApproved",
+            "payment",
+            Map.of(
+                "orderId", payment.getOrderId(),
+                "paymentKey", payment.getPaymentKey(),
+                "amount", payment.getAmount(),
+                "processingTimeMs", processingTime
+            )
+        );
+        
+        log.info("결제 승인 완료: orderId={}, paymentKey={}, processingTime={}ms", 
+            payment.getOrderId(), payment.getPaymentKey(), processingTime);
+        
+        return PaymentResponse.from(payment);
+    }
+    
+    private Payment commitApproval(String orderId, TossPaymentResponse tossResponse) {
+        Payment payment = paymentRepository.findByOrderIdForUpdate(orderId)
+            .orElseThrow(() -> new IllegalArgumentException("결제 정보를 찾을 수 없습니다"));
+        if (payment.getStatus() == PaymentStatus.DONE && tossResponse.getPaymentKey().equals(payment.getPaymentKey())) {
+            // 시간 초과 후 재요청한 승인이 먼저 저장된 경우
+            return payment;
+        }
+        if (payment.getStatus() == PaymentStatus.DONE) {
+            log.error("❗ 이미 다른 결제로 승인된 주문에 추가 승인: orderId={}, saved={}, new={}",
+                orderId, payment.getPaymentKey(), tossResponse.getPaymentKey());
+            return payment;
+        }
+        String previousState = payment.getStatus().name();
+        
+        // 결제 승인 처리
+        payment.approve(tossResponse.getPaymentKey(), tossResponse.getMethod());
+        
+        // 이벤트 소싱: 승인 완료 상태
+        eventSourcingService.storePaymentEvent(
+            payment.getOrderId(),
+            "PaymentApproved",
+            previousState,
+            "APPROVED",
+            Map.of(
+                "paymentKey", tossResponse.getPaymentKey(),
+                "method", tossResponse.getMethod(),
+                "approvedAt", tossResponse.getApprovedAt()
+            ),
+            "TOSS_PAYMENTS"
+        );
+        return payment;
+    }
+    
+    /**
+     * 실패 기록 - 이미 승인된 결제(DONE)나 다른 요청이 잡은 승인은 그대로 둔다
+     */
+    private Payment commitFailure(PaymentConfirmRequest request, Throwable failure) {
+        Payment payment = paymentRepository.findByOrderIdForUpdate(request.getOrderId())
+            .orElseThrow(() -> new IllegalArgumentException("결제 정보를 찾을 수 없습니다"));
+        if (!payment.fail(request.getPaymentKey())) {
+            return payment;
+        }
+        
+        // 이벤트 소싱: 실패 상태
+        eventSourcingService.storePaymentEvent(
+            payment.getOrderId(),
+            "PaymentFailed",
+            "APPROVING",
+            "FAILED",
+            Map.of("errorMessage", String.valueOf(failure.getMessage())),
+            "SYSTEM"
+        );
+        return payment;
+    }
+    
+    private void releaseApproval(PaymentConfirmRequest request, PaymentStatus previousStatus) {
+        Payment payment = paymentRepository.findByOrderIdForUpdate(request.getOrderId())
+            .orElseThrow(() -> new IllegalArgumentException("결제 정보를 찾을 수 없습니다"));
+        if (!payment.releaseApproval(request.getPaymentKey(), previousStatus)) {
+            return;
+        }
+        
+        // 이벤트 소싱: 승인 요청 취소 (PG 미호출)
+        eventSourcingService.storePaymentEvent(
+            payment.getOrderId(),
+            "PaymentApprovalReleased",
+            "APPROVING",
+            previousStatus.name(),
+            Map.of("paymentKey", request.getPaymentKey(), "reason", "CIRCUIT_OPEN"),
+            "SYSTEM"
+        );
     }
     
     @Transactional(readOnly = true)
@@ -171,4 +421,12 @@ public class PaymentService {
             .orElseThrow(() -> new IllegalArgumentException("결제 정보를 찾을 수 없습니다"));
         return PaymentResponse.from(payment);
     }
+    
+    @Getter
+    @AllArgsConstructor
+    private static class ConfirmIntent {
+        private final PaymentStatus previousStatus;        // 승인 요청 전 상태
+        private final boolean recovering;                  // 결과 미확정(시간 초과) 승인을 같은 paymentKey 로 재요청
+        private final PaymentResponse approvedPayment;     // 이미 같은 paymentKey 로 승인된 경우
+    }
 }
@@ -0,0 +1,30 @@
+package com.example.payflow.payment.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * 결제 승인 2단계 처리 통계 (프로세스 시작 이후 누적)
+ * - intent/commit 지연 = 각 트랜잭션이 DB 커넥션을 잡고 있던 시간
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PaymentConfirmStats {
+    private long approved;                     // 승인 완료
+    private long failed;                       // 승인 실패 (PG 거절/오류)
+    private long unknown;                      // PG 응답 시간 초과 (APPROVING 유지, 재요청 시 재승인)
+    private long duplicates;                   // 이미 승인된 결제 재요청
+    private long rejected;                     // 서킷 차단으로 PG 미호출 (승인 전 상태로 되돌림)
+    private long recovered;                    // 결과 미확정 승인이 PG 조회로 승인 확인됨
+    private int pendingCommits;                // 결과 저장 대기 중
+    private Map<String, Object> intentLatency; // 1단계: 승인 의도 저장 트랜잭션
+    private Map<String, Object> commitLatency; // 2단계: 결과 + 이벤트 저장 트랜잭션
+    private Map<String, Object> totalLatency;  // 요청 → 응답 전체
+    private Map<String, Object> gateway;       // PG 호출 지연/서킷 상태
+}
@@ -36,6 +36,7 @@ public class Payment {
     private String method;
     private String customerEmail;
     private LocalDateTime approvedAt;
+    private LocalDateTime approvalRequestedAt;
     private LocalDateTime createdAt;
     
     public Payment(String orderId, String orderName, Long amount, String customerEmail) {
@@ -47,6 +48,37 @@ public class Payment {
         this.createdAt = LocalDateTime.now();
     }
     
+    /**
+     * 승인 의도 기록 (PG 호출 전 짧은 트랜잭션에서 저장)
+     */
+    public void startApproval(String paymentKey) {
+        this.paymentKey = paymentKey;
+        this.status = PaymentStatus.APPROVING;
+        this.approvalRequestedAt = LocalDateTime.now();
+    }
+    
+    /**
+     * PG 응답을 기다리는 중인지 (staleBefore 이전에 시작된 승인 요청은 응답을 포기한 것으로 보고 다시 승인 가능)
+     */
+    public boolean isApprovalInProgress(LocalDateTime staleBefore) {
+        return status == PaymentStatus.APPROVING
+            && approvalRequestedAt != null
+            && approvalRequestedAt.isAfter(staleBefore);
+    }
+    
+    /**
+     * PG 를 호출하지 못한 승인 요청 되돌리기 (서킷 차단 등) - 이 요청이 잡은 승인일 때만
+     * @return 되돌렸으면 true
+     */
+    public boolean releaseApproval(String paymentKey, PaymentStatus previousStatus) {
+        if (status != PaymentStatus.APPROVING || !paymentKey.equals(this.paymentKey)) {
+            return false;
+        }
+        this.status = previousStatus;
+        this.approvalRequestedAt = null;  // 진행 중으로 보지 않고 바로 다시 요청 가능
+        return true;
+    }
+    
     public void approve(String paymentKey, String method) {
         this.paymentKey = paymentKey;
         this.method = method;
@@ -54,8 +86,16 @@ public class Payment {
         this.approvedAt = LocalDateTime.now();
     }
     
-    public void fail() {
+    /**
+     * 승인 실패 기록 - 완료된 결제(DONE)나 다른 요청이 잡은 승인은 덮어쓰지 않는다
+     * @return 실패로 바꿨으면 true
+     */
+    public boolean fail(String paymentKey) {
+        if (status == PaymentStatus.DONE || (status == PaymentStatus.APPROVING && !paymentKey.equals(this.paymentKey))) {
+            return false;
+        }
         this.status = PaymentStatus.FAILED;
+        return true;
     }
     
     public void cancel() {
@@ -0,0 +1,138 @@
+package com.example.payflow.payment.infrastructure;
+
+import com.example.payflow.common.metrics.LatencyHistogram;
+import com.example.payflow.common.resilience.CircuitBreaker;
+import com.example.payflow.common.resilience.CircuitBreakerOpenException;
+import com.example.payflow.payment.infrastructure.dto.TossPaymentConfirmRequest;
+import com.example.payflow.payment.infrastructure.dto.TossPaymentResponse;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 토스페이먼츠 승인 호출 (트랜잭션 밖, non-blocking)
+ * - WebClient 응답을 기다리는 스레드 없이 timeout-ms 안에 응답이 없으면 TimeoutException
+ * - 5xx/타임아웃/연결 오류가 이어지면 서킷을 열어 PG 호출 없이 바로 거절 (4xx 는 PG 정상 응답으로 본다)
+ * - 결제 조회(lookup)도 같은 타임아웃/서킷을 거친다
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TossPaymentGateway {
+
+    private final TossPaymentsClient tossPaymentsClient;
+
+    @Value("${payment.gateway.timeout-ms:3000}")
+    private long timeoutMillis;
+
+    @Value("${payment.gateway.circuit.window-size:20}")
+    private int windowSize;
+
+    @Value("${payment.gateway.circuit.minimum-calls:10}")
+    private int minimumCalls;
+
+    @Value("${payment.gateway.circuit.failure-rate-threshold:50}")
+    private int failureRateThreshold;
+
+    @Value("${payment.gateway.circuit.open-ms:5000}")
+    private long openMillis;
+
+    @Value("${payment.gateway.circuit.half-open-calls:3}")
+    private int halfOpenCalls;
+
+    private CircuitBreaker circuitBreaker;
+
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong timeouts = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+
+    @PostConstruct
+    public void init() {
+        circuitBreaker = new CircuitBreaker("toss-payments", windowSize, minimumCalls, failureRateThreshold,
+                openMillis, halfOpenCalls);
+    }
+
+    public long getTimeoutMillis() {
+        return timeoutMillis;
+    }
+
+    /**
+     * 결제 승인 요청. 서킷이 열려 있으면 CircuitBreakerOpenException 으로 즉시 실패
+     */
+    public CompletableFuture<TossPaymentResponse> confirm(TossPaymentConfirmRequest request) {
+        if (!circuitBreaker.tryAcquire()) {
+            log.warn("⛔ PG 서킷 OPEN - 결제 승인 요청 차단: orderId={}", request.getOrderId());
+            return CompletableFuture.failedFuture(new CircuitBreakerOpenException(circuitBreaker.getName()));
+        }
+        return call(tossPaymentsClient.confirmPaymentAsync(request));
+    }
+
+    /**
+     * 결제 상태 조회. 서킷이 열려 있으면 CircuitBreakerOpenException 으로 즉시 실패
+     */
+    public CompletableFuture<TossPaymentResponse> lookup(String paymentKey) {
+        if (!circuitBreaker.tryAcquire()) {
+            log.warn("⛔ PG 서킷 OPEN - 결제 조회 차단: paymentKey={}", paymentKey);
+            return CompletableFuture.failedFuture(new CircuitBreakerOpenException(circuitBreaker.getName()));
+        }
+        return call(tossPaymentsClient.getPaymentAsync(paymentKey));
+    }
+
+    private CompletableFuture<TossPaymentResponse> call(Mono<TossPaymentResponse> request) {
+        long start = System.nanoTime();
+        inFlight.incrementAndGet();
+        return request
+                .timeout(Duration.ofMillis(timeoutMillis))
+                .toFuture()
+                .whenComplete((response, error) -> {
+                    inFlight.decrementAndGet();
+                    latency.recordNanos(System.nanoTime() - start);
+                    Throwable cause = unwrap(error);
+                    if (cause == null || (cause instanceof TossPaymentsException tossError && !tossError.isServerError())) {
+                        circuitBreaker.onSuccess();
+                        return;
+                    }
+                    circuitBreaker.onFailure();
+                    (cause instanceof TimeoutException ? timeouts : failures).incrementAndGet();
+                });
+    }
+
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("timeoutMs", timeoutMillis);
+        stats.put("inFlight", inFlight.get());
+        stats.put("timeouts", timeouts.get());
+        stats.put("failures", failures.get());
+        stats.put("circuitState", circuitBreaker.getState());
+        stats.put("circuitFailureRate", circuitBreaker.getFailureRate());
+        stats.put("circuitOpened", circuitBreaker.getOpenedCount());
+        stats.put("circuitRejected", circuitBreaker.getRejectedCount());
+        stats.put("latency", latency.snapshot());
+        return stats;
+    }
+
+    /**
+     * CompletableFuture 단계에서 감싼 예외를 벗겨 원래 원인 반환
+     */
+    public static Throwable unwrap(Throwable error) {
+        Throwable cause = error;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+}
@@ -2,13 +2,17 @@ package com.example.payflow.payment.infrastructure;
 
 import com.example.payflow.payment.infrastructure.dto.TossPaymentConfirmRequest;
 import com.example.payflow.payment.infrastructure.dto.TossPaymentResponse;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.ClientResponse;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
 import java.nio.charset.StandardCharsets;
 import java.util.Base64;
@@ -18,6 +22,8 @@ import java.util.Base64;
 @Slf4j
 public class TossPaymentsClient {
     
+    private static final ObjectMapper ERROR_READER = new ObjectMapper();
+    
     @Value("${toss.payments.secret-key}")
     private String secretKey;
     
@@ -27,37 +33,76 @@ public class TossPaymentsClient {
     private final WebClient webClient;
     
     public TossPaymentResponse confirmPayment(TossPaymentConfirmRequest request) {
+        try {
+            return confirmPaymentAsync(request).block();
+        } catch (Exception e) {
+            log.error("토스페이먼츠 결제 승인 실패: paymentKey={}, orderId={}, amount={}", 
+                request.getPaymentKey(), request.getOrderId(), request.getAmount(), e);
+            throw new RuntimeException("결제 승인 실패: " + e.getMessage(), e);
+        }
+    }
+    
+    /**
+     * 결제 승인 요청 (non-blocking - 구독 시 요청, 오류 응답은 TossPaymentsException)
+     */
+    public Mono<TossPaymentResponse> confirmPaymentAsync(TossPaymentConfirmRequest request) {
         String encodedAuth = Base64.getEncoder()
             .encodeToString((secretKey + ":").getBytes(StandardCharsets.UTF_8));
         
         log.info("토스페이먼츠 결제 승인 요청: paymentKey={}, orderId={}, amount={}", 
             request.getPaymentKey(), request.getOrderId(), request.getAmount());
         
+        return webClient.post()
+            .uri(apiUrl + "/payments/confirm")
+            .header(HttpHeaders.AUTHORIZATION, "Basic " + encodedAuth)
+            .contentType(MediaType.APPLICATION_JSON)
+            .bodyValue(request)
+            .retrieve()
+            .onStatus(
+                status -> status.is4xxClientError() || status.is5xxServerError(),
+                this::toException
+            )
+            .bodyToMono(TossPaymentResponse.class)
+            .doOnNext(response -> log.info("토스페이먼츠 결제 승인 성공: paymentKey={}", response.getPaymentKey()));
+    }
+    
+    /**
+     * 결제 조회 (non-blocking) - 승인 결과를 모르는 결제(시간 초과/ALREADY_PROCESSED_PAYMENT)의 실제 상태 확인용
+     */
+    public Mono<TossPaymentResponse> getPaymentAsync(String paymentKey) {
+        String encodedAuth = Base64.getEncoder()
+            .encodeToString((secretKey + ":").getBytes(StandardCharsets.UTF_8));
+        
+        return webClient.get()
+            .uri(apiUrl + "/payments/{paymentKey}", paymentKey)
+            .header(HttpHeaders.AUTHORIZATION, "Basic " + encodedAuth)
+            .retrieve()
+            .onStatus(
+                status -> status.is4xxClientError() || status.is5xxServerError(),
+                this::toException
+            )
+            .bodyToMono(TossPaymentResponse.class)
+            .doOnNext(response -> log.info("토스페이먼츠 결제 조회: paymentKey={}, status={}",
+                response.getPaymentKey(), response.getStatus()));
+    }
+    
+    private Mono<? extends Throwable> toException(ClientResponse clientResponse) {
+        return clientResponse.bodyToMono(String.class)
+            .defaultIfEmpty("")
+            .map(errorBody -> {
+                log.error("토스페이먼츠 에러 응답: status={}, body={}", 
+                    clientResponse.statusCode(), errorBody);
+                return new TossPaymentsException(clientResponse.statusCode().value(), errorCode(errorBody),
+                    "토스페이먼츠 API 오류: " + errorBody);
+            });
+    }
+    
+    private static String errorCode(String errorBody) {
         try {
-            TossPaymentResponse response = webClient.post()
-                .uri(apiUrl + "/payments/confirm")
-                .header(HttpHeaders.AUTHORIZATION, "Basic " + encodedAuth)
-                .contentType(MediaType.APPLICATION_JSON)
-                .bodyValue(request)
-                .retrieve()
-                .onStatus(
-                    status -> status.is4xxClientError() || status.is5xxServerError(),
-                    clientResponse -> clientResponse.bodyToMono(String.class)
-                        .map(errorBody -> {
-                            log.error("토스페이먼츠 에러 응답: status={}, body={}", 
-                                clientResponse.statusCode(), errorBody);
-                            return new RuntimeException("토스페이먼츠 API 오류: " + errorBody);
-                        })
-                )
-                .bodyToMono(TossPaymentResponse.class)
-                .block();
-            
-            log.info("토스페이먼츠 결제 승인 성공: paymentKey={}", response.getPaymentKey());
-            return response;
+            JsonNode code = ERROR_READER.readTree(errorBody).get("code");
+            return code != null && code.isTextual() ? code.asText() : null;
         } catch (Exception e) {
-            log.error("토스페이먼츠 결제 승인 실패: paymentKey={}, orderId={}, amount={}", 
-                request.getPaymentKey(), request.getOrderId(), request.getAmount(), e);
-            throw new RuntimeException("결제 승인 실패: " + e.getMessage(), e);
+            return null;
         }
     }
 }
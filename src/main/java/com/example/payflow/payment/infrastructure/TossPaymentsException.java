@@ -0,0 +1,34 @@
+package com.example.payflow.payment.infrastructure;
+
+import lombok.Getter;
+
+/**
+ * 토스페이먼츠 API 오류 응답 (4xx: 요청/카드 문제, 5xx: PG 장애)
+ */
+@Getter
+public class TossPaymentsException extends RuntimeException {
+
+    // 이미 승인된 결제를 다시 승인 요청한 경우 (시간 초과 후 재요청 등)
+    public static final String ALREADY_PROCESSED_PAYMENT = "ALREADY_PROCESSED_PAYMENT";
+
+    private final int statusCode;
+    private final String code; // 토스 오류 코드 (응답 본문 code, 없으면 null)
+
+    public TossPaymentsException(int statusCode, String message) {
+        this(statusCode, null, message);
+    }
+
+    public TossPaymentsException(int statusCode, String code, String message) {
+        super(message);
+        this.statusCode = statusCode;
+        this.code = code;
+    }
+
+    public boolean isServerError() {
+        return statusCode >= 500;
+    }
+
+    public boolean isAlreadyProcessed() {
+        return ALREADY_PROCESSED_PAYMENT.equals(code);
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.payflow.payment.presentation;
 
 import com.example.payflow.payment.application.PaymentService;
+import com.example.payflow.payment.application.dto.PaymentConfirmStats;
 import com.example.payflow.payment.presentation.dto.PaymentConfirmRequest;
 import com.example.payflow.payment.presentation.dto.PaymentResponse;
 import lombok.RequiredArgsConstructor;
@@ -8,6 +9,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.concurrent.CompletableFuture;
+
 @RestController
 @RequestMapping("/api/payments")
 @RequiredArgsConstructor
@@ -15,10 +18,18 @@ public class PaymentController {
     
     private final PaymentService paymentService;
     
+    /**
+     * 결제 승인 (PG 응답을 기다리는 동안 요청 스레드와 DB 커넥션을 잡지 않음)
+     */
     @PostMapping("/confirm")
-    public ResponseEntity<PaymentResponse> confirmPayment(@RequestBody PaymentConfirmRequest request) {
-        PaymentResponse response = paymentService.confirmPayment(request);
-        return ResponseEntity.ok(response);
+    public CompletableFuture<ResponseEntity<PaymentResponse>> confirmPayment(@RequestBody PaymentConfirmRequest request) {
+        return paymentService.confirmPayment(request)
+            .thenApply(ResponseEntity::ok);
+    }
+    
+    @GetMapping("/confirm/stats")
+    public ResponseEntity<PaymentConfirmStats> getConfirmStats() {
+        return ResponseEntity.ok(paymentService.getConfirmStats());
     }
     
     @GetMapping("/{orderId}")
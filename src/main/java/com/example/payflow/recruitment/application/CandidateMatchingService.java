@@ -19,10 +19,10 @@ public class CandidateMatchingService {
     private final SkillMatchingEngine skillMatchingEngine;
     
     // 가중치 설정
-    private static final double REQUIRED_SKILL_WEIGHT = 0.40;
-    private static final double PREFERRED_SKILL_WEIGHT = 0.20;
-    private static final double EXPERIENCE_WEIGHT = 0.25;
-    private static final double EDUCATION_WEIGHT = 0.15;
+    static final double REQUIRED_SKILL_WEIGHT = 0.40;
+    static final double PREFERRED_SKILL_WEIGHT = 0.20;
+    static final double EXPERIENCE_WEIGHT = 0.25;
+    static final double EDUCATION_WEIGHT = 0.15;
     
     /**
      * 지원자와 공고의 매칭 점수 계산 (0-100점)
@@ -1,7 +1,9 @@
 package com.example.payflow.recruitment.application;
 
 import com.example.payflow.recruitment.domain.*;
+import com.example.payflow.recruitment.domain.events.CandidateChanged;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,6 +17,7 @@ public class CandidateService {
     
     private final CandidateRepository candidateRepository;
     private final SkillRepository skillRepository;
+    private final ApplicationEventPublisher eventPublisher;
     
     @Transactional
     public Candidate createCandidate(String name, String email, String phone,
@@ -25,7 +28,9 @@ public class CandidateService {
         });
         
         Candidate candidate = Candidate.create(name, email, phone, education, university, major);
-        return candidateRepository.save(candidate);
+        Candidate saved = candidateRepository.save(candidate);
+        eventPublisher.publishEvent(new CandidateChanged(saved.getId()));
+        return saved;
     }
     
     @Transactional
@@ -44,6 +49,7 @@ public class CandidateService {
         
         candidate.addSkill(candidateSkill);
         candidateRepository.save(candidate);
+        eventPublisher.publishEvent(new CandidateChanged(candidateId));
     }
     
     @Transactional
@@ -60,6 +66,7 @@ public class CandidateService {
         
         candidate.addExperience(experience);
         candidateRepository.save(candidate);
+        eventPublisher.publishEvent(new CandidateChanged(candidateId));
     }
     
     @Transactional
@@ -0,0 +1,757 @@
+package com.example.payflow.recruitment.application;
+
+import com.example.payflow.recruitment.domain.*;
+import com.example.payflow.recruitment.domain.events.CandidateChanged;
+import com.example.payflow.recruitment.domain.events.SkillChanged;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.Period;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 지원자 기술 역색인 (지원자/기술 온톨로지를 원시 배열로 메모리에 보관)
+ * - 기술 slot 마다 보유 지원자 slot 목록(posting), 지원자 slot 마다 (기술, 숙련도, 기술 경력)을 long 하나로 묶은 배열
+ * - 공고 추천: 요구 기술과 같은/유사/같은 카테고리 기술의 posting 으로 후보를 모아 CandidateMatchingService 와 같은 식으로 채점
+ *   posting 에 걸리지 않은 지원자는 기술 점수가 요구사항당 0.5 이하(보유 기술이 없으면 0)라,
+ *   이 상한에 실제 경력/학력 점수를 더해도 상위 N(또는 50점)에 못 들면 채점하지 않고 건너뛴다
+ * - 유사 지원자: 대상 지원자 기술들의 posting 을 따라 교집합 개수를 세어 Jaccard 계산
+ * - 상위 N 은 크기 N 힙으로 고른다 (동점이면 id 가 작은 지원자 우선, 기존 findAll 순서와 같음)
+ * - 지원자/기술이 바뀌면 커밋 후 해당 지원자(기술이면 온톨로지)만 다시 읽는다
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class CandidateSkillIndex {
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int INITIAL_SKILL_CAPACITY = 64;
+    private static final int NO_YEARS = Integer.MIN_VALUE;
+    private static final int[] NO_SLOTS = new int[0];
+    private static final long[] NO_SKILLS = new long[0];
+    private static final LocalDate[] NO_DATES = new LocalDate[0];
+
+    private static final double MIN_RECOMMEND_SCORE = 50.0;
+    private static final double MIN_SIMILARITY = 0.3;
+    private static final double UNMATCHED_SKILL_MAX = 0.5; // 유사도 0 이면 숙련도 0.3 + 경력 0.2 가 최대
+    private static final double BOUND_SLACK = 0.01; // 최종 점수 반올림 여유
+
+    private final CandidateRepository candidateRepository;
+    private final SkillRepository skillRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // 기술 온톨로지 (기술 slot 은 한 번 정해지면 바뀌지 않음)
+    private final Map<Long, Integer> skillSlotById = new HashMap<>();
+    private int skillCount;
+    private int[] skillCategories = new int[INITIAL_SKILL_CAPACITY];
+    private double[] similarityScores = new double[INITIAL_SKILL_CAPACITY];
+    private int[][] similarSkillSlots = new int[INITIAL_SKILL_CAPACITY][]; // 기술 s 의 similarSkills
+    private int[][] similarToSlots = new int[INITIAL_SKILL_CAPACITY][];    // similarSkills 에 s 를 가진 기술
+    private int[][] categorySkillSlots = new int[SkillCategory.values().length][];
+    private int[][] postings = new int[INITIAL_SKILL_CAPACITY][];
+    private int[] postingSizes = new int[INITIAL_SKILL_CAPACITY];
+
+    // 지원자 (삭제 경로가 없으므로 slot 은 등록 순서대로 늘어난다)
+    private final Map<Long, Integer> slotByCandidateId = new HashMap<>();
+    private int candidateCount;
+    private long[] candidateIds = new long[INITIAL_CAPACITY];
+    private int[] educationLevels = new int[INITIAL_CAPACITY];
+    private long[][] candidateSkills = new long[INITIAL_CAPACITY][];
+    private int[][] distinctSkillSlots = new int[INITIAL_CAPACITY][];
+    private LocalDate[][] experienceStarts = new LocalDate[INITIAL_CAPACITY][];
+    private LocalDate[][] experienceEnds = new LocalDate[INITIAL_CAPACITY][]; // null 이면 재직 중
+    private volatile boolean loaded;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        ensureLoaded();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCandidateChanged(CandidateChanged event) {
+        ensureLoaded();
+        lock.writeLock().lock();
+        try {
+            Map<Long, CandidateRows> rows = new HashMap<>();
+            collectRows(rows, candidateRepository.findEducationRows(event.getCandidateId()),
+                    candidateRepository.findSkillRows(event.getCandidateId()),
+                    candidateRepository.findExperienceRows(event.getCandidateId()));
+            rows.forEach(this::upsert);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSkillChanged(SkillChanged event) {
+        ensureLoaded();
+        lock.writeLock().lock();
+        try {
+            loadOntology();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 공고 매칭 점수 50점 이상 지원자 중 상위 topN (점수는 CandidateMatchingService.calculateMatchingScore 와 같다)
+     */
+    public List<ScoredCandidate> recommendForJob(JobPosting jobPosting, int topN) {
+        ensureLoaded();
+        if (topN <= 0) {
+            return Collections.emptyList();
+        }
+        List<JobRequirement> requirements = jobPosting.getRequirements();
+        ensureSkills(requirements);
+
+        lock.readLock().lock();
+        try {
+            JobQuery query = new JobQuery(requirements);
+            TopN top = new TopN(Math.min(topN, candidateCount));
+
+            BitSet matched = query.matchedCandidates();
+            for (int slot = matched.nextSetBit(0); slot >= 0; slot = matched.nextSetBit(slot + 1)) {
+                top.offer(slot, query.score(slot), MIN_RECOMMEND_SCORE);
+            }
+
+            // posting 에 안 걸린 지원자: 경력/학력 만점 기준 상한으로도 못 들어오면 통째로 건너뛴다
+            if (query.unmatchedBound() + BOUND_SLACK >= top.threshold(MIN_RECOMMEND_SCORE)) {
+                for (int slot = matched.nextClearBit(0); slot < candidateCount; slot = matched.nextClearBit(slot + 1)) {
+                    if (query.unmatchedBound(slot) + BOUND_SLACK >= top.threshold(MIN_RECOMMEND_SCORE)) {
+                        top.offer(slot, query.score(slot), MIN_RECOMMEND_SCORE);
+                    }
+                }
+            }
+            return top.drain();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 보유 기술 Jaccard 유사도가 0.3 초과인 다른 지원자 상위 topN (색인에 없는 지원자면 빈 목록)
+     */
+    public List<ScoredCandidate> findSimilar(Long candidateId, int topN) {
+        ensureLoaded();
+        if (topN <= 0) {
+            return Collections.emptyList();
+        }
+        lock.readLock().lock();
+        try {
+            Integer target = slotByCandidateId.get(candidateId);
+            if (target == null) {
+                return Collections.emptyList();
+            }
+            int[] targetSkills = distinctSkillSlots[target];
+            int[] intersections = new int[candidateCount];
+            int[] reached = new int[candidateCount];
+            int reachedCount = 0;
+            for (int skill : targetSkills) {
+                int[] posting = postings[skill];
+                for (int i = 0; i < postingSizes[skill]; i++) {
+                    int slot = posting[i];
+                    if (intersections[slot]++ == 0) {
+                        reached[reachedCount++] = slot;
+                    }
+                }
+            }
+
+            TopN top = new TopN(Math.min(topN, reachedCount));
+            for (int i = 0; i < reachedCount; i++) {
+                int slot = reached[i];
+                if (slot == target) {
+                    continue;
+                }
+                int intersection = intersections[slot];
+                int union = targetSkills.length + distinctSkillSlots[slot].length - intersection;
+                double similarity = (double) intersection / union;
+                if (similarity > MIN_SIMILARITY) {
+                    top.offer(slot, similarity, MIN_SIMILARITY);
+                }
+            }
+            return top.drain();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            return candidateCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (loaded) {
+                return;
+            }
+            loadOntology();
+            Map<Long, CandidateRows> rows = new TreeMap<>();
+            collectRows(rows, candidateRepository.findEducationRows(), candidateRepository.findSkillRows(),
+                    candidateRepository.findExperienceRows());
+            rows.forEach(this::upsert);
+            loaded = true;
+            log.info("✅ 지원자 기술 색인 적재 완료: 지원자 {}명 / 기술 {}개", candidateCount, skillCount);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 요구 기술이 색인에 없으면(등록 직후 이벤트 전) 온톨로지를 다시 읽는다
+     */
+    private void ensureSkills(List<JobRequirement> requirements) {
+        lock.readLock().lock();
+        try {
+            if (requirements.stream().allMatch(r -> skillSlotById.containsKey(r.getSkill().getId()))) {
+                return;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        lock.writeLock().lock();
+        try {
+            loadOntology();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 쓰기 락 안에서 호출. 기존 기술 slot 은 유지하고 카테고리/유사도/유사 관계만 다시 만든다
+     */
+    private void loadOntology() {
+        for (Skill skill : skillRepository.findAll()) {
+            int slot = skillSlotById.computeIfAbsent(skill.getId(), id -> skillCount++);
+            ensureSkillCapacity(skillCount);
+            skillCategories[slot] = skill.getCategory().ordinal();
+            similarityScores[slot] = skill.getDefaultSimilarityScore();
+        }
+
+        List<List<Integer>> similar = new ArrayList<>(skillCount);
+        List<List<Integer>> similarTo = new ArrayList<>(skillCount);
+        for (int slot = 0; slot < skillCount; slot++) {
+            similar.add(new ArrayList<>());
+            similarTo.add(new ArrayList<>());
+        }
+        for (Object[] row : skillRepository.findSimilarityRows()) {
+            Integer skill = skillSlotById.get((Long) row[0]);
+            Integer similarSkill = skillSlotById.get((Long) row[1]);
+            if (skill != null && similarSkill != null) {
+                similar.get(skill).add(similarSkill);
+                similarTo.get(similarSkill).add(skill);
+            }
+        }
+
+        List<List<Integer>> byCategory = new ArrayList<>();
+        for (int i = 0; i < categorySkillSlots.length; i++) {
+            byCategory.add(new ArrayList<>());
+        }
+        for (int slot = 0; slot < skillCount; slot++) {
+            similarSkillSlots[slot] = toArray(similar.get(slot));
+            similarToSlots[slot] = toArray(similarTo.get(slot));
+            byCategory.get(skillCategories[slot]).add(slot);
+        }
+        for (int i = 0; i < categorySkillSlots.length; i++) {
+            categorySkillSlots[i] = toArray(byCategory.get(i));
+        }
+    }
+
+    private void collectRows(Map<Long, CandidateRows> rows, List<Object[]> educationRows,
+                             List<Object[]> skillRows, List<Object[]> experienceRows) {
+        for (Object[] row : educationRows) {
+            rows.put((Long) row[0], new CandidateRows((EducationLevel) row[1]));
+        }
+        for (Object[] row : skillRows) {
+            CandidateRows candidate = rows.get((Long) row[0]);
+            if (candidate != null) {
+                candidate.skills.add(row);
+            }
+        }
+        for (Object[] row : experienceRows) {
+            CandidateRows candidate = rows.get((Long) row[0]);
+            if (candidate != null) {
+                candidate.experiences.add(row);
+            }
+        }
+    }
+
+    /**
+     * 쓰기 락 안에서 호출. posting 은 바뀐 기술만 넣고 뺀다
+     */
+    private void upsert(Long candidateId, CandidateRows rows) {
+        if (rows.skills.stream().anyMatch(row -> !skillSlotById.containsKey((Long) row[1]))) {
+            loadOntology();
+        }
+
+        Integer existing = slotByCandidateId.get(candidateId);
+        int slot;
+        if (existing != null) {
+            slot = existing;
+        } else {
+            slot = candidateCount++;
+            ensureCapacity(candidateCount);
+            slotByCandidateId.put(candidateId, slot);
+            candidateIds[slot] = candidateId;
+            candidateSkills[slot] = NO_SKILLS;
+            distinctSkillSlots[slot] = NO_SLOTS;
+        }
+
+        educationLevels[slot] = rows.education.getLevel();
+
+        long[] skills = new long[rows.skills.size()];
+        int skillCountOfCandidate = 0;
+        for (Object[] row : rows.skills) {
+            Integer skill = skillSlotById.get((Long) row[1]);
+            if (skill != null) {
+                skills[skillCountOfCandidate++] = pack(skill, ((ProficiencyLevel) row[2]).getLevel(), (Integer) row[3]);
+            }
+        }
+        skills = Arrays.copyOf(skills, skillCountOfCandidate);
+
+        int[] distinct = Arrays.stream(skills).mapToInt(CandidateSkillIndex::skillOf).distinct().sorted().toArray();
+        int[] previous = distinctSkillSlots[slot];
+        for (int skill : previous) {
+            if (Arrays.binarySearch(distinct, skill) < 0) {
+                removePosting(skill, slot);
+            }
+        }
+        for (int skill : distinct) {
+            if (Arrays.binarySearch(previous, skill) < 0) {
+                addPosting(skill, slot);
+            }
+        }
+        candidateSkills[slot] = skills;
+        distinctSkillSlots[slot] = distinct;
+
+        LocalDate[] starts = new LocalDate[rows.experiences.size()];
+        LocalDate[] ends = new LocalDate[starts.length];
+        for (int i = 0; i < starts.length; i++) {
+            Object[] row = rows.experiences.get(i);
+            starts[i] = (LocalDate) row[1];
+            ends[i] = Boolean.TRUE.equals(row[3]) ? null : (LocalDate) row[2];
+        }
+        experienceStarts[slot] = starts.length == 0 ? NO_DATES : starts;
+        experienceEnds[slot] = ends.length == 0 ? NO_DATES : ends;
+    }
+
+    private void addPosting(int skill, int slot) {
+        int[] posting = postings[skill];
+        if (posting == null) {
+            posting = postings[skill] = new int[4];
+        } else if (postingSizes[skill] == posting.length) {
+            posting = postings[skill] = Arrays.copyOf(posting, posting.length * 2);
+        }
+        posting[postingSizes[skill]++] = slot;
+    }
+
+    private void removePosting(int skill, int slot) {
+        int[] posting = postings[skill];
+        for (int i = 0; i < postingSizes[skill]; i++) {
+            if (posting[i] == slot) {
+                posting[i] = posting[--postingSizes[skill]];
+                return;
+            }
+        }
+    }
+
+    private void ensureCapacity(int required) {
+        if (required <= candidateIds.length) {
+            return;
+        }
+        int capacity = Math.max(required, candidateIds.length * 2);
+        candidateIds = Arrays.copyOf(candidateIds, capacity);
+        educationLevels = Arrays.copyOf(educationLevels, capacity);
+        candidateSkills = Arrays.copyOf(candidateSkills, capacity);
+        distinctSkillSlots = Arrays.copyOf(distinctSkillSlots, capacity);
+        experienceStarts = Arrays.copyOf(experienceStarts, capacity);
+        experienceEnds = Arrays.copyOf(experienceEnds, capacity);
+    }
+
+    private void ensureSkillCapacity(int required) {
+        if (required <= skillCategories.length) {
+            return;
+        }
+        int capacity = Math.max(required, skillCategories.length * 2);
+        skillCategories = Arrays.copyOf(skillCategories, capacity);
+        similarityScores = Arrays.copyOf(similarityScores, capacity);
+        similarSkillSlots = Arrays.copyOf(similarSkillSlots, capacity);
+        similarToSlots = Arrays.copyOf(similarToSlots, capacity);
+        postings = Arrays.copyOf(postings, capacity);
+        postingSizes = Arrays.copyOf(postingSizes, capacity);
+    }
+
+    // 기술 slot(상위 24비트) | 숙련도(8비트) | 기술 경력 연수(하위 32비트, 없으면 NO_YEARS)
+    private static long pack(int skill, int proficiency, Integer years) {
+        return ((long) skill << 40) | ((long) proficiency << 32) | ((years != null ? years : NO_YEARS) & 0xFFFFFFFFL);
+    }
+
+    private static int skillOf(long packed) {
+        return (int) (packed >>> 40);
+    }
+
+    private static int proficiencyOf(long packed) {
+        return (int) (packed >>> 32) & 0xFF;
+    }
+
+    private static int yearsOf(long packed) {
+        return (int) packed;
+    }
+
+    private static int[] toArray(List<Integer> values) {
+        return values.isEmpty() ? NO_SLOTS : values.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /**
+     * SkillMatchingEngine.calculateSimilarity 와 같은 규칙 (정확 1.0 > 온톨로지 유사 > 같은 카테고리 0.5)
+     */
+    private double similarity(int candidateSkill, int requiredSkill) {
+        if (candidateSkill == requiredSkill) {
+            return 1.0;
+        }
+        for (int similar : similarSkillSlots[candidateSkill]) {
+            if (similar == requiredSkill) {
+                return similarityScores[candidateSkill];
+            }
+        }
+        if (skillCategories[candidateSkill] == skillCategories[requiredSkill]) {
+            return 0.5;
+        }
+        return 0.0;
+    }
+
+    private double educationScore(int slot) {
+        int level = educationLevels[slot];
+        if (level >= EducationLevel.BACHELOR.getLevel()) {
+            return 100.0;
+        }
+        return level * 25.0;
+    }
+
+    private int totalYearsOfExperience(int slot) {
+        LocalDate[] starts = experienceStarts[slot];
+        LocalDate[] ends = experienceEnds[slot];
+        LocalDate today = null;
+        int months = 0;
+        for (int i = 0; i < starts.length; i++) {
+            LocalDate end = ends[i];
+            if (end == null) {
+                end = today != null ? today : (today = LocalDate.now());
+            }
+            Period period = Period.between(starts[i], end);
+            months += period.getYears() * 12 + period.getMonths();
+        }
+        return months / 12;
+    }
+
+    /**
+     * 공고 하나에 대한 요청 단위 계산 (읽기 락 안에서 사용)
+     * - 요구사항을 기술 slot/최소 숙련도/최소 경력 원시 배열로 풀어 두고
+     * - 점수 식과 부동소수 연산 순서는 CandidateMatchingService / SkillMatchingEngine 과 같게 유지한다
+     */
+    private final class JobQuery {
+
+        private final int[] requiredSkills;
+        private final int[] requiredLevels;
+        private final int[] requiredYears;
+        private final int[] preferredSkills;
+        private final int[] preferredLevels;
+        private final int[] preferredYears;
+        private final int minExperienceYears;
+
+        private JobQuery(List<JobRequirement> requirements) {
+            List<JobRequirement> required = new ArrayList<>();
+            List<JobRequirement> preferred = new ArrayList<>();
+            int minYears = NO_YEARS;
+            for (JobRequirement requirement : requirements) {
+                if (requirement.getType() == RequirementType.REQUIRED) {
+                    required.add(requirement);
+                } else if (requirement.getType() == RequirementType.PREFERRED) {
+                    preferred.add(requirement);
+                }
+                Integer years = requirement.getMinYearsOfExperience();
+                if (years != null && (minYears == NO_YEARS || years < minYears)) {
+                    minYears = years;
+                }
+            }
+            requiredSkills = skills(required);
+            requiredLevels = levels(required);
+            requiredYears = years(required);
+            preferredSkills = skills(preferred);
+            preferredLevels = levels(preferred);
+            preferredYears = years(preferred);
+            minExperienceYears = minYears;
+        }
+
+        /**
+         * 요구 기술과 유사도가 0 보다 큰 기술(같은/유사/같은 카테고리)을 하나라도 가진 지원자
+         */
+        private BitSet matchedCandidates() {
+            BitSet visitedSkills = new BitSet(skillCount);
+            BitSet matched = new BitSet(candidateCount);
+            for (int[] skills : new int[][]{requiredSkills, preferredSkills}) {
+                for (int requiredSkill : skills) {
+                    visit(requiredSkill, visitedSkills, matched);
+                    for (int skill : similarToSlots[requiredSkill]) {
+                        visit(skill, visitedSkills, matched);
+                    }
+                    for (int skill : categorySkillSlots[skillCategories[requiredSkill]]) {
+                        visit(skill, visitedSkills, matched);
+                    }
+                }
+            }
+            return matched;
+        }
+
+        private void visit(int skill, BitSet visitedSkills, BitSet matched) {
+            if (visitedSkills.get(skill)) {
+                return;
+            }
+            visitedSkills.set(skill);
+            int[] posting = postings[skill];
+            for (int i = 0; i < postingSizes[skill]; i++) {
+                matched.set(posting[i]);
+            }
+        }
+
+        /**
+         * posting 에 걸리지 않은 어떤 지원자도 넘을 수 없는 점수 상한 (경력 점수는 최소 경력 요건이 있으면 최대 120점)
+         */
+        private double unmatchedBound() {
+            return bound(UNMATCHED_SKILL_MAX, minExperienceYears == NO_YEARS ? 100.0 : 120.0, 100.0);
+        }
+
+        /**
+         * posting 에 걸리지 않은 지원자 한 명의 점수 상한 (경력/학력은 실제 점수, 보유 기술이 없으면 기술 점수 0)
+         * 필수/우대 요구사항이 모두 있으면 기술 없는 지원자는 최대 45점이라 50점 기준에 걸러진다
+         */
+        private double unmatchedBound(int slot) {
+            double skillMax = candidateSkills[slot].length == 0 ? 0.0 : UNMATCHED_SKILL_MAX;
+            return bound(skillMax, experienceScore(slot), educationScore(slot));
+        }
+
+        private double bound(double skillMax, double experienceScore, double educationScore) {
+            double requiredBound = requiredSkills.length == 0 ? 100.0 : skillMax * 100.0;
+            double preferredBound = preferredSkills.length == 0 ? 100.0 : skillMax * 100.0;
+            return requiredBound * CandidateMatchingService.REQUIRED_SKILL_WEIGHT
+                    + preferredBound * CandidateMatchingService.PREFERRED_SKILL_WEIGHT
+                    + experienceScore * CandidateMatchingService.EXPERIENCE_WEIGHT
+                    + educationScore * CandidateMatchingService.EDUCATION_WEIGHT;
+        }
+
+        private double score(int slot) {
+            double requiredSkillScore = skillScore(slot, requiredSkills, requiredLevels, requiredYears);
+            double preferredSkillScore = skillScore(slot, preferredSkills, preferredLevels, preferredYears);
+            double experienceScore = experienceScore(slot);
+            double educationScore = educationScore(slot);
+
+            double totalScore = (requiredSkillScore * CandidateMatchingService.REQUIRED_SKILL_WEIGHT) +
+                               (preferredSkillScore * CandidateMatchingService.PREFERRED_SKILL_WEIGHT) +
+                               (experienceScore * CandidateMatchingService.EXPERIENCE_WEIGHT) +
+                               (educationScore * CandidateMatchingService.EDUCATION_WEIGHT);
+
+            return Math.round(totalScore * 100.0) / 100.0;
+        }
+
+        private double skillScore(int slot, int[] skills, int[] levels, int[] years) {
+            if (skills.length == 0) {
+                return 100.0;
+            }
+            double totalScore = 0.0;
+            for (int i = 0; i < skills.length; i++) {
+                totalScore += bestSkillMatch(slot, skills[i], levels[i], years[i]);
+            }
+            return (totalScore / skills.length) * 100.0;
+        }
+
+        private double bestSkillMatch(int slot, int requiredSkill, int requiredLevel, int requiredYears) {
+            double bestScore = 0.0;
+            for (long packed : candidateSkills[slot]) {
+                double similarityScore = similarity(skillOf(packed), requiredSkill);
+
+                int level = proficiencyOf(packed);
+                double proficiencyScore = requiredLevel == 0 || level >= requiredLevel
+                        ? 1.0 : (double) level / requiredLevel;
+
+                int years = yearsOf(packed);
+                double experienceScore;
+                if (requiredYears == NO_YEARS || requiredYears == 0) {
+                    experienceScore = 1.0;
+                } else if (years == NO_YEARS) {
+                    experienceScore = 0.0;
+                } else {
+                    experienceScore = years >= requiredYears ? 1.0 : (double) years / requiredYears;
+                }
+
+                double totalScore = (similarityScore * 0.5) + (proficiencyScore * 0.3) + (experienceScore * 0.2);
+                bestScore = Math.max(bestScore, totalScore);
+            }
+            return bestScore;
+        }
+
+        private double experienceScore(int slot) {
+            if (minExperienceYears == NO_YEARS) {
+                return 100.0;
+            }
+            int candidateYears = totalYearsOfExperience(slot);
+            if (candidateYears >= minExperienceYears) {
+                double bonus = Math.min(20.0, (candidateYears - minExperienceYears) * 5.0);
+                return Math.min(120.0, 100.0 + bonus);
+            }
+            return (double) candidateYears / minExperienceYears * 100.0;
+        }
+
+        private int[] skills(List<JobRequirement> requirements) {
+            return requirements.stream().mapToInt(r -> skillSlotById.get(r.getSkill().getId())).toArray();
+        }
+
+        private int[] levels(List<JobRequirement> requirements) {
+            return requirements.stream()
+                    .mapToInt(r -> r.getMinProficiency() != null ? r.getMinProficiency().getLevel() : 0)
+                    .toArray();
+        }
+
+        private int[] years(List<JobRequirement> requirements) {
+            return requirements.stream()
+                    .mapToInt(r -> r.getMinYearsOfExperience() != null ? r.getMinYearsOfExperience() : NO_YEARS)
+                    .toArray();
+        }
+    }
+
+    /**
+     * 점수 상위 N 개를 고르는 힙 (루트가 가장 나쁜 후보)
+     */
+    private final class TopN {
+
+        private final int[] slots;
+        private final double[] scores;
+        private int size;
+
+        private TopN(int capacity) {
+            slots = new int[capacity];
+            scores = new double[capacity];
+        }
+
+        /**
+         * 새 후보가 들어오려면 넘어야 하는 점수 (가득 차지 않았으면 minimum)
+         */
+        private double threshold(double minimum) {
+            return size < slots.length ? minimum : Math.max(minimum, scores[0]);
+        }
+
+        private void offer(int slot, double score, double minimum) {
+            if (score < minimum || slots.length == 0) {
+                return;
+            }
+            if (size < slots.length) {
+                slots[size] = slot;
+                scores[size] = score;
+                siftUp(size++);
+            } else if (better(score, slot, scores[0], slots[0])) {
+                slots[0] = slot;
+                scores[0] = score;
+                siftDown();
+            }
+        }
+
+        private List<ScoredCandidate> drain() {
+            List<ScoredCandidate> result = new ArrayList<>(size);
+            while (size > 0) {
+                result.add(new ScoredCandidate(candidateIds[slots[0]], scores[0]));
+                slots[0] = slots[--size];
+                scores[0] = scores[size];
+                siftDown();
+            }
+            Collections.reverse(result);
+            return result;
+        }
+
+        /**
+         * 점수가 높을수록, 같으면 id 가 작을수록 앞
+         */
+        private boolean better(double score, int slot, double otherScore, int otherSlot) {
+            if (score != otherScore) {
+                return score > otherScore;
+            }
+            return candidateIds[slot] < candidateIds[otherSlot];
+        }
+
+        private void siftUp(int index) {
+            while (index > 0) {
+                int parent = (index - 1) >>> 1;
+                if (!better(scores[parent], slots[parent], scores[index], slots[index])) {
+                    return;
+                }
+                swap(parent, index);
+                index = parent;
+            }
+        }
+
+        private void siftDown() {
+            int index = 0;
+            while (true) {
+                int worst = index;
+                int left = 2 * index + 1;
+                int right = left + 1;
+                if (left < size && better(scores[worst], slots[worst], scores[left], slots[left])) {
+                    worst = left;
+                }
+                if (right < size && better(scores[worst], slots[worst], scores[right], slots[right])) {
+                    worst = right;
+                }
+                if (worst == index) {
+                    return;
+                }
+                swap(index, worst);
+                index = worst;
+            }
+        }
+
+        private void swap(int i, int j) {
+            int slot = slots[i];
+            slots[i] = slots[j];
+            slots[j] = slot;
+            double score = scores[i];
+            scores[i] = scores[j];
+            scores[j] = score;
+        }
+    }
+
+    private static final class CandidateRows {
+        private final EducationLevel education;
+        private final List<Object[]> skills = new ArrayList<>();
+        private final List<Object[]> experiences = new ArrayList<>();
+
+        private CandidateRows(EducationLevel education) {
+            this.education = education;
+        }
+    }
+
+    /**
+     * 지원자 id 와 점수 (공고 추천이면 매칭 점수, 유사 지원자면 Jaccard 유사도)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class ScoredCandidate {
+        private final Long candidateId;
+        private final double score;
+    }
+}
@@ -20,24 +20,21 @@ public class RecommendationEngine {
     private final CandidateRepository candidateRepository;
     private final JobPostingRepository jobPostingRepository;
     private final CandidateMatchingService matchingService;
+    private final CandidateSkillIndex candidateSkillIndex;
     
     /**
-     * 공고에 적합한 Top N 지원자 추천
+     * 공고에 적합한 Top N 지원자 추천 (기술 역색인으로 후보를 좁히고 상위 N 명만 엔티티로 읽는다)
      */
     public List<CandidateRecommendation> recommendCandidatesForJob(Long jobPostingId, int topN) {
         JobPosting jobPosting = jobPostingRepository.findById(jobPostingId)
             .orElseThrow(() -> new IllegalArgumentException("공고를 찾을 수 없습니다: " + jobPostingId));
         
-        List<Candidate> allCandidates = candidateRepository.findAll();
+        List<CandidateSkillIndex.ScoredCandidate> scored = candidateSkillIndex.recommendForJob(jobPosting, topN);
+        Map<Long, Candidate> candidates = loadCandidates(scored);
         
-        return allCandidates.stream()
-            .map(candidate -> {
-                double score = matchingService.calculateMatchingScore(candidate, jobPosting);
-                return new CandidateRecommendation(candidate, score);
-            })
-            .filter(rec -> rec.getScore() >= 50.0) // 50점 이상만
-            .sorted(Comparator.comparingDouble(CandidateRecommendation::getScore).reversed())
-            .limit(topN)
+        return scored.stream()
+            .filter(sc -> candidates.containsKey(sc.getCandidateId()))
+            .map(sc -> new CandidateRecommendation(candidates.get(sc.getCandidateId()), sc.getScore()))
             .collect(Collectors.toList());
     }
     
@@ -63,42 +60,28 @@ public class RecommendationEngine {
     }
     
     /**
-     * 유사한 지원자 찾기 (기술 기반)
+     * 유사한 지원자 찾기 (기술 Jaccard 유사도, 겹치는 기술이 있는 지원자만 계산)
      */
     public List<Candidate> findSimilarCandidates(Long candidateId, int topN) {
-        Candidate targetCandidate = candidateRepository.findById(candidateId)
-            .orElseThrow(() -> new IllegalArgumentException("지원자를 찾을 수 없습니다: " + candidateId));
-        
-        Set<Long> targetSkillIds = targetCandidate.getSkills().stream()
-            .map(cs -> cs.getSkill().getId())
-            .collect(Collectors.toSet());
+        if (!candidateRepository.existsById(candidateId)) {
+            throw new IllegalArgumentException("지원자를 찾을 수 없습니다: " + candidateId);
+        }
         
-        List<Candidate> allCandidates = candidateRepository.findAll();
+        List<CandidateSkillIndex.ScoredCandidate> similar = candidateSkillIndex.findSimilar(candidateId, topN);
+        Map<Long, Candidate> candidates = loadCandidates(similar);
         
-        return allCandidates.stream()
-            .filter(c -> !c.getId().equals(candidateId))
-            .map(candidate -> {
-                Set<Long> candidateSkillIds = candidate.getSkills().stream()
-                    .map(cs -> cs.getSkill().getId())
-                    .collect(Collectors.toSet());
-                
-                // Jaccard 유사도
-                Set<Long> intersection = new HashSet<>(targetSkillIds);
-                intersection.retainAll(candidateSkillIds);
-                
-                Set<Long> union = new HashSet<>(targetSkillIds);
-                union.addAll(candidateSkillIds);
-                
-                double similarity = union.isEmpty() ? 0.0 : 
-                    (double) intersection.size() / union.size();
-                
-                return new SimilarCandidate(candidate, similarity);
-            })
-            .filter(sc -> sc.getSimilarity() > 0.3)
-            .sorted(Comparator.comparingDouble(SimilarCandidate::getSimilarity).reversed())
-            .limit(topN)
-            .map(SimilarCandidate::getCandidate)
+        return similar.stream()
+            .map(sc -> candidates.get(sc.getCandidateId()))
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
+    }
+    
+    private Map<Long, Candidate> loadCandidates(List<CandidateSkillIndex.ScoredCandidate> scored) {
+        List<Long> ids = scored.stream()
+            .map(CandidateSkillIndex.ScoredCandidate::getCandidateId)
             .collect(Collectors.toList());
+        return candidateRepository.findAllById(ids).stream()
+            .collect(Collectors.toMap(Candidate::getId, c -> c));
     }
     
     public static class CandidateRecommendation {
@@ -126,17 +109,4 @@ public class RecommendationEngine {
         public JobPosting getJobPosting() { return jobPosting; }
         public double getScore() { return score; }
     }
-    
-    private static class SimilarCandidate {
-        private final Candidate candidate;
-        private final double similarity;
-        
-        public SimilarCandidate(Candidate candidate, double similarity) {
-            this.candidate = candidate;
-            this.similarity = similarity;
-        }
-        
-        public Candidate getCandidate() { return candidate; }
-        public double getSimilarity() { return similarity; }
-    }
 }
@@ -3,7 +3,9 @@ package com.example.payflow.recruitment.application;
 import com.example.payflow.recruitment.domain.Skill;
 import com.example.payflow.recruitment.domain.SkillCategory;
 import com.example.payflow.recruitment.domain.SkillRepository;
+import com.example.payflow.recruitment.domain.events.SkillChanged;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,6 +17,7 @@ import java.util.List;
 public class SkillService {
     
     private final SkillRepository skillRepository;
+    private final ApplicationEventPublisher eventPublisher;
     
     @Transactional
     public Skill createSkill(String name, SkillCategory category, String description) {
@@ -23,7 +26,9 @@ public class SkillService {
         });
         
         Skill skill = Skill.create(name, category, description);
-        return skillRepository.save(skill);
+        Skill saved = skillRepository.save(skill);
+        eventPublisher.publishEvent(new SkillChanged(saved.getId()));
+        return saved;
     }
     
     @Transactional
@@ -36,6 +41,7 @@ public class SkillService {
         
         skill.addSimilarSkill(similarSkill);
         skillRepository.save(skill);
+        eventPublisher.publishEvent(new SkillChanged(skillId));
     }
     
     public Skill getSkill(Long id) {
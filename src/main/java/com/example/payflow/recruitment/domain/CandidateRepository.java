@@ -18,4 +18,25 @@ public interface CandidateRepository extends JpaRepository<Candidate, Long> {
     
     @Query("SELECT c FROM Candidate c WHERE c.education >= :minEducation")
     List<Candidate> findByMinEducation(@Param("minEducation") EducationLevel minEducation);
+    
+    // 추천 색인 적재용 (엔티티/지연 로딩 없이 필요한 컬럼만)
+    @Query("SELECT c.id, c.education FROM Candidate c")
+    List<Object[]> findEducationRows();
+    
+    @Query("SELECT c.id, c.education FROM Candidate c WHERE c.id = :candidateId")
+    List<Object[]> findEducationRows(@Param("candidateId") Long candidateId);
+    
+    @Query("SELECT cs.candidate.id, cs.skill.id, cs.proficiencyLevel, cs.yearsOfExperience FROM CandidateSkill cs")
+    List<Object[]> findSkillRows();
+    
+    @Query("SELECT cs.candidate.id, cs.skill.id, cs.proficiencyLevel, cs.yearsOfExperience FROM CandidateSkill cs " +
+           "WHERE cs.candidate.id = :candidateId")
+    List<Object[]> findSkillRows(@Param("candidateId") Long candidateId);
+    
+    @Query("SELECT we.candidate.id, we.startDate, we.endDate, we.currentlyWorking FROM WorkExperience we")
+    List<Object[]> findExperienceRows();
+    
+    @Query("SELECT we.candidate.id, we.startDate, we.endDate, we.currentlyWorking FROM WorkExperience we " +
+           "WHERE we.candidate.id = :candidateId")
+    List<Object[]> findExperienceRows(@Param("candidateId") Long candidateId);
 }
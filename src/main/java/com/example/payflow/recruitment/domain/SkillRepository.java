@@ -18,4 +18,8 @@ public interface SkillRepository extends JpaRepository<Skill, Long> {
     
     @Query("SELECT s FROM Skill s JOIN s.similarSkills ss WHERE ss.id = :skillId")
     List<Skill> findSimilarSkills(@Param("skillId") Long skillId);
+    
+    // 추천 색인 적재용: (기술 id, 유사 기술 id)
+    @Query("SELECT s.id, ss.id FROM Skill s JOIN s.similarSkills ss")
+    List<Object[]> findSimilarityRows();
 }
@@ -0,0 +1,13 @@
+package com.example.payflow.recruitment.domain.events;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 지원자 등록/기술 추가/경력 추가 (커밋 후 추천 색인 갱신용)
+ */
+@Getter
+@AllArgsConstructor
+public class CandidateChanged {
+    private final Long candidateId;
+}
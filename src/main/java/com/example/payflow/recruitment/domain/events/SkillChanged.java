@@ -0,0 +1,13 @@
+package com.example.payflow.recruitment.domain.events;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 기술 등록/유사 기술 관계 추가 (커밋 후 추천 색인의 온톨로지 갱신용)
+ */
+@Getter
+@AllArgsConstructor
+public class SkillChanged {
+    private final Long skillId;
+}
@@ -0,0 +1,297 @@
+package com.example.payflow.saga.application;
+
+import com.example.payflow.common.metrics.LatencyHistogram;
+import com.example.payflow.saga.application.dto.SagaEngineStats;
+import com.example.payflow.saga.domain.OrderSagaRepository;
+import com.example.payflow.saga.domain.SagaStatus;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionTimedOutException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 비동기 Saga 실행 엔진
+ * - 요청 스레드는 Saga 를 저장하고 돌아가며, 커밋 후 워커 풀이 단계를 하나씩 별도 트랜잭션(타임아웃 = 단계 기한)으로 실행
+ * - 실패 시 지수 백오프 재시도 → 소진하거나 업무 오류면 보상 단계로 전환 (SagaStepExecutor 참고)
+ * - 스위퍼가 단계 기한이 지난 Saga 를 시간 초과로 처리해 다시 디스패치 (워커 유실/프로세스 중단 대비)
+ * - 기동 시 진행 중(STARTED/COMPENSATING) Saga 를 저장된 단계부터 이어서 실행
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SagaExecutionEngine {
+
+    private static final List<SagaStatus> IN_FLIGHT = List.of(SagaStatus.STARTED, SagaStatus.COMPENSATING);
+    private static final long SHUTDOWN_TIMEOUT_MS = 5_000;
+
+    private final SagaStepExecutor stepExecutor;
+    private final OrderSagaRepository sagaRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${saga.engine.worker-threads:8}")
+    private int workerThreads;
+
+    @Value("${saga.engine.sweep-interval-ms:1000}")
+    private long sweepIntervalMillis;
+
+    @Value("${saga.engine.sweep-batch-size:500}")
+    private int sweepBatchSize;
+
+    private ThreadPoolExecutor workers;
+    private ScheduledExecutorService scheduler;
+    private TransactionTemplate stepTransaction;
+    private TransactionTemplate controlTransaction;
+
+    // 큐에 들어가 아직 워커가 집어 가지 않은 Saga (같은 Saga 중복 디스패치 방지)
+    private final Set<String> queued = ConcurrentHashMap.newKeySet();
+
+    private final Map<SagaStepExecutor.Step, LatencyHistogram> stepLatency = new EnumMap<>(SagaStepExecutor.Step.class);
+    private final LatencyHistogram queueWait = new LatencyHistogram();
+    private final LatencyHistogram sagaLatency = new LatencyHistogram();
+    private final AtomicLong started = new AtomicLong();
+    private final AtomicLong resumed = new AtomicLong();
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong compensated = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong retries = new AtomicLong();
+    private final AtomicLong timeouts = new AtomicLong();
+    private final AtomicLong stepsExecuted = new AtomicLong();
+    private final AtomicInteger pendingRetries = new AtomicInteger();
+    private final long startedAtMillis = System.currentTimeMillis();
+
+    @PostConstruct
+    public void init() {
+        for (SagaStepExecutor.Step step : SagaStepExecutor.Step.values()) {
+            if (step != SagaStepExecutor.Step.NONE) {
+                stepLatency.put(step, new LatencyHistogram());
+            }
+        }
+
+        stepTransaction = new TransactionTemplate(transactionManager);
+        stepTransaction.setTimeout((int) Math.max(1, (stepExecutor.getStepTimeoutMillis() + 999) / 1_000));
+        controlTransaction = new TransactionTemplate(transactionManager);
+
+        AtomicInteger sequence = new AtomicInteger();
+        workers = new ThreadPoolExecutor(workerThreads, workerThreads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), r -> {
+                    Thread thread = new Thread(r, "saga-worker-" + sequence.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "saga-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::sweepExpired, sweepIntervalMillis, sweepIntervalMillis, TimeUnit.MILLISECONDS);
+        log.info("🚀 Saga 실행 엔진 시작 - workers={}, stepTimeout={}ms", workerThreads, stepExecutor.getStepTimeoutMillis());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+        workers.shutdown();
+        try {
+            if (!workers.awaitTermination(SHUTDOWN_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                workers.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // 실행하지 못한 Saga 는 저장된 단계에서 다음 기동 시 이어서 실행
+        log.info("Saga 실행 엔진 종료 - 미실행 {}건은 재시작 후 재개", queued.size());
+    }
+
+    /**
+     * 새 Saga 실행 요청 (트랜잭션 안이면 커밋 후 디스패치)
+     */
+    public void submit(String sagaId) {
+        started.incrementAndGet();
+        afterCommit(() -> dispatch(sagaId));
+    }
+
+    /**
+     * 재시작 후 진행 중이던 Saga 이어서 실행
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInFlight() {
+        try {
+            List<String> sagaIds = sagaRepository.findSagaIdsByStatusIn(IN_FLIGHT);
+            sagaIds.forEach(this::dispatch);
+            resumed.addAndGet(sagaIds.size());
+            if (!sagaIds.isEmpty()) {
+                log.info("🔁 진행 중이던 Saga {}건 재개", sagaIds.size());
+            }
+        } catch (Exception e) {
+            log.error("진행 중 Saga 재개 실패 - 스위퍼가 기한 초과분부터 처리", e);
+        }
+    }
+
+    public SagaEngineStats getStats() {
+        Map<String, Map<String, Object>> steps = new LinkedHashMap<>();
+        stepLatency.forEach((step, histogram) -> steps.put(step.name(), histogram.snapshot()));
+        double uptimeSeconds = Math.max(1, System.currentTimeMillis() - startedAtMillis) / 1_000.0;
+        return SagaEngineStats.builder()
+                .workerThreads(workerThreads)
+                .stepTimeoutMillis(stepExecutor.getStepTimeoutMillis())
+                .activeWorkers(workers.getActiveCount())
+                .queuedSagas(queued.size())
+                .pendingRetries(pendingRetries.get())
+                .started(started.get())
+                .resumed(resumed.get())
+                .completed(completed.get())
+                .compensated(compensated.get())
+                .failed(failed.get())
+                .retries(retries.get())
+                .timeouts(timeouts.get())
+                .stepsExecuted(stepsExecuted.get())
+                .finishedPerSecond((completed.get() + compensated.get() + failed.get()) / uptimeSeconds)
+                .stepsPerSecond(stepsExecuted.get() / uptimeSeconds)
+                .queueWait(queueWait.snapshot())
+                .stepLatency(steps)
+                .sagaLatency(sagaLatency.snapshot())
+                .build();
+    }
+
+    private void dispatch(String sagaId) {
+        if (!queued.add(sagaId)) {
+            return;
+        }
+        long enqueuedAt = System.nanoTime();
+        try {
+            workers.execute(() -> runStep(sagaId, enqueuedAt));
+        } catch (RejectedExecutionException e) {
+            queued.remove(sagaId);
+            log.warn("Saga 디스패치 거부 (엔진 종료 중) - 재시작 후 재개: sagaId={}", sagaId);
+        }
+    }
+
+    private void runStep(String sagaId, long enqueuedAt) {
+        queued.remove(sagaId);
+        long begin = System.nanoTime();
+        queueWait.recordNanos(begin - enqueuedAt);
+
+        SagaStepExecutor.StepResult result;
+        try {
+            result = stepTransaction.execute(status -> stepExecutor.executeCurrentStep(sagaId));
+        } catch (Exception e) {
+            onStepFailure(sagaId, e);
+            return;
+        }
+        if (result == null || result.getStep() == SagaStepExecutor.Step.NONE) {
+            return;
+        }
+
+        stepsExecuted.incrementAndGet();
+        stepLatency.get(result.getStep()).recordNanos(System.nanoTime() - begin);
+        if (!result.getStep().isTerminal()) {
+            dispatch(sagaId);
+            return;
+        }
+        (result.getStep() == SagaStepExecutor.Step.COMPLETE ? completed : compensated).incrementAndGet();
+        if (result.getSagaCreatedAt() != null) {
+            sagaLatency.recordMicros(Duration.between(result.getSagaCreatedAt(), LocalDateTime.now()).toNanos() / 1_000);
+        }
+    }
+
+    private void onStepFailure(String sagaId, Exception e) {
+        boolean business = e instanceof IllegalArgumentException || e instanceof IllegalStateException;
+        if (e instanceof TransactionTimedOutException || e instanceof QueryTimeoutException) {
+            timeouts.incrementAndGet();
+        }
+        if (!business) {
+            log.warn("Saga 단계 일시 오류: sagaId={}, error={}", sagaId, e.toString());
+        }
+        try {
+            apply(sagaId, controlTransaction.execute(status ->
+                    stepExecutor.handleFailure(sagaId, e.getMessage(), !business)));
+        } catch (Exception failure) {
+            // 기록하지 못하면 기한이 지난 뒤 스위퍼가 다시 처리
+            log.error("Saga 실패 기록 실패 - 기한 초과 후 재처리: sagaId={}", sagaId, failure);
+        }
+    }
+
+    private void sweepExpired() {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            List<String> expired = sagaRepository.findExpiredSagaIds(IN_FLIGHT, now, PageRequest.of(0, sweepBatchSize));
+            for (String sagaId : expired) {
+                // 큐에서 차례를 기다리는 Saga 는 대기 시간 때문에 기한을 넘겼을 뿐이므로 건너뜀
+                if (queued.contains(sagaId)) {
+                    continue;
+                }
+                SagaStepExecutor.FailureDecision decision = controlTransaction.execute(status ->
+                        stepExecutor.handleTimeout(sagaId, now));
+                if (decision != null && decision.getAction() != SagaStepExecutor.FailureAction.NONE) {
+                    timeouts.incrementAndGet();
+                    // 이미 기한만큼 기다렸으므로 백오프 없이 바로 재시도
+                    apply(sagaId, new SagaStepExecutor.FailureDecision(decision.getAction(), 0));
+                }
+            }
+        } catch (Exception e) {
+            log.error("Saga 기한 초과 스윕 실패", e);
+        }
+    }
+
+    private void apply(String sagaId, SagaStepExecutor.FailureDecision decision) {
+        if (decision == null) {
+            return;
+        }
+        switch (decision.getAction()) {
+            case RETRY -> {
+                retries.incrementAndGet();
+                scheduleRetry(sagaId, decision.getRetryDelayMillis());
+            }
+            case COMPENSATE -> dispatch(sagaId);
+            case FAILED -> failed.incrementAndGet();
+            default -> { }
+        }
+    }
+
+    private void scheduleRetry(String sagaId, long delayMillis) {
+        if (delayMillis <= 0) {
+            dispatch(sagaId);
+            return;
+        }
+        pendingRetries.incrementAndGet();
+        try {
+            scheduler.schedule(() -> {
+                pendingRetries.decrementAndGet();
+                dispatch(sagaId);
+            }, delayMillis, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            pendingRetries.decrementAndGet();
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
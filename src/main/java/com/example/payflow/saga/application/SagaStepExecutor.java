@@ -0,0 +1,286 @@
+package com.example.payflow.saga.application;
+
+import com.example.payflow.inventory.domain.*;
+import com.example.payflow.order.domain.Order;
+import com.example.payflow.order.domain.OrderRepository;
+import com.example.payflow.order.domain.OrderStatus;
+import com.example.payflow.payment.domain.Payment;
+import com.example.payflow.payment.domain.PaymentRepository;
+import com.example.payflow.payment.domain.PaymentStatus;
+import com.example.payflow.saga.domain.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * Saga 단계 실행기 (호출자가 연 트랜잭션 안에서 실행)
+ * - 단계마다 Saga 행을 잠그고 현재 단계를 다시 확인한 뒤 하나만 실행 → 중복 디스패치/재시도가 와도 같은 단계가 두 번 반영되지 않음
+ * - 단계 결과와 다음 단계 기한을 같은 트랜잭션에서 저장 (재시작 후 저장된 단계부터 이어서 실행)
+ * - 보상 단계도 이미 취소된 예약/결제/주문은 건너뛰어 재실행해도 안전
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class SagaStepExecutor {
+
+    private final OrderSagaRepository sagaRepository;
+    private final OrderRepository orderRepository;
+    private final PaymentRepository paymentRepository;
+    private final InventoryRepository inventoryRepository;
+    private final InventoryReservationRepository reservationRepository;
+
+    @Value("${saga.engine.step-timeout-ms:5000}")
+    private long stepTimeoutMillis;
+
+    @Value("${saga.engine.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${saga.engine.retry-backoff-ms:200}")
+    private long retryBackoffMillis;
+
+    public enum Step {
+        NONE(false),
+        PROCESS_PAYMENT(false),
+        RESERVE_INVENTORY(false),
+        COMPLETE(true),
+        COMPENSATE(true);
+
+        private final boolean terminal;
+
+        Step(boolean terminal) {
+            this.terminal = terminal;
+        }
+
+        public boolean isTerminal() {
+            return terminal;
+        }
+    }
+
+    public enum FailureAction {
+        NONE,        // 이미 끝났거나 다른 워커가 처리함
+        RETRY,       // retryDelayMillis 뒤 같은 단계 재시도
+        COMPENSATE,  // 보상 단계로 전환
+        FAILED       // 보상까지 실패
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class StepResult {
+        private final Step step;
+        private final LocalDateTime sagaCreatedAt;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class FailureDecision {
+        private final FailureAction action;
+        private final long retryDelayMillis;
+    }
+
+    public long getStepTimeoutMillis() {
+        return stepTimeoutMillis;
+    }
+
+    /**
+     * 지금 시작하는 단계의 완료 기한
+     */
+    public LocalDateTime nextDeadline() {
+        return LocalDateTime.now().plusNanos(stepTimeoutMillis * 1_000_000);
+    }
+
+    /**
+     * 현재 단계 하나 실행. 끝난 Saga 면 NONE
+     * 업무 오류(IllegalArgumentException/IllegalStateException)와 일시 오류 모두 그대로 던진다 - 호출자가 롤백 후 handleFailure 호출
+     */
+    public StepResult executeCurrentStep(String sagaId) {
+        OrderSaga saga = sagaRepository.findBySagaIdForUpdate(sagaId)
+                .orElseThrow(() -> new IllegalArgumentException("Saga를 찾을 수 없습니다."));
+        if (saga.isFinished()) {
+            return new StepResult(Step.NONE, saga.getCreatedAt());
+        }
+
+        Step step;
+        if (saga.getStatus() == SagaStatus.COMPENSATING) {
+            compensate(saga);
+            step = Step.COMPENSATE;
+        } else {
+            switch (saga.getCurrentStep()) {
+                case ORDER_CREATED -> {
+                    processPayment(saga);
+                    step = Step.PROCESS_PAYMENT;
+                }
+                case PAYMENT_PROCESSED -> {
+                    reserveInventory(saga);
+                    step = Step.RESERVE_INVENTORY;
+                }
+                case INVENTORY_RESERVED -> {
+                    saga.complete();
+                    log.info("🎉 Saga 완료: sagaId={}", sagaId);
+                    step = Step.COMPLETE;
+                }
+                default -> step = Step.NONE;
+            }
+        }
+        sagaRepository.save(saga);
+        return new StepResult(step, saga.getCreatedAt());
+    }
+
+    /**
+     * 단계 실패 처리 (단계 트랜잭션 롤백 후 새 트랜잭션에서 호출)
+     * - 재시도 가능한 오류는 max-attempts 까지 지수 백오프로 재시도, 업무 오류나 재시도 소진 시 보상으로 전환
+     * - 보상 단계 실패는 max-attempts 까지 재시도 후 FAILED
+     */
+    public FailureDecision handleFailure(String sagaId, String errorMessage, boolean retryable) {
+        OrderSaga saga = sagaRepository.findBySagaIdForUpdate(sagaId).orElse(null);
+        if (saga == null || saga.isFinished()) {
+            return new FailureDecision(FailureAction.NONE, 0);
+        }
+        return decide(saga, errorMessage, retryable);
+    }
+
+    /**
+     * 단계 기한 초과 처리 (스위퍼). 잠근 뒤 다시 봤을 때 기한이 남아 있으면(그사이 진행됨) NONE
+     */
+    public FailureDecision handleTimeout(String sagaId, LocalDateTime now) {
+        OrderSaga saga = sagaRepository.findBySagaIdForUpdate(sagaId).orElse(null);
+        if (saga == null || saga.isFinished() || saga.getStepDeadline() == null || !saga.getStepDeadline().isBefore(now)) {
+            return new FailureDecision(FailureAction.NONE, 0);
+        }
+        return decide(saga, "단계 시간 초과 (" + stepTimeoutMillis + "ms)", true);
+    }
+
+    private FailureDecision decide(OrderSaga saga, String errorMessage, boolean retryable) {
+        boolean compensating = saga.getStatus() == SagaStatus.COMPENSATING;
+        String message = (compensating ? "보상" : stepLabel(saga.getCurrentStep())) + " 실패: " + errorMessage;
+        int attempt = saga.getAttemptCount() + 1;
+
+        FailureDecision decision;
+        if (retryable && attempt < maxAttempts) {
+            long delay = retryBackoffMillis << (attempt - 1);
+            saga.retryStep(message, nextDeadline().plusNanos(delay * 1_000_000));
+            log.warn("🔁 Saga 단계 재시도 예약: sagaId={}, attempt={}/{}, delay={}ms, error={}",
+                    saga.getSagaId(), attempt, maxAttempts, delay, message);
+            decision = new FailureDecision(FailureAction.RETRY, delay);
+        } else if (compensating) {
+            log.error("❌ 보상 트랜잭션 실패: sagaId={}, error={}", saga.getSagaId(), message);
+            saga.fail(message);
+            decision = new FailureDecision(FailureAction.FAILED, 0);
+        } else {
+            log.warn("🔄 보상 트랜잭션 시작: sagaId={}, error={}", saga.getSagaId(), message);
+            saga.startCompensation(message);
+            saga.scheduleNextStep(nextDeadline());
+            decision = new FailureDecision(FailureAction.COMPENSATE, 0);
+        }
+        sagaRepository.save(saga);
+        return decision;
+    }
+
+    private void processPayment(OrderSaga saga) {
+        if (saga.getRequestedPaymentKey() == null) {
+            throw new IllegalStateException("결제 키가 없습니다.");
+        }
+        saga.moveToPaymentProcessed(saga.getRequestedPaymentKey());
+        saga.scheduleNextStep(nextDeadline());
+        log.info("✅ 결제 처리 완료: sagaId={}, paymentKey={}", saga.getSagaId(), saga.getPaymentKey());
+    }
+
+    private void reserveInventory(OrderSaga saga) {
+        if (saga.getProductId() == null || saga.getQuantity() == null) {
+            throw new IllegalStateException("예약할 상품 정보가 없습니다.");
+        }
+        Inventory inventory = inventoryRepository.findByProductIdForUpdate(saga.getProductId())
+                .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다."));
+
+        if (!inventory.canReserve(saga.getQuantity())) {
+            throw new IllegalStateException("재고가 부족합니다.");
+        }
+
+        inventory.reserve(saga.getQuantity());
+        inventoryRepository.save(inventory);
+
+        InventoryReservation reservation = new InventoryReservation(saga.getOrderId(), saga.getProductId(), saga.getQuantity());
+        reservationRepository.save(reservation);
+
+        saga.moveToInventoryReserved(reservation.getId());
+        saga.scheduleNextStep(nextDeadline());
+
+        log.info("✅ 재고 예약 완료: sagaId={}, productId={}, quantity={}",
+                saga.getSagaId(), saga.getProductId(), saga.getQuantity());
+    }
+
+    private void compensate(OrderSaga saga) {
+        // Step 3: 재고 예약 취소
+        if (saga.getInventoryReservationId() != null) {
+            compensateInventoryReservation(saga);
+        }
+
+        // Step 2: 결제 취소
+        if (saga.getPaymentKey() != null) {
+            compensatePayment(saga);
+        }
+
+        // Step 1: 주문 취소
+        compensateOrder(saga);
+
+        saga.compensated();
+        log.info("✅ 보상 트랜잭션 완료: sagaId={}", saga.getSagaId());
+    }
+
+    private void compensateInventoryReservation(OrderSaga saga) {
+        InventoryReservation reservation = reservationRepository.findById(saga.getInventoryReservationId())
+                .orElseThrow(() -> new IllegalArgumentException("예약을 찾을 수 없습니다."));
+        if (reservation.getStatus() == ReservationStatus.CANCELLED) {
+            return;
+        }
+
+        Inventory inventory = inventoryRepository.findByProductIdForUpdate(reservation.getProductId())
+                .orElseThrow(() -> new IllegalArgumentException("상품을 찾을 수 없습니다."));
+
+        inventory.cancelReservation(reservation.getQuantity());
+        inventoryRepository.save(inventory);
+
+        reservation.cancel();
+        reservationRepository.save(reservation);
+
+        log.info("↩️ 재고 예약 취소 완료: reservationId={}", reservation.getId());
+    }
+
+    private void compensatePayment(OrderSaga saga) {
+        Payment payment = paymentRepository.findByOrderId(saga.getOrderId())
+                .orElseThrow(() -> new IllegalArgumentException("결제를 찾을 수 없습니다."));
+        if (payment.getStatus() == PaymentStatus.CANCELED) {
+            return;
+        }
+
+        payment.cancel();
+        paymentRepository.save(payment);
+
+        log.info("↩️ 결제 취소 완료: orderId={}", saga.getOrderId());
+    }
+
+    private void compensateOrder(OrderSaga saga) {
+        Order order = orderRepository.findByOrderId(saga.getOrderId())
+                .orElseThrow(() -> new IllegalArgumentException("주문을 찾을 수 없습니다."));
+        if (order.getStatus() == OrderStatus.CANCELLED) {
+            return;
+        }
+
+        order.cancel();
+        orderRepository.save(order);
+
+        log.info("↩️ 주문 취소 완료: orderId={}", saga.getOrderId());
+    }
+
+    private static String stepLabel(SagaStep currentStep) {
+        return switch (currentStep) {
+            case ORDER_CREATED -> "결제 처리";
+            case PAYMENT_PROCESSED -> "재고 예약";
+            default -> "Saga 완료";
+        };
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.payflow.saga.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Saga 실행 엔진 처리량/지연 통계 (프로세스 시작 이후 누적)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SagaEngineStats {
+    private int workerThreads;                       // 단계 실행 워커 수
+    private long stepTimeoutMillis;                  // 단계 기한
+    private int activeWorkers;                       // 지금 단계를 실행 중인 워커 수
+    private int queuedSagas;                         // 실행 대기 중인 Saga 수
+    private int pendingRetries;                      // 백오프 대기 중인 재시도 수
+    private long started;                            // 시작된 Saga
+    private long resumed;                            // 재시작 후 이어서 실행한 Saga
+    private long completed;                          // 정상 완료
+    private long compensated;                        // 보상 완료
+    private long failed;                             // 보상 실패
+    private long retries;                            // 단계 재시도 횟수
+    private long timeouts;                           // 단계 시간 초과 횟수
+    private long stepsExecuted;                      // 실행된 단계 수
+    private double finishedPerSecond;                // 종료(완료/보상/실패) 처리량
+    private double stepsPerSecond;                   // 단계 처리량
+    private Map<String, Object> queueWait;           // 디스패치 → 워커 시작 대기
+    private Map<String, Map<String, Object>> stepLatency;  // 단계별 트랜잭션 실행 시간
+    private Map<String, Object> sagaLatency;         // 생성 → 종료 전체 시간
+}
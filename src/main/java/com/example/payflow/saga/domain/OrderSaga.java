@@ -34,17 +34,31 @@ public class OrderSaga {
     private String paymentKey;
     private Long inventoryReservationId;
     
+    // 단계 입력 (재시작 후에도 이어서 실행할 수 있도록 Saga 와 함께 저장)
+    private String requestedPaymentKey;
+    private String productId;
+    private Integer quantity;
+    
+    private Integer attempts;            // 현재 단계 실패/시간 초과 횟수
+    private LocalDateTime stepDeadline;  // 현재 단계 완료 기한 (지나면 시간 초과로 재시도)
+    
     @Column(length = 1000)
     private String errorMessage;
     
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     
-    public OrderSaga(String sagaId, String orderId) {
+    public OrderSaga(String sagaId, String orderId, String requestedPaymentKey,
+                     String productId, Integer quantity, LocalDateTime stepDeadline) {
         this.sagaId = sagaId;
         this.orderId = orderId;
+        this.requestedPaymentKey = requestedPaymentKey;
+        this.productId = productId;
+        this.quantity = quantity;
         this.status = SagaStatus.STARTED;
         this.currentStep = SagaStep.ORDER_CREATED;
+        this.attempts = 0;
+        this.stepDeadline = stepDeadline;
         this.createdAt = LocalDateTime.now();
         this.updatedAt = LocalDateTime.now();
     }
@@ -64,9 +78,37 @@ public class OrderSaga {
     public void complete() {
         this.status = SagaStatus.COMPLETED;
         this.currentStep = SagaStep.COMPLETED;
+        this.stepDeadline = null;
         this.updatedAt = LocalDateTime.now();
     }
     
+    /**
+     * 다음 단계(또는 보상) 시작 - 시도 횟수를 비우고 새 기한 설정
+     */
+    public void scheduleNextStep(LocalDateTime stepDeadline) {
+        this.attempts = 0;
+        this.stepDeadline = stepDeadline;
+        this.updatedAt = LocalDateTime.now();
+    }
+    
+    /**
+     * 현재 단계 재시도 예약 (실패/시간 초과)
+     */
+    public void retryStep(String errorMessage, LocalDateTime stepDeadline) {
+        this.attempts = getAttemptCount() + 1;
+        this.errorMessage = errorMessage;
+        this.stepDeadline = stepDeadline;
+        this.updatedAt = LocalDateTime.now();
+    }
+    
+    public int getAttemptCount() {
+        return attempts != null ? attempts : 0;
+    }
+    
+    public boolean isFinished() {
+        return status == SagaStatus.COMPLETED || status == SagaStatus.COMPENSATED || status == SagaStatus.FAILED;
+    }
+    
     public void startCompensation(String errorMessage) {
         this.status = SagaStatus.COMPENSATING;
         this.errorMessage = errorMessage;
@@ -75,12 +117,14 @@ public class OrderSaga {
     
     public void compensated() {
         this.status = SagaStatus.COMPENSATED;
+        this.stepDeadline = null;
         this.updatedAt = LocalDateTime.now();
     }
     
     public void fail(String errorMessage) {
         this.status = SagaStatus.FAILED;
         this.errorMessage = errorMessage;
+        this.stepDeadline = null;
         this.updatedAt = LocalDateTime.now();
     }
 }
@@ -1,10 +1,36 @@
 package com.example.payflow.saga.domain;
 
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface OrderSagaRepository extends JpaRepository<OrderSaga, Long> {
     Optional<OrderSaga> findBySagaId(String sagaId);
     Optional<OrderSaga> findByOrderId(String orderId);
+    
+    /**
+     * 단계 실행용 조회 (행 잠금 - 같은 Saga 의 단계가 동시에 두 번 실행되지 않도록)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM OrderSaga s WHERE s.sagaId = :sagaId")
+    Optional<OrderSaga> findBySagaIdForUpdate(@Param("sagaId") String sagaId);
+    
+    @Query("SELECT s.sagaId FROM OrderSaga s WHERE s.status IN :statuses ORDER BY s.id")
+    List<String> findSagaIdsByStatusIn(@Param("statuses") Collection<SagaStatus> statuses);
+    
+    /**
+     * 단계 기한이 지난 진행 중 Saga (오래된 기한부터)
+     */
+    @Query("SELECT s.sagaId FROM OrderSaga s WHERE s.status IN :statuses AND s.stepDeadline < :now ORDER BY s.stepDeadline")
+    List<String> findExpiredSagaIds(@Param("statuses") Collection<SagaStatus> statuses,
+                                    @Param("now") LocalDateTime now,
+                                    Pageable pageable);
 }
@@ -5,6 +5,7 @@ import com.example.payflow.inventory.domain.Inventory;
 import com.example.payflow.order.application.OrderService;
 import com.example.payflow.order.domain.Order;
 import com.example.payflow.saga.application.OrderSagaOrchestrator;
+import com.example.payflow.saga.application.dto.SagaEngineStats;
 import com.example.payflow.saga.domain.OrderSaga;
 import com.example.payflow.saga.domain.OrderSagaRepository;
 import lombok.RequiredArgsConstructor;
@@ -30,73 +31,24 @@ public class SagaController {
     @PostMapping("/test/success")
     public ResponseEntity<Map<String, Object>> testSuccessScenario(@RequestBody TestOrderRequest request) {
         log.info("=== Saga 성공 시나리오 테스트 시작 ===");
-        
-        try {
-            // 1. 재고 확인 (이미 존재하는 재고 사용)
-            Inventory inventory = inventoryService.getInventory(request.getProductId());
-            log.info("재고 확인: productId={}, quantity={}", inventory.getProductId(), inventory.getQuantity());
-            
-            // 2. 주문 생성
-            Order order = orderService.createOrder(
-                    request.getProductName(),
-                    request.getAmount(),
-                    request.getCustomerEmail(),
-                    request.getCustomerName()
-            );
-            log.info("주문 생성: orderId={}", order.getOrderId());
-            
-            // 3. Saga 시작
-            String sagaId = sagaOrchestrator.startOrderSaga(order.getOrderId());
-            
-            // 4. 결제 생성 및 처리
-            com.example.payflow.payment.domain.Payment payment = new com.example.payflow.payment.domain.Payment(
-                    order.getOrderId(),
-                    order.getOrderName(),
-                    order.getAmount(),
-                    order.getCustomerEmail()
-            );
-            paymentRepository.save(payment);
-            
-            String mockPaymentKey = "test_payment_" + System.currentTimeMillis();
-            payment.approve(mockPaymentKey, "CARD");
-            paymentRepository.save(payment);
-            
-            sagaOrchestrator.processPayment(sagaId, mockPaymentKey);
-            
-            // 5. 재고 예약
-            sagaOrchestrator.reserveInventory(sagaId, request.getProductId(), 1);
-            
-            // 6. Saga 완료
-            sagaOrchestrator.completeSaga(sagaId);
-            
-            OrderSaga saga = sagaRepository.findBySagaId(sagaId).orElseThrow();
-            
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", true);
-            response.put("sagaId", sagaId);
-            response.put("orderId", order.getOrderId());
-            response.put("sagaStatus", saga.getStatus());
-            response.put("currentStep", saga.getCurrentStep());
-            response.put("message", "✅ Saga가 성공적으로 완료되었습니다!");
-            
-            log.info("=== Saga 성공 시나리오 테스트 완료 ===");
-            return ResponseEntity.ok(response);
-            
-        } catch (Exception e) {
-            log.error("Saga 테스트 실패", e);
-            Map<String, Object> response = new HashMap<>();
-            response.put("success", false);
-            response.put("error", e.getMessage());
-            return ResponseEntity.badRequest().body(response);
-        }
+        return startTestSaga(request, "✅ Saga가 시작되었습니다. 단계는 비동기로 실행되며 /api/saga/status/{sagaId} 로 확인할 수 있습니다.");
     }
     
     @PostMapping("/test/failure")
     public ResponseEntity<Map<String, Object>> testFailureScenario(@RequestBody TestOrderRequest request) {
         log.info("=== Saga 실패 시나리오 테스트 시작 (보상 트랜잭션) ===");
-        
+        // 재고 0인 상품이면 재고 예약 단계에서 실패해 보상 트랜잭션이 비동기로 실행됨
+        return startTestSaga(request, "✅ Saga가 시작되었습니다. 재고 예약 실패 시 보상 트랜잭션이 실행되며 /api/saga/status/{sagaId} 로 확인할 수 있습니다.");
+    }
+    
+    @GetMapping("/stats")
+    public ResponseEntity<SagaEngineStats> getEngineStats() {
+        return ResponseEntity.ok(sagaOrchestrator.getEngineStats());
+    }
+    
+    private ResponseEntity<Map<String, Object>> startTestSaga(TestOrderRequest request, String message) {
         try {
-            // 1. 재고 확인 (재고 0인 상품 사용)
+            // 1. 재고 확인 (이미 존재하는 재고 사용)
             Inventory inventory = inventoryService.getInventory(request.getProductId());
             log.info("재고 확인: productId={}, quantity={}", inventory.getProductId(), inventory.getQuantity());
             
@@ -109,10 +61,7 @@ public class SagaController {
             );
             log.info("주문 생성: orderId={}", order.getOrderId());
             
-            // 3. Saga 시작
-            String sagaId = sagaOrchestrator.startOrderSaga(order.getOrderId());
-            
-            // 4. 결제 생성 및 처리
+            // 3. 결제 생성 및 승인
             com.example.payflow.payment.domain.Payment payment = new com.example.payflow.payment.domain.Payment(
                     order.getOrderId(),
                     order.getOrderName(),
@@ -125,17 +74,10 @@ public class SagaController {
             payment.approve(mockPaymentKey, "CARD");
             paymentRepository.save(payment);
             
-            sagaOrchestrator.processPayment(sagaId, mockPaymentKey);
-            
-            // 5. 재고 예약 (실패 예상 - 재고 부족)
-            try {
-                sagaOrchestrator.reserveInventory(sagaId, request.getProductId(), 1);
-            } catch (Exception e) {
-                log.info("예상된 실패 발생: {}", e.getMessage());
-                // 보상 트랜잭션은 이미 OrderSagaOrchestrator에서 실행됨
-            }
+            // 4. Saga 시작 (결제 처리 → 재고 예약 → 완료는 실행 엔진이 비동기로 진행)
+            String sagaId = sagaOrchestrator.startOrderSaga(order.getOrderId(), mockPaymentKey, request.getProductId(), 1);
             
-            OrderSaga saga = sagaRepository.findBySagaId(sagaId).orElseThrow();
+            OrderSaga saga = sagaOrchestrator.getSaga(sagaId);
             
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
@@ -143,11 +85,9 @@ public class SagaController {
             response.put("orderId", order.getOrderId());
             response.put("sagaStatus", saga.getStatus());
             response.put("currentStep", saga.getCurrentStep());
-            response.put("errorMessage", saga.getErrorMessage());
-            response.put("message", "✅ 보상 트랜잭션이 성공적으로 실행되었습니다!");
+            response.put("message", message);
             
-            log.info("=== Saga 실패 시나리오 테스트 완료 ===");
-            return ResponseEntity.ok(response);
+            return ResponseEntity.accepted().body(response);
             
         } catch (Exception e) {
             log.error("Saga 테스트 실패", e);
@@ -170,6 +110,8 @@ public class SagaController {
         response.put("currentStep", saga.getCurrentStep());
         response.put("paymentKey", saga.getPaymentKey());
         response.put("inventoryReservationId", saga.getInventoryReservationId());
+        response.put("attempts", saga.getAttemptCount());
+        response.put("stepDeadline", saga.getStepDeadline());
         response.put("errorMessage", saga.getErrorMessage());
         response.put("createdAt", saga.getCreatedAt());
         response.put("updatedAt", saga.getUpdatedAt());
@@ -1,5 +1,6 @@
 package com.example.payflow.sessionreplay.application;
 
+import com.example.payflow.sessionreplay.domain.SessionEventChunkRepository;
 import com.example.payflow.sessionreplay.domain.SessionRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -20,6 +21,7 @@ import java.time.LocalDateTime;
 public class DataRetentionService {
     
     private final SessionRepository sessionRepository;
+    private final SessionEventChunkRepository sessionEventChunkRepository;
     
     @Value("${session-replay.retention-days:30}")
     private int retentionDays;
@@ -37,6 +39,7 @@ public class DataRetentionService {
         
         try {
             sessionRepository.deleteByStartTimeBefore(cutoffDate);
+            sessionEventChunkRepository.deleteByCreatedAtBefore(cutoffDate);
             log.info("Successfully deleted sessions older than {} (retention: {} days)", 
                 cutoffDate, retentionDays);
         } catch (Exception e) {
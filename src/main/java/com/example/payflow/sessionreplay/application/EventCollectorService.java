@@ -1,20 +1,28 @@
 package com.example.payflow.sessionreplay.application;
 
 import com.example.payflow.sessionreplay.application.dto.InteractionEventDto;
-import com.example.payflow.sessionreplay.domain.InteractionEvent;
-import com.example.payflow.sessionreplay.domain.InteractionEventRepository;
+import com.example.payflow.sessionreplay.domain.InteractionEventBatchRepository;
 import com.example.payflow.sessionreplay.domain.Session;
+import com.example.payflow.sessionreplay.domain.SessionEventChunk;
+import com.example.payflow.sessionreplay.domain.SessionEventChunkRepository;
 import com.example.payflow.sessionreplay.domain.SessionRepository;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * 이벤트 수집 서비스
@@ -24,12 +32,19 @@ import java.util.List;
 @Slf4j
 public class EventCollectorService {
     
+    // 이 건수 미만이면 병렬 인코딩 이점보다 분배 비용이 크다
+    private static final int PARALLEL_ENCODE_THRESHOLD = 64;
+    
     private final KafkaTemplate<String, String> sessionReplayKafkaTemplate;
     private final SessionRepository sessionRepository;
-    private final InteractionEventRepository interactionEventRepository;
+    private final SessionEventChunkRepository sessionEventChunkRepository;
     private final ObjectMapper objectMapper;
-    private final com.example.payflow.sessionreplay.infrastructure.PayloadEncryptor payloadEncryptor;
+    private final SessionChunkCodec chunkCodec;
     private final SessionReplayMetrics metrics;
+    private final InteractionEventBatchRepository interactionEventBatchRepository;
+    
+    @Value("${session-replay.chunk.max-events:200}")
+    private int chunkMaxEvents;
     
     /**
      * 이벤트 배치를 Kafka로 발행
@@ -72,18 +87,8 @@ public class EventCollectorService {
         Session session = sessionRepository.findById(eventDto.getSessionId())
             .orElseGet(() -> createNewSession(eventDto.getSessionId()));
         
-        // 이벤트 저장 (암호화)
-        String payloadJson = serializePayload(eventDto.getPayload());
-        String encryptedPayload = payloadEncryptor.encrypt(payloadJson);
-        InteractionEvent event = InteractionEvent.builder()
-            .sessionId(eventDto.getSessionId())
-            .eventType(eventDto.getEventType())
-            .timestamp(eventDto.getTimestamp())
-            .payload(encryptedPayload)
-            .createdAt(LocalDateTime.now())
-            .build();
-        
-        interactionEventRepository.save(event);
+        // 이벤트 저장 (1건짜리 청크)
+        sessionEventChunkRepository.save(toChunk(eventDto.getSessionId(), List.of(eventDto), LocalDateTime.now()));
         
         // 세션 메타데이터 업데이트
         session.addEvent();
@@ -97,6 +102,109 @@ public class EventCollectorService {
             eventDto.getSessionId(), eventDto.getEventType());
     }
     
+    /**
+     * Kafka poll 한 번 분량의 이벤트를 한 트랜잭션으로 저장
+     * - 세션 조회/생성은 배치 전체에 대해 한 번
+     * - 세션별 이벤트를 최대 chunk.max-events 건씩 청크로 압축/암호화 (병렬), insert 는 JDBC batch
+     * - 세션별 totalEvents 는 증가분을 모아 한 번씩만 갱신
+     * @return 저장한 이벤트 수
+     */
+    @Transactional
+    public int persistEvents(List<InteractionEventDto> eventDtos) {
+        if (eventDtos.isEmpty()) {
+            return 0;
+        }
+        long startTime = System.currentTimeMillis();
+        LocalDateTime now = LocalDateTime.now();
+        
+        // 세션별 이벤트 수 (처음 등장한 순서 유지)
+        Map<String, Integer> eventCounts = new LinkedHashMap<>();
+        for (InteractionEventDto eventDto : eventDtos) {
+            eventCounts.merge(eventDto.getSessionId(), 1, Integer::sum);
+        }
+        
+        // 없는 세션 일괄 생성
+        Set<String> existing = interactionEventBatchRepository.findExistingSessionIds(eventCounts.keySet());
+        List<Session> newSessions = new ArrayList<>();
+        for (String sessionId : eventCounts.keySet()) {
+            if (!existing.contains(sessionId)) {
+                newSessions.add(newSession(sessionId, now));
+            }
+        }
+        interactionEventBatchRepository.insertSessions(newSessions);
+        
+        // 세션별로 연속 이벤트를 청크로 묶어 압축/암호화 (청크 단위 병렬)
+        List<List<InteractionEventDto>> groups = splitIntoChunks(eventDtos);
+        Stream<List<InteractionEventDto>> stream = eventDtos.size() >= PARALLEL_ENCODE_THRESHOLD
+            ? groups.parallelStream()
+            : groups.stream();
+        List<SessionEventChunk> chunks = stream
+            .map(group -> toChunk(group.get(0).getSessionId(), group, now))
+            .collect(Collectors.toList());
+        interactionEventBatchRepository.insertChunks(chunks);
+        
+        // 세션 메타데이터 업데이트
+        interactionEventBatchRepository.incrementTotalEvents(eventCounts, now);
+        
+        // 메트릭 로깅 (배치당 1건)
+        long processingTime = System.currentTimeMillis() - startTime;
+        newSessions.forEach(session -> metrics.logSessionCreated(session.getSessionId(), session.getUserId()));
+        metrics.logBatchProcessed(eventCounts.size(), eventDtos.size(), processingTime);
+        
+        log.debug("Event batch persisted: sessions={}, events={}, chunks={}, {}ms",
+            eventCounts.size(), eventDtos.size(), chunks.size(), processingTime);
+        return eventDtos.size();
+    }
+    
+    /**
+     * 세션별로 모은 뒤 최대 chunkMaxEvents 건씩 분할 (세션 안 순서 유지)
+     */
+    private List<List<InteractionEventDto>> splitIntoChunks(List<InteractionEventDto> eventDtos) {
+        Map<String, List<InteractionEventDto>> bySession = new LinkedHashMap<>();
+        for (InteractionEventDto eventDto : eventDtos) {
+            bySession.computeIfAbsent(eventDto.getSessionId(), id -> new ArrayList<>()).add(eventDto);
+        }
+        
+        List<List<InteractionEventDto>> groups = new ArrayList<>();
+        for (List<InteractionEventDto> sessionEvents : bySession.values()) {
+            for (int from = 0; from < sessionEvents.size(); from += chunkMaxEvents) {
+                groups.add(sessionEvents.subList(from, Math.min(from + chunkMaxEvents, sessionEvents.size())));
+            }
+        }
+        return groups;
+    }
+    
+    private SessionEventChunk toChunk(String sessionId, List<InteractionEventDto> eventDtos, LocalDateTime createdAt) {
+        List<SessionChunkCodec.ChunkEvent> events = new ArrayList<>(eventDtos.size());
+        long first = Long.MAX_VALUE;
+        long last = Long.MIN_VALUE;
+        for (InteractionEventDto eventDto : eventDtos) {
+            events.add(new SessionChunkCodec.ChunkEvent(
+                eventDto.getEventType(), eventDto.getTimestamp(), serializePayload(eventDto.getPayload())));
+            first = Math.min(first, eventDto.getTimestamp());
+            last = Math.max(last, eventDto.getTimestamp());
+        }
+        
+        return SessionEventChunk.builder()
+            .sessionId(sessionId)
+            .firstTimestamp(first)
+            .lastTimestamp(last)
+            .eventCount(events.size())
+            .data(chunkCodec.encode(events))
+            .createdAt(createdAt)
+            .build();
+    }
+    
+    private Session newSession(String sessionId, LocalDateTime now) {
+        return Session.builder()
+            .sessionId(sessionId)
+            .userId("anonymous")
+            .startTime(now)
+            .totalEvents(0)
+            .createdAt(now)
+            .build();
+    }
+    
     /**
      * 새 세션 생성
      */
@@ -0,0 +1,97 @@
+package com.example.payflow.sessionreplay.application;
+
+import com.example.payflow.sessionreplay.domain.EventType;
+import com.example.payflow.sessionreplay.infrastructure.PayloadEncryptor;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * 세션 이벤트 청크 인코더/디코더
+ * 형식: AES-GCM( deflate( version, count, [eventType, timestamp delta, payload JSON]* ) )
+ * - 이벤트마다 따로 암호화/Base64 하던 방식 대비 같은 세션의 반복 키/좌표가 함께 압축된다
+ * - 청크 안에서는 timestamp 오름차순, 디코딩은 이벤트 단위로 콜백 (청크 전체 객체화 없음)
+ */
+@Component
+@RequiredArgsConstructor
+public class SessionChunkCodec {
+    
+    private static final int VERSION = 1;
+    // eventType 은 ordinal 로 저장하므로 EventType 상수는 뒤에만 추가해야 한다
+    private static final EventType[] EVENT_TYPES = EventType.values();
+    
+    private final PayloadEncryptor payloadEncryptor;
+    
+    /**
+     * 청크에 담길 이벤트 한 건 (payload 는 평문 JSON)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class ChunkEvent {
+        private final EventType eventType;
+        private final long timestamp;
+        private final String payloadJson;
+    }
+    
+    /**
+     * @param events 같은 세션의 이벤트 (timestamp 순으로 정렬해 저장)
+     */
+    public byte[] encode(List<ChunkEvent> events) {
+        List<ChunkEvent> sorted = new ArrayList<>(events);
+        sorted.sort(Comparator.comparingLong(ChunkEvent::getTimestamp));
+        
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(sorted.size() * 64);
+        try (DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(buffer))) {
+            out.writeByte(VERSION);
+            out.writeInt(sorted.size());
+            long previous = sorted.isEmpty() ? 0 : sorted.get(0).getTimestamp();
+            out.writeLong(previous);
+            for (ChunkEvent event : sorted) {
+                byte[] payload = event.getPayloadJson().getBytes(StandardCharsets.UTF_8);
+                out.writeByte(event.getEventType().ordinal());
+                out.writeLong(event.getTimestamp() - previous);
+                out.writeInt(payload.length);
+                out.write(payload);
+                previous = event.getTimestamp();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to encode session chunk", e);
+        }
+        return payloadEncryptor.encryptBytes(buffer.toByteArray());
+    }
+    
+    /**
+     * 복호화 후 압축을 풀며 이벤트를 하나씩 전달
+     */
+    public void decode(byte[] data, Consumer<ChunkEvent> consumer) {
+        byte[] compressed = payloadEncryptor.decryptBytes(data);
+        try (DataInputStream in = new DataInputStream(
+                new InflaterInputStream(new ByteArrayInputStream(compressed)))) {
+            int version = in.readUnsignedByte();
+            if (version != VERSION) {
+                throw new IllegalStateException("Unsupported session chunk version: " + version);
+            }
+            int count = in.readInt();
+            long timestamp = in.readLong();
+            for (int i = 0; i < count; i++) {
+                EventType eventType = EVENT_TYPES[in.readUnsignedByte()];
+                timestamp += in.readLong();
+                byte[] payload = new byte[in.readInt()];
+                in.readFully(payload);
+                consumer.accept(new ChunkEvent(eventType, timestamp, new String(payload, StandardCharsets.UTF_8)));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to decode session chunk", e);
+        }
+    }
+}
@@ -13,8 +13,13 @@ import org.springframework.retry.annotation.Recover;
 import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * 세션 이벤트 Kafka Consumer
+ * - 기본은 배치 모드: poll 한 번 분량을 한 트랜잭션으로 저장하고 오프셋도 한 번만 커밋
+ * - session-replay.consumer.batch-enabled=false 면 건별 모드로 동작
  */
 @Component
 @RequiredArgsConstructor
@@ -25,12 +30,57 @@ public class SessionEventConsumer {
     private final ObjectMapper objectMapper;
     
     /**
-     * SessionInteractionEvent 토픽 구독
+     * SessionInteractionEvent 토픽 구독 (배치 모드)
+     */
+    @KafkaListener(
+        id = "sessionReplayBatchConsumer",
+        topics = "SessionInteractionEvent",
+        groupId = "session-replay-consumer-group",
+        containerFactory = "sessionReplayBatchKafkaListenerContainerFactory",
+        autoStartup = "${session-replay.consumer.batch-enabled:true}"
+    )
+    public void consumeBatch(List<String> messages, Acknowledgment acknowledgment) {
+        List<InteractionEventDto> events = new ArrayList<>(messages.size());
+        for (String message : messages) {
+            try {
+                events.add(deserializeEvent(message));
+            } catch (JsonProcessingException e) {
+                // 역직렬화 실패는 재시도하지 않고 건너뜀
+                log.error("Failed to deserialize event: {}", message, e);
+            }
+        }
+        
+        try {
+            int persisted = eventCollectorService.persistEvents(events);
+            log.debug("Event batch processed: received={}, persisted={}", messages.size(), persisted);
+        } catch (Exception e) {
+            // 배치 단위 실패 시 건별로 다시 저장해 문제 이벤트만 격리
+            log.warn("Failed to persist event batch, falling back to per-event: size={}", events.size(), e);
+            for (InteractionEventDto event : events) {
+                try {
+                    eventCollectorService.persistEvent(event);
+                } catch (Exception ex) {
+                    log.error("Failed to persist event: sessionId={}, eventType={}",
+                        event.getSessionId(), event.getEventType(), ex);
+                }
+            }
+        }
+        
+        // 배치당 한 번 오프셋 커밋
+        if (acknowledgment != null) {
+            acknowledgment.acknowledge();
+        }
+    }
+    
+    /**
+     * SessionInteractionEvent 토픽 구독 (건별 모드)
      */
     @KafkaListener(
+        id = "sessionReplayConsumer",
         topics = "SessionInteractionEvent",
         groupId = "session-replay-consumer-group",
-        containerFactory = "sessionReplayKafkaListenerContainerFactory"
+        containerFactory = "sessionReplayKafkaListenerContainerFactory",
+        autoStartup = "#{!${session-replay.consumer.batch-enabled:true}}"
     )
     public void consume(String message, Acknowledgment acknowledgment) {
         try {
@@ -59,6 +59,26 @@ public class SessionReplayMetrics {
         }
     }
     
+    /**
+     * 배치 적재 메트릭 로깅 (이벤트마다 남기지 않고 poll 단위로 1건)
+     */
+    public void logBatchProcessed(int sessionCount, int eventCount, long processingTimeMs) {
+        try {
+            eventLoggingService.logEvent(
+                UUID.randomUUID().toString(),
+                "SessionEventBatchProcessed",
+                "session-replay",
+                Map.of(
+                    "sessionCount", sessionCount,
+                    "eventCount", eventCount,
+                    "processingTimeMs", processingTimeMs
+                )
+            );
+        } catch (Exception e) {
+            log.error("Failed to log event batch metric", e);
+        }
+    }
+    
     /**
      * Consumer 지연 메트릭 로깅
      */
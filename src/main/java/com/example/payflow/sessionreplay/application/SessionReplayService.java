@@ -1,15 +1,13 @@
 package com.example.payflow.sessionreplay.application;
 
-import com.example.payflow.sessionreplay.application.dto.InteractionEventDto;
 import com.example.payflow.sessionreplay.application.dto.SessionDto;
 import com.example.payflow.sessionreplay.application.dto.SessionFilterDto;
 import com.example.payflow.sessionreplay.domain.InteractionEvent;
 import com.example.payflow.sessionreplay.domain.InteractionEventRepository;
 import com.example.payflow.sessionreplay.domain.Session;
+import com.example.payflow.sessionreplay.domain.SessionEventChunkIndex;
+import com.example.payflow.sessionreplay.domain.SessionEventChunkRepository;
 import com.example.payflow.sessionreplay.domain.SessionRepository;
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -17,10 +15,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.time.LocalDateTime;
-import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
 
 /**
  * 세션 재생 서비스
@@ -32,7 +27,8 @@ public class SessionReplayService {
     
     private final SessionRepository sessionRepository;
     private final InteractionEventRepository interactionEventRepository;
-    private final ObjectMapper objectMapper;
+    private final SessionEventChunkRepository sessionEventChunkRepository;
+    private final SessionChunkCodec chunkCodec;
     private final com.example.payflow.sessionreplay.infrastructure.PayloadEncryptor payloadEncryptor;
     
     /**
@@ -70,21 +66,43 @@ public class SessionReplayService {
     }
     
     /**
-     * 세션 이벤트 조회
+     * 세션 존재 확인 (스트리밍 응답 시작 전에 404 판단용)
      */
     @Transactional(readOnly = true)
-    public List<InteractionEventDto> getSessionEvents(String sessionId) {
-        // 세션 존재 확인
+    public void ensureSessionExists(String sessionId) {
         if (!sessionRepository.findById(sessionId).isPresent()) {
             throw new SessionNotFoundException("Session not found: " + sessionId);
         }
+    }
+    
+    /**
+     * 세션 이벤트를 순서대로 하나씩 전달 (전체 목록을 만들지 않음)
+     * - 청크는 적재 순서대로 한 건씩 읽어 풀자마자 전달하므로 메모리는 청크 하나 분량
+     * - from/to(ms)가 주어지면 청크 인덱스로 범위 밖 청크는 읽지 않는다
+     * - 청크 형식 이전에 저장된 interaction_events 행이 있으면 먼저 전달
+     */
+    public void forEachSessionEvent(String sessionId, Long from, Long to,
+                                    Consumer<SessionChunkCodec.ChunkEvent> consumer) {
+        long lower = from != null ? from : Long.MIN_VALUE;
+        long upper = to != null ? to : Long.MAX_VALUE;
+        Consumer<SessionChunkCodec.ChunkEvent> inRange = event -> {
+            if (event.getTimestamp() >= lower && event.getTimestamp() <= upper) {
+                consumer.accept(event);
+            }
+        };
         
-        List<InteractionEvent> events = interactionEventRepository
-            .findBySessionIdOrderByTimestamp(sessionId);
+        for (InteractionEvent event : interactionEventRepository.findBySessionIdOrderByTimestamp(sessionId)) {
+            inRange.accept(new SessionChunkCodec.ChunkEvent(
+                event.getEventType(), event.getTimestamp(), decryptPayload(event.getPayload())));
+        }
         
-        return events.stream()
-            .map(this::toEventDto)
-            .collect(Collectors.toList());
+        for (SessionEventChunkIndex index : sessionEventChunkRepository.findIndexBySessionIdOrderByIdAsc(sessionId)) {
+            if (index.getLastTimestamp() < lower || index.getFirstTimestamp() > upper) {
+                continue;
+            }
+            sessionEventChunkRepository.findById(index.getId())
+                .ifPresent(chunk -> chunkCodec.decode(chunk.getData(), inRange));
+        }
     }
     
     /**
@@ -103,32 +121,14 @@ public class SessionReplayService {
     }
     
     /**
-     * InteractionEvent Entity를 DTO로 변환
-     */
-    private InteractionEventDto toEventDto(InteractionEvent event) {
-        Map<String, Object> payload = deserializePayload(event.getPayload());
-        
-        return InteractionEventDto.builder()
-            .sessionId(event.getSessionId())
-            .eventType(event.getEventType())
-            .timestamp(event.getTimestamp())
-            .payload(payload)
-            .build();
-    }
-    
-    /**
-     * JSON 문자열을 Map으로 역직렬화 (복호화 포함)
+     * 이전 형식 행의 payload 복호화 (실패 시 빈 객체)
      */
-    private Map<String, Object> deserializePayload(String encryptedPayload) {
+    private String decryptPayload(String encryptedPayload) {
         try {
-            String payloadJson = payloadEncryptor.decrypt(encryptedPayload);
-            return objectMapper.readValue(payloadJson, new TypeReference<Map<String, Object>>() {});
-        } catch (JsonProcessingException e) {
-            log.error("Failed to deserialize payload", e);
-            return Map.of();
+            return payloadEncryptor.decrypt(encryptedPayload);
         } catch (Exception e) {
             log.error("Failed to decrypt payload", e);
-            return Map.of();
+            return "{}";
         }
     }
 }
@@ -22,6 +22,9 @@ public class KafkaConsumerConfig {
     @Value("${spring.kafka.bootstrap-servers:localhost:9092}")
     private String bootstrapServers;
     
+    @Value("${session-replay.consumer.max-poll-records:1000}")
+    private int maxPollRecords;
+    
     @Bean
     public ConsumerFactory<String, String> sessionReplayConsumerFactory() {
         Map<String, Object> config = new HashMap<>();
@@ -42,4 +45,20 @@ public class KafkaConsumerConfig {
         factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
         return factory;
     }
+    
+    /**
+     * 배치 리스너용 (poll 결과를 List 로 한 번에 전달, 오프셋은 배치당 1회 수동 커밋)
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, String> sessionReplayBatchKafkaListenerContainerFactory() {
+        Map<String, Object> config = new HashMap<>(sessionReplayConsumerFactory().getConfigurationProperties());
+        config.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, maxPollRecords);
+        
+        ConcurrentKafkaListenerContainerFactory<String, String> factory = 
+            new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(new DefaultKafkaConsumerFactory<>(config));
+        factory.setBatchListener(true);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        return factory;
+    }
 }
@@ -0,0 +1,25 @@
+package com.example.payflow.sessionreplay.domain;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 상호작용 이벤트 일괄 저장 Repository 인터페이스 (이벤트는 세션 청크 단위로 저장)
+ * Kafka poll 단위 적재용 (건별 save 대신 JDBC batch)
+ */
+public interface InteractionEventBatchRepository {
+    
+    Set<String> findExistingSessionIds(Collection<String> sessionIds);
+    
+    void insertSessions(List<Session> sessions);
+    
+    void insertChunks(List<SessionEventChunk> chunks);
+    
+    /**
+     * 세션별 이벤트 수를 한 번에 반영 (sessionId -> 증가분)
+     */
+    void incrementTotalEvents(Map<String, Integer> eventCounts, LocalDateTime updatedAt);
+}
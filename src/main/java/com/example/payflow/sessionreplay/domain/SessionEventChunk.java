@@ -0,0 +1,48 @@
+package com.example.payflow.sessionreplay.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 세션 이벤트 청크 Entity
+ * 한 세션의 연속된 이벤트 N건을 압축 후 암호화한 blob 하나로 저장
+ * firstTimestamp / lastTimestamp 가 청크 단위 타임스탬프 인덱스 역할 (구간 재생 시 청크 건너뛰기)
+ */
+@Entity
+@Table(name = "session_event_chunks", indexes = {
+    @Index(name = "idx_sec_session_id", columnList = "sessionId"),
+    @Index(name = "idx_sec_created_at", columnList = "createdAt")
+})
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SessionEventChunk {
+    
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    
+    @Column(nullable = false)
+    private String sessionId;
+    
+    @Column(nullable = false)
+    private Long firstTimestamp; // Unix timestamp in milliseconds
+    
+    @Column(nullable = false)
+    private Long lastTimestamp;
+    
+    @Column(nullable = false)
+    private Integer eventCount;
+    
+    @Column(nullable = false, length = 4 * 1024 * 1024)
+    private byte[] data; // SessionChunkCodec 형식 (deflate + AES-GCM)
+    
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+}
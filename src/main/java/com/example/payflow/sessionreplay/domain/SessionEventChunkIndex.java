@@ -0,0 +1,15 @@
+package com.example.payflow.sessionreplay.domain;
+
+/**
+ * 청크 목록 조회용 Projection (blob 제외)
+ */
+public interface SessionEventChunkIndex {
+    
+    Long getId();
+    
+    Long getFirstTimestamp();
+    
+    Long getLastTimestamp();
+    
+    Integer getEventCount();
+}
@@ -0,0 +1,22 @@
+package com.example.payflow.sessionreplay.domain;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 세션 이벤트 청크 Repository 인터페이스
+ */
+public interface SessionEventChunkRepository {
+    
+    SessionEventChunk save(SessionEventChunk chunk);
+    
+    Optional<SessionEventChunk> findById(Long id);
+    
+    /**
+     * 적재 순서대로 청크 인덱스 조회 (blob 은 읽지 않음)
+     */
+    List<SessionEventChunkIndex> findIndexBySessionIdOrderByIdAsc(String sessionId);
+    
+    void deleteByCreatedAtBefore(LocalDateTime cutoffDate);
+}
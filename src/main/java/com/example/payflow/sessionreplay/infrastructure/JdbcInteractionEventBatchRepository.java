@@ -0,0 +1,92 @@
+package com.example.payflow.sessionreplay.infrastructure;
+
+import com.example.payflow.sessionreplay.domain.InteractionEventBatchRepository;
+import com.example.payflow.sessionreplay.domain.Session;
+import com.example.payflow.sessionreplay.domain.SessionEventChunk;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 상호작용 이벤트 일괄 저장 JDBC 구현
+ * - session_event_chunks 는 IDENTITY 키라 Hibernate 가 insert 를 묶지 못하므로 JdbcTemplate batchUpdate 사용
+ * - JPA 트랜잭션 안에서 호출하면 같은 커넥션으로 실행된다
+ */
+@Repository
+public class JdbcInteractionEventBatchRepository implements InteractionEventBatchRepository {
+    
+    private static final String INSERT_CHUNK =
+        "INSERT INTO session_event_chunks (session_id, first_timestamp, last_timestamp, event_count, data, created_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_SESSION =
+        "INSERT INTO sessions (session_id, user_id, start_time, total_events, created_at) VALUES (?, ?, ?, ?, ?)";
+    private static final String INCREMENT_TOTAL_EVENTS =
+        "UPDATE sessions SET total_events = total_events + ?, updated_at = ? WHERE session_id = ?";
+    
+    private final JdbcTemplate jdbcTemplate;
+    private final int jdbcBatchSize;
+    
+    public JdbcInteractionEventBatchRepository(JdbcTemplate jdbcTemplate,
+                                               @Value("${session-replay.consumer.jdbc-batch-size:500}") int jdbcBatchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.jdbcBatchSize = jdbcBatchSize;
+    }
+    
+    @Override
+    public Set<String> findExistingSessionIds(Collection<String> sessionIds) {
+        if (sessionIds.isEmpty()) {
+            return Collections.emptySet();
+        }
+        String placeholders = String.join(",", Collections.nCopies(sessionIds.size(), "?"));
+        return new HashSet<>(jdbcTemplate.queryForList(
+            "SELECT session_id FROM sessions WHERE session_id IN (" + placeholders + ")",
+            String.class, sessionIds.toArray()));
+    }
+    
+    @Override
+    public void insertSessions(List<Session> sessions) {
+        if (sessions.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_SESSION, sessions, jdbcBatchSize, (ps, session) -> {
+            ps.setString(1, session.getSessionId());
+            ps.setString(2, session.getUserId());
+            ps.setTimestamp(3, Timestamp.valueOf(session.getStartTime()));
+            ps.setInt(4, session.getTotalEvents());
+            ps.setTimestamp(5, Timestamp.valueOf(session.getCreatedAt()));
+        });
+    }
+    
+    @Override
+    public void insertChunks(List<SessionEventChunk> chunks) {
+        if (chunks.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_CHUNK, chunks, jdbcBatchSize, (ps, chunk) -> {
+            ps.setString(1, chunk.getSessionId());
+            ps.setLong(2, chunk.getFirstTimestamp());
+            ps.setLong(3, chunk.getLastTimestamp());
+            ps.setInt(4, chunk.getEventCount());
+            ps.setBytes(5, chunk.getData());
+            ps.setTimestamp(6, Timestamp.valueOf(chunk.getCreatedAt()));
+        });
+    }
+    
+    @Override
+    public void incrementTotalEvents(Map<String, Integer> eventCounts, LocalDateTime updatedAt) {
+        if (eventCounts.isEmpty()) {
+            return;
+        }
+        Timestamp updated = Timestamp.valueOf(updatedAt);
+        jdbcTemplate.batchUpdate(INCREMENT_TOTAL_EVENTS, new ArrayList<>(eventCounts.entrySet()), jdbcBatchSize,
+            (ps, entry) -> {
+                ps.setInt(1, entry.getValue());
+                ps.setTimestamp(2, updated);
+                ps.setString(3, entry.getKey());
+            });
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.payflow.sessionreplay.infrastructure;
+
+import com.example.payflow.sessionreplay.domain.SessionEventChunk;
+import com.example.payflow.sessionreplay.domain.SessionEventChunkIndex;
+import com.example.payflow.sessionreplay.domain.SessionEventChunkRepository;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 세션 이벤트 청크 JPA Repository 구현
+ */
+@Repository
+public interface JpaSessionEventChunkRepository extends JpaRepository<SessionEventChunk, Long>, SessionEventChunkRepository {
+    
+    @Override
+    List<SessionEventChunkIndex> findIndexBySessionIdOrderByIdAsc(String sessionId);
+    
+    @Override
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM SessionEventChunk c WHERE c.createdAt < :cutoffDate")
+    void deleteByCreatedAtBefore(@Param("cutoffDate") LocalDateTime cutoffDate);
+}
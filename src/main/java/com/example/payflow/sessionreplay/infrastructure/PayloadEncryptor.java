@@ -65,6 +65,29 @@ public class PayloadEncryptor {
             return plaintext;
         }
         
+        byte[] encrypted = encryptBytes(plaintext.getBytes(StandardCharsets.UTF_8));
+        
+        // Base64 인코딩
+        return Base64.getEncoder().encodeToString(encrypted);
+    }
+    
+    /**
+     * 암호문을 복호화
+     */
+    public String decrypt(String ciphertext) {
+        if (ciphertext == null || ciphertext.isEmpty()) {
+            return ciphertext;
+        }
+        
+        // Base64 디코딩
+        byte[] decoded = Base64.getDecoder().decode(ciphertext);
+        return new String(decryptBytes(decoded), StandardCharsets.UTF_8);
+    }
+    
+    /**
+     * 바이트 배열 암호화 (결과: IV + 암호문, Base64 없이 blob 저장용)
+     */
+    public byte[] encryptBytes(byte[] plaintext) {
         try {
             // IV 생성
             byte[] iv = new byte[GCM_IV_LENGTH];
@@ -75,16 +98,13 @@ public class PayloadEncryptor {
             GCMParameterSpec parameterSpec = new GCMParameterSpec(GCM_TAG_LENGTH, iv);
             cipher.init(Cipher.ENCRYPT_MODE, secretKey, parameterSpec);
             
-            byte[] plaintextBytes = plaintext.getBytes(StandardCharsets.UTF_8);
-            byte[] ciphertext = cipher.doFinal(plaintextBytes);
+            byte[] ciphertext = cipher.doFinal(plaintext);
             
             // IV + 암호문을 결합
             ByteBuffer byteBuffer = ByteBuffer.allocate(iv.length + ciphertext.length);
             byteBuffer.put(iv);
             byteBuffer.put(ciphertext);
-            
-            // Base64 인코딩
-            return Base64.getEncoder().encodeToString(byteBuffer.array());
+            return byteBuffer.array();
             
         } catch (Exception e) {
             log.error("Encryption failed", e);
@@ -93,31 +113,17 @@ public class PayloadEncryptor {
     }
     
     /**
-     * 암호문을 복호화
+     * encryptBytes 결과를 복호화
      */
-    public String decrypt(String ciphertext) {
-        if (ciphertext == null || ciphertext.isEmpty()) {
-            return ciphertext;
-        }
-        
+    public byte[] decryptBytes(byte[] encrypted) {
         try {
-            // Base64 디코딩
-            byte[] decoded = Base64.getDecoder().decode(ciphertext);
-            
             // IV와 암호문 분리
-            ByteBuffer byteBuffer = ByteBuffer.wrap(decoded);
-            byte[] iv = new byte[GCM_IV_LENGTH];
-            byteBuffer.get(iv);
-            byte[] ciphertextBytes = new byte[byteBuffer.remaining()];
-            byteBuffer.get(ciphertextBytes);
-            
-            // 복호화
             Cipher cipher = Cipher.getInstance(ALGORITHM);
-            GCMParameterSpec parameterSpec = new GCMParameterSpec(GCM_TAG_LENGTH, iv);
+            GCMParameterSpec parameterSpec = new GCMParameterSpec(GCM_TAG_LENGTH, encrypted, 0, GCM_IV_LENGTH);
             cipher.init(Cipher.DECRYPT_MODE, secretKey, parameterSpec);
             
-            byte[] plaintextBytes = cipher.doFinal(ciphertextBytes);
-            return new String(plaintextBytes, StandardCharsets.UTF_8);
+            // 복호화
+            return cipher.doFinal(encrypted, GCM_IV_LENGTH, encrypted.length - GCM_IV_LENGTH);
             
         } catch (Exception e) {
             log.error("Decryption failed", e);
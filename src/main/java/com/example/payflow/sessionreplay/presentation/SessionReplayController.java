@@ -1,9 +1,12 @@
 package com.example.payflow.sessionreplay.presentation;
 
+import com.example.payflow.sessionreplay.application.SessionChunkCodec;
 import com.example.payflow.sessionreplay.application.SessionReplayService;
-import com.example.payflow.sessionreplay.application.dto.InteractionEventDto;
 import com.example.payflow.sessionreplay.application.dto.SessionDto;
 import com.example.payflow.sessionreplay.application.dto.SessionFilterDto;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
@@ -11,11 +14,14 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.time.LocalDateTime;
-import java.util.List;
 
 /**
  * 세션 재생 REST API Controller
@@ -27,6 +33,7 @@ import java.util.List;
 public class SessionReplayController {
     
     private final SessionReplayService sessionReplayService;
+    private final ObjectMapper objectMapper;
     
     /**
      * 세션 목록 조회 (페이징, 필터링)
@@ -73,13 +80,69 @@ public class SessionReplayController {
     
     /**
      * 세션 이벤트 조회
+     * 청크를 푸는 대로 JSON 배열에 써 내려가며, payload 는 저장된 JSON 을 다시 파싱하지 않고 그대로 쓴다
      */
     @GetMapping("/sessions/{sessionId}/events")
-    public ResponseEntity<List<InteractionEventDto>> getSessionEvents(@PathVariable String sessionId) {
+    public ResponseEntity<StreamingResponseBody> getSessionEvents(
+        @PathVariable String sessionId,
+        @RequestParam(required = false) Long from,
+        @RequestParam(required = false) Long to
+    ) {
         log.debug("Getting events for session: {}", sessionId);
         
-        List<InteractionEventDto> events = sessionReplayService.getSessionEvents(sessionId);
+        sessionReplayService.ensureSessionExists(sessionId);
+        
+        StreamingResponseBody body = out -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+                generator.writeStartArray();
+                sessionReplayService.forEachSessionEvent(sessionId, from, to,
+                    event -> writeEvent(generator, sessionId, event));
+                generator.writeEndArray();
+            }
+        };
         
-        return ResponseEntity.ok(events);
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(body);
+    }
+    
+    private void writeEvent(JsonGenerator generator, String sessionId, SessionChunkCodec.ChunkEvent event) {
+        try {
+            generator.writeStartObject();
+            generator.writeStringField("sessionId", sessionId);
+            generator.writeStringField("eventType", event.getEventType().name());
+            generator.writeNumberField("timestamp", event.getTimestamp());
+            generator.writeFieldName("payload");
+            // 원문을 그대로 쓰므로 깨진 payload 가 응답 배열 전체를 망가뜨리지 않게 먼저 검사
+            String payload = event.getPayloadJson();
+            if (isSingleJsonValue(payload)) {
+                generator.writeRawValue(payload);
+            } else {
+                log.warn("잘못된 이벤트 payload - 빈 객체로 대체: sessionId={}, eventType={}, timestamp={}",
+                    sessionId, event.getEventType(), event.getTimestamp());
+                generator.writeRawValue("{}");
+            }
+            generator.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+    
+    /**
+     * 뒤에 남는 내용 없이 완결된 JSON 값 하나인지 (토큰만 훑고 트리는 만들지 않는다)
+     */
+    private boolean isSingleJsonValue(String payload) {
+        if (payload == null || payload.isBlank()) {
+            return false;
+        }
+        try (JsonParser parser = objectMapper.getFactory().createParser(payload)) {
+            if (parser.nextToken() == null) {
+                return false;
+            }
+            parser.skipChildren();
+            return parser.nextToken() == null;
+        } catch (IOException e) {
+            return false;
+        }
     }
 }
@@ -9,6 +9,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -18,62 +19,34 @@ import java.util.stream.Collectors;
 public class DailySettlementService {
     
     private final DailySettlementRepository dailySettlementRepository;
-    private final IngredientSettlementRepository settlementRepository;
+    private final SettlementRollupRepository rollupRepository;
     
     /**
-     * 정산 완료 시 일일 정산 업데이트
+     * 정산 지불 시 일일 정산 업데이트 (지불 증가분만큼 원자적으로 증감)
      */
     @Transactional
-    public void updatePayment(IngredientSettlement settlement, Long paidAmount) {
-        LocalDate settlementDate = settlement.getSettlementDate().toLocalDate();
+    public void updatePayment(IngredientSettlement settlement, Long paidDelta) {
+        SettlementRollup delta = SettlementRollup.ofPayment(settlement, paidDelta);
         
-        DailySettlement dailySettlement = dailySettlementRepository
-            .findBySettlementDateAndStoreIdAndDistributorId(
-                settlementDate, 
-                settlement.getStoreId(), 
-                settlement.getDistributorId())
-            .orElseThrow(() -> new IllegalStateException(
-                "일일 정산을 찾을 수 없습니다: " + settlementDate + ", " + settlement.getStoreId()));
-        
-        dailySettlement.updatePayment(paidAmount);
-        dailySettlementRepository.save(dailySettlement);
+        if (!rollupRepository.increment(delta, LocalDateTime.now())) {
+            throw new IllegalStateException(
+                "일일 정산을 찾을 수 없습니다: " + delta.getSettlementDate() + ", " + settlement.getStoreId());
+        }
         
         log.info("📊 일일 정산 지불 업데이트: date={}, store={}, paidAmount={}", 
-            settlementDate, settlement.getStoreId(), paidAmount);
+            delta.getSettlementDate(), settlement.getStoreId(), paidDelta);
     }
     
     /**
-     * 정산 생성 시 일일 정산에 반영
+     * 정산 생성 시 일일 정산에 반영 (행이 없으면 생성, 있으면 원자적으로 증감)
      */
     @Transactional
     public void aggregateSettlement(IngredientSettlement settlement) {
-        LocalDate settlementDate = settlement.getSettlementDate().toLocalDate();
-        
-        DailySettlement dailySettlement = dailySettlementRepository
-            .findBySettlementDateAndStoreIdAndDistributorId(
-                settlementDate, 
-                settlement.getStoreId(), 
-                settlement.getDistributorId())
-            .orElseGet(() -> {
-                DailySettlement newDaily = new DailySettlement(
-                    settlementDate,
-                    settlement.getStoreId(),
-                    settlement.getDistributorId()
-                );
-                return dailySettlementRepository.save(newDaily);
-            });
-        
-        dailySettlement.addOrder(
-            settlement.getOrderType(),
-            settlement.getSettlementAmount(),
-            settlement.getPaidAmount(),
-            settlement.getOutstandingAmount()
-        );
-        
-        dailySettlementRepository.save(dailySettlement);
+        SettlementRollup delta = SettlementRollup.ofSettlement(settlement);
+        rollupRepository.upsertIncrement(delta, LocalDateTime.now());
         
         log.info("📊 일일 정산 집계 완료: date={}, store={}, distributor={}, amount={}", 
-            settlementDate, settlement.getStoreId(), settlement.getDistributorId(), 
+            delta.getSettlementDate(), settlement.getStoreId(), settlement.getDistributorId(), 
             settlement.getSettlementAmount());
     }
     
@@ -82,31 +55,22 @@ public class DailySettlementService {
      */
     @Transactional
     public void recalculateDailySettlement(LocalDate targetDate) {
-        log.info("🔄 일일 정산 재집계 시작: {}", targetDate);
-        
-        // 해당 날짜의 모든 정산 조회
-        List<IngredientSettlement> settlements = settlementRepository
-            .findBySettlementDateBetween(
-                targetDate.atStartOfDay(), 
-                targetDate.plusDays(1).atStartOfDay()
-            );
-        
-        log.info("📋 재집계 대상 정산 건수: {}", settlements.size());
-        
-        // 기존 일일 정산 삭제
-        settlements.stream()
-            .map(s -> new String[]{s.getStoreId(), s.getDistributorId()})
-            .distinct()
-            .forEach(pair -> {
-                dailySettlementRepository
-                    .findBySettlementDateAndStoreIdAndDistributorId(targetDate, pair[0], pair[1])
-                    .ifPresent(dailySettlementRepository::delete);
-            });
-        
-        // 재집계
-        settlements.forEach(this::aggregateSettlement);
-        
-        log.info("✅ 일일 정산 재집계 완료: {}", targetDate);
+        recalculateDailySettlements(targetDate, targetDate);
+    }
+    
+    /**
+     * 기간 일일 정산 재집계 (배치용)
+     * 정산을 (정산일, 가게, 유통업자) 로 묶는 그룹 스캔 한 번 후 일괄 upsert - 처음부터 다시 집계한 결과와 같다
+     * 실시간 증감과 겹치지 않도록 마감된 날짜에 사용
+     */
+    @Transactional
+    public void recalculateDailySettlements(LocalDate startDate, LocalDate endDate) {
+        log.info("🔄 일일 정산 재집계 시작: {} ~ {}", startDate, endDate);
+        
+        List<SettlementRollup> rollups = rollupRepository.aggregateSettlements(startDate, endDate);
+        int deleted = rollupRepository.replaceRange(startDate, endDate, rollups, LocalDateTime.now());
+        
+        log.info("✅ 일일 정산 재집계 완료: {} ~ {}, 집계 행={}, 삭제 행={}", startDate, endDate, rollups.size(), deleted);
     }
     
     /**
@@ -83,11 +83,12 @@ public class IngredientSettlementService {
         IngredientSettlement settlement = settlementRepository.findBySettlementId(settlementId)
             .orElseThrow(() -> new IllegalArgumentException("정산을 찾을 수 없습니다: " + settlementId));
         
+        long paidDelta = paidAmount - settlement.getPaidAmount();
         settlement.complete(paidAmount);
         settlementRepository.save(settlement);
         
-        // 일일 정산 업데이트
-        dailySettlementService.updatePayment(settlement, paidAmount);
+        // 일일 정산 업데이트 (이전 지불액과의 차이만 반영해 재집계 결과와 일치)
+        dailySettlementService.updatePayment(settlement, paidDelta);
         
         log.info("✅ 정산 완료: settlementId={}, paidAmount={}, outstandingAmount={}", 
             settlementId, paidAmount, settlement.getOutstandingAmount());
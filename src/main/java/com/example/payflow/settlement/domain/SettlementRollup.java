@@ -0,0 +1,61 @@
+package com.example.payflow.settlement.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+/**
+ * (정산일, 가게, 유통업자) 단위 일일 정산 집계값
+ * 실시간 반영 시에는 증감분(delta), 재집계 시에는 그룹 합계로 쓰인다 - DailySettlement.addOrder/updatePayment 와 같은 규칙
+ */
+@Getter
+@AllArgsConstructor
+public class SettlementRollup {
+
+    private final LocalDate settlementDate;
+    private final String storeId;
+    private final String distributorId;
+    private final int orderCount;
+    private final long salesAmount;
+    private final long paidAmount;
+    private final long outstandingAmount;
+    private final int catalogOrderCount;
+    private final long catalogSalesAmount;
+    private final int ingredientOrderCount;
+    private final long ingredientSalesAmount;
+
+    /**
+     * 정산 1건 생성분
+     */
+    public static SettlementRollup ofSettlement(IngredientSettlement settlement) {
+        boolean catalog = "CATALOG".equals(settlement.getOrderType());
+        boolean ingredient = "INGREDIENT".equals(settlement.getOrderType());
+        long amount = settlement.getSettlementAmount();
+        return new SettlementRollup(
+            settlement.getSettlementDate().toLocalDate(),
+            settlement.getStoreId(),
+            settlement.getDistributorId(),
+            1,
+            amount,
+            settlement.getPaidAmount(),
+            settlement.getOutstandingAmount(),
+            catalog ? 1 : 0,
+            catalog ? amount : 0L,
+            ingredient ? 1 : 0,
+            ingredient ? amount : 0L
+        );
+    }
+
+    /**
+     * 지불 반영분 (지불액만큼 미수금 감소)
+     */
+    public static SettlementRollup ofPayment(IngredientSettlement settlement, long paidDelta) {
+        return new SettlementRollup(
+            settlement.getSettlementDate().toLocalDate(),
+            settlement.getStoreId(),
+            settlement.getDistributorId(),
+            0, 0L, paidDelta, -paidDelta, 0, 0L, 0, 0L
+        );
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.payflow.settlement.domain;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 일일 정산(daily_settlements) 집계 Repository 인터페이스
+ * 실시간 반영은 원자적 증감 update, 재집계는 그룹 스캔 한 번 + 일괄 upsert
+ */
+public interface SettlementRollupRepository {
+    
+    /**
+     * 기존 일일 정산 행에 증감분 반영 (행이 없으면 false)
+     */
+    boolean increment(SettlementRollup delta, LocalDateTime updatedAt);
+    
+    /**
+     * 증감분 반영, 행이 없으면 증감분으로 새 행 생성 (동시 생성 충돌 시 다시 증감 update)
+     */
+    void upsertIncrement(SettlementRollup delta, LocalDateTime updatedAt);
+    
+    /**
+     * 기간 내 정산을 (정산일, 가게, 유통업자) 로 묶은 합계 (ingredient_settlements 그룹 스캔 한 번)
+     */
+    List<SettlementRollup> aggregateSettlements(LocalDate startDate, LocalDate endDate);
+    
+    /**
+     * 기간 내 일일 정산을 rollups 로 맞춘다 - 있는 행은 덮어쓰고, 없는 행은 추가, rollups 에 없는 행은 삭제
+     *
+     * @return 삭제한 행 수
+     */
+    int replaceRange(LocalDate startDate, LocalDate endDate, List<SettlementRollup> rollups, LocalDateTime updatedAt);
+}
@@ -45,9 +45,7 @@ public class DailySettlementScheduler {
         log.info("⏰ [스케줄러] 주간 정산 재집계 시작: {} ~ {}", lastMonday, lastSunday);
         
         try {
-            for (LocalDate date = lastMonday; !date.isAfter(lastSunday); date = date.plusDays(1)) {
-                dailySettlementService.recalculateDailySettlement(date);
-            }
+            dailySettlementService.recalculateDailySettlements(lastMonday, lastSunday);
             log.info("✅ [스케줄러] 주간 정산 재집계 완료: {} ~ {}", lastMonday, lastSunday);
         } catch (Exception e) {
             log.error("❌ [스케줄러] 주간 정산 재집계 실패", e);
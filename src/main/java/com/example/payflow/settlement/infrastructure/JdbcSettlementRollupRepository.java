@@ -0,0 +1,196 @@
+package com.example.payflow.settlement.infrastructure;
+
+import com.example.payflow.settlement.domain.SettlementRollup;
+import com.example.payflow.settlement.domain.SettlementRollupRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 일일 정산 집계 JDBC 구현
+ * - 실시간 반영은 "컬럼 = 컬럼 + ?" update 라 조회 후 수정 없이 동시 반영해도 유실되지 않는다
+ * - JPA 트랜잭션 안에서 호출하면 같은 커넥션으로 실행된다
+ */
+@Repository
+public class JdbcSettlementRollupRepository implements SettlementRollupRepository {
+
+    private static final String INCREMENT =
+        "UPDATE daily_settlements SET order_count = order_count + ?, total_sales_amount = total_sales_amount + ?, "
+            + "total_settlement_amount = total_settlement_amount + ?, total_paid_amount = total_paid_amount + ?, "
+            + "total_outstanding_amount = total_outstanding_amount + ?, catalog_order_count = catalog_order_count + ?, "
+            + "catalog_sales_amount = catalog_sales_amount + ?, ingredient_order_count = ingredient_order_count + ?, "
+            + "ingredient_sales_amount = ingredient_sales_amount + ?, updated_at = ? "
+            + "WHERE settlement_date = ? AND store_id = ? AND distributor_id = ?";
+    private static final String OVERWRITE =
+        "UPDATE daily_settlements SET order_count = ?, total_sales_amount = ?, total_settlement_amount = ?, "
+            + "total_paid_amount = ?, total_outstanding_amount = ?, catalog_order_count = ?, catalog_sales_amount = ?, "
+            + "ingredient_order_count = ?, ingredient_sales_amount = ?, updated_at = ? WHERE id = ?";
+    private static final String INSERT =
+        "INSERT INTO daily_settlements (order_count, total_sales_amount, total_settlement_amount, total_paid_amount, "
+            + "total_outstanding_amount, catalog_order_count, catalog_sales_amount, ingredient_order_count, "
+            + "ingredient_sales_amount, updated_at, settlement_date, store_id, distributor_id, created_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String DELETE = "DELETE FROM daily_settlements WHERE id = ?";
+    private static final String SELECT_KEYS =
+        "SELECT id, settlement_date, store_id, distributor_id FROM daily_settlements "
+            + "WHERE settlement_date BETWEEN ? AND ?";
+    private static final String AGGREGATE =
+        "SELECT CAST(settlement_date AS DATE) AS day, store_id, distributor_id, COUNT(*), SUM(settlement_amount), "
+            + "SUM(paid_amount), SUM(outstanding_amount), "
+            + "SUM(CASE WHEN order_type = 'CATALOG' THEN 1 ELSE 0 END), "
+            + "SUM(CASE WHEN order_type = 'CATALOG' THEN settlement_amount ELSE 0 END), "
+            + "SUM(CASE WHEN order_type = 'INGREDIENT' THEN 1 ELSE 0 END), "
+            + "SUM(CASE WHEN order_type = 'INGREDIENT' THEN settlement_amount ELSE 0 END) "
+            + "FROM ingredient_settlements WHERE settlement_date >= ? AND settlement_date < ? "
+            + "GROUP BY CAST(settlement_date AS DATE), store_id, distributor_id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int jdbcBatchSize;
+
+    public JdbcSettlementRollupRepository(JdbcTemplate jdbcTemplate,
+                                          @Value("${settlement.rollup.jdbc-batch-size:1000}") int jdbcBatchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.jdbcBatchSize = jdbcBatchSize;
+    }
+
+    @Override
+    public boolean increment(SettlementRollup delta, LocalDateTime updatedAt) {
+        return jdbcTemplate.update(INCREMENT, ps -> {
+            bindMeasures(ps, delta, updatedAt);
+            bindKey(ps, 11, delta);
+        }) > 0;
+    }
+
+    @Override
+    public void upsertIncrement(SettlementRollup delta, LocalDateTime updatedAt) {
+        if (increment(delta, updatedAt)) {
+            return;
+        }
+        try {
+            insertWithSavepoint(delta, updatedAt);
+            return;
+        } catch (DuplicateKeyException e) {
+            // 다른 트랜잭션이 같은 행을 먼저 만들었다 - 그 행에 증감 반영
+        }
+        if (!increment(delta, updatedAt)) {
+            throw new IllegalStateException("일일 정산 행 생성 충돌 후 반영 실패: date=" + delta.getSettlementDate()
+                + ", store=" + delta.getStoreId() + ", distributor=" + delta.getDistributorId());
+        }
+    }
+
+    @Override
+    public List<SettlementRollup> aggregateSettlements(LocalDate startDate, LocalDate endDate) {
+        return jdbcTemplate.query(AGGREGATE, (rs, rowNum) -> new SettlementRollup(
+            rs.getObject(1, LocalDate.class),
+            rs.getString(2),
+            rs.getString(3),
+            rs.getInt(4),
+            rs.getLong(5),
+            rs.getLong(6),
+            rs.getLong(7),
+            rs.getInt(8),
+            rs.getLong(9),
+            rs.getInt(10),
+            rs.getLong(11)
+        ), Timestamp.valueOf(startDate.atStartOfDay()), Timestamp.valueOf(endDate.plusDays(1).atStartOfDay()));
+    }
+
+    @Override
+    public int replaceRange(LocalDate startDate, LocalDate endDate, List<SettlementRollup> rollups,
+                            LocalDateTime updatedAt) {
+        Map<List<Object>, Long> existingIds = new HashMap<>();
+        jdbcTemplate.query(SELECT_KEYS, rs -> {
+            existingIds.put(List.of(rs.getObject(2, LocalDate.class), rs.getString(3), rs.getString(4)), rs.getLong(1));
+        }, Date.valueOf(startDate), Date.valueOf(endDate));
+
+        List<Map.Entry<Long, SettlementRollup>> updates = new ArrayList<>();
+        List<SettlementRollup> inserts = new ArrayList<>();
+        for (SettlementRollup rollup : rollups) {
+            Long id = existingIds.remove(key(rollup));
+            if (id != null) {
+                updates.add(Map.entry(id, rollup));
+            } else {
+                inserts.add(rollup);
+            }
+        }
+        List<Long> staleIds = new ArrayList<>(existingIds.values());
+
+        if (!staleIds.isEmpty()) {
+            jdbcTemplate.batchUpdate(DELETE, staleIds, jdbcBatchSize, (ps, id) -> ps.setLong(1, id));
+        }
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate(OVERWRITE, updates, jdbcBatchSize, (ps, update) -> {
+                bindMeasures(ps, update.getValue(), updatedAt);
+                ps.setLong(11, update.getKey());
+            });
+        }
+        if (!inserts.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT, inserts, jdbcBatchSize, (ps, rollup) -> bindInsert(ps, rollup, updatedAt));
+        }
+        return staleIds.size();
+    }
+
+    /**
+     * 트랜잭션 안이면 savepoint 로 insert 만 되돌려 바깥 트랜잭션을 계속 쓸 수 있게 한다
+     */
+    private void insertWithSavepoint(SettlementRollup delta, LocalDateTime updatedAt) {
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            Savepoint savepoint = connection.getAutoCommit() ? null : connection.setSavepoint();
+            try (PreparedStatement ps = connection.prepareStatement(INSERT)) {
+                bindInsert(ps, delta, updatedAt);
+                ps.executeUpdate();
+            } catch (SQLException e) {
+                if (savepoint != null) {
+                    connection.rollback(savepoint);
+                }
+                throw e;
+            }
+            if (savepoint != null) {
+                connection.releaseSavepoint(savepoint);
+            }
+            return null;
+        });
+    }
+
+    private static List<Object> key(SettlementRollup rollup) {
+        return List.of(rollup.getSettlementDate(), rollup.getStoreId(), rollup.getDistributorId());
+    }
+
+    private static void bindInsert(PreparedStatement ps, SettlementRollup rollup, LocalDateTime createdAt)
+            throws SQLException {
+        bindMeasures(ps, rollup, createdAt);
+        bindKey(ps, 11, rollup);
+        ps.setTimestamp(14, Timestamp.valueOf(createdAt));
+    }
+
+    private static void bindMeasures(PreparedStatement ps, SettlementRollup rollup, LocalDateTime updatedAt)
+            throws SQLException {
+        ps.setInt(1, rollup.getOrderCount());
+        ps.setLong(2, rollup.getSalesAmount());
+        ps.setLong(3, rollup.getSalesAmount());
+        ps.setLong(4, rollup.getPaidAmount());
+        ps.setLong(5, rollup.getOutstandingAmount());
+        ps.setInt(6, rollup.getCatalogOrderCount());
+        ps.setLong(7, rollup.getCatalogSalesAmount());
+        ps.setInt(8, rollup.getIngredientOrderCount());
+        ps.setLong(9, rollup.getIngredientSalesAmount());
+        ps.setTimestamp(10, Timestamp.valueOf(updatedAt));
+    }
+
+    private static void bindKey(PreparedStatement ps, int index, SettlementRollup rollup) throws SQLException {
+        ps.setDate(index, Date.valueOf(rollup.getSettlementDate()));
+        ps.setString(index + 1, rollup.getStoreId());
+        ps.setString(index + 2, rollup.getDistributorId());
+    }
+}
@@ -123,15 +123,16 @@ public class DailySettlementController {
     }
     
     /**
-     * 특정 날짜 정산 재집계 (관리자용)
+     * 특정 날짜(또는 endDate 까지 기간) 정산 재집계 (관리자용)
      */
     @PostMapping("/recalculate")
     public ResponseEntity<Void> recalculateSettlement(
-            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate targetDate) {
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate targetDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate) {
         
-        log.info("🔄 정산 재집계 요청: targetDate={}", targetDate);
+        log.info("🔄 정산 재집계 요청: targetDate={}, endDate={}", targetDate, endDate);
         
-        dailySettlementService.recalculateDailySettlement(targetDate);
+        dailySettlementService.recalculateDailySettlements(targetDate, endDate != null ? endDate : targetDate);
         
         return ResponseEntity.ok().build();
     }
@@ -0,0 +1,175 @@
+package com.example.payflow.specification.application;
+
+import com.example.payflow.invoice.domain.Invoice;
+import com.example.payflow.invoice.domain.InvoiceItem;
+import com.example.payflow.invoice.domain.InvoiceRepository;
+import com.example.payflow.specification.domain.Specification;
+import com.example.payflow.specification.domain.SpecificationRepository;
+import com.example.payflow.specification.presentation.dto.IngredientBatchMatchResult;
+import com.example.payflow.specification.presentation.dto.IngredientMatchResult;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 명세표/거래명세서 전체 줄 일괄 재료 매칭
+ * - 같은 원본 줄은 한 번만 정규화하고, 정규화 결과가 같은 줄은 한 번만 매칭한다
+ * - 고유 줄이 parallel-threshold 건 이상이면 크기가 정해진 전용 ForkJoinPool 에서 병렬 처리
+ * - 한 문서는 같은 매칭기(동의어 사전 스냅샷)로 끝까지 매칭하고, 결과는 입력 줄 순서로 돌려준다
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class IngredientBatchMatchingService {
+
+    private final IngredientNormalizer normalizer;
+    private final RuleBasedMatchingService matchingService;
+    private final IngredientSynonymIndex synonymIndex;
+    private final SpecificationRepository specificationRepository;
+    private final InvoiceRepository invoiceRepository;
+
+    @Value("${specification.matching.parallelism:4}")
+    private int parallelism;
+
+    @Value("${specification.matching.parallel-threshold:256}")
+    private int parallelThreshold;
+
+    private ForkJoinPool pool;
+
+    @PostConstruct
+    public void init() {
+        pool = new ForkJoinPool(parallelism, forkJoinPool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+            thread.setName("ingredient-matcher-" + thread.getPoolIndex());
+            thread.setDaemon(true);
+            return thread;
+        }, null, false);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * 명세표 OCR 텍스트의 모든 줄 매칭 (빈 줄 제외)
+     */
+    @Transactional(readOnly = true)
+    public IngredientBatchMatchResult matchSpecification(Long specificationId) {
+        Specification spec = specificationRepository.findById(specificationId)
+            .orElseThrow(() -> new IllegalArgumentException("명세표를 찾을 수 없습니다: " + specificationId));
+        if (spec.getExtractedText() == null) {
+            throw new IllegalStateException("OCR 텍스트가 없는 명세표입니다: " + specificationId);
+        }
+        return matchLines(splitLines(spec.getExtractedText()));
+    }
+
+    /**
+     * 거래명세서 품목명 전체 매칭
+     */
+    @Transactional(readOnly = true)
+    public IngredientBatchMatchResult matchInvoice(String invoiceId) {
+        Invoice invoice = invoiceRepository.findByInvoiceId(invoiceId)
+            .orElseThrow(() -> new IllegalArgumentException("명세서를 찾을 수 없습니다: " + invoiceId));
+        return matchLines(invoice.getItems().stream()
+            .map(InvoiceItem::getItemName)
+            .collect(Collectors.toList()));
+    }
+
+    /**
+     * 줄 목록 일괄 매칭 (결과는 matchIngredient 를 줄마다 호출한 것과 같다)
+     */
+    public IngredientBatchMatchResult matchLines(List<String> lines) {
+        long startTime = System.nanoTime();
+
+        // 1단계: 원본 줄 중복 제거 후 정규화
+        Map<String, Integer> lineSlots = new HashMap<>();
+        List<String> uniqueLines = new ArrayList<>();
+        int[] lineToUnique = new int[lines.size()];
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i);
+            Integer slot = lineSlots.get(line);
+            if (slot == null) {
+                slot = uniqueLines.size();
+                lineSlots.put(line, slot);
+                uniqueLines.add(line);
+            }
+            lineToUnique[i] = slot;
+        }
+        List<String> normalizedLines = map(uniqueLines, normalizer::normalize);
+        long normalizedTime = System.nanoTime();
+
+        // 2단계: 정규화 문자열 중복 제거 후 같은 매칭기로 매칭
+        Map<String, Integer> normalizedSlots = new HashMap<>();
+        List<String> uniqueNormalized = new ArrayList<>();
+        int[] uniqueToNormalized = new int[uniqueLines.size()];
+        for (int i = 0; i < normalizedLines.size(); i++) {
+            String normalized = normalizedLines.get(i);
+            Integer slot = normalizedSlots.get(normalized);
+            if (slot == null) {
+                slot = uniqueNormalized.size();
+                normalizedSlots.put(normalized, slot);
+                uniqueNormalized.add(normalized);
+            }
+            uniqueToNormalized[i] = slot;
+        }
+        IngredientMatcher matcher = synonymIndex.current();
+        List<IngredientMatchResult> matched = map(uniqueNormalized,
+            normalized -> matchingService.matchNormalized(normalized, normalized, matcher));
+        long matchedTime = System.nanoTime();
+
+        // 3단계: 입력 줄 순서로 조립
+        List<IngredientMatchResult> results = new ArrayList<>(lines.size());
+        int matchedCount = 0;
+        for (int i = 0; i < lines.size(); i++) {
+            IngredientMatchResult result = matched.get(uniqueToNormalized[lineToUnique[i]]);
+            results.add(result.withOriginalText(lines.get(i)));
+            if (result.getMatched()) {
+                matchedCount++;
+            }
+        }
+        long endTime = System.nanoTime();
+
+        log.info("🧾 일괄 재료 매칭 완료: {}줄 (고유 {}건), 매칭 {}건, {}µs",
+            lines.size(), uniqueNormalized.size(), matchedCount, (endTime - startTime) / 1_000);
+
+        return IngredientBatchMatchResult.builder()
+            .results(results)
+            .totalLines(lines.size())
+            .uniqueLines(uniqueLines.size())
+            .uniqueNormalized(uniqueNormalized.size())
+            .matchedCount(matchedCount)
+            .normalizeMicros((normalizedTime - startTime) / 1_000)
+            .matchMicros((matchedTime - normalizedTime) / 1_000)
+            .assembleMicros((endTime - matchedTime) / 1_000)
+            .totalMicros((endTime - startTime) / 1_000)
+            .build();
+    }
+
+    /**
+     * OCR 텍스트를 줄 단위로 (앞뒤 공백 제거, 빈 줄 제외)
+     */
+    public static List<String> splitLines(String text) {
+        return Arrays.stream(text.split("\n"))
+            .map(String::trim)
+            .filter(line -> !line.isEmpty())
+            .collect(Collectors.toList());
+    }
+
+    private <T> List<T> map(List<String> inputs, Function<String, T> function) {
+        if (inputs.size() < parallelThreshold) {
+            return inputs.stream().map(function).collect(Collectors.toList());
+        }
+        return pool.submit(() -> inputs.parallelStream().map(function).collect(Collectors.toList())).join();
+    }
+}
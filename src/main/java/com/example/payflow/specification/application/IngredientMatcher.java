@@ -0,0 +1,316 @@
+package com.example.payflow.specification.application;
+
+import com.example.payflow.specification.domain.IngredientSynonym;
+import com.example.payflow.specification.infrastructure.JaroWinklerMatcher;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.*;
+
+/**
+ * 동의어 사전을 한 번 컴파일해 둔 재료 매칭기 (불변, 여러 스레드에서 동시에 써도 된다)
+ * - 정확 매칭: 동의어 → 항목 HashMap
+ * - 부분 매칭: 동의어(소문자, 공백 제거)로 만든 Aho-Corasick 오토마톤으로 "입력이 포함하는 동의어"를 한 번에 찾고,
+ *   "입력을 포함하는 동의어"는 문자 bigram 역색인의 가장 짧은 posting 만 contains 로 확인한다
+ *   두 방향 모두 동의어 id 순으로 가장 앞선 항목을 고르므로 기존 findAll 순회 결과와 같다
+ * - 유사도 매칭: 표준 재료명 문자 역색인으로 공통 문자 수를 세어 공통 문자 비율 조건을 통과한 이름만 Jaro-Winkler 계산
+ *   (Jaro-Winkler 는 전치만으로도 0.75 를 넘을 수 있어 bigram 이 아닌 문자 단위로 후보를 고른다)
+ */
+public final class IngredientMatcher {
+
+    private static final int MIN_LENGTH_FOR_MATCHING = 2;
+    private static final double MIN_COMMON_CHAR_RATIO = 0.5;
+    private static final int NO_MATCH = Integer.MAX_VALUE;
+    private static final int ROOT = 0;
+
+    private final JaroWinklerMatcher jaroWinklerMatcher;
+
+    // 동의어 (id 순)
+    private final String[] standardNames;
+    private final String[] synonymTexts;
+    private final double[] similarityScores;
+    private final Map<String, Integer> exactSynonyms;
+
+    // Aho-Corasick: 노드마다 정렬된 전이 문자/대상, 실패 링크, 출력 중 가장 앞선 동의어 번호
+    private final char[][] edgeChars;
+    private final int[][] edgeTargets;
+    private final int[] failLinks;
+    private final int[] firstOutputs;
+
+    // 문자 bigram → 동의어 번호 (오름차순)
+    private final Map<Integer, int[]> bigramPostings;
+
+    // 표준 재료명 (처음 나온 순서), 문자 → 표준 재료명 번호 (오름차순)
+    private final String[] names;
+    private final int[] distinctCharCounts;
+    private final Map<Character, int[]> charPostings;
+
+    private IngredientMatcher(List<IngredientSynonym> synonyms, JaroWinklerMatcher jaroWinklerMatcher) {
+        this.jaroWinklerMatcher = jaroWinklerMatcher;
+        int count = synonyms.size();
+        standardNames = new String[count];
+        synonymTexts = new String[count];
+        similarityScores = new double[count];
+        exactSynonyms = new HashMap<>(count * 2);
+        for (int i = 0; i < count; i++) {
+            IngredientSynonym synonym = synonyms.get(i);
+            standardNames[i] = synonym.getStandardName();
+            synonymTexts[i] = synonym.getSynonym().toLowerCase().replaceAll("\\s+", "");
+            similarityScores[i] = synonym.getSimilarityScore();
+            exactSynonyms.putIfAbsent(synonym.getSynonym(), i);
+        }
+
+        List<Map<Character, Integer>> children = new ArrayList<>();
+        List<Integer> patternEnds = new ArrayList<>();
+        children.add(new HashMap<>());
+        patternEnds.add(NO_MATCH);
+        Map<Integer, List<Integer>> bigrams = new HashMap<>();
+        for (int i = 0; i < count; i++) {
+            String text = synonymTexts[i];
+            if (text.length() < MIN_LENGTH_FOR_MATCHING) {
+                continue;
+            }
+            int node = ROOT;
+            for (int k = 0; k < text.length(); k++) {
+                Integer next = children.get(node).get(text.charAt(k));
+                if (next == null) {
+                    next = children.size();
+                    children.get(node).put(text.charAt(k), next);
+                    children.add(new HashMap<>());
+                    patternEnds.add(NO_MATCH);
+                }
+                node = next;
+            }
+            patternEnds.set(node, Math.min(patternEnds.get(node), i));
+
+            for (int k = 0; k + 1 < text.length(); k++) {
+                List<Integer> posting = bigrams.computeIfAbsent(bigram(text.charAt(k), text.charAt(k + 1)),
+                    key -> new ArrayList<>());
+                if (posting.isEmpty() || posting.get(posting.size() - 1) != i) {
+                    posting.add(i);
+                }
+            }
+        }
+
+        int nodeCount = children.size();
+        edgeChars = new char[nodeCount][];
+        edgeTargets = new int[nodeCount][];
+        for (int node = 0; node < nodeCount; node++) {
+            TreeMap<Character, Integer> sorted = new TreeMap<>(children.get(node));
+            edgeChars[node] = new char[sorted.size()];
+            edgeTargets[node] = new int[sorted.size()];
+            int k = 0;
+            for (Map.Entry<Character, Integer> edge : sorted.entrySet()) {
+                edgeChars[node][k] = edge.getKey();
+                edgeTargets[node][k++] = edge.getValue();
+            }
+        }
+
+        // BFS 로 실패 링크를 걸고, 실패 링크를 따라 도달하는 출력까지 합쳐 가장 앞선 동의어 번호를 노드에 미리 기록
+        failLinks = new int[nodeCount];
+        firstOutputs = new int[nodeCount];
+        firstOutputs[ROOT] = NO_MATCH;
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int child : edgeTargets[ROOT]) {
+            failLinks[child] = ROOT;
+            firstOutputs[child] = patternEnds.get(child);
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            for (int k = 0; k < edgeChars[node].length; k++) {
+                char c = edgeChars[node][k];
+                int child = edgeTargets[node][k];
+                int fail = failLinks[node];
+                while (fail != ROOT && transition(fail, c) < 0) {
+                    fail = failLinks[fail];
+                }
+                int target = transition(fail, c);
+                failLinks[child] = target >= 0 ? target : ROOT;
+                firstOutputs[child] = Math.min(patternEnds.get(child), firstOutputs[failLinks[child]]);
+                queue.add(child);
+            }
+        }
+
+        bigramPostings = new HashMap<>(bigrams.size() * 2);
+        bigrams.forEach((key, posting) -> bigramPostings.put(key, toArray(posting)));
+
+        Map<String, Integer> nameIndexes = new LinkedHashMap<>();
+        for (String standardName : standardNames) {
+            nameIndexes.putIfAbsent(standardName, nameIndexes.size());
+        }
+        names = nameIndexes.keySet().toArray(new String[0]);
+        distinctCharCounts = new int[names.length];
+        Map<Character, List<Integer>> chars = new HashMap<>();
+        for (int n = 0; n < names.length; n++) {
+            char[] distinct = distinctChars(names[n]);
+            distinctCharCounts[n] = distinct.length;
+            for (char c : distinct) {
+                chars.computeIfAbsent(c, key -> new ArrayList<>()).add(n);
+            }
+        }
+        charPostings = new HashMap<>(chars.size() * 2);
+        chars.forEach((c, posting) -> charPostings.put(c, toArray(posting)));
+    }
+
+    /**
+     * 동의어 목록(id 순)으로 매칭기 생성
+     */
+    public static IngredientMatcher compile(List<IngredientSynonym> synonyms, JaroWinklerMatcher jaroWinklerMatcher) {
+        return new IngredientMatcher(synonyms, jaroWinklerMatcher);
+    }
+
+    public int synonymCount() {
+        return synonymTexts.length;
+    }
+
+    public int standardNameCount() {
+        return names.length;
+    }
+
+    /**
+     * 동의어와 정확히 같은 항목
+     */
+    public Optional<SynonymMatch> findExact(String normalized) {
+        Integer index = exactSynonyms.get(normalized);
+        return index == null ? Optional.empty() : Optional.of(match(index));
+    }
+
+    /**
+     * 입력이 동의어를 포함하거나 동의어가 입력을 포함하는 항목 중 id 가 가장 앞선 것
+     */
+    public Optional<SynonymMatch> findContaining(String normalized) {
+        if (normalized.length() < MIN_LENGTH_FOR_MATCHING) {
+            return Optional.empty();
+        }
+
+        // 입력이 포함하는 동의어
+        int best = NO_MATCH;
+        int node = ROOT;
+        for (int k = 0; k < normalized.length(); k++) {
+            char c = normalized.charAt(k);
+            int next = transition(node, c);
+            while (next < 0 && node != ROOT) {
+                node = failLinks[node];
+                next = transition(node, c);
+            }
+            node = next >= 0 ? next : ROOT;
+            best = Math.min(best, firstOutputs[node]);
+        }
+
+        // 입력을 포함하는 동의어: 입력의 bigram 을 모두 가져야 하므로 가장 짧은 posting 만 본다
+        int[] candidates = null;
+        for (int k = 0; k + 1 < normalized.length(); k++) {
+            int[] posting = bigramPostings.get(bigram(normalized.charAt(k), normalized.charAt(k + 1)));
+            if (posting == null) {
+                candidates = null;
+                break;
+            }
+            if (candidates == null || posting.length < candidates.length) {
+                candidates = posting;
+            }
+        }
+        if (candidates != null) {
+            for (int index : candidates) {
+                if (index >= best) {
+                    break;
+                }
+                if (synonymTexts[index].contains(normalized)) {
+                    best = index;
+                    break;
+                }
+            }
+        }
+        return best == NO_MATCH ? Optional.empty() : Optional.of(match(best));
+    }
+
+    /**
+     * 공통 문자 비율 조건을 통과한 표준 재료명 중 Jaro-Winkler 유사도가 가장 높은 이름 (동점이면 앞선 이름)
+     * 조건을 통과한 이름이 없으면 standardName 이 null, 점수 0
+     */
+    public SimilarName findMostSimilar(String normalized) {
+        char[] queryChars = distinctChars(normalized);
+        if (queryChars.length == 0) {
+            return new SimilarName(null, 0.0);
+        }
+        int[] commonCounts = new int[names.length];
+        int[] touched = new int[names.length];
+        int touchedCount = 0;
+        for (char c : queryChars) {
+            int[] posting = charPostings.get(c);
+            if (posting == null) {
+                continue;
+            }
+            for (int n : posting) {
+                if (commonCounts[n]++ == 0) {
+                    touched[touchedCount++] = n;
+                }
+            }
+        }
+        Arrays.sort(touched, 0, touchedCount);
+
+        String bestName = null;
+        double bestScore = 0.0;
+        for (int i = 0; i < touchedCount; i++) {
+            int n = touched[i];
+            int minSize = Math.min(queryChars.length, distinctCharCounts[n]);
+            if ((double) commonCounts[n] / minSize < MIN_COMMON_CHAR_RATIO) {
+                continue;
+            }
+            double similarity = jaroWinklerMatcher.similarity(normalized, names[n]);
+            if (similarity > bestScore) {
+                bestScore = similarity;
+                bestName = names[n];
+            }
+        }
+        return new SimilarName(bestName, bestScore);
+    }
+
+    private SynonymMatch match(int index) {
+        return new SynonymMatch(standardNames[index], synonymTexts[index], similarityScores[index]);
+    }
+
+    private int transition(int node, char c) {
+        int k = Arrays.binarySearch(edgeChars[node], c);
+        return k >= 0 ? edgeTargets[node][k] : -1;
+    }
+
+    private static int bigram(char first, char second) {
+        return (first << 16) | second;
+    }
+
+    private static char[] distinctChars(String text) {
+        char[] chars = text.toCharArray();
+        Arrays.sort(chars);
+        int size = 0;
+        for (int i = 0; i < chars.length; i++) {
+            if (i == 0 || chars[i] != chars[i - 1]) {
+                chars[size++] = chars[i];
+            }
+        }
+        return Arrays.copyOf(chars, size);
+    }
+
+    private static int[] toArray(List<Integer> values) {
+        int[] array = new int[values.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = values.get(i);
+        }
+        return array;
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class SynonymMatch {
+        private final String standardName;
+        private final String synonymText;     // 소문자, 공백 제거
+        private final double similarityScore; // 동의어에 등록된 점수
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class SimilarName {
+        private final String standardName;
+        private final double similarity;
+    }
+}
@@ -2,14 +2,16 @@ package com.example.payflow.specification.application;
 
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
-import java.util.Arrays;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.*;
 import java.util.regex.Pattern;
 
 /**
  * 1단계: OCR 단어 정규화
  * 문자열 정제를 통한 품목명 표준화
+ * - normalize 는 정규식 파이프라인(normalizeWithPatterns)과 같은 결과를 한 번의 문자 순회로 만든다
+ *   (가격 패턴이 숫자를 모두 지우므로 숫자+단위 패턴은 매칭될 일이 없고, 가격/공백 제거는 특수문자 제거에 포함된다)
+ * - 중간 결과는 스레드별 char 버퍼에 쓰고, 테이블 헤더/불용어는 trie 로 찾는다
+ * - 대소문자 변환이 ASCII 밖에서 문자를 바꾸는 입력(전각 대문자, 서로게이트 등)이나 tr/az/lt 로케일은 정규식 경로로 처리
  */
 @Slf4j
 @Component
@@ -53,12 +55,122 @@ public class IngredientNormalizer {
     // 단독 영문자 패턴 (m, l 등 단위 잔여물)
     private static final Pattern SINGLE_LETTER_PATTERN = Pattern.compile("(?<=[가-힣])[a-z]$|^[a-z](?=[가-힣])");
     
+    // 불용어 (기존 제거 순서 = STOP_WORDS 순회 순서, 제거로 새로 붙은 불용어가 뒤 순서에서 지워지는 것까지 같게)
+    private static final List<String> LOWER_STOP_WORDS = STOP_WORDS.stream()
+        .map(String::toLowerCase)
+        .toList();
+    private static final char[][] STOP_WORD_CHARS = LOWER_STOP_WORDS.stream()
+        .map(String::toCharArray)
+        .toArray(char[][]::new);
+    private static final CharTrie STOP_WORD_TRIE = new CharTrie(LOWER_STOP_WORDS);
+    private static final CharTrie TABLE_HEADER_TRIE = new CharTrie(TABLE_HEADERS);
+    
+    // 대소문자 규칙이 ASCII 와 다른 로케일 (I -> ı 등)
+    private static final Set<String> SPECIAL_CASE_LANGUAGES = Set.of("tr", "az", "lt");
+    private static final int BARCODE_LENGTH = 13;
+    private static final int MAX_ROW_NUMBER_PREFIX = 3;
+    
+    private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[128]);
+    
     /**
      * OCR 텍스트 정규화
-     * 예) "D01지리산샘물 500mL.묶음(20)" -> "지리산샘물"
+     * 예) "D01지리산샘물 500mL.묶음(20)" -> "지리산샘물ml"
      * 예) ")02처음처럼(병)360m|" -> "처음처럼"
      */
     public String normalize(String ocrText) {
+        if (ocrText == null) {
+            return "";
+        }
+        if (SPECIAL_CASE_LANGUAGES.contains(Locale.getDefault().getLanguage())) {
+            return normalizeWithPatterns(ocrText);
+        }
+        
+        // 0. 한 번 훑으며 빠른 경로 가능 여부, 공백뿐인지, 테이블 헤더, 바코드(숫자 13자리 + 숫자/쉼표/하이픈/공백뿐) 확인
+        int length = ocrText.length();
+        boolean blank = true;
+        boolean barcodeChars = true;
+        int digits = 0;
+        int headerNode = CharTrie.ROOT;
+        for (int i = 0; i < length; i++) {
+            char c = ocrText.charAt(i);
+            if (!isSimpleCase(c)) {
+                return normalizeWithPatterns(ocrText);
+            }
+            if (c > ' ') {
+                blank = false;
+            }
+            if (isDigit(c)) {
+                digits++;
+            } else if (c != ',' && c != '-' && c > ' ') {
+                barcodeChars = false;
+            }
+            char lower = toLowerCase(c);
+            if (headerNode != CharTrie.NONE && isKeptLetter(lower)) {
+                headerNode = TABLE_HEADER_TRIE.next(headerNode, lower);
+            }
+        }
+        if (blank) {
+            return "";
+        }
+        if (headerNode != CharTrie.NONE && TABLE_HEADER_TRIE.isWord(headerNode)) {
+            log.debug("테이블 헤더 제외: '{}'", ocrText);
+            return "";
+        }
+        if (digits == BARCODE_LENGTH && barcodeChars) {
+            return "";
+        }
+        
+        char[] buffer = buffer(length);
+        int size = 0;
+        
+        // 1~7. 행번호 접두사 이후를 소문자로 읽으며 닫힌 괄호 구간은 건너뛰고 한글/영문만 남긴다
+        int i = rowNumberPrefixLength(ocrText);
+        while (i < length) {
+            char c = ocrText.charAt(i);
+            char closing = closingBracket(c);
+            if (closing != 0) {
+                int end = ocrText.indexOf(closing, i + 1);
+                if (end >= 0) {
+                    i = end + 1;
+                    continue;
+                }
+            }
+            char lower = toLowerCase(c);
+            if (isKeptLetter(lower)) {
+                buffer[size++] = lower;
+            }
+            i++;
+        }
+        
+        // 8. 단독 영문자 제거 (한글 옆 맨 앞/맨 뒤 영문자 한 글자)
+        int start = 0;
+        if (size >= 2) {
+            boolean dropFirst = isAsciiLowerCase(buffer[0]) && isHangul(buffer[1]);
+            boolean dropLast = isAsciiLowerCase(buffer[size - 1]) && isHangul(buffer[size - 2]);
+            if (dropFirst) {
+                start = 1;
+            }
+            if (dropLast) {
+                size--;
+            }
+        }
+        
+        // 9. 불용어 제거 (trie 로 하나라도 있을 때만 기존 순서대로 제거)
+        if (STOP_WORD_TRIE.containsAny(buffer, start, size)) {
+            for (char[] stopWord : STOP_WORD_CHARS) {
+                size = removeAll(buffer, start, size, stopWord);
+            }
+        }
+        
+        String normalized = new String(buffer, start, size - start);
+        log.debug("Normalized: '{}' -> '{}'", ocrText, normalized);
+        return normalized;
+    }
+    
+    /**
+     * 정규식 파이프라인 정규화 (빠른 경로로 처리할 수 없는 입력용, 빠른 경로 결과의 기준)
+     */
+    String normalizeWithPatterns(String ocrText) {
         if (ocrText == null || ocrText.trim().isEmpty()) {
             return "";
         }
@@ -130,4 +242,182 @@ public class IngredientNormalizer {
         }
         return normalized;
     }
+    
+    /**
+     * 정규식 ^[D$)\d]{0,3}\d{1,3}(?=[가-힣a-zA-Z]) 가 지우는 길이 (백트래킹 순서대로 앞부분이 긴 것부터 시도)
+     */
+    private static int rowNumberPrefixLength(String text) {
+        int length = text.length();
+        int prefixChars = 0;
+        while (prefixChars < MAX_ROW_NUMBER_PREFIX && prefixChars < length
+            && isRowNumberPrefixChar(text.charAt(prefixChars))) {
+            prefixChars++;
+        }
+        for (int head = prefixChars; head >= 0; head--) {
+            int digitRun = 0;
+            while (digitRun < MAX_ROW_NUMBER_PREFIX && head + digitRun < length && isDigit(text.charAt(head + digitRun))) {
+                digitRun++;
+            }
+            for (int tail = digitRun; tail >= 1; tail--) {
+                int next = head + tail;
+                if (next < length && isPrefixFollower(text.charAt(next))) {
+                    return next;
+                }
+            }
+        }
+        return 0;
+    }
+    
+    /**
+     * String.replace(word, "") 와 같은 제거를 버퍼 안에서 수행하고 새 끝 위치를 돌려준다
+     */
+    private static int removeAll(char[] buffer, int start, int end, char[] word) {
+        int write = start;
+        int read = start;
+        while (read < end) {
+            if (startsWith(buffer, read, end, word)) {
+                read += word.length;
+            } else {
+                buffer[write++] = buffer[read++];
+            }
+        }
+        return write;
+    }
+    
+    private static boolean startsWith(char[] buffer, int from, int end, char[] word) {
+        if (end - from < word.length) {
+            return false;
+        }
+        for (int k = 0; k < word.length; k++) {
+            if (buffer[from + k] != word[k]) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private static char[] buffer(int length) {
+        char[] buffer = BUFFER.get();
+        if (buffer.length < length) {
+            buffer = new char[Math.max(length, buffer.length * 2)];
+            BUFFER.set(buffer);
+        }
+        return buffer;
+    }
+    
+    /**
+     * String.toLowerCase 가 ASCII 규칙 그대로이거나 바꾸지 않는 문자
+     */
+    private static boolean isSimpleCase(char c) {
+        return c < 0x80 || isHangul(c) || (!Character.isSurrogate(c) && Character.toLowerCase(c) == c);
+    }
+    
+    private static char toLowerCase(char c) {
+        return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+    }
+    
+    private static char closingBracket(char c) {
+        switch (c) {
+            case '(': return ')';
+            case '[': return ']';
+            case '{': return '}';
+            default: return 0;
+        }
+    }
+    
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+    
+    private static boolean isHangul(char c) {
+        return c >= '가' && c <= '힣';
+    }
+    
+    private static boolean isAsciiLowerCase(char c) {
+        return c >= 'a' && c <= 'z';
+    }
+    
+    private static boolean isKeptLetter(char c) {
+        return isHangul(c) || isAsciiLowerCase(c);
+    }
+    
+    private static boolean isRowNumberPrefixChar(char c) {
+        return c == 'D' || c == '$' || c == ')' || isDigit(c);
+    }
+    
+    private static boolean isPrefixFollower(char c) {
+        return isHangul(c) || isAsciiLowerCase(c) || (c >= 'A' && c <= 'Z');
+    }
+    
+    /**
+     * 문자 trie (노드마다 정렬된 문자 배열 + 이진 탐색)
+     */
+    private static final class CharTrie {
+        
+        static final int ROOT = 0;
+        static final int NONE = -1;
+        
+        private final char[][] labels;
+        private final int[][] children;
+        private final boolean[] words;
+        
+        CharTrie(Collection<String> entries) {
+            List<TreeMap<Character, Integer>> nodes = new ArrayList<>();
+            List<Boolean> ends = new ArrayList<>();
+            nodes.add(new TreeMap<>());
+            ends.add(false);
+            for (String entry : entries) {
+                int node = ROOT;
+                for (char c : entry.toCharArray()) {
+                    Integer child = nodes.get(node).get(c);
+                    if (child == null) {
+                        child = nodes.size();
+                        nodes.get(node).put(c, child);
+                        nodes.add(new TreeMap<>());
+                        ends.add(false);
+                    }
+                    node = child;
+                }
+                ends.set(node, true);
+            }
+            labels = new char[nodes.size()][];
+            children = new int[nodes.size()][];
+            words = new boolean[nodes.size()];
+            for (int node = 0; node < nodes.size(); node++) {
+                labels[node] = new char[nodes.get(node).size()];
+                children[node] = new int[nodes.get(node).size()];
+                int k = 0;
+                for (Map.Entry<Character, Integer> edge : nodes.get(node).entrySet()) {
+                    labels[node][k] = edge.getKey();
+                    children[node][k++] = edge.getValue();
+                }
+                words[node] = ends.get(node);
+            }
+        }
+        
+        int next(int node, char c) {
+            int k = Arrays.binarySearch(labels[node], c);
+            return k >= 0 ? children[node][k] : NONE;
+        }
+        
+        boolean isWord(int node) {
+            return words[node];
+        }
+        
+        boolean containsAny(char[] text, int from, int to) {
+            for (int start = from; start < to; start++) {
+                int node = ROOT;
+                for (int i = start; i < to; i++) {
+                    node = next(node, text[i]);
+                    if (node == NONE) {
+                        break;
+                    }
+                    if (words[node]) {
+                        return true;
+                    }
+                }
+            }
+            return false;
+        }
+    }
 }
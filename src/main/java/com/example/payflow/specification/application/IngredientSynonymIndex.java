@@ -0,0 +1,69 @@
+package com.example.payflow.specification.application;
+
+import com.example.payflow.specification.domain.IngredientSynonymRepository;
+import com.example.payflow.specification.domain.events.IngredientSynonymChanged;
+import com.example.payflow.specification.infrastructure.JaroWinklerMatcher;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 컴파일된 재료 매칭기 보관소
+ * - 동의어 전체를 id 순으로 읽어 IngredientMatcher 를 새로 만든 뒤 참조를 한 번에 바꾼다
+ *   (매칭 중인 요청은 이전 매칭기를 끝까지 쓰고, 반쯤 만들어진 매칭기는 보이지 않는다)
+ * - 동의어가 등록되면 커밋 후 다시 컴파일
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IngredientSynonymIndex {
+
+    private final IngredientSynonymRepository synonymRepository;
+    private final JaroWinklerMatcher jaroWinklerMatcher;
+
+    private volatile IngredientMatcher matcher;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        current();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onSynonymChanged(IngredientSynonymChanged event) {
+        rebuild();
+    }
+
+    /**
+     * 현재 매칭기 (처음 호출 시 컴파일)
+     */
+    public IngredientMatcher current() {
+        IngredientMatcher current = matcher;
+        if (current == null) {
+            synchronized (this) {
+                current = matcher;
+                if (current == null) {
+                    current = compile();
+                }
+            }
+        }
+        return current;
+    }
+
+    public synchronized void rebuild() {
+        compile();
+    }
+
+    private IngredientMatcher compile() {
+        long startTime = System.currentTimeMillis();
+        IngredientMatcher compiled = IngredientMatcher.compile(
+            synonymRepository.findAll(Sort.by("id")), jaroWinklerMatcher);
+        matcher = compiled;
+        log.info("✅ 재료 매칭기 컴파일 완료: 동의어 {}건 / 표준 재료명 {}개, {}ms",
+            compiled.synonymCount(), compiled.standardNameCount(), System.currentTimeMillis() - startTime);
+        return compiled;
+    }
+}
@@ -26,7 +26,7 @@ public class SpecificationService {
     private final SpecificationRepository repository;
     private final OCRService ocrService;
     private final LLMParsingService llmService;
-    private final RuleBasedMatchingService matchingService;
+    private final IngredientBatchMatchingService matchingService;
     private final KafkaTemplate<String, String> kafkaTemplate;
     private final Gson gson;
     
@@ -34,7 +34,7 @@ public class SpecificationService {
             SpecificationRepository repository,
             OCRService ocrService,
             LLMParsingService llmService,
-            RuleBasedMatchingService matchingService,
+            IngredientBatchMatchingService matchingService,
             KafkaTemplate<String, String> kafkaTemplate) {
         this.repository = repository;
         this.ocrService = ocrService;
@@ -149,20 +149,14 @@ public class SpecificationService {
             spec = repository.save(spec);
             log.info("Text extracted for specification: {}", spec.getId());
             
-            // 3. 텍스트를 줄 단위로 분리
-            String[] lines = extractedText.split("\n");
+            // 3. 텍스트를 줄 단위로 분리해 한 번에 매칭 (결과는 줄 순서)
+            List<IngredientMatchResult> matchResults = matchingService
+                    .matchLines(IngredientBatchMatchingService.splitLines(extractedText))
+                    .getResults();
             List<SpecificationItem> items = new ArrayList<>();
-            List<IngredientMatchResult> matchResults = new ArrayList<>();
             
             int sequence = 0;
-            for (String line : lines) {
-                line = line.trim();
-                if (line.isEmpty()) continue;
-                
-                // 재료 매칭 시도
-                IngredientMatchResult matchResult = matchingService.matchIngredient(line);
-                matchResults.add(matchResult);
-                
+            for (IngredientMatchResult matchResult : matchResults) {
                 if (matchResult.getMatched()) {
                     // 매칭 성공 시 표준 재료명으로 저장
                     items.add(SpecificationItem.builder()
@@ -171,16 +165,14 @@ public class SpecificationService {
                             .unit(String.format("매칭: %.0f%%", matchResult.getSimilarityScore() * 100))
                             .sequence(sequence++)
                             .build());
-                    log.info("Matched: '{}' -> '{}'", line, matchResult.getStandardName());
                 } else {
                     // 매칭 실패 시 원본 텍스트 저장
                     items.add(SpecificationItem.builder()
-                            .itemName(line)
+                            .itemName(matchResult.getOriginalText())
                             .itemValue("매칭 실패")
                             .unit(matchResult.getFailureReason())
                             .sequence(sequence++)
                             .build());
-                    log.warn("Match failed: '{}'", line);
                 }
             }
             
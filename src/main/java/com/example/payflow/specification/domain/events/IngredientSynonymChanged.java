@@ -0,0 +1,13 @@
+package com.example.payflow.specification.domain.events;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 재료 동의어 등록 (커밋 후 매칭기 재컴파일용, 일괄 등록이면 synonymId 는 null)
+ */
+@Getter
+@AllArgsConstructor
+public class IngredientSynonymChanged {
+    private final Long synonymId;
+}
@@ -2,9 +2,11 @@ package com.example.payflow.specification.infrastructure;
 
 import com.example.payflow.specification.domain.IngredientSynonym;
 import com.example.payflow.specification.domain.IngredientSynonymRepository;
+import com.example.payflow.specification.domain.events.IngredientSynonymChanged;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,6 +23,7 @@ import java.util.List;
 public class IngredientSynonymInitializer implements CommandLineRunner {
     
     private final IngredientSynonymRepository repository;
+    private final ApplicationEventPublisher eventPublisher;
     
     @Override
     @Transactional
@@ -166,6 +169,7 @@ public class IngredientSynonymInitializer implements CommandLineRunner {
         synonyms.add(createSynonym("소금", "천일염", 0.9));
         
         repository.saveAll(synonyms);
+        eventPublisher.publishEvent(new IngredientSynonymChanged(null));
         
         log.info("재료 동의어 초기 데이터 생성 완료: {} 건", synonyms.size());
     }
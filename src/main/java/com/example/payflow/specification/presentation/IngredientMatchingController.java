@@ -1,7 +1,9 @@
 package com.example.payflow.specification.presentation;
 
+import com.example.payflow.specification.application.IngredientBatchMatchingService;
 import com.example.payflow.specification.application.RuleBasedMatchingService;
 import com.example.payflow.specification.domain.IngredientSynonym;
+import com.example.payflow.specification.presentation.dto.IngredientBatchMatchResult;
 import com.example.payflow.specification.presentation.dto.IngredientMatchResult;
 import com.example.payflow.specification.presentation.dto.SynonymRequest;
 import lombok.RequiredArgsConstructor;
@@ -21,6 +23,7 @@ import java.util.Map;
 public class IngredientMatchingController {
     
     private final RuleBasedMatchingService matchingService;
+    private final IngredientBatchMatchingService batchMatchingService;
     
     /**
      * 단일 OCR 텍스트 매칭
@@ -43,10 +46,26 @@ public class IngredientMatchingController {
         List<String> ocrTexts = request.get("ocrTexts");
         log.info("일괄 매칭 요청: {} 건", ocrTexts.size());
         
-        List<IngredientMatchResult> results = matchingService.matchIngredients(ocrTexts);
+        List<IngredientMatchResult> results = batchMatchingService.matchLines(ocrTexts).getResults();
         return ResponseEntity.ok(results);
     }
     
+    /**
+     * 명세표 OCR 텍스트 전체 줄 일괄 매칭 (단계별 소요 시간 포함)
+     */
+    @GetMapping("/match/specifications/{specificationId}")
+    public ResponseEntity<IngredientBatchMatchResult> matchSpecification(@PathVariable Long specificationId) {
+        return ResponseEntity.ok(batchMatchingService.matchSpecification(specificationId));
+    }
+    
+    /**
+     * 거래명세서 품목 전체 일괄 매칭 (단계별 소요 시간 포함)
+     */
+    @GetMapping("/match/invoices/{invoiceId}")
+    public ResponseEntity<IngredientBatchMatchResult> matchInvoice(@PathVariable String invoiceId) {
+        return ResponseEntity.ok(batchMatchingService.matchInvoice(invoiceId));
+    }
+    
     /**
      * 동의어 추가 (관리자)
      */
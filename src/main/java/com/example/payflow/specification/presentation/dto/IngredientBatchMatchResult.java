@@ -0,0 +1,30 @@
+package com.example.payflow.specification.presentation.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 일괄 재료 매칭 결과 DTO (결과는 입력 줄 순서)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class IngredientBatchMatchResult {
+
+    private List<IngredientMatchResult> results;
+    private Integer totalLines;        // 입력 줄 수
+    private Integer uniqueLines;       // 중복 제거한 원본 줄 수 (정규화 대상)
+    private Integer uniqueNormalized;  // 중복 제거한 정규화 문자열 수 (매칭 대상)
+    private Integer matchedCount;      // 매칭 성공 줄 수
+
+    // 단계별 소요 시간 (마이크로초)
+    private Long normalizeMicros;
+    private Long matchMicros;
+    private Long assembleMicros;
+    private Long totalMicros;
+}
@@ -78,4 +78,19 @@ public class IngredientMatchResult {
             .failureReason(reason)
             .build();
     }
+    
+    /**
+     * 같은 매칭 결과를 다른 원본 텍스트로 (정규화 결과가 같은 줄끼리 결과 공유)
+     */
+    public IngredientMatchResult withOriginalText(String originalText) {
+        return IngredientMatchResult.builder()
+            .originalText(originalText)
+            .normalizedText(normalizedText)
+            .standardName(standardName)
+            .similarityScore(similarityScore)
+            .matchType(matchType)
+            .matched(matched)
+            .failureReason(failureReason)
+            .build();
+    }
 }
@@ -0,0 +1,306 @@
+package com.example.payflow.stage.application;
+
+import com.example.payflow.common.event.DomainEvent;
+import com.example.payflow.common.event.EventPublisher;
+import com.example.payflow.stage.application.dto.StageBatchJobStats;
+import com.example.payflow.stage.domain.*;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 스테이지 결제/약정금 일괄 생성 엔진
+ * - 대상 스테이지를 id % partitions 로 나눠 파티션마다 워커 하나가 id 순 keyset 청크로 처리
+ * - 청크 생성 결과와 체크포인트(lastStageId) 를 한 트랜잭션으로 커밋, 이벤트는 커밋 후 청크 단위로 일괄 발행
+ * - 청크가 실패하면 그 청크만 스테이지 단위 트랜잭션으로 다시 돌려 실패 스테이지만 건너뛴다
+ * - 중단된 작업(RUNNING) 은 기동 시 체크포인트 다음 스테이지부터 이어서 실행
+ * - 실패한 작업(FAILED) 은 기동 시 또는 같은 날짜로 다시 실행하면 실패 스테이지가 있는 파티션을 처음부터 다시 처리
+ *   (이미 생성된 결제/약정금은 건너뛰므로 실패했던 스테이지만 새로 생성된다)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StageBatchJobEngine {
+
+    private static final long SHUTDOWN_TIMEOUT_MS = 5_000;
+
+    private final StageRepository stageRepository;
+    private final StageBatchJobRepository jobRepository;
+    private final StageBatchCheckpointRepository checkpointRepository;
+    private final StagePaymentService paymentService;
+    private final StagePayoutService payoutService;
+    private final EventPublisher eventPublisher;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${stage.batch.partitions:4}")
+    private int partitions;
+
+    @Value("${stage.batch.chunk-size:200}")
+    private int chunkSize;
+
+    private ExecutorService workers;
+    private ExecutorService resumer;
+    private TransactionTemplate transactionTemplate;
+
+    // 이 프로세스에서 실행 중인 작업 (같은 작업 중복 실행 방지)
+    private final Set<String> running = ConcurrentHashMap.newKeySet();
+
+    @PostConstruct
+    public void init() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+
+        AtomicInteger sequence = new AtomicInteger();
+        workers = Executors.newFixedThreadPool(partitions, r -> {
+            Thread thread = new Thread(r, "stage-batch-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        resumer = Executors.newSingleThreadExecutor(r -> {
+            Thread thread = new Thread(r, "stage-batch-resumer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        log.info("🚀 스테이지 일괄 생성 엔진 시작 - partitions={}, chunkSize={}", partitions, chunkSize);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        resumer.shutdownNow();
+        workers.shutdownNow();
+        try {
+            workers.awaitTermination(SHUTDOWN_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // 진행 중이던 작업은 RUNNING 으로 남아 다음 기동 시 체크포인트부터 재개
+        log.info("스테이지 일괄 생성 엔진 종료 - 실행 중 작업 {}건은 재시작 후 재개", running.size());
+    }
+
+    /**
+     * 재시작 후 중단된 작업은 이어서, 실패한 작업은 실패 파티션부터 다시 실행 (기동마다 한 번)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeInterruptedJobs() {
+        for (StageBatchJobStatus status : List.of(StageBatchJobStatus.RUNNING, StageBatchJobStatus.FAILED)) {
+            for (StageBatchJob job : jobRepository.findByStatus(status)) {
+                log.info("♻️ {} 스테이지 일괄 생성 작업 재개: jobKey={}",
+                        status == StageBatchJobStatus.RUNNING ? "중단된" : "실패한", job.getJobKey());
+                resumer.submit(() -> run(job.getJobType(), job.getRunDate()));
+            }
+        }
+    }
+
+    /**
+     * 작업 실행 (이미 끝난 작업이면 건너뛰고, 중단된 작업은 체크포인트부터, 실패한 작업은 실패 파티션을 처음부터)
+     * 모든 파티션이 끝날 때까지 호출 스레드에서 기다린다
+     */
+    public Optional<StageBatchJobStats> run(StageBatchJobType type, LocalDate runDate) {
+        String jobKey = StageBatchJob.keyOf(type, runDate);
+        if (!running.add(jobKey)) {
+            log.warn("이미 실행 중인 스테이지 일괄 생성 작업: jobKey={}", jobKey);
+            return getStats(type, runDate);
+        }
+        try {
+            StageBatchJob job = transactionTemplate.execute(status -> startOrResume(type, runDate));
+            if (job.isCompleted()) {
+                log.info("이미 완료된 스테이지 일괄 생성 작업: jobKey={}", jobKey);
+                return getStats(type, runDate);
+            }
+
+            List<Future<?>> futures = new ArrayList<>();
+            for (int partition = 0; partition < job.getPartitionCount(); partition++) {
+                int partitionIndex = partition;
+                futures.add(workers.submit(() -> runPartition(job, partitionIndex)));
+            }
+            boolean interrupted = false;
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    log.error("스테이지 일괄 생성 파티션 실패: jobKey={}", jobKey, e.getCause());
+                } catch (InterruptedException | CancellationException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted || workers.isShutdown()) {
+                // 종료 중 - 작업은 RUNNING 으로 남겨 다음 기동 시 재개
+                Thread.currentThread().interrupt();
+                return getStats(type, runDate);
+            }
+
+            transactionTemplate.executeWithoutResult(status -> finish(jobKey));
+            Optional<StageBatchJobStats> stats = getStats(type, runDate);
+            stats.ifPresent(s -> log.info("✅ 스테이지 일괄 생성 종료: jobKey={}, status={}, stages={}/{}, failed={}, created={}, {}건/s",
+                    jobKey, s.getStatus(), s.getProcessedStages(), s.getTotalStages(), s.getFailedStages(),
+                    s.getCreatedItems(), String.format("%.1f", s.getStagesPerSecond())));
+            return stats;
+        } finally {
+            running.remove(jobKey);
+        }
+    }
+
+    public Optional<StageBatchJobStats> getStats(StageBatchJobType type, LocalDate runDate) {
+        String jobKey = StageBatchJob.keyOf(type, runDate);
+        return jobRepository.findByJobKey(jobKey).map(job -> {
+            List<StageBatchCheckpoint> checkpoints = checkpointRepository.findByJobKeyOrderByPartitionIndexAsc(jobKey);
+            long processed = 0;
+            long failed = 0;
+            long created = 0;
+            int completedPartitions = 0;
+            for (StageBatchCheckpoint checkpoint : checkpoints) {
+                processed += checkpoint.getProcessedStages();
+                failed += checkpoint.getFailedStages();
+                created += checkpoint.getCreatedItems();
+                completedPartitions += checkpoint.getCompleted() ? 1 : 0;
+            }
+            LocalDateTime end = job.getFinishedAt() != null ? job.getFinishedAt() : LocalDateTime.now();
+            long elapsedMillis = Math.max(1, Duration.between(job.getStartedAt(), end).toMillis());
+            return StageBatchJobStats.builder()
+                    .jobKey(jobKey)
+                    .jobType(job.getJobType().name())
+                    .runDate(job.getRunDate())
+                    .status(job.getStatus().name())
+                    .attempts(job.getAttempts())
+                    .partitionCount(job.getPartitionCount())
+                    .completedPartitions(completedPartitions)
+                    .totalStages(job.getTotalStages())
+                    .processedStages(processed)
+                    .failedStages(failed)
+                    .createdItems(created)
+                    .progress(job.getTotalStages() == 0 ? 1.0 : Math.min(1.0, (double) processed / job.getTotalStages()))
+                    .startedAt(job.getStartedAt())
+                    .finishedAt(job.getFinishedAt())
+                    .elapsedMillis(elapsedMillis)
+                    .stagesPerSecond(processed * 1_000.0 / elapsedMillis)
+                    .itemsPerSecond(created * 1_000.0 / elapsedMillis)
+                    .build();
+        });
+    }
+
+    private StageBatchJob startOrResume(StageBatchJobType type, LocalDate runDate) {
+        Optional<StageBatchJob> existing = jobRepository.findByJobKey(StageBatchJob.keyOf(type, runDate));
+        if (existing.isPresent()) {
+            StageBatchJob job = existing.get();
+            if (job.isFailed()) {
+                long retried = checkpointRepository.findByJobKeyOrderByPartitionIndexAsc(job.getJobKey()).stream()
+                        .filter(StageBatchCheckpoint::retryFailed)
+                        .count();
+                log.info("🔁 실패 스테이지가 있는 파티션 {}개를 처음부터 재처리: jobKey={}", retried, job.getJobKey());
+            }
+            if (!job.isCompleted()) {
+                job.resume();
+            }
+            return job;
+        }
+        long totalStages = stageRepository.countByStatusAndPaymentDay(StageStatus.ACTIVE, runDate.getDayOfMonth());
+        StageBatchJob job = jobRepository.save(new StageBatchJob(type, runDate, partitions, totalStages));
+        List<StageBatchCheckpoint> checkpoints = new ArrayList<>();
+        for (int partition = 0; partition < partitions; partition++) {
+            checkpoints.add(new StageBatchCheckpoint(job.getJobKey(), partition));
+        }
+        checkpointRepository.saveAll(checkpoints);
+        log.info("🗂️ 스테이지 일괄 생성 작업 시작: jobKey={}, stages={}, partitions={}",
+                job.getJobKey(), totalStages, partitions);
+        return job;
+    }
+
+    private void finish(String jobKey) {
+        StageBatchJob job = jobRepository.findByJobKey(jobKey).orElseThrow();
+        List<StageBatchCheckpoint> checkpoints = checkpointRepository.findByJobKeyOrderByPartitionIndexAsc(jobKey);
+        boolean succeeded = checkpoints.stream()
+                .allMatch(checkpoint -> checkpoint.getCompleted() && checkpoint.getFailedStages() == 0);
+        job.finish(succeeded);
+    }
+
+    private void runPartition(StageBatchJob job, int partition) {
+        String jobKey = job.getJobKey();
+        int paymentDay = job.getRunDate().getDayOfMonth();
+        long afterId = checkpointRepository.findByJobKeyAndPartitionIndex(jobKey, partition)
+                .filter(checkpoint -> !checkpoint.getCompleted())
+                .map(StageBatchCheckpoint::getLastStageId)
+                .orElse(-1L);
+        if (afterId < 0) {
+            return;
+        }
+
+        while (!Thread.currentThread().isInterrupted()) {
+            List<Long> stageIds = stageRepository.findIdsForPartition(StageStatus.ACTIVE, paymentDay,
+                    (long) job.getPartitionCount(), (long) partition, afterId, PageRequest.of(0, chunkSize));
+            if (stageIds.isEmpty()) {
+                transactionTemplate.executeWithoutResult(status -> checkpoint(jobKey, partition).complete());
+                return;
+            }
+            try {
+                List<? extends DomainEvent> events = transactionTemplate.execute(status -> {
+                    List<? extends DomainEvent> generated = generate(job, stageIds);
+                    checkpoint(jobKey, partition).advance(last(stageIds), stageIds.size(), generated.size(), 0);
+                    return generated;
+                });
+                publish(jobKey, events);
+            } catch (RuntimeException e) {
+                log.warn("청크 처리 실패, 스테이지 단위로 재시도: jobKey={}, partition={}, stages={}~{}, error={}",
+                        jobKey, partition, stageIds.get(0), last(stageIds), e.getMessage());
+                stageIds.forEach(stageId -> runSingle(job, partition, stageId));
+            }
+            afterId = last(stageIds);
+        }
+    }
+
+    private void runSingle(StageBatchJob job, int partition, Long stageId) {
+        String jobKey = job.getJobKey();
+        try {
+            List<? extends DomainEvent> events = transactionTemplate.execute(status -> {
+                List<? extends DomainEvent> generated = generate(job, List.of(stageId));
+                checkpoint(jobKey, partition).advance(stageId, 1, generated.size(), 0);
+                return generated;
+            });
+            publish(jobKey, events);
+        } catch (RuntimeException e) {
+            log.error("스테이지 일괄 생성 실패: jobKey={}, stageId={}, error={}", jobKey, stageId, e.getMessage(), e);
+            transactionTemplate.executeWithoutResult(status -> checkpoint(jobKey, partition).advance(stageId, 1, 0, 1));
+        }
+    }
+
+    private List<? extends DomainEvent> generate(StageBatchJob job, List<Long> stageIds) {
+        List<Stage> stages = stageRepository.findAllById(stageIds);
+        return switch (job.getJobType()) {
+            case PAYMENT -> paymentService.generatePaymentsForStages(stages, job.getRunDate());
+            case PAYOUT -> payoutService.generatePayoutsForStages(stages, job.getRunDate());
+        };
+    }
+
+    private StageBatchCheckpoint checkpoint(String jobKey, int partition) {
+        return checkpointRepository.findByJobKeyAndPartitionIndex(jobKey, partition)
+                .orElseThrow(() -> new IllegalStateException("체크포인트가 없습니다: " + jobKey + "#" + partition));
+    }
+
+    /**
+     * 커밋된 청크의 이벤트 발행 - 실패해도 생성 결과는 이미 커밋되어 있으므로 로그만 남긴다
+     */
+    private void publish(String jobKey, List<? extends DomainEvent> events) {
+        try {
+            eventPublisher.publishAll(events);
+        } catch (RuntimeException e) {
+            log.error("스테이지 일괄 생성 이벤트 발행 실패: jobKey={}, count={}", jobKey, events.size(), e);
+        }
+    }
+
+    private static Long last(List<Long> stageIds) {
+        return stageIds.get(stageIds.size() - 1);
+    }
+}
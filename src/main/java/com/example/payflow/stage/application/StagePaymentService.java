@@ -13,7 +13,10 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -25,6 +28,7 @@ public class StagePaymentService {
     private final StageParticipantRepository participantRepository;
     private final StagePaymentRepository paymentRepository;
     private final EventPublisher eventPublisher;
+    private final StageBatchRepository batchRepository;
 
     @Transactional
     public void generateMonthlyPayments(Long stageId, Integer monthNumber) {
@@ -73,6 +77,47 @@ public class StagePaymentService {
         }
     }
 
+    /**
+     * 결제일 배치 청크 처리 - 청크 전체를 집합 조회 2번 + batch insert 로 생성
+     * 발행할 이벤트를 돌려주며, 호출자가 커밋 후 한꺼번에 발행한다
+     */
+    @Transactional
+    public List<PaymentDueEvent> generatePaymentsForStages(List<Stage> stages, LocalDate runDate) {
+        Map<Long, Integer> monthByStage = new HashMap<>();
+        for (Stage stage : stages) {
+            if (stage.getStatus() != StageStatus.ACTIVE) {
+                continue;
+            }
+            int monthNumber = stage.getMonthNumberOn(runDate);
+            if (monthNumber <= stage.getTotalParticipants()) {
+                monthByStage.put(stage.getId(), monthNumber);
+            }
+        }
+
+        Map<Long, Map<Integer, String>> participants = batchRepository.findParticipantsByTurn(monthByStage.keySet());
+        Map<Long, Set<String>> existing = batchRepository.findPaymentUsernames(monthByStage);
+
+        List<StagePayment> payments = new ArrayList<>();
+        List<PaymentDueEvent> events = new ArrayList<>();
+        for (Stage stage : stages) {
+            Integer monthNumber = monthByStage.get(stage.getId());
+            if (monthNumber == null) {
+                continue;
+            }
+            LocalDateTime dueDate = calculateDueDate(stage.getStartDate(), stage.getPaymentDay(), monthNumber);
+            Set<String> alreadyCreated = existing.getOrDefault(stage.getId(), Set.of());
+            for (String username : participants.getOrDefault(stage.getId(), Map.of()).values()) {
+                if (!alreadyCreated.contains(username)) {
+                    payments.add(new StagePayment(stage, username, monthNumber, stage.getMonthlyPayment(), dueDate));
+                    events.add(new PaymentDueEvent(stage.getId(), username, monthNumber, stage.getMonthlyPayment(), dueDate));
+                }
+            }
+        }
+
+        batchRepository.insertPayments(payments);
+        return events;
+    }
+
     @Transactional
     public void processPayment(Long paymentId, String paymentKey) {
         StagePayment payment = paymentRepository.findById(paymentId)
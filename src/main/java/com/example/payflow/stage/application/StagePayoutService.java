@@ -12,7 +12,11 @@ import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
@@ -26,6 +30,7 @@ public class StagePayoutService {
     private final StagePaymentRepository paymentRepository;
     private final EventPublisher eventPublisher;
     private final StageService stageService;
+    private final StageBatchRepository batchRepository;
 
     @Transactional
     public void generatePayout(Long stageId, Integer turnNumber) {
@@ -81,6 +86,56 @@ public class StagePayoutService {
                 stageId, participant.getUsername(), turnNumber, payoutAmount);
     }
 
+    /**
+     * 약정금 배치 청크 처리 - 전월 순번 대상 스테이지를 집합 조회 3번 + batch insert 로 생성
+     * 발행할 이벤트를 돌려주며, 호출자가 커밋 후 한꺼번에 발행한다
+     */
+    @Transactional
+    public List<PayoutReadyEvent> generatePayoutsForStages(List<Stage> stages, LocalDate runDate) {
+        Map<Long, Integer> turnByStage = new HashMap<>();
+        for (Stage stage : stages) {
+            if (stage.getStatus() != StageStatus.ACTIVE) {
+                continue;
+            }
+            int currentMonth = stage.getMonthNumberOn(runDate);
+            if (currentMonth > 1 && currentMonth <= stage.getTotalParticipants()) {
+                turnByStage.put(stage.getId(), currentMonth - 1);
+            }
+        }
+
+        Map<Long, Map<Integer, String>> participants = batchRepository.findParticipantsByTurn(turnByStage.keySet());
+        Set<Long> withPayout = batchRepository.findStagesWithPayout(turnByStage);
+        Map<Long, Long> paidCounts = batchRepository.countPaidPayments(turnByStage);
+
+        List<StagePayout> payouts = new ArrayList<>();
+        List<PayoutReadyEvent> events = new ArrayList<>();
+        for (Stage stage : stages) {
+            Integer turnNumber = turnByStage.get(stage.getId());
+            if (turnNumber == null || withPayout.contains(stage.getId())) {
+                continue;
+            }
+            String username = participants.getOrDefault(stage.getId(), Map.of()).get(turnNumber);
+            if (username == null) {
+                log.warn("해당 순번의 참여자가 없음: stageId={}, turn={}", stage.getId(), turnNumber);
+                continue;
+            }
+            long paidCount = paidCounts.getOrDefault(stage.getId(), 0L);
+            if (paidCount < stage.getTotalParticipants()) {
+                log.warn("모든 참여자가 납입하지 않음: stageId={}, month={}, paid={}/{}",
+                        stage.getId(), turnNumber, paidCount, stage.getTotalParticipants());
+                continue;
+            }
+
+            BigDecimal payoutAmount = stage.calculatePayoutAmount(turnNumber);
+            LocalDateTime scheduledAt = calculatePayoutDate(stage.getStartDate(), stage.getPaymentDay(), turnNumber);
+            payouts.add(new StagePayout(stage, username, turnNumber, payoutAmount, scheduledAt));
+            events.add(new PayoutReadyEvent(stage.getId(), username, turnNumber, payoutAmount));
+        }
+
+        batchRepository.insertPayouts(payouts);
+        return events;
+    }
+
     @Transactional
     public void completePayout(Long payoutId, String transactionId) {
         StagePayout payout = payoutRepository.findById(payoutId)
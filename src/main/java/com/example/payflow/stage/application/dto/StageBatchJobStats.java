@@ -0,0 +1,36 @@
+package com.example.payflow.stage.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 스테이지 결제/약정금 일괄 생성 작업 진행률/처리량 (체크포인트 합계 기준)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StageBatchJobStats {
+    private String jobKey;                           // PAYMENT:2024-03-15
+    private String jobType;                          // PAYMENT / PAYOUT
+    private LocalDate runDate;                       // 기준일
+    private String status;                           // RUNNING / COMPLETED / FAILED
+    private int attempts;                            // 실행(재개 포함) 횟수
+    private int partitionCount;                      // 파티션 수
+    private int completedPartitions;                 // 끝까지 처리한 파티션 수
+    private long totalStages;                        // 시작 시점 대상 스테이지 수
+    private long processedStages;                    // 처리한 스테이지 수 (실패 포함)
+    private long failedStages;                       // 청크 재시도 후에도 실패한 스테이지 수
+    private long createdItems;                       // 생성한 결제/약정금 수
+    private double progress;                         // processedStages / totalStages (0~1)
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private long elapsedMillis;                      // 시작 ~ 종료(진행 중이면 현재)
+    private double stagesPerSecond;                  // 스테이지 처리량
+    private double itemsPerSecond;                   // 결제/약정금 생성 처리량
+}
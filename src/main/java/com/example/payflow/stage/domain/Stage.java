@@ -8,6 +8,7 @@ import lombok.NoArgsConstructor;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -133,4 +134,11 @@ public class Stage {
         BigDecimal totalMultiplier = BigDecimal.ONE.add(interestMultiplier);
         return baseAmount.multiply(totalMultiplier);
     }
+
+    /**
+     * 주어진 날짜가 스테이지 시작일로부터 몇 번째 달인지 (1부터 시작)
+     */
+    public int getMonthNumberOn(LocalDate date) {
+        return (int) ChronoUnit.MONTHS.between(startDate, date) + 1;
+    }
 }
@@ -0,0 +1,88 @@
+package com.example.payflow.stage.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 파티션별 진행 체크포인트 - 청크 결과 저장과 같은 트랜잭션에서 lastStageId 를 올린다
+ * 재시작 시 lastStageId 다음 스테이지부터 이어서 처리, 실패한 작업을 다시 실행하면 실패 스테이지가 있는 파티션만 처음부터 재처리
+ */
+@Entity
+@Table(name = "stage_batch_checkpoints",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"job_key", "partition_index"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StageBatchCheckpoint {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String jobKey;
+
+    @Column(nullable = false)
+    private Integer partitionIndex;
+
+    @Column(nullable = false)
+    private Long lastStageId; // 처리 완료한 마지막 스테이지 ID (0 이면 처음부터)
+
+    @Column(nullable = false)
+    private Long processedStages;
+
+    @Column(nullable = false)
+    private Long createdItems; // 생성한 결제/약정금 수
+
+    @Column(nullable = false)
+    private Long failedStages;
+
+    @Column(nullable = false)
+    private Boolean completed = false;
+
+    private LocalDateTime updatedAt;
+
+    public StageBatchCheckpoint(String jobKey, int partitionIndex) {
+        this.jobKey = jobKey;
+        this.partitionIndex = partitionIndex;
+        this.lastStageId = 0L;
+        this.processedStages = 0L;
+        this.createdItems = 0L;
+        this.failedStages = 0L;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void advance(long lastStageId, int stages, int items, int failed) {
+        this.lastStageId = lastStageId;
+        this.processedStages += stages;
+        this.createdItems += items;
+        this.failedStages += failed;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void complete() {
+        this.completed = true;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 실패한 스테이지가 있으면 파티션을 처음부터 다시 처리하도록 되돌린다
+     * 이미 생성된 결제/약정금은 재처리 때 건너뛰므로 createdItems 는 유지
+     *
+     * @return 되돌렸으면 true
+     */
+    public boolean retryFailed() {
+        if (this.failedStages == 0) {
+            return false;
+        }
+        this.lastStageId = 0L;
+        this.processedStages = 0L;
+        this.failedStages = 0L;
+        this.completed = false;
+        this.updatedAt = LocalDateTime.now();
+        return true;
+    }
+}
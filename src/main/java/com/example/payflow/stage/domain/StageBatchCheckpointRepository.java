@@ -0,0 +1,13 @@
+package com.example.payflow.stage.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface StageBatchCheckpointRepository extends JpaRepository<StageBatchCheckpoint, Long> {
+    
+    List<StageBatchCheckpoint> findByJobKeyOrderByPartitionIndexAsc(String jobKey);
+    
+    Optional<StageBatchCheckpoint> findByJobKeyAndPartitionIndex(String jobKey, Integer partitionIndex);
+}
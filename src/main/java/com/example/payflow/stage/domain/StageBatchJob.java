@@ -0,0 +1,86 @@
+package com.example.payflow.stage.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 스테이지 결제/약정금 일괄 생성 작업 (작업 종류 + 실행일 당 하나)
+ * 진행 상황은 파티션별 StageBatchCheckpoint 에 기록
+ */
+@Entity
+@Table(name = "stage_batch_jobs")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StageBatchJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, unique = true)
+    private String jobKey; // PAYMENT:2024-03-15
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private StageBatchJobType jobType;
+
+    @Column(nullable = false)
+    private LocalDate runDate; // 기준일 (결제일/회차 계산)
+
+    @Column(nullable = false)
+    private Integer partitionCount; // 재개 시에도 같은 파티션 분할을 쓰도록 고정
+
+    @Column(nullable = false)
+    private Long totalStages; // 시작 시점 대상 스테이지 수
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private StageBatchJobStatus status;
+
+    @Column(nullable = false)
+    private Integer attempts; // 실행(재개 포함) 횟수
+
+    @Column(nullable = false)
+    private LocalDateTime startedAt;
+
+    private LocalDateTime finishedAt;
+
+    public StageBatchJob(StageBatchJobType jobType, LocalDate runDate, int partitionCount, long totalStages) {
+        this.jobKey = keyOf(jobType, runDate);
+        this.jobType = jobType;
+        this.runDate = runDate;
+        this.partitionCount = partitionCount;
+        this.totalStages = totalStages;
+        this.status = StageBatchJobStatus.RUNNING;
+        this.attempts = 1;
+        this.startedAt = LocalDateTime.now();
+    }
+
+    public static String keyOf(StageBatchJobType jobType, LocalDate runDate) {
+        return jobType.name() + ":" + runDate;
+    }
+
+    public void resume() {
+        this.status = StageBatchJobStatus.RUNNING;
+        this.attempts++;
+        this.finishedAt = null;
+    }
+
+    public void finish(boolean succeeded) {
+        this.status = succeeded ? StageBatchJobStatus.COMPLETED : StageBatchJobStatus.FAILED;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    public boolean isCompleted() {
+        return this.status == StageBatchJobStatus.COMPLETED;
+    }
+
+    public boolean isFailed() {
+        return this.status == StageBatchJobStatus.FAILED;
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.payflow.stage.domain;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface StageBatchJobRepository extends JpaRepository<StageBatchJob, Long> {
+    
+    Optional<StageBatchJob> findByJobKey(String jobKey);
+    
+    List<StageBatchJob> findByStatus(StageBatchJobStatus status);
+}
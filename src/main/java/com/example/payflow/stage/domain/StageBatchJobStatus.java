@@ -0,0 +1,7 @@
+package com.example.payflow.stage.domain;
+
+public enum StageBatchJobStatus {
+    RUNNING,    // 실행 중 (서버가 중단되면 이 상태로 남아 재시작 시 이어서 실행)
+    COMPLETED,  // 완료
+    FAILED      // 실패한 스테이지가 있거나 파티션이 중단됨 (다시 실행하면 실패 스테이지가 있는 파티션은 처음부터, 중단된 파티션은 체크포인트부터)
+}
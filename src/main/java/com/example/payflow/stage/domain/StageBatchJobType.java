@@ -0,0 +1,6 @@
+package com.example.payflow.stage.domain;
+
+public enum StageBatchJobType {
+    PAYMENT,  // 월별 납입 결제 생성
+    PAYOUT    // 약정금 생성
+}
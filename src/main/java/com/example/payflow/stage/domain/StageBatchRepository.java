@@ -0,0 +1,37 @@
+package com.example.payflow.stage.domain;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 스테이지 결제/약정금 일괄 생성용 Repository 인터페이스
+ * 청크 단위 집합 조회와 JDBC batch insert (참여자/결제마다 조회하지 않는다)
+ */
+public interface StageBatchRepository {
+    
+    /**
+     * 스테이지별 참여자 (stageId -> 순번 -> 사용자명)
+     */
+    Map<Long, Map<Integer, String>> findParticipantsByTurn(Collection<Long> stageIds);
+    
+    /**
+     * 스테이지별 해당 회차에 이미 결제가 생성된 사용자 (monthByStage: stageId -> 회차)
+     */
+    Map<Long, Set<String>> findPaymentUsernames(Map<Long, Integer> monthByStage);
+    
+    /**
+     * 스테이지별 해당 회차 납입 완료 건수
+     */
+    Map<Long, Long> countPaidPayments(Map<Long, Integer> monthByStage);
+    
+    /**
+     * 해당 순번 약정금이 이미 생성된 스테이지 (turnByStage: stageId -> 순번)
+     */
+    Set<Long> findStagesWithPayout(Map<Long, Integer> turnByStage);
+    
+    void insertPayments(List<StagePayment> payments);
+    
+    void insertPayouts(List<StagePayout> payouts);
+}
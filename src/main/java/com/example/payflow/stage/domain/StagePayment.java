@@ -9,7 +9,8 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "stage_payments")
+@Table(name = "stage_payments",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"stage_id", "username", "month_number"}))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class StagePayment {
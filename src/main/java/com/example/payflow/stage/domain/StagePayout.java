@@ -9,7 +9,8 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "stage_payouts")
+@Table(name = "stage_payouts",
+       uniqueConstraints = @UniqueConstraint(columnNames = {"stage_id", "turn_number"}))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class StagePayout {
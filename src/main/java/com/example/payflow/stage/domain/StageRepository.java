@@ -1,5 +1,6 @@
 package com.example.payflow.stage.domain;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -16,4 +17,15 @@ public interface StageRepository extends JpaRepository<Stage, Long> {
     
     @Query("SELECT s FROM Stage s WHERE s.status = :status AND s.paymentDay = :day")
     List<Stage> findByStatusAndPaymentDay(@Param("status") StageStatus status, @Param("day") Integer day);
+    
+    long countByStatusAndPaymentDay(StageStatus status, Integer paymentDay);
+    
+    /**
+     * 파티션(id % partitions) 에 속한 스테이지 ID 를 afterId 다음부터 id 순으로 (keyset 페이지)
+     */
+    @Query("SELECT s.id FROM Stage s WHERE s.status = :status AND s.paymentDay = :day " +
+           "AND MOD(s.id, :partitions) = :partition AND s.id > :afterId ORDER BY s.id")
+    List<Long> findIdsForPartition(@Param("status") StageStatus status, @Param("day") Integer day,
+                                   @Param("partitions") Long partitions, @Param("partition") Long partition,
+                                   @Param("afterId") Long afterId, Pageable pageable);
 }
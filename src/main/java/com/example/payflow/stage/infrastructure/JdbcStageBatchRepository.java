@@ -0,0 +1,142 @@
+package com.example.payflow.stage.infrastructure;
+
+import com.example.payflow.stage.domain.StageBatchRepository;
+import com.example.payflow.stage.domain.StagePayment;
+import com.example.payflow.stage.domain.StagePayout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.*;
+
+/**
+ * 스테이지 결제/약정금 일괄 생성 JDBC 구현
+ * - 청크의 스테이지 ID 를 IN 절 하나로 묶어 조회 (회차는 IN 으로 넓게 읽고 스테이지별 회차로 다시 거른다)
+ * - 생성은 jdbcBatchSize 건씩 batch insert, 중복은 stage_payments/stage_payouts 유니크 제약이 막는다
+ *   (기존 DB 에 제약이 없으면 UniqueConstraintVerifier 가 기동을 중단한다)
+ * - JPA 트랜잭션 안에서 호출하면 같은 커넥션으로 실행된다
+ */
+@Repository
+public class JdbcStageBatchRepository implements StageBatchRepository {
+
+    private static final String INSERT_PAYMENT =
+        "INSERT INTO stage_payments (stage_id, username, month_number, amount, is_paid, due_date) "
+            + "VALUES (?, ?, ?, ?, FALSE, ?)";
+    private static final String INSERT_PAYOUT =
+        "INSERT INTO stage_payouts (stage_id, username, turn_number, amount, is_completed, scheduled_at) "
+            + "VALUES (?, ?, ?, ?, FALSE, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int jdbcBatchSize;
+
+    public JdbcStageBatchRepository(JdbcTemplate jdbcTemplate,
+                                    @Value("${stage.batch.jdbc-batch-size:1000}") int jdbcBatchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.jdbcBatchSize = jdbcBatchSize;
+    }
+
+    @Override
+    public Map<Long, Map<Integer, String>> findParticipantsByTurn(Collection<Long> stageIds) {
+        Map<Long, Map<Integer, String>> participants = new HashMap<>();
+        if (stageIds.isEmpty()) {
+            return participants;
+        }
+        jdbcTemplate.query("SELECT stage_id, turn_number, username FROM stage_participants WHERE stage_id IN ("
+                + placeholders(stageIds.size()) + ")", rs -> {
+            participants.computeIfAbsent(rs.getLong(1), id -> new HashMap<>()).put(rs.getInt(2), rs.getString(3));
+        }, stageIds.toArray());
+        return participants;
+    }
+
+    @Override
+    public Map<Long, Set<String>> findPaymentUsernames(Map<Long, Integer> monthByStage) {
+        Map<Long, Set<String>> usernames = new HashMap<>();
+        if (monthByStage.isEmpty()) {
+            return usernames;
+        }
+        Set<Integer> months = new HashSet<>(monthByStage.values());
+        jdbcTemplate.query("SELECT stage_id, month_number, username FROM stage_payments WHERE stage_id IN ("
+                + placeholders(monthByStage.size()) + ") AND month_number IN (" + placeholders(months.size()) + ")", rs -> {
+            long stageId = rs.getLong(1);
+            if (monthByStage.get(stageId) == rs.getInt(2)) {
+                usernames.computeIfAbsent(stageId, id -> new HashSet<>()).add(rs.getString(3));
+            }
+        }, concat(monthByStage.keySet(), months));
+        return usernames;
+    }
+
+    @Override
+    public Map<Long, Long> countPaidPayments(Map<Long, Integer> monthByStage) {
+        Map<Long, Long> counts = new HashMap<>();
+        if (monthByStage.isEmpty()) {
+            return counts;
+        }
+        Set<Integer> months = new HashSet<>(monthByStage.values());
+        jdbcTemplate.query("SELECT stage_id, month_number, COUNT(*) FROM stage_payments WHERE stage_id IN ("
+                + placeholders(monthByStage.size()) + ") AND month_number IN (" + placeholders(months.size()) + ") "
+                + "AND is_paid = TRUE GROUP BY stage_id, month_number", rs -> {
+            long stageId = rs.getLong(1);
+            if (monthByStage.get(stageId) == rs.getInt(2)) {
+                counts.put(stageId, rs.getLong(3));
+            }
+        }, concat(monthByStage.keySet(), months));
+        return counts;
+    }
+
+    @Override
+    public Set<Long> findStagesWithPayout(Map<Long, Integer> turnByStage) {
+        Set<Long> stageIds = new HashSet<>();
+        if (turnByStage.isEmpty()) {
+            return stageIds;
+        }
+        Set<Integer> turns = new HashSet<>(turnByStage.values());
+        jdbcTemplate.query("SELECT stage_id, turn_number FROM stage_payouts WHERE stage_id IN ("
+                + placeholders(turnByStage.size()) + ") AND turn_number IN (" + placeholders(turns.size()) + ")", rs -> {
+            long stageId = rs.getLong(1);
+            if (turnByStage.get(stageId) == rs.getInt(2)) {
+                stageIds.add(stageId);
+            }
+        }, concat(turnByStage.keySet(), turns));
+        return stageIds;
+    }
+
+    @Override
+    public void insertPayments(List<StagePayment> payments) {
+        if (payments.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_PAYMENT, payments, jdbcBatchSize, (ps, payment) -> {
+            ps.setLong(1, payment.getStage().getId());
+            ps.setString(2, payment.getUsername());
+            ps.setInt(3, payment.getMonthNumber());
+            ps.setBigDecimal(4, payment.getAmount());
+            ps.setTimestamp(5, Timestamp.valueOf(payment.getDueDate()));
+        });
+    }
+
+    @Override
+    public void insertPayouts(List<StagePayout> payouts) {
+        if (payouts.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_PAYOUT, payouts, jdbcBatchSize, (ps, payout) -> {
+            ps.setLong(1, payout.getStage().getId());
+            ps.setString(2, payout.getUsername());
+            ps.setInt(3, payout.getTurnNumber());
+            ps.setBigDecimal(4, payout.getAmount());
+            ps.setTimestamp(5, Timestamp.valueOf(payout.getScheduledAt()));
+        });
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    private static Object[] concat(Collection<?> first, Collection<?> second) {
+        List<Object> args = new ArrayList<>(first.size() + second.size());
+        args.addAll(first);
+        args.addAll(second);
+        return args.toArray();
+    }
+}
@@ -1,18 +1,22 @@
 package com.example.payflow.stage.presentation;
 
+import com.example.payflow.stage.application.StageBatchJobEngine;
 import com.example.payflow.stage.application.StagePaymentService;
 import com.example.payflow.stage.application.StagePayoutService;
 import com.example.payflow.stage.application.StageService;
 import com.example.payflow.stage.application.StageSettlementService;
+import com.example.payflow.stage.application.dto.StageBatchJobStats;
 import com.example.payflow.stage.domain.*;
 import com.example.payflow.stage.presentation.dto.*;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -25,6 +29,7 @@ public class StageController {
     private final StagePaymentService paymentService;
     private final StagePayoutService payoutService;
     private final StageSettlementService settlementService;
+    private final StageBatchJobEngine batchJobEngine;
 
     @PostMapping
     public ResponseEntity<StageResponse> createStage(
@@ -197,4 +202,16 @@ public class StageController {
         
         return ResponseEntity.ok(responses);
     }
+
+    /**
+     * 결제/약정금 일괄 생성 작업 진행률/처리량
+     */
+    @GetMapping("/batch-jobs/{type}/{runDate}")
+    public ResponseEntity<StageBatchJobStats> getBatchJobStats(
+            @PathVariable StageBatchJobType type,
+            @PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate runDate) {
+        return batchJobEngine.getStats(type, runDate)
+                .map(ResponseEntity::ok)
+                .orElse(ResponseEntity.notFound().build());
+    }
 }
@@ -0,0 +1,231 @@
+package com.example.payflow.ainjob.application;
+
+import com.example.payflow.ainjob.application.dto.QualifiedApplicantResponse;
+import com.example.payflow.ainjob.domain.*;
+import com.google.gson.Gson;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+
+class QualificationScreeningPlanTest {
+
+    private static final String[] SKILL_NAMES = {"Java", "Spring", "JPA", "Kotlin", "React", "AWS", "Docker", "SQL"};
+    private static final String[] MAJOR_NAMES = {"컴퓨터공학", "전자공학", "경영학", "수학"};
+
+    private final Random random = new Random(42);
+    private final Gson gson = new Gson();
+    private final LocalDate today = LocalDate.now();
+    private List<AinjobSkill> skills;
+    private List<Major> majors;
+
+    @BeforeEach
+    void setUp() {
+        skills = Arrays.stream(SKILL_NAMES)
+            .map(name -> AinjobSkill.create(name, "개발", null))
+            .collect(Collectors.toList());
+        // 대소문자/공백만 다른 스킬도 같은 스킬로 본다
+        skills.add(AinjobSkill.create(" java ", "개발", null));
+        majors = Arrays.stream(MAJOR_NAMES)
+            .map(name -> Major.create(name, "공학"))
+            .collect(Collectors.toList());
+    }
+
+    @Test
+    @DisplayName("스냅샷 평가 결과가 지원자 엔티티 단건 평가 결과와 같다")
+    void evaluateMatchesReference() {
+        for (int posting = 0; posting < 20; posting++) {
+            // given
+            AinjobJobPosting jobPosting = randomJobPosting(posting);
+            List<Applicant> applicants = new ArrayList<>();
+            for (long id = 1; id <= 300; id++) {
+                applicants.add(randomApplicant(id));
+            }
+            QualificationScreeningPlan plan = QualificationScreeningPlan.compile(jobPosting, gson);
+
+            // when
+            ApplicantScreeningSnapshot snapshot = snapshotOf(plan, applicants);
+
+            // then
+            assertThat(snapshot.size()).isEqualTo(applicants.size());
+            for (int i = 0; i < applicants.size(); i++) {
+                assertSameResponse(plan.evaluate(snapshot, i), reference(applicants.get(i), jobPosting));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("필수 스킬이 64개를 넘어도 마스크 word 마다 포함 여부를 본다")
+    void manyRequiredSkills() {
+        // given
+        AinjobJobPosting jobPosting = AinjobJobPosting.create(1L, "공고", null, "개발",
+            new Qualification(EducationLevel.HIGH_SCHOOL, null, 0), null, null);
+        List<AinjobSkill> required = new ArrayList<>();
+        for (int i = 0; i < 70; i++) {
+            AinjobSkill skill = AinjobSkill.create("skill-" + i, "개발", null);
+            required.add(skill);
+            jobPosting.addRequiredSkill(JobPostingSkill.create(skill, true, null));
+        }
+        Applicant all = applicantWithSkills(1L, required);
+        Applicant missingLast = applicantWithSkills(2L, required.subList(0, 69));
+        QualificationScreeningPlan plan = QualificationScreeningPlan.compile(jobPosting, gson);
+
+        // when
+        ApplicantScreeningSnapshot snapshot = snapshotOf(plan, List.of(all, missingLast));
+
+        // then
+        assertThat(plan.evaluate(snapshot, 0).getSkillsMatched()).isTrue();
+        assertThat(plan.evaluate(snapshot, 1).getSkillsMatched()).isFalse();
+    }
+
+    private void assertSameResponse(QualifiedApplicantResponse actual, QualifiedApplicantResponse expected) {
+        assertThat(actual.getApplicantId()).isEqualTo(expected.getApplicantId());
+        assertThat(actual.getEducationLevel()).isEqualTo(expected.getEducationLevel());
+        assertThat(actual.getMajorName()).isEqualTo(expected.getMajorName());
+        assertThat(actual.getSkills()).isEqualTo(expected.getSkills());
+        assertThat(actual.getTotalYearsOfExperience()).isCloseTo(expected.getTotalYearsOfExperience(), within(1e-9));
+        assertThat(actual.getMatchingScore()).isEqualTo(expected.getMatchingScore());
+        assertThat(actual.getMatchingReason()).isEqualTo(expected.getMatchingReason());
+        assertThat(actual.getIsQualified()).isEqualTo(expected.getIsQualified());
+        assertThat(actual.getEducationMatched()).isEqualTo(expected.getEducationMatched());
+        assertThat(actual.getMajorMatched()).isEqualTo(expected.getMajorMatched());
+        assertThat(actual.getSkillsMatched()).isEqualTo(expected.getSkillsMatched());
+        assertThat(actual.getExperienceMatched()).isEqualTo(expected.getExperienceMatched());
+    }
+
+    /**
+     * 기존 ApplicantMatchingService 의 지원자 단건 평가
+     */
+    private QualifiedApplicantResponse reference(Applicant applicant, AinjobJobPosting jobPosting) {
+        Qualification qualification = jobPosting.getQualification();
+
+        EducationLevel highest = applicant.getEducations().stream()
+            .map(Education::getLevel)
+            .max(Comparator.comparing(EducationLevel::ordinal))
+            .orElse(null);
+        boolean educationMatched = highest != null && qualification.getMinEducationLevel() != null
+            && highest.ordinal() >= qualification.getMinEducationLevel().ordinal();
+
+        String majorName = highest == null ? null : applicant.getEducations().stream()
+            .filter(e -> e.getLevel() == highest)
+            .findFirst()
+            .map(e -> e.getMajor() != null ? e.getMajor().getName() : null)
+            .orElse(null);
+        List<String> acceptedMajors = qualification.getAcceptedMajors() == null
+            ? Collections.emptyList() : Arrays.asList(gson.fromJson(qualification.getAcceptedMajors(), String[].class));
+        boolean majorMatched = majorName != null && acceptedMajors.contains(majorName);
+
+        Set<String> applicantSkills = applicant.getCareers().stream()
+            .flatMap(career -> career.getSkills().stream())
+            .map(cs -> cs.getSkill().getName().toLowerCase().trim())
+            .collect(Collectors.toSet());
+        Set<String> requiredSkills = jobPosting.getRequiredSkills().stream()
+            .filter(JobPostingSkill::getIsRequired)
+            .map(jps -> jps.getSkill().getName().toLowerCase().trim())
+            .collect(Collectors.toSet());
+        boolean skillsMatched = applicantSkills.containsAll(requiredSkills);
+        List<String> skillNames = applicant.getCareers().stream()
+            .flatMap(career -> career.getSkills().stream())
+            .map(cs -> cs.getSkill().getName())
+            .distinct()
+            .collect(Collectors.toList());
+
+        double totalExperience = applicant.getCareers().stream()
+            .mapToDouble(career -> ChronoUnit.DAYS.between(career.getStartDate(),
+                career.getEndDate() != null ? career.getEndDate() : today) / 365.25)
+            .sum();
+        boolean experienceMatched = totalExperience >= qualification.getMinYearsOfExperience();
+
+        List<String> passed = new ArrayList<>();
+        List<String> failed = new ArrayList<>();
+        (educationMatched ? passed : failed).add("학력");
+        (majorMatched ? passed : failed).add("전공");
+        (skillsMatched ? passed : failed).add("스킬");
+        (experienceMatched ? passed : failed).add("경력");
+        String reason = failed.isEmpty() ? "모든 자격 요건 충족"
+            : "충족: " + String.join(", ", passed) + " / 미충족: " + String.join(", ", failed);
+
+        return new QualifiedApplicantResponse(applicant.getId(), applicant.getName(), applicant.getEmail(),
+            highest != null ? highest.name() : "없음", majorName, skillNames, totalExperience,
+            passed.size() * 25, reason, failed.isEmpty(),
+            educationMatched, majorMatched, skillsMatched, experienceMatched);
+    }
+
+    private ApplicantScreeningSnapshot snapshotOf(QualificationScreeningPlan plan, List<Applicant> applicants) {
+        List<Object[]> applicantRows = new ArrayList<>();
+        List<Object[]> educationRows = new ArrayList<>();
+        List<Object[]> careerRows = new ArrayList<>();
+        List<Object[]> careerSkillRows = new ArrayList<>();
+        for (Applicant applicant : applicants) {
+            applicantRows.add(new Object[]{applicant.getId(), applicant.getName(), applicant.getEmail()});
+            for (Education education : applicant.getEducations()) {
+                educationRows.add(new Object[]{applicant.getId(), education.getLevel(),
+                    education.getMajor() != null ? education.getMajor().getName() : null});
+            }
+            for (Career career : applicant.getCareers()) {
+                careerRows.add(new Object[]{applicant.getId(), career.getStartDate(), career.getEndDate()});
+                for (CareerSkill careerSkill : career.getSkills()) {
+                    careerSkillRows.add(new Object[]{applicant.getId(), careerSkill.getSkill().getName()});
+                }
+            }
+        }
+        return ApplicantScreeningSnapshot.of(plan, applicantRows, educationRows, careerRows, careerSkillRows, today);
+    }
+
+    private AinjobJobPosting randomJobPosting(int seed) {
+        Random postingRandom = new Random(seed);
+        EducationLevel minEducation = postingRandom.nextInt(5) == 0
+            ? null : EducationLevel.values()[postingRandom.nextInt(EducationLevel.values().length)];
+        String acceptedMajors = postingRandom.nextInt(4) == 0
+            ? null : gson.toJson(List.of(MAJOR_NAMES[postingRandom.nextInt(2)], MAJOR_NAMES[2 + postingRandom.nextInt(2)]));
+        AinjobJobPosting jobPosting = AinjobJobPosting.create(1L, "공고" + seed, null, "개발",
+            new Qualification(minEducation, acceptedMajors, postingRandom.nextInt(6)), null, null);
+        ReflectionTestUtils.setField(jobPosting, "id", (long) seed);
+        int skillCount = postingRandom.nextInt(4);
+        for (int k = 0; k < skillCount; k++) {
+            jobPosting.addRequiredSkill(JobPostingSkill.create(
+                skills.get(postingRandom.nextInt(skills.size())), postingRandom.nextInt(4) > 0, null));
+        }
+        return jobPosting;
+    }
+
+    private Applicant randomApplicant(long id) {
+        Applicant applicant = Applicant.create("지원자" + id, "a" + id + "@test.com", null, null, null);
+        ReflectionTestUtils.setField(applicant, "id", id);
+        int educationCount = random.nextInt(3);
+        for (int k = 0; k < educationCount; k++) {
+            applicant.addEducation(Education.create(
+                EducationLevel.values()[random.nextInt(EducationLevel.values().length)],
+                random.nextInt(5) == 0 ? null : majors.get(random.nextInt(majors.size())),
+                "학교", null, null, "GRADUATED"));
+        }
+        int careerCount = random.nextInt(3);
+        for (int k = 0; k < careerCount; k++) {
+            LocalDate start = today.minusDays(100 + random.nextInt(4000));
+            Career career = Career.create("회사", "개발", null, start,
+                random.nextBoolean() ? null : start.plusDays(random.nextInt(1500)));
+            int skillCount = random.nextInt(4);
+            for (int s = 0; s < skillCount; s++) {
+                career.addSkill(CareerSkill.create(skills.get(random.nextInt(skills.size())), 3));
+            }
+            applicant.addCareer(career);
+        }
+        return applicant;
+    }
+
+    private Applicant applicantWithSkills(long id, List<AinjobSkill> careerSkills) {
+        Applicant applicant = Applicant.create("지원자" + id, "a" + id + "@test.com", null, null, null);
+        ReflectionTestUtils.setField(applicant, "id", id);
+        Career career = Career.create("회사", "개발", null, today.minusYears(3), null);
+        careerSkills.forEach(skill -> career.addSkill(CareerSkill.create(skill, 3)));
+        applicant.addCareer(career);
+        return applicant;
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.payflow.auction.application;
+
+import com.example.payflow.auction.application.dto.AutoBidRequest;
+import com.example.payflow.auction.domain.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class AutoBidServiceTest {
+
+    private static final Long AUCTION_ID = 1L;
+    private static final BigDecimal MAX_AMOUNT = new BigDecimal("50000");
+
+    private AutoBidRepository autoBidRepository;
+    private BidBookEngine bidBookEngine;
+    private AutoBidService autoBidService;
+
+    @BeforeEach
+    void setUp() {
+        autoBidRepository = mock(AutoBidRepository.class);
+        AuctionRepository auctionRepository = mock(AuctionRepository.class);
+        bidBookEngine = mock(BidBookEngine.class);
+        autoBidService = new AutoBidService(autoBidRepository, auctionRepository, bidBookEngine);
+
+        when(auctionRepository.findById(AUCTION_ID)).thenReturn(Optional.of(Auction.builder()
+                .sellerId("seller")
+                .status(AuctionStatus.ACTIVE)
+                .build()));
+        when(autoBidRepository.save(any(AutoBid.class))).thenAnswer(invocation -> {
+            AutoBid autoBid = invocation.getArgument(0);
+            ReflectionTestUtils.setField(autoBid, "id", 10L);
+            return autoBid;
+        });
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    @DisplayName("자동 입찰은 커밋 후에야 메모리 입찰 장부에 등록된다")
+    void registersAutoBidAfterCommit() {
+        // when
+        autoBidService.createAutoBid(AUCTION_ID, new AutoBidRequest(MAX_AMOUNT), "bidder");
+
+        // then
+        verify(bidBookEngine, never()).registerAutoBid(any(), any(), any(), any());
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+        verify(bidBookEngine).registerAutoBid(AUCTION_ID, "bidder", 10L, MAX_AMOUNT);
+    }
+
+    @Test
+    @DisplayName("트랜잭션이 롤백되면 장부에 자동 입찰을 등록하거나 취소하지 않는다")
+    void rollbackLeavesBidBookUntouched() {
+        // given
+        AutoBid existing = AutoBid.builder().auctionId(AUCTION_ID).bidderId("bidder").maxAmount(MAX_AMOUNT).build();
+        when(autoBidRepository.findByAuctionIdAndBidderIdAndIsActiveTrue(AUCTION_ID, "bidder"))
+                .thenReturn(Optional.of(existing));
+
+        // when
+        autoBidService.createAutoBid(AUCTION_ID, new AutoBidRequest(MAX_AMOUNT), "bidder");
+        autoBidService.cancelAutoBid(AUCTION_ID, "bidder");
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        // then
+        verifyNoInteractions(bidBookEngine);
+    }
+
+    @Test
+    @DisplayName("자동 입찰 취소도 커밋 후 장부에서 제거한다")
+    void cancelsAutoBidAfterCommit() {
+        // given
+        AutoBid existing = AutoBid.builder().auctionId(AUCTION_ID).bidderId("bidder").maxAmount(MAX_AMOUNT).build();
+        when(autoBidRepository.findByAuctionIdAndBidderIdAndIsActiveTrue(AUCTION_ID, "bidder"))
+                .thenReturn(Optional.of(existing));
+
+        // when
+        autoBidService.cancelAutoBid(AUCTION_ID, "bidder");
+
+        // then
+        assertThat(existing.getIsActive()).isFalse();
+        verify(bidBookEngine, never()).cancelAutoBid(any(), any());
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+        verify(bidBookEngine).cancelAutoBid(AUCTION_ID, "bidder");
+    }
+
+    private static void complete(int status) {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (status == TransactionSynchronization.STATUS_COMMITTED) {
+                synchronization.afterCommit();
+            }
+            synchronization.afterCompletion(status);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.example.payflow.auction.application;
+
+import com.example.payflow.auction.domain.*;
+import com.example.payflow.auction.infrastructure.AuctionEventPublisher;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BidBatchWriterTest {
+
+    @Mock
+    private AuctionRepository auctionRepository;
+
+    @Mock
+    private AutoBidRepository autoBidRepository;
+
+    @Mock
+    private BidRepository bidRepository;
+
+    @Mock
+    private BidHistoryRepository bidHistoryRepository;
+
+    @Mock
+    private AuctionEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private BidBatchWriter batchWriter;
+    private final List<Bid> savedBids = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        batchWriter = new BidBatchWriter(bidRepository, bidHistoryRepository, auctionRepository,
+                autoBidRepository, eventPublisher, transactionManager);
+        ReflectionTestUtils.setField(batchWriter, "batchSize", 500);
+        ReflectionTestUtils.setField(batchWriter, "queueCapacity", 1_000);
+        ReflectionTestUtils.setField(batchWriter, "flushTimeoutMillis", 300L);
+        ReflectionTestUtils.setField(batchWriter, "shutdownTimeoutMillis", 1_000L);
+        ReflectionTestUtils.setField(batchWriter, "retryBackoffMillis", 5L);
+        ReflectionTestUtils.setField(batchWriter, "retryBackoffMaxMillis", 20L);
+
+        when(auctionRepository.findById(1L)).thenReturn(Optional.of(Auction.builder()
+                .id(1L)
+                .productId(1L)
+                .sellerId("seller")
+                .startPrice(new BigDecimal("10000"))
+                .currentPrice(new BigDecimal("10000"))
+                .minBidIncrement(new BigDecimal("100"))
+                .startTime(LocalDateTime.now().minusMinutes(10))
+                .endTime(LocalDateTime.now().plusHours(1))
+                .status(AuctionStatus.ACTIVE)
+                .bidCount(0)
+                .build()));
+        when(bidRepository.findWinningBid(1L)).thenReturn(Optional.empty());
+    }
+
+    @AfterEach
+    void tearDown() {
+        batchWriter.shutdown();
+    }
+
+    @Test
+    @Timeout(10)
+    @DisplayName("저장이 연속 실패해도 수락된 입찰을 버리지 않고 성공할 때까지 재시도한다")
+    void retriesUntilBatchIsWritten() {
+        // given - 처음 5번은 DB 오류
+        AtomicInteger attempts = new AtomicInteger();
+        when(bidRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            if (attempts.incrementAndGet() <= 5) {
+                throw new DataAccessResourceFailureException("DB 연결 실패");
+            }
+            return save(invocation.getArgument(0));
+        });
+        batchWriter.start();
+
+        // when
+        batchWriter.enqueue(bid(1, "bidder-1", 11_000));
+        batchWriter.enqueue(bid(2, "bidder-2", 12_000));
+        awaitFlush();
+
+        // then
+        assertThat(attempts.get()).isEqualTo(6);
+        assertThat(batchWriter.getRetryCount()).isEqualTo(5);
+        assertThat(batchWriter.getRetryingBatchSize()).isZero();
+        assertThat(savedBids.stream().filter(Bid::getIsWinning))
+                .singleElement().extracting(Bid::getBidderId).isEqualTo("bidder-2");
+    }
+
+    @Test
+    @Timeout(10)
+    @DisplayName("입찰 저장이 밀려 있으면 flush 는 예외로 끝나고, 저장이 회복되면 통과한다")
+    void flushFailsWhileBatchIsPending() {
+        // given
+        AtomicBoolean databaseDown = new AtomicBoolean(true);
+        when(bidRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            if (databaseDown.get()) {
+                throw new DataAccessResourceFailureException("DB 연결 실패");
+            }
+            return save(invocation.getArgument(0));
+        });
+        batchWriter.start();
+        batchWriter.enqueue(bid(1, "bidder-1", 11_000));
+
+        // when & then
+        assertThatThrownBy(() -> batchWriter.flush())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("입찰 저장이 완료되지 않았습니다");
+        assertThat(batchWriter.getRetryingBatchSize()).isEqualTo(1);
+
+        databaseDown.set(false);
+        awaitFlush();
+        assertThat(savedBids).extracting(Bid::getBidderId).containsExactly("bidder-1");
+    }
+
+    private List<Bid> save(List<Bid> bids) {
+        savedBids.addAll(bids);
+        return bids;
+    }
+
+    private void awaitFlush() {
+        while (true) {
+            try {
+                batchWriter.flush();
+                return;
+            } catch (IllegalStateException e) {
+                // 백오프 중 - 다시 대기
+            }
+        }
+    }
+
+    private static BidBookEntry bid(long sequence, String bidderId, long amount) {
+        return BidBookEntry.builder()
+                .type(BidBookEntry.Type.BID)
+                .auctionId(1L)
+                .sequence(sequence)
+                .bidderId(bidderId)
+                .amount(BigDecimal.valueOf(amount))
+                .time(LocalDateTime.now())
+                .build();
+    }
+}
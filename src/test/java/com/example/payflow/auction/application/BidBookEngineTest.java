@@ -0,0 +1,236 @@
+package com.example.payflow.auction.application;
+
+import com.example.payflow.auction.domain.*;
+import com.example.payflow.auction.infrastructure.AuctionEventPublisher;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BidBookEngineTest {
+
+    @Mock
+    private AuctionRepository auctionRepository;
+
+    @Mock
+    private AutoBidRepository autoBidRepository;
+
+    @Mock
+    private BidRepository bidRepository;
+
+    @Mock
+    private BidHistoryRepository bidHistoryRepository;
+
+    @Mock
+    private AuctionEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private BidBatchWriter batchWriter;
+    private BidBookEngine engine;
+
+    // 배치 작성기가 저장한 Bid / BidHistory (작성기 스레드 하나만 추가)
+    private final List<Bid> savedBids = Collections.synchronizedList(new ArrayList<>());
+    private final List<BidHistory> savedHistories = Collections.synchronizedList(new ArrayList<>());
+
+    @BeforeEach
+    void setUp() {
+        batchWriter = new BidBatchWriter(bidRepository, bidHistoryRepository, auctionRepository,
+                autoBidRepository, eventPublisher, transactionManager);
+        ReflectionTestUtils.setField(batchWriter, "batchSize", 500);
+        ReflectionTestUtils.setField(batchWriter, "queueCapacity", 100_000);
+        ReflectionTestUtils.setField(batchWriter, "flushTimeoutMillis", 5_000L);
+        ReflectionTestUtils.setField(batchWriter, "shutdownTimeoutMillis", 5_000L);
+        ReflectionTestUtils.setField(batchWriter, "retryBackoffMillis", 10L);
+        ReflectionTestUtils.setField(batchWriter, "retryBackoffMaxMillis", 100L);
+        batchWriter.start();
+
+        engine = new BidBookEngine(auctionRepository, autoBidRepository, batchWriter);
+        ReflectionTestUtils.setField(engine, "shardCount", 4);
+        engine.init();
+
+        lenient().when(bidRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Bid> bids = invocation.getArgument(0);
+            savedBids.addAll(bids);
+            return bids;
+        });
+        lenient().when(bidRepository.findWinningBid(anyLong())).thenAnswer(invocation -> {
+            synchronized (savedBids) {
+                return savedBids.stream().filter(Bid::getIsWinning).findFirst();
+            }
+        });
+        lenient().when(bidHistoryRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<BidHistory> histories = invocation.getArgument(0);
+            savedHistories.addAll(histories);
+            return histories;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        engine.shutdown();
+        batchWriter.shutdown();
+    }
+
+    @Test
+    @Timeout(60)
+    @DisplayName("인기 경매 동시 입찰 부하 - 최종 낙찰자가 순차 재생 결과와 일치")
+    void hotAuctionMatchesSequentialReplay() throws Exception {
+        // given
+        Auction persisted = activeAuction(1L);
+        when(auctionRepository.findById(1L)).thenReturn(Optional.of(persisted));
+        when(autoBidRepository.findByAuctionIdAndIsActiveTrue(1L)).thenReturn(List.of());
+
+        int threads = 16;
+        int bidsPerThread = 1000;
+        ConcurrentLinkedQueue<BidBookEntry> accepted = new ConcurrentLinkedQueue<>();
+        AtomicInteger rejected = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService clients = Executors.newFixedThreadPool(threads);
+
+        for (int t = 0; t < threads; t++) {
+            String bidderId = "bidder-" + t;
+            int offset = t;
+            clients.submit(() -> {
+                start.await();
+                for (int i = 0; i < bidsPerThread; i++) {
+                    // 스레드마다 겹치는 가격대로 입찰해 수락과 거절이 섞이도록
+                    long amount = 10_000 + (long) i * threads * 100 + offset * 100L;
+                    try {
+                        accepted.addAll(engine.placeBid(1L, bidderId, BigDecimal.valueOf(amount)));
+                    } catch (IllegalArgumentException e) {
+                        rejected.incrementAndGet();
+                    }
+                }
+                return null;
+            });
+        }
+
+        // when
+        start.countDown();
+        clients.shutdown();
+        assertThat(clients.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+        batchWriter.flush();
+
+        // then - 모든 입찰이 수락 또는 최소 금액 미달로 거절
+        int total = threads * bidsPerThread;
+        assertThat(accepted.size() + rejected.get()).isEqualTo(total);
+
+        // 수락 순서(sequence)대로 새 장부에 순차 재생하면 모두 수락되고 같은 낙찰 상태가 된다
+        List<BidBookEntry> ordered = new ArrayList<>(accepted);
+        ordered.sort(Comparator.comparingLong(BidBookEntry::getSequence));
+        AuctionBidBook replay = AuctionBidBook.of(activeAuction(1L), List.of());
+        for (int i = 0; i < ordered.size(); i++) {
+            BidBookEntry entry = ordered.get(i);
+            assertThat(entry.getSequence()).isEqualTo(i + 1);
+            replay.placeBid(entry.getBidderId(), entry.getAmount(), entry.getTime());
+        }
+        BidBookEntry last = ordered.get(ordered.size() - 1);
+        assertThat(replay.getWinnerId()).isEqualTo(last.getBidderId());
+        assertThat(replay.getCurrentPrice()).isEqualByComparingTo(last.getAmount());
+
+        // DB 반영 결과도 순차 재생과 일치
+        assertThat(persisted.getWinnerId()).isEqualTo(replay.getWinnerId());
+        assertThat(persisted.getCurrentPrice()).isEqualByComparingTo(replay.getCurrentPrice());
+        assertThat(persisted.getBidCount()).isEqualTo(ordered.size());
+        assertThat(savedBids).hasSize(ordered.size());
+        assertThat(savedBids.stream().filter(Bid::getIsWinning)).hasSize(1);
+        assertThat(savedBids.get(savedBids.size() - 1).getIsWinning()).isTrue();
+        assertThat(savedHistories).hasSize(ordered.size() * 2 - 1);
+        verify(eventPublisher, times(ordered.size())).publishBidPlaced(any());
+    }
+
+    @Test
+    @DisplayName("자동 입찰은 장부에서 응찰하고 최대 금액 도달 시 비활성화")
+    void autoBidResolvedInBook() {
+        // given
+        Auction persisted = activeAuction(2L);
+        AutoBid autoBid = AutoBid.builder()
+                .id(7L)
+                .auctionId(2L)
+                .bidderId("auto")
+                .maxAmount(new BigDecimal("10500"))
+                .isActive(true)
+                .build();
+        when(auctionRepository.findById(2L)).thenReturn(Optional.of(persisted));
+        when(autoBidRepository.findByAuctionIdAndIsActiveTrue(2L)).thenReturn(List.of(autoBid));
+        when(autoBidRepository.findAllById(List.of(7L))).thenReturn(List.of(autoBid));
+
+        // when
+        engine.placeBid(2L, "auto", new BigDecimal("10100"));
+        List<BidBookEntry> first = engine.placeBid(2L, "user", new BigDecimal("10200"));
+        engine.placeBid(2L, "user", new BigDecimal("10400"));
+        List<BidBookEntry> last = engine.placeBid(2L, "user", new BigDecimal("10600"));
+        batchWriter.flush();
+
+        // then
+        assertThat(first).hasSize(2);
+        assertThat(first.get(1).getType()).isEqualTo(BidBookEntry.Type.AUTO_BID);
+        assertThat(first.get(1).getAmount()).isEqualByComparingTo("10300");
+        assertThat(last.get(1).getType()).isEqualTo(BidBookEntry.Type.AUTO_BID_EXHAUSTED);
+        assertThat(persisted.getWinnerId()).isEqualTo("user");
+        assertThat(persisted.getCurrentPrice()).isEqualByComparingTo("10600");
+        assertThat(autoBid.getIsActive()).isFalse();
+    }
+
+    @Test
+    @DisplayName("장부를 닫은 뒤의 입찰은 거절")
+    void sealedBookRejectsBids() {
+        // given
+        when(auctionRepository.findById(3L)).thenReturn(Optional.of(activeAuction(3L)));
+        when(autoBidRepository.findByAuctionIdAndIsActiveTrue(3L)).thenReturn(List.of());
+        engine.placeBid(3L, "user", new BigDecimal("10100"));
+
+        // when
+        engine.seal(3L);
+
+        // then
+        assertThatThrownBy(() -> engine.placeBid(3L, "other", new BigDecimal("20000")))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("경매가 진행 중이 아닙니다.");
+        assertThat(savedBids).hasSize(1);
+    }
+
+    private Auction activeAuction(Long id) {
+        return Auction.builder()
+                .id(id)
+                .productId(id)
+                .sellerId("seller")
+                .startPrice(new BigDecimal("10000"))
+                .currentPrice(new BigDecimal("10000"))
+                .minBidIncrement(new BigDecimal("100"))
+                .startTime(LocalDateTime.now().minusMinutes(10))
+                .endTime(LocalDateTime.now().plusHours(1))
+                .status(AuctionStatus.ACTIVE)
+                .bidCount(0)
+                .build();
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.payflow.auction.domain;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class AuctionBidBookTest {
+
+    private AuctionBidBook book;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        now = LocalDateTime.now();
+        Auction auction = Auction.builder()
+                .id(1L)
+                .productId(1L)
+                .sellerId("seller")
+                .startPrice(new BigDecimal("10000"))
+                .currentPrice(new BigDecimal("10000"))
+                .minBidIncrement(new BigDecimal("100"))
+                .startTime(now.minusMinutes(10))
+                .endTime(now.plusHours(1))
+                .status(AuctionStatus.ACTIVE)
+                .bidCount(0)
+                .build();
+        book = AuctionBidBook.of(auction, List.of());
+    }
+
+    @Test
+    @DisplayName("자동 입찰 전쟁은 증가액마다 입찰하지 않고 결과 입찰 한 건으로 정산")
+    void proxyWarSettlesInOneStep() {
+        // given
+        book.registerAutoBid("alice", 1L, new BigDecimal("50000"));
+        List<BidBookEntry> opening = book.resolveProxyBids(now);
+
+        // when
+        book.registerAutoBid("bob", 2L, new BigDecimal("80000"));
+        List<BidBookEntry> war = book.resolveProxyBids(now);
+
+        // then
+        assertThat(opening).hasSize(1);
+        assertThat(opening.get(0).getAmount()).isEqualByComparingTo("10100");
+
+        assertThat(war).hasSize(2);
+        assertThat(war.get(0).getType()).isEqualTo(BidBookEntry.Type.AUTO_BID);
+        assertThat(war.get(0).getBidderId()).isEqualTo("bob");
+        assertThat(war.get(0).getAmount()).isEqualByComparingTo("50100");
+        assertThat(war.get(0).getPreviousBidderId()).isEqualTo("alice");
+        assertThat(war.get(1).getType()).isEqualTo(BidBookEntry.Type.AUTO_BID_EXHAUSTED);
+        assertThat(war.get(1).getAutoBidId()).isEqualTo(1L);
+
+        assertThat(book.getWinnerId()).isEqualTo("bob");
+        assertThat(book.getCurrentPrice()).isEqualByComparingTo("50100");
+        assertThat(book.getActiveAutoBidCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("최대 금액이 같으면 먼저 등록한 자동 입찰이 승리")
+    void earlierProxyWinsTie() {
+        // given
+        book.registerAutoBid("alice", 1L, new BigDecimal("30000"));
+        book.resolveProxyBids(now);
+
+        // when
+        book.registerAutoBid("bob", 2L, new BigDecimal("30000"));
+        List<BidBookEntry> entries = book.resolveProxyBids(now);
+
+        // then
+        assertThat(entries.get(0).getBidderId()).isEqualTo("alice");
+        assertThat(entries.get(0).getAmount()).isEqualByComparingTo("30000");
+        assertThat(entries.get(0).getPreviousBidderId()).isNull();
+        assertThat(book.getWinnerId()).isEqualTo("alice");
+        assertThat(book.getCurrentPrice()).isEqualByComparingTo("30000");
+    }
+
+    @Test
+    @DisplayName("수동 입찰은 자동 입찰 최대 금액을 넘어야 최고가 유지")
+    void manualBidAgainstProxy() {
+        // given
+        book.registerAutoBid("alice", 1L, new BigDecimal("50000"));
+        book.resolveProxyBids(now);
+
+        // when - 최대 금액 미만 수동 입찰은 자동 입찰이 바로 응찰
+        book.placeBid("carol", new BigDecimal("20000"), now);
+        List<BidBookEntry> response = book.resolveProxyBids(now);
+
+        // then
+        assertThat(response).hasSize(1);
+        assertThat(response.get(0).getBidderId()).isEqualTo("alice");
+        assertThat(response.get(0).getAmount()).isEqualByComparingTo("20100");
+
+        // when - 최대 금액을 넘는 수동 입찰은 자동 입찰을 소진시킨다
+        book.placeBid("carol", new BigDecimal("60000"), now);
+        List<BidBookEntry> exhausted = book.resolveProxyBids(now);
+
+        // then
+        assertThat(exhausted).hasSize(1);
+        assertThat(exhausted.get(0).getType()).isEqualTo(BidBookEntry.Type.AUTO_BID_EXHAUSTED);
+        assertThat(book.getWinnerId()).isEqualTo("carol");
+        assertThat(book.getCurrentPrice()).isEqualByComparingTo("60000");
+        assertThat(book.getBidCount()).isEqualTo(4);
+    }
+}
@@ -0,0 +1,171 @@
+package com.example.payflow.auction.infrastructure;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+class HierarchicalTimingWheelTest {
+
+    private static final long TICK = 10;
+    private static final long START = 1_700_000_000_000L;
+    private static final long SLOTS = 64;
+    private static final long MAX_SPAN_TICKS = 1L << 30; // 64 슬롯 x 5 단계
+
+    private final AtomicLong now = new AtomicLong(START);
+    private final Map<String, Long> firedAt = new LinkedHashMap<>();
+    private HierarchicalTimingWheel wheel;
+
+    @BeforeEach
+    void setUp() {
+        // 구동 스레드 없이 시계와 tick 을 테스트가 직접 움직이고, 만료 작업은 호출 스레드에서 바로 실행
+        wheel = new HierarchicalTimingWheel(TICK, Runnable::run, "test-wheel", now::get);
+    }
+
+    @Test
+    @DisplayName("하위 단계를 넘는 타이머도 cascade 를 거쳐 마감 시각 이후 첫 tick 에 정확히 실행된다")
+    void firesAtFirstTickAfterDeadlineAcrossLevels() {
+        // given - 단계 경계 전후 + 무작위 마감 시각 (tick 에 맞지 않는 ms 포함)
+        List<Long> offsets = new ArrayList<>(List.of(
+                1L, 7L, TICK - 1, TICK, TICK + 1,
+                (SLOTS - 1) * TICK, SLOTS * TICK, SLOTS * TICK + 3,
+                (SLOTS * SLOTS - 1) * TICK, SLOTS * SLOTS * TICK, SLOTS * SLOTS * TICK + 9,
+                SLOTS * SLOTS * SLOTS * TICK + 5));
+        Random random = new Random(8);
+        for (int i = 0; i < 300; i++) {
+            offsets.add(1 + (long) random.nextInt((int) (SLOTS * SLOTS * SLOTS * TICK)));
+        }
+        Map<String, Long> deadlines = new LinkedHashMap<>();
+        for (int i = 0; i < offsets.size(); i++) {
+            String name = "t" + i;
+            long deadline = START + offsets.get(i);
+            deadlines.put(name, deadline);
+            schedule(name, deadline);
+        }
+        assertThat(wheel.size()).isEqualTo(offsets.size());
+
+        // when - 한 tick 씩 전진
+        stepUntil(START + SLOTS * SLOTS * SLOTS * TICK + 2 * TICK);
+
+        // then
+        assertThat(firedAt).hasSameSizeAs(deadlines);
+        deadlines.forEach((name, deadline) -> assertThat(firedAt.get(name)).as(name)
+                .isGreaterThanOrEqualTo(deadline)
+                .isLessThan(deadline + TICK));
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("취소한 타이머는 같은 슬롯의 다른 타이머에 영향 없이 빠지고, cascade 로 내려온 뒤에도 취소된다")
+    void cancelRemovesTimer() {
+        // given
+        long deadline = START + 30 * TICK;
+        HierarchicalTimingWheel.Timeout first = schedule("first", deadline);
+        HierarchicalTimingWheel.Timeout middle = schedule("middle", deadline);
+        HierarchicalTimingWheel.Timeout last = schedule("last", deadline);
+        HierarchicalTimingWheel.Timeout far = schedule("far", START + (2 * SLOTS * SLOTS + 10) * TICK);
+
+        // when - 같은 슬롯 리스트의 가운데/끝 취소
+        boolean middleCancelled = middle.cancel();
+        boolean lastCancelled = last.cancel();
+
+        // then
+        assertThat(middleCancelled).isTrue();
+        assertThat(lastCancelled).isTrue();
+        assertThat(middle.cancel()).isFalse();
+        assertThat(wheel.size()).isEqualTo(2);
+
+        stepUntil(deadline);
+        assertThat(firedAt).containsOnlyKeys("first");
+        assertThat(first.cancel()).isFalse(); // 이미 실행됨
+
+        // 상위 단계에서 최소 한 번 내려온 뒤 취소
+        stepUntil(far.getDeadlineMillis() - 5 * TICK);
+        assertThat(far.cancel()).isTrue();
+        stepUntil(far.getDeadlineMillis() + 2 * TICK);
+        assertThat(firedAt).containsOnlyKeys("first");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("이미 지난 마감 시각은 휠에 넣지 않고 즉시 실행하며, 아직 안 지났으면 다음 tick 까지 기다린다")
+    void pastDeadlineRunsImmediately() {
+        // when
+        HierarchicalTimingWheel.Timeout past = schedule("past", START - 1_000);
+        HierarchicalTimingWheel.Timeout current = schedule("now", START);
+        schedule("soon", START + 1);
+
+        // then
+        assertThat(firedAt).containsOnlyKeys("past", "now");
+        assertThat(firedAt.get("past")).isEqualTo(START);
+        assertThat(past.cancel()).isFalse();
+        assertThat(current.cancel()).isFalse();
+        assertThat(wheel.size()).isEqualTo(1);
+
+        stepUntil(START + TICK);
+        assertThat(firedAt.get("soon")).isEqualTo(START + TICK);
+    }
+
+    @Test
+    @DisplayName("최상위 단계 범위를 넘는 타이머는 끝 슬롯에 두었다가 재배치되어 마감 시각에 실행된다")
+    void deadlineBeyondTopLevel() {
+        // given
+        long deadline = START + (MAX_SPAN_TICKS + 100) * TICK;
+        schedule("beyond", deadline);
+        assertThat(wheel.size()).isEqualTo(1);
+
+        // when - 마감 직전까지 한 번에 따라잡기
+        advanceTo(deadline - TICK);
+
+        // then
+        assertThat(firedAt).isEmpty();
+        assertThat(wheel.size()).isEqualTo(1);
+
+        advanceTo(deadline);
+        assertThat(firedAt.get("beyond")).isEqualTo(deadline);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("구동이 밀려 여러 tick 을 건너뛰면 밀린 tick 을 순서대로 처리해 마감 순서대로 한 번에 실행한다")
+    void catchesUpMissedTicksInOrder() {
+        // given - 단계가 서로 다른 타이머를 역순으로 등록
+        schedule("level2", START + (SLOTS * SLOTS + 4) * TICK);
+        schedule("level1", START + (SLOTS + 6) * TICK);
+        schedule("level0", START + 5 * TICK);
+        advanceTo(START + 4 * TICK);
+        assertThat(firedAt).isEmpty();
+
+        // when - 5000 tick 을 한 번에
+        advanceTo(START + 5_000 * TICK);
+
+        // then
+        assertThat(firedAt.keySet()).containsExactly("level0", "level1", "level2");
+        assertThat(firedAt.values()).containsOnly(START + 5_000 * TICK);
+        assertThat(wheel.size()).isZero();
+    }
+
+    private HierarchicalTimingWheel.Timeout schedule(String name, long deadline) {
+        return wheel.schedule(deadline, () -> firedAt.put(name, now.get()));
+    }
+
+    private void stepUntil(long millis) {
+        while (now.get() + TICK <= millis) {
+            advanceTo(now.get() + TICK);
+        }
+        advanceTo(millis);
+    }
+
+    private void advanceTo(long millis) {
+        now.set(millis);
+        wheel.expireDueTimers();
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.payflow.common.eventstore;
+
+import com.example.payflow.escrow.domain.EscrowEventStore;
+import com.example.payflow.support.TestDatabase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+
+class EventStreamAppenderTest {
+
+    // 실제 에스크로 이벤트 스토어 테이블 (엔티티 매핑에서 생성), 이벤트는 event_type 문자열만 구분
+    private static final EventStreamTable<String> TABLE = EventStreamTable.of(
+            "escrow_event_store", "transaction_id", "sequence", List.of("event_type", "triggered_by", "occurred_at"),
+            event -> new Object[]{event, "test", Timestamp.valueOf(LocalDateTime.now())});
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        TestDatabase database = TestDatabase.create(EscrowEventStore.class);
+        jdbcTemplate = database.jdbcTemplate();
+        transactionTemplate = database.transactionTemplate();
+    }
+
+    @Test
+    @DisplayName("여러 노드의 writer 가 같은 aggregate 에 동시에 추가해도 sequence 는 1부터 중복/빈틈 없이 이어진다")
+    void concurrentWritersKeepSequenceGapFree() throws Exception {
+        // given - 캐시를 공유하지 않는 두 노드, aggregate 4개에 writer 16개, 5번째 트랜잭션마다 롤백
+        List<EventStreamAppender> nodes = List.of(appender(), appender());
+        int writers = 16;
+        int transactionsPerWriter = 50;
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+        CountDownLatch start = new CountDownLatch(1);
+        Map<String, AtomicInteger> committed = new ConcurrentHashMap<>();
+        List<Future<?>> futures = new ArrayList<>();
+
+        // when
+        for (int w = 0; w < writers; w++) {
+            EventStreamAppender appender = nodes.get(w % nodes.size());
+            int writer = w;
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < transactionsPerWriter; i++) {
+                    String aggregateId = "agg-" + (i % 4);
+                    int size = 1 + (writer + i) % 3;
+                    boolean rollback = i % 5 == 4;
+                    transactionTemplate.executeWithoutResult(status -> {
+                        appender.appendAll(TABLE, aggregateId, events(size));
+                        if (rollback) {
+                            status.setRollbackOnly();
+                        }
+                    });
+                    if (!rollback) {
+                        committed.computeIfAbsent(aggregateId, key -> new AtomicInteger()).addAndGet(size);
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(committed).hasSize(4);
+        committed.forEach((aggregateId, count) -> {
+            List<Integer> sequences = jdbcTemplate.queryForList(
+                    "SELECT sequence FROM escrow_event_store WHERE transaction_id = ? ORDER BY sequence",
+                    Integer.class, aggregateId);
+            assertThat(sequences).containsExactlyElementsOf(
+                    IntStream.rangeClosed(1, count.get()).boxed().collect(Collectors.toList()));
+        });
+    }
+
+    @Test
+    @DisplayName("다른 노드가 먼저 추가해 캐시가 뒤처지면 충돌 후 DB 값을 다시 읽어 이어 붙인다")
+    void staleCacheRetriesAfterConflict() {
+        // given
+        EventStreamAppender nodeA = appender();
+        EventStreamAppender nodeB = appender();
+        nodeA.append(TABLE, "agg-1", "Created");
+
+        // when
+        int batchFirst = nodeB.appendAll(TABLE, "agg-1", List.of("Deposited", "Verified"));
+        int next = nodeA.append(TABLE, "agg-1", "Settled");
+
+        // then
+        assertThat(batchFirst).isEqualTo(2);
+        assertThat(next).isEqualTo(4);
+        assertThat(nodeA.getStats()).containsEntry("conflicts", 1L);
+        assertThat(jdbcTemplate.queryForList(
+                "SELECT event_type FROM escrow_event_store WHERE transaction_id = 'agg-1' ORDER BY sequence", String.class))
+                .containsExactly("Created", "Deposited", "Verified", "Settled");
+    }
+
+    @Test
+    @DisplayName("롤백된 트랜잭션에서 할당한 sequence 는 캐시에 남지 않아 다음 이벤트가 그 번호를 다시 쓴다")
+    void rolledBackSequenceIsReused() {
+        // given
+        EventStreamAppender appender = appender();
+        appender.append(TABLE, "agg-1", "Created");
+        transactionTemplate.executeWithoutResult(status -> {
+            appender.appendAll(TABLE, "agg-1", List.of("Deposited", "Verified"));
+            status.setRollbackOnly();
+        });
+
+        // when
+        int sequence = transactionTemplate.execute(status -> appender.append(TABLE, "agg-1", "Canceled"));
+
+        // then
+        assertThat(sequence).isEqualTo(2);
+        assertThat(appender.getStats()).containsEntry("conflicts", 0L);
+    }
+
+    private EventStreamAppender appender() {
+        EventStreamAppender appender = new EventStreamAppender(jdbcTemplate);
+        ReflectionTestUtils.setField(appender, "maxAttempts", 50);
+        ReflectionTestUtils.setField(appender, "sequenceCacheSize", 1_000L);
+        appender.init();
+        return appender;
+    }
+
+    private static List<String> events(int size) {
+        return IntStream.range(0, size).mapToObj(i -> "Event" + i).collect(Collectors.toList());
+    }
+}
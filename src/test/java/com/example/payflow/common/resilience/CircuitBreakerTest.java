@@ -0,0 +1,108 @@
+package com.example.payflow.common.resilience;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+class CircuitBreakerTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final CircuitBreaker circuitBreaker = new CircuitBreaker("pg", 10, 4, 50, 1_000, 2, clock::get);
+
+    @Test
+    @DisplayName("최소 호출 수가 쌓이기 전에는 실패해도 열리지 않고, 쌓인 뒤 실패율이 임계값에 닿으면 열린다")
+    void opensAtFailureRateAfterMinimumCalls() {
+        // given
+        call(false);
+        call(false);
+        call(false);
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+
+        // when
+        call(true);
+        call(true);
+        CircuitBreaker.State beforeThreshold = circuitBreaker.getState();
+        call(true);
+
+        // then (실패 3 / 6 = 50%)
+        assertThat(beforeThreshold).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.tryAcquire()).isFalse();
+        assertThat(circuitBreaker.getRejectedCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("오래된 결과는 window 밖으로 밀려나 실패율에서 빠진다")
+    void slidingWindowEvictsOldResults() {
+        // given
+        call(true);
+        for (int i = 0; i < 10; i++) {
+            call(false);
+        }
+
+        // when
+        double failureRate = circuitBreaker.getFailureRate();
+
+        // then
+        assertThat(failureRate).isZero();
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("열린 뒤 대기 시간이 지나면 half-open 호출만 통과시키고, 모두 성공하면 닫힌다")
+    void halfOpenClosesAfterSuccessfulTrials() {
+        // given
+        openCircuit();
+        clock.addAndGet(1_000_000_000L);
+
+        // when
+        boolean first = circuitBreaker.tryAcquire();
+        boolean second = circuitBreaker.tryAcquire();
+        boolean third = circuitBreaker.tryAcquire();
+        circuitBreaker.onSuccess();
+        circuitBreaker.onSuccess();
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isTrue();
+        assertThat(third).isFalse();
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(circuitBreaker.getFailureRate()).isZero();
+    }
+
+    @Test
+    @DisplayName("half-open 호출이 하나라도 실패하면 다시 열린다")
+    void halfOpenReopensOnFailure() {
+        // given
+        openCircuit();
+        clock.addAndGet(1_000_000_000L);
+
+        // when
+        circuitBreaker.tryAcquire();
+        circuitBreaker.onFailure();
+
+        // then
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(circuitBreaker.getOpenedCount()).isEqualTo(2);
+        assertThat(circuitBreaker.tryAcquire()).isFalse();
+    }
+
+    private void openCircuit() {
+        for (int i = 0; i < 4; i++) {
+            call(true);
+        }
+        assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreaker.State.OPEN);
+    }
+
+    private void call(boolean failure) {
+        assertThat(circuitBreaker.tryAcquire()).isTrue();
+        if (failure) {
+            circuitBreaker.onFailure();
+        } else {
+            circuitBreaker.onSuccess();
+        }
+    }
+}
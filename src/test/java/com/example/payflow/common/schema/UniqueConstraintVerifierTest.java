@@ -0,0 +1,84 @@
+package com.example.payflow.common.schema;
+
+import com.example.payflow.escrow.domain.EscrowEventStore;
+import com.example.payflow.logging.domain.PaymentEventStore;
+import com.example.payflow.stage.domain.Stage;
+import com.example.payflow.stage.domain.StageParticipant;
+import com.example.payflow.stage.domain.StagePayment;
+import com.example.payflow.stage.domain.StagePayout;
+import com.example.payflow.support.TestDatabase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class UniqueConstraintVerifierTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private UniqueConstraintVerifier verifier;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = TestDatabase.create(EscrowEventStore.class, PaymentEventStore.class).jdbcTemplate();
+        verifier = new UniqueConstraintVerifier(jdbcTemplate);
+        ReflectionTestUtils.setField(verifier, "enabled", true);
+    }
+
+    @Test
+    @DisplayName("엔티티 매핑대로 만든 스키마에는 선언한 유니크 제약이 모두 있어 기동을 막지 않는다")
+    void passesWhenConstraintsExist() {
+        assertThatCode(verifier::afterSingletonsInstantiated).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("제약 도입 전부터 있던 테이블처럼 제약이 없으면 중복 건수와 추가 DDL 을 담아 기동을 중단한다")
+    void failsFastWhenConstraintMissing() {
+        // given - ddl-auto=update 로는 추가되지 않는 기존 테이블 상태 + 제약 없이 생긴 중복 sequence
+        jdbcTemplate.execute("ALTER TABLE escrow_event_store DROP CONSTRAINT uk_escrow_event_sequence");
+        insertEscrowEvent("tx-1", 1);
+        insertEscrowEvent("tx-1", 1);
+        insertEscrowEvent("tx-1", 2);
+
+        // when & then
+        assertThatThrownBy(verifier::afterSingletonsInstantiated)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("escrow_event_store (transaction_id, sequence): 중복 키 1건")
+                .hasMessageContaining("ALTER TABLE escrow_event_store ADD CONSTRAINT uk_escrow_event_sequence "
+                        + "UNIQUE (transaction_id, sequence);")
+                .hasMessageNotContaining("payment_event_store");
+    }
+
+    @Test
+    @DisplayName("이름 없는 스테이지 결제/약정금 유니크 제약도 확인하고, 없으면 제약 이름을 만들어 DDL 을 안내한다")
+    void verifiesStageBatchConstraints() {
+        // given
+        JdbcTemplate stageJdbcTemplate = TestDatabase.create(
+                Stage.class, StageParticipant.class, StagePayment.class, StagePayout.class).jdbcTemplate();
+        UniqueConstraintVerifier stageVerifier = new UniqueConstraintVerifier(stageJdbcTemplate);
+        List<Class<?>> entities = List.of(StagePayment.class, StagePayout.class);
+        assertThat(stageVerifier.verify(entities)).isEmpty();
+
+        // when - 제약 도입 전 모양의 stage_payouts
+        stageJdbcTemplate.execute("DROP TABLE stage_payouts");
+        stageJdbcTemplate.execute("CREATE TABLE stage_payouts (id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                + "stage_id BIGINT, turn_number INT)");
+
+        // then
+        assertThat(stageVerifier.verify(entities)).containsExactly("- stage_payouts (stage_id, turn_number): 중복 키 0건 "
+                + "→ ALTER TABLE stage_payouts ADD CONSTRAINT uk_stage_payouts_stage_id_turn_number "
+                + "UNIQUE (stage_id, turn_number);");
+    }
+
+    private void insertEscrowEvent(String transactionId, int sequence) {
+        jdbcTemplate.update("INSERT INTO escrow_event_store (transaction_id, sequence, event_type, triggered_by, "
+                + "occurred_at) VALUES (?, ?, 'DEPOSITED', 'test', ?)", transactionId, sequence,
+                Timestamp.valueOf(LocalDateTime.now()));
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.payflow.crypto.application;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class OrderbookServiceTest {
+
+    private UpbitWebSocketService upbitWebSocketService;
+    private BithumbWebSocketService bithumbWebSocketService;
+    private OrderbookService orderbookService;
+    private WebSocketSession session;
+
+    @BeforeEach
+    void setUp() {
+        upbitWebSocketService = mock(UpbitWebSocketService.class);
+        bithumbWebSocketService = mock(BithumbWebSocketService.class);
+        when(upbitWebSocketService.isSubscribed("KRW-BTC")).thenReturn(true);
+        when(bithumbWebSocketService.isSubscribed("KRW-BTC")).thenReturn(true);
+
+        orderbookService = new OrderbookService(upbitWebSocketService, bithumbWebSocketService);
+        ReflectionTestUtils.setField(orderbookService, "clientQueueCapacity", 16);
+        ReflectionTestUtils.setField(orderbookService, "maxClientLagMs", 5_000L);
+        ReflectionTestUtils.setField(orderbookService, "sendTimeLimitMs", 2_000L);
+        orderbookService.init();
+
+        session = mock(WebSocketSession.class);
+        when(session.getId()).thenReturn("client-1");
+        when(session.isOpen()).thenReturn(true);
+        orderbookService.addClientSession(session);
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderbookService.shutdown();
+    }
+
+    @Test
+    @DisplayName("거래소에 구독하지 않은 마켓 구독 요청은 호가창을 만들지 않고 무시한다")
+    void ignoresUnsubscribedMarkets() {
+        // when
+        for (int i = 0; i < 100; i++) {
+            orderbookService.handleClientMessage(session,
+                "{\"type\":\"subscribe\",\"exchange\":\"UPBIT\",\"market\":\"KRW-FAKE" + i + "\"}");
+            orderbookService.handleClientMessage(session,
+                "{\"type\":\"snapshot\",\"exchange\":\"BITHUMB\",\"market\":\"X" + i + "\"}");
+        }
+        orderbookService.handleClientMessage(session, "{\"type\":\"subscribe\",\"exchange\":\"UPBIT\",\"market\":\"KRW-BTC\"}");
+        orderbookService.handleClientMessage(session, "{\"type\":\"subscribe\",\"exchange\":\"BITHUMB\",\"market\":\"KRW-BTC\"}");
+
+        // then
+        assertThat(books("upbitBooks")).containsOnlyKeys("KRW-BTC");
+        assertThat(books("bithumbBooks")).containsOnlyKeys("KRW-BTC");
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, ?> books(String field) {
+        return (Map<String, ?>) ReflectionTestUtils.getField(orderbookService, field);
+    }
+}
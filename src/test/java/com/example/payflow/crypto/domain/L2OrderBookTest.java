@@ -0,0 +1,228 @@
+package com.example.payflow.crypto.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.*;
+
+class L2OrderBookTest {
+
+    private final L2OrderBook book = new L2OrderBook("UPBIT", "KRW-BTC");
+
+    @Test
+    @DisplayName("스냅샷은 양쪽 호가를 통째로 바꾸고, 빠진 레벨은 잔량 0 delta 로 남긴다")
+    void snapshotReplacesBook() {
+        // given
+        book.apply(snapshot(new double[][]{{100, 1}, {99, 2}, {98, 3}}, new double[][]{{101, 1}, {102, 2}}));
+
+        // when
+        boolean changed = book.apply(snapshot(new double[][]{{99, 2}, {97, 5}}, new double[][]{{101, 4}}));
+
+        // then
+        assertThat(changed).isTrue();
+        L2OrderBook.View view = book.snapshot();
+        assertThat(view.getBidCount()).isEqualTo(2);
+        assertThat(view.bidPrice(0)).isEqualTo(99);
+        assertThat(view.bidPrice(1)).isEqualTo(97);
+        assertThat(view.getAskCount()).isEqualTo(1);
+        assertThat(view.askSize(0)).isEqualTo(4);
+        assertThat(view.getSequence()).isEqualTo(2);
+        // 삭제 100, 98, 102 / 추가 97 / 변경 101 (99 는 그대로라 delta 없음)
+        assertThat(book.getDeltaCount()).isEqualTo(5);
+        assertThat(delta(true, 100)).isZero();
+        assertThat(delta(true, 98)).isZero();
+        assertThat(delta(false, 102)).isZero();
+        assertThat(delta(true, 97)).isEqualTo(5);
+        assertThat(delta(false, 101)).isEqualTo(4);
+        assertThat(delta(true, 99)).isNaN();
+    }
+
+    @Test
+    @DisplayName("같은 스냅샷을 다시 받으면 바뀐 것이 없어 sequence 가 그대로다")
+    void identicalSnapshotIsNoop() {
+        // given
+        OrderbookUpdate update = snapshot(new double[][]{{100, 1}}, new double[][]{{101, 1}});
+        book.apply(update);
+
+        // when
+        boolean changed = book.apply(update);
+
+        // then
+        assertThat(changed).isFalse();
+        assertThat(book.getDeltaCount()).isZero();
+        assertThat(book.getSequence()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("차분 갱신은 정렬 위치에 삽입하고, 잔량을 바꾸고, 잔량 0 이면 삭제한다")
+    void deltaInsertUpdateRemove() {
+        // given
+        book.apply(snapshot(new double[][]{{100, 1}, {98, 1}}, new double[][]{{101, 1}, {103, 1}}));
+
+        // when
+        OrderbookUpdate update = delta();
+        update.add(true, 99, 7);     // 매수 중간 삽입
+        update.add(true, 100, 3);    // 매수 잔량 변경
+        update.add(false, 103, 0);   // 매도 삭제
+        update.add(false, 100.5, 2); // 매도 최우선 삽입
+        update.add(false, 200, 0);   // 없는 레벨 삭제는 무시
+        book.apply(update);
+
+        // then
+        L2OrderBook.View view = book.snapshot();
+        assertThat(view.getBidCount()).isEqualTo(3);
+        assertThat(new double[]{view.bidPrice(0), view.bidPrice(1), view.bidPrice(2)}).containsExactly(100, 99, 98);
+        assertThat(view.bidSize(0)).isEqualTo(3);
+        assertThat(view.getAskCount()).isEqualTo(2);
+        assertThat(new double[]{view.askPrice(0), view.askPrice(1)}).containsExactly(100.5, 101);
+        assertThat(view.bestBid()).isEqualTo(100);
+        assertThat(view.bestAsk()).isEqualTo(100.5);
+        assertThat(book.getDeltaCount()).isEqualTo(4);
+        assertThat(delta(false, 103)).isZero();
+    }
+
+    @Test
+    @DisplayName("레벨이 MAX_LEVELS 만큼 차면 더 좋은 호가가 들어올 때 가장 먼 레벨이 탈락하고, 범위 밖 호가는 무시한다")
+    void evictsFarthestLevelWhenFull() {
+        // given - 매수 1000 ~ 937 로 가득 참
+        OrderbookUpdate full = delta();
+        for (int i = 0; i < L2OrderBook.MAX_LEVELS; i++) {
+            full.add(true, 1000 - i, 1);
+        }
+        book.apply(full);
+
+        // when
+        OrderbookUpdate better = delta();
+        better.add(true, 1001, 5);
+        better.add(true, 1, 5); // 가장 먼 레벨보다 먼 호가
+        book.apply(better);
+
+        // then
+        L2OrderBook.View view = book.snapshot();
+        assertThat(view.getBidCount()).isEqualTo(L2OrderBook.MAX_LEVELS);
+        assertThat(view.bidPrice(0)).isEqualTo(1001);
+        assertThat(view.bidPrice(L2OrderBook.MAX_LEVELS - 1)).isEqualTo(1000 - L2OrderBook.MAX_LEVELS + 2);
+        assertThat(book.getDeltaCount()).isEqualTo(2);
+        assertThat(delta(true, 1000 - L2OrderBook.MAX_LEVELS + 1)).isZero();
+        assertThat(delta(true, 1001)).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("한 갱신의 변경 레벨이 delta 버퍼를 넘으면 overflow 로 표시하고 호가창은 끝까지 반영한다")
+    void deltaOverflow() {
+        // given
+        OrderbookUpdate full = delta();
+        for (int i = 0; i < L2OrderBook.MAX_LEVELS; i++) {
+            full.add(true, 1000 - i, 1);
+        }
+        book.apply(full);
+
+        // when - 더 좋은 호가 200개: 삽입 + 탈락으로 400 delta
+        OrderbookUpdate update = new OrderbookUpdate(512);
+        for (int i = 1; i <= 200; i++) {
+            update.add(true, 1000 + i, 1);
+        }
+        boolean changed = book.apply(update);
+
+        // then
+        assertThat(changed).isTrue();
+        assertThat(book.isDeltaOverflow()).isTrue();
+        assertThat(book.getDeltaCount()).isEqualTo(L2OrderBook.MAX_LEVELS * 4);
+        L2OrderBook.View view = book.snapshot();
+        assertThat(view.bidPrice(0)).isEqualTo(1200);
+        assertThat(view.bidPrice(L2OrderBook.MAX_LEVELS - 1)).isEqualTo(1200 - L2OrderBook.MAX_LEVELS + 1);
+
+        // 다음 갱신은 버퍼를 새로 쓴다
+        OrderbookUpdate small = delta();
+        small.add(false, 2000, 1);
+        book.apply(small);
+        assertThat(book.isDeltaOverflow()).isFalse();
+        assertThat(book.getDeltaCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("writer 가 스냅샷을 계속 바꾸는 동안 읽은 View 는 항상 한 스냅샷의 내용만 담는다")
+    void readsAreConsistentUnderConcurrentWriter() throws Exception {
+        // given - 두 스냅샷: 레벨 수와 잔량이 모두 다르다 (섞이면 잔량/개수가 어긋남)
+        OrderbookUpdate small = snapshotOf(10, 1);
+        OrderbookUpdate large = snapshotOf(L2OrderBook.MAX_LEVELS, 2);
+        book.apply(small);
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread writer = new Thread(() -> {
+            boolean flip = false;
+            while (running.get()) {
+                book.apply(flip ? small : large);
+                flip = !flip;
+            }
+        }, "orderbook-writer");
+        writer.start();
+
+        // when
+        AtomicReference<String> torn = new AtomicReference<>();
+        L2OrderBook.View view = new L2OrderBook.View();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(500);
+        int reads = 0;
+        while (System.nanoTime() < deadline && torn.get() == null) {
+            book.read(view);
+            reads++;
+            double size = view.getBidCount() == 10 ? 1 : 2;
+            if (view.getBidCount() != 10 && view.getBidCount() != L2OrderBook.MAX_LEVELS
+                    || view.getAskCount() != view.getBidCount()) {
+                torn.set("levels bid=" + view.getBidCount() + ", ask=" + view.getAskCount());
+            }
+            for (int i = 0; i < view.getBidCount() && torn.get() == null; i++) {
+                if (view.bidSize(i) != size || view.askSize(i) != size || view.bidPrice(i) != 1000 - i) {
+                    torn.set("level " + i + " of " + view.getBidCount());
+                }
+            }
+        }
+        running.set(false);
+        writer.join(5_000);
+
+        // then
+        assertThat(torn.get()).isNull();
+        assertThat(reads).isPositive();
+    }
+
+    private static OrderbookUpdate snapshotOf(int levels, double size) {
+        OrderbookUpdate update = new OrderbookUpdate();
+        update.setSnapshot(true);
+        for (int i = 0; i < levels; i++) {
+            update.add(true, 1000 - i, size);
+            update.add(false, 1001 + i, size);
+        }
+        return update;
+    }
+
+    private static OrderbookUpdate snapshot(double[][] bids, double[][] asks) {
+        OrderbookUpdate update = new OrderbookUpdate();
+        update.setSnapshot(true);
+        for (double[] level : bids) {
+            update.add(true, level[0], level[1]);
+        }
+        for (double[] level : asks) {
+            update.add(false, level[0], level[1]);
+        }
+        return update;
+    }
+
+    private static OrderbookUpdate delta() {
+        return new OrderbookUpdate();
+    }
+
+    /**
+     * 직전 갱신의 delta 중 해당 레벨의 잔량 (없으면 NaN)
+     */
+    private double delta(boolean bid, double price) {
+        for (int i = 0; i < book.getDeltaCount(); i++) {
+            if (book.isDeltaBid(i) == bid && book.deltaPrice(i) == price) {
+                return book.deltaSize(i);
+            }
+        }
+        return Double.NaN;
+    }
+}
@@ -0,0 +1,167 @@
+package com.example.payflow.crypto.domain;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+class StreamingIndicatorTest {
+
+    private static final long BASE_MINUTE = 28_401_120L; // 2024-01-01 00:00 UTC
+    private static final int CANDLES = 60;
+
+    // RSICalculator 는 소수 둘째 자리, VolumeSurgeCalculator 는 배율을 소수 둘째 자리로 반올림한 뒤 x100
+    private static final double RSI_TOLERANCE = 0.006;
+    private static final double SURGE_TOLERANCE = 0.51;
+
+    @Test
+    @DisplayName("같은 1분봉을 틱으로 흘려 넣은 증분 RSI/거래량 급증률(확정 캔들 기준)이 캔들 리스트 계산기 결과와 같다")
+    void matchesBatchCalculators() {
+        // given
+        List<Candle> candles = candles(new Random(42));
+        StreamingIndicator indicator = new StreamingIndicator();
+
+        for (int i = 0; i < CANDLES; i++) {
+            // when - i 번째 캔들의 체결을 모두 반영 (i 번째가 진행 중인 캔들)
+            feed(indicator, i, candles.get(i));
+
+            // then
+            if (i >= StreamingIndicator.RSI_PERIOD + 1) {
+                assertThat(indicator.getRsi()).as("RSI @%d", i)
+                        .isCloseTo(batchRsi(candles, i), within(RSI_TOLERANCE));
+            }
+            if (i >= StreamingIndicator.SURGE_WINDOW + 1) {
+                assertThat(indicator.getVolumeSurge()).as("surge @%d", i)
+                        .isCloseTo(batchSurge(candles, i), within(SURGE_TOLERANCE));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("VWAP 은 최근 확정 캔들 VWAP_WINDOW 개와 진행 중인 캔들의 체결가 x 체결량 합 / 거래량 합")
+    void vwapMatchesTrades() {
+        // given
+        List<Candle> candles = candles(new Random(7));
+        StreamingIndicator indicator = new StreamingIndicator();
+
+        // when
+        for (int i = 0; i < CANDLES; i++) {
+            feed(indicator, i, candles.get(i));
+        }
+
+        // then
+        double priceVolume = 0;
+        double volume = 0;
+        for (int i = CANDLES - 1 - StreamingIndicator.VWAP_WINDOW; i < CANDLES; i++) {
+            priceVolume += candles.get(i).priceVolume();
+            volume += candles.get(i).volume();
+        }
+        assertThat(indicator.getVwap()).isCloseTo(priceVolume / volume, within(1e-6));
+    }
+
+    @Test
+    @DisplayName("REST 캔들로 백필한 뒤 실시간 틱을 이어 받아도 처음부터 틱으로 받은 것과 같은 RSI/급증률")
+    void backfillThenLiveMatchesBatchCalculators() {
+        // given - 앞 30개는 REST 백필, 나머지는 실시간 틱
+        List<Candle> candles = candles(new Random(99));
+        int backfilled = 30;
+        long[] minutes = new long[backfilled];
+        double[] closes = new double[backfilled];
+        double[] volumes = new double[backfilled];
+        for (int i = 0; i < backfilled; i++) {
+            minutes[i] = BASE_MINUTE + i;
+            closes[i] = candles.get(i).close();
+            volumes[i] = candles.get(i).volume();
+        }
+        StreamingIndicator indicator = new StreamingIndicator();
+        indicator.requestBackfill(minutes, closes, volumes);
+        assertThat(indicator.hasHistory()).isTrue();
+
+        for (int i = backfilled; i < CANDLES; i++) {
+            // when
+            feed(indicator, i, candles.get(i));
+
+            // then
+            assertThat(indicator.getRsi()).as("RSI @%d", i)
+                    .isCloseTo(batchRsi(candles, i), within(RSI_TOLERANCE));
+            assertThat(indicator.getVolumeSurge()).as("surge @%d", i)
+                    .isCloseTo(batchSurge(candles, i), within(SURGE_TOLERANCE));
+        }
+    }
+
+    /**
+     * 기존 캔들 폴링 방식: 0..current 종가 전체로 RSI
+     */
+    private static double batchRsi(List<Candle> candles, int current) {
+        List<BigDecimal> closes = new ArrayList<>();
+        for (int i = 0; i <= current; i++) {
+            closes.add(BigDecimal.valueOf(candles.get(i).close()));
+        }
+        return RSICalculator.calculate(closes).doubleValue();
+    }
+
+    /**
+     * 확정 캔들끼리 비교: 마지막 확정 캔들(current - 1) 거래량을 그 직전 10개 평균과 비교
+     * (진행 중인 current 캔들의 부분 거래량은 쓰지 않는다)
+     */
+    private static double batchSurge(List<Candle> candles, int current) {
+        int lastClosed = current - 1;
+        List<BigDecimal> volumes = new ArrayList<>();
+        for (int i = lastClosed - StreamingIndicator.SURGE_WINDOW; i < lastClosed; i++) {
+            volumes.add(BigDecimal.valueOf(candles.get(i).volume()));
+        }
+        return VolumeSurgeCalculator.calculate(volumes, BigDecimal.valueOf(candles.get(lastClosed).volume())).doubleValue();
+    }
+
+    private static void feed(StreamingIndicator indicator, int index, Candle candle) {
+        long minuteStart = (BASE_MINUTE + index) * 60_000L;
+        for (int t = 0; t < candle.prices.length; t++) {
+            indicator.onTrade(minuteStart + 1_000L * (t + 1), candle.prices[t], candle.sizes[t]);
+        }
+    }
+
+    private static List<Candle> candles(Random random) {
+        List<Candle> candles = new ArrayList<>(CANDLES);
+        double price = 50_000;
+        for (int i = 0; i < CANDLES; i++) {
+            int trades = 1 + random.nextInt(6);
+            double[] prices = new double[trades];
+            double[] sizes = new double[trades];
+            for (int t = 0; t < trades; t++) {
+                price = Math.max(1_000, price + (random.nextInt(201) - 100));
+                prices[t] = price;
+                sizes[t] = (1 + random.nextInt(5_000)) / 1_000.0;
+            }
+            candles.add(new Candle(prices, sizes));
+        }
+        return candles;
+    }
+
+    private record Candle(double[] prices, double[] sizes) {
+
+        double close() {
+            return prices[prices.length - 1];
+        }
+
+        double volume() {
+            double volume = 0;
+            for (double size : sizes) {
+                volume += size;
+            }
+            return volume;
+        }
+
+        double priceVolume() {
+            double priceVolume = 0;
+            for (int t = 0; t < prices.length; t++) {
+                priceVolume += prices[t] * sizes[t];
+            }
+            return priceVolume;
+        }
+    }
+}
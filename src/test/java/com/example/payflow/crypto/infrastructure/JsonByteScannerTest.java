@@ -0,0 +1,99 @@
+package com.example.payflow.crypto.infrastructure;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.*;
+
+class JsonByteScannerTest {
+
+    private final Scanner scanner = new Scanner();
+
+    @Test
+    @DisplayName("숫자를 (mantissa, scale) 로 읽는다 - 부호, 소수, 앞자리 0, 지수 표기")
+    void readsDecimals() {
+        assertDecimal("137002000", 137002000L, 0);
+        assertDecimal("-0.00123", -123L, 5);
+        assertDecimal("+42.50", 4250L, 2);
+        assertDecimal("1.5E-4", 15L, 5);
+        assertDecimal("2e+2", 2L, -2);
+        assertDecimal("6.02E23", 602L, -21);
+        assertDecimal("0", 0L, 0);
+    }
+
+    @Test
+    @DisplayName("18자리를 넘는 정수부는 지수로 흡수하고, 넘는 소수부는 절사한다")
+    void truncatesBeyondMaxDigits() {
+        // when
+        double big = scanner.readDouble("12345678901234567890");
+        double fraction = scanner.readDouble("0.12345678901234567890");
+
+        // then
+        assertThat(big).isCloseTo(1.2345678901234567e19, withinPercentage(1e-12));
+        assertThat(fraction).isCloseTo(0.123456789012345678, within(1e-15));
+    }
+
+    @Test
+    @DisplayName("따옴표로 감싼 숫자 문자열도 double 로 읽는다")
+    void readsQuotedNumbers() {
+        assertThat(scanner.readDouble("\"0.0315\"")).isEqualTo(0.0315);
+        assertThat(scanner.readDouble("\"1.2e3\"")).isEqualTo(1200);
+    }
+
+    @Test
+    @DisplayName("이스케이프가 든 문자열, 중첩 객체/배열, 리터럴을 값 하나만큼 건너뛴다")
+    void skipsValues() {
+        assertThat(scanner.skip("\"a \\\" b \\\\\",rest")).isEqualTo(",rest");
+        assertThat(scanner.skip("{\"k\":[1,{\"s\":\"}]\"}],\"t\":{}} ,rest")).isEqualTo(" ,rest");
+        assertThat(scanner.skip("[[],[[]]]]")).isEqualTo("]");
+        assertThat(scanner.skip("true}")).isEqualTo("}");
+        assertThat(scanner.skip("-1.5e-3,")).isEqualTo(",");
+    }
+
+    @Test
+    @DisplayName("닫히지 않은 문자열/객체는 프레임 이름이 담긴 IllegalArgumentException")
+    void rejectsUnterminated() {
+        assertThatThrownBy(() -> scanner.skip("\"abc"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("테스트")
+                .hasMessageContaining("문자열이 닫히지 않음");
+        assertThatThrownBy(() -> scanner.skip("{\"a\":[1,2}"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("객체/배열이 닫히지 않음");
+    }
+
+    private void assertDecimal(String json, long mantissa, int scale) {
+        scanner.begin(json);
+        scanner.readDecimal();
+        assertThat(scanner.mantissa).as(json).isEqualTo(mantissa);
+        assertThat(scanner.decimalScale).as(json).isEqualTo(scale);
+    }
+
+    private static class Scanner extends JsonByteScanner {
+
+        Scanner() {
+            super("테스트");
+        }
+
+        void begin(String json) {
+            begin(ByteBuffer.wrap(json.getBytes(StandardCharsets.UTF_8)));
+        }
+
+        double readDouble(String json) {
+            begin(json);
+            return readDouble();
+        }
+
+        /**
+         * 값 하나를 건너뛴 뒤 남은 문자열
+         */
+        String skip(String json) {
+            begin(json);
+            skipValue();
+            return json.substring(pos);
+        }
+    }
+}
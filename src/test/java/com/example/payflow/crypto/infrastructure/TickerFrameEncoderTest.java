@@ -0,0 +1,89 @@
+package com.example.payflow.crypto.infrastructure;
+
+import com.example.payflow.crypto.domain.TickerRecord;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonSerializer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+class TickerFrameEncoderTest {
+
+    // 기존 UpbitWebSocketService 가 클라이언트 프레임을 만들던 Gson 설정
+    private final Gson gson = new GsonBuilder()
+            .registerTypeAdapter(LocalDateTime.class, (JsonSerializer<LocalDateTime>) (src, typeOfSrc, context) ->
+                context.serialize(src.toString()))
+            .create();
+
+    @Test
+    @DisplayName("고정소수점 값은 BigDecimal.toString 과 같게 기록한다 - 아주 작은 값과 음수 scale 은 지수 표기")
+    void appendsDecimalLikeBigDecimalToString() {
+        assertDecimal(137002000L, 0, "137002000");
+        assertDecimal(-123L, 5, "-0.00123");
+        assertDecimal(4250L, 2, "42.50");
+        assertDecimal(1L, 6, "0.000001");
+        assertDecimal(1L, 7, "1E-7");
+        assertDecimal(10L, 8, "1.0E-7");
+        assertDecimal(-15L, 9, "-1.5E-8");
+        assertDecimal(0L, 7, "0E-7");
+        assertDecimal(0L, 3, "0.000");
+        assertDecimal(2L, -2, "2E+2");
+        assertDecimal(602L, -21, "6.02E+23");
+        assertDecimal(0L, -2, "0E+2");
+    }
+
+    @Test
+    @DisplayName("무작위 (unscaled, scale) 도 BigDecimal.toString 과 같다")
+    void matchesBigDecimalToStringForRandomValues() {
+        Random random = new Random(11);
+        for (int i = 0; i < 100_000; i++) {
+            long unscaled = (random.nextLong() % 1_000_000_000_000_000_000L) >> random.nextInt(60);
+            int scale = random.nextInt(31) - 5;
+            assertDecimal(unscaled, scale, BigDecimal.valueOf(unscaled, scale).toString());
+        }
+    }
+
+    @Test
+    @DisplayName("인코딩한 프레임이 gson.toJson(CoinTicker) 와 글자 단위로 같다")
+    void frameMatchesGson() {
+        // given
+        TickerRecord record = new TickerRecord();
+        record.setMarket("KRW-BTC");
+        record.setKoreanName("비트코인");
+        record.set(TickerRecord.TRADE_PRICE, new BigDecimal("137002000"));
+        record.set(TickerRecord.CHANGE_PRICE, new BigDecimal("-1500000.5"));
+        record.set(TickerRecord.CHANGE_RATE, new BigDecimal("0.0108"));
+        record.set(TickerRecord.SIGNED_CHANGE_RATE, new BigDecimal("-1.0E-7"));
+        record.set(TickerRecord.HIGH_PRICE, new BigDecimal("2E+8"));
+        record.set(TickerRecord.LOW_PRICE, new BigDecimal("0.00000001"));
+        record.set(TickerRecord.OPENING_PRICE, new BigDecimal("138502000.00"));
+        record.set(TickerRecord.PREV_CLOSING_PRICE, BigDecimal.ZERO);
+        record.set(TickerRecord.ACC_TRADE_PRICE_24H, new BigDecimal("123456789012345678901.23456"));
+        record.set(TickerRecord.ACC_TRADE_VOLUME_24H, new BigDecimal("1234.56789012"));
+        record.setChange(TickerRecord.CHANGE_FALL);
+        TickerFrameEncoder encoder = new TickerFrameEncoder(ZoneId.systemDefault());
+
+        for (long timestamp : new long[]{1_700_000_000_000L, 1_700_000_007_000L, 1_700_000_007_120L, 1_700_000_007_003L}) {
+            record.setTimestamp(timestamp);
+
+            // when
+            String frame = encoder.encode(record);
+
+            // then
+            assertThat(frame).isEqualTo(gson.toJson(record.toCoinTicker()));
+        }
+    }
+
+    private static void assertDecimal(long unscaled, int scale, String expected) {
+        StringBuilder out = new StringBuilder();
+        TickerFrameEncoder.appendDecimal(out, unscaled, scale);
+        assertThat(out.toString()).as("(%d, %d)", unscaled, scale).isEqualTo(expected);
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.payflow.crypto.infrastructure;
+
+import com.example.payflow.crypto.domain.OrderbookUpdate;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.*;
+
+class UpbitOrderbookDecoderTest {
+
+    // 업비트 WebSocket orderbook 응답 (DEFAULT 포맷) 에서 호가 2단만 남긴 실제 프레임
+    private static final String ORDERBOOK_FRAME = "{\"type\":\"orderbook\",\"code\":\"KRW-BTC\","
+            + "\"timestamp\":1704067200123,\"total_ask_size\":4.79158413,\"total_bid_size\":2.65609625,"
+            + "\"orderbook_units\":[{\"ask_price\":137002000,\"bid_price\":137001000,\"ask_size\":0.10136456,"
+            + "\"bid_size\":0.03656215},{\"ask_price\":137003000.0,\"bid_price\":136999000,\"ask_size\":1.5E-4,"
+            + "\"bid_size\":2e+2}],\"stream_type\":\"REALTIME\",\"level\":0}";
+
+    private final UpbitOrderbookDecoder decoder = new UpbitOrderbookDecoder();
+    private final OrderbookUpdate update = new OrderbookUpdate();
+
+    @Test
+    @DisplayName("업비트 orderbook 프레임을 스냅샷으로 디코딩하고, 지수 표기 잔량도 읽는다")
+    void decodesOrderbookFrame() {
+        // when
+        boolean decoded = decoder.decode(buffer(ORDERBOOK_FRAME), update);
+
+        // then
+        assertThat(decoded).isTrue();
+        assertThat(update.isSnapshot()).isTrue();
+        assertThat(update.getMarket()).isEqualTo("KRW-BTC");
+        assertThat(update.getTimestamp()).isEqualTo(1704067200123L);
+        assertThat(update.size()).isEqualTo(4);
+        // 단위마다 매도, 매수 순서로 추가
+        assertLevel(0, false, 137002000, 0.10136456);
+        assertLevel(1, true, 137001000, 0.03656215);
+        assertLevel(2, false, 137003000, 0.00015);
+        assertLevel(3, true, 136999000, 200);
+    }
+
+    @Test
+    @DisplayName("공백, null, 이스케이프가 든 문자열, 모르는 중첩 필드가 있어도 호가만 정확히 읽는다")
+    void toleratesWhitespaceNullsAndEscapes() {
+        // given
+        String frame = "{ \"type\" : \"orderbook\" ,\n"
+                + "  \"memo\" : \"quote \\\" and backslash \\\\ and \\u0041 }],\" ,\n"
+                + "  \"extra\" : {\"nested\": [1, {\"a\": \"]}\"}], \"flag\": true},\n"
+                + "  \"code\" : \"KRW-ETH\" , \"timestamp\" : 1704067200999 , \"level\" : null ,\n"
+                + "  \"orderbook_units\" : [ { \"ask_price\" : 3300000 , \"bid_price\" : null ,"
+                + " \"ask_size\" : 12.5 , \"bid_size\" : 0 , \"unknown\" : \"x\" } ]\n}";
+
+        // when
+        boolean decoded = decoder.decode(buffer(frame), update);
+
+        // then
+        assertThat(decoded).isTrue();
+        assertThat(update.getMarket()).isEqualTo("KRW-ETH");
+        assertThat(update.getTimestamp()).isEqualTo(1704067200999L);
+        assertThat(update.size()).isEqualTo(1);
+        assertLevel(0, false, 3300000, 12.5);
+    }
+
+    @Test
+    @DisplayName("ticker 등 다른 타입 프레임과 code 가 없는 프레임은 false")
+    void rejectsOtherFrames() {
+        assertThat(decoder.decode(buffer("{\"type\":\"ticker\",\"code\":\"KRW-BTC\",\"trade_price\":1.0E8}"), update))
+                .isFalse();
+        assertThat(decoder.decode(buffer("{\"type\":\"orderbook\",\"orderbook_units\":[]}"), update)).isFalse();
+        assertThat(decoder.decode(buffer("{}"), update)).isFalse();
+    }
+
+    @Test
+    @DisplayName("버퍼의 position 을 바꾸지 않고, 같은 마켓 코드는 같은 String 인스턴스를 재사용한다")
+    void keepsPositionAndCachesMarket() {
+        // given
+        ByteBuffer buffer = ByteBuffer.allocateDirect(ORDERBOOK_FRAME.length() + 3);
+        buffer.put("xyz".getBytes(StandardCharsets.US_ASCII)).put(ORDERBOOK_FRAME.getBytes(StandardCharsets.US_ASCII));
+        buffer.flip().position(3);
+
+        // when
+        decoder.decode(buffer, update);
+        String first = update.getMarket();
+        decoder.decode(buffer, update);
+
+        // then
+        assertThat(buffer.position()).isEqualTo(3);
+        assertThat(update.getMarket()).isSameAs(first);
+        assertThat(update.size()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("닫히지 않은 프레임은 IllegalArgumentException")
+    void rejectsMalformedFrames() {
+        assertThatThrownBy(() -> decoder.decode(buffer("{\"type\":\"orderbook\",\"code\":\"KRW-BTC"), update))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("업비트 orderbook");
+        assertThatThrownBy(() -> decoder.decode(buffer("{\"type\":\"orderbook\",\"orderbook_units\":[{\"ask_price\":1}"),
+                update))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private void assertLevel(int index, boolean bid, double price, double size) {
+        assertThat(update.isBid(index)).isEqualTo(bid);
+        assertThat(update.price(index)).isEqualTo(price);
+        assertThat(update.quantity(index)).isCloseTo(size, within(1e-12));
+    }
+
+    private static ByteBuffer buffer(String json) {
+        return ByteBuffer.wrap(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.payflow.escrow.application;
+
+import com.example.payflow.escrow.domain.*;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class EscrowStateProjectorTest {
+
+    private static final String TRANSACTION_ID = "ESC-1";
+    private static final int INTERVAL = 5;
+
+    private final List<EscrowEventStore> events = new ArrayList<>();
+    private final List<EscrowSnapshot> snapshots = new ArrayList<>();
+    private final AtomicInteger replayed = new AtomicInteger();
+    private EscrowStateProjector projector;
+
+    @BeforeEach
+    void setUp() {
+        EscrowEventStoreRepository eventStoreRepository = mock(EscrowEventStoreRepository.class);
+        EscrowSnapshotRepository snapshotRepository = mock(EscrowSnapshotRepository.class);
+        when(eventStoreRepository.findByTransactionIdAndSequenceGreaterThanAndSequenceLessThanEqualOrderBySequenceAsc(
+                eq(TRANSACTION_ID), anyInt(), anyInt())).thenAnswer(invocation -> {
+                    int after = invocation.getArgument(1);
+                    int upTo = invocation.getArgument(2);
+                    List<EscrowEventStore> range = events.stream()
+                            .filter(event -> event.getSequence() > after && event.getSequence() <= upTo)
+                            .toList();
+                    replayed.addAndGet(range.size());
+                    return range;
+                });
+        when(snapshotRepository.save(any())).thenAnswer(invocation -> {
+            snapshots.add(invocation.getArgument(0));
+            return invocation.getArgument(0);
+        });
+        when(snapshotRepository.findFirstByTransactionIdAndSequenceLessThanEqualOrderBySequenceDesc(
+                eq(TRANSACTION_ID), anyInt())).thenAnswer(invocation -> {
+                    int upTo = invocation.getArgument(1);
+                    return snapshots.stream()
+                            .filter(snapshot -> snapshot.getSequence() <= upTo)
+                            .max(Comparator.comparing(EscrowSnapshot::getSequence));
+                });
+
+        projector = new EscrowStateProjector(eventStoreRepository, snapshotRepository, new ObjectMapper());
+        ReflectionTestUtils.setField(projector, "snapshotInterval", INTERVAL);
+        ReflectionTestUtils.setField(projector, "cacheMaxSize", 100L);
+        ReflectionTestUtils.setField(projector, "cacheExpireMinutes", 30L);
+        projector.init();
+    }
+
+    @Test
+    @DisplayName("interval 번째 이벤트마다 스냅샷을 남기고, 특정 시점 상태는 가장 가까운 스냅샷 이후만 재생한다")
+    void pointInTimeReplaysOnlyAfterNearestSnapshot() {
+        // given - 이벤트 23건 (1: 생성, 2~22: 분쟁 메시지, 23: 정산)
+        append("EscrowCreated", "INITIATED");
+        for (int i = 0; i < 21; i++) {
+            append("DisputeMessage", "DISPUTED");
+        }
+        append("SettlementCompleted", "SETTLED");
+        replayed.set(0);
+
+        // when
+        EscrowProjection atTwelve = projector.at(TRANSACTION_ID, 12);
+        int replayedAtTwelve = replayed.getAndSet(0);
+        EscrowProjection latest = projector.latest(TRANSACTION_ID);
+
+        // then
+        assertThat(snapshots).extracting(EscrowSnapshot::getSequence).containsExactly(5, 10, 15, 20);
+        assertThat(replayedAtTwelve).isEqualTo(2);
+        assertThat(atTwelve.getLastSequence()).isEqualTo(12);
+        assertThat(atTwelve.getCurrentStatus()).isEqualTo("DISPUTED");
+        assertThat(atTwelve.getEventTypeCounts()).containsEntry("EscrowCreated", 1).containsEntry("DisputeMessage", 11);
+        assertThat(latest.getCurrentStatus()).isEqualTo("SETTLED");
+        assertThat(latest.getEventTypeCounts()).containsEntry("DisputeMessage", 21).containsEntry("SettlementCompleted", 1);
+        assertThat(latest.toStateMap()).containsEntry("eventCount", 23).doesNotContainKey("events");
+    }
+
+    @Test
+    @DisplayName("캐시된 최신 상태는 그 이후 이벤트만 읽어 반영하고, 캐시 인스턴스는 바꾸지 않는다")
+    void latestCatchesUpFromCache() {
+        // given
+        append("EscrowCreated", "INITIATED");
+        append("DepositConfirmed", "DEPOSITED");
+        EscrowProjection first = projector.latest(TRANSACTION_ID);
+        append("VerificationCompleted", "VERIFIED");
+        replayed.set(0);
+
+        // when
+        EscrowProjection second = projector.latest(TRANSACTION_ID);
+
+        // then
+        assertThat(replayed.get()).isEqualTo(1);
+        assertThat(first.getLastSequence()).isEqualTo(2);
+        assertThat(first.getCurrentStatus()).isEqualTo("DEPOSITED");
+        assertThat(second.getLastSequence()).isEqualTo(3);
+        assertThat(second.getCurrentStatus()).isEqualTo("VERIFIED");
+        assertThat(second.getStatusSince()).isEqualTo(events.get(2).getOccurredAt());
+    }
+
+    @Test
+    @DisplayName("이벤트가 없는 거래는 빈 상태")
+    void emptyHistory() {
+        // when
+        EscrowProjection projection = projector.at(TRANSACTION_ID, 10);
+
+        // then
+        assertThat(projection.getLastSequence()).isZero();
+        assertThat(projection.toStateMap()).containsOnlyKeys("transactionId", "eventCount");
+    }
+
+    private void append(String eventType, String newStatus) {
+        int sequence = events.size() + 1;
+        String previousStatus = events.isEmpty() ? null : events.get(events.size() - 1).getNewStatus();
+        events.add(new EscrowEventStore(TRANSACTION_ID, sequence, eventType, previousStatus, newStatus, null, "test"));
+        projector.onAppended(TRANSACTION_ID, sequence);
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.payflow.logging.application;
+
+import com.example.payflow.logging.domain.EventLog;
+import com.example.payflow.logging.domain.EventLogRollup;
+import com.example.payflow.logging.domain.EventStatus;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class EventLogRollupAggregatorTest {
+
+    private final EventLogRollupAggregator aggregator = new EventLogRollupAggregator();
+
+    @Test
+    @DisplayName("같은 분/서비스/타입 이벤트는 한 버킷에 건수, 실패, 처리 시간이 누적")
+    void recordsIntoMinuteBucket() {
+        // given
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 10, 15, 0);
+        aggregator.record(log(base.plusSeconds(1), EventStatus.SUCCESS, 3L));
+        aggregator.record(log(base.plusSeconds(20), EventStatus.FAILED, 40L));
+        aggregator.record(log(base.plusSeconds(59), EventStatus.SUCCESS, null));
+        aggregator.record(log(base.plusMinutes(1), EventStatus.SUCCESS, 1L));
+
+        // when
+        List<EventLogRollup> drained = aggregator.drain();
+
+        // then
+        assertThat(drained).hasSize(2);
+        EventLogRollup first = drained.stream()
+            .filter(rollup -> rollup.getBucketStart().equals(base))
+            .findFirst().orElseThrow();
+        assertThat(first.getEventCount()).isEqualTo(3);
+        assertThat(first.getSuccessCount()).isEqualTo(2);
+        assertThat(first.getFailureCount()).isEqualTo(1);
+        assertThat(first.getLatencyCount()).isEqualTo(2);
+        assertThat(first.getAvgLatencyMs()).isEqualTo(21.5);
+        assertThat(first.getLatencyPercentileMs(99)).isEqualTo(40.0);
+        assertThat(aggregator.getPendingBucketCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("flush 실패로 되돌린 누적분은 새로 쌓인 값과 합쳐진다")
+    void restoreMergesWithNewRecords() {
+        // given
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 10, 15, 0);
+        aggregator.record(log(base, EventStatus.SUCCESS, 5L));
+        List<EventLogRollup> drained = aggregator.drain();
+        aggregator.record(log(base.plusSeconds(10), EventStatus.FAILED, 7L));
+
+        // when
+        aggregator.restore(drained);
+        List<EventLogRollup> snapshot = aggregator.snapshot(base);
+
+        // then
+        assertThat(snapshot).hasSize(1);
+        assertThat(snapshot.get(0).getEventCount()).isEqualTo(2);
+        assertThat(snapshot.get(0).getFailureCount()).isEqualTo(1);
+        assertThat(snapshot.get(0).getLatencySumMs()).isEqualTo(12);
+        assertThat(aggregator.getPendingBucketCount()).isEqualTo(1);
+    }
+
+    private EventLog log(LocalDateTime timestamp, EventStatus status, Long processingTimeMs) {
+        return EventLog.builder()
+            .correlationId("corr")
+            .eventType("PaymentApproved")
+            .serviceName("payment")
+            .timestamp(timestamp)
+            .status(status)
+            .processingTimeMs(processingTimeMs)
+            .build();
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.payflow.logging.infrastructure;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.assertj.core.api.Assertions.*;
+
+class EventKeyScannerTest {
+
+    private final EventKeyScanner scanner = new EventKeyScanner(new ObjectMapper());
+
+    @Test
+    @DisplayName("우선순위가 높은 키가 뒤에 나와도 그 값을 사용")
+    void higherPriorityKeyWins() throws IOException {
+        // given
+        String json = "{\"sellerId\":\"s1\",\"paymentId\":\"p1\",\"buyerId\":\"b1\",\"orderId\":\"o1\"}";
+
+        // when
+        EventKeyScanner.EventKeys keys = scanner.scan(json);
+
+        // then
+        assertThat(keys.getCorrelationId()).isEqualTo("o1");
+        assertThat(keys.getUserId()).isEqualTo("b1");
+    }
+
+    @Test
+    @DisplayName("중첩 객체 안의 키는 무시하고 숫자 값은 문자열로 추출")
+    void ignoresNestedFieldsAndReadsNumbers() throws IOException {
+        // given
+        String json = "{\"order\":{\"correlationId\":\"nested\",\"userId\":\"nested\"},"
+            + "\"items\":[{\"orderId\":1}],\"orderId\":1024,\"username\":\"kim\"}";
+
+        // when
+        EventKeyScanner.EventKeys keys = scanner.scan(json);
+
+        // then
+        assertThat(keys.getCorrelationId()).isEqualTo("1024");
+        assertThat(keys.getUserId()).isEqualTo("kim");
+    }
+
+    @Test
+    @DisplayName("후보 키가 없으면 null, 객체가 아닌 JSON 도 null")
+    void missingKeys() throws IOException {
+        // when
+        EventKeyScanner.EventKeys object = scanner.scan("{\"amount\":1000}");
+        EventKeyScanner.EventKeys text = scanner.scan("\"OrderCreated\"");
+
+        // then
+        assertThat(object.getCorrelationId()).isNull();
+        assertThat(object.getUserId()).isNull();
+        assertThat(text.getCorrelationId()).isNull();
+    }
+
+    @Test
+    @DisplayName("JSON 형식이 아니면 예외")
+    void rejectsMalformedJson() {
+        assertThatThrownBy(() -> scanner.scan("{\"orderId\": "))
+            .isInstanceOf(IOException.class);
+    }
+}
@@ -0,0 +1,125 @@
+package com.example.payflow.logging.infrastructure;
+
+import com.example.payflow.logging.domain.EventLogRollup;
+import com.example.payflow.logging.domain.EventStatus;
+import com.example.payflow.logging.domain.RollupGranularity;
+import com.example.payflow.support.TestDatabase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class JdbcEventLogRollupRepositoryTest {
+
+    private static final LocalDateTime MINUTE = LocalDateTime.of(2025, 1, 1, 10, 15);
+    private static final String SELECT_ROLLUP = "SELECT event_count, success_count, failure_count, latency_count, "
+            + "latency_sum_ms, latency_max_ms, latency_buckets FROM event_log_rollups "
+            + "WHERE granularity = ? AND bucket_start = ? AND service_name = ? AND event_type = ?";
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private JdbcEventLogRollupRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        TestDatabase database = TestDatabase.create(EventLogRollup.class);
+        jdbcTemplate = database.jdbcTemplate();
+        transactionTemplate = database.transactionTemplate();
+        repository = new JdbcEventLogRollupRepository(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("없는 버킷은 만들고 있는 버킷은 건수/합계/최대값/처리 시간 분포를 더한다")
+    void insertsThenIncrements() {
+        // given
+        EventLogRollup first = delta("payment", "PaymentApproved", EventStatus.SUCCESS, 3L, EventStatus.FAILED, 40L);
+        EventLogRollup second = delta("payment", "PaymentApproved", EventStatus.SUCCESS, 12L);
+        EventLogRollup other = delta("order", "OrderCreated", EventStatus.SUCCESS, null);
+
+        // when
+        flush(List.of(first, other));
+        flush(List.of(second));
+
+        // then
+        Map<String, Object> row = row("payment", "PaymentApproved");
+        assertThat(row).containsEntry("EVENT_COUNT", 3L)
+                .containsEntry("SUCCESS_COUNT", 2L)
+                .containsEntry("FAILURE_COUNT", 1L)
+                .containsEntry("LATENCY_COUNT", 3L)
+                .containsEntry("LATENCY_SUM_MS", 55L)
+                .containsEntry("LATENCY_MAX_MS", 40L);
+        long[] expected = first.bucketCounts().clone();
+        long[] secondCounts = second.bucketCounts();
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] += secondCounts[i];
+        }
+        assertThat(buckets(row)).containsExactly(expected);
+        assertThat(row("order", "OrderCreated")).containsEntry("EVENT_COUNT", 1L).containsEntry("LATENCY_COUNT", 0L);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM event_log_rollups", Long.class)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("여러 인스턴스가 같은 버킷을 동시에 flush 해도 건수와 처리 시간 분포가 유실되지 않는다")
+    void concurrentFlushesAreNotLost() throws Exception {
+        // given - 첫 flush 로 행을 만든 뒤 writer 8개가 각자 트랜잭션으로 50번씩 반영
+        flush(List.of(delta("payment", "PaymentApproved", EventStatus.SUCCESS, 5L)));
+        int writers = 8;
+        int perWriter = 50;
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // when
+        for (int w = 0; w < writers; w++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < perWriter; i++) {
+                    flush(List.of(delta("payment", "PaymentApproved", EventStatus.SUCCESS, 5L)));
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // then
+        long total = 1 + (long) writers * perWriter;
+        Map<String, Object> row = row("payment", "PaymentApproved");
+        assertThat(row).containsEntry("EVENT_COUNT", total).containsEntry("LATENCY_SUM_MS", 5 * total);
+        assertThat(Arrays.stream(buckets(row)).sum()).isEqualTo(total);
+    }
+
+    private void flush(List<EventLogRollup> deltas) {
+        transactionTemplate.executeWithoutResult(status ->
+                repository.upsertIncrements(RollupGranularity.MINUTE, deltas, LocalDateTime.now()));
+    }
+
+    private Map<String, Object> row(String serviceName, String eventType) {
+        return jdbcTemplate.queryForMap(SELECT_ROLLUP, RollupGranularity.MINUTE.name(), MINUTE, serviceName, eventType);
+    }
+
+    private static long[] buckets(Map<String, Object> row) {
+        return Arrays.stream(((String) row.get("LATENCY_BUCKETS")).split(",")).mapToLong(Long::parseLong).toArray();
+    }
+
+    private static EventLogRollup delta(String serviceName, String eventType, Object... statusAndLatency) {
+        EventLogRollup rollup = EventLogRollup.open(RollupGranularity.MINUTE, MINUTE, serviceName, eventType);
+        for (int i = 0; i < statusAndLatency.length; i += 2) {
+            rollup.record((EventStatus) statusAndLatency[i], (Long) statusAndLatency[i + 1]);
+        }
+        return rollup;
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.payflow.logging.infrastructure;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+class MpscRingBufferTest {
+
+    @Test
+    @DisplayName("가득 차면 offer 실패, 꺼낸 만큼 다시 적재 가능")
+    void rejectsWhenFull() {
+        // given
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(4);
+        for (int i = 0; i < 4; i++) {
+            assertThat(buffer.offer(i)).isTrue();
+        }
+
+        // when
+        boolean overflow = buffer.offer(99);
+        List<Integer> drained = new ArrayList<>();
+        buffer.drainTo(drained, 2);
+
+        // then
+        assertThat(overflow).isFalse();
+        assertThat(drained).containsExactly(0, 1);
+        assertThat(buffer.offer(4)).isTrue();
+        assertThat(buffer.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("다중 생산자 적재분은 유실/중복 없이 생산자별 순서대로 소비")
+    void multipleProducersSingleConsumer() throws Exception {
+        // given
+        int producers = 8;
+        int perProducer = 20_000;
+        MpscRingBuffer<long[]> buffer = new MpscRingBuffer<>(1024);
+        ExecutorService executor = Executors.newFixedThreadPool(producers);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // when
+        for (int p = 0; p < producers; p++) {
+            long producer = p;
+            executor.submit(() -> {
+                start.await();
+                for (long i = 0; i < perProducer; i++) {
+                    long[] element = {producer, i};
+                    while (!buffer.offer(element)) {
+                        Thread.yield();
+                    }
+                }
+                return null;
+            });
+        }
+        start.countDown();
+
+        long[] nextExpected = new long[producers];
+        List<long[]> batch = new ArrayList<>();
+        long consumed = 0;
+        long deadline = System.currentTimeMillis() + 30_000;
+        while (consumed < (long) producers * perProducer && System.currentTimeMillis() < deadline) {
+            batch.clear();
+            buffer.drainTo(batch, 256);
+            for (long[] element : batch) {
+                assertThat(element[1]).isEqualTo(nextExpected[(int) element[0]]);
+                nextExpected[(int) element[0]]++;
+            }
+            consumed += batch.size();
+        }
+        executor.shutdown();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(consumed).isEqualTo((long) producers * perProducer);
+        assertThat(buffer.isEmpty()).isTrue();
+    }
+}
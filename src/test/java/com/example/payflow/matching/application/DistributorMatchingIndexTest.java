@@ -0,0 +1,240 @@
+package com.example.payflow.matching.application;
+
+import com.example.payflow.distributor.domain.Distributor;
+import com.example.payflow.distributor.domain.DistributorRepository;
+import com.example.payflow.distributor.domain.events.DistributorChanged;
+import com.example.payflow.matching.domain.MatchingScore;
+import com.example.payflow.store.domain.Store;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class DistributorMatchingIndexTest {
+
+    private static final String[] REGIONS = {"서울", "경기", "인천", "부산", "서울 강남구", "서울 마포구", "부산 해운대구", "대구", ""};
+    private static final String[] PRODUCTS = {"쌀/곡물", "채소", "육류", "수산물", "과일", "유제품", "양념"};
+    private static final String[] CERTIFICATIONS = {null, "", "HACCP", "HACCP,ISO", "HACCP,ISO,GAP", ","};
+
+    private final Random random = new Random(42);
+    private List<Distributor> distributors;
+    private DistributorMatchingIndex index;
+
+    @BeforeEach
+    void setUp() {
+        distributors = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            Distributor distributor = new Distributor("D" + i, "유통" + i, null, "010-0000-" + i, null);
+            distributor.updateDistributorInfo(
+                    randomTokens(PRODUCTS, 4), randomTokens(REGIONS, 3), random.nextInt(5) > 0,
+                    random.nextBoolean() ? "익일 배송" : "", null,
+                    CERTIFICATIONS[random.nextInt(CERTIFICATIONS.length)],
+                    10_000 * random.nextInt(30), null, null);
+            if (random.nextInt(10) == 0) {
+                distributor.deactivate();
+            }
+            distributors.add(distributor);
+        }
+        DistributorRepository repository = mock(DistributorRepository.class);
+        when(repository.findAll()).thenReturn(distributors);
+        index = new DistributorMatchingIndex(repository);
+    }
+
+    @Test
+    @DisplayName("색인 추천 결과가 기존 BigDecimal 계산 + 전체 정렬 결과와 같다")
+    void recommendMatchesReference() {
+        for (int i = 0; i < 50; i++) {
+            // given
+            Store store = randomStore(i);
+
+            // when
+            List<MatchingScore> actual = index.recommend(store, 10);
+
+            // then
+            assertSameScores(actual, reference(store, distributors, 10));
+        }
+    }
+
+    @Test
+    @DisplayName("품목/지역 검색은 키워드를 포함한 활성 유통업체 전체를 총점 순으로")
+    void searchMatchesReference() {
+        // given
+        Store store = randomStore(7);
+
+        // when
+        List<MatchingScore> byProduct = index.searchByProduct(store, "채소");
+        List<MatchingScore> byRegion = index.searchByRegion(store, "서울");
+
+        // then
+        assertSameScores(byProduct, reference(store, distributors.stream()
+                .filter(d -> d.getSupplyProducts() != null && d.getSupplyProducts().contains("채소"))
+                .collect(Collectors.toList()), Integer.MAX_VALUE));
+        assertSameScores(byRegion, reference(store, distributors.stream()
+                .filter(d -> d.getServiceRegions() != null && d.getServiceRegions().contains("서울"))
+                .collect(Collectors.toList()), Integer.MAX_VALUE));
+    }
+
+    @Test
+    @DisplayName("유통업체 변경은 해당 slot 만 다시 색인 (비활성화 시 제외, 재활성화 시 복귀)")
+    void incrementalUpdate() {
+        // given
+        Store store = new Store("S1", "매장", "owner", "010", "addr");
+        store.updateStoreInfo("한식", "제주 제주시", "전복", null, 3, null);
+        Distributor jeju = distributors.get(3);
+        index.recommend(store, 1);
+
+        // when
+        jeju.updateDistributorInfo("전복,감귤", "제주", true, "당일 배송", null, "HACCP,ISO,GAP", 0, null, null);
+        jeju.activate();
+        index.onDistributorChanged(new DistributorChanged(jeju));
+        List<MatchingScore> afterUpdate = index.recommend(store, 1);
+
+        jeju.deactivate();
+        index.onDistributorChanged(new DistributorChanged(jeju));
+        List<MatchingScore> afterDeactivate = index.recommend(store, 1);
+
+        // then
+        assertThat(afterUpdate.get(0).getDistributorId()).isEqualTo("D3");
+        assertThat(afterUpdate.get(0).getTotalScore()).isEqualByComparingTo("100.00");
+        assertThat(afterDeactivate.get(0).getDistributorId()).isNotEqualTo("D3");
+        assertThat(index.score(store, "D3")).isEmpty();
+        assertSameScores(index.recommend(randomStore(1), 20), reference(randomStore(1), distributors, 20));
+    }
+
+    private void assertSameScores(List<MatchingScore> actual, List<MatchingScore> expected) {
+        assertThat(actual).hasSameSizeAs(expected);
+        for (int i = 0; i < expected.size(); i++) {
+            MatchingScore a = actual.get(i);
+            MatchingScore e = expected.get(i);
+            assertThat(a.getDistributorId()).isEqualTo(e.getDistributorId());
+            assertThat(a.getTotalScore()).isEqualTo(e.getTotalScore());
+            assertThat(a.getRegionScore()).isEqualTo(e.getRegionScore());
+            assertThat(a.getProductScore()).isEqualTo(e.getProductScore());
+            assertThat(a.getDeliveryScore()).isEqualTo(e.getDeliveryScore());
+            assertThat(a.getCertificationScore()).isEqualTo(e.getCertificationScore());
+            assertThat(a.getMatchReason()).isEqualTo(e.getMatchReason());
+        }
+    }
+
+    private Store randomStore(int seed) {
+        Random storeRandom = new Random(seed);
+        Store store = new Store("S" + seed, "매장" + seed, "owner", "010", "addr");
+        String region = seed % 10 == 9 ? null : REGIONS[storeRandom.nextInt(REGIONS.length - 1)];
+        String products = seed % 10 == 8 ? null : randomTokens(PRODUCTS, 3, storeRandom);
+        store.updateStoreInfo("한식", region, products, null, 3, null);
+        return store;
+    }
+
+    private String randomTokens(String[] pool, int max) {
+        return randomTokens(pool, max, random);
+    }
+
+    private static String randomTokens(String[] pool, int max, Random random) {
+        if (random.nextInt(20) == 0) {
+            return null;
+        }
+        int count = 1 + random.nextInt(max);
+        List<String> tokens = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            tokens.add((random.nextBoolean() ? " " : "") + pool[random.nextInt(pool.length)]);
+        }
+        return String.join(",", tokens);
+    }
+
+    /**
+     * 색인 도입 전 계산 (findAll + BigDecimal 점수 + 전체 정렬)
+     */
+    private static List<MatchingScore> reference(Store store, List<Distributor> candidates, int limit) {
+        return candidates.stream()
+                .filter(d -> d.getIsActive() != null && d.getIsActive())
+                .map(d -> referenceScore(store, d))
+                .sorted((a, b) -> b.getTotalScore().compareTo(a.getTotalScore()))
+                .limit(limit)
+                .collect(Collectors.toList());
+    }
+
+    private static MatchingScore referenceScore(Store store, Distributor distributor) {
+        BigDecimal regionScore = BigDecimal.ZERO;
+        if (store.getRegion() != null && distributor.getServiceRegions() != null) {
+            List<String> serviceRegions = Arrays.asList(distributor.getServiceRegions().split(","));
+            String storeCity = store.getRegion().split(" ")[0];
+            if (serviceRegions.stream().anyMatch(r -> store.getRegion().contains(r.trim()) || r.trim().contains(store.getRegion()))) {
+                regionScore = BigDecimal.valueOf(100);
+            } else if (serviceRegions.stream().anyMatch(r -> r.trim().startsWith(storeCity))) {
+                regionScore = BigDecimal.valueOf(70);
+            }
+        }
+
+        BigDecimal productScore = BigDecimal.ZERO;
+        if (store.getMainProducts() != null && distributor.getSupplyProducts() != null) {
+            List<String> storeProducts = Arrays.asList(store.getMainProducts().split(","));
+            List<String> supplyProducts = Arrays.asList(distributor.getSupplyProducts().split(","));
+            long matchCount = storeProducts.stream().map(String::trim)
+                    .filter(p -> supplyProducts.stream().anyMatch(s -> s.trim().equals(p)))
+                    .count();
+            if (!storeProducts.isEmpty()) {
+                double matchRatio = (double) matchCount / storeProducts.size();
+                productScore = BigDecimal.valueOf(matchRatio * 100).setScale(2, RoundingMode.HALF_UP);
+            }
+        }
+
+        BigDecimal deliveryScore = BigDecimal.ZERO;
+        if (distributor.getDeliveryAvailable() != null && distributor.getDeliveryAvailable()) {
+            deliveryScore = BigDecimal.valueOf(70);
+            if (distributor.getDeliveryInfo() != null && !distributor.getDeliveryInfo().isEmpty()) {
+                deliveryScore = deliveryScore.add(BigDecimal.valueOf(30));
+            }
+        }
+
+        BigDecimal certificationScore = BigDecimal.valueOf(50);
+        if (distributor.getCertifications() != null && !distributor.getCertifications().isEmpty()) {
+            int certCount = distributor.getCertifications().split(",").length;
+            certificationScore = BigDecimal.valueOf(certCount >= 3 ? 100 : certCount == 2 ? 85 : certCount == 1 ? 70 : 50);
+        }
+
+        BigDecimal totalScore = regionScore.multiply(BigDecimal.valueOf(0.4))
+                .add(productScore.multiply(BigDecimal.valueOf(0.35)))
+                .add(deliveryScore.multiply(BigDecimal.valueOf(0.15)))
+                .add(certificationScore.multiply(BigDecimal.valueOf(0.10)))
+                .setScale(2, RoundingMode.HALF_UP);
+
+        List<String> reasons = new ArrayList<>();
+        if (regionScore.compareTo(BigDecimal.valueOf(90)) >= 0) {
+            reasons.add("서비스 지역 완벽 일치");
+        } else if (regionScore.compareTo(BigDecimal.valueOf(60)) >= 0) {
+            reasons.add("서비스 지역 근접");
+        }
+        if (productScore.compareTo(BigDecimal.valueOf(80)) >= 0) {
+            reasons.add("필요 품목 대부분 공급 가능");
+        } else if (productScore.compareTo(BigDecimal.valueOf(50)) >= 0) {
+            reasons.add("주요 품목 공급 가능");
+        }
+        if (deliveryScore.compareTo(BigDecimal.valueOf(90)) >= 0) {
+            reasons.add("배송 서비스 우수");
+        } else if (deliveryScore.compareTo(BigDecimal.valueOf(60)) >= 0) {
+            reasons.add("배송 가능");
+        }
+        if (certificationScore.compareTo(BigDecimal.valueOf(90)) >= 0) {
+            reasons.add("다수 인증 보유");
+        } else if (certificationScore.compareTo(BigDecimal.valueOf(70)) >= 0) {
+            reasons.add("인증 보유");
+        }
+
+        return MatchingScore.builder()
+                .distributorId(distributor.getDistributorId())
+                .totalScore(totalScore)
+                .regionScore(regionScore)
+                .productScore(productScore)
+                .deliveryScore(deliveryScore)
+                .certificationScore(certificationScore)
+                .matchReason(reasons.isEmpty() ? "기본 매칭" : String.join(", ", reasons))
+                .build();
+    }
+}
@@ -0,0 +1,224 @@
+package com.example.payflow.payment.application;
+
+import com.example.payflow.common.resilience.CircuitBreakerOpenException;
+import com.example.payflow.logging.application.EventLoggingService;
+import com.example.payflow.logging.application.PaymentEventSourcingService;
+import com.example.payflow.order.application.OrderService;
+import com.example.payflow.payment.domain.Payment;
+import com.example.payflow.payment.domain.PaymentRepository;
+import com.example.payflow.payment.domain.PaymentStatus;
+import com.example.payflow.payment.infrastructure.TossPaymentGateway;
+import com.example.payflow.payment.infrastructure.TossPaymentsException;
+import com.example.payflow.payment.infrastructure.dto.TossPaymentResponse;
+import com.example.payflow.payment.presentation.dto.PaymentConfirmRequest;
+import com.example.payflow.payment.presentation.dto.PaymentResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class PaymentServiceTest {
+
+    private static final String ORDER_ID = "ORDER_1";
+    private static final String PAYMENT_KEY = "pay-1";
+
+    private PaymentRepository paymentRepository;
+    private PaymentEventSourcingService eventSourcingService;
+    private TossPaymentGateway paymentGateway;
+    private Payment payment;
+    private PaymentService paymentService;
+
+    @BeforeEach
+    void setUp() {
+        paymentRepository = mock(PaymentRepository.class);
+        eventSourcingService = mock(PaymentEventSourcingService.class);
+        paymentGateway = mock(TossPaymentGateway.class);
+
+        payment = new Payment(ORDER_ID, "테스트 주문", 10_000L, "test@test.com");
+        when(paymentRepository.findByOrderIdForUpdate(ORDER_ID)).thenReturn(Optional.of(payment));
+        when(paymentGateway.getTimeoutMillis()).thenReturn(3_000L);
+
+        // 트랜잭션 매니저는 mock - TransactionTemplate 이 콜백만 실행한다
+        paymentService = new PaymentService(paymentRepository, mock(OrderService.class), mock(EventLoggingService.class),
+                eventSourcingService, paymentGateway, mock(PlatformTransactionManager.class));
+        ReflectionTestUtils.setField(paymentService, "commitThreads", 2);
+        paymentService.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        paymentService.shutdown();
+    }
+
+    @Test
+    @DisplayName("PG 응답 시간 초과면 결과를 모르므로 실패로 기록하지 않고 APPROVING 으로 남긴다")
+    void timeoutKeepsApproving() {
+        // given
+        when(paymentGateway.confirm(any())).thenReturn(CompletableFuture.failedFuture(new TimeoutException()));
+
+        // when
+        CompletableFuture<PaymentResponse> result = paymentService.confirmPayment(request());
+
+        // then
+        assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS)).hasMessageContaining("결과 확인 지연");
+        assertThat(payment.getStatus()).isEqualTo(PaymentStatus.APPROVING);
+        assertThat(payment.getPaymentKey()).isEqualTo(PAYMENT_KEY);
+        assertThat(paymentService.getConfirmStats().getUnknown()).isEqualTo(1);
+        verify(eventSourcingService, never()).storePaymentEvent(any(), eq("PaymentFailed"), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("시간 초과로 남은 승인을 다시 요청하면 PG 결제 조회로 승인을 확인하고 재승인은 호출하지 않는다")
+    void staleApprovalRecoversFromLookup() throws Exception {
+        // given - 응답 대기 시간이 지난 APPROVING
+        payment.startApproval(PAYMENT_KEY);
+        ReflectionTestUtils.setField(payment, "approvalRequestedAt", LocalDateTime.now().minusMinutes(1));
+        when(paymentGateway.lookup(PAYMENT_KEY)).thenReturn(CompletableFuture.completedFuture(tossResponse("DONE")));
+
+        // when
+        PaymentResponse response = paymentService.confirmPayment(request()).get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(PaymentStatus.DONE);
+        assertThat(payment.getStatus()).isEqualTo(PaymentStatus.DONE);
+        assertThat(paymentService.getConfirmStats().getRecovered()).isEqualTo(1);
+        verify(paymentGateway, never()).confirm(any());
+    }
+
+    @Test
+    @DisplayName("조회 결과 아직 승인되지 않은 결제면 그때 재승인한다")
+    void staleApprovalConfirmsWhenNotApproved() throws Exception {
+        // given
+        payment.startApproval(PAYMENT_KEY);
+        ReflectionTestUtils.setField(payment, "approvalRequestedAt", LocalDateTime.now().minusMinutes(1));
+        when(paymentGateway.lookup(PAYMENT_KEY)).thenReturn(CompletableFuture.completedFuture(tossResponse("READY")));
+        when(paymentGateway.confirm(any())).thenReturn(CompletableFuture.completedFuture(tossResponse("DONE")));
+
+        // when
+        PaymentResponse response = paymentService.confirmPayment(request()).get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(PaymentStatus.DONE);
+        verify(paymentGateway).confirm(any());
+        assertThat(paymentService.getConfirmStats().getRecovered()).isZero();
+    }
+
+    @Test
+    @DisplayName("ALREADY_PROCESSED_PAYMENT 응답은 PG 결제 조회로 승인을 확인해 성공으로 처리한다")
+    void alreadyProcessedTreatedAsSuccess() throws Exception {
+        // given
+        when(paymentGateway.confirm(any())).thenReturn(CompletableFuture.failedFuture(new TossPaymentsException(400,
+                TossPaymentsException.ALREADY_PROCESSED_PAYMENT, "이미 처리된 결제 입니다")));
+        when(paymentGateway.lookup(PAYMENT_KEY)).thenReturn(CompletableFuture.completedFuture(tossResponse("DONE")));
+
+        // when
+        PaymentResponse response = paymentService.confirmPayment(request()).get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(PaymentStatus.DONE);
+        assertThat(paymentService.getConfirmStats().getFailed()).isZero();
+        verify(eventSourcingService, never()).storePaymentEvent(any(), eq("PaymentFailed"), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("승인 진행 중인 결제에 다시 요청하면 PG 를 호출하지 않고 거절한다")
+    void concurrentConfirmRejected() {
+        // given - 첫 요청은 PG 응답 대기 중
+        when(paymentGateway.confirm(any())).thenReturn(new CompletableFuture<>());
+        paymentService.confirmPayment(request());
+
+        // when
+        CompletableFuture<PaymentResponse> second = paymentService.confirmPayment(request());
+
+        // then
+        assertThatThrownBy(() -> second.get(5, TimeUnit.SECONDS)).hasMessageContaining("이미 승인 진행 중");
+        verify(paymentGateway, times(1)).confirm(any());
+        verify(paymentRepository, times(2)).findByOrderIdForUpdate(ORDER_ID);
+    }
+
+    @Test
+    @DisplayName("다른 요청이 먼저 승인을 저장했으면 늦게 도착한 실패로 DONE 을 덮어쓰지 않는다")
+    void lateFailureDoesNotOverwriteDone() throws Exception {
+        // given
+        CompletableFuture<TossPaymentResponse> pgCall = new CompletableFuture<>();
+        when(paymentGateway.confirm(any())).thenReturn(pgCall);
+        CompletableFuture<PaymentResponse> result = paymentService.confirmPayment(request());
+
+        // when - 재요청이 승인을 먼저 저장한 뒤 원래 요청이 실패로 끝남
+        payment.approve(PAYMENT_KEY, "CARD");
+        pgCall.completeExceptionally(new TossPaymentsException(500, "PG 오류"));
+
+        // then
+        assertThat(result.get(5, TimeUnit.SECONDS).getStatus()).isEqualTo(PaymentStatus.DONE);
+        assertThat(payment.getStatus()).isEqualTo(PaymentStatus.DONE);
+        assertThat(paymentService.getConfirmStats().getFailed()).isZero();
+        verify(eventSourcingService, never()).storePaymentEvent(any(), eq("PaymentFailed"), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("서킷 차단으로 PG 를 호출하지 못하면 실패로 기록하지 않고 승인 전 상태로 되돌린다")
+    void circuitOpenReleasesApproval() {
+        // given
+        when(paymentGateway.confirm(any()))
+                .thenReturn(CompletableFuture.failedFuture(new CircuitBreakerOpenException("toss-payments")));
+
+        // when
+        CompletableFuture<PaymentResponse> result = paymentService.confirmPayment(request());
+
+        // then
+        assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS)).hasMessageContaining("잠시 후 다시");
+        assertThat(payment.getStatus()).isEqualTo(PaymentStatus.READY);
+        assertThat(payment.isApprovalInProgress(LocalDateTime.now().minusMinutes(1))).isFalse();
+        assertThat(paymentService.getConfirmStats().getRejected()).isEqualTo(1);
+        assertThat(paymentService.getConfirmStats().getFailed()).isZero();
+        verify(eventSourcingService, never()).storePaymentEvent(any(), eq("PaymentFailed"), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("PG 가 거절하면 실패로 기록한다")
+    void rejectedByPgMarksFailed() {
+        // given
+        when(paymentGateway.confirm(any())).thenReturn(CompletableFuture.failedFuture(
+                new TossPaymentsException(400, "REJECT_CARD_PAYMENT", "카드 한도 초과")));
+
+        // when
+        CompletableFuture<PaymentResponse> result = paymentService.confirmPayment(request());
+
+        // then
+        assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS)).hasMessageContaining("결제 승인 실패");
+        assertThat(payment.getStatus()).isEqualTo(PaymentStatus.FAILED);
+        verify(eventSourcingService).storePaymentEvent(eq(ORDER_ID), eq("PaymentFailed"), eq("APPROVING"),
+                eq("FAILED"), any(), any());
+        verify(paymentGateway, never()).lookup(any());
+    }
+
+    private PaymentConfirmRequest request() {
+        PaymentConfirmRequest request = new PaymentConfirmRequest();
+        ReflectionTestUtils.setField(request, "paymentKey", PAYMENT_KEY);
+        ReflectionTestUtils.setField(request, "orderId", ORDER_ID);
+        ReflectionTestUtils.setField(request, "amount", 10_000L);
+        return request;
+    }
+
+    private TossPaymentResponse tossResponse(String status) {
+        TossPaymentResponse response = new TossPaymentResponse();
+        ReflectionTestUtils.setField(response, "paymentKey", PAYMENT_KEY);
+        ReflectionTestUtils.setField(response, "orderId", ORDER_ID);
+        ReflectionTestUtils.setField(response, "status", status);
+        ReflectionTestUtils.setField(response, "method", "CARD");
+        ReflectionTestUtils.setField(response, "approvedAt", "2024-03-15T10:00:00+09:00");
+        return response;
+    }
+}
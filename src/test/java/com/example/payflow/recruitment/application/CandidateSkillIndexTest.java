@@ -0,0 +1,259 @@
+package com.example.payflow.recruitment.application;
+
+import com.example.payflow.hr.domain.Position;
+import com.example.payflow.recruitment.domain.*;
+import com.example.payflow.recruitment.domain.events.CandidateChanged;
+import com.example.payflow.recruitment.domain.events.SkillChanged;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+class CandidateSkillIndexTest {
+
+    private final Random random = new Random(42);
+    private final List<Skill> skills = new ArrayList<>();
+    private final List<Candidate> candidates = new ArrayList<>();
+    private CandidateMatchingService matchingService;
+    private CandidateSkillIndex index;
+
+    @BeforeEach
+    void setUp() {
+        for (long id = 1; id <= 40; id++) {
+            SkillCategory category = SkillCategory.values()[random.nextInt(SkillCategory.values().length)];
+            Skill skill = Skill.create("기술" + id, category, null);
+            ReflectionTestUtils.setField(skill, "id", id);
+            if (random.nextInt(3) == 0) {
+                skill.setSimilarityScore(random.nextInt(10) / 10.0);
+            }
+            skills.add(skill);
+        }
+        for (int i = 0; i < 15; i++) {
+            skills.get(random.nextInt(skills.size())).addSimilarSkill(skills.get(random.nextInt(skills.size())));
+        }
+        for (long id = 1; id <= 1500; id++) {
+            candidates.add(randomCandidate(id));
+        }
+
+        CandidateRepository candidateRepository = mock(CandidateRepository.class);
+        when(candidateRepository.findEducationRows()).thenAnswer(inv -> educationRows(candidates));
+        when(candidateRepository.findSkillRows()).thenAnswer(inv -> skillRows(candidates));
+        when(candidateRepository.findExperienceRows()).thenAnswer(inv -> experienceRows(candidates));
+        when(candidateRepository.findEducationRows(anyLong())).thenAnswer(inv -> educationRows(byId(inv.getArgument(0))));
+        when(candidateRepository.findSkillRows(anyLong())).thenAnswer(inv -> skillRows(byId(inv.getArgument(0))));
+        when(candidateRepository.findExperienceRows(anyLong())).thenAnswer(inv -> experienceRows(byId(inv.getArgument(0))));
+
+        SkillRepository skillRepository = mock(SkillRepository.class);
+        when(skillRepository.findAll()).thenAnswer(inv -> new ArrayList<>(skills));
+        when(skillRepository.findSimilarityRows()).thenAnswer(inv -> skills.stream()
+                .flatMap(s -> s.getSimilarSkills().stream().map(ss -> new Object[]{s.getId(), ss.getId()}))
+                .collect(Collectors.toList()));
+
+        matchingService = new CandidateMatchingService(new SkillMatchingEngine(skillRepository));
+        index = new CandidateSkillIndex(candidateRepository, skillRepository);
+    }
+
+    @Test
+    @DisplayName("공고 추천 결과가 전체 지원자 채점 + 정렬 결과와 같다 (점수/순서)")
+    void recommendMatchesReference() {
+        for (int i = 0; i < 60; i++) {
+            // given
+            JobPosting jobPosting = randomJobPosting(i);
+
+            // when
+            List<CandidateSkillIndex.ScoredCandidate> actual = index.recommendForJob(jobPosting, 10);
+
+            // then
+            assertSameResult(actual, referenceRecommend(jobPosting, 10));
+        }
+    }
+
+    @Test
+    @DisplayName("기술 없는 경력자는 필수 기술만 있는 공고에는 추천되고, 필수/우대가 모두 있는 공고에서는 상한으로 걸러진다")
+    void boundsCandidatesWithoutSkills() {
+        // given - 기술 없이 경력/학력만 만점인 지원자
+        for (long id = 9000; id < 9020; id++) {
+            Candidate candidate = Candidate.create("경력자" + id, "e" + id + "@test.com", "010",
+                    EducationLevel.DOCTORATE, null, null);
+            ReflectionTestUtils.setField(candidate, "id", id);
+            candidate.addExperience(WorkExperience.create("회사", "개발", LocalDate.of(2000, 1, 1),
+                    LocalDate.of(2020, 1, 1), false, null, null));
+            candidates.add(candidate);
+        }
+        JobPosting requiredOnly = JobPosting.create("필수", "설명", null, Position.values()[0], 1,
+                LocalDate.now(), LocalDate.now().plusDays(30));
+        requiredOnly.addRequirement(JobRequirement.create(skills.get(0), RequirementType.REQUIRED, null, 3, null));
+        JobPosting requiredAndPreferred = JobPosting.create("필수+우대", "설명", null, Position.values()[0], 1,
+                LocalDate.now(), LocalDate.now().plusDays(30));
+        requiredAndPreferred.addRequirement(JobRequirement.create(skills.get(0), RequirementType.REQUIRED, null, 3, null));
+        requiredAndPreferred.addRequirement(JobRequirement.create(skills.get(1), RequirementType.PREFERRED, null, null, null));
+
+        // when
+        List<CandidateSkillIndex.ScoredCandidate> withRequiredOnly = index.recommendForJob(requiredOnly, candidates.size());
+        List<CandidateSkillIndex.ScoredCandidate> withBoth = index.recommendForJob(requiredAndPreferred, candidates.size());
+
+        // then
+        assertSameResult(withRequiredOnly, referenceRecommend(requiredOnly, candidates.size()));
+        assertThat(withRequiredOnly).extracting(CandidateSkillIndex.ScoredCandidate::getCandidateId).contains(9000L);
+        assertSameResult(withBoth, referenceRecommend(requiredAndPreferred, candidates.size()));
+        assertThat(withBoth).extracting(CandidateSkillIndex.ScoredCandidate::getCandidateId)
+                .allMatch(id -> id < 9000L);
+    }
+
+    @Test
+    @DisplayName("유사 지원자 결과가 HashSet Jaccard 전체 비교 결과와 같다")
+    void similarMatchesReference() {
+        for (int i = 0; i < 50; i++) {
+            // given
+            Candidate target = candidates.get(random.nextInt(candidates.size()));
+
+            // when
+            List<CandidateSkillIndex.ScoredCandidate> actual = index.findSimilar(target.getId(), 5);
+
+            // then
+            assertSameResult(actual, referenceSimilar(target, 5));
+        }
+    }
+
+    @Test
+    @DisplayName("지원자/기술 변경 이벤트 후에도 결과가 기준 계산과 같다")
+    void incrementalUpdate() {
+        // given
+        JobPosting jobPosting = randomJobPosting(1);
+        index.recommendForJob(jobPosting, 10);
+
+        Candidate changed = candidates.get(7);
+        changed.addSkill(CandidateSkill.create(skills.get(3), ProficiencyLevel.EXPERT, 10, null));
+        changed.addExperience(WorkExperience.create("회사", "개발", LocalDate.of(2010, 1, 1),
+                LocalDate.of(2020, 1, 1), false, null, null));
+        Candidate added = randomCandidate(5000);
+        candidates.add(added);
+
+        Skill newSkill = Skill.create("신규기술", skills.get(3).getCategory(), null);
+        ReflectionTestUtils.setField(newSkill, "id", 100L);
+        newSkill.addSimilarSkill(skills.get(5));
+        skills.add(newSkill);
+        added.addSkill(CandidateSkill.create(newSkill, ProficiencyLevel.ADVANCED, 3, null));
+
+        // when
+        index.onSkillChanged(new SkillChanged(newSkill.getId()));
+        index.onCandidateChanged(new CandidateChanged(changed.getId()));
+        index.onCandidateChanged(new CandidateChanged(added.getId()));
+
+        // then
+        assertThat(index.size()).isEqualTo(candidates.size());
+        for (int i = 0; i < 30; i++) {
+            JobPosting posting = randomJobPosting(i);
+            assertSameResult(index.recommendForJob(posting, 10), referenceRecommend(posting, 10));
+        }
+        assertSameResult(index.findSimilar(changed.getId(), 5), referenceSimilar(changed, 5));
+        assertSameResult(index.findSimilar(added.getId(), 5), referenceSimilar(added, 5));
+    }
+
+    private List<Object[]> referenceRecommend(JobPosting jobPosting, int topN) {
+        return candidates.stream()
+                .map(c -> new Object[]{c.getId(), matchingService.calculateMatchingScore(c, jobPosting)})
+                .filter(r -> (double) r[1] >= 50.0)
+                .sorted(Comparator.comparingDouble((Object[] r) -> (double) r[1]).reversed())
+                .limit(topN)
+                .collect(Collectors.toList());
+    }
+
+    private List<Object[]> referenceSimilar(Candidate target, int topN) {
+        Set<Long> targetSkillIds = target.getSkills().stream()
+                .map(cs -> cs.getSkill().getId())
+                .collect(Collectors.toSet());
+        return candidates.stream()
+                .filter(c -> !c.getId().equals(target.getId()))
+                .map(c -> {
+                    Set<Long> skillIds = c.getSkills().stream()
+                            .map(cs -> cs.getSkill().getId())
+                            .collect(Collectors.toSet());
+                    Set<Long> intersection = new HashSet<>(targetSkillIds);
+                    intersection.retainAll(skillIds);
+                    Set<Long> union = new HashSet<>(targetSkillIds);
+                    union.addAll(skillIds);
+                    double similarity = union.isEmpty() ? 0.0 : (double) intersection.size() / union.size();
+                    return new Object[]{c.getId(), similarity};
+                })
+                .filter(r -> (double) r[1] > 0.3)
+                .sorted(Comparator.comparingDouble((Object[] r) -> (double) r[1]).reversed())
+                .limit(topN)
+                .collect(Collectors.toList());
+    }
+
+    private void assertSameResult(List<CandidateSkillIndex.ScoredCandidate> actual, List<Object[]> expected) {
+        assertThat(actual).hasSameSizeAs(expected);
+        for (int i = 0; i < expected.size(); i++) {
+            assertThat(actual.get(i).getCandidateId()).isEqualTo(expected.get(i)[0]);
+            assertThat(actual.get(i).getScore()).isEqualTo(expected.get(i)[1]);
+        }
+    }
+
+    private Candidate randomCandidate(long id) {
+        EducationLevel education = EducationLevel.values()[random.nextInt(EducationLevel.values().length)];
+        Candidate candidate = Candidate.create("지원자" + id, "c" + id + "@test.com", "010", education, null, null);
+        ReflectionTestUtils.setField(candidate, "id", id);
+        int skillCount = random.nextInt(6);
+        for (int k = 0; k < skillCount; k++) {
+            candidate.addSkill(CandidateSkill.create(skills.get(random.nextInt(skills.size())),
+                    ProficiencyLevel.values()[random.nextInt(ProficiencyLevel.values().length)],
+                    random.nextInt(5) == 0 ? null : random.nextInt(12), null));
+        }
+        int experienceCount = random.nextInt(3);
+        for (int k = 0; k < experienceCount; k++) {
+            LocalDate start = LocalDate.of(2010 + random.nextInt(14), 1 + random.nextInt(12), 1 + random.nextInt(28));
+            boolean current = random.nextInt(3) == 0;
+            candidate.addExperience(WorkExperience.create("회사" + k, "개발", start,
+                    current ? null : start.plusDays(random.nextInt(2000)), current, null, null));
+        }
+        return candidate;
+    }
+
+    private JobPosting randomJobPosting(int seed) {
+        Random jobRandom = new Random(seed);
+        JobPosting jobPosting = JobPosting.create("공고" + seed, "설명", null, Position.values()[0], 1,
+                LocalDate.now(), LocalDate.now().plusDays(30));
+        int requirementCount = jobRandom.nextInt(5);
+        for (int k = 0; k < requirementCount; k++) {
+            jobPosting.addRequirement(JobRequirement.create(skills.get(jobRandom.nextInt(skills.size())),
+                    jobRandom.nextBoolean() ? RequirementType.REQUIRED : RequirementType.PREFERRED,
+                    jobRandom.nextInt(3) == 0 ? null
+                            : ProficiencyLevel.values()[jobRandom.nextInt(ProficiencyLevel.values().length)],
+                    jobRandom.nextInt(3) == 0 ? null : jobRandom.nextInt(8), null));
+        }
+        return jobPosting;
+    }
+
+    private List<Candidate> byId(Long id) {
+        return candidates.stream().filter(c -> c.getId().equals(id)).collect(Collectors.toList());
+    }
+
+    private static List<Object[]> educationRows(List<Candidate> candidates) {
+        return candidates.stream()
+                .map(c -> new Object[]{c.getId(), c.getEducation()})
+                .collect(Collectors.toList());
+    }
+
+    private static List<Object[]> skillRows(List<Candidate> candidates) {
+        return candidates.stream()
+                .flatMap(c -> c.getSkills().stream().map(cs -> new Object[]{
+                        c.getId(), cs.getSkill().getId(), cs.getProficiencyLevel(), cs.getYearsOfExperience()}))
+                .collect(Collectors.toList());
+    }
+
+    private static List<Object[]> experienceRows(List<Candidate> candidates) {
+        return candidates.stream()
+                .flatMap(c -> c.getExperiences().stream().map(we -> new Object[]{
+                        c.getId(), we.getStartDate(), we.getEndDate(), we.isCurrentlyWorking()}))
+                .collect(Collectors.toList());
+    }
+}
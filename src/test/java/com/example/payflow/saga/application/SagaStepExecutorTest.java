@@ -0,0 +1,151 @@
+package com.example.payflow.saga.application;
+
+import com.example.payflow.inventory.domain.Inventory;
+import com.example.payflow.inventory.domain.InventoryRepository;
+import com.example.payflow.inventory.domain.InventoryReservationRepository;
+import com.example.payflow.order.domain.Order;
+import com.example.payflow.order.domain.OrderRepository;
+import com.example.payflow.order.domain.OrderStatus;
+import com.example.payflow.payment.domain.Payment;
+import com.example.payflow.payment.domain.PaymentRepository;
+import com.example.payflow.payment.domain.PaymentStatus;
+import com.example.payflow.saga.domain.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class SagaStepExecutorTest {
+
+    private static final String SAGA_ID = "saga-1";
+    private static final String ORDER_ID = "ORDER_1";
+
+    private OrderSagaRepository sagaRepository;
+    private InventoryRepository inventoryRepository;
+    private InventoryReservationRepository reservationRepository;
+    private Order order;
+    private Payment payment;
+    private SagaStepExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        sagaRepository = mock(OrderSagaRepository.class);
+        inventoryRepository = mock(InventoryRepository.class);
+        reservationRepository = mock(InventoryReservationRepository.class);
+        OrderRepository orderRepository = mock(OrderRepository.class);
+        PaymentRepository paymentRepository = mock(PaymentRepository.class);
+
+        order = new Order(ORDER_ID, "테스트 주문", 10_000L, "test@test.com", "테스터");
+        payment = new Payment(ORDER_ID, "테스트 주문", 10_000L, "test@test.com");
+        payment.approve("pay-1", "CARD");
+        when(orderRepository.findByOrderId(ORDER_ID)).thenReturn(Optional.of(order));
+        when(paymentRepository.findByOrderId(ORDER_ID)).thenReturn(Optional.of(payment));
+        when(reservationRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        executor = new SagaStepExecutor(sagaRepository, orderRepository, paymentRepository,
+                inventoryRepository, reservationRepository);
+        ReflectionTestUtils.setField(executor, "stepTimeoutMillis", 5_000L);
+        ReflectionTestUtils.setField(executor, "maxAttempts", 3);
+        ReflectionTestUtils.setField(executor, "retryBackoffMillis", 200L);
+    }
+
+    @Test
+    @DisplayName("단계를 하나씩 진행해 완료하고, 끝난 Saga 는 다시 실행해도 아무것도 하지 않는다")
+    void runsStepsOnceUntilCompleted() {
+        // given
+        OrderSaga saga = givenSaga("P1");
+        Inventory inventory = new Inventory("P1", "상품", 10);
+        when(inventoryRepository.findByProductIdForUpdate("P1")).thenReturn(Optional.of(inventory));
+
+        // when
+        SagaStepExecutor.Step first = executor.executeCurrentStep(SAGA_ID).getStep();
+        SagaStepExecutor.Step second = executor.executeCurrentStep(SAGA_ID).getStep();
+        SagaStepExecutor.Step third = executor.executeCurrentStep(SAGA_ID).getStep();
+        SagaStepExecutor.Step duplicate = executor.executeCurrentStep(SAGA_ID).getStep();
+
+        // then
+        assertThat(first).isEqualTo(SagaStepExecutor.Step.PROCESS_PAYMENT);
+        assertThat(second).isEqualTo(SagaStepExecutor.Step.RESERVE_INVENTORY);
+        assertThat(third).isEqualTo(SagaStepExecutor.Step.COMPLETE);
+        assertThat(duplicate).isEqualTo(SagaStepExecutor.Step.NONE);
+        assertThat(saga.getStatus()).isEqualTo(SagaStatus.COMPLETED);
+        assertThat(saga.getStepDeadline()).isNull();
+        assertThat(inventory.getReservedQuantity()).isEqualTo(1);
+        verify(reservationRepository, times(1)).save(any());
+    }
+
+    @Test
+    @DisplayName("재고 부족은 재시도하지 않고 보상으로 전환해 결제와 주문을 취소한다")
+    void businessFailureCompensates() {
+        // given
+        OrderSaga saga = givenSaga("P0");
+        when(inventoryRepository.findByProductIdForUpdate("P0")).thenReturn(Optional.of(new Inventory("P0", "품절", 0)));
+        executor.executeCurrentStep(SAGA_ID);
+        String error = catchThrowable(() -> executor.executeCurrentStep(SAGA_ID)).getMessage();
+
+        // when
+        SagaStepExecutor.FailureDecision decision = executor.handleFailure(SAGA_ID, error, false);
+        SagaStepExecutor.Step step = executor.executeCurrentStep(SAGA_ID).getStep();
+
+        // then
+        assertThat(decision.getAction()).isEqualTo(SagaStepExecutor.FailureAction.COMPENSATE);
+        assertThat(step).isEqualTo(SagaStepExecutor.Step.COMPENSATE);
+        assertThat(saga.getStatus()).isEqualTo(SagaStatus.COMPENSATED);
+        assertThat(saga.getErrorMessage()).isEqualTo("재고 예약 실패: 재고가 부족합니다.");
+        assertThat(payment.getStatus()).isEqualTo(PaymentStatus.CANCELED);
+        assertThat(order.getStatus()).isEqualTo(OrderStatus.CANCELLED);
+    }
+
+    @Test
+    @DisplayName("일시 오류는 지수 백오프로 재시도하고, max-attempts 에 닿으면 보상으로 전환한다")
+    void retriesThenCompensates() {
+        // given
+        OrderSaga saga = givenSaga("P1");
+
+        // when
+        SagaStepExecutor.FailureDecision first = executor.handleFailure(SAGA_ID, "DB 연결 실패", true);
+        SagaStepExecutor.FailureDecision second = executor.handleFailure(SAGA_ID, "DB 연결 실패", true);
+        SagaStepExecutor.FailureDecision third = executor.handleFailure(SAGA_ID, "DB 연결 실패", true);
+
+        // then
+        assertThat(first.getAction()).isEqualTo(SagaStepExecutor.FailureAction.RETRY);
+        assertThat(first.getRetryDelayMillis()).isEqualTo(200L);
+        assertThat(second.getAction()).isEqualTo(SagaStepExecutor.FailureAction.RETRY);
+        assertThat(second.getRetryDelayMillis()).isEqualTo(400L);
+        assertThat(third.getAction()).isEqualTo(SagaStepExecutor.FailureAction.COMPENSATE);
+        assertThat(saga.getStatus()).isEqualTo(SagaStatus.COMPENSATING);
+        assertThat(saga.getAttemptCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("기한이 남은 Saga 는 시간 초과로 처리하지 않는다")
+    void timeoutOnlyAfterDeadline() {
+        // given
+        OrderSaga saga = givenSaga("P1");
+        LocalDateTime beforeDeadline = saga.getStepDeadline().minusSeconds(1);
+        LocalDateTime afterDeadline = saga.getStepDeadline().plusSeconds(1);
+
+        // when
+        SagaStepExecutor.FailureDecision early = executor.handleTimeout(SAGA_ID, beforeDeadline);
+        SagaStepExecutor.FailureDecision late = executor.handleTimeout(SAGA_ID, afterDeadline);
+
+        // then
+        assertThat(early.getAction()).isEqualTo(SagaStepExecutor.FailureAction.NONE);
+        assertThat(late.getAction()).isEqualTo(SagaStepExecutor.FailureAction.RETRY);
+        assertThat(saga.getAttemptCount()).isEqualTo(1);
+        assertThat(saga.getErrorMessage()).startsWith("결제 처리 실패: 단계 시간 초과");
+    }
+
+    private OrderSaga givenSaga(String productId) {
+        OrderSaga saga = new OrderSaga(SAGA_ID, ORDER_ID, "pay-1", productId, 1, executor.nextDeadline());
+        when(sagaRepository.findBySagaIdForUpdate(SAGA_ID)).thenReturn(Optional.of(saga));
+        return saga;
+    }
+}
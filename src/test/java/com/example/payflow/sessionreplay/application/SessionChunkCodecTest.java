@@ -0,0 +1,52 @@
+package com.example.payflow.sessionreplay.application;
+
+import com.example.payflow.sessionreplay.domain.EventType;
+import com.example.payflow.sessionreplay.infrastructure.PayloadEncryptor;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+class SessionChunkCodecTest {
+
+    private final SessionChunkCodec codec = new SessionChunkCodec(new PayloadEncryptor(""));
+
+    @Test
+    @DisplayName("청크는 timestamp 순으로 복원되고 payload JSON 은 그대로 유지")
+    void roundTrip() {
+        // given
+        List<SessionChunkCodec.ChunkEvent> events = List.of(
+            new SessionChunkCodec.ChunkEvent(EventType.CLICK, 1_000_300L, "{\"target\":\"button#결제\"}"),
+            new SessionChunkCodec.ChunkEvent(EventType.MOUSE_MOVE, 1_000_100L, "{\"x\":10,\"y\":20}"),
+            new SessionChunkCodec.ChunkEvent(EventType.SCROLL, 1_000_200L, "{\"scrollY\":480}")
+        );
+
+        // when
+        byte[] data = codec.encode(events);
+        List<SessionChunkCodec.ChunkEvent> decoded = new ArrayList<>();
+        codec.decode(data, decoded::add);
+
+        // then
+        assertThat(decoded).extracting(SessionChunkCodec.ChunkEvent::getTimestamp)
+            .containsExactly(1_000_100L, 1_000_200L, 1_000_300L);
+        assertThat(decoded).extracting(SessionChunkCodec.ChunkEvent::getEventType)
+            .containsExactly(EventType.MOUSE_MOVE, EventType.SCROLL, EventType.CLICK);
+        assertThat(decoded.get(2).getPayloadJson()).isEqualTo("{\"target\":\"button#결제\"}");
+    }
+
+    @Test
+    @DisplayName("다른 키로 암호화된 청크는 복호화 실패")
+    void rejectsForeignKey() {
+        // given
+        byte[] data = codec.encode(List.of(
+            new SessionChunkCodec.ChunkEvent(EventType.CLICK, 1L, "{}")));
+        SessionChunkCodec other = new SessionChunkCodec(new PayloadEncryptor(""));
+
+        // when & then
+        assertThatThrownBy(() -> other.decode(data, event -> { }))
+            .isInstanceOf(RuntimeException.class);
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.payflow.sessionreplay.presentation;
+
+import com.example.payflow.sessionreplay.application.SessionChunkCodec;
+import com.example.payflow.sessionreplay.application.SessionReplayService;
+import com.example.payflow.sessionreplay.domain.EventType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class SessionReplayControllerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("payload 가 비었거나 깨진 이벤트는 빈 객체로 대체해 응답 배열은 항상 올바른 JSON 이다")
+    void invalidPayloadsDoNotCorruptStream() throws Exception {
+        // given
+        List<SessionChunkCodec.ChunkEvent> events = List.of(
+                new SessionChunkCodec.ChunkEvent(EventType.CLICK, 1L, "{\"x\":10,\"y\":[1,2]}"),
+                new SessionChunkCodec.ChunkEvent(EventType.SCROLL, 2L, ""),
+                new SessionChunkCodec.ChunkEvent(EventType.INPUT, 3L, "{\"value\":\"abc\""),
+                new SessionChunkCodec.ChunkEvent(EventType.CLICK, 4L, "{}]}, {\"injected\":true}"),
+                new SessionChunkCodec.ChunkEvent(EventType.CLICK, 5L, null),
+                new SessionChunkCodec.ChunkEvent(EventType.SCROLL, 6L, "42"));
+        SessionReplayService service = mock(SessionReplayService.class);
+        doAnswer(invocation -> {
+            Consumer<SessionChunkCodec.ChunkEvent> consumer = invocation.getArgument(3);
+            events.forEach(consumer);
+            return null;
+        }).when(service).forEachSessionEvent(eq("session-1"), any(), any(), any());
+        SessionReplayController controller = new SessionReplayController(service, objectMapper);
+
+        // when
+        StreamingResponseBody body = controller.getSessionEvents("session-1", null, null).getBody();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        body.writeTo(out);
+
+        // then
+        JsonNode array = objectMapper.readTree(out.toByteArray());
+        assertThat(array).hasSize(6);
+        assertThat(array.get(0).get("payload").get("y").get(1).asInt()).isEqualTo(2);
+        for (int i = 1; i <= 4; i++) {
+            assertThat(array.get(i).get("payload").isObject()).isTrue();
+            assertThat(array.get(i).get("payload").size()).isZero();
+        }
+        assertThat(array.get(5).get("payload").asInt()).isEqualTo(42);
+        assertThat(array.get(5).get("timestamp").asLong()).isEqualTo(6L);
+    }
+}
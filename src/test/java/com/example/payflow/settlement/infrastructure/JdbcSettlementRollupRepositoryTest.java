@@ -0,0 +1,162 @@
+package com.example.payflow.settlement.infrastructure;
+
+import com.example.payflow.settlement.domain.DailySettlement;
+import com.example.payflow.settlement.domain.IngredientSettlement;
+import com.example.payflow.settlement.domain.SettlementRollup;
+import com.example.payflow.support.TestDatabase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class JdbcSettlementRollupRepositoryTest {
+
+    private static final LocalDate MONTH_START = LocalDate.of(2024, 3, 1);
+    private static final LocalDate MONTH_END = LocalDate.of(2024, 3, 31);
+    private static final String SELECT_ROLLUPS = "SELECT settlement_date, store_id, distributor_id, order_count, "
+            + "total_sales_amount, total_settlement_amount, total_paid_amount, total_outstanding_amount, "
+            + "catalog_order_count, catalog_sales_amount, ingredient_order_count, ingredient_sales_amount "
+            + "FROM daily_settlements ORDER BY settlement_date, store_id, distributor_id";
+
+    private JdbcTemplate jdbcTemplate;
+    private JdbcSettlementRollupRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = TestDatabase.create(IngredientSettlement.class, DailySettlement.class).jdbcTemplate();
+        repository = new JdbcSettlementRollupRepository(jdbcTemplate, 100);
+    }
+
+    @Test
+    @DisplayName("한 달치 실시간 증감 결과와 그룹 스캔 재집계 결과가 같고, 재집계는 다시 돌려도 같다")
+    void liveIncrementsMatchRecompute() {
+        // given - 가게 5곳 x 유통업자 3곳, 한 달 2,000건 중 일부는 부분/전액 지불
+        Random random = new Random(7);
+        for (int i = 0; i < 2_000; i++) {
+            IngredientSettlement settlement = settlement(
+                    "S" + random.nextInt(5), "D" + random.nextInt(3), random.nextBoolean() ? "CATALOG" : "INGREDIENT",
+                    1_000L * (1 + random.nextInt(50)), MONTH_START.plusDays(random.nextInt(31)).atTime(random.nextInt(24), 30));
+            insert(settlement);
+            repository.upsertIncrement(SettlementRollup.ofSettlement(settlement), LocalDateTime.now());
+            if (random.nextInt(3) == 0) {
+                long paid = settlement.getSettlementAmount() / (1 + random.nextInt(2));
+                long paidDelta = paid - settlement.getPaidAmount();
+                settlement.complete(paid);
+                updatePaid(settlement);
+                assertThat(repository.increment(SettlementRollup.ofPayment(settlement, paidDelta), LocalDateTime.now())).isTrue();
+            }
+        }
+        List<Map<String, Object>> live = jdbcTemplate.queryForList(SELECT_ROLLUPS);
+
+        // when
+        List<SettlementRollup> rollups = repository.aggregateSettlements(MONTH_START, MONTH_END);
+        int deleted = repository.replaceRange(MONTH_START, MONTH_END, rollups, LocalDateTime.now());
+        List<Map<String, Object>> recomputed = jdbcTemplate.queryForList(SELECT_ROLLUPS);
+        repository.replaceRange(MONTH_START, MONTH_END, repository.aggregateSettlements(MONTH_START, MONTH_END),
+                LocalDateTime.now());
+
+        // then
+        assertThat(deleted).isZero();
+        assertThat(rollups).hasSize(live.size());
+        assertThat(recomputed).isEqualTo(live);
+        assertThat(jdbcTemplate.queryForList(SELECT_ROLLUPS)).isEqualTo(live);
+    }
+
+    @Test
+    @DisplayName("재집계는 틀어진 행을 바로잡고, 정산이 없는 조합의 행은 지우며, 기간 밖 행은 건드리지 않는다")
+    void recomputeRepairsAndRemovesStaleRows() {
+        // given
+        IngredientSettlement settlement = settlement("S1", "D1", "CATALOG", 10_000L, MONTH_START.atTime(9, 0));
+        insert(settlement);
+        repository.upsertIncrement(SettlementRollup.ofSettlement(settlement), LocalDateTime.now());
+        jdbcTemplate.update("UPDATE daily_settlements SET order_count = 99");
+        LocalDate outside = MONTH_END.plusDays(1);
+        repository.upsertIncrement(new SettlementRollup(MONTH_START.plusDays(3), "S9", "D9", 1, 500L, 0L, 500L, 0, 0L, 1, 500L),
+                LocalDateTime.now());
+        repository.upsertIncrement(new SettlementRollup(outside, "S9", "D9", 1, 500L, 0L, 500L, 0, 0L, 1, 500L),
+                LocalDateTime.now());
+
+        // when
+        int deleted = repository.replaceRange(MONTH_START, MONTH_END,
+                repository.aggregateSettlements(MONTH_START, MONTH_END), LocalDateTime.now());
+
+        // then
+        assertThat(deleted).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForList("SELECT store_id, order_count, catalog_sales_amount FROM daily_settlements "
+                + "ORDER BY settlement_date"))
+                .containsExactly(
+                        Map.of("STORE_ID", "S1", "ORDER_COUNT", 1, "CATALOG_SALES_AMOUNT", 10_000L),
+                        Map.of("STORE_ID", "S9", "ORDER_COUNT", 1, "CATALOG_SALES_AMOUNT", 0L));
+    }
+
+    @Test
+    @DisplayName("같은 (날짜, 가게, 유통업자) 의 첫 정산이 동시에 들어와도 행은 하나, 증감은 유실되지 않는다")
+    void concurrentFirstInsertsAreNotLost() throws Exception {
+        // given
+        int writers = 8;
+        int perWriter = 50;
+        ExecutorService executor = Executors.newFixedThreadPool(writers);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        SettlementRollup delta = new SettlementRollup(MONTH_START, "S1", "D1", 1, 1_000L, 0L, 1_000L, 1, 1_000L, 0, 0L);
+
+        // when
+        for (int w = 0; w < writers; w++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < perWriter; i++) {
+                    repository.upsertIncrement(delta, LocalDateTime.now());
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // then
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+                "SELECT COUNT(*) OVER () AS row_count, order_count, total_sales_amount FROM daily_settlements");
+        assertThat(row).containsEntry("ROW_COUNT", 1L)
+                .containsEntry("ORDER_COUNT", writers * perWriter)
+                .containsEntry("TOTAL_SALES_AMOUNT", 1_000L * writers * perWriter);
+    }
+
+    private static IngredientSettlement settlement(String storeId, String distributorId, String orderType,
+                                                   long amount, LocalDateTime settlementDate) {
+        IngredientSettlement settlement = new IngredientSettlement("SETTLE_" + UUID.randomUUID(), storeId, distributorId,
+                "ORDER_" + UUID.randomUUID(), orderType, amount);
+        ReflectionTestUtils.setField(settlement, "settlementDate", settlementDate);
+        return settlement;
+    }
+
+    private void insert(IngredientSettlement settlement) {
+        jdbcTemplate.update("INSERT INTO ingredient_settlements (settlement_id, store_id, distributor_id, order_id, "
+                        + "order_type, settlement_amount, paid_amount, outstanding_amount, status, settlement_date) "
+                        + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                settlement.getSettlementId(), settlement.getStoreId(), settlement.getDistributorId(),
+                settlement.getOrderId(), settlement.getOrderType(), settlement.getSettlementAmount(),
+                settlement.getPaidAmount(), settlement.getOutstandingAmount(), settlement.getStatus().name(),
+                Timestamp.valueOf(settlement.getSettlementDate()));
+    }
+
+    private void updatePaid(IngredientSettlement settlement) {
+        jdbcTemplate.update("UPDATE ingredient_settlements SET paid_amount = ?, outstanding_amount = ? WHERE settlement_id = ?",
+                settlement.getPaidAmount(), settlement.getOutstandingAmount(), settlement.getSettlementId());
+    }
+}
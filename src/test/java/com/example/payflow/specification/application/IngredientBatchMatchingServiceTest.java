@@ -0,0 +1,127 @@
+package com.example.payflow.specification.application;
+
+import com.example.payflow.invoice.domain.InvoiceRepository;
+import com.example.payflow.specification.domain.IngredientSynonym;
+import com.example.payflow.specification.domain.IngredientSynonymRepository;
+import com.example.payflow.specification.domain.SpecificationRepository;
+import com.example.payflow.specification.infrastructure.JaroWinklerMatcher;
+import com.example.payflow.specification.presentation.dto.IngredientBatchMatchResult;
+import com.example.payflow.specification.presentation.dto.IngredientMatchResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class IngredientBatchMatchingServiceTest {
+
+    private static final String[] FRAGMENTS = {"국산", "수입산", "냉장", "상품", "A급", "양파", "양 파", "깐마늘", "다진마늘",
+        "감자", "감좌", "당근", "닭가슴살", "돼지고기", "삼겹살", "대파", "1kg", "500g", "10개입", "12,345", "  ", "-", "x"};
+
+    private RuleBasedMatchingService matchingService;
+    private IngredientBatchMatchingService batchMatchingService;
+
+    @BeforeEach
+    void setUp() {
+        IngredientNormalizer normalizer = new IngredientNormalizer();
+        IngredientSynonymIndex synonymIndex = mock(IngredientSynonymIndex.class);
+        when(synonymIndex.current()).thenReturn(IngredientMatcher.compile(List.of(
+            synonym("양파", "양파"),
+            synonym("양파", "양 파"),
+            synonym("마늘", "다진마늘"),
+            synonym("마늘", "마늘"),
+            synonym("감자", "감자"),
+            synonym("당근", "당근"),
+            synonym("닭가슴살", "닭가슴살"),
+            synonym("돼지고기", "돼지고기"),
+            synonym("대파", "대파")
+        ), new JaroWinklerMatcher()));
+
+        matchingService = new RuleBasedMatchingService(normalizer, mock(IngredientSynonymRepository.class),
+            synonymIndex, mock(ApplicationEventPublisher.class));
+        batchMatchingService = new IngredientBatchMatchingService(normalizer, matchingService, synonymIndex,
+            mock(SpecificationRepository.class), mock(InvoiceRepository.class));
+        ReflectionTestUtils.setField(batchMatchingService, "parallelism", 4);
+        ReflectionTestUtils.setField(batchMatchingService, "parallelThreshold", 256);
+        batchMatchingService.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        batchMatchingService.shutdown();
+    }
+
+    @Test
+    @DisplayName("병렬 임계값 미만: 일괄 매칭 결과가 줄마다 matchIngredient 를 호출한 결과와 입력 순서대로 같다")
+    void matchesPerLineBelowThreshold() {
+        // given - 중복 줄, 정규화 결과만 같은 줄, 정규화 후 빈 줄, 길이 부족 줄
+        List<String> lines = List.of(
+            "국산 양파 1kg", "감좌 10개입", "국산 양파 1kg", "양파1kg", "12,345", "x", "깐마늘 500g", "돼지고기 삼겹살",
+            "냉장 닭가슴살", "국산양파1kg", "-");
+
+        // when
+        IngredientBatchMatchResult batch = batchMatchingService.matchLines(lines);
+
+        // then
+        assertMatchesPerLine(lines, batch);
+        assertThat(batch.getUniqueLines()).isEqualTo(lines.size() - 1);
+        assertThat(batch.getUniqueNormalized()).isLessThan(batch.getUniqueLines());
+    }
+
+    @Test
+    @DisplayName("병렬 임계값 이상: 전용 풀에서 병렬로 처리해도 결과와 순서가 줄마다 매칭한 것과 같다")
+    void matchesPerLineAboveThreshold() {
+        // given
+        ReflectionTestUtils.setField(batchMatchingService, "parallelThreshold", 8);
+        Random random = new Random(42);
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            StringBuilder line = new StringBuilder();
+            for (int k = 1 + random.nextInt(4); k > 0; k--) {
+                line.append(FRAGMENTS[random.nextInt(FRAGMENTS.length)]).append(random.nextBoolean() ? " " : "");
+            }
+            lines.add(line.toString());
+        }
+
+        // when
+        IngredientBatchMatchResult batch = batchMatchingService.matchLines(lines);
+
+        // then
+        assertMatchesPerLine(lines, batch);
+        assertThat(batch.getUniqueNormalized()).isGreaterThanOrEqualTo(8);
+    }
+
+    private void assertMatchesPerLine(List<String> lines, IngredientBatchMatchResult batch) {
+        assertThat(batch.getTotalLines()).isEqualTo(lines.size());
+        assertThat(batch.getResults()).hasSize(lines.size());
+
+        int matchedCount = 0;
+        for (int i = 0; i < lines.size(); i++) {
+            IngredientMatchResult expected = matchingService.matchIngredient(lines.get(i));
+            assertThat(batch.getResults().get(i))
+                .as("%d번째 줄: %s", i, lines.get(i))
+                .usingRecursiveComparison()
+                .isEqualTo(expected);
+            if (expected.getMatched()) {
+                matchedCount++;
+            }
+        }
+        assertThat(batch.getMatchedCount()).isEqualTo(matchedCount);
+    }
+
+    private static IngredientSynonym synonym(String standardName, String synonym) {
+        return IngredientSynonym.builder()
+            .standardName(standardName)
+            .synonym(synonym)
+            .similarityScore(1.0)
+            .build();
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.payflow.specification.application;
+
+import com.example.payflow.specification.domain.IngredientSynonym;
+import com.example.payflow.specification.infrastructure.JaroWinklerMatcher;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.assertj.core.api.Assertions.*;
+
+class IngredientMatcherTest {
+
+    private static final String ALPHABET = "양파감자당근대마늘닭가슴살돼지고기소ab c";
+
+    private final Random random = new Random(42);
+    private final JaroWinklerMatcher jaroWinklerMatcher = new JaroWinklerMatcher();
+
+    @Test
+    @DisplayName("정확/부분/유사도 매칭 결과가 동의어 전체 순회 결과와 같다")
+    void matchesFullScan() {
+        for (int dictionary = 0; dictionary < 100; dictionary++) {
+            // given
+            List<IngredientSynonym> synonyms = randomSynonyms();
+            List<String> standardNames = synonyms.stream()
+                .map(IngredientSynonym::getStandardName)
+                .distinct()
+                .toList();
+
+            // when
+            IngredientMatcher matcher = IngredientMatcher.compile(synonyms, jaroWinklerMatcher);
+
+            // then
+            for (int q = 0; q < 100; q++) {
+                String normalized = randomText(2, 8).replace(" ", "");
+                if (normalized.length() < 2) {
+                    continue;
+                }
+                assertThat(matcher.findExact(normalized).map(IngredientMatcher.SynonymMatch::getStandardName))
+                    .isEqualTo(referenceExact(synonyms, normalized));
+                assertThat(matcher.findContaining(normalized).map(IngredientMatcher.SynonymMatch::getSynonymText))
+                    .isEqualTo(referenceContaining(synonyms, normalized));
+
+                IngredientMatcher.SimilarName expected = referenceSimilar(standardNames, normalized);
+                IngredientMatcher.SimilarName actual = matcher.findMostSimilar(normalized);
+                assertThat(actual.getStandardName()).isEqualTo(expected.getStandardName());
+                assertThat(actual.getSimilarity()).isEqualTo(expected.getSimilarity());
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("입력이 동의어를 포함하면 동의어 id 순으로 가장 앞선 항목으로 매칭한다")
+    void containingPicksFirstSynonym() {
+        // given
+        IngredientMatcher matcher = IngredientMatcher.compile(List.of(
+            synonym("마늘", "다진마늘"),
+            synonym("양파", "양 파"),
+            synonym("마늘", "마늘")
+        ), jaroWinklerMatcher);
+
+        // when
+        Optional<IngredientMatcher.SynonymMatch> onion = matcher.findContaining("국내산양파다진마늘");
+        Optional<IngredientMatcher.SynonymMatch> garlic = matcher.findContaining("깐마늘");
+        Optional<IngredientMatcher.SynonymMatch> part = matcher.findContaining("진마");
+
+        // then
+        assertThat(onion).get().extracting(IngredientMatcher.SynonymMatch::getSynonymText).isEqualTo("다진마늘");
+        assertThat(garlic).get().extracting(IngredientMatcher.SynonymMatch::getSynonymText).isEqualTo("마늘");
+        assertThat(part).get().extracting(IngredientMatcher.SynonymMatch::getStandardName).isEqualTo("마늘");
+    }
+
+    private Optional<String> referenceExact(List<IngredientSynonym> synonyms, String normalized) {
+        return synonyms.stream()
+            .filter(s -> s.getSynonym().equals(normalized))
+            .map(IngredientSynonym::getStandardName)
+            .findFirst();
+    }
+
+    private Optional<String> referenceContaining(List<IngredientSynonym> synonyms, String normalized) {
+        for (IngredientSynonym synonym : synonyms) {
+            String synonymText = synonym.getSynonym().toLowerCase().replaceAll("\\s+", "");
+            if ((normalized.contains(synonymText) || synonymText.contains(normalized)) && synonymText.length() >= 2) {
+                return Optional.of(synonymText);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private IngredientMatcher.SimilarName referenceSimilar(List<String> standardNames, String normalized) {
+        String bestMatch = null;
+        double bestScore = 0.0;
+        for (String standardName : standardNames) {
+            double similarity = jaroWinklerMatcher.similarity(normalized, standardName);
+            if (similarity > bestScore && hasEnoughCommonChars(normalized, standardName)) {
+                bestScore = similarity;
+                bestMatch = standardName;
+            }
+        }
+        return new IngredientMatcher.SimilarName(bestMatch, bestScore);
+    }
+
+    private boolean hasEnoughCommonChars(String str1, String str2) {
+        Set<Character> chars1 = new HashSet<>();
+        Set<Character> chars2 = new HashSet<>();
+        for (char c : str1.toCharArray()) {
+            chars1.add(c);
+        }
+        for (char c : str2.toCharArray()) {
+            chars2.add(c);
+        }
+        Set<Character> intersection = new HashSet<>(chars1);
+        intersection.retainAll(chars2);
+        return (double) intersection.size() / Math.min(chars1.size(), chars2.size()) >= 0.5;
+    }
+
+    private List<IngredientSynonym> randomSynonyms() {
+        List<String> standardNames = new ArrayList<>();
+        for (int i = 1 + random.nextInt(15); i > 0; i--) {
+            standardNames.add(randomText(1, 5).replace(" ", "x"));
+        }
+        Set<String> used = new HashSet<>();
+        List<IngredientSynonym> synonyms = new ArrayList<>();
+        for (int i = 1 + random.nextInt(60); i > 0; i--) {
+            String text = randomText(1, 6);
+            if (used.add(text)) {
+                synonyms.add(synonym(standardNames.get(random.nextInt(standardNames.size())), text));
+            }
+        }
+        return synonyms;
+    }
+
+    private String randomText(int minLength, int maxLength) {
+        StringBuilder text = new StringBuilder();
+        for (int i = minLength + random.nextInt(maxLength - minLength + 1); i > 0; i--) {
+            text.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+        }
+        return text.toString();
+    }
+
+    private static IngredientSynonym synonym(String standardName, String synonym) {
+        return IngredientSynonym.builder()
+            .standardName(standardName)
+            .synonym(synonym)
+            .similarityScore(1.0)
+            .build();
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.payflow.specification.application;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.*;
+
+class IngredientNormalizerTest {
+
+    private static final String GOLDEN_FILE = "/specification/ingredient-normalizer-golden.tsv";
+    private static final String ALPHABET = "0123456789D$)([]{},-.  \t\n\r\u000B|/xkgmlKGMLAZaz양파감자대중소병캔팩상품국산냉장묶음박스가힣ÄΣİＡ·×😀";
+    private static final String[] FRAGMENTS = {"국산", "수입산", "냉장", "상품", "A급", "b급", "프리미엄", "대", "중", "병", "캔",
+        "묶음", "케이스", "no", "VAT", "qty", "상품명", "합계금액", "명", "D01", "12,345", "-130", "8801234567890"};
+
+    private final IngredientNormalizer normalizer = new IngredientNormalizer();
+
+    @Test
+    @DisplayName("골든 파일의 모든 입력이 기존 정규식 파이프라인 결과와 같다")
+    void goldenFile() throws Exception {
+        // given
+        List<String[]> cases = readGoldenFile();
+
+        // when & then
+        assertThat(cases).isNotEmpty();
+        for (String[] goldenCase : cases) {
+            assertThat(normalizer.normalize(goldenCase[0]))
+                .as("입력: %s", goldenCase[0])
+                .isEqualTo(goldenCase[1]);
+        }
+    }
+
+    @Test
+    @DisplayName("임의 입력에서 빠른 경로와 정규식 경로 결과가 같다")
+    void matchesPatternPipeline() {
+        Random random = new Random(42);
+        for (int i = 0; i < 50_000; i++) {
+            // given
+            StringBuilder text = new StringBuilder();
+            for (int k = random.nextInt(16); k > 0; k--) {
+                if (random.nextInt(4) == 0) {
+                    text.append(FRAGMENTS[random.nextInt(FRAGMENTS.length)]);
+                } else {
+                    text.append(ALPHABET.charAt(random.nextInt(ALPHABET.length())));
+                }
+            }
+            String input = text.toString();
+
+            // when & then
+            assertThat(normalizer.normalize(input))
+                .as("입력: %s", input)
+                .isEqualTo(normalizer.normalizeWithPatterns(input));
+        }
+    }
+
+    @Test
+    @DisplayName("null/공백/테이블 헤더/바코드는 빈 문자열")
+    void excludedInputs() {
+        assertThat(normalizer.normalize(null)).isEmpty();
+        assertThat(normalizer.normalize(" \t\n")).isEmpty();
+        assertThat(normalizer.normalize("상 품 명:")).isEmpty();
+        assertThat(normalizer.normalize("880-1234-567890")).isEmpty();
+    }
+
+    private List<String[]> readGoldenFile() throws Exception {
+        List<String[]> cases = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                getClass().getResourceAsStream(GOLDEN_FILE), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith("#")) {
+                    continue;
+                }
+                String[] columns = line.split("\t", -1);
+                cases.add(new String[]{unescape(columns[0]), unescape(columns[1])});
+            }
+        }
+        return cases;
+    }
+
+    private static String unescape(String text) {
+        StringBuilder result = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c != '\\') {
+                result.append(c);
+                continue;
+            }
+            char escaped = text.charAt(++i);
+            switch (escaped) {
+                case 't' -> result.append('\t');
+                case 'n' -> result.append('\n');
+                case 'r' -> result.append('\r');
+                case 'u' -> {
+                    result.append((char) Integer.parseInt(text.substring(i + 1, i + 5), 16));
+                    i += 4;
+                }
+                default -> result.append(escaped);
+            }
+        }
+        return result.toString();
+    }
+}
@@ -0,0 +1,208 @@
+package com.example.payflow.stage.application;
+
+import com.example.payflow.common.event.DomainEvent;
+import com.example.payflow.common.event.EventPublisher;
+import com.example.payflow.stage.application.dto.StageBatchJobStats;
+import com.example.payflow.stage.domain.*;
+import com.example.payflow.stage.domain.event.PaymentDueEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+class StageBatchJobEngineTest {
+
+    private static final int PARTITIONS = 2;
+    private static final int CHUNK_SIZE = 3;
+    private static final int STAGE_COUNT = 20;
+    private static final long BAD_STAGE_ID = 7L;
+    private static final LocalDate RUN_DATE = LocalDate.of(2024, 3, 15);
+    private static final String JOB_KEY = StageBatchJob.keyOf(StageBatchJobType.PAYMENT, RUN_DATE);
+
+    // 저장소 대신 메모리에 두는 작업/체크포인트 (트랜잭션은 no-op, 엔티티 변경이 곧 저장)
+    private final Map<String, StageBatchJob> jobs = new ConcurrentHashMap<>();
+    private final Map<Integer, StageBatchCheckpoint> checkpoints = new ConcurrentHashMap<>();
+    private final Map<Long, Stage> stages = new TreeMap<>();
+    // 스테이지별 생성 시도 횟수, 실패시킬 스테이지, 생성이 커밋된 스테이지
+    private final Map<Long, AtomicLong> generateCalls = new ConcurrentHashMap<>();
+    private final Set<Long> failingStages = ConcurrentHashMap.newKeySet();
+    private final Set<Long> createdStages = ConcurrentHashMap.newKeySet();
+    private final AtomicLong published = new AtomicLong();
+
+    private StageBatchJobEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        for (long id = 1; id <= STAGE_COUNT; id++) {
+            Stage stage = new Stage("계 " + id, 3, BigDecimal.valueOf(100000), BigDecimal.valueOf(0.05), 15);
+            ReflectionTestUtils.setField(stage, "id", id);
+            stages.put(id, stage);
+        }
+
+        StageRepository stageRepository = mock(StageRepository.class);
+        StageBatchJobRepository jobRepository = mock(StageBatchJobRepository.class);
+        StageBatchCheckpointRepository checkpointRepository = mock(StageBatchCheckpointRepository.class);
+        StagePaymentService paymentService = mock(StagePaymentService.class);
+        EventPublisher eventPublisher = mock(EventPublisher.class);
+
+        when(stageRepository.countByStatusAndPaymentDay(StageStatus.ACTIVE, 15)).thenReturn((long) STAGE_COUNT);
+        when(stageRepository.findIdsForPartition(eq(StageStatus.ACTIVE), eq(15), anyLong(), anyLong(), anyLong(),
+                any(Pageable.class))).thenAnswer(invocation -> {
+            long partitions = invocation.getArgument(2);
+            long partition = invocation.getArgument(3);
+            long afterId = invocation.getArgument(4);
+            Pageable page = invocation.getArgument(5);
+            return stages.keySet().stream()
+                    .filter(id -> id % partitions == partition && id > afterId)
+                    .limit(page.getPageSize())
+                    .toList();
+        });
+        when(stageRepository.findAllById(anyIterable())).thenAnswer(invocation -> {
+            List<Stage> found = new ArrayList<>();
+            ((Iterable<Long>) invocation.getArgument(0)).forEach(id -> found.add(stages.get(id)));
+            return found;
+        });
+        when(paymentService.generatePaymentsForStages(anyList(), eq(RUN_DATE))).thenAnswer(invocation -> {
+            List<Stage> chunk = invocation.getArgument(0);
+            for (Stage stage : chunk) {
+                generateCalls.computeIfAbsent(stage.getId(), id -> new AtomicLong()).incrementAndGet();
+            }
+            for (Stage stage : chunk) {
+                if (failingStages.contains(stage.getId())) {
+                    throw new IllegalStateException("생성 실패: " + stage.getId());
+                }
+            }
+            // 실제 서비스처럼 이미 생성된 스테이지는 건너뛴다
+            List<PaymentDueEvent> events = new ArrayList<>();
+            for (Stage stage : chunk) {
+                if (createdStages.add(stage.getId())) {
+                    events.add(new PaymentDueEvent(stage.getId(), "user", 1, stage.getMonthlyPayment(), null));
+                }
+            }
+            return events;
+        });
+        doAnswer(invocation -> {
+            published.addAndGet(((List<? extends DomainEvent>) invocation.getArgument(0)).size());
+            return null;
+        }).when(eventPublisher).publishAll(anyList());
+
+        when(jobRepository.findByJobKey(anyString()))
+                .thenAnswer(invocation -> Optional.ofNullable(jobs.get((String) invocation.getArgument(0))));
+        when(jobRepository.save(any(StageBatchJob.class))).thenAnswer(invocation -> {
+            StageBatchJob job = invocation.getArgument(0);
+            jobs.put(job.getJobKey(), job);
+            return job;
+        });
+        when(checkpointRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<StageBatchCheckpoint> saved = invocation.getArgument(0);
+            saved.forEach(checkpoint -> checkpoints.put(checkpoint.getPartitionIndex(), checkpoint));
+            return saved;
+        });
+        when(checkpointRepository.findByJobKeyAndPartitionIndex(eq(JOB_KEY), anyInt()))
+                .thenAnswer(invocation -> Optional.ofNullable(checkpoints.get((Integer) invocation.getArgument(1))));
+        when(checkpointRepository.findByJobKeyOrderByPartitionIndexAsc(JOB_KEY))
+                .thenAnswer(invocation -> new ArrayList<>(new TreeMap<>(checkpoints).values()));
+
+        engine = new StageBatchJobEngine(stageRepository, jobRepository, checkpointRepository, paymentService,
+                mock(StagePayoutService.class), eventPublisher, mock(PlatformTransactionManager.class));
+        ReflectionTestUtils.setField(engine, "partitions", PARTITIONS);
+        ReflectionTestUtils.setField(engine, "chunkSize", CHUNK_SIZE);
+        engine.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        engine.shutdown();
+    }
+
+    @Test
+    @DisplayName("청크마다 체크포인트가 파티션의 마지막 스테이지까지 전진하고, 실패 청크는 스테이지 단위로 다시 돌려 실패 스테이지만 건너뛴다")
+    void advancesCheckpointsAndFallsBackPerStage() {
+        // given
+        failingStages.add(BAD_STAGE_ID);
+
+        // when
+        StageBatchJobStats stats = engine.run(StageBatchJobType.PAYMENT, RUN_DATE).orElseThrow();
+
+        // then
+        assertThat(stats.getStatus()).isEqualTo(StageBatchJobStatus.FAILED.name());
+        assertThat(stats.getProcessedStages()).isEqualTo(STAGE_COUNT);
+        assertThat(stats.getFailedStages()).isEqualTo(1);
+        assertThat(stats.getCreatedItems()).isEqualTo(STAGE_COUNT - 1);
+        assertThat(stats.getCompletedPartitions()).isEqualTo(PARTITIONS);
+        assertThat(published.get()).isEqualTo(STAGE_COUNT - 1);
+
+        assertThat(checkpoints.get(0).getLastStageId()).isEqualTo(20L);
+        assertThat(checkpoints.get(1).getLastStageId()).isEqualTo(19L);
+        assertThat(checkpoints.get(1).getFailedStages()).isEqualTo(1);
+        // 실패 스테이지는 청크 한 번 + 단건 한 번, 같은 청크(7, 9, 11)의 나머지는 단건으로 한 번 더, 나머지는 청크에서 한 번
+        assertThat(generateCalls.get(BAD_STAGE_ID)).hasValue(2);
+        assertThat(generateCalls.get(9L)).hasValue(2);
+        assertThat(generateCalls.get(11L)).hasValue(2);
+        assertThat(generateCalls.get(13L)).hasValue(1);
+        assertThat(generateCalls.get(2L)).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("중단된 작업을 다시 실행하면 완료된 파티션은 건너뛰고 나머지는 체크포인트 다음 스테이지부터 이어서 처리한다")
+    void resumesFromCheckpointAfterInterruption() {
+        // given - 파티션 0 은 8번까지, 파티션 1 은 끝까지 처리한 뒤 중단되어 RUNNING 으로 남은 작업
+        StageBatchJob interrupted = new StageBatchJob(StageBatchJobType.PAYMENT, RUN_DATE, PARTITIONS, STAGE_COUNT);
+        jobs.put(JOB_KEY, interrupted);
+        StageBatchCheckpoint even = new StageBatchCheckpoint(JOB_KEY, 0);
+        even.advance(8L, 4, 4, 0);
+        StageBatchCheckpoint odd = new StageBatchCheckpoint(JOB_KEY, 1);
+        odd.advance(19L, 10, 10, 0);
+        odd.complete();
+        checkpoints.put(0, even);
+        checkpoints.put(1, odd);
+
+        // when
+        StageBatchJobStats stats = engine.run(StageBatchJobType.PAYMENT, RUN_DATE).orElseThrow();
+
+        // then
+        assertThat(stats.getStatus()).isEqualTo(StageBatchJobStatus.COMPLETED.name());
+        assertThat(stats.getAttempts()).isEqualTo(2);
+        assertThat(stats.getProcessedStages()).isEqualTo(STAGE_COUNT);
+        assertThat(stats.getCreatedItems()).isEqualTo(STAGE_COUNT);
+        assertThat(generateCalls.keySet()).containsExactlyInAnyOrder(10L, 12L, 14L, 16L, 18L, 20L);
+        assertThat(even.getLastStageId()).isEqualTo(20L);
+        assertThat(even.getCompleted()).isTrue();
+    }
+
+    @Test
+    @DisplayName("실패로 끝난 작업을 다시 실행하면 실패 스테이지가 있는 파티션만 처음부터 재처리해 완료된다")
+    void retriesFailedPartitionsOfFailedJob() {
+        // given
+        failingStages.add(BAD_STAGE_ID);
+        engine.run(StageBatchJobType.PAYMENT, RUN_DATE);
+        assertThat(jobs.get(JOB_KEY).getStatus()).isEqualTo(StageBatchJobStatus.FAILED);
+        failingStages.clear();
+        generateCalls.clear();
+
+        // when
+        StageBatchJobStats stats = engine.run(StageBatchJobType.PAYMENT, RUN_DATE).orElseThrow();
+
+        // then
+        assertThat(stats.getStatus()).isEqualTo(StageBatchJobStatus.COMPLETED.name());
+        assertThat(stats.getAttempts()).isEqualTo(2);
+        assertThat(stats.getProcessedStages()).isEqualTo(STAGE_COUNT);
+        assertThat(stats.getFailedStages()).isZero();
+        assertThat(stats.getCreatedItems()).isEqualTo(STAGE_COUNT);
+        // 실패가 없던 짝수 파티션은 다시 훑지 않는다
+        assertThat(generateCalls.keySet()).allMatch(id -> id % 2 == 1).contains(BAD_STAGE_ID);
+    }
+}
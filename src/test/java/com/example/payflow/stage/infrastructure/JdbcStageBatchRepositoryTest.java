@@ -0,0 +1,122 @@
+package com.example.payflow.stage.infrastructure;
+
+import com.example.payflow.common.event.EventPublisher;
+import com.example.payflow.stage.application.StagePaymentService;
+import com.example.payflow.stage.application.StagePayoutService;
+import com.example.payflow.stage.application.StageService;
+import com.example.payflow.stage.domain.*;
+import com.example.payflow.stage.domain.event.PaymentDueEvent;
+import com.example.payflow.stage.domain.event.PayoutReadyEvent;
+import com.example.payflow.support.TestDatabase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+class JdbcStageBatchRepositoryTest {
+
+    private static final LocalDate RUN_DATE = LocalDate.of(2024, 3, 15);
+
+    private JdbcTemplate jdbcTemplate;
+    private StagePaymentService paymentService;
+    private StagePayoutService payoutService;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = TestDatabase.create(Stage.class, StageParticipant.class, StagePayment.class, StagePayout.class)
+                .jdbcTemplate();
+
+        JdbcStageBatchRepository batchRepository = new JdbcStageBatchRepository(jdbcTemplate, 2);
+        paymentService = new StagePaymentService(mock(StageRepository.class), mock(StageParticipantRepository.class),
+                mock(StagePaymentRepository.class), mock(EventPublisher.class), batchRepository);
+        payoutService = new StagePayoutService(mock(StageRepository.class), mock(StageParticipantRepository.class),
+                mock(StagePayoutRepository.class), mock(StagePaymentRepository.class), mock(EventPublisher.class),
+                mock(StageService.class), batchRepository);
+    }
+
+    @Test
+    @DisplayName("청크 결제 생성은 이미 생성된 참여자와 기간이 끝난 스테이지를 건너뛰고, 다시 돌려도 중복 생성하지 않는다")
+    void generatePaymentsForChunk() {
+        // given - 1: 3개월째 (user1 결제는 이미 있음), 2: 3개월째, 3: 2명 스테이지라 3개월째는 대상 아님
+        Stage first = stage(1L, 3, LocalDate.of(2024, 1, 15));
+        Stage second = stage(2L, 4, LocalDate.of(2024, 1, 15));
+        Stage finished = stage(3L, 2, LocalDate.of(2024, 1, 15));
+        insertPayment(1L, "s1-user1", 3, false);
+
+        // when
+        List<PaymentDueEvent> events = paymentService.generatePaymentsForStages(List.of(first, second, finished), RUN_DATE);
+        List<PaymentDueEvent> rerun = paymentService.generatePaymentsForStages(List.of(first, second, finished), RUN_DATE);
+
+        // then
+        assertThat(events).hasSize(2 + 4);
+        assertThat(events).extracting(PaymentDueEvent::getMonthNumber).containsOnly(3);
+        assertThat(events).extracting(PaymentDueEvent::getUsername).doesNotContain("s1-user1");
+        assertThat(events).extracting(PaymentDueEvent::getDueDate)
+                .containsOnly(LocalDate.of(2024, 3, 15).atTime(23, 59, 59));
+        assertThat(rerun).isEmpty();
+        assertThat(jdbcTemplate.queryForList("SELECT stage_id, COUNT(*) AS cnt FROM stage_payments "
+                + "GROUP BY stage_id ORDER BY stage_id"))
+                .containsExactly(Map.of("STAGE_ID", 1L, "CNT", 3L), Map.of("STAGE_ID", 2L, "CNT", 4L));
+    }
+
+    @Test
+    @DisplayName("청크 약정금 생성은 전월 전원 납입한 스테이지만, 이미 생성된 순번은 건너뛰고 생성한다")
+    void generatePayoutsForChunk() {
+        // given - 3개월째이므로 2번 순번 약정금 대상
+        Stage allPaid = stage(1L, 3, LocalDate.of(2024, 1, 15));
+        Stage partlyPaid = stage(2L, 3, LocalDate.of(2024, 1, 15));
+        Stage alreadyPaidOut = stage(3L, 3, LocalDate.of(2024, 1, 15));
+        for (int user = 1; user <= 3; user++) {
+            insertPayment(1L, "s1-user" + user, 2, true);
+            insertPayment(2L, "s2-user" + user, 2, user != 3);
+            insertPayment(3L, "s3-user" + user, 2, true);
+            insertPayment(2L, "s2-user" + user, 1, true);
+        }
+        jdbcTemplate.update("INSERT INTO stage_payouts (stage_id, username, turn_number, amount, is_completed, scheduled_at) "
+                + "VALUES (3, 's3-user2', 2, 1, FALSE, CURRENT_TIMESTAMP)");
+
+        // when
+        List<PayoutReadyEvent> events = payoutService.generatePayoutsForStages(
+                List.of(allPaid, partlyPaid, alreadyPaidOut), RUN_DATE);
+
+        // then
+        assertThat(events).singleElement().satisfies(event -> {
+            assertThat(event.getStageId()).isEqualTo(1L);
+            assertThat(event.getUsername()).isEqualTo("s1-user2");
+            assertThat(event.getAmount()).isEqualByComparingTo(allPaid.calculatePayoutAmount(2));
+        });
+        assertThat(jdbcTemplate.queryForList("SELECT stage_id, username FROM stage_payouts ORDER BY stage_id"))
+                .containsExactly(Map.of("STAGE_ID", 1L, "USERNAME", "s1-user2"),
+                        Map.of("STAGE_ID", 3L, "USERNAME", "s3-user2"));
+    }
+
+    private Stage stage(Long id, int totalParticipants, LocalDate startDate) {
+        Stage stage = new Stage("stage-" + id, totalParticipants, new BigDecimal("100000"), new BigDecimal("0.05"), 15);
+        ReflectionTestUtils.setField(stage, "id", id);
+        ReflectionTestUtils.setField(stage, "status", StageStatus.ACTIVE);
+        ReflectionTestUtils.setField(stage, "startDate", startDate);
+        jdbcTemplate.update("INSERT INTO stages (id, name, total_participants, monthly_payment, interest_rate, "
+                        + "payment_day, status, start_date, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, CURRENT_TIMESTAMP)",
+                id, stage.getName(), totalParticipants, stage.getMonthlyPayment(), stage.getInterestRate(),
+                stage.getPaymentDay(), stage.getStatus().name(), startDate);
+        for (int turn = 1; turn <= totalParticipants; turn++) {
+            jdbcTemplate.update("INSERT INTO stage_participants (stage_id, username, turn_number, has_received_payout, "
+                    + "joined_at) VALUES (?, ?, ?, FALSE, CURRENT_TIMESTAMP)", id, "s" + id + "-user" + turn, turn);
+        }
+        return stage;
+    }
+
+    private void insertPayment(long stageId, String username, int monthNumber, boolean paid) {
+        jdbcTemplate.update("INSERT INTO stage_payments (stage_id, username, month_number, amount, is_paid, due_date) "
+                + "VALUES (?, ?, ?, 100000, ?, CURRENT_TIMESTAMP)", stageId, username, monthNumber, paid);
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.payflow.stage.presentation;
 
+import com.example.payflow.stage.application.StageBatchJobEngine;
 import com.example.payflow.stage.application.StagePaymentService;
 import com.example.payflow.stage.application.StagePayoutService;
 import com.example.payflow.stage.application.StageService;
@@ -45,6 +46,9 @@ class StageControllerTest {
     @MockitoBean
     private StagePayoutService payoutService;
 
+    @MockitoBean
+    private StageBatchJobEngine batchJobEngine;
+
     @Test
     @DisplayName("스테이지 생성 API")
     @WithMockUser